@@ -1,24 +1,85 @@
 package com.codingchica.flashcards;
 
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
 import com.codingchica.flashcards.api.exceptionmappers.RenderableExceptionMapper;
+import com.codingchica.flashcards.api.managed.CatalogReloader;
+import com.codingchica.flashcards.api.managed.ConfigurationFileWatcher;
+import com.codingchica.flashcards.api.resources.HardestPromptsResource;
+import com.codingchica.flashcards.api.resources.QuizDistributionResource;
 import com.codingchica.flashcards.api.resources.QuizResource;
+import com.codingchica.flashcards.api.resources.QuizResultExportResource;
+import com.codingchica.flashcards.api.resources.QuizResultRollupResource;
+import com.codingchica.flashcards.api.resources.QuizStatisticsResource;
+import com.codingchica.flashcards.api.tasks.ReloadCatalogTask;
+import com.codingchica.flashcards.config.RecordingConfigurationSourceProvider;
+import com.codingchica.flashcards.core.config.CatalogReloadConfiguration;
 import com.codingchica.flashcards.core.config.FlashCardsConfiguration;
+import com.codingchica.flashcards.core.config.GradingConfiguration;
+import com.codingchica.flashcards.core.config.HardestPromptsConfiguration;
+import com.codingchica.flashcards.core.config.QuizDistributionsConfiguration;
+import com.codingchica.flashcards.core.config.QuizPoolConfiguration;
+import com.codingchica.flashcards.core.config.QuizResultRollupsConfiguration;
+import com.codingchica.flashcards.core.config.QuizResultsConfiguration;
+import com.codingchica.flashcards.core.config.QuizSessionsConfiguration;
+import com.codingchica.flashcards.core.config.QuizStatisticsConfiguration;
+import com.codingchica.flashcards.core.config.QuizTokenConfiguration;
+import com.codingchica.flashcards.core.ids.QuizIdGenerator;
+import com.codingchica.flashcards.core.ids.QuizTokenCodec;
+import com.codingchica.flashcards.core.ids.TimeOrderedQuizIdGenerator;
 import com.codingchica.flashcards.core.mappers.external.CompletedQuizMapper;
 import com.codingchica.flashcards.core.mappers.external.CompletedQuizMapperImpl;
 import com.codingchica.flashcards.core.mappers.external.QuizMapper;
 import com.codingchica.flashcards.core.mappers.external.QuizMapperImpl;
+import com.codingchica.flashcards.service.DurableQuizSessionStore;
+import com.codingchica.flashcards.service.HardestPromptsTracker;
+import com.codingchica.flashcards.service.InMemoryQuizSessionStore;
+import com.codingchica.flashcards.service.MappedQuizResultStore;
+import com.codingchica.flashcards.service.OffHeapQuizSessionStore;
+import com.codingchica.flashcards.service.QuizDistributionRecorder;
+import com.codingchica.flashcards.service.QuizPool;
+import com.codingchica.flashcards.service.QuizResultHistory;
+import com.codingchica.flashcards.service.QuizResultJournal;
+import com.codingchica.flashcards.service.QuizResultRollups;
+import com.codingchica.flashcards.service.QuizResultStore;
 import com.codingchica.flashcards.service.QuizService;
-import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.codingchica.flashcards.service.QuizSessionStore;
+import com.codingchica.flashcards.service.QuizStatisticsAggregator;
+import com.codingchica.flashcards.service.WriteBehindQuizResultStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.dropwizard.assets.AssetsBundle;
 import io.dropwizard.core.Application;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.ArrayUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** The main DropWizard application / controller. */
 public class FlashCardsApplication extends Application<FlashCardsConfiguration> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FlashCardsApplication.class);
+
+  /** The bootstrap used at startup, retained so the configuration can be re-read the same way. */
+  private Bootstrap<FlashCardsConfiguration> bootstrap;
+
+  /** Remembers where the configuration was read from at startup. */
+  private RecordingConfigurationSourceProvider configurationSourceProvider;
+
   /**
    * Entry point from the command line when starting up the DropWizard application.
    *
@@ -53,6 +114,13 @@ public class FlashCardsApplication extends Application<FlashCardsConfiguration>
   @Override
   public void initialize(final Bootstrap<FlashCardsConfiguration> bootstrap) {
     bootstrap.addBundle(new AssetsBundle("/ui"));
+
+    this.bootstrap = bootstrap;
+    configurationSourceProvider =
+        RecordingConfigurationSourceProvider.builder()
+            .delegate(bootstrap.getConfigurationSourceProvider())
+            .build();
+    bootstrap.setConfigurationSourceProvider(configurationSourceProvider);
   }
 
   /**
@@ -61,35 +129,317 @@ public class FlashCardsApplication extends Application<FlashCardsConfiguration>
    * @return A QuizMapper instance.
    */
   public QuizMapper quizMapper() {
-    return QuizMapperImpl.builder().build();
+    return QuizMapperImpl.builder().quizIdGenerator(quizIdGenerator()).build();
   }
 
   /**
-   * Construct a new UUIDGenerator.
+   * Construct a new QuizIdGenerator.
    *
-   * @return A UUIDGenerator instance.
+   * @return A QuizIdGenerator instance.
    */
-  public ObjectIdGenerators.UUIDGenerator uuidGenerator() {
-    return new ObjectIdGenerators.UUIDGenerator();
+  public QuizIdGenerator quizIdGenerator() {
+    return TimeOrderedQuizIdGenerator.builder().build();
   }
 
   /**
    * Construct a new QuizService.
    *
    * @param configuration The configuration to use within the QuizService.
-   * @param objectMapper The object mapper to use within the QuizService for serialization.
+   * @param quizResultStore Where graded quizzes are kept.
+   * @param quizPool The pool of pre-generated quizzes, or null to generate quizzes per request.
+   * @param quizSessionStore Where quizzes in progress are kept until graded.
+   * @param gradingExecutor Where completed quizzes are graded.
+   * @param quizStatistics Keeps running statistics for each quiz as it is graded.
+   * @param hardestPrompts Counts the prompts missed most often across every student.
+   * @param quizDistributions Records the completion time and score distributions of each quiz.
    * @return A QuizService instance.
    */
   public QuizService quizService(
-      final FlashCardsConfiguration configuration, final ObjectMapper objectMapper) {
+      final FlashCardsConfiguration configuration,
+      final QuizResultStore quizResultStore,
+      final QuizPool quizPool,
+      final QuizSessionStore quizSessionStore,
+      final ExecutorService gradingExecutor,
+      final QuizStatisticsAggregator quizStatistics,
+      final HardestPromptsTracker hardestPrompts,
+      final QuizDistributionRecorder quizDistributions) {
     return QuizService.builder()
         .flashCardsConfiguration(configuration)
         .quizMapper(quizMapper())
-        .objectMapper(objectMapper)
+        .quizResultStore(quizResultStore)
         .completedQuizMapper(completedQuizMapper())
+        .quizPool(quizPool)
+        .quizSessionStore(quizSessionStore)
+        .quizTokenCodec(quizTokenCodec(configuration.getQuizTokens()).orElse(null))
+        .gradingExecutor(gradingExecutor)
+        .gradingRetryAfter(configuration.getGrading().getRetryAfter().toJavaDuration())
+        .quizStatistics(quizStatistics)
+        .hardestPrompts(hardestPrompts)
+        .quizDistributions(quizDistributions)
+        .build();
+  }
+
+  /**
+   * Construct the running statistics kept for each quiz as it is graded. The caller is responsible
+   * for starting it, which restores the last checkpoint, and stopping it, which writes a final one.
+   *
+   * @param quizStatisticsConfiguration The checkpoint file and interval, and how many of the most
+   *     missed prompts to list.
+   * @param objectMapper The object mapper with which to read and write the checkpoint.
+   * @param metricRegistry Where the checkpoint times are reported.
+   * @return A new QuizStatisticsAggregator.
+   */
+  public QuizStatisticsAggregator quizStatisticsAggregator(
+      final QuizStatisticsConfiguration quizStatisticsConfiguration,
+      final ObjectMapper objectMapper,
+      final MetricRegistry metricRegistry) {
+    return QuizStatisticsAggregator.builder()
+        .checkpointFile(Path.of(quizStatisticsConfiguration.getCheckpointFile()))
+        .checkpointInterval(quizStatisticsConfiguration.getCheckpointInterval().toJavaDuration())
+        .mostMissedPrompts(quizStatisticsConfiguration.getMostMissedPrompts())
+        .objectMapper(objectMapper)
+        .metricRegistry(metricRegistry)
+        .build();
+  }
+
+  /**
+   * Construct the bounded pool of threads completed quizzes are graded on, away from the request
+   * threads, so that slow grading or saving cannot hold up other requests. Once its queue is full,
+   * further quizzes are rejected. It reports its queue depth, task timings and rejections under
+   * "quiz-grading".
+   *
+   * @param gradingConfiguration The thread and queue limits.
+   * @param metricRegistry Where the pool reports its metrics.
+   * @return A new ExecutorService, which the caller is responsible for shutting down.
+   */
+  public ExecutorService gradingExecutor(
+      final GradingConfiguration gradingConfiguration, final MetricRegistry metricRegistry) {
+    Meter rejections = metricRegistry.meter(MetricRegistry.name("quiz-grading", "rejected"));
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            gradingConfiguration.getThreads(),
+            gradingConfiguration.getThreads(),
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(gradingConfiguration.getQueueCapacity()),
+            new ThreadFactoryBuilder().setNameFormat("quiz-grading-%d").setDaemon(true).build(),
+            (runnable, executor) -> {
+              rejections.mark();
+              throw new RejectedExecutionException("quiz-grading is saturated");
+            });
+    return new InstrumentedExecutorService(threadPoolExecutor, metricRegistry, "quiz-grading");
+  }
+
+  /**
+   * Construct the store graded quizzes are saved to, behind the request: a queue in front of the
+   * journal, or of the memory-mapped store, drained by a single writer thread. The caller is
+   * responsible for starting and stopping it, which starts and stops the store behind it too.
+   *
+   * @param quizResultsConfiguration The queue and journal settings.
+   * @param objectMapper The object mapper from which to build the writer for the results.
+   * @param metricRegistry Where the queue and the store behind it report their metrics.
+   * @return A new WriteBehindQuizResultStore.
+   */
+  public WriteBehindQuizResultStore quizResultStore(
+      final QuizResultsConfiguration quizResultsConfiguration,
+      final ObjectMapper objectMapper,
+      final MetricRegistry metricRegistry) {
+    return WriteBehindQuizResultStore.builder()
+        .delegate(
+            quizResultsConfiguration.getStorage() == QuizResultsConfiguration.Storage.MAPPED
+                ? mappedQuizResultStore(quizResultsConfiguration, metricRegistry)
+                : quizResultJournal(quizResultsConfiguration, objectMapper, metricRegistry))
+        .queueCapacity(quizResultsConfiguration.getQueueCapacity())
+        .maximumBatchSize(quizResultsConfiguration.getMaximumBatchSize())
+        .whenQueueFull(quizResultsConfiguration.getWhenQueueFull())
+        .retryAfter(quizResultsConfiguration.getRetryAfter().toJavaDuration())
+        .metricRegistry(metricRegistry)
+        .build();
+  }
+
+  /**
+   * Construct the live view of the prompts missed most often, overall and for each category.
+   *
+   * @param hardestPromptsConfiguration How many prompts to list, and the size of the sketches.
+   * @return A new HardestPromptsTracker.
+   */
+  public HardestPromptsTracker hardestPromptsTracker(
+      final HardestPromptsConfiguration hardestPromptsConfiguration) {
+    return HardestPromptsTracker.builder()
+        .limit(hardestPromptsConfiguration.getLimit())
+        .sketchWidth(hardestPromptsConfiguration.getSketchWidth())
+        .sketchDepth(hardestPromptsConfiguration.getSketchDepth())
+        .build();
+  }
+
+  /**
+   * Construct the recorder of the completion time and score distributions of each quiz. The caller
+   * is responsible for managing its lifecycle, so the counts of each interval are rolled over.
+   *
+   * @param quizDistributionsConfiguration The interval, and the range and precision of the times.
+   * @return A new QuizDistributionRecorder.
+   */
+  public QuizDistributionRecorder quizDistributionRecorder(
+      final QuizDistributionsConfiguration quizDistributionsConfiguration) {
+    return QuizDistributionRecorder.builder()
+        .interval(quizDistributionsConfiguration.getInterval().toJavaDuration())
+        .maximumTime(quizDistributionsConfiguration.getMaximumTime().toJavaDuration())
+        .significantDigits(quizDistributionsConfiguration.getSignificantDigits())
+        .build();
+  }
+
+  /**
+   * Construct the memory-mapped store graded quizzes are kept in, which can look them up by quiz
+   * and time saved. The caller is responsible for starting and stopping it.
+   *
+   * @param quizResultsConfiguration The directory and segment size.
+   * @param metricRegistry Where the store reports its metrics.
+   * @return A new MappedQuizResultStore.
+   */
+  public MappedQuizResultStore mappedQuizResultStore(
+      final QuizResultsConfiguration quizResultsConfiguration,
+      final MetricRegistry metricRegistry) {
+    return MappedQuizResultStore.builder()
+        .directory(Path.of(quizResultsConfiguration.getDirectory()))
+        .segmentSize(quizResultsConfiguration.getSegmentSize().toBytes())
+        .metricRegistry(metricRegistry)
+        .build();
+  }
+
+  /**
+   * Construct the compactor rolling graded quizzes kept in the memory-mapped store up into hourly
+   * and daily totals once old enough. The caller is responsible for starting it, after the store,
+   * which restores the rollups saved and starts compacting, and stopping it, before the store.
+   *
+   * @param quizResultRollupsConfiguration The rollups file, retention and compaction settings.
+   * @param mappedQuizResultStore The store holding the results not rolled up yet.
+   * @param objectMapper The object mapper with which to read and write the rollups file.
+   * @param metricRegistry Where the compaction times are reported.
+   * @return A new QuizResultRollups.
+   */
+  public QuizResultRollups quizResultRollups(
+      final QuizResultRollupsConfiguration quizResultRollupsConfiguration,
+      final MappedQuizResultStore mappedQuizResultStore,
+      final ObjectMapper objectMapper,
+      final MetricRegistry metricRegistry) {
+    String archiveDirectory = quizResultRollupsConfiguration.getArchiveDirectory();
+    return QuizResultRollups.builder()
+        .quizResultStore(mappedQuizResultStore)
+        .file(Path.of(quizResultRollupsConfiguration.getFile()))
+        .rawRetention(quizResultRollupsConfiguration.getRawRetention().toJavaDuration())
+        .hourlyRetention(quizResultRollupsConfiguration.getHourlyRetention().toJavaDuration())
+        .compactionInterval(quizResultRollupsConfiguration.getCompactionInterval().toJavaDuration())
+        .archiveDirectory(archiveDirectory == null ? null : Path.of(archiveDirectory))
+        .objectMapper(objectMapper)
+        .metricRegistry(metricRegistry)
         .build();
   }
 
+  /**
+   * Construct the journal graded quizzes are kept in, which the caller is responsible for starting
+   * and stopping.
+   *
+   * @param quizResultsConfiguration The directory, segment size and flush settings.
+   * @param objectMapper The object mapper from which to build the writer for the results.
+   * @param metricRegistry Where the journal reports its metrics.
+   * @return A new QuizResultJournal.
+   */
+  public QuizResultJournal quizResultJournal(
+      final QuizResultsConfiguration quizResultsConfiguration,
+      final ObjectMapper objectMapper,
+      final MetricRegistry metricRegistry) {
+    return QuizResultJournal.builder()
+        .directory(Path.of(quizResultsConfiguration.getDirectory()))
+        .objectMapper(objectMapper)
+        .segmentSize(quizResultsConfiguration.getSegmentSize().toBytes())
+        .commitInterval(quizResultsConfiguration.getCommitInterval().toJavaDuration())
+        .commitRecords(quizResultsConfiguration.getCommitRecords())
+        .metricRegistry(metricRegistry)
+        .build();
+  }
+
+  /**
+   * Construct a new QuizSessionStore.
+   *
+   * @param quizSessionsConfiguration The storage, capacity, expiry and journal settings.
+   * @param metricRegistry Where the store reports its metrics.
+   * @return A new QuizSessionStore.
+   */
+  public QuizSessionStore quizSessionStore(
+      final QuizSessionsConfiguration quizSessionsConfiguration,
+      final MetricRegistry metricRegistry) {
+    QuizSessionStore quizSessionStore;
+    if (quizSessionsConfiguration.getStorage() == QuizSessionsConfiguration.Storage.OFF_HEAP) {
+      quizSessionStore =
+          OffHeapQuizSessionStore.builder()
+              .slabSize((int) quizSessionsConfiguration.getSlabSize().toBytes())
+              .capacity(quizSessionsConfiguration.getOffHeapSize().toBytes())
+              .expireAfter(quizSessionsConfiguration.getExpireAfter().toJavaDuration())
+              .rejectWhenFull(quizSessionsConfiguration.isRejectWhenFull())
+              .retryAfter(quizSessionsConfiguration.getRetryAfter().toJavaDuration())
+              .metricRegistry(metricRegistry)
+              .build();
+    } else {
+      quizSessionStore =
+          InMemoryQuizSessionStore.builder()
+              .maximumPrompts(quizSessionsConfiguration.getMaximumPrompts())
+              .expireAfter(quizSessionsConfiguration.getExpireAfter().toJavaDuration())
+              .rejectWhenFull(quizSessionsConfiguration.isRejectWhenFull())
+              .retryAfter(quizSessionsConfiguration.getRetryAfter().toJavaDuration())
+              .metricRegistry(metricRegistry)
+              .build();
+    }
+    if (quizSessionsConfiguration.getJournalDirectory() != null) {
+      quizSessionStore =
+          DurableQuizSessionStore.builder()
+              .delegate(quizSessionStore)
+              .directory(Path.of(quizSessionsConfiguration.getJournalDirectory()))
+              .expireAfter(quizSessionsConfiguration.getExpireAfter().toJavaDuration())
+              .snapshotInterval(quizSessionsConfiguration.getSnapshotInterval().toJavaDuration())
+              .metricRegistry(metricRegistry)
+              .build();
+    }
+    return quizSessionStore;
+  }
+
+  /**
+   * Construct a new QuizTokenCodec, if quiz IDs should be signed tokens.
+   *
+   * @param quizTokenConfiguration The signing settings.
+   * @return A new QuizTokenCodec, if enabled.
+   */
+  public Optional<QuizTokenCodec> quizTokenCodec(
+      final QuizTokenConfiguration quizTokenConfiguration) {
+    if (!quizTokenConfiguration.isEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        QuizTokenCodec.builder()
+            .secret(quizTokenConfiguration.getSecret().getBytes(StandardCharsets.UTF_8))
+            .maxAge(quizTokenConfiguration.getMaxAge().toJavaDuration())
+            .build());
+  }
+
+  /**
+   * Construct a new QuizPool, if pre-generation is enabled.
+   *
+   * @param quizPoolConfiguration The pre-generation settings.
+   * @param metricRegistry Where the pool reports its metrics.
+   * @return A new QuizPool, if enabled.
+   */
+  public Optional<QuizPool> quizPool(
+      final QuizPoolConfiguration quizPoolConfiguration, final MetricRegistry metricRegistry) {
+    if (!quizPoolConfiguration.isEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        QuizPool.builder()
+            .quizMapper(quizMapper())
+            .metricRegistry(metricRegistry)
+            .depthPerDeck(quizPoolConfiguration.getDepthPerQuiz())
+            .build());
+  }
+
   /**
    * Construct a new CompletedQuizMapper.
    *
@@ -102,13 +452,144 @@ public class FlashCardsApplication extends Application<FlashCardsConfiguration>
   /**
    * Construct a new QuizResource.
    *
-   * @param configuration The configuration to use within the QuizResource.
-   * @param objectMapper The object mapper to use for serialization.
+   * @param quizService The service to use within the QuizResource.
+   * @param objectMapper The object mapper to use within the QuizResource for streamed responses.
    * @return A new QuizResource.
    */
-  public QuizResource quizResource(
-      final FlashCardsConfiguration configuration, final ObjectMapper objectMapper) {
-    return QuizResource.builder().quizService(quizService(configuration, objectMapper)).build();
+  public QuizResource quizResource(final QuizService quizService, final ObjectMapper objectMapper) {
+    return QuizResource.builder().quizService(quizService).objectMapper(objectMapper).build();
+  }
+
+  /**
+   * Construct a new QuizStatisticsResource.
+   *
+   * @param quizStatisticsAggregator The running statistics to serve.
+   * @return A new QuizStatisticsResource.
+   */
+  public QuizStatisticsResource quizStatisticsResource(
+      final QuizStatisticsAggregator quizStatisticsAggregator) {
+    return QuizStatisticsResource.builder()
+        .quizStatisticsAggregator(quizStatisticsAggregator)
+        .build();
+  }
+
+  /**
+   * Construct a new HardestPromptsResource.
+   *
+   * @param hardestPromptsTracker The counts of the prompts missed most often to serve.
+   * @return A new HardestPromptsResource.
+   */
+  public HardestPromptsResource hardestPromptsResource(
+      final HardestPromptsTracker hardestPromptsTracker) {
+    return HardestPromptsResource.builder().hardestPromptsTracker(hardestPromptsTracker).build();
+  }
+
+  /**
+   * Construct a new QuizResultExportResource.
+   *
+   * @param quizResultHistory The graded quizzes kept, to export.
+   * @return A new QuizResultExportResource.
+   */
+  public QuizResultExportResource quizResultExportResource(
+      final QuizResultHistory quizResultHistory) {
+    return QuizResultExportResource.builder().quizResultHistory(quizResultHistory).build();
+  }
+
+  /**
+   * Construct a new QuizResultRollupResource.
+   *
+   * @param quizResultRollups The hourly and daily totals to serve.
+   * @return A new QuizResultRollupResource.
+   */
+  public QuizResultRollupResource quizResultRollupResource(
+      final QuizResultRollups quizResultRollups) {
+    return QuizResultRollupResource.builder().quizResultRollups(quizResultRollups).build();
+  }
+
+  /**
+   * Construct a new QuizDistributionResource.
+   *
+   * @param quizDistributionRecorder The distributions of each quiz to serve.
+   * @return A new QuizDistributionResource.
+   */
+  public QuizDistributionResource quizDistributionResource(
+      final QuizDistributionRecorder quizDistributionRecorder) {
+    return QuizDistributionResource.builder()
+        .quizDistributionRecorder(quizDistributionRecorder)
+        .build();
+  }
+
+  /**
+   * Construct a loader which parses and validates the configuration from the same source, and in
+   * the same way, as at startup.
+   *
+   * @param environment The environment providing the validator and object mapper.
+   * @return A loader for the current configuration contents.
+   */
+  public Callable<FlashCardsConfiguration> configurationLoader(final Environment environment) {
+    return () -> {
+      String path =
+          getConfigurationPath()
+              .orElseThrow(() -> new IllegalStateException("configuration path is not known"));
+      return bootstrap
+          .getConfigurationFactoryFactory()
+          .create(
+              FlashCardsConfiguration.class,
+              environment.getValidator(),
+              environment.getObjectMapper(),
+              "dw")
+          .build(bootstrap.getConfigurationSourceProvider(), path);
+    };
+  }
+
+  /**
+   * Construct a new CatalogReloader.
+   *
+   * @param quizService The service to publish reloaded catalogs to.
+   * @param environment The environment providing the validator and object mapper.
+   * @return A new CatalogReloader.
+   */
+  public CatalogReloader catalogReloader(
+      final QuizService quizService, final Environment environment) {
+    return CatalogReloader.builder()
+        .quizService(quizService)
+        .configurationLoader(configurationLoader(environment))
+        .build();
+  }
+
+  /**
+   * Construct a watcher for the configuration file, if watching is enabled.
+   *
+   * @param catalogReload The reload settings.
+   * @param catalogReloader The reloader to trigger when the file changes.
+   * @return A new ConfigurationFileWatcher, if the file should and can be watched.
+   */
+  public Optional<ConfigurationFileWatcher> configurationFileWatcher(
+      final CatalogReloadConfiguration catalogReload, final CatalogReloader catalogReloader) {
+    if (!catalogReload.isWatchConfigFile()) {
+      return Optional.empty();
+    }
+    Optional<String> configurationPath = getConfigurationPath();
+    if (configurationPath.isEmpty()) {
+      LOGGER.warn("Configuration path is not known, so it will not be watched for changes");
+    }
+    return configurationPath.map(
+        path ->
+            ConfigurationFileWatcher.builder()
+                .configurationFile(Path.of(path))
+                .quietPeriod(catalogReload.getQuietPeriod())
+                .onChange(catalogReloader::reload)
+                .build());
+  }
+
+  /**
+   * Retrieve the path the configuration was read from at startup.
+   *
+   * @return The configuration path, if known.
+   */
+  private Optional<String> getConfigurationPath() {
+    return Optional.ofNullable(configurationSourceProvider)
+        .flatMap(RecordingConfigurationSourceProvider::getLastPath);
   }
 
   /**
@@ -134,11 +615,77 @@ public class FlashCardsApplication extends Application<FlashCardsConfiguration>
   @Override
   public void run(final FlashCardsConfiguration configuration, final Environment environment) {
     JerseyEnvironment jerseyEnvironment = environment.jersey();
+    Optional<QuizPool> quizPool = quizPool(configuration.getQuizPool(), environment.metrics());
+    quizPool.ifPresent(environment.lifecycle()::manage);
+    QuizSessionStore quizSessionStore =
+        quizSessionStore(configuration.getQuizSessions(), environment.metrics());
+    if (quizSessionStore instanceof Managed managedQuizSessionStore) {
+      environment.lifecycle().manage(managedQuizSessionStore);
+    }
+    WriteBehindQuizResultStore quizResultStore =
+        quizResultStore(
+            configuration.getQuizResults(), environment.getObjectMapper(), environment.metrics());
+    environment.lifecycle().manage(quizResultStore);
+    QuizStatisticsAggregator quizStatisticsAggregator =
+        quizStatisticsAggregator(
+            configuration.getQuizStatistics(),
+            environment.getObjectMapper(),
+            environment.metrics());
+    environment.lifecycle().manage(quizStatisticsAggregator);
+    HardestPromptsTracker hardestPromptsTracker =
+        hardestPromptsTracker(configuration.getHardestPrompts());
+    QuizDistributionRecorder quizDistributionRecorder =
+        quizDistributionRecorder(configuration.getQuizDistributions());
+    environment.lifecycle().manage(quizDistributionRecorder);
+    // Managed after everything graded quizzes are recorded into, since managed objects are stopped
+    // in reverse order: the grading threads finish before any of those is stopped.
+    ExecutorService gradingExecutor =
+        gradingExecutor(configuration.getGrading(), environment.metrics());
+    environment
+        .lifecycle()
+        .manage(new ExecutorServiceManager(gradingExecutor, Duration.seconds(5), "quiz-grading"));
+    QuizService quizService =
+        quizService(
+            configuration,
+            quizResultStore,
+            quizPool.orElse(null),
+            quizSessionStore,
+            gradingExecutor,
+            quizStatisticsAggregator,
+            hardestPromptsTracker,
+            quizDistributionRecorder);
 
     // Resources that will be used by the application.
-    jerseyEnvironment.register(quizResource(configuration, environment.getObjectMapper()));
+    jerseyEnvironment.register(quizResource(quizService, environment.getObjectMapper()));
+    jerseyEnvironment.register(quizStatisticsResource(quizStatisticsAggregator));
+    jerseyEnvironment.register(hardestPromptsResource(hardestPromptsTracker));
+    jerseyEnvironment.register(quizDistributionResource(quizDistributionRecorder));
+    // Only the memory-mapped store can look results up by time saved, to export and roll them up.
+    Optional<QuizResultHistory> quizResultHistory = quizResultStore.getHistory();
+    quizResultHistory.map(this::quizResultExportResource).ifPresent(jerseyEnvironment::register);
+    quizResultHistory
+        .filter(MappedQuizResultStore.class::isInstance)
+        .map(
+            history ->
+                quizResultRollups(
+                    configuration.getQuizResultRollups(),
+                    (MappedQuizResultStore) history,
+                    environment.getObjectMapper(),
+                    environment.metrics()))
+        .ifPresent(
+            quizResultRollups -> {
+              environment.lifecycle().manage(quizResultRollups);
+              jerseyEnvironment.register(quizResultRollupResource(quizResultRollups));
+            });
 
     // Exception mappers
     jerseyEnvironment.register(new RenderableExceptionMapper());
+
+    // Catalog reloads
+    CatalogReloader catalogReloader = catalogReloader(quizService, environment);
+    environment.lifecycle().manage(catalogReloader);
+    environment.admin().addTask(new ReloadCatalogTask(catalogReloader));
+    configurationFileWatcher(configuration.getCatalogReload(), catalogReloader)
+        .ifPresent(environment.lifecycle()::manage);
   }
 }
@@ -1,7 +1,9 @@
 package com.codingchica.flashcards.api.exceptionmappers;
 
 import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
 import com.google.common.base.Preconditions;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
@@ -13,17 +15,22 @@ import jakarta.ws.rs.ext.ExceptionMapper;
 public class RenderableExceptionMapper implements ExceptionMapper<RenderableException> {
 
   /**
-   * Map a RenderableException to an API-appropriate Response.
+   * Map a RenderableException to an API-appropriate Response. A RetryLaterException also sets the
+   * Retry-After header.
    *
    * @param exception The exception to map into an API response.
    * @return The response to return for an API call.
    */
   public Response toResponse(RenderableException exception) {
     Preconditions.checkNotNull(exception, "exception must not be null");
-    return Response.status(exception.getHttpStatus())
-        .entity(getBody(exception))
-        .type(MediaType.APPLICATION_JSON_TYPE)
-        .build();
+    Response.ResponseBuilder responseBuilder =
+        Response.status(exception.getHttpStatus())
+            .entity(getBody(exception))
+            .type(MediaType.APPLICATION_JSON_TYPE);
+    if (exception instanceof RetryLaterException retryLaterException) {
+      responseBuilder.header(HttpHeaders.RETRY_AFTER, retryLaterException.getRetryAfterSeconds());
+    }
+    return responseBuilder.build();
   }
 
   /**
@@ -0,0 +1,63 @@
+package com.codingchica.flashcards.api.managed;
+
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.config.FlashCardsConfiguration;
+import com.codingchica.flashcards.service.QuizService;
+import io.dropwizard.lifecycle.Managed;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.Builder;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Re-reads the application configuration and publishes a freshly compiled catalog to the
+ * QuizService. Reloads run one at a time on a background thread, so request threads never pay for
+ * parsing, and a configuration that fails to load or validate leaves the current catalog in place.
+ */
+@Builder(builderClassName = "Builder")
+public class CatalogReloader implements Managed {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CatalogReloader.class);
+
+  /** Parses and validates the configuration from its original source. */
+  @NonNull private Callable<FlashCardsConfiguration> configurationLoader;
+
+  /** The service to publish the reloaded catalog to. */
+  @NonNull private QuizService quizService;
+
+  private final ExecutorService executorService =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "catalog-reloader");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Queue a reload of the catalog.
+   *
+   * @return The catalog published by the reload, or the reason it failed.
+   */
+  public Future<DeckCatalog> reload() {
+    return executorService.submit(
+        () -> {
+          try {
+            DeckCatalog catalog = quizService.reloadCatalog(configurationLoader.call());
+            LOGGER.info("Reloaded catalog with {} quizzes", catalog.getDeckCount());
+            return catalog;
+          } catch (Exception e) {
+            LOGGER.error("Catalog reload failed, keeping the current catalog", e);
+            throw e;
+          }
+        });
+  }
+
+  /** Abandon any queued reloads when the server shuts down. */
+  @Override
+  public void stop() {
+    executorService.shutdownNow();
+  }
+}
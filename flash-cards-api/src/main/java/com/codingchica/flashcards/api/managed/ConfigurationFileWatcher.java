@@ -0,0 +1,103 @@
+package com.codingchica.flashcards.api.managed;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Synchronized;
+
+/**
+ * Watches the configuration file and invokes a callback once it has been changed and then left
+ * alone for the quiet period.
+ */
+@Builder(builderClassName = "Builder")
+public class ConfigurationFileWatcher implements Managed {
+  /** The configuration file to watch. */
+  @NonNull private Path configurationFile;
+
+  /** How long the file must be left unchanged before the callback is invoked. */
+  @NonNull private Duration quietPeriod;
+
+  /** What to do once the file has changed. */
+  @NonNull private Runnable onChange;
+
+  private WatchService watchService;
+
+  private Thread watchThread;
+
+  /**
+   * Begin watching the configuration file.
+   *
+   * @throws IOException If the directory containing the file cannot be watched.
+   */
+  @Override
+  @Synchronized
+  public void start() throws IOException {
+    Path directory = configurationFile.toAbsolutePath().getParent();
+    watchService = directory.getFileSystem().newWatchService();
+    directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+    watchThread = new Thread(this::watch, "configuration-file-watcher");
+    watchThread.setDaemon(true);
+    watchThread.start();
+  }
+
+  /**
+   * Stop watching the configuration file.
+   *
+   * @throws IOException If the underlying watch service cannot be closed.
+   */
+  @Override
+  @Synchronized
+  public void stop() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+      watchThread.interrupt();
+    }
+  }
+
+  /** Wait for changes to the file until the watch service is closed. */
+  private void watch() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        boolean changed = isConfigurationFileChanged(watchService.take());
+        while (changed) {
+          WatchKey next = watchService.poll(quietPeriod.toMilliseconds(), TimeUnit.MILLISECONDS);
+          if (next == null) {
+            onChange.run();
+            changed = false;
+          } else {
+            isConfigurationFileChanged(next);
+          }
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Shutting down.
+    }
+  }
+
+  /**
+   * Consume the events for a key, re-arming it for further events.
+   *
+   * @param watchKey The key which has been signalled.
+   * @return Whether any of the events were for the configuration file.
+   */
+  private boolean isConfigurationFileChanged(WatchKey watchKey) {
+    Path fileName = configurationFile.getFileName();
+    boolean changed = false;
+    for (WatchEvent<?> event : watchKey.pollEvents()) {
+      changed |= fileName.equals(event.context());
+    }
+    watchKey.reset();
+    return changed;
+  }
+}
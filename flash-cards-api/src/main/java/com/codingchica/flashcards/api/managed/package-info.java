@@ -0,0 +1,5 @@
+/**
+ * Managed objects have their lifecycle tied to the server's. See:
+ * https://www.dropwizard.io/en/latest/manual/core.html#man-core-managed
+ */
+package com.codingchica.flashcards.api.managed;
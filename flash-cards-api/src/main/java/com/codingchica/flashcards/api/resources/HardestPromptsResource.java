@@ -0,0 +1,60 @@
+package com.codingchica.flashcards.api.resources;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.PromptMisses;
+import com.codingchica.flashcards.service.HardestPromptsTracker;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * The Web service entry point for the prompts missed most often across every student, overall and
+ * for each category, as counted while quizzes are graded.
+ */
+@Path("/statistics/prompts/hardest")
+@Produces(MediaType.APPLICATION_JSON)
+@Builder(builderClassName = "Builder")
+public class HardestPromptsResource {
+  @Getter(AccessLevel.PROTECTED)
+  @NonNull private HardestPromptsTracker hardestPromptsTracker;
+
+  /**
+   * Retrieve the prompts missed most often across every quiz.
+   *
+   * @return The prompts and their estimated misses, most missed first.
+   */
+  @GET
+  public List<@Valid PromptMisses> listHardestPrompts() {
+    return hardestPromptsTracker.getHardestPrompts();
+  }
+
+  /**
+   * Retrieve the prompts missed most often in the quizzes of one category.
+   *
+   * @param category The category, as configured.
+   * @return The prompts and their estimated misses, most missed first.
+   * @throws RenderableException if the category is not in the catalog.
+   */
+  @GET
+  @Path("/{category}")
+  public List<@Valid PromptMisses> listHardestPrompts(
+      @PathParam("category") @NotBlank String category) throws RenderableException {
+    return hardestPromptsTracker
+        .getHardestPrompts(category)
+        .orElseThrow(
+            () ->
+                new RenderableException(
+                    HttpStatus.NOT_FOUND_404,
+                    String.format("No match found for category: '%s'", category)));
+  }
+}
@@ -0,0 +1,60 @@
+package com.codingchica.flashcards.api.resources;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizDistribution;
+import com.codingchica.flashcards.service.QuizDistributionRecorder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * The Web service entry point for the completion time percentiles and score spread of each quiz,
+ * since startup and over the last interval, as recorded while quizzes are graded.
+ */
+@Path("/statistics/distributions")
+@Produces(MediaType.APPLICATION_JSON)
+@Builder(builderClassName = "Builder")
+public class QuizDistributionResource {
+  @Getter(AccessLevel.PROTECTED)
+  @NonNull private QuizDistributionRecorder quizDistributionRecorder;
+
+  /**
+   * Retrieve the distributions of every quiz graded so far.
+   *
+   * @return The distributions of each quiz, by quiz name.
+   */
+  @GET
+  public List<@Valid QuizDistribution> listDistributions() {
+    return quizDistributionRecorder.getDistributions();
+  }
+
+  /**
+   * Retrieve the distributions of a particular quiz by name.
+   *
+   * @param quizName The name of the quiz.
+   * @return The distributions of the quiz.
+   * @throws RenderableException if the quiz has not been graded yet.
+   */
+  @GET
+  @Path("/{quizName}")
+  public @Valid QuizDistribution getDistribution(@PathParam("quizName") @NotBlank String quizName)
+      throws RenderableException {
+    return quizDistributionRecorder
+        .getDistribution(quizName)
+        .orElseThrow(
+            () ->
+                new RenderableException(
+                    HttpStatus.NOT_FOUND_404,
+                    String.format("No distributions found for quiz: '%s'", quizName)));
+  }
+}
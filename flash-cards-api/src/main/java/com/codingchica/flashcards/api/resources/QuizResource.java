@@ -1,18 +1,31 @@
 package com.codingchica.flashcards.api.resources;
 
 import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.AnswerFeedback;
 import com.codingchica.flashcards.core.model.external.CompletedQuiz;
 import com.codingchica.flashcards.core.model.external.Quiz;
-import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizSubmission;
+import com.codingchica.flashcards.core.model.external.QuizSubmissionResult;
+import com.codingchica.flashcards.core.model.external.SubmittedAnswer;
 import com.codingchica.flashcards.service.QuizService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.dropwizard.jackson.Jackson;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,9 +38,20 @@ import org.eclipse.jetty.http.HttpStatus;
 @Consumes(MediaType.APPLICATION_JSON)
 @Builder(builderClassName = "Builder")
 public class QuizResource {
+  /** The media type of a stream of JSON documents, one per line. */
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  /** The most completed quizzes which may be submitted for grading in one batch. */
+  public static final int MAXIMUM_BATCH_SIZE = 1000;
+
   @Getter(AccessLevel.PROTECTED)
   @NonNull private QuizService quizService;
 
+  /** Writes the lines streamed back when grading a batch of quizzes. */
+  @Getter(AccessLevel.PROTECTED)
+  @Builder.Default
+  @NonNull private ObjectMapper objectMapper = Jackson.newObjectMapper();
+
   /**
    * Retrieve the quiz names available.
    *
@@ -59,18 +83,116 @@ public class QuizResource {
   }
 
   /**
-   * Submit a completed quiz for grading.
+   * Submit a completed quiz for grading. The quiz is graded, and the result saved, on the bounded
+   * grading pool, so the request thread is released straight away. When the pool is saturated, the
+   * quiz is refused with a 503 and a Retry-After header.
    *
    * @param id The unique ID of the quiz.
    * @param completedQuiz The results from the quiz.
-   * @return The result of the graded quiz.
-   * @throws RenderableException when the requested quiz is not found in the server.
+   * @param asyncResponse Resumed with the result of the graded quiz, or with a RenderableException
+   *     when the requested quiz is not found in the server or the grading pool is saturated.
    */
   @POST
   @Path("/{quizName}/{id}")
-  public @Valid QuizResult gradeQuiz(
-      @PathParam(("id")) @NotNull UUID id, @NotNull CompletedQuiz completedQuiz)
+  public void gradeQuiz(
+      @PathParam(("id")) @NotBlank String id,
+      @NotNull CompletedQuiz completedQuiz,
+      @Suspended AsyncResponse asyncResponse) {
+    quizService
+        .gradeQuizAsync(id, completedQuiz)
+        .whenComplete(
+            (quizResult, throwable) -> {
+              if (throwable == null) {
+                asyncResponse.resume(quizResult);
+              } else {
+                asyncResponse.resume(
+                    throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable);
+              }
+            });
+  }
+
+  /**
+   * Grade the answer to one prompt of a quiz as soon as it is given. Prompts are answered in order.
+   * Submit the completed quiz with inlineGrading set, and no answers, once done.
+   *
+   * @param quizName The name of the quiz.
+   * @param id The unique ID of the quiz.
+   * @param submittedAnswer The answer, and the position of the prompt it is for.
+   * @return The grade of the answer, and the running totals for the quiz.
+   * @throws RenderableException when the quiz is not found, or the answer is not for the next
+   *     prompt.
+   */
+  @POST
+  @Path("/{quizName}/{id}/answers")
+  public @Valid AnswerFeedback gradeAnswer(
+      @PathParam("quizName") @NotBlank String quizName,
+      @PathParam("id") @NotBlank String id,
+      @NotNull @Valid SubmittedAnswer submittedAnswer)
       throws RenderableException {
-    return quizService.gradeQuiz(id, completedQuiz);
+    return quizService.gradeAnswer(quizName, id, submittedAnswer);
+  }
+
+  /**
+   * Submit a batch of completed quizzes, e.g. for a whole class, for grading. The quizzes are
+   * graded in parallel and the outcome for each one is streamed back, as a line of JSON, as soon as
+   * it is known. A submission which cannot be graded gets the error code and message the single
+   * quiz endpoint would have responded with, without failing the rest of the batch. If the results
+   * cannot be saved once all of them are graded, a final line without an ID reports that error.
+   *
+   * <p>A batch which is not valid as a whole is refused before grading starts, with the usual JSON
+   * error response, which is why JSON is listed as a type this can produce, too.
+   *
+   * @param quizName The name of the quiz every submission should be for.
+   * @param submissions The completed quizzes, with the IDs they were handed out with.
+   * @return The stream of outcomes, one per line, in the order grading finished.
+   */
+  @POST
+  @Path("/{quizName}")
+  @Produces({APPLICATION_NDJSON, MediaType.APPLICATION_JSON})
+  public StreamingOutput gradeQuizzes(
+      @PathParam("quizName") @NotBlank String quizName,
+      @NotNull @Size(min = 1, max = MAXIMUM_BATCH_SIZE)
+          List<@NotNull @Valid QuizSubmission> submissions) {
+    ObjectWriter objectWriter = objectMapper.writerFor(QuizSubmissionResult.class);
+    return output -> {
+      try {
+        quizService.gradeQuizzes(
+            quizName,
+            submissions,
+            submissionResult -> {
+              try {
+                writeLine(objectWriter, output, submissionResult);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+      } catch (RenderableException e) {
+        writeLine(
+            objectWriter,
+            output,
+            QuizSubmissionResult.builder().code(e.getHttpStatus()).message(e.getMessage()).build());
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+  }
+
+  /**
+   * Write one outcome as a line of JSON, and send it to the client straight away.
+   *
+   * @param objectWriter The writer for the outcomes.
+   * @param output The response body.
+   * @param submissionResult The outcome to write.
+   * @throws IOException if the response cannot be written, e.g. the client went away.
+   */
+  private static void writeLine(
+      ObjectWriter objectWriter, OutputStream output, QuizSubmissionResult submissionResult)
+      throws IOException {
+    // Write the bytes, rather than to the stream, which the writer would close afterwards.
+    output.write(objectWriter.writeValueAsBytes(submissionResult));
+    output.write('\n');
+    output.flush();
   }
 }
@@ -0,0 +1,256 @@
+package com.codingchica.flashcards.api.resources;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.service.QuizResultHistory;
+import com.codingchica.flashcards.service.SavedQuizResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.dropwizard.jackson.Jackson;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * The Web service entry point for exporting the graded quizzes kept, for offline analysis, as JSON
+ * Lines or CSV.
+ *
+ * <p>Each result is written to the response as it is read from the history, and sent to the client
+ * every CHUNK_RESULTS results, so memory use stays the same however many results are exported. The
+ * status and headers have been sent by the time the results are read, so an export which fails part
+ * way, e.g. because the client went away, ends the response early rather than reporting an error.
+ */
+@Path("/results/export")
+@Builder(builderClassName = "Builder")
+public class QuizResultExportResource {
+  /** The media type of CSV, with a header row. */
+  public static final String TEXT_CSV = "text/csv";
+
+  /** How many results are written between sending what has been written to the client. */
+  static final int CHUNK_RESULTS = 1000;
+
+  /** The columns of the CSV export, and the properties of each line of JSON, in order. */
+  static final String CSV_HEADER =
+      "savedAt,name,promptCount,correctAnswers,percentage,timeMinutes,timeSeconds";
+
+  /** The formats results can be exported in. */
+  public enum Format {
+    /** One JSON object per line. */
+    JSONL(QuizResource.APPLICATION_NDJSON),
+    /** Comma-separated values, with a header row. */
+    CSV(TEXT_CSV);
+
+    @Getter private final String mediaType;
+
+    Format(String mediaType) {
+      this.mediaType = mediaType;
+    }
+  }
+
+  @Getter(AccessLevel.PROTECTED)
+  @NonNull private QuizResultHistory quizResultHistory;
+
+  /** Writes the lines of a JSON Lines export. */
+  @Getter(AccessLevel.PROTECTED)
+  @Builder.Default
+  @NonNull private JsonFactory jsonFactory = Jackson.newObjectMapper().getFactory();
+
+  /**
+   * Export the results saved within a time range, in the order they were saved.
+   *
+   * @param quizName The name of the quiz to export results for, ignoring case, or omitted for every
+   *     quiz.
+   * @param from The earliest time saved to include, as an ISO-8601 instant, or omitted for the
+   *     earliest kept.
+   * @param to The time saved from which to stop, which is not included, as an ISO-8601 instant, or
+   *     omitted for the latest kept.
+   * @param format jsonl or csv, ignoring case.
+   * @return The response, whose body is written as the results are read.
+   * @throws RenderableException if a parameter is not valid.
+   */
+  @GET
+  public Response exportResults(
+      @QueryParam("quiz") String quizName,
+      @QueryParam("from") String from,
+      @QueryParam("to") String to,
+      @QueryParam("format") @DefaultValue("jsonl") String format)
+      throws RenderableException {
+    Format exportFormat = toFormat(format);
+    Instant fromInstant = toInstant("from", from, Instant.MIN);
+    Instant toInstant = toInstant("to", to, Instant.MAX);
+    if (fromInstant.isAfter(toInstant)) {
+      throw new RenderableException(HttpStatus.BAD_REQUEST_400, "from must not be after to");
+    }
+    String name = quizName == null || quizName.isBlank() ? null : quizName;
+    StreamingOutput body =
+        output -> {
+          try {
+            if (exportFormat == Format.CSV) {
+              writeCsv(name, fromInstant, toInstant, output);
+            } else {
+              writeJsonLines(name, fromInstant, toInstant, output);
+            }
+          } catch (UncheckedIOException e) {
+            throw e.getCause();
+          }
+        };
+    return Response.ok(body, exportFormat.getMediaType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            String.format(
+                "attachment; filename=\"quiz-results.%s\"",
+                exportFormat.name().toLowerCase(Locale.ROOT)))
+        .build();
+  }
+
+  private static Format toFormat(String format) throws RenderableException {
+    try {
+      return Format.valueOf(format.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new RenderableException(
+          HttpStatus.BAD_REQUEST_400,
+          String.format("format must be jsonl or csv, not: '%s'", format));
+    }
+  }
+
+  /**
+   * Parse a time query parameter.
+   *
+   * @param parameter The name of the parameter, for the error message.
+   * @param value The value of the parameter, as an ISO-8601 instant, or omitted.
+   * @param defaultValue The time to use if it was omitted.
+   * @return The time.
+   * @throws RenderableException if the value is not an ISO-8601 instant.
+   */
+  static Instant toInstant(String parameter, String value, Instant defaultValue)
+      throws RenderableException {
+    if (value == null || value.isBlank()) {
+      return defaultValue;
+    }
+    try {
+      return Instant.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new RenderableException(
+          HttpStatus.BAD_REQUEST_400,
+          String.format(
+              "%s must be an ISO-8601 instant, e.g. 2024-01-31T00:00:00Z, not: '%s'",
+              parameter, value));
+    }
+  }
+
+  /**
+   * Write each result as a line of JSON, property by property, without building an object per
+   * result.
+   */
+  private void writeJsonLines(String name, Instant from, Instant to, OutputStream output)
+      throws IOException {
+    try (JsonGenerator generator = jsonFactory.createGenerator(output)) {
+      // Leave the response body for the container to close.
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      // Each line ends with its own line break, rather than a space between lines.
+      generator.setRootValueSeparator(null);
+      int[] written = {0};
+      quizResultHistory.forEach(
+          name,
+          from,
+          to,
+          savedQuizResult -> {
+            QuizResult quizResult = savedQuizResult.getQuizResult();
+            try {
+              generator.writeStartObject();
+              generator.writeStringField("savedAt", savedQuizResult.getSavedAt().toString());
+              generator.writeStringField("name", quizResult.getName());
+              generator.writeNumberField("promptCount", quizResult.getPromptCount());
+              generator.writeNumberField("correctAnswers", quizResult.getCorrectAnswers());
+              generator.writeNumberField("percentage", quizResult.getPercentage());
+              generator.writeNumberField("timeMinutes", quizResult.getTimeMinutes());
+              generator.writeNumberField("timeSeconds", quizResult.getTimeSeconds());
+              generator.writeEndObject();
+              generator.writeRaw('\n');
+              if (++written[0] % CHUNK_RESULTS == 0) {
+                generator.flush();
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    }
+  }
+
+  /** Write a header row, then each result as a row of comma-separated values. */
+  private void writeCsv(String name, Instant from, Instant to, OutputStream output)
+      throws IOException {
+    // Not closed, which would close the response body, but flushed once done.
+    Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    writer.write(CSV_HEADER);
+    writer.write("\r\n");
+    int[] written = {0};
+    quizResultHistory.forEach(
+        name,
+        from,
+        to,
+        savedQuizResult -> {
+          try {
+            writeCsvRow(writer, savedQuizResult);
+            if (++written[0] % CHUNK_RESULTS == 0) {
+              writer.flush();
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+    writer.flush();
+  }
+
+  private static void writeCsvRow(Writer writer, SavedQuizResult savedQuizResult)
+      throws IOException {
+    QuizResult quizResult = savedQuizResult.getQuizResult();
+    writer.write(savedQuizResult.getSavedAt().toString());
+    writer.write(',');
+    writeCsvField(writer, quizResult.getName());
+    writer.write(',');
+    writer.write(Integer.toString(quizResult.getPromptCount()));
+    writer.write(',');
+    writer.write(Integer.toString(quizResult.getCorrectAnswers()));
+    writer.write(',');
+    writer.write(Integer.toString(quizResult.getPercentage()));
+    writer.write(',');
+    writer.write(Integer.toString(quizResult.getTimeMinutes()));
+    writer.write(',');
+    writer.write(Integer.toString(quizResult.getTimeSeconds()));
+    writer.write("\r\n");
+  }
+
+  /** Write a field, quoted as RFC 4180 asks if it holds a comma, quote or line break. */
+  private static void writeCsvField(Writer writer, String value) throws IOException {
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
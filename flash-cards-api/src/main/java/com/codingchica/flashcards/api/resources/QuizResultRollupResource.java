@@ -0,0 +1,58 @@
+package com.codingchica.flashcards.api.resources;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResultRollup;
+import com.codingchica.flashcards.service.QuizResultRollups;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import java.time.Instant;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * The Web service entry point for the hourly and daily totals of the graded quizzes kept, which
+ * answer questions about long ranges of time without reading every result.
+ */
+@Path("/results/rollups")
+@Produces(MediaType.APPLICATION_JSON)
+@Builder(builderClassName = "Builder")
+public class QuizResultRollupResource {
+  @Getter(AccessLevel.PROTECTED)
+  @NonNull private QuizResultRollups quizResultRollups;
+
+  /**
+   * Retrieve the hourly and daily totals starting within a time range. Hours are rolled up into
+   * days once older than the hourly retention configured.
+   *
+   * @param quizName The name of the quiz to total results for, ignoring case, or omitted for every
+   *     quiz.
+   * @param from The earliest start to include, as an ISO-8601 instant, or omitted for the earliest
+   *     kept.
+   * @param to The start from which to stop, which is not included, as an ISO-8601 instant, or
+   *     omitted for the latest kept.
+   * @return The totals, in order of start.
+   * @throws RenderableException if a parameter is not valid.
+   */
+  @GET
+  public List<@Valid QuizResultRollup> listRollups(
+      @QueryParam("quiz") String quizName,
+      @QueryParam("from") String from,
+      @QueryParam("to") String to)
+      throws RenderableException {
+    Instant fromInstant = QuizResultExportResource.toInstant("from", from, Instant.MIN);
+    Instant toInstant = QuizResultExportResource.toInstant("to", to, Instant.MAX);
+    if (fromInstant.isAfter(toInstant)) {
+      throw new RenderableException(HttpStatus.BAD_REQUEST_400, "from must not be after to");
+    }
+    return quizResultRollups.getRollups(
+        quizName == null || quizName.isBlank() ? null : quizName, fromInstant, toInstant);
+  }
+}
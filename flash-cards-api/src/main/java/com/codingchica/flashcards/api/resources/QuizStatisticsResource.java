@@ -0,0 +1,60 @@
+package com.codingchica.flashcards.api.resources;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizStatistics;
+import com.codingchica.flashcards.service.QuizStatisticsAggregator;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * The Web service entry point for the running statistics of each quiz, which are kept up to date as
+ * quizzes are graded, so reading them does not scan the saved results.
+ */
+@Path("/statistics/quizzes")
+@Produces(MediaType.APPLICATION_JSON)
+@Builder(builderClassName = "Builder")
+public class QuizStatisticsResource {
+  @Getter(AccessLevel.PROTECTED)
+  @NonNull private QuizStatisticsAggregator quizStatisticsAggregator;
+
+  /**
+   * Retrieve the statistics of every quiz graded so far.
+   *
+   * @return The statistics of each quiz, by quiz name.
+   */
+  @GET
+  public List<@Valid QuizStatistics> listStatistics() {
+    return quizStatisticsAggregator.getStatistics();
+  }
+
+  /**
+   * Retrieve the statistics of a particular quiz by name.
+   *
+   * @param quizName The name of the quiz.
+   * @return The statistics of the quiz.
+   * @throws RenderableException if the quiz has not been graded yet.
+   */
+  @GET
+  @Path("/{quizName}")
+  public @Valid QuizStatistics getStatistics(@PathParam("quizName") @NotBlank String quizName)
+      throws RenderableException {
+    return quizStatisticsAggregator
+        .getStatistics(quizName)
+        .orElseThrow(
+            () ->
+                new RenderableException(
+                    HttpStatus.NOT_FOUND_404,
+                    String.format("No statistics found for quiz: '%s'", quizName)));
+  }
+}
@@ -0,0 +1,51 @@
+package com.codingchica.flashcards.api.tasks;
+
+import com.codingchica.flashcards.api.managed.CatalogReloader;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import io.dropwizard.servlets.tasks.Task;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import lombok.NonNull;
+
+/**
+ * Admin task to reload the flash card catalog from the configuration file without restarting: POST
+ * /tasks/reload-catalog on the admin port.
+ */
+public class ReloadCatalogTask extends Task {
+  /** The name the task is exposed under. */
+  public static final String NAME = "reload-catalog";
+
+  private final CatalogReloader catalogReloader;
+
+  /**
+   * Construct a new ReloadCatalogTask.
+   *
+   * @param catalogReloader The reloader to trigger.
+   */
+  public ReloadCatalogTask(@NonNull CatalogReloader catalogReloader) {
+    super(NAME);
+    this.catalogReloader = catalogReloader;
+  }
+
+  /**
+   * Reload the catalog, waiting for the result.
+   *
+   * @param parameters Not used.
+   * @param output Where to report the outcome.
+   * @throws Exception If the configuration could not be reloaded. The current catalog is kept.
+   */
+  @Override
+  public void execute(Map<String, List<String>> parameters, PrintWriter output) throws Exception {
+    try {
+      DeckCatalog catalog = catalogReloader.reload().get();
+      output.printf("Reloaded catalog with %d quizzes.%n", catalog.getDeckCount());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * Tasks are operations exposed on the admin port. See:
+ * https://www.dropwizard.io/en/latest/manual/core.html#man-core-tasks
+ */
+package com.codingchica.flashcards.api.tasks;
@@ -0,0 +1,44 @@
+package com.codingchica.flashcards.config;
+
+import io.dropwizard.configuration.ConfigurationSourceProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * A ConfigurationSourceProvider that remembers the last configuration path it opened. Dropwizard
+ * does not hand the configuration path to the application, but the catalog must be re-read from the
+ * same place when it is reloaded.
+ */
+@Builder(builderClassName = "Builder")
+public class RecordingConfigurationSourceProvider implements ConfigurationSourceProvider {
+  /** The provider that actually opens the configuration. */
+  @NonNull private ConfigurationSourceProvider delegate;
+
+  private final AtomicReference<String> lastPath = new AtomicReference<>();
+
+  /**
+   * Open the requested configuration, recording its path.
+   *
+   * @param path The path to the configuration.
+   * @return An InputStream for the configuration contents.
+   * @throws IOException If the delegate provider is unable to open the configuration.
+   */
+  @Override
+  public InputStream open(String path) throws IOException {
+    lastPath.set(path);
+    return delegate.open(path);
+  }
+
+  /**
+   * Retrieve the last configuration path opened.
+   *
+   * @return The last configuration path opened, if any.
+   */
+  public Optional<String> getLastPath() {
+    return Optional.ofNullable(lastPath.get());
+  }
+}
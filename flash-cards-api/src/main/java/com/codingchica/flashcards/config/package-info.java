@@ -0,0 +1,2 @@
+/** Helpers for locating and re-reading the application configuration at runtime. */
+package com.codingchica.flashcards.config;
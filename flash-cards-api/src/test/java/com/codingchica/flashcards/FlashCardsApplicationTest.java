@@ -1,26 +1,97 @@
 package com.codingchica.flashcards;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
 import com.codingchica.flashcards.api.exceptionmappers.RenderableExceptionMapper;
+import com.codingchica.flashcards.api.managed.CatalogReloader;
+import com.codingchica.flashcards.api.managed.ConfigurationFileWatcher;
+import com.codingchica.flashcards.api.resources.HardestPromptsResource;
+import com.codingchica.flashcards.api.resources.QuizDistributionResource;
 import com.codingchica.flashcards.api.resources.QuizResource;
+import com.codingchica.flashcards.api.resources.QuizResultExportResource;
+import com.codingchica.flashcards.api.resources.QuizResultRollupResource;
+import com.codingchica.flashcards.api.resources.QuizStatisticsResource;
+import com.codingchica.flashcards.api.tasks.ReloadCatalogTask;
+import com.codingchica.flashcards.config.RecordingConfigurationSourceProvider;
+import com.codingchica.flashcards.core.config.CatalogReloadConfiguration;
 import com.codingchica.flashcards.core.config.FlashCardsConfiguration;
+import com.codingchica.flashcards.core.config.GradingConfiguration;
+import com.codingchica.flashcards.core.config.HardestPromptsConfiguration;
+import com.codingchica.flashcards.core.config.QuizDistributionsConfiguration;
+import com.codingchica.flashcards.core.config.QuizPoolConfiguration;
+import com.codingchica.flashcards.core.config.QuizResultRollupsConfiguration;
+import com.codingchica.flashcards.core.config.QuizResultsConfiguration;
+import com.codingchica.flashcards.core.config.QuizSessionsConfiguration;
+import com.codingchica.flashcards.core.config.QuizStatisticsConfiguration;
+import com.codingchica.flashcards.core.config.QuizTokenConfiguration;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.ids.QuizIdGenerator;
+import com.codingchica.flashcards.core.ids.QuizToken;
+import com.codingchica.flashcards.core.ids.QuizTokenCodec;
+import com.codingchica.flashcards.core.ids.TimeOrderedQuizIdGenerator;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizResultRollup;
+import com.codingchica.flashcards.service.DurableQuizSessionStore;
+import com.codingchica.flashcards.service.HardestPromptsTracker;
+import com.codingchica.flashcards.service.InMemoryQuizSessionStore;
+import com.codingchica.flashcards.service.MappedQuizResultStore;
+import com.codingchica.flashcards.service.OffHeapQuizSessionStore;
+import com.codingchica.flashcards.service.QuizDistributionRecorder;
+import com.codingchica.flashcards.service.QuizPool;
+import com.codingchica.flashcards.service.QuizResultJournal;
+import com.codingchica.flashcards.service.QuizResultRollups;
+import com.codingchica.flashcards.service.QuizResultStore;
+import com.codingchica.flashcards.service.QuizSessionStore;
+import com.codingchica.flashcards.service.QuizStatisticsAggregator;
+import com.codingchica.flashcards.service.SavedQuizResult;
+import com.codingchica.flashcards.service.WriteBehindQuizResultStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Uninterruptibles;
 import io.dropwizard.assets.AssetsBundle;
+import io.dropwizard.configuration.ConfigurationSourceProvider;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.core.setup.AdminEnvironment;
 import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
+import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.util.DataSize;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,42 +105,812 @@ class FlashCardsApplicationTest {
   @Mock private Environment environment;
   @Mock private JerseyEnvironment jerseyEnvironment;
   @Mock private Bootstrap<FlashCardsConfiguration> bootstrap;
+  @Mock private LifecycleEnvironment lifecycleEnvironment;
+  @Mock private AdminEnvironment adminEnvironment;
+  @Mock private ConfigurationSourceProvider configurationSourceProvider;
+  @Mock private CatalogReloader catalogReloader;
 
   /** Unit tests for the run method. */
   @Nested
   class RunTest {
+    @BeforeEach
+    void setup() {
+      doReturn(jerseyEnvironment).when(environment).jersey();
+      doReturn(new ObjectMapper()).when(environment).getObjectMapper();
+      doReturn(lifecycleEnvironment).when(environment).lifecycle();
+      doReturn(adminEnvironment).when(environment).admin();
+      doReturn(new MetricRegistry()).when(environment).metrics();
+    }
+
     @Test
     void whenInvoked_thenSetupAsExpected() {
       // Setup
-      doReturn(jerseyEnvironment).when(environment).jersey();
-      doReturn(new ObjectMapper()).when(environment).getObjectMapper();
+      doReturn(new CatalogReloadConfiguration()).when(flashCardsConfiguration).getCatalogReload();
+      doReturn(new QuizPoolConfiguration()).when(flashCardsConfiguration).getQuizPool();
+      doReturn(new QuizTokenConfiguration()).when(flashCardsConfiguration).getQuizTokens();
+      doReturn(new QuizSessionsConfiguration()).when(flashCardsConfiguration).getQuizSessions();
+      doReturn(new GradingConfiguration()).when(flashCardsConfiguration).getGrading();
+      doReturn(new QuizResultsConfiguration()).when(flashCardsConfiguration).getQuizResults();
+      doReturn(new QuizStatisticsConfiguration()).when(flashCardsConfiguration).getQuizStatistics();
+      doReturn(new HardestPromptsConfiguration()).when(flashCardsConfiguration).getHardestPrompts();
+      doReturn(new QuizDistributionsConfiguration())
+          .when(flashCardsConfiguration)
+          .getQuizDistributions();
 
       // Execution
       flashCardsApplication.run(flashCardsConfiguration, environment);
 
       // Validation
-      verifyNoInteractions(flashCardsConfiguration);
+      verify(flashCardsConfiguration).getCatalogReload();
+      verify(flashCardsConfiguration).getQuizPool();
+      verify(flashCardsConfiguration).getQuizTokens();
+      verify(flashCardsConfiguration).getQuizSessions();
+      verify(flashCardsConfiguration, times(2)).getGrading();
+      verify(flashCardsConfiguration).getQuizResults();
+      verify(flashCardsConfiguration).getQuizStatistics();
+      verify(flashCardsConfiguration).getHardestPrompts();
+      verify(flashCardsConfiguration).getQuizDistributions();
+      verifyNoMoreInteractions(flashCardsConfiguration);
       verify(environment).jersey();
       verifyNoMoreInteractions(environment);
 
       verify(jerseyEnvironment).register(any(QuizResource.class));
+      verify(jerseyEnvironment).register(any(QuizStatisticsResource.class));
+      verify(jerseyEnvironment).register(any(HardestPromptsResource.class));
+      verify(jerseyEnvironment).register(any(QuizDistributionResource.class));
+      verify(jerseyEnvironment).register(any(RenderableExceptionMapper.class));
+      verifyNoMoreInteractions(jerseyEnvironment);
+
+      // Stopped in reverse order, so the grading threads finish before what they record into.
+      InOrder managedOrder = inOrder(lifecycleEnvironment);
+      managedOrder.verify(lifecycleEnvironment).manage(any(WriteBehindQuizResultStore.class));
+      managedOrder.verify(lifecycleEnvironment).manage(any(QuizStatisticsAggregator.class));
+      managedOrder.verify(lifecycleEnvironment).manage(any(QuizDistributionRecorder.class));
+      managedOrder.verify(lifecycleEnvironment).manage(any(ExecutorServiceManager.class));
+      managedOrder.verify(lifecycleEnvironment).manage(any(CatalogReloader.class));
+      verifyNoMoreInteractions(lifecycleEnvironment);
+      verify(adminEnvironment).addTask(any(ReloadCatalogTask.class));
+      verifyNoMoreInteractions(adminEnvironment);
+    }
+
+    @Test
+    void whenQuizPoolEnabled_thenPoolManaged() {
+      // Setup
+      doReturn(new CatalogReloadConfiguration()).when(flashCardsConfiguration).getCatalogReload();
+      doReturn(QuizPoolConfiguration.builder().enabled(true).build())
+          .when(flashCardsConfiguration)
+          .getQuizPool();
+      doReturn(new QuizTokenConfiguration()).when(flashCardsConfiguration).getQuizTokens();
+      doReturn(new QuizSessionsConfiguration()).when(flashCardsConfiguration).getQuizSessions();
+      doReturn(new GradingConfiguration()).when(flashCardsConfiguration).getGrading();
+      doReturn(new QuizResultsConfiguration()).when(flashCardsConfiguration).getQuizResults();
+      doReturn(new QuizStatisticsConfiguration()).when(flashCardsConfiguration).getQuizStatistics();
+      doReturn(new HardestPromptsConfiguration()).when(flashCardsConfiguration).getHardestPrompts();
+      doReturn(new QuizDistributionsConfiguration())
+          .when(flashCardsConfiguration)
+          .getQuizDistributions();
+
+      // Execution
+      flashCardsApplication.run(flashCardsConfiguration, environment);
+
+      // Validation
+      verify(lifecycleEnvironment).manage(any(QuizPool.class));
+      verify(lifecycleEnvironment).manage(any(ExecutorServiceManager.class));
+      verify(lifecycleEnvironment).manage(any(WriteBehindQuizResultStore.class));
+      verify(lifecycleEnvironment).manage(any(QuizStatisticsAggregator.class));
+      verify(lifecycleEnvironment).manage(any(QuizDistributionRecorder.class));
+      verify(lifecycleEnvironment).manage(any(CatalogReloader.class));
+      verifyNoMoreInteractions(lifecycleEnvironment);
+    }
+
+    @Test
+    void whenQuizSessionsOffHeap_thenStoreManaged() {
+      // Setup
+      doReturn(new CatalogReloadConfiguration()).when(flashCardsConfiguration).getCatalogReload();
+      doReturn(new QuizPoolConfiguration()).when(flashCardsConfiguration).getQuizPool();
+      doReturn(new QuizTokenConfiguration()).when(flashCardsConfiguration).getQuizTokens();
+      doReturn(
+              QuizSessionsConfiguration.builder()
+                  .storage(QuizSessionsConfiguration.Storage.OFF_HEAP)
+                  .build())
+          .when(flashCardsConfiguration)
+          .getQuizSessions();
+      doReturn(new GradingConfiguration()).when(flashCardsConfiguration).getGrading();
+      doReturn(new QuizResultsConfiguration()).when(flashCardsConfiguration).getQuizResults();
+      doReturn(new QuizStatisticsConfiguration()).when(flashCardsConfiguration).getQuizStatistics();
+      doReturn(new HardestPromptsConfiguration()).when(flashCardsConfiguration).getHardestPrompts();
+      doReturn(new QuizDistributionsConfiguration())
+          .when(flashCardsConfiguration)
+          .getQuizDistributions();
+
+      // Execution
+      flashCardsApplication.run(flashCardsConfiguration, environment);
+
+      // Validation
+      verify(lifecycleEnvironment).manage(any(OffHeapQuizSessionStore.class));
+      verify(lifecycleEnvironment).manage(any(ExecutorServiceManager.class));
+      verify(lifecycleEnvironment).manage(any(WriteBehindQuizResultStore.class));
+      verify(lifecycleEnvironment).manage(any(QuizStatisticsAggregator.class));
+      verify(lifecycleEnvironment).manage(any(QuizDistributionRecorder.class));
+      verify(lifecycleEnvironment).manage(any(CatalogReloader.class));
+      verifyNoMoreInteractions(lifecycleEnvironment);
+    }
+
+    @Test
+    void whenQuizResultsMapped_thenExportAndRollupsRegistered(@TempDir Path directory) {
+      // Setup
+      doReturn(new CatalogReloadConfiguration()).when(flashCardsConfiguration).getCatalogReload();
+      doReturn(new QuizPoolConfiguration()).when(flashCardsConfiguration).getQuizPool();
+      doReturn(new QuizTokenConfiguration()).when(flashCardsConfiguration).getQuizTokens();
+      doReturn(new QuizSessionsConfiguration()).when(flashCardsConfiguration).getQuizSessions();
+      doReturn(new GradingConfiguration()).when(flashCardsConfiguration).getGrading();
+      doReturn(
+              QuizResultsConfiguration.builder()
+                  .storage(QuizResultsConfiguration.Storage.MAPPED)
+                  .directory(directory.toString())
+                  .build())
+          .when(flashCardsConfiguration)
+          .getQuizResults();
+      doReturn(new QuizStatisticsConfiguration()).when(flashCardsConfiguration).getQuizStatistics();
+      doReturn(new HardestPromptsConfiguration()).when(flashCardsConfiguration).getHardestPrompts();
+      doReturn(new QuizDistributionsConfiguration())
+          .when(flashCardsConfiguration)
+          .getQuizDistributions();
+      doReturn(
+              QuizResultRollupsConfiguration.builder()
+                  .file(directory.resolve("quiz-result-rollups.json").toString())
+                  .build())
+          .when(flashCardsConfiguration)
+          .getQuizResultRollups();
+
+      // Execution
+      flashCardsApplication.run(flashCardsConfiguration, environment);
+
+      // Validation
+      verify(lifecycleEnvironment).manage(any(QuizResultRollups.class));
+      verify(jerseyEnvironment).register(any(QuizResource.class));
+      verify(jerseyEnvironment).register(any(QuizStatisticsResource.class));
+      verify(jerseyEnvironment).register(any(HardestPromptsResource.class));
+      verify(jerseyEnvironment).register(any(QuizDistributionResource.class));
+      verify(jerseyEnvironment).register(any(QuizResultExportResource.class));
+      verify(jerseyEnvironment).register(any(QuizResultRollupResource.class));
       verify(jerseyEnvironment).register(any(RenderableExceptionMapper.class));
       verifyNoMoreInteractions(jerseyEnvironment);
     }
   }
 
+  /** Unit tests for the quizResultStore method. */
+  @Nested
+  class QuizResultStoreTest {
+    @Test
+    void whenStopped_thenQueuedResultsJournaled(@TempDir Path directory)
+        throws Exception, RenderableException {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      QuizResultsConfiguration quizResultsConfiguration =
+          QuizResultsConfiguration.builder()
+              .directory(directory.toString())
+              .commitInterval(io.dropwizard.util.Duration.milliseconds(5))
+              .maximumBatchSize(2)
+              .build();
+      QuizResult quizResult = QuizResult.builder().name("Adding 1").promptCount(1).build();
+
+      // Execution
+      WriteBehindQuizResultStore result =
+          flashCardsApplication.quizResultStore(
+              quizResultsConfiguration, new ObjectMapper(), metricRegistry);
+
+      // Validation
+      result.start();
+      try {
+        result.append(List.of(quizResult, quizResult, quizResult));
+      } finally {
+        result.stop();
+      }
+      assertEquals(3, Files.readAllLines(directory.resolve("quiz-results-00000001.jsonl")).size());
+      Snapshot batchSizes =
+          metricRegistry
+              .getHistograms()
+              .get(MetricRegistry.name(QuizResultStore.class, "batchSizes"))
+              .getSnapshot();
+      assertEquals(3, LongStream.of(batchSizes.getValues()).sum(), "results in batches");
+      assertTrue(batchSizes.getMax() <= 2, "largest batch=" + batchSizes.getMax());
+      assertEquals(
+          0,
+          metricRegistry
+              .getGauges()
+              .get(MetricRegistry.name(QuizResultStore.class, "queueDepth"))
+              .getValue());
+    }
+  }
+
+  /** Unit tests for the quizStatisticsAggregator method. */
+  @Nested
+  class QuizStatisticsAggregatorTest {
+    @Test
+    void whenInvoked_thenConfigurationApplied(@TempDir Path directory) throws Exception {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      QuizStatisticsConfiguration quizStatisticsConfiguration =
+          QuizStatisticsConfiguration.builder()
+              .checkpointFile(directory.resolve("statistics.json").toString())
+              .checkpointInterval(io.dropwizard.util.Duration.seconds(30))
+              .mostMissedPrompts(5)
+              .build();
+
+      // Execution
+      QuizStatisticsAggregator result =
+          flashCardsApplication.quizStatisticsAggregator(
+              quizStatisticsConfiguration, new ObjectMapper(), metricRegistry);
+
+      // Validation
+      result.start();
+      result.stop();
+      assertTrue(Files.exists(directory.resolve("statistics.json")));
+      assertTrue(result.getStatistics().isEmpty());
+      assertEquals(
+          1,
+          metricRegistry
+              .getTimers()
+              .get(MetricRegistry.name(QuizStatisticsAggregator.class, "checkpoints"))
+              .getCount());
+    }
+  }
+
+  /** Unit tests for the hardestPromptsTracker method. */
+  @Nested
+  class HardestPromptsTrackerTest {
+    @Test
+    void whenInvoked_thenConfigurationApplied() {
+      // Setup
+      HardestPromptsConfiguration hardestPromptsConfiguration =
+          HardestPromptsConfiguration.builder().limit(5).build();
+
+      // Execution
+      HardestPromptsTracker result =
+          flashCardsApplication.hardestPromptsTracker(hardestPromptsConfiguration);
+
+      // Validation
+      assertEquals(List.of(), result.getHardestPrompts());
+      assertEquals(Optional.empty(), result.getHardestPrompts("Addition"));
+    }
+  }
+
+  /** Unit tests for the quizDistributionRecorder method. */
+  @Nested
+  class QuizDistributionRecorderTest {
+    @Test
+    void whenInvoked_thenConfigurationApplied() {
+      // Setup
+      QuizDistributionsConfiguration quizDistributionsConfiguration =
+          QuizDistributionsConfiguration.builder().significantDigits(3).build();
+
+      // Execution
+      QuizDistributionRecorder result =
+          flashCardsApplication.quizDistributionRecorder(quizDistributionsConfiguration);
+
+      // Validation
+      assertEquals(List.of(), result.getDistributions());
+      assertEquals(Optional.empty(), result.getDistribution("Adding 1"));
+    }
+  }
+
+  /** Unit tests for the mappedQuizResultStore method. */
+  @Nested
+  class MappedQuizResultStoreTest {
+    @Test
+    void whenMappedStorage_thenResultsFoundByQuizAndTime(@TempDir Path directory)
+        throws Exception, RenderableException {
+      // Setup
+      QuizResultsConfiguration quizResultsConfiguration =
+          QuizResultsConfiguration.builder()
+              .storage(QuizResultsConfiguration.Storage.MAPPED)
+              .directory(directory.toString())
+              .segmentSize(DataSize.kibibytes(4))
+              .build();
+      MetricRegistry metricRegistry = new MetricRegistry();
+      MappedQuizResultStore mappedQuizResultStore =
+          flashCardsApplication.mappedQuizResultStore(quizResultsConfiguration, metricRegistry);
+      Instant before = Instant.now();
+
+      // Execution
+      WriteBehindQuizResultStore result =
+          flashCardsApplication.quizResultStore(
+              quizResultsConfiguration, new ObjectMapper(), metricRegistry);
+
+      // Validation
+      result.start();
+      try {
+        result.append(List.of(QuizResult.builder().name("Adding 1").promptCount(1).build()));
+      } finally {
+        result.stop();
+      }
+      try (Stream<Path> segments = Files.list(directory)) {
+        assertEquals(
+            List.of("quiz-results-00000001.seg"),
+            segments.map(segment -> segment.getFileName().toString()).toList());
+      }
+      mappedQuizResultStore.start();
+      try {
+        List<SavedQuizResult> found = new ArrayList<>();
+        mappedQuizResultStore.forEach(
+            "Adding 1", before.truncatedTo(ChronoUnit.MILLIS), Instant.MAX, found::add);
+        assertEquals(1, found.size());
+        assertEquals("Adding 1", found.get(0).getQuizResult().getName());
+      } finally {
+        mappedQuizResultStore.stop();
+      }
+    }
+  }
+
+  /** Unit tests for the quizResultRollups method. */
+  @Nested
+  class QuizResultRollupsTest {
+    @Test
+    void whenInvoked_thenTotalsResultsInStore(@TempDir Path directory)
+        throws Exception, RenderableException {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      MappedQuizResultStore mappedQuizResultStore =
+          flashCardsApplication.mappedQuizResultStore(
+              QuizResultsConfiguration.builder()
+                  .storage(QuizResultsConfiguration.Storage.MAPPED)
+                  .directory(directory.resolve("quiz-results").toString())
+                  .segmentSize(DataSize.kibibytes(4))
+                  .build(),
+              metricRegistry);
+      QuizResultRollupsConfiguration quizResultRollupsConfiguration =
+          QuizResultRollupsConfiguration.builder()
+              .file(directory.resolve("quiz-result-rollups.json").toString())
+              .archiveDirectory(directory.resolve("archive").toString())
+              .build();
+      mappedQuizResultStore.start();
+
+      try {
+        mappedQuizResultStore.append(
+            List.of(QuizResult.builder().name("Adding 1").promptCount(1).build()));
+
+        // Execution
+        QuizResultRollups result =
+            flashCardsApplication.quizResultRollups(
+                quizResultRollupsConfiguration,
+                mappedQuizResultStore,
+                new ObjectMapper(),
+                metricRegistry);
+
+        // Validation
+        List<QuizResultRollup> rollups = result.getRollups(null, Instant.MIN, Instant.MAX);
+        assertEquals(1, rollups.size());
+        assertEquals("Adding 1", rollups.get(0).getName());
+        assertEquals(QuizResultRollup.Granularity.HOUR, rollups.get(0).getGranularity());
+      } finally {
+        mappedQuizResultStore.stop();
+      }
+    }
+  }
+
+  /** Unit tests for the quizResultJournal method. */
+  @Nested
+  class QuizResultJournalTest {
+    @Test
+    void whenInvoked_thenJournalsToDirectory(@TempDir Path directory)
+        throws Exception, RenderableException {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      QuizResultsConfiguration quizResultsConfiguration =
+          QuizResultsConfiguration.builder()
+              .directory(directory.toString())
+              .segmentSize(DataSize.kibibytes(4))
+              .commitInterval(io.dropwizard.util.Duration.milliseconds(5))
+              .commitRecords(16)
+              .build();
+
+      // Execution
+      QuizResultJournal result =
+          flashCardsApplication.quizResultJournal(
+              quizResultsConfiguration, new ObjectMapper(), metricRegistry);
+
+      // Validation
+      result.start();
+      try {
+        result.append(List.of(QuizResult.builder().name("Adding 1").promptCount(1).build()));
+      } finally {
+        result.stop();
+      }
+      try (Stream<Path> segments = Files.list(directory)) {
+        assertEquals(
+            List.of("quiz-results-00000001.jsonl"),
+            segments.map(segment -> segment.getFileName().toString()).toList());
+      }
+      assertEquals(
+          1,
+          metricRegistry
+              .getTimers()
+              .get(MetricRegistry.name(QuizResultStore.class, "commits"))
+              .getCount());
+    }
+  }
+
+  /** Unit tests for the quizSessionStore method. */
+  @Nested
+  class QuizSessionStoreTest {
+    @Test
+    void whenInvoked_thenStoreReportsToRegistry() throws RenderableException {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      QuizSessionsConfiguration quizSessionsConfiguration =
+          QuizSessionsConfiguration.builder().maximumPrompts(1).rejectWhenFull(true).build();
+      Quiz quiz =
+          Quiz.builder()
+              .id("id")
+              .prompts(List.of(new AbstractMap.SimpleEntry<>("1+1", "2")))
+              .build();
+
+      // Execution
+      QuizSessionStore result =
+          flashCardsApplication.quizSessionStore(quizSessionsConfiguration, metricRegistry);
+
+      // Validation
+      result.put(quiz);
+      RetryLaterException exception =
+          assertThrows(RetryLaterException.class, () -> result.put(quiz));
+      assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+      assertEquals(
+          1,
+          metricRegistry
+              .meter(MetricRegistry.name(QuizSessionStore.class, "rejections"))
+              .getCount());
+    }
+
+    @Test
+    void whenHeap_thenInMemoryStore() {
+      // Setup
+      QuizSessionsConfiguration quizSessionsConfiguration =
+          QuizSessionsConfiguration.builder()
+              .storage(QuizSessionsConfiguration.Storage.HEAP)
+              .build();
+
+      // Execution
+      QuizSessionStore result =
+          flashCardsApplication.quizSessionStore(quizSessionsConfiguration, new MetricRegistry());
+
+      // Validation
+      assertInstanceOf(InMemoryQuizSessionStore.class, result);
+    }
+
+    @Test
+    void whenOffHeapWithJournalDirectory_thenDurableStoreOverOffHeapStore(
+        @TempDir Path journalDirectory) {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      QuizSessionsConfiguration quizSessionsConfiguration =
+          QuizSessionsConfiguration.builder()
+              .storage(QuizSessionsConfiguration.Storage.OFF_HEAP)
+              .journalDirectory(journalDirectory.toString())
+              .build();
+
+      // Execution
+      QuizSessionStore result =
+          flashCardsApplication.quizSessionStore(quizSessionsConfiguration, metricRegistry);
+
+      // Validation
+      assertInstanceOf(DurableQuizSessionStore.class, result);
+      assertTrue(
+          metricRegistry
+              .getGauges()
+              .containsKey(MetricRegistry.name(QuizSessionStore.class, "offHeapBytes")));
+    }
+
+    @Test
+    void whenOffHeap_thenOffHeapStoreReportsToRegistry() {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      QuizSessionsConfiguration quizSessionsConfiguration =
+          QuizSessionsConfiguration.builder()
+              .storage(QuizSessionsConfiguration.Storage.OFF_HEAP)
+              .build();
+
+      // Execution
+      QuizSessionStore result =
+          flashCardsApplication.quizSessionStore(quizSessionsConfiguration, metricRegistry);
+
+      // Validation
+      assertInstanceOf(OffHeapQuizSessionStore.class, result);
+      assertTrue(
+          metricRegistry
+              .getGauges()
+              .containsKey(MetricRegistry.name(QuizSessionStore.class, "offHeapBytes")));
+    }
+
+    @Test
+    void whenJournalDirectorySet_thenDurableStore(@TempDir Path journalDirectory) {
+      // Setup
+      MetricRegistry metricRegistry = new MetricRegistry();
+      QuizSessionsConfiguration quizSessionsConfiguration =
+          QuizSessionsConfiguration.builder().journalDirectory(journalDirectory.toString()).build();
+
+      // Execution
+      QuizSessionStore result =
+          flashCardsApplication.quizSessionStore(quizSessionsConfiguration, metricRegistry);
+
+      // Validation
+      assertInstanceOf(DurableQuizSessionStore.class, result);
+      assertTrue(
+          metricRegistry
+              .getCounters()
+              .containsKey(MetricRegistry.name(QuizSessionStore.class, "restored")));
+    }
+  }
+
+  /** Unit tests for the gradingExecutor method. */
+  @Nested
+  class GradingExecutorTest {
+    @Test
+    void whenInvoked_thenBoundedByConfiguration() {
+      // Setup
+      GradingConfiguration gradingConfiguration =
+          GradingConfiguration.builder().threads(3).queueCapacity(7).build();
+
+      MetricRegistry metricRegistry = new MetricRegistry();
+
+      // Execution
+      ExecutorService result =
+          flashCardsApplication.gradingExecutor(gradingConfiguration, metricRegistry);
+
+      // Validation
+      try {
+        assertInstanceOf(InstrumentedExecutorService.class, result);
+        assertAll(
+            () ->
+                assertEquals(
+                    3,
+                    metricRegistry.getGauges().get("quiz-grading.pool.core").getValue(),
+                    "pool.core"),
+            () ->
+                assertEquals(
+                    3,
+                    metricRegistry.getGauges().get("quiz-grading.pool.max").getValue(),
+                    "pool.max"),
+            () ->
+                assertEquals(
+                    7,
+                    metricRegistry.getGauges().get("quiz-grading.tasks.capacity").getValue(),
+                    "tasks.capacity"),
+            () ->
+                assertEquals(
+                    0, metricRegistry.meter("quiz-grading.rejected").getCount(), "rejected"));
+      } finally {
+        result.shutdownNow();
+      }
+    }
+
+    @Test
+    void whenSaturated_thenRejectedAndCounted() throws InterruptedException {
+      // Setup
+      GradingConfiguration gradingConfiguration =
+          GradingConfiguration.builder().threads(1).queueCapacity(1).build();
+      MetricRegistry metricRegistry = new MetricRegistry();
+      ExecutorService executorService =
+          flashCardsApplication.gradingExecutor(gradingConfiguration, metricRegistry);
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      try {
+        executorService.execute(
+            () -> {
+              started.countDown();
+              Uninterruptibles.awaitUninterruptibly(release);
+            });
+        started.await();
+        executorService.execute(() -> {});
+
+        // Execution
+        Executable executable = () -> executorService.execute(() -> {});
+
+        // Validation
+        assertThrows(RejectedExecutionException.class, executable);
+        assertEquals(1, metricRegistry.meter("quiz-grading.rejected").getCount());
+      } finally {
+        release.countDown();
+        executorService.shutdownNow();
+      }
+    }
+  }
+
+  /** Unit tests for the quizTokenCodec method. */
+  @Nested
+  class QuizTokenCodecTest {
+    @Test
+    void whenDisabled_thenEmpty() {
+      // Execution
+      Optional<QuizTokenCodec> result =
+          flashCardsApplication.quizTokenCodec(new QuizTokenConfiguration());
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenEnabled_thenCodecSignsWithSecret() {
+      // Setup
+      String secret = "0123456789abcdef0123456789abcdef";
+      QuizTokenConfiguration quizTokenConfiguration =
+          QuizTokenConfiguration.builder().enabled(true).secret(secret).build();
+      QuizToken quizToken =
+          QuizToken.builder().createdDateTime(Instant.now().truncatedTo(ChronoUnit.MILLIS)).build();
+
+      // Execution
+      Optional<QuizTokenCodec> result =
+          flashCardsApplication.quizTokenCodec(quizTokenConfiguration);
+
+      // Validation
+      assertTrue(result.isPresent());
+      QuizTokenCodec sameSecret =
+          QuizTokenCodec.builder()
+              .secret(secret.getBytes(StandardCharsets.UTF_8))
+              .maxAge(Duration.ofHours(3))
+              .build();
+      assertEquals(Optional.of(quizToken), sameSecret.decode(result.get().encode(quizToken)));
+    }
+  }
+
+  /** Unit tests for the quizPool method. */
+  @Nested
+  class QuizPoolTest {
+    @Test
+    void whenDisabled_thenEmpty() {
+      // Execution
+      Optional<QuizPool> result =
+          flashCardsApplication.quizPool(new QuizPoolConfiguration(), new MetricRegistry());
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenEnabled_thenPoolReturned() {
+      // Setup
+      QuizPoolConfiguration quizPoolConfiguration =
+          QuizPoolConfiguration.builder().enabled(true).depthPerQuiz(4).build();
+      MetricRegistry metricRegistry = new MetricRegistry();
+
+      // Execution
+      Optional<QuizPool> result =
+          flashCardsApplication.quizPool(quizPoolConfiguration, metricRegistry);
+
+      // Validation
+      assertTrue(result.isPresent());
+      assertEquals(0, result.get().getDepth());
+      assertFalse(metricRegistry.getMetrics().isEmpty());
+    }
+  }
+
+  /**
+   * Record a configuration path as if Dropwizard had read the configuration through the provider
+   * installed during initialize.
+   *
+   * @param bootstrap The bootstrap to initialize the application with.
+   * @param path The configuration path to record.
+   * @throws Exception If the configuration cannot be opened.
+   */
+  private void initializeAndOpen(Bootstrap<FlashCardsConfiguration> bootstrap, String path)
+      throws Exception {
+    flashCardsApplication.initialize(bootstrap);
+    bootstrap.getConfigurationSourceProvider().open(path).close();
+  }
+
+  /** Unit tests for the configurationLoader method. */
+  @Nested
+  class ConfigurationLoaderTest {
+    @Test
+    void whenConfigurationPathUnknown_thenExceptionThrown() {
+      // Setup
+      Callable<FlashCardsConfiguration> loader =
+          flashCardsApplication.configurationLoader(environment);
+
+      // Execution
+      IllegalStateException exception = assertThrows(IllegalStateException.class, loader::call);
+
+      // Validation
+      assertEquals("configuration path is not known", exception.getMessage());
+    }
+
+    @Test
+    void whenConfigurationPathKnown_thenConfigurationParsedAndValidated() throws Exception {
+      // Setup
+      Bootstrap<FlashCardsConfiguration> realBootstrap = new Bootstrap<>(flashCardsApplication);
+      realBootstrap.setConfigurationSourceProvider(new ResourceConfigurationSourceProvider());
+      initializeAndOpen(realBootstrap, "appConfig/test-component.yml");
+      doReturn(Validators.newValidator()).when(environment).getValidator();
+      doReturn(realBootstrap.getObjectMapper()).when(environment).getObjectMapper();
+
+      // Execution
+      FlashCardsConfiguration result =
+          flashCardsApplication.configurationLoader(environment).call();
+
+      // Validation
+      assertNotNull(result);
+      assertEquals(1, result.getFlashCardGroupMap().size());
+    }
+  }
+
+  /** Unit tests for the configurationFileWatcher method. */
+  @Nested
+  class ConfigurationFileWatcherTest {
+    @Test
+    void whenWatchDisabled_thenEmpty() {
+      // Setup
+      CatalogReloadConfiguration catalogReload = new CatalogReloadConfiguration();
+
+      // Execution
+      Optional<ConfigurationFileWatcher> result =
+          flashCardsApplication.configurationFileWatcher(catalogReload, catalogReloader);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenConfigurationPathUnknown_thenEmpty() {
+      // Setup
+      CatalogReloadConfiguration catalogReload =
+          CatalogReloadConfiguration.builder().watchConfigFile(true).build();
+
+      // Execution
+      Optional<ConfigurationFileWatcher> result =
+          flashCardsApplication.configurationFileWatcher(catalogReload, catalogReloader);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenWatchEnabledAndConfigurationPathKnown_thenWatcherReturned() throws Exception {
+      // Setup
+      Bootstrap<FlashCardsConfiguration> realBootstrap = new Bootstrap<>(flashCardsApplication);
+      realBootstrap.setConfigurationSourceProvider(new ResourceConfigurationSourceProvider());
+      initializeAndOpen(realBootstrap, "appConfig/test-component.yml");
+      CatalogReloadConfiguration catalogReload =
+          CatalogReloadConfiguration.builder().watchConfigFile(true).build();
+
+      // Execution
+      Optional<ConfigurationFileWatcher> result =
+          flashCardsApplication.configurationFileWatcher(catalogReload, catalogReloader);
+
+      // Validation
+      assertTrue(result.isPresent());
+    }
+  }
+
+  /** Unit tests for the quizIdGenerator method. */
+  @Nested
+  class QuizIdGeneratorTest {
+    @Test
+    void whenInvoked_thenTimeOrderedIdsGenerated() {
+      // Execution
+      QuizIdGenerator result = flashCardsApplication.quizIdGenerator();
+
+      // Validation
+      assertInstanceOf(TimeOrderedQuizIdGenerator.class, result);
+      assertEquals(7, result.nextId().version());
+    }
+  }
+
   /** Unit tests for the initialize method. */
   @Nested
   class InitializeTest {
     @Test
     void whenInitializeInvoked_thenSuccess() {
       // Setup
+      doReturn(configurationSourceProvider).when(bootstrap).getConfigurationSourceProvider();
 
       // Execution
       flashCardsApplication.initialize(bootstrap);
 
       // Validation
       verify(bootstrap).addBundle(any(AssetsBundle.class));
+      verify(bootstrap).getConfigurationSourceProvider();
+      verify(bootstrap)
+          .setConfigurationSourceProvider(any(RecordingConfigurationSourceProvider.class));
       verifyNoMoreInteractions(bootstrap);
     }
   }
@@ -3,8 +3,11 @@ package com.codingchica.flashcards.api.exceptionmappers;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import java.time.Duration;
 import org.eclipse.jetty.http.HttpStatus;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -73,5 +76,33 @@ class RenderableExceptionMapperTest {
           () -> assertEquals(code, exceptionResponse.getCode()),
           () -> assertEquals(code, response.getStatus()));
     }
+
+    @Test
+    void whenRenderableException_thenNoRetryAfterHeader() {
+      // Setup
+      RenderableException exception =
+          new RenderableException(HttpStatus.SERVICE_UNAVAILABLE_503, "busy");
+
+      // Execution
+      Response response = renderableExceptionMapper.toResponse(exception);
+
+      // Validation
+      assertNull(response.getHeaderString(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void whenRetryLaterException_thenRetryAfterHeaderSet() {
+      // Setup
+      RetryLaterException exception = new RetryLaterException("busy", Duration.ofMillis(2500));
+
+      // Execution
+      Response response = renderableExceptionMapper.toResponse(exception);
+
+      // Validation
+      assertEquals(HttpStatus.SERVICE_UNAVAILABLE_503, response.getStatus());
+      assertEquals("3", response.getHeaderString(HttpHeaders.RETRY_AFTER));
+      ExceptionResponse exceptionResponse = (ExceptionResponse) response.getEntity();
+      assertEquals("busy", exceptionResponse.getMessage());
+    }
   }
 }
@@ -0,0 +1,154 @@
+package com.codingchica.flashcards.api.managed;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.config.FlashCardsConfiguration;
+import com.codingchica.flashcards.service.QuizService;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for the CatalogReloader class. */
+@ExtendWith(MockitoExtension.class)
+class CatalogReloaderTest {
+  @Mock private Callable<FlashCardsConfiguration> configurationLoader;
+  @Mock private QuizService quizService;
+  private final FlashCardsConfiguration configuration = FlashCardsConfiguration.builder().build();
+  private final DeckCatalog deckCatalog = DeckCatalog.compile(Map.of());
+  private CatalogReloader catalogReloader;
+
+  @AfterEach
+  void tearDown() {
+    if (catalogReloader != null) {
+      catalogReloader.stop();
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void build_whenConfigurationLoaderNotInvoked_thenExceptionThrown() {
+      // Setup
+      CatalogReloader.Builder builder = CatalogReloader.builder().quizService(quizService);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("configurationLoader is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenQuizServiceNotInvoked_thenExceptionThrown() {
+      // Setup
+      CatalogReloader.Builder builder =
+          CatalogReloader.builder().configurationLoader(configurationLoader);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizService is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void configurationLoader_whenNull_thenExceptionThrown() {
+      // Setup
+      CatalogReloader.Builder builder = CatalogReloader.builder();
+
+      // Execution
+      Executable executable = () -> builder.configurationLoader(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("configurationLoader is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void quizService_whenNull_thenExceptionThrown() {
+      // Setup
+      CatalogReloader.Builder builder = CatalogReloader.builder();
+
+      // Execution
+      Executable executable = () -> builder.quizService(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizService is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class ReloadTest {
+    @Test
+    void reload_whenConfigurationLoaded_thenCatalogPublished() throws Exception {
+      // Setup
+      catalogReloader =
+          CatalogReloader.builder()
+              .configurationLoader(configurationLoader)
+              .quizService(quizService)
+              .build();
+      doReturn(configuration).when(configurationLoader).call();
+      doReturn(deckCatalog).when(quizService).reloadCatalog(configuration);
+
+      // Execution
+      Future<DeckCatalog> result = catalogReloader.reload();
+
+      // Validation
+      assertSame(deckCatalog, result.get());
+      verify(quizService).reloadCatalog(configuration);
+      verifyNoMoreInteractions(quizService);
+    }
+
+    @Test
+    void reload_whenConfigurationNotValid_thenFailureReportedAndCatalogKept() throws Exception {
+      // Setup
+      catalogReloader =
+          CatalogReloader.builder()
+              .configurationLoader(configurationLoader)
+              .quizService(quizService)
+              .build();
+      IOException cause = new IOException("bad yaml");
+      doThrow(cause).when(configurationLoader).call();
+
+      // Execution
+      Future<DeckCatalog> result = catalogReloader.reload();
+
+      // Validation
+      ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+      assertSame(cause, exception.getCause());
+      verifyNoInteractions(quizService);
+    }
+
+    @Test
+    void reload_whenStopped_thenExceptionThrown() {
+      // Setup
+      catalogReloader =
+          CatalogReloader.builder()
+              .configurationLoader(configurationLoader)
+              .quizService(quizService)
+              .build();
+      catalogReloader.stop();
+
+      // Execution
+      Executable executable = catalogReloader::reload;
+
+      // Validation
+      assertThrows(RejectedExecutionException.class, executable);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.codingchica.flashcards.api.managed;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.dropwizard.util.Duration;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the ConfigurationFileWatcher class. */
+class ConfigurationFileWatcherTest {
+  @TempDir private Path directory;
+  private Path configurationFile;
+  private final CountDownLatch changes = new CountDownLatch(1);
+  private ConfigurationFileWatcher configurationFileWatcher;
+
+  @BeforeEach
+  void setup() throws IOException {
+    configurationFile = Files.writeString(directory.resolve("config.yml"), "a: 1");
+    configurationFileWatcher =
+        ConfigurationFileWatcher.builder()
+            .configurationFile(configurationFile)
+            .quietPeriod(Duration.milliseconds(50))
+            .onChange(changes::countDown)
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    configurationFileWatcher.stop();
+  }
+
+  @Test
+  void whenConfigurationFileModified_thenCallbackInvoked() throws Exception {
+    // Setup
+    configurationFileWatcher.start();
+
+    // Execution
+    Files.writeString(configurationFile, "a: 2");
+
+    // Validation
+    assertTrue(changes.await(30, TimeUnit.SECONDS), "change noticed");
+  }
+
+  @Test
+  void whenConfigurationFileModifiedDuringQuietPeriod_thenCallbackInvokedOnce() throws Exception {
+    // Setup
+    CountDownLatch callbacks = new CountDownLatch(2);
+    configurationFileWatcher.stop();
+    configurationFileWatcher =
+        ConfigurationFileWatcher.builder()
+            .configurationFile(configurationFile)
+            .quietPeriod(Duration.seconds(2))
+            .onChange(callbacks::countDown)
+            .build();
+    configurationFileWatcher.start();
+
+    // Execution
+    Files.writeString(configurationFile, "a: 2");
+    Thread.sleep(500);
+    Files.writeString(configurationFile, "a: 3");
+
+    // Validation
+    assertFalse(callbacks.await(5, TimeUnit.SECONDS), "second callback invoked");
+    assertEquals(1, callbacks.getCount());
+  }
+
+  @Test
+  void whenOtherFileModified_thenCallbackNotInvoked() throws Exception {
+    // Setup
+    configurationFileWatcher.start();
+
+    // Execution
+    Files.writeString(directory.resolve("other.yml"), "b: 2");
+
+    // Validation
+    assertFalse(changes.await(500, TimeUnit.MILLISECONDS), "change noticed");
+  }
+
+  @Test
+  void whenNotStarted_thenStopSucceeds() {
+    // Execution & Validation
+    assertDoesNotThrow(configurationFileWatcher::stop);
+  }
+
+  @Test
+  void build_whenConfigurationFileNotInvoked_thenExceptionThrown() {
+    // Setup
+    ConfigurationFileWatcher.Builder builder =
+        ConfigurationFileWatcher.builder()
+            .quietPeriod(Duration.milliseconds(50))
+            .onChange(changes::countDown);
+
+    // Execution
+    Executable executable = builder::build;
+
+    // Validation
+    NullPointerException exception = assertThrows(NullPointerException.class, executable);
+    assertEquals("configurationFile is marked non-null but is null", exception.getMessage());
+  }
+
+  @Test
+  void configurationFile_whenNull_thenExceptionThrown() {
+    // Setup
+    ConfigurationFileWatcher.Builder builder = ConfigurationFileWatcher.builder();
+
+    // Execution
+    Executable executable = () -> builder.configurationFile(null);
+
+    // Validation
+    NullPointerException exception = assertThrows(NullPointerException.class, executable);
+    assertEquals("configurationFile is marked non-null but is null", exception.getMessage());
+  }
+
+  @Test
+  void build_whenQuietPeriodNotInvoked_thenExceptionThrown() {
+    // Setup
+    ConfigurationFileWatcher.Builder builder =
+        ConfigurationFileWatcher.builder()
+            .configurationFile(configurationFile)
+            .onChange(changes::countDown);
+
+    // Execution
+    Executable executable = builder::build;
+
+    // Validation
+    NullPointerException exception = assertThrows(NullPointerException.class, executable);
+    assertEquals("quietPeriod is marked non-null but is null", exception.getMessage());
+  }
+
+  @Test
+  void quietPeriod_whenNull_thenExceptionThrown() {
+    // Setup
+    ConfigurationFileWatcher.Builder builder = ConfigurationFileWatcher.builder();
+
+    // Execution
+    Executable executable = () -> builder.quietPeriod(null);
+
+    // Validation
+    NullPointerException exception = assertThrows(NullPointerException.class, executable);
+    assertEquals("quietPeriod is marked non-null but is null", exception.getMessage());
+  }
+
+  @Test
+  void build_whenOnChangeNotInvoked_thenExceptionThrown() {
+    // Setup
+    ConfigurationFileWatcher.Builder builder =
+        ConfigurationFileWatcher.builder()
+            .configurationFile(configurationFile)
+            .quietPeriod(Duration.milliseconds(50));
+
+    // Execution
+    Executable executable = builder::build;
+
+    // Validation
+    NullPointerException exception = assertThrows(NullPointerException.class, executable);
+    assertEquals("onChange is marked non-null but is null", exception.getMessage());
+  }
+
+  @Test
+  void onChange_whenNull_thenExceptionThrown() {
+    // Setup
+    ConfigurationFileWatcher.Builder builder = ConfigurationFileWatcher.builder();
+
+    // Execution
+    Executable executable = () -> builder.onChange(null);
+
+    // Validation
+    NullPointerException exception = assertThrows(NullPointerException.class, executable);
+    assertEquals("onChange is marked non-null but is null", exception.getMessage());
+  }
+}
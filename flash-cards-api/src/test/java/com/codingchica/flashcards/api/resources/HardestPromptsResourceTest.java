@@ -0,0 +1,116 @@
+package com.codingchica.flashcards.api.resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.PromptMisses;
+import com.codingchica.flashcards.service.HardestPromptsTracker;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HardestPromptsResourceTest {
+  private final List<PromptMisses> hardestPrompts =
+      List.of(PromptMisses.builder().prompt("7 x 8").misses(42).build());
+  @Mock private HardestPromptsTracker hardestPromptsTracker;
+  private HardestPromptsResource.Builder hardestPromptsResourceBuilder =
+      HardestPromptsResource.builder();
+  private HardestPromptsResource hardestPromptsResource;
+
+  @BeforeEach
+  void setup() {
+    hardestPromptsResourceBuilder.hardestPromptsTracker(hardestPromptsTracker);
+    hardestPromptsResource = hardestPromptsResourceBuilder.build();
+  }
+
+  @Nested
+  class ListHardestPromptsTest {
+    @Test
+    void whenInvoked_thenHardestPromptsOverallReturned() {
+      // Setup
+      doReturn(hardestPrompts).when(hardestPromptsTracker).getHardestPrompts();
+
+      // Execution
+      List<PromptMisses> result = hardestPromptsResource.listHardestPrompts();
+
+      // Validation
+      assertSame(hardestPrompts, result);
+    }
+
+    @Test
+    void whenCategoryFound_thenHardestPromptsInCategoryReturned() throws RenderableException {
+      // Setup
+      doReturn(Optional.of(hardestPrompts))
+          .when(hardestPromptsTracker)
+          .getHardestPrompts("Multiplication");
+
+      // Execution
+      List<PromptMisses> result = hardestPromptsResource.listHardestPrompts("Multiplication");
+
+      // Validation
+      assertSame(hardestPrompts, result);
+    }
+
+    @Test
+    void whenCategoryNotFound_thenExceptionThrown() {
+      // Setup
+      doReturn(Optional.empty()).when(hardestPromptsTracker).getHardestPrompts("Division");
+
+      // Execution
+      Executable executable = () -> hardestPromptsResource.listHardestPrompts("Division");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+      assertEquals("No match found for category: 'Division'", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenHardestPromptsTrackerSetNull_thenExceptionThrown() {
+      // Setup
+
+      // Execution
+      Executable executable = () -> hardestPromptsResourceBuilder.hardestPromptsTracker(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("hardestPromptsTracker is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenHardestPromptsTrackerDefault_thenExceptionThrown() {
+      // Setup
+      hardestPromptsResourceBuilder = HardestPromptsResource.builder();
+
+      // Execution
+      Executable executable = () -> hardestPromptsResourceBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("hardestPromptsTracker is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenHardestPromptsTrackerPopulated_thenReturnedInGetter() {
+      // Setup
+
+      // Execution
+      HardestPromptsTracker result = hardestPromptsResource.getHardestPromptsTracker();
+
+      // Validation
+      assertSame(hardestPromptsTracker, result);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.codingchica.flashcards.api.resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizDistribution;
+import com.codingchica.flashcards.service.QuizDistributionRecorder;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QuizDistributionResourceTest {
+  private final QuizDistribution quizDistribution =
+      QuizDistribution.builder().name("Adding 1").intervalSeconds(60).build();
+  @Mock private QuizDistributionRecorder quizDistributionRecorder;
+  private QuizDistributionResource.Builder quizDistributionResourceBuilder =
+      QuizDistributionResource.builder();
+  private QuizDistributionResource quizDistributionResource;
+
+  @BeforeEach
+  void setup() {
+    quizDistributionResourceBuilder.quizDistributionRecorder(quizDistributionRecorder);
+    quizDistributionResource = quizDistributionResourceBuilder.build();
+  }
+
+  @Nested
+  class ListDistributionsTest {
+    @Test
+    void whenInvoked_thenDistributionsOfEachQuizReturned() {
+      // Setup
+      doReturn(List.of(quizDistribution)).when(quizDistributionRecorder).getDistributions();
+
+      // Execution
+      List<QuizDistribution> result = quizDistributionResource.listDistributions();
+
+      // Validation
+      assertEquals(List.of(quizDistribution), result);
+    }
+  }
+
+  @Nested
+  class GetDistributionTest {
+    @Test
+    void whenQuizGraded_thenDistributionReturned() throws RenderableException {
+      // Setup
+      doReturn(Optional.of(quizDistribution))
+          .when(quizDistributionRecorder)
+          .getDistribution("adding 1");
+
+      // Execution
+      QuizDistribution result = quizDistributionResource.getDistribution("adding 1");
+
+      // Validation
+      assertSame(quizDistribution, result);
+    }
+
+    @Test
+    void whenQuizNotGraded_thenExceptionThrown() {
+      // Setup
+      doReturn(Optional.empty()).when(quizDistributionRecorder).getDistribution("Adding 2");
+
+      // Execution
+      Executable executable = () -> quizDistributionResource.getDistribution("Adding 2");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+      assertEquals("No distributions found for quiz: 'Adding 2'", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenQuizDistributionRecorderSetNull_thenExceptionThrown() {
+      // Setup
+
+      // Execution
+      Executable executable = () -> quizDistributionResourceBuilder.quizDistributionRecorder(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals(
+          "quizDistributionRecorder is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizDistributionRecorderDefault_thenExceptionThrown() {
+      // Setup
+      quizDistributionResourceBuilder = QuizDistributionResource.builder();
+
+      // Execution
+      Executable executable = () -> quizDistributionResourceBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals(
+          "quizDistributionRecorder is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizDistributionRecorderPopulated_thenReturnedInGetter() {
+      // Setup
+
+      // Execution
+      QuizDistributionRecorder result = quizDistributionResource.getQuizDistributionRecorder();
+
+      // Validation
+      assertSame(quizDistributionRecorder, result);
+    }
+  }
+}
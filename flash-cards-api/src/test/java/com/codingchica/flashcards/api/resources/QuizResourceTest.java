@@ -1,17 +1,37 @@
 package com.codingchica.flashcards.api.resources;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.model.external.AnswerFeedback;
 import com.codingchica.flashcards.core.model.external.CompletedQuiz;
 import com.codingchica.flashcards.core.model.external.Quiz;
 import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizSubmission;
+import com.codingchica.flashcards.core.model.external.QuizSubmissionResult;
+import com.codingchica.flashcards.core.model.external.SubmittedAnswer;
 import com.codingchica.flashcards.service.QuizService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import org.eclipse.jetty.http.HttpStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -104,7 +124,7 @@ class QuizResourceTest {
     }
 
     @Test
-    void whenQuizNameNotFound_thenExceptionThrown() {
+    void whenQuizNameNotFound_thenExceptionThrown() throws RenderableException {
       // Setup
       doReturn(Optional.empty()).when(quizService).getQuiz(quiz.getName());
 
@@ -121,18 +141,182 @@ class QuizResourceTest {
   @Nested
   class GradeQuizTest {
 
+    @Mock private AsyncResponse asyncResponse;
+
+    @Test
+    void whenGraded_thenResumedWithResult() {
+      // Setup
+      String uuid = UUID.randomUUID().toString();
+      doReturn(CompletableFuture.completedFuture(quizResult))
+          .when(quizService)
+          .gradeQuizAsync(uuid, completedQuiz);
+
+      // Execution
+      quizResource.gradeQuiz(uuid, completedQuiz, asyncResponse);
+
+      // Validation
+      verify(asyncResponse).resume(quizResult);
+      verifyNoMoreInteractions(asyncResponse);
+    }
+
+    @Test
+    void whenNotGraded_thenResumedWithException() {
+      // Setup
+      String uuid = UUID.randomUUID().toString();
+      RenderableException exception = new RetryLaterException("Busy", Duration.ofSeconds(1));
+      doReturn(CompletableFuture.failedFuture(exception))
+          .when(quizService)
+          .gradeQuizAsync(uuid, completedQuiz);
+
+      // Execution
+      quizResource.gradeQuiz(uuid, completedQuiz, asyncResponse);
+
+      // Validation
+      verify(asyncResponse).resume(exception);
+      verifyNoMoreInteractions(asyncResponse);
+    }
+
+    @Test
+    void whenWrappedException_thenResumedWithCause() {
+      // Setup
+      String uuid = UUID.randomUUID().toString();
+      RenderableException exception = new RenderableException(HttpStatus.NOT_FOUND_404, "Gone");
+      CompletableFuture<QuizResult> future = new CompletableFuture<>();
+      future.completeExceptionally(new CompletionException(exception));
+      doReturn(future).when(quizService).gradeQuizAsync(uuid, completedQuiz);
+
+      // Execution
+      quizResource.gradeQuiz(uuid, completedQuiz, asyncResponse);
+
+      // Validation
+      verify(asyncResponse).resume(exception);
+      verifyNoMoreInteractions(asyncResponse);
+    }
+
+    @Test
+    void whenWrappedExceptionWithoutCause_thenResumedWithWrapper() {
+      // Setup
+      String uuid = UUID.randomUUID().toString();
+      CompletionException exception = new CompletionException("Interrupted", null);
+      CompletableFuture<QuizResult> future = new CompletableFuture<>();
+      future.completeExceptionally(exception);
+      doReturn(future).when(quizService).gradeQuizAsync(uuid, completedQuiz);
+
+      // Execution
+      quizResource.gradeQuiz(uuid, completedQuiz, asyncResponse);
+
+      // Validation
+      verify(asyncResponse).resume(exception);
+      verifyNoMoreInteractions(asyncResponse);
+    }
+  }
+
+  @Nested
+  class GradeAnswerTest {
     @Test
-    void whenInvoked_thenSamePassedToQuizService() throws RenderableException, IOException {
+    void whenInvoked_thenSamePassedToQuizService() throws RenderableException {
       // Setup
-      UUID uuid = UUID.randomUUID();
-      doReturn(quizResult).when(quizService).gradeQuiz(uuid, completedQuiz);
+      String uuid = UUID.randomUUID().toString();
+      SubmittedAnswer submittedAnswer = SubmittedAnswer.builder().position(0).answer("2").build();
+      AnswerFeedback answerFeedback = AnswerFeedback.builder().correctAnswer(true).build();
+      doReturn(answerFeedback).when(quizService).gradeAnswer("Quiz name", uuid, submittedAnswer);
 
       // Execution
-      QuizResult result = quizResource.gradeQuiz(uuid, completedQuiz);
+      AnswerFeedback result = quizResource.gradeAnswer("Quiz name", uuid, submittedAnswer);
 
       // Validation
-      assertSame(quizResult, result);
-      verify(quizService).gradeQuiz(eq(uuid), eq(completedQuiz));
+      assertSame(answerFeedback, result);
+    }
+  }
+
+  @Nested
+  class GradeQuizzesTest {
+    private final List<QuizSubmission> submissions =
+        List.of(QuizSubmission.builder().id("id1").completedQuiz(completedQuiz).build());
+
+    /**
+     * Have the service report the outcomes provided, as if they were graded in that order.
+     *
+     * @param submissionResults The outcomes to report.
+     * @throws RenderableException never, but declared by the service method.
+     */
+    private void whenGraded(QuizSubmissionResult... submissionResults) throws RenderableException {
+      doAnswer(
+              invocation -> {
+                Consumer<QuizSubmissionResult> listener = invocation.getArgument(2);
+                Arrays.stream(submissionResults).forEach(listener);
+                return null;
+              })
+          .when(quizService)
+          .gradeQuizzes(eq("Quiz name"), eq(submissions), any());
+    }
+
+    @Test
+    void whenGraded_thenOneLinePerOutcome() throws RenderableException, IOException {
+      // Setup
+      whenGraded(
+          QuizSubmissionResult.builder()
+              .id("id1")
+              .code(HttpStatus.OK_200)
+              .result(QuizResult.builder().name("Quiz name").percentage(50).build())
+              .build(),
+          QuizSubmissionResult.builder()
+              .id("id2")
+              .code(HttpStatus.NOT_FOUND_404)
+              .message("Quiz name mismatch")
+              .build());
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+      // Execution
+      StreamingOutput streamingOutput = quizResource.gradeQuizzes("Quiz name", submissions);
+      streamingOutput.write(output);
+
+      // Validation
+      assertEquals(
+          "{\"id\":\"id1\",\"code\":200,\"result\":{\"name\":\"Quiz name\",\"promptCount\":0,"
+              + "\"correctAnswers\":0,\"percentage\":50,\"timeMinutes\":0,\"timeSeconds\":0}}\n"
+              + "{\"id\":\"id2\",\"code\":404,\"message\":\"Quiz name mismatch\"}\n",
+          output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void whenBatchFails_thenErrorLineWritten() throws RenderableException, IOException {
+      // Setup
+      doThrow(
+              new RenderableException(
+                  HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results."))
+          .when(quizService)
+          .gradeQuizzes(eq("Quiz name"), eq(submissions), any());
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+      // Execution
+      quizResource.gradeQuizzes("Quiz name", submissions).write(output);
+
+      // Validation
+      assertEquals(
+          "{\"code\":500,\"message\":\"Error while saving quiz results.\"}\n",
+          output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void whenClientGone_thenIOExceptionThrown() throws RenderableException {
+      // Setup
+      whenGraded(QuizSubmissionResult.builder().id("id1").code(HttpStatus.OK_200).build());
+      IOException failure = new IOException("Broken pipe");
+      OutputStream output =
+          new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+              throw failure;
+            }
+          };
+
+      // Execution
+      Executable executable =
+          () -> quizResource.gradeQuizzes("Quiz name", submissions).write(output);
+
+      // Validation
+      assertSame(failure, assertThrows(IOException.class, executable));
     }
   }
 
@@ -178,6 +362,50 @@ class QuizResourceTest {
       }
     }
 
+    @Nested
+    class ObjectMapperTest {
+      @Test
+      void whenObjectMapperSetNull_thenExceptionThrown() {
+        // Execution
+        Executable executable = () -> quizResourceBuilder.objectMapper(null);
+
+        // Validation
+        Exception exception = assertThrows(NullPointerException.class, executable);
+        assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+      }
+
+      @Test
+      void whenObjectMapperConstructedNull_thenExceptionThrown() {
+        // Execution
+        Executable executable = () -> new QuizResource(quizService, null);
+
+        // Validation
+        Exception exception = assertThrows(NullPointerException.class, executable);
+        assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+      }
+
+      @Test
+      void whenObjectMapperDefault_thenPopulated() {
+        // Execution
+        QuizResource quizResource = QuizResource.builder().quizService(quizService).build();
+
+        // Validation
+        assertNotNull(quizResource.getObjectMapper());
+      }
+
+      @Test
+      void whenObjectMapperPopulated_thenReturnedInGetter() {
+        // Setup
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // Execution
+        QuizResource quizResource = quizResourceBuilder.objectMapper(objectMapper).build();
+
+        // Validation
+        assertSame(objectMapper, quizResource.getObjectMapper());
+      }
+    }
+
     @Nested
     class ToStringTest {
       @Test
@@ -188,7 +416,7 @@ class QuizResourceTest {
         String result = QuizResource.builder().toString();
 
         // Validation
-        assertEquals("QuizResource.Builder(quizService=null)", result);
+        assertEquals("QuizResource.Builder(quizService=null, objectMapper$value=null)", result);
       }
     }
   }
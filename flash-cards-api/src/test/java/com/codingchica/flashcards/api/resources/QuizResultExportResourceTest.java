@@ -0,0 +1,394 @@
+package com.codingchica.flashcards.api.resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.service.QuizResultHistory;
+import com.codingchica.flashcards.service.SavedQuizResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class QuizResultExportResourceTest {
+  private static final Instant SAVED_AT = Instant.parse("2024-01-31T10:15:30.123Z");
+
+  private final RecordingQuizResultHistory quizResultHistory = new RecordingQuizResultHistory();
+  private QuizResultExportResource.Builder quizResultExportResourceBuilder =
+      QuizResultExportResource.builder();
+  private QuizResultExportResource quizResultExportResource;
+
+  /** Passes the results it was given to each action, remembering what it was asked for. */
+  private static class RecordingQuizResultHistory implements QuizResultHistory {
+    private final List<SavedQuizResult> savedQuizResults = new ArrayList<>();
+    private String name;
+    private Instant from;
+    private Instant to;
+
+    @Override
+    public void forEach(String name, Instant from, Instant to, Consumer<SavedQuizResult> action) {
+      this.name = name;
+      this.from = from;
+      this.to = to;
+      savedQuizResults.forEach(action);
+    }
+  }
+
+  @BeforeEach
+  void setup() {
+    quizResultExportResourceBuilder.quizResultHistory(quizResultHistory);
+    quizResultExportResource = quizResultExportResourceBuilder.build();
+  }
+
+  private void save(String name, int correctAnswers) {
+    quizResultHistory.savedQuizResults.add(
+        SavedQuizResult.builder()
+            .savedAt(SAVED_AT)
+            .quizResult(
+                QuizResult.builder()
+                    .name(name)
+                    .promptCount(4)
+                    .correctAnswers(correctAnswers)
+                    .percentage(correctAnswers * 25)
+                    .timeMinutes(1)
+                    .timeSeconds(5)
+                    .build())
+            .build());
+  }
+
+  private static String write(Response response) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(output);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  @Nested
+  class ExportResultsTest {
+    @Test
+    void whenFormatDefault_thenJsonLinesWritten() throws RenderableException, IOException {
+      // Setup
+      save("Adding 1", 3);
+      save("Adding 2", 4);
+
+      // Execution
+      Response response = quizResultExportResource.exportResults(null, null, null, "jsonl");
+
+      // Validation
+      assertEquals(HttpStatus.OK_200, response.getStatus());
+      assertEquals(QuizResource.APPLICATION_NDJSON, response.getMediaType().toString());
+      assertEquals(
+          "attachment; filename=\"quiz-results.jsonl\"",
+          response.getHeaderString(HttpHeaders.CONTENT_DISPOSITION));
+      assertEquals(
+          "{\"savedAt\":\"2024-01-31T10:15:30.123Z\",\"name\":\"Adding 1\",\"promptCount\":4,"
+              + "\"correctAnswers\":3,\"percentage\":75,\"timeMinutes\":1,\"timeSeconds\":5}\n"
+              + "{\"savedAt\":\"2024-01-31T10:15:30.123Z\",\"name\":\"Adding 2\",\"promptCount\":4,"
+              + "\"correctAnswers\":4,\"percentage\":100,\"timeMinutes\":1,\"timeSeconds\":5}\n",
+          write(response));
+    }
+
+    @Test
+    void whenFormatCsv_thenHeaderAndRowsWritten() throws RenderableException, IOException {
+      // Setup
+      save("Adding 1", 3);
+      save("Adding \"one\", again", 4);
+
+      // Execution
+      Response response = quizResultExportResource.exportResults(null, null, null, "CSV");
+
+      // Validation
+      assertEquals(QuizResultExportResource.TEXT_CSV, response.getMediaType().toString());
+      assertEquals(
+          "attachment; filename=\"quiz-results.csv\"",
+          response.getHeaderString(HttpHeaders.CONTENT_DISPOSITION));
+      assertEquals(
+          QuizResultExportResource.CSV_HEADER
+              + "\r\n"
+              + "2024-01-31T10:15:30.123Z,Adding 1,4,3,75,1,5\r\n"
+              + "2024-01-31T10:15:30.123Z,\"Adding \"\"one\"\", again\",4,4,100,1,5\r\n",
+          write(response));
+    }
+
+    @Test
+    void whenNothingSaved_thenOnlyHeaderWritten() throws RenderableException, IOException {
+      // Execution
+      Response response = quizResultExportResource.exportResults(null, null, null, "csv");
+
+      // Validation
+      assertEquals(QuizResultExportResource.CSV_HEADER + "\r\n", write(response));
+    }
+
+    @Test
+    void whenFiltersSet_thenPassedToHistory() throws RenderableException, IOException {
+      // Execution
+      Response response =
+          quizResultExportResource.exportResults(
+              "Adding 1", "2024-01-01T00:00:00Z", "2024-02-01T00:00:00Z", "jsonl");
+
+      // Validation
+      assertEquals("", write(response));
+      assertEquals("Adding 1", quizResultHistory.name);
+      assertEquals(Instant.parse("2024-01-01T00:00:00Z"), quizResultHistory.from);
+      assertEquals(Instant.parse("2024-02-01T00:00:00Z"), quizResultHistory.to);
+    }
+
+    @Test
+    void whenFiltersBlank_thenEverythingAskedFor() throws RenderableException, IOException {
+      // Execution
+      Response response = quizResultExportResource.exportResults(" ", "", null, "jsonl");
+
+      // Validation
+      write(response);
+      assertNull(quizResultHistory.name);
+      assertEquals(Instant.MIN, quizResultHistory.from);
+      assertEquals(Instant.MAX, quizResultHistory.to);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jsonl", "csv"})
+    void whenChunkWritten_thenSentBeforeExportFinished(String format)
+        throws RenderableException, IOException {
+      // Setup
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      List<Integer> sizesSent = new ArrayList<>();
+      QuizResultExportResource resource =
+          QuizResultExportResource.builder()
+              .quizResultHistory(
+                  (name, from, to, action) -> {
+                    for (int i = 0; i < QuizResultExportResource.CHUNK_RESULTS; i++) {
+                      sizesSent.add(output.size());
+                      action.accept(quizResultHistory.savedQuizResults.get(0));
+                    }
+                    sizesSent.add(output.size());
+                  })
+              .build();
+      save("Adding 1", 3);
+      Response response = resource.exportResults(null, null, null, format);
+
+      // Execution
+      ((StreamingOutput) response.getEntity()).write(output);
+
+      // Validation
+      assertEquals(0, sizesSent.get(0));
+      assertEquals(output.size(), sizesSent.get(sizesSent.size() - 1));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "'Adding, again','\"Adding, again\"'",
+          "'Adding \"one\"','\"Adding \"\"one\"\"\"'",
+          "'Adding\nagain','\"Adding\nagain\"'",
+          "'Adding\ragain','\"Adding\ragain\"'"
+        })
+    void whenNameHasSeparator_thenQuoted(String name, String expected)
+        throws RenderableException, IOException {
+      // Setup
+      save(name.translateEscapes(), 3);
+
+      // Execution
+      Response response = quizResultExportResource.exportResults(null, null, null, "csv");
+
+      // Validation
+      assertEquals(
+          QuizResultExportResource.CSV_HEADER
+              + "\r\n"
+              + "2024-01-31T10:15:30.123Z,"
+              + expected.translateEscapes()
+              + ",4,3,75,1,5\r\n",
+          write(response));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jsonl", "csv"})
+    void whenResponseCannotBeWrittenMidExport_thenIOExceptionThrown(String format)
+        throws RenderableException {
+      // Setup
+      for (int i = 0; i < QuizResultExportResource.CHUNK_RESULTS; i++) {
+        save("Adding 1", 3);
+      }
+      Response response = quizResultExportResource.exportResults(null, null, null, format);
+      OutputStream output =
+          new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+              throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+              throw new IOException("Broken pipe");
+            }
+          };
+
+      // Execution
+      Executable executable = () -> ((StreamingOutput) response.getEntity()).write(output);
+
+      // Validation
+      IOException exception = assertThrows(IOException.class, executable);
+      assertEquals("Broken pipe", exception.getMessage());
+    }
+
+    @Test
+    void whenResponseCannotBeWritten_thenIOExceptionThrown() throws RenderableException {
+      // Setup
+      save("Adding 1", 3);
+      Response response = quizResultExportResource.exportResults(null, null, null, "csv");
+      OutputStream output =
+          new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+              throw new IOException("Broken pipe");
+            }
+          };
+
+      // Execution
+      Executable executable = () -> ((StreamingOutput) response.getEntity()).write(output);
+
+      // Validation
+      IOException exception = assertThrows(IOException.class, executable);
+      assertEquals("Broken pipe", exception.getMessage());
+    }
+
+    @Test
+    void whenFormatUnknown_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizResultExportResource.exportResults(null, null, null, "xml");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.BAD_REQUEST_400, exception.getHttpStatus());
+      assertEquals("format must be jsonl or csv, not: 'xml'", exception.getMessage());
+    }
+
+    @Test
+    void whenFromNotInstant_thenExceptionThrown() {
+      // Execution
+      Executable executable =
+          () -> quizResultExportResource.exportResults(null, "yesterday", null, "jsonl");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.BAD_REQUEST_400, exception.getHttpStatus());
+      assertEquals(
+          "from must be an ISO-8601 instant, e.g. 2024-01-31T00:00:00Z, not: 'yesterday'",
+          exception.getMessage());
+    }
+
+    @Test
+    void whenFromAfterTo_thenExceptionThrown() {
+      // Execution
+      Executable executable =
+          () ->
+              quizResultExportResource.exportResults(
+                  null, "2024-02-01T00:00:00Z", "2024-01-01T00:00:00Z", "jsonl");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.BAD_REQUEST_400, exception.getHttpStatus());
+      assertEquals("from must not be after to", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenQuizResultHistorySetNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizResultExportResourceBuilder.quizResultHistory(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResultHistory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultHistoryDefault_thenExceptionThrown() {
+      // Setup
+      quizResultExportResourceBuilder = QuizResultExportResource.builder();
+
+      // Execution
+      Executable executable = () -> quizResultExportResourceBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResultHistory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultHistoryPopulated_thenReturnedInGetter() {
+      // Execution
+      QuizResultHistory result = quizResultExportResource.getQuizResultHistory();
+
+      // Validation
+      assertSame(quizResultHistory, result);
+    }
+
+    @Test
+    void whenJsonFactoryDefault_thenPopulated() {
+      // Execution & Validation
+      assertNotNull(quizResultExportResource.getJsonFactory());
+    }
+
+    @Test
+    void whenJsonFactorySetNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizResultExportResourceBuilder.jsonFactory(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("jsonFactory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenJsonFactoryConstructedNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new QuizResultExportResource(quizResultHistory, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("jsonFactory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenJsonFactoryPopulated_thenReturnedInGetter() {
+      // Setup
+      JsonFactory jsonFactory = new JsonFactory();
+
+      // Execution
+      QuizResultExportResource result =
+          quizResultExportResourceBuilder.jsonFactory(jsonFactory).build();
+
+      // Validation
+      assertSame(jsonFactory, result.getJsonFactory());
+    }
+
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execution
+      String result = QuizResultExportResource.builder().toString();
+
+      // Validation
+      assertEquals(
+          "QuizResultExportResource.Builder(quizResultHistory=null, jsonFactory$value=null)",
+          result);
+    }
+  }
+}
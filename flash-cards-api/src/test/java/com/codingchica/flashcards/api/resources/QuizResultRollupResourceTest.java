@@ -0,0 +1,154 @@
+package com.codingchica.flashcards.api.resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResultRollup;
+import com.codingchica.flashcards.service.QuizResultRollups;
+import java.time.Instant;
+import java.util.List;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QuizResultRollupResourceTest {
+  private final QuizResultRollup quizResultRollup =
+      QuizResultRollup.builder()
+          .name("Adding 1")
+          .granularity(QuizResultRollup.Granularity.DAY)
+          .start(Instant.parse("2024-01-31T00:00:00Z"))
+          .count(3)
+          .build();
+  @Mock private QuizResultRollups quizResultRollups;
+  private QuizResultRollupResource.Builder quizResultRollupResourceBuilder =
+      QuizResultRollupResource.builder();
+  private QuizResultRollupResource quizResultRollupResource;
+
+  @BeforeEach
+  void setup() {
+    quizResultRollupResourceBuilder.quizResultRollups(quizResultRollups);
+    quizResultRollupResource = quizResultRollupResourceBuilder.build();
+  }
+
+  @Nested
+  class ListRollupsTest {
+    @Test
+    void whenFiltersSet_thenRollupsForThoseReturned() throws RenderableException {
+      // Setup
+      doReturn(List.of(quizResultRollup))
+          .when(quizResultRollups)
+          .getRollups(
+              "Adding 1",
+              Instant.parse("2024-01-01T00:00:00Z"),
+              Instant.parse("2024-02-01T00:00:00Z"));
+
+      // Execution
+      List<QuizResultRollup> result =
+          quizResultRollupResource.listRollups(
+              "Adding 1", "2024-01-01T00:00:00Z", "2024-02-01T00:00:00Z");
+
+      // Validation
+      assertEquals(List.of(quizResultRollup), result);
+    }
+
+    @Test
+    void whenFiltersBlank_thenEverythingReturned() throws RenderableException {
+      // Setup
+      doReturn(List.of(quizResultRollup))
+          .when(quizResultRollups)
+          .getRollups(null, Instant.MIN, Instant.MAX);
+
+      // Execution
+      List<QuizResultRollup> result = quizResultRollupResource.listRollups(" ", "", null);
+
+      // Validation
+      assertEquals(List.of(quizResultRollup), result);
+    }
+
+    @Test
+    void whenFiltersOmitted_thenEverythingReturned() throws RenderableException {
+      // Setup
+      doReturn(List.of(quizResultRollup))
+          .when(quizResultRollups)
+          .getRollups(null, Instant.MIN, Instant.MAX);
+
+      // Execution
+      List<QuizResultRollup> result = quizResultRollupResource.listRollups(null, null, null);
+
+      // Validation
+      assertEquals(List.of(quizResultRollup), result);
+    }
+
+    @Test
+    void whenToNotInstant_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizResultRollupResource.listRollups(null, null, "tomorrow");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.BAD_REQUEST_400, exception.getHttpStatus());
+      assertEquals(
+          "to must be an ISO-8601 instant, e.g. 2024-01-31T00:00:00Z, not: 'tomorrow'",
+          exception.getMessage());
+      verifyNoInteractions(quizResultRollups);
+    }
+
+    @Test
+    void whenFromAfterTo_thenExceptionThrown() {
+      // Execution
+      Executable executable =
+          () ->
+              quizResultRollupResource.listRollups(
+                  null, "2024-02-01T00:00:00Z", "2024-01-01T00:00:00Z");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.BAD_REQUEST_400, exception.getHttpStatus());
+      assertEquals("from must not be after to", exception.getMessage());
+      verifyNoInteractions(quizResultRollups);
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenQuizResultRollupsSetNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizResultRollupResourceBuilder.quizResultRollups(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResultRollups is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultRollupsDefault_thenExceptionThrown() {
+      // Setup
+      quizResultRollupResourceBuilder = QuizResultRollupResource.builder();
+
+      // Execution
+      Executable executable = () -> quizResultRollupResourceBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResultRollups is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultRollupsPopulated_thenReturnedInGetter() {
+      // Execution
+      QuizResultRollups result = quizResultRollupResource.getQuizResultRollups();
+
+      // Validation
+      assertSame(quizResultRollups, result);
+    }
+  }
+}
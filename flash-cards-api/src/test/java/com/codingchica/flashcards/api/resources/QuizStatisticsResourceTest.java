@@ -0,0 +1,121 @@
+package com.codingchica.flashcards.api.resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizStatistics;
+import com.codingchica.flashcards.service.QuizStatisticsAggregator;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QuizStatisticsResourceTest {
+  private final QuizStatistics quizStatistics =
+      QuizStatistics.builder().name("Adding 1").attempts(2).mostMissedPrompts(List.of()).build();
+  @Mock private QuizStatisticsAggregator quizStatisticsAggregator;
+  private QuizStatisticsResource.Builder quizStatisticsResourceBuilder =
+      QuizStatisticsResource.builder();
+  private QuizStatisticsResource quizStatisticsResource;
+
+  @BeforeEach
+  void setup() {
+    quizStatisticsResourceBuilder.quizStatisticsAggregator(quizStatisticsAggregator);
+    quizStatisticsResource = quizStatisticsResourceBuilder.build();
+  }
+
+  @Nested
+  class ListStatisticsTest {
+    @Test
+    void whenInvoked_thenStatisticsOfEachQuizReturned() {
+      // Setup
+      doReturn(List.of(quizStatistics)).when(quizStatisticsAggregator).getStatistics();
+
+      // Execution
+      List<QuizStatistics> result = quizStatisticsResource.listStatistics();
+
+      // Validation
+      assertEquals(List.of(quizStatistics), result);
+    }
+  }
+
+  @Nested
+  class GetStatisticsTest {
+    @Test
+    void whenQuizGraded_thenStatisticsReturned() throws RenderableException {
+      // Setup
+      doReturn(Optional.of(quizStatistics))
+          .when(quizStatisticsAggregator)
+          .getStatistics("adding 1");
+
+      // Execution
+      QuizStatistics result = quizStatisticsResource.getStatistics("adding 1");
+
+      // Validation
+      assertSame(quizStatistics, result);
+    }
+
+    @Test
+    void whenQuizNotGraded_thenExceptionThrown() {
+      // Setup
+      doReturn(Optional.empty()).when(quizStatisticsAggregator).getStatistics("Adding 2");
+
+      // Execution
+      Executable executable = () -> quizStatisticsResource.getStatistics("Adding 2");
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+      assertEquals("No statistics found for quiz: 'Adding 2'", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenQuizStatisticsAggregatorSetNull_thenExceptionThrown() {
+      // Setup
+
+      // Execution
+      Executable executable = () -> quizStatisticsResourceBuilder.quizStatisticsAggregator(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals(
+          "quizStatisticsAggregator is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizStatisticsAggregatorDefault_thenExceptionThrown() {
+      // Setup
+      quizStatisticsResourceBuilder = QuizStatisticsResource.builder();
+
+      // Execution
+      Executable executable = () -> quizStatisticsResourceBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals(
+          "quizStatisticsAggregator is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizStatisticsAggregatorPopulated_thenReturnedInGetter() {
+      // Setup
+
+      // Execution
+      QuizStatisticsAggregator result = quizStatisticsResource.getQuizStatisticsAggregator();
+
+      // Validation
+      assertSame(quizStatisticsAggregator, result);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.codingchica.flashcards.api.tasks;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.codingchica.flashcards.api.managed.CatalogReloader;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for the ReloadCatalogTask class. */
+@ExtendWith(MockitoExtension.class)
+class ReloadCatalogTaskTest {
+  @Mock private CatalogReloader catalogReloader;
+  private final StringWriter output = new StringWriter();
+
+  @Test
+  void constructor_whenCatalogReloaderNull_thenExceptionThrown() {
+    // Execution
+    Executable executable = () -> new ReloadCatalogTask(null);
+
+    // Validation
+    NullPointerException exception = assertThrows(NullPointerException.class, executable);
+    assertEquals("catalogReloader is marked non-null but is null", exception.getMessage());
+  }
+
+  @Test
+  void getName_whenInvoked_thenExpectedValueReturned() {
+    // Execution
+    String result = new ReloadCatalogTask(catalogReloader).getName();
+
+    // Validation
+    assertEquals("reload-catalog", result);
+  }
+
+  @Test
+  void execute_whenReloadSucceeds_thenDeckCountReported() throws Exception {
+    // Setup
+    DeckCatalog deckCatalog = DeckCatalog.compile(Map.of());
+    doReturn(CompletableFuture.completedFuture(deckCatalog)).when(catalogReloader).reload();
+
+    // Execution
+    new ReloadCatalogTask(catalogReloader).execute(Map.of(), new PrintWriter(output, true));
+
+    // Validation
+    assertEquals(String.format("Reloaded catalog with 0 quizzes.%n"), output.toString());
+  }
+
+  @Test
+  void execute_whenReloadFails_thenCauseThrown() {
+    // Setup
+    IOException cause = new IOException("bad yaml");
+    doReturn(CompletableFuture.failedFuture(cause)).when(catalogReloader).reload();
+    ReloadCatalogTask task = new ReloadCatalogTask(catalogReloader);
+
+    // Execution
+    Executable executable = () -> task.execute(Map.of(), new PrintWriter(output, true));
+
+    // Validation
+    assertSame(cause, assertThrows(IOException.class, executable));
+  }
+
+  @Test
+  void execute_whenReloadFailsWithError_thenExecutionExceptionThrown() {
+    // Setup
+    AssertionError cause = new AssertionError("unexpected");
+    doReturn(CompletableFuture.failedFuture(cause)).when(catalogReloader).reload();
+    ReloadCatalogTask task = new ReloadCatalogTask(catalogReloader);
+
+    // Execution
+    Executable executable = () -> task.execute(Map.of(), new PrintWriter(output, true));
+
+    // Validation
+    ExecutionException exception = assertThrows(ExecutionException.class, executable);
+    assertSame(cause, exception.getCause());
+  }
+}
@@ -147,6 +147,39 @@ public class GenericAPISteps {
     world.requestBody = objectMapper.writeValueAsString(completedQuiz);
   }
 
+  @Given("that a quiz has been graded with {int} correct answers")
+  public void gradeQuiz(int correctAnswerCount) throws URISyntaxException, IOException {
+    getQuizId();
+    thatMyRequestBodyIsForQuizAddingWithCorrectAnswersCountCorrectAnswers(
+        "Adding 0", correctAnswerCount);
+
+    String endpoint =
+        String.format(
+            "%s://%s:%s/quizzes/Adding%%200/%s",
+            world.protocol, world.server, world.port, world.id);
+    log.debug(endpoint);
+    URL url = new URI(endpoint).toURL();
+    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+    connection.setRequestProperty("Content-Type", "application/json");
+    connection.setRequestMethod("POST");
+    connection.setDoOutput(true);
+    try (final OutputStream outputStream = connection.getOutputStream();
+        final OutputStreamWriter outputStreamWriter =
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8.name())) {
+      outputStreamWriter.write(world.requestBody);
+    }
+
+    // Execution
+    connection.connect();
+    assertEquals(200, connection.getResponseCode(), "http status code mismatch grading quiz");
+    log.debug(getResponseBody(connection));
+
+    // The quiz graded is not the subject of the request which follows.
+    world.requestBody = null;
+    world.quiz = null;
+    world.id = null;
+  }
+
   @Given("that my request contains header {word} = {word}")
   public void setContentTypeRequestHeader(String header, String value) {
     world.requestHeaders.put(header, value);
@@ -159,7 +192,7 @@ public class GenericAPISteps {
 
   @Given("that my request body is {string}")
   public void setRequestBody(String body) {
-    world.requestBody = body;
+    world.requestBody = replaceKeywords(body);
   }
 
   @When("I submit the request")
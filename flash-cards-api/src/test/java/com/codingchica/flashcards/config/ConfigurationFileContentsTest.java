@@ -5,8 +5,18 @@ import static org.junit.jupiter.api.Assertions.*;
 import ch.qos.logback.access.spi.IAccessEvent;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.codahale.metrics.annotation.ResponseMeteredLevel;
+import com.codingchica.flashcards.core.config.CatalogReloadConfiguration;
 import com.codingchica.flashcards.core.config.FlashCardGroup;
 import com.codingchica.flashcards.core.config.FlashCardsConfiguration;
+import com.codingchica.flashcards.core.config.GradingConfiguration;
+import com.codingchica.flashcards.core.config.HardestPromptsConfiguration;
+import com.codingchica.flashcards.core.config.QuizDistributionsConfiguration;
+import com.codingchica.flashcards.core.config.QuizPoolConfiguration;
+import com.codingchica.flashcards.core.config.QuizResultRollupsConfiguration;
+import com.codingchica.flashcards.core.config.QuizResultsConfiguration;
+import com.codingchica.flashcards.core.config.QuizSessionsConfiguration;
+import com.codingchica.flashcards.core.config.QuizStatisticsConfiguration;
+import com.codingchica.flashcards.core.config.QuizTokenConfiguration;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -163,8 +173,18 @@ public class ConfigurationFileContentsTest {
         () -> assertNotNullAndLog(configPOJO.getMetricsFactory(), prefix + ".metricsFactory"),
         () -> assertNotNullAndLog(configPOJO.getServerFactory(), prefix + ".serverFactory"),
         // My fields
-        () ->
-            assertNotNullAndLog(configPOJO.getFlashCardGroupMap(), prefix + ".flashCardGroupMap"));
+        () -> assertNotNullAndLog(configPOJO.getFlashCardGroupMap(), prefix + ".flashCardGroupMap"),
+        () -> assertNotNullAndLog(configPOJO.getCatalogReload(), prefix + ".catalogReload"),
+        () -> assertNotNullAndLog(configPOJO.getQuizPool(), prefix + ".quizPool"),
+        () -> assertNotNullAndLog(configPOJO.getQuizTokens(), prefix + ".quizTokens"),
+        () -> assertNotNullAndLog(configPOJO.getQuizSessions(), prefix + ".quizSessions"),
+        () -> assertNotNullAndLog(configPOJO.getGrading(), prefix + ".grading"),
+        () -> assertNotNullAndLog(configPOJO.getQuizResults(), prefix + ".quizResults"),
+        () -> assertNotNullAndLog(configPOJO.getQuizStatistics(), prefix + ".quizStatistics"),
+        () -> assertNotNullAndLog(configPOJO.getHardestPrompts(), prefix + ".hardestPrompts"),
+        () -> assertNotNullAndLog(configPOJO.getQuizDistributions(), prefix + ".quizDistributions"),
+        () ->
+            assertNotNullAndLog(configPOJO.getQuizResultRollups(), prefix + ".quizResultRollups"));
     assertAllFieldsUsedAndClear();
 
     // Drill into nested objects for validations.
@@ -174,6 +194,16 @@ public class ConfigurationFileContentsTest {
     testContents(configPOJO.getMetricsFactory());
     testContents(configPOJO.getServerFactory());
     // My fields
+    testContents(configPOJO.getCatalogReload());
+    testContents(configPOJO.getQuizPool());
+    testContents(configPOJO.getQuizTokens());
+    testContents(configPOJO.getQuizSessions());
+    testContents(configPOJO.getGrading());
+    testContents(configPOJO.getQuizResults());
+    testContents(configPOJO.getQuizStatistics());
+    testContents(configPOJO.getHardestPrompts());
+    testContents(configPOJO.getQuizDistributions());
+    testContents(configPOJO.getQuizResultRollups());
     if (isTestConfig) {
       testContents_FlashCardGroupMapTest(configPOJO.getFlashCardGroupMap());
     } else {
@@ -181,6 +211,272 @@ public class ConfigurationFileContentsTest {
     }
   }
 
+  private void testContents(@NonNull CatalogReloadConfiguration catalogReload) {
+    // Setup
+    String prefix = "catalogReload";
+    expectClassFieldsTested(prefix, CatalogReloadConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () ->
+            assertEqualsAndLog(
+                isTestConfig, catalogReload.isWatchConfigFile(), prefix + ".watchConfigFile"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.seconds(2),
+                catalogReload.getQuietPeriod(),
+                prefix + ".quietPeriod"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull QuizPoolConfiguration quizPool) {
+    // Setup
+    String prefix = "quizPool";
+    expectClassFieldsTested(prefix, QuizPoolConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () -> assertFalseAndLog(quizPool.isEnabled(), prefix + ".enabled"),
+        () -> assertEqualsAndLog(8, quizPool.getDepthPerQuiz(), prefix + ".depthPerQuiz"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull GradingConfiguration grading) {
+    // Setup
+    String prefix = "grading";
+    expectClassFieldsTested(prefix, GradingConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () -> assertEqualsAndLog(4, grading.getThreads(), prefix + ".threads"),
+        () -> assertEqualsAndLog(256, grading.getQueueCapacity(), prefix + ".queueCapacity"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.seconds(1),
+                grading.getRetryAfter(),
+                prefix + ".retryAfter"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull QuizResultsConfiguration quizResults) {
+    // Setup
+    String prefix = "quizResults";
+    expectClassFieldsTested(prefix, QuizResultsConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () ->
+            assertEqualsAndLog(
+                isTestConfig
+                    ? QuizResultsConfiguration.Storage.MAPPED
+                    : QuizResultsConfiguration.Storage.JOURNAL,
+                quizResults.getStorage(),
+                prefix + ".storage"),
+        () ->
+            assertEqualsAndLog(
+                isTestConfig ? "target/quiz-results" : "quiz-results",
+                quizResults.getDirectory(),
+                prefix + ".directory"),
+        () ->
+            assertEqualsAndLog(
+                DataSize.mebibytes(64), quizResults.getSegmentSize(), prefix + ".segmentSize"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.milliseconds(10),
+                quizResults.getCommitInterval(),
+                prefix + ".commitInterval"),
+        () -> assertEqualsAndLog(256, quizResults.getCommitRecords(), prefix + ".commitRecords"),
+        () -> assertEqualsAndLog(16_384, quizResults.getQueueCapacity(), prefix + ".queueCapacity"),
+        () ->
+            assertEqualsAndLog(
+                1024, quizResults.getMaximumBatchSize(), prefix + ".maximumBatchSize"),
+        () ->
+            assertEqualsAndLog(
+                QuizResultsConfiguration.WhenQueueFull.BLOCK,
+                quizResults.getWhenQueueFull(),
+                prefix + ".whenQueueFull"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.seconds(1),
+                quizResults.getRetryAfter(),
+                prefix + ".retryAfter"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull QuizStatisticsConfiguration quizStatistics) {
+    // Setup
+    String prefix = "quizStatistics";
+    expectClassFieldsTested(prefix, QuizStatisticsConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () ->
+            assertEqualsAndLog(
+                isTestConfig ? "target/quiz-statistics.json" : "quiz-statistics.json",
+                quizStatistics.getCheckpointFile(),
+                prefix + ".checkpointFile"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.minutes(1),
+                quizStatistics.getCheckpointInterval(),
+                prefix + ".checkpointInterval"),
+        () ->
+            assertEqualsAndLog(
+                10, quizStatistics.getMostMissedPrompts(), prefix + ".mostMissedPrompts"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull HardestPromptsConfiguration hardestPrompts) {
+    // Setup
+    String prefix = "hardestPrompts";
+    expectClassFieldsTested(prefix, HardestPromptsConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () -> assertEqualsAndLog(20, hardestPrompts.getLimit(), prefix + ".limit"),
+        () -> assertEqualsAndLog(2048, hardestPrompts.getSketchWidth(), prefix + ".sketchWidth"),
+        () -> assertEqualsAndLog(4, hardestPrompts.getSketchDepth(), prefix + ".sketchDepth"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull QuizDistributionsConfiguration quizDistributions) {
+    // Setup
+    String prefix = "quizDistributions";
+    expectClassFieldsTested(prefix, QuizDistributionsConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.minutes(1),
+                quizDistributions.getInterval(),
+                prefix + ".interval"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.hours(1),
+                quizDistributions.getMaximumTime(),
+                prefix + ".maximumTime"),
+        () ->
+            assertEqualsAndLog(
+                2, quizDistributions.getSignificantDigits(), prefix + ".significantDigits"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull QuizResultRollupsConfiguration quizResultRollups) {
+    // Setup
+    String prefix = "quizResultRollups";
+    expectClassFieldsTested(prefix, QuizResultRollupsConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () ->
+            assertEqualsAndLog(
+                isTestConfig ? "target/quiz-result-rollups.json" : "quiz-result-rollups.json",
+                quizResultRollups.getFile(),
+                prefix + ".file"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.days(7),
+                quizResultRollups.getRawRetention(),
+                prefix + ".rawRetention"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.days(30),
+                quizResultRollups.getHourlyRetention(),
+                prefix + ".hourlyRetention"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.hours(1),
+                quizResultRollups.getCompactionInterval(),
+                prefix + ".compactionInterval"),
+        () ->
+            assertNullAndLog(
+                quizResultRollups.getArchiveDirectory(), prefix + ".archiveDirectory"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull QuizTokenConfiguration quizTokens) {
+    // Setup
+    String prefix = "quizTokens";
+    expectClassFieldsTested(prefix, QuizTokenConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () -> assertFalseAndLog(quizTokens.isEnabled(), prefix + ".enabled"),
+        () -> assertNullAndLog(quizTokens.getSecret(), prefix + ".secret"),
+        () -> assertTrueAndLog(quizTokens.isSecretValid(), prefix + ".secretValid"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.hours(3), quizTokens.getMaxAge(), prefix + ".maxAge"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
+  private void testContents(@NonNull QuizSessionsConfiguration quizSessions) {
+    // Setup
+    String prefix = "quizSessions";
+    expectClassFieldsTested(prefix, QuizSessionsConfiguration.class);
+
+    // Validation
+    // Immediate fields
+    assertAll(
+        () ->
+            assertEqualsAndLog(
+                QuizSessionsConfiguration.Storage.HEAP,
+                quizSessions.getStorage(),
+                prefix + ".storage"),
+        () ->
+            assertEqualsAndLog(
+                100_000L, quizSessions.getMaximumPrompts(), prefix + ".maximumPrompts"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.hours(3),
+                quizSessions.getExpireAfter(),
+                prefix + ".expireAfter"),
+        () -> assertFalseAndLog(quizSessions.isRejectWhenFull(), prefix + ".rejectWhenFull"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.seconds(30),
+                quizSessions.getRetryAfter(),
+                prefix + ".retryAfter"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.DataSize.mebibytes(256),
+                quizSessions.getOffHeapSize(),
+                prefix + ".offHeapSize"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.DataSize.mebibytes(4),
+                quizSessions.getSlabSize(),
+                prefix + ".slabSize"),
+        () -> assertTrueAndLog(quizSessions.isOffHeapSizeValid(), prefix + ".offHeapSizeValid"),
+        () -> assertNullAndLog(quizSessions.getJournalDirectory(), prefix + ".journalDirectory"),
+        () ->
+            assertEqualsAndLog(
+                io.dropwizard.util.Duration.minutes(5),
+                quizSessions.getSnapshotInterval(),
+                prefix + ".snapshotInterval"));
+    assertAllFieldsUsedAndClear();
+    // No nested objects to check.
+  }
+
   public void testContents_FlashCardGroupMapProd(
       @NonNull Map<String, List<FlashCardGroup>> flashCardGroupMap) {
     // Setup
@@ -336,7 +632,13 @@ public class ConfigurationFileContentsTest {
         () ->
             assertEqualsAndLog(
                 maxPrompts, flashCardGroup.getMinimumPrompts(), name + ".minimumPrompts"),
-        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"));
+        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"),
+        () ->
+            assertEqualsAndLog(
+                FlashCardGroup.AnswerMatching.NUMERIC,
+                flashCardGroup.getAnswerMatching(),
+                name + ".answerMatching"),
+        () -> assertEqualsAndLog(2, flashCardGroup.getMaximumEdits(), name + ".maximumEdits"));
   }
 
   public void testSubtraction(
@@ -377,7 +679,13 @@ public class ConfigurationFileContentsTest {
                 expectedPrompts.get(), flashCardGroup.getPrompts(), name + ".prompts"),
         () -> assertEqualsAndLog(20, flashCardGroup.getMaximumPrompts(), name + ".maximumPrompts"),
         () -> assertEqualsAndLog(20, flashCardGroup.getMinimumPrompts(), name + ".minimumPrompts"),
-        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"));
+        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"),
+        () ->
+            assertEqualsAndLog(
+                FlashCardGroup.AnswerMatching.NUMERIC,
+                flashCardGroup.getAnswerMatching(),
+                name + ".answerMatching"),
+        () -> assertEqualsAndLog(2, flashCardGroup.getMaximumEdits(), name + ".maximumEdits"));
   }
 
   public void testMultiplication(
@@ -418,7 +726,13 @@ public class ConfigurationFileContentsTest {
                 expectedPrompts.get(), flashCardGroup.getPrompts(), name + ".prompts"),
         () -> assertEqualsAndLog(20, flashCardGroup.getMaximumPrompts(), name + ".maximumPrompts"),
         () -> assertEqualsAndLog(20, flashCardGroup.getMinimumPrompts(), name + ".minimumPrompts"),
-        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"));
+        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"),
+        () ->
+            assertEqualsAndLog(
+                FlashCardGroup.AnswerMatching.NUMERIC,
+                flashCardGroup.getAnswerMatching(),
+                name + ".answerMatching"),
+        () -> assertEqualsAndLog(2, flashCardGroup.getMaximumEdits(), name + ".maximumEdits"));
   }
 
   public void testDivision(String name, @NonNull List<FlashCardGroup> flashCardGroups, int factor) {
@@ -459,7 +773,13 @@ public class ConfigurationFileContentsTest {
                 expectedPrompts.get(), flashCardGroup.getPrompts(), name + ".prompts"),
         () -> assertEqualsAndLog(20, flashCardGroup.getMaximumPrompts(), name + ".maximumPrompts"),
         () -> assertEqualsAndLog(20, flashCardGroup.getMinimumPrompts(), name + ".minimumPrompts"),
-        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"));
+        () -> assertEqualsAndLog(name, flashCardGroup.getName(), name + ".name"),
+        () ->
+            assertEqualsAndLog(
+                FlashCardGroup.AnswerMatching.NUMERIC,
+                flashCardGroup.getAnswerMatching(),
+                name + ".answerMatching"),
+        () -> assertEqualsAndLog(2, flashCardGroup.getMaximumEdits(), name + ".maximumEdits"));
   }
 
   public void testContents(@NonNull MetricsFactory metrics) {
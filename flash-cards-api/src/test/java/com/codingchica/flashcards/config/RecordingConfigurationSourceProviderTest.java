@@ -0,0 +1,87 @@
+package com.codingchica.flashcards.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.dropwizard.configuration.ConfigurationSourceProvider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for the RecordingConfigurationSourceProvider class. */
+@ExtendWith(MockitoExtension.class)
+class RecordingConfigurationSourceProviderTest {
+  @Mock private ConfigurationSourceProvider delegate;
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void build_whenDelegateNotInvoked_thenExceptionThrown() {
+      // Setup
+      RecordingConfigurationSourceProvider.Builder builder =
+          RecordingConfigurationSourceProvider.builder();
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("delegate is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void delegate_whenNull_thenExceptionThrown() {
+      // Setup
+      RecordingConfigurationSourceProvider.Builder builder =
+          RecordingConfigurationSourceProvider.builder();
+
+      // Execution
+      Executable executable = () -> builder.delegate(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("delegate is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class OpenTest {
+    @Test
+    void getLastPath_whenNothingOpened_thenEmpty() {
+      // Setup
+      RecordingConfigurationSourceProvider provider =
+          RecordingConfigurationSourceProvider.builder().delegate(delegate).build();
+
+      // Execution
+      Optional<String> result = provider.getLastPath();
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void open_whenInvoked_thenDelegatedAndPathRecorded() throws IOException {
+      // Setup
+      InputStream contents = new ByteArrayInputStream(new byte[0]);
+      doReturn(contents).when(delegate).open("first.yml");
+      doReturn(contents).when(delegate).open("second.yml");
+      RecordingConfigurationSourceProvider provider =
+          RecordingConfigurationSourceProvider.builder().delegate(delegate).build();
+
+      // Execution
+      provider.open("first.yml");
+      InputStream result = provider.open("second.yml");
+
+      // Validation
+      assertSame(contents, result);
+      assertEquals(Optional.of("second.yml"), provider.getLastPath());
+    }
+  }
+}
@@ -0,0 +1,26 @@
+# See Gherkin syntax reference: https://cucumber.io/docs/gherkin/reference/
+@reloadCatalog
+@github
+@Component
+Feature: Reload Catalog Task
+
+  Background:
+    Given that my request uses the http protocol
+    And that my request goes to the admin port
+    And that my request goes to endpoint tasks/reload-catalog
+
+  Scenario: POST call reloads the catalog from the configuration file.
+    Given that my request uses the POST method
+    When I submit the request
+    Then the response code is 200
+    And the response body is "Reloaded catalog with 1 quizzes."
+
+  Scenario Outline: Unsupported methods.
+    Given that my request uses the <HTTPMethod> method
+    When I submit the request
+    Then the response code is 405
+    Examples:
+      | HTTPMethod |
+      | GET        |
+      | PUT        |
+      | DELETE     |
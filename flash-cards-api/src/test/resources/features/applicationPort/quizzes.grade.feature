@@ -24,7 +24,7 @@ Feature: Quiz - Grade
         | code    | 404                       |
         | message | Quiz='{NEW_ID}' not found |
 
-    Scenario: Failures - Quiz ID Not UUID
+    Scenario: Failures - Quiz ID Malformed
       Given that my request contains header Content-Type = application/json
       Given that my request contains header Accept = application/json
       And that my request goes to endpoint quizzes/Adding%200/MalformedUUID
@@ -32,8 +32,8 @@ Feature: Quiz - Grade
       When I submit the request
       Then the response code is 404
       And the error response body contains JSON data
-        | code    | 404                |
-        | message | HTTP 404 Not Found |
+        | code    | 404                            |
+        | message | Quiz='MalformedUUID' not found |
 
     Scenario: Failures - Quiz Name Mismatch
       Given that my request contains header Content-Type = application/json
@@ -98,8 +98,26 @@ Feature: Quiz - Grade
         | application/zip       |
         | text/plain            |
 
+    Scenario: Failures - Empty Batch
+      Given that my request contains header Content-Type = application/json
+      And that my request goes to endpoint quizzes/Adding%200
+      And that my request body is '[]'
+      When I submit the request
+      Then the response code is 422
+
   Rule:  When successful, the expected response should be returned.
 
+    Scenario: Batch is graded, one line per submission.
+      Given that my request contains header Content-Type = application/json
+      And that my request contains header Accept = application/x-ndjson,application/json
+      And that my request goes to endpoint quizzes/Adding%200
+      And that my request body is '[{"id":"{ID}","completedQuiz":{"name":"Adding 0","answers":["0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0","0"]}},{"id":"MalformedUUID","completedQuiz":{"name":"Adding 0","answers":["0"]}}]'
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "code":200,"result":{"name":"Adding 0","promptCount":25                     |
+        | {"id":"MalformedUUID","code":404,"message":"Quiz='MalformedUUID' not found"} |
+
     Scenario Outline: Quiz is correctly graded.
       Given that my request contains header Content-Type = application/json
       And that my request contains header Accept = application/json
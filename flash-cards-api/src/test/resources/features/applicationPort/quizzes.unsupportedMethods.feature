@@ -27,7 +27,6 @@ Feature: Quizzes API - Unsupported Methods
     Then the response code is 405
     Examples:
       | HTTPMethod |
-      | POST       |
       | PUT        |
       | TRACE      |
       | DELETE     |
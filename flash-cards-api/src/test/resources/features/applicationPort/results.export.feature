@@ -0,0 +1,52 @@
+# See Gherkin syntax reference: https://cucumber.io/docs/gherkin/reference/
+@results
+@github
+@Component
+Feature: Quiz Results - Export
+
+  Background:
+    Given that my request uses the http protocol
+    And that my request goes to the application port
+    And that my request uses the GET method
+
+  Rule:  Results are exported as JSON Lines or CSV.
+
+    Scenario: Success - CSV
+      Given that my request goes to endpoint results/export?format=csv&quiz=Adding%201&from=2024-01-01T00:00:00Z
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | savedAt,name,promptCount,correctAnswers,percentage,timeMinutes,timeSeconds |
+
+    Scenario: Success - CSV With Results
+      Given that a quiz has been graded with 3 correct answers
+      And that my request goes to endpoint results/export?format=csv&quiz=Adding%200&from=2024-01-01T00:00:00Z&to=
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | savedAt,name,promptCount,correctAnswers,percentage,timeMinutes,timeSeconds |
+        | ,Adding 0,25,3,12,                                                         |
+
+    Scenario: Success - JSON Lines
+      Given that a quiz has been graded with 4 correct answers
+      And that my request goes to endpoint results/export?quiz=
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "name":"Adding 0","promptCount":25,"correctAnswers":4,"percentage":16 |
+
+    Scenario: Failures - Unknown Format
+      Given that my request goes to endpoint results/export?format=xml
+      When I submit the request
+      Then the response code is 400
+      And the error response body contains JSON data
+        | code    | 400                                     |
+        | message | format must be jsonl or csv, not: 'xml' |
+
+    Scenario: Failures - Time Range Reversed
+      Given that my request goes to endpoint results/export?from=2024-02-01T00:00:00Z&to=2024-01-01T00:00:00Z
+      When I submit the request
+      Then the response code is 400
+      And the error response body contains JSON data
+        | code    | 400                       |
+        | message | from must not be after to |
@@ -0,0 +1,38 @@
+# See Gherkin syntax reference: https://cucumber.io/docs/gherkin/reference/
+@results
+@github
+@Component
+Feature: Quiz Results - Rollups
+
+  Background:
+    Given that my request uses the http protocol
+    And that my request goes to the application port
+    And that my request uses the GET method
+
+  Rule:  Results are totalled by hour, then by day once old enough.
+
+    Scenario: Success
+      Given that my request goes to endpoint results/rollups?quiz=Adding%201&from=2024-01-01T00:00:00Z
+      When I submit the request
+      Then the response code is 200
+
+    Scenario: Success - Every Quiz
+      Given that my request goes to endpoint results/rollups?quiz=&to=
+      When I submit the request
+      Then the response code is 200
+
+    Scenario: Failures - Time Not An Instant
+      Given that my request goes to endpoint results/rollups?to=tomorrow
+      When I submit the request
+      Then the response code is 400
+      And the error response body contains JSON data
+        | code    | 400                                                                          |
+        | message | to must be an ISO-8601 instant, e.g. 2024-01-31T00:00:00Z, not: 'tomorrow' |
+
+    Scenario: Failures - Time Range Reversed
+      Given that my request goes to endpoint results/rollups?from=2024-02-01T00:00:00Z&to=2024-01-01T00:00:00Z
+      When I submit the request
+      Then the response code is 400
+      And the error response body contains JSON data
+        | code    | 400                       |
+        | message | from must not be after to |
@@ -0,0 +1,99 @@
+# See Gherkin syntax reference: https://cucumber.io/docs/gherkin/reference/
+@statistics
+@github
+@Component
+Feature: Quiz Statistics - Get
+
+  Background:
+    Given that my request uses the http protocol
+    And that my request goes to the application port
+    And that my request uses the GET method
+
+  Rule:  Statistics are only available for quizzes which have been graded.
+
+    Scenario: Failures - Quiz Not Graded
+      Given that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/quizzes/DoesNotExist
+      When I submit the request
+      Then the response code is 404
+      And the error response body contains JSON data
+        | code    | 404                                          |
+        | message | No statistics found for quiz: 'DoesNotExist' |
+
+    Scenario: Failures - Hardest Prompts For Unknown Category
+      Given that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/prompts/hardest/DoesNotExist
+      When I submit the request
+      Then the response code is 404
+      And the error response body contains JSON data
+        | code    | 404                                         |
+        | message | No match found for category: 'DoesNotExist' |
+
+    Scenario: Failures - Distributions Of Quiz Not Graded
+      Given that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/distributions/DoesNotExist
+      When I submit the request
+      Then the response code is 404
+      And the error response body contains JSON data
+        | code    | 404                                             |
+        | message | No distributions found for quiz: 'DoesNotExist' |
+
+  Rule:  When successful, the statistics of the quizzes graded are returned.
+
+    Scenario: Success - Statistics Of One Quiz
+      Given that a quiz has been graded with 5 correct answers
+      And that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/quizzes/Adding%200
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "name":"Adding 0" |
+        | "attempts":       |
+
+    Scenario: Success - Statistics Of Every Quiz
+      Given that a quiz has been graded with 5 correct answers
+      And that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/quizzes
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "name":"Adding 0" |
+
+    Scenario: Success - Hardest Prompts Overall
+      Given that a quiz has been graded with 0 correct answers
+      And that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/prompts/hardest
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "prompt":  |
+        | "misses":  |
+
+    Scenario: Success - Hardest Prompts Of One Category
+      Given that a quiz has been graded with 0 correct answers
+      And that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/prompts/hardest/Addition
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "prompt": |
+
+    Scenario: Success - Distributions Of One Quiz
+      Given that a quiz has been graded with 10 correct answers
+      And that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/distributions/Adding%200
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "name":"Adding 0" |
+        | "total":          |
+        | "lastInterval":   |
+
+    Scenario: Success - Distributions Of Every Quiz
+      Given that a quiz has been graded with 10 correct answers
+      And that my request contains header Accept = application/json
+      And that my request goes to endpoint statistics/distributions
+      When I submit the request
+      Then the response code is 200
+      And the response body contains String data
+        | "name":"Adding 0" |
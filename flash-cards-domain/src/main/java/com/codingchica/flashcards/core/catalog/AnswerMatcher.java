@@ -0,0 +1,399 @@
+package com.codingchica.flashcards.core.catalog;
+
+import com.codingchica.flashcards.core.config.FlashCardGroup.AnswerMatching;
+import com.google.common.base.Preconditions;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Objects;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The expected answers of a deck, compiled for one matching strategy. Any normalization of the
+ * expected answers is done once, when the deck is compiled, so grading only has to normalize the
+ * answer provided.
+ */
+abstract class AnswerMatcher {
+  /** The most digits parsed exactly into a long, before falling back to Double.parseDouble. */
+  private static final int MAXIMUM_EXACT_DIGITS = 15;
+
+  /** Powers of ten, which are all exactly representable as doubles. */
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+  };
+
+  /**
+   * Compile the expected answers of a deck for a matching strategy.
+   *
+   * @param answerMatching The matching strategy.
+   * @param answers The expected answers, indexed by prompt ID.
+   * @param maximumEdits For FUZZY matching, the most typos which still earn partial credit.
+   * @return The compiled matcher.
+   */
+  static AnswerMatcher compile(
+      @NonNull AnswerMatching answerMatching, String @NonNull [] answers, int maximumEdits) {
+    return switch (answerMatching) {
+      case EXACT -> new Exact(answers);
+      case IGNORE_CASE -> new IgnoreCase(answers);
+      case NORMALIZED -> new Normalized(answers);
+      case NUMERIC -> new Numeric(answers);
+      case FUZZY -> new Fuzzy(answers, maximumEdits);
+    };
+  }
+
+  /**
+   * Whether an answer provided matches the answer expected for a prompt.
+   *
+   * @param promptId The ID of the prompt, which the caller has already checked is in range.
+   * @param answer The answer provided.
+   * @return True if the answer is correct, false otherwise.
+   */
+  abstract boolean matches(int promptId, String answer);
+
+  /**
+   * The share of a prompt's credit earned by an answer provided, from 0 to 1. Only fuzzy matching
+   * awards partial credit, so by default this is all or nothing.
+   *
+   * @param promptId The ID of the prompt, which the caller has already checked is in range.
+   * @param answer The answer provided.
+   * @return The credit earned.
+   */
+  double credit(int promptId, String answer) {
+    return matches(promptId, answer) ? 1 : 0;
+  }
+
+  /**
+   * Normalize an answer for the NORMALIZED strategy: NFKC normalized, trimmed, with runs of
+   * whitespace collapsed to a single space, and lower case. Answers which are already normalized
+   * are returned as-is, without allocating.
+   *
+   * @param value The answer to normalize.
+   * @return The normalized answer, or null if the value was null.
+   */
+  static String normalize(String value) {
+    if (value == null) {
+      return null;
+    }
+    // ASCII is unchanged by NFKC normalization, and much cheaper to check for.
+    String normalized =
+        isAscii(value) || Normalizer.isNormalized(value, Normalizer.Form.NFKC)
+            ? value
+            : Normalizer.normalize(value, Normalizer.Form.NFKC);
+    if (isCanonical(normalized)) {
+      return normalized;
+    }
+    StringBuilder builder = new StringBuilder(normalized.length());
+    boolean pendingSpace = false;
+    for (int i = 0; i < normalized.length(); ) {
+      int codePoint = normalized.codePointAt(i);
+      i += Character.charCount(codePoint);
+      if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+        pendingSpace = builder.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        builder.append(' ');
+        pendingSpace = false;
+      }
+      builder.appendCodePoint(Character.toLowerCase(codePoint));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Whether a value only contains ASCII characters.
+   *
+   * @param value The value to check.
+   * @return True if every character is ASCII.
+   */
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Whether a value is already trimmed, lower case, and only separated by single spaces.
+   *
+   * @param value The value to check.
+   * @return True if normalize would not change it, once NFKC normalized.
+   */
+  private static boolean isCanonical(String value) {
+    int length = value.length();
+    boolean previousSpace = true;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c == ' ') {
+        if (previousSpace) {
+          return false;
+        }
+        previousSpace = true;
+      } else if (Character.isWhitespace(c)
+          || Character.isSpaceChar(c)
+          || Character.isSurrogate(c)
+          || Character.toLowerCase(c) != c) {
+        return false;
+      } else {
+        previousSpace = false;
+      }
+    }
+    return length == 0 || !previousSpace;
+  }
+
+  /**
+   * Parse an answer as a decimal number: an optional sign, then digits with an optional decimal
+   * point, with optional surrounding whitespace. Unlike Double.parseDouble, exponents, hexadecimal,
+   * type suffixes, NaN and Infinity are not accepted. Short numbers are parsed without allocating.
+   *
+   * @param value The answer to parse.
+   * @return The number, or NaN if the value is not a decimal number.
+   */
+  static double parseNumber(String value) {
+    if (value == null) {
+      return Double.NaN;
+    }
+    int start = 0;
+    int end = value.length();
+    while (start < end && Character.isWhitespace(value.charAt(start))) {
+      start++;
+    }
+    while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+      end--;
+    }
+    int i = start;
+    boolean negative = false;
+    if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+      negative = value.charAt(i) == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int scale = 0;
+    boolean decimalPoint = false;
+    for (; i < end; i++) {
+      char c = value.charAt(i);
+      if (c >= '0' && c <= '9') {
+        if (digits < MAXIMUM_EXACT_DIGITS) {
+          mantissa = mantissa * 10 + (c - '0');
+          if (decimalPoint) {
+            scale++;
+          }
+        }
+        digits++;
+      } else if (c == '.' && !decimalPoint) {
+        decimalPoint = true;
+      } else {
+        return Double.NaN;
+      }
+    }
+    if (digits == 0) {
+      return Double.NaN;
+    }
+    if (digits > MAXIMUM_EXACT_DIGITS) {
+      // The syntax has already been checked, so this cannot throw.
+      return Double.parseDouble(value.substring(start, end));
+    }
+    // Both operands are exact, so the quotient is correctly rounded.
+    double number = mantissa / POWERS_OF_TEN[scale];
+    return negative ? -number : number;
+  }
+
+  /** Matches the answer expected exactly. */
+  private static final class Exact extends AnswerMatcher {
+    private final String[] answers;
+
+    private Exact(String[] answers) {
+      this.answers = answers;
+    }
+
+    @Override
+    boolean matches(int promptId, String answer) {
+      return StringUtils.equals(answers[promptId], answer);
+    }
+  }
+
+  /** Matches the answer expected, ignoring case. */
+  private static final class IgnoreCase extends AnswerMatcher {
+    private final String[] answers;
+
+    private IgnoreCase(String[] answers) {
+      this.answers = answers;
+    }
+
+    @Override
+    boolean matches(int promptId, String answer) {
+      return StringUtils.equalsIgnoreCase(answers[promptId], answer);
+    }
+  }
+
+  /** Matches the normalized answer expected. */
+  private static final class Normalized extends AnswerMatcher {
+    private final String[] normalizedAnswers;
+
+    private Normalized(String[] answers) {
+      normalizedAnswers = new String[answers.length];
+      for (int promptId = 0; promptId < answers.length; promptId++) {
+        normalizedAnswers[promptId] = normalize(answers[promptId]);
+      }
+    }
+
+    @Override
+    boolean matches(int promptId, String answer) {
+      return Objects.equals(normalizedAnswers[promptId], normalize(answer));
+    }
+  }
+
+  /** Matches the number expected, or the normalized answer expected if it is not a number. */
+  private static final class Numeric extends AnswerMatcher {
+    /** The expected numbers, or NaN where the answer expected is not a number. */
+    private final double[] numbers;
+
+    /** The normalized answers expected, only populated where they are not numbers. */
+    private final String[] normalizedAnswers;
+
+    private Numeric(String[] answers) {
+      numbers = new double[answers.length];
+      normalizedAnswers = new String[answers.length];
+      for (int promptId = 0; promptId < answers.length; promptId++) {
+        numbers[promptId] = parseNumber(answers[promptId]);
+        if (Double.isNaN(numbers[promptId])) {
+          normalizedAnswers[promptId] = normalize(answers[promptId]);
+        }
+      }
+    }
+
+    @Override
+    boolean matches(int promptId, String answer) {
+      double expected = numbers[promptId];
+      if (!Double.isNaN(expected)) {
+        return expected == parseNumber(answer);
+      }
+      return Objects.equals(normalizedAnswers[promptId], normalize(answer));
+    }
+  }
+
+  /**
+   * Matches the normalized answer expected, awarding partial credit to answers within a few typos
+   * of it. Edit distances are computed with the bit-parallel algorithm of Myers, in Hyyrö's
+   * formulation for Levenshtein distance, which handles a whole column of the dynamic programming
+   * matrix per character of the answer provided, using the bits of a long. The match masks of the
+   * expected answers are built when the deck is compiled.
+   */
+  private static final class Fuzzy extends AnswerMatcher {
+    /** The most typos which still earn partial credit. */
+    private final int maximumEdits;
+
+    /** The normalized answers expected, indexed by prompt ID. */
+    private final String[] normalizedAnswers;
+
+    /**
+     * The distinct characters of each normalized answer expected, sorted, or null where it is too
+     * long for a single long mask, and must be matched exactly.
+     */
+    private final char[][] maskCharacters;
+
+    /** For each of maskCharacters, the bit mask of the positions where it occurs in the answer. */
+    private final long[][] masks;
+
+    private Fuzzy(String[] answers, int maximumEdits) {
+      Preconditions.checkArgument(maximumEdits >= 0, "maximumEdits must not be negative");
+      this.maximumEdits = maximumEdits;
+      normalizedAnswers = new String[answers.length];
+      maskCharacters = new char[answers.length][];
+      masks = new long[answers.length][];
+      for (int promptId = 0; promptId < answers.length; promptId++) {
+        String normalized = normalize(answers[promptId]);
+        normalizedAnswers[promptId] = normalized;
+        if (normalized != null && normalized.length() <= Long.SIZE) {
+          char[] characters = normalized.toCharArray();
+          Arrays.sort(characters);
+          int distinct = 0;
+          for (int i = 0; i < characters.length; i++) {
+            if (distinct == 0 || characters[distinct - 1] != characters[i]) {
+              characters[distinct++] = characters[i];
+            }
+          }
+          characters = Arrays.copyOf(characters, distinct);
+          long[] characterMasks = new long[distinct];
+          for (int i = 0; i < normalized.length(); i++) {
+            characterMasks[Arrays.binarySearch(characters, normalized.charAt(i))] |= 1L << i;
+          }
+          maskCharacters[promptId] = characters;
+          masks[promptId] = characterMasks;
+        }
+      }
+    }
+
+    @Override
+    boolean matches(int promptId, String answer) {
+      return Objects.equals(normalizedAnswers[promptId], normalize(answer));
+    }
+
+    @Override
+    double credit(int promptId, String answer) {
+      String expected = normalizedAnswers[promptId];
+      String provided = normalize(answer);
+      if (Objects.equals(expected, provided)) {
+        return 1;
+      }
+      if (expected == null
+          || provided == null
+          || maskCharacters[promptId] == null
+          || Math.abs(expected.length() - provided.length()) > maximumEdits) {
+        return 0;
+      }
+      int distance = distance(promptId, expected.length(), provided);
+      return distance <= maximumEdits ? 1 - (double) distance / (maximumEdits + 1) : 0;
+    }
+
+    /**
+     * The Levenshtein distance between an expected answer and an answer provided, or any value
+     * larger than maximumEdits once it is certain to exceed it.
+     *
+     * @param promptId The ID of the prompt.
+     * @param length The length of the normalized answer expected, at most 64.
+     * @param provided The normalized answer provided.
+     * @return The edit distance, if at most maximumEdits.
+     */
+    private int distance(int promptId, int length, String provided) {
+      if (length == 0) {
+        return provided.length();
+      }
+      char[] characters = maskCharacters[promptId];
+      long[] characterMasks = masks[promptId];
+      long lastBit = 1L << (length - 1);
+      // Vertical deltas of +1 and -1 down the current column, initially all +1.
+      long positive = -1L;
+      long negative = 0L;
+      int score = length;
+      int remaining = provided.length();
+      for (int j = 0; j < provided.length(); j++) {
+        int index = Arrays.binarySearch(characters, provided.charAt(j));
+        long match = index < 0 ? 0L : characterMasks[index];
+        long vertical = match | negative;
+        long diagonal = (((match & positive) + positive) ^ positive) | match;
+        long horizontalPositive = negative | ~(diagonal | positive);
+        long horizontalNegative = positive & diagonal;
+        if ((horizontalPositive & lastBit) != 0) {
+          score++;
+        } else if ((horizontalNegative & lastBit) != 0) {
+          score--;
+        }
+        // The top row of the matrix increases by one per character, so shift in a +1.
+        horizontalPositive = (horizontalPositive << 1) | 1L;
+        horizontalNegative <<= 1;
+        positive = horizontalNegative | ~(vertical | horizontalPositive);
+        negative = horizontalPositive & vertical;
+        remaining--;
+        // Each remaining character can lower the final distance by at most one.
+        if (score - remaining > maximumEdits) {
+          return score - remaining;
+        }
+      }
+      return score;
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package com.codingchica.flashcards.core.catalog;
+
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.config.FlashCardGroup.AnswerMatching;
+import com.google.common.base.Preconditions;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A compiled, immutable representation of a FlashCardGroup. The prompts and answers are held in
+ * parallel arrays, so each prompt is identified by a dense int ID within the deck.
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class Deck {
+  /** The dense identifier of this deck within its catalog. */
+  @ToString.Include private final int id;
+
+  /** The category under which the deck was configured. */
+  @ToString.Include private final String category;
+
+  /** The name of the quiz. */
+  @ToString.Include private final String name;
+
+  /**
+   * The minimum number of prompts to present to a user.
+   *
+   * @see FlashCardGroup#getMinimumPrompts()
+   */
+  private final int minimumPrompts;
+
+  /**
+   * The maximum number of prompts to present to a user.
+   *
+   * @see FlashCardGroup#getMaximumPrompts()
+   */
+  private final int maximumPrompts;
+
+  /** The prompts, indexed by prompt ID. */
+  @Getter(lombok.AccessLevel.NONE)
+  private final String[] prompts;
+
+  /** The expected answers, indexed by prompt ID. */
+  @Getter(lombok.AccessLevel.NONE)
+  private final String[] answers;
+
+  /**
+   * How the answers provided are matched against the answers expected.
+   *
+   * @see FlashCardGroup#getAnswerMatching()
+   */
+  private final AnswerMatching answerMatching;
+
+  /**
+   * For FUZZY answer matching, the most typos which still earn partial credit.
+   *
+   * @see FlashCardGroup#getMaximumEdits()
+   */
+  private final int maximumEdits;
+
+  /** The expected answers, compiled for the answer matching strategy. */
+  @Getter(lombok.AccessLevel.NONE)
+  private final AnswerMatcher answerMatcher;
+
+  private Deck(
+      int id,
+      String category,
+      String name,
+      int minimumPrompts,
+      int maximumPrompts,
+      String[] prompts,
+      String[] answers,
+      AnswerMatching answerMatching,
+      int maximumEdits) {
+    this.id = id;
+    this.category = category;
+    this.name = name;
+    this.minimumPrompts = minimumPrompts;
+    this.maximumPrompts = maximumPrompts;
+    this.prompts = prompts;
+    this.answers = answers;
+    this.answerMatching = answerMatching;
+    this.maximumEdits = maximumEdits;
+    this.answerMatcher = AnswerMatcher.compile(answerMatching, answers, maximumEdits);
+  }
+
+  /**
+   * Compile a FlashCardGroup from the configuration into a deck. Prompt IDs follow the iteration
+   * order of the configured prompts. Groups without an answer matching strategy match answers
+   * ignoring case.
+   *
+   * @param id The dense identifier to assign to the deck.
+   * @param category The category under which the group was configured.
+   * @param flashCardGroup The group to compile.
+   * @return The compiled deck.
+   */
+  public static Deck compile(int id, String category, @NonNull FlashCardGroup flashCardGroup) {
+    Map<String, String> promptsMap = flashCardGroup.getPrompts();
+    int promptCount = promptsMap == null ? 0 : promptsMap.size();
+    String[] prompts = new String[promptCount];
+    String[] answers = new String[promptCount];
+    if (promptsMap != null) {
+      int promptId = 0;
+      for (Map.Entry<String, String> entry : promptsMap.entrySet()) {
+        prompts[promptId] = entry.getKey();
+        answers[promptId] = entry.getValue();
+        promptId++;
+      }
+    }
+    return new Deck(
+        id,
+        category,
+        flashCardGroup.getName(),
+        flashCardGroup.getMinimumPrompts(),
+        flashCardGroup.getMaximumPrompts(),
+        prompts,
+        answers,
+        Objects.requireNonNullElse(flashCardGroup.getAnswerMatching(), AnswerMatching.IGNORE_CASE),
+        flashCardGroup.getMaximumEdits());
+  }
+
+  /**
+   * The number of prompts configured in the deck.
+   *
+   * @return The count of prompts, which is also the exclusive upper bound of the prompt IDs.
+   */
+  public int getPromptCount() {
+    return prompts.length;
+  }
+
+  /**
+   * Retrieve a prompt by ID.
+   *
+   * @param promptId The ID of the prompt.
+   * @return The prompt to present to the user.
+   */
+  public String getPrompt(int promptId) {
+    Preconditions.checkElementIndex(promptId, prompts.length, "promptId");
+    return prompts[promptId];
+  }
+
+  /**
+   * Retrieve the expected answer for a prompt by ID.
+   *
+   * @param promptId The ID of the prompt.
+   * @return The answer expected for the prompt.
+   */
+  public String getAnswer(int promptId) {
+    Preconditions.checkElementIndex(promptId, answers.length, "promptId");
+    return answers[promptId];
+  }
+
+  /**
+   * Whether an answer provided for a prompt is correct, according to the deck's answer matching
+   * strategy.
+   *
+   * @param promptId The ID of the prompt.
+   * @param answer The answer provided.
+   * @return True if the answer is correct, false otherwise.
+   */
+  public boolean isCorrect(int promptId, String answer) {
+    Preconditions.checkElementIndex(promptId, answers.length, "promptId");
+    return answerMatcher.matches(promptId, answer);
+  }
+
+  /**
+   * The share of a prompt's credit earned by an answer provided, from 0 to 1, according to the
+   * deck's answer matching strategy. Only fuzzy matching awards partial credit.
+   *
+   * @param promptId The ID of the prompt.
+   * @param answer The answer provided.
+   * @return The credit earned.
+   */
+  public double getCredit(int promptId, String answer) {
+    Preconditions.checkElementIndex(promptId, answers.length, "promptId");
+    return answerMatcher.credit(promptId, answer);
+  }
+}
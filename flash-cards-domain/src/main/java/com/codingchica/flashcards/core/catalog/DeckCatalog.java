@@ -0,0 +1,165 @@
+package com.codingchica.flashcards.core.catalog;
+
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import lombok.NonNull;
+
+/**
+ * The immutable catalog of decks compiled from the configuration. Decks are assigned dense IDs in
+ * configuration order, and are indexed by their normalized name for case-insensitive lookups.
+ */
+public class DeckCatalog {
+  /**
+   * A fingerprint of the catalog contents, including deck IDs. Catalogs compiled from the same
+   * configuration share a version, on this node or any other.
+   */
+  private final long version;
+
+  /** The decks, indexed by deck ID. */
+  private final Deck[] decks;
+
+  /** The decks, keyed by their normalized name. */
+  private final Map<String, Deck> decksByName;
+
+  /** The quiz names, grouped by category, as returned when listing quizzes. */
+  private final Map<String, List<String>> quizNamesByCategory;
+
+  private DeckCatalog(
+      Deck[] decks, Map<String, Deck> decksByName, Map<String, List<String>> quizNamesByCategory) {
+    this.version = fingerprint(decks);
+    this.decks = decks;
+    this.decksByName = decksByName;
+    this.quizNamesByCategory = quizNamesByCategory;
+  }
+
+  /**
+   * Compile the configured flash card groups into a catalog. Null categories and groups are
+   * skipped. When more than one group has the same normalized name, the first one encountered is
+   * used for lookups.
+   *
+   * @param flashCardGroupMap The flash card groups, by category, from the configuration.
+   * @return The compiled catalog.
+   */
+  public static DeckCatalog compile(@NonNull Map<String, List<FlashCardGroup>> flashCardGroupMap) {
+    List<Deck> decks = new ArrayList<>();
+    Map<String, Deck> decksByName = new HashMap<>();
+    Map<String, List<String>> quizNamesByCategory = new HashMap<>();
+    for (Map.Entry<String, List<FlashCardGroup>> entry : flashCardGroupMap.entrySet()) {
+      List<FlashCardGroup> flashCardGroups = entry.getValue();
+      if (flashCardGroups == null) {
+        continue;
+      }
+      List<String> quizNames = new ArrayList<>(flashCardGroups.size());
+      for (FlashCardGroup flashCardGroup : flashCardGroups) {
+        if (flashCardGroup == null) {
+          continue;
+        }
+        Deck deck = Deck.compile(decks.size(), entry.getKey(), flashCardGroup);
+        decks.add(deck);
+        quizNames.add(deck.getName());
+        if (deck.getName() != null) {
+          decksByName.putIfAbsent(normalizeName(deck.getName()), deck);
+        }
+      }
+      if (entry.getKey() != null && !flashCardGroups.isEmpty()) {
+        quizNamesByCategory.put(entry.getKey(), Collections.unmodifiableList(quizNames));
+      }
+    }
+    return new DeckCatalog(
+        decks.toArray(new Deck[0]),
+        Collections.unmodifiableMap(decksByName),
+        Collections.unmodifiableMap(quizNamesByCategory));
+  }
+
+  /**
+   * Compute a fingerprint of the decks, in deck ID order. Every value is length-prefixed, or marked
+   * as null, so that different contents cannot run together into the same input.
+   *
+   * @param decks The decks, indexed by deck ID.
+   * @return The catalog version.
+   */
+  private static long fingerprint(Deck[] decks) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putInt(decks.length);
+    for (Deck deck : decks) {
+      putString(hasher, deck.getCategory());
+      putString(hasher, deck.getName());
+      hasher.putInt(deck.getMinimumPrompts()).putInt(deck.getMaximumPrompts());
+      hasher.putInt(deck.getPromptCount());
+      for (int promptId = 0; promptId < deck.getPromptCount(); promptId++) {
+        putString(hasher, deck.getPrompt(promptId));
+        putString(hasher, deck.getAnswer(promptId));
+      }
+    }
+    return hasher.hash().asLong();
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    if (value == null) {
+      hasher.putInt(-1);
+    } else {
+      hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Normalize a quiz name for case-insensitive lookups.
+   *
+   * @param quizName The quiz name to normalize.
+   * @return The key to use for lookups.
+   */
+  public static String normalizeName(@NonNull String quizName) {
+    return quizName.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Find a deck by its name, ignoring case.
+   *
+   * @param quizName The name of the quiz.
+   * @return The matching deck, if any.
+   */
+  public Optional<Deck> findDeck(@NonNull String quizName) {
+    return Optional.ofNullable(decksByName.get(normalizeName(quizName)));
+  }
+
+  /**
+   * Retrieve a deck by ID.
+   *
+   * @param deckId The ID of the deck.
+   * @return The deck.
+   * @throws IndexOutOfBoundsException when the ID is not part of this catalog.
+   */
+  public Deck getDeck(int deckId) {
+    return decks[deckId];
+  }
+
+  /**
+   * The number of decks in the catalog.
+   *
+   * @return The count of decks, which is also the exclusive upper bound of the deck IDs.
+   */
+  public int getDeckCount() {
+    return decks.length;
+  }
+
+  /**
+   * The version of the catalog, which identifies its contents across reloads and across nodes.
+   *
+   * @return A fingerprint of the decks in the catalog.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Retrieve the quiz names, grouped by category.
+   *
+   * @return An unmodifiable view of the quiz names available in each category.
+   */
+  public Map<String, List<String>> getQuizNamesByCategory() {
+    return quizNamesByCategory;
+  }
+}
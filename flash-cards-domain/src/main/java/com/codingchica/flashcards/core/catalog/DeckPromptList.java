@@ -0,0 +1,109 @@
+package com.codingchica.flashcards.core.catalog;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.RandomAccess;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The prompts of a generated quiz, stored as prompt IDs into the deck they came from. Entries are
+ * only materialized when read, such as during serialization, while grading can read the expected
+ * answers straight from the deck.
+ */
+public class DeckPromptList extends AbstractList<Map.Entry<String, String>>
+    implements RandomAccess {
+  /** The deck from which the prompts were drawn. */
+  @Getter private final Deck deck;
+
+  /** The seed the prompts were drawn with, which regenerates them from the same deck. */
+  @Getter private final long seed;
+
+  /** The prompt IDs, in the order presented to the user. */
+  private final int[] promptIds;
+
+  /**
+   * Constructor.
+   *
+   * @param deck The deck from which the prompts were drawn.
+   * @param seed The seed the prompts were drawn with.
+   * @param promptIds The prompt IDs, in the order presented to the user. Ownership of the array is
+   *     transferred to this list.
+   */
+  public DeckPromptList(@NonNull Deck deck, long seed, int @NonNull [] promptIds) {
+    for (int promptId : promptIds) {
+      Preconditions.checkElementIndex(promptId, deck.getPromptCount(), "promptId");
+    }
+    this.deck = deck;
+    this.seed = seed;
+    this.promptIds = promptIds;
+  }
+
+  /**
+   * Retrieve the deck's prompt ID at a position in the quiz.
+   *
+   * @param index The position in the quiz.
+   * @return The prompt ID within the deck.
+   */
+  public int getPromptId(int index) {
+    return promptIds[index];
+  }
+
+  /**
+   * Retrieve the prompt at a position in the quiz, without materializing an entry.
+   *
+   * @param index The position in the quiz.
+   * @return The prompt.
+   */
+  public String getPrompt(int index) {
+    return deck.getPrompt(promptIds[index]);
+  }
+
+  /**
+   * Retrieve the expected answer at a position in the quiz, without materializing an entry.
+   *
+   * @param index The position in the quiz.
+   * @return The expected answer.
+   */
+  public String getAnswer(int index) {
+    return deck.getAnswer(promptIds[index]);
+  }
+
+  /**
+   * Whether an answer provided at a position in the quiz is correct, according to the deck's answer
+   * matching strategy.
+   *
+   * @param index The position in the quiz.
+   * @param answer The answer provided.
+   * @return True if the answer is correct, false otherwise.
+   */
+  public boolean isCorrect(int index, String answer) {
+    return deck.isCorrect(promptIds[index], answer);
+  }
+
+  /**
+   * The share of the credit earned by an answer provided at a position in the quiz, according to
+   * the deck's answer matching strategy.
+   *
+   * @param index The position in the quiz.
+   * @param answer The answer provided.
+   * @return The credit earned, from 0 to 1.
+   */
+  public double getCredit(int index, String answer) {
+    return deck.getCredit(promptIds[index], answer);
+  }
+
+  @Override
+  public Map.Entry<String, String> get(int index) {
+    int promptId = promptIds[index];
+    return new AbstractMap.SimpleImmutableEntry<>(
+        deck.getPrompt(promptId), deck.getAnswer(promptId));
+  }
+
+  @Override
+  public int size() {
+    return promptIds.length;
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * The compiled, in-memory form of the flash card configuration, which is built at startup (and
+ * again on each reload) and then only read while serving quizzes.
+ */
+package com.codingchica.flashcards.core.catalog;
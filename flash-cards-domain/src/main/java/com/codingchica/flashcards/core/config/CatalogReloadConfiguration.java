@@ -0,0 +1,39 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing how the flash card catalog may be reloaded while the server is running. A
+ * reload may always be requested through the reload-catalog admin task. Watching the configuration
+ * file is opt-in.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class CatalogReloadConfiguration {
+  /**
+   * Whether the configuration file should be watched for changes, triggering a catalog reload
+   * whenever it is modified.
+   */
+  @JsonProperty("watchConfigFile")
+  @Builder.Default
+  private boolean watchConfigFile = false;
+
+  /**
+   * How long the configuration file must go without further changes before a reload is started.
+   * Editors often write a file in several steps, so this keeps a single save from triggering
+   * several reloads, or a reload of a half-written file.
+   */
+  @JsonProperty("quietPeriod")
+  @NotNull @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS)
+  @Builder.Default
+  private Duration quietPeriod = Duration.seconds(2);
+}
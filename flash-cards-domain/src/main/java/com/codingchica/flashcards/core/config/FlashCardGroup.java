@@ -2,8 +2,11 @@ package com.codingchica.flashcards.core.config;
 
 import com.codingchica.flashcards.core.validations.MinMaxPromptCountsValid;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.util.Map;
 import lombok.*;
@@ -18,6 +21,30 @@ import org.hibernate.validator.constraints.Length;
 @Setter
 @Builder(builderClassName = "Builder")
 public class FlashCardGroup {
+  /** How the answers provided are matched against the answers expected. */
+  public enum AnswerMatching {
+    /** The answer provided must be exactly the answer expected. */
+    EXACT,
+    /** The answer provided must be the answer expected, ignoring case. */
+    IGNORE_CASE,
+    /**
+     * The answer provided must be the answer expected, once both are Unicode (NFKC) normalized,
+     * trimmed, have runs of whitespace collapsed to a single space, and ignoring case.
+     */
+    NORMALIZED,
+    /**
+     * The answer provided must be the same number as the answer expected, so that " 12", "+12" and
+     * "12.0" all match "12". Expected answers that are not numbers are matched as NORMALIZED.
+     */
+    NUMERIC,
+    /**
+     * The answer provided must be the answer expected, once both are normalized as for NORMALIZED.
+     * Answers within maximumEdits typos (insertions, deletions or substitutions) of it earn partial
+     * credit, which shrinks with each typo.
+     */
+    FUZZY
+  }
+
   /**
    * The maximum number of prompts to present to a user on a given execution. The value of 0 means
    * to use all prompts configured. Any positive value will enforce a maximum limit on the prompts
@@ -47,4 +74,19 @@ public class FlashCardGroup {
   @NotBlank
   @JsonProperty("name")
   @Length(max = 50, message = "must be 50 characters or less") private String name;
+
+  /** How the answers provided are matched against the answers expected. */
+  @NotNull @JsonProperty("answerMatching")
+  @Builder.Default
+  private AnswerMatching answerMatching = AnswerMatching.IGNORE_CASE;
+
+  /**
+   * For FUZZY answer matching, the most typos an answer may have and still earn partial credit. An
+   * answer with n typos earns 1 - n / (maximumEdits + 1) of the credit for the prompt.
+   */
+  @JsonProperty("maximumEdits")
+  @Min(0)
+  @Max(10)
+  @Builder.Default
+  private int maximumEdits = 2;
 }
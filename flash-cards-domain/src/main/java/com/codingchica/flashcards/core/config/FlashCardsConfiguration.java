@@ -33,4 +33,44 @@ public class FlashCardsConfiguration extends Configuration {
           String,
           @Valid @NotNull List<@Valid @NotNull FlashCardGroup>>
       flashCardGroupMap;
+
+  /** How the catalog built from flashCardGroupMap may be reloaded without a restart. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private CatalogReloadConfiguration catalogReload = new CatalogReloadConfiguration();
+
+  /** Whether, and how many, quizzes are generated ahead of the requests for them. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private QuizPoolConfiguration quizPool = new QuizPoolConfiguration();
+
+  /** Whether quiz IDs are signed tokens, so that grading needs no per-quiz server memory. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private QuizTokenConfiguration quizTokens = new QuizTokenConfiguration();
+
+  /** How many quizzes in progress are kept for grading, and for how long. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private QuizSessionsConfiguration quizSessions = new QuizSessionsConfiguration();
+
+  /** How many completed quizzes are graded at the same time, e.g. for a batch of submissions. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private GradingConfiguration grading = new GradingConfiguration();
+
+  /** Where graded quizzes are kept, and how often they are flushed to disk. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private QuizResultsConfiguration quizResults = new QuizResultsConfiguration();
+
+  /** The running statistics kept for each quiz as it is graded. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private QuizStatisticsConfiguration quizStatistics = new QuizStatisticsConfiguration();
+
+  /** The prompts missed most often across every student, overall and for each category. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private HardestPromptsConfiguration hardestPrompts = new HardestPromptsConfiguration();
+
+  /** The distributions of completion times and scores recorded for each quiz as it is graded. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private QuizDistributionsConfiguration quizDistributions = new QuizDistributionsConfiguration();
+
+  /** How graded quizzes kept in the memory-mapped store are rolled up once old enough. */
+  @JsonProperty @Valid @NotNull @Builder.Default
+  private QuizResultRollupsConfiguration quizResultRollups = new QuizResultRollupsConfiguration();
 }
@@ -0,0 +1,46 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing the bounded pool of threads completed quizzes are graded on, so that a
+ * large batch of submissions cannot tie up more than a fixed share of the server.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class GradingConfiguration {
+  /** How many quizzes may be graded at the same time. */
+  @JsonProperty("threads")
+  @Min(1)
+  @Max(64)
+  @Builder.Default
+  private int threads = 4;
+
+  /**
+   * How many quizzes may wait for a grading thread. Once full, a single quiz submitted is refused
+   * with a 503, while a batch is graded on the submitting thread instead, which slows it down
+   * rather than failing it.
+   */
+  @JsonProperty("queueCapacity")
+  @Min(1)
+  @Max(65536)
+  @Builder.Default
+  private int queueCapacity = 256;
+
+  /** How long clients are asked to wait before submitting a quiz again, after a refusal. */
+  @JsonProperty("retryAfter")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration retryAfter = Duration.seconds(1);
+}
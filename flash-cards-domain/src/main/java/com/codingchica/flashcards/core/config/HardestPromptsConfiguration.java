@@ -0,0 +1,46 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+/**
+ * The POJO representing the live view of the prompts missed most often across every student, kept
+ * for the whole catalog and for each category in a sketch whose size does not grow with the number
+ * of distinct prompts.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class HardestPromptsConfiguration {
+  /** How many of the prompts missed most often are listed, overall and for each category. */
+  @JsonProperty("limit")
+  @Min(1)
+  @Max(1000)
+  @Builder.Default
+  private int limit = 20;
+
+  /**
+   * The counters in each row of a sketch, rounded up to a power of two. The miss counts listed may
+   * be overestimated by about 2.7 / sketchWidth of all the misses counted in the sketch.
+   */
+  @JsonProperty("sketchWidth")
+  @Min(16)
+  @Max(1 << 20)
+  @Builder.Default
+  private int sketchWidth = 2048;
+
+  /**
+   * The rows of counters in a sketch, each hashing the prompts differently. Each extra row makes an
+   * overestimate beyond the bound above about 2.7 times less likely.
+   */
+  @JsonProperty("sketchDepth")
+  @Min(1)
+  @Max(16)
+  @Builder.Default
+  private int sketchDepth = 4;
+}
@@ -0,0 +1,44 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing the distributions of completion times and scores recorded for each quiz as
+ * it is graded, since startup and over the last interval.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class QuizDistributionsConfiguration {
+  /** How often the counts of the last interval are rolled over. */
+  @JsonProperty("interval")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration interval = Duration.minutes(1);
+
+  /** The longest completion time told apart. Longer times are recorded as this long. */
+  @JsonProperty("maximumTime")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration maximumTime = Duration.hours(1);
+
+  /**
+   * The decimal digits to which completion times are told apart, e.g. 2 to within 1%. Times below
+   * 256 seconds are always exact with 2 digits.
+   */
+  @JsonProperty("significantDigits")
+  @Min(1)
+  @Max(3)
+  @Builder.Default
+  private int significantDigits = 2;
+}
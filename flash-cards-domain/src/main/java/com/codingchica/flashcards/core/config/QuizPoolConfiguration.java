@@ -0,0 +1,30 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+/**
+ * The POJO representing the optional pool of quizzes generated ahead of time, so that serving a
+ * quiz is usually just taking one off a queue.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class QuizPoolConfiguration {
+  /** Whether quizzes should be generated ahead of time. */
+  @JsonProperty("enabled")
+  @Builder.Default
+  private boolean enabled = false;
+
+  /** How many ready quizzes to keep for each quiz name. */
+  @JsonProperty("depthPerQuiz")
+  @Min(1)
+  @Max(1024)
+  @Builder.Default
+  private int depthPerQuiz = 8;
+}
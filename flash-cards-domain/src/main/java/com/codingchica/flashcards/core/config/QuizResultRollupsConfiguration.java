@@ -0,0 +1,55 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing how graded quizzes kept in the memory-mapped store are compacted. Once
+ * every result in a segment is older than rawRetention, the segment is rolled up into hourly totals
+ * for each quiz, which are saved to a local file, and the segment is deleted, or moved to
+ * archiveDirectory. Hourly totals older than hourlyRetention are rolled up again into daily totals,
+ * so that the disk used stays bounded however long the service runs.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class QuizResultRollupsConfiguration {
+  /** The local file the rollups are saved to, and restored from on start. */
+  @JsonProperty("file")
+  @NotBlank
+  @Builder.Default
+  private String file = "quiz-result-rollups.json";
+
+  /** How long each result is kept as saved, to be exported, before it is rolled up. */
+  @JsonProperty("rawRetention")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.HOURS)
+  @Builder.Default
+  private Duration rawRetention = Duration.days(7);
+
+  /** How long hourly totals are kept before they are rolled up into daily totals. */
+  @JsonProperty("hourlyRetention")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.DAYS)
+  @Builder.Default
+  private Duration hourlyRetention = Duration.days(30);
+
+  /** How often segments are checked for results old enough to roll up. */
+  @JsonProperty("compactionInterval")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration compactionInterval = Duration.hours(1);
+
+  /**
+   * The local directory segments are moved to once rolled up, created if needed, or omitted to
+   * delete them.
+   */
+  @JsonProperty("archiveDirectory")
+  private String archiveDirectory;
+}
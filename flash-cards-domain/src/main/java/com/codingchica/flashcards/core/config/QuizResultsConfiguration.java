@@ -0,0 +1,124 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.DataSizeUnit;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MaxDataSize;
+import io.dropwizard.validation.MaxDuration;
+import io.dropwizard.validation.MinDataSize;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing where graded quizzes are kept. Each result is appended to the latest of a
+ * series of segment files in a local directory: as a line of JSON in the journal, or as a binary
+ * record in the memory-mapped store, which can look results up by quiz and time saved. Journaled
+ * results appended at about the same time are flushed to disk together, so that each is durable
+ * once saved without paying for a flush of its own.
+ *
+ * <p>Results are handed to the journal by a single writer thread, in batches, from a bounded queue,
+ * so that grading does not wait for them to be saved. What happens once the queue is full is set by
+ * whenQueueFull.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class QuizResultsConfiguration {
+  /** How graded quizzes are kept. */
+  public enum Storage {
+    /** As lines of JSON, flushed to disk in groups every commitInterval. */
+    JOURNAL,
+    /**
+     * As compact binary records in fixed-size, memory-mapped segments, indexed by the time saved,
+     * so that the results for a quiz within a time range can be found without reading every
+     * segment.
+     */
+    MAPPED
+  }
+
+  /** What to do with results saved while the queue to the journal is full. */
+  public enum WhenQueueFull {
+    /** Wait for room in the queue, slowing grading down to the pace of the journal. */
+    BLOCK,
+    /** Discard the results that do not fit, counting them in the "dropped" meter. */
+    DROP,
+    /** Refuse the quizzes being graded with a 503, asking clients to retry after retryAfter. */
+    REJECT
+  }
+
+  /** How graded quizzes are kept. */
+  @JsonProperty("storage")
+  @NotNull @Builder.Default
+  private Storage storage = Storage.JOURNAL;
+
+  /** The local directory holding the segment files, created if needed. */
+  @JsonProperty("directory")
+  @NotBlank
+  @Builder.Default
+  private String directory = "quiz-results";
+
+  /**
+   * How large a segment file may grow before the next one is started, which is the size of each
+   * memory-mapped segment.
+   */
+  @JsonProperty("segmentSize")
+  @NotNull @MinDataSize(value = 1, unit = DataSizeUnit.KIBIBYTES)
+  @MaxDataSize(value = 1, unit = DataSizeUnit.GIBIBYTES)
+  @Builder.Default
+  private DataSize segmentSize = DataSize.mebibytes(64);
+
+  /**
+   * How long results may wait to be flushed to disk, to be flushed together with the results saved
+   * after them. Only used by the journal, as the memory-mapped store flushes each batch handed to
+   * it by the writer.
+   */
+  @JsonProperty("commitInterval")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+  @MaxDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration commitInterval = Duration.milliseconds(10);
+
+  /**
+   * How many results waiting to be flushed to disk trigger a flush, before commitInterval. Only
+   * used by the journal.
+   */
+  @JsonProperty("commitRecords")
+  @Min(1)
+  @Max(65536)
+  @Builder.Default
+  private int commitRecords = 256;
+
+  /** How many results may wait in the queue to the journal. */
+  @JsonProperty("queueCapacity")
+  @Min(1)
+  @Max(1_048_576)
+  @Builder.Default
+  private int queueCapacity = 16_384;
+
+  /** The most results the writer hands to the journal at once. */
+  @JsonProperty("maximumBatchSize")
+  @Min(1)
+  @Max(65536)
+  @Builder.Default
+  private int maximumBatchSize = 1024;
+
+  /** What to do with results saved while the queue to the journal is full. */
+  @JsonProperty("whenQueueFull")
+  @NotNull @Builder.Default
+  private WhenQueueFull whenQueueFull = WhenQueueFull.BLOCK;
+
+  /** How long clients are asked to wait before grading again, after a refusal. */
+  @JsonProperty("retryAfter")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration retryAfter = Duration.seconds(1);
+}
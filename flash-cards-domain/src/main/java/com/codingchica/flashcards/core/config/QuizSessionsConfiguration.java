@@ -0,0 +1,114 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.DataSizeUnit;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MaxDataSize;
+import io.dropwizard.validation.MinDataSize;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing where quizzes that have been handed out are kept until they are graded. The
+ * in-memory store is bounded by the total number of prompts across the quizzes it holds, since
+ * that, rather than the number of quizzes, is what their memory use grows with. The off-heap store
+ * is instead bounded by the memory it may allocate outside the Java heap. Either may be journaled
+ * to local disk.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class QuizSessionsConfiguration {
+  /** Where quizzes in progress are kept. */
+  public enum Storage {
+    /** On the Java heap, bounded by maximumPrompts. */
+    HEAP,
+    /**
+     * In direct memory outside the Java heap, bounded by offHeapSize, so that large numbers of
+     * quizzes in progress do not lengthen garbage collection pauses.
+     */
+    OFF_HEAP
+  }
+
+  /** Where quizzes in progress are kept. */
+  @JsonProperty("storage")
+  @NotNull @Builder.Default
+  private Storage storage = Storage.HEAP;
+
+  /** The most prompts, summed across all quizzes in progress, to hold at once. */
+  @JsonProperty("maximumPrompts")
+  @Min(1)
+  @Builder.Default
+  private long maximumPrompts = 100_000;
+
+  /** How long after being handed out a quiz may still be graded. */
+  @JsonProperty("expireAfter")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration expireAfter = Duration.hours(3);
+
+  /**
+   * What to do when handing out another quiz would exceed maximumPrompts, or offHeapSize for the
+   * off-heap store. When false, the quizzes least recently handed out are evicted, and can no
+   * longer be graded. When true, the new quiz is refused with a 503, so that quizzes in progress
+   * are never lost.
+   */
+  @JsonProperty("rejectWhenFull")
+  @Builder.Default
+  private boolean rejectWhenFull = false;
+
+  /** How long clients are asked to wait before asking for a quiz again, after a refusal. */
+  @JsonProperty("retryAfter")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration retryAfter = Duration.seconds(30);
+
+  /** The most memory the off-heap store may allocate, which it does a slab at a time. */
+  @JsonProperty("offHeapSize")
+  @NotNull @MinDataSize(value = 1, unit = DataSizeUnit.MEBIBYTES)
+  @Builder.Default
+  private DataSize offHeapSize = DataSize.mebibytes(256);
+
+  /**
+   * The size of each off-heap slab, which bounds the size of a single quiz. Slabs are reused whole,
+   * oldest first, once the store is full.
+   */
+  @JsonProperty("slabSize")
+  @NotNull @MinDataSize(value = 64, unit = DataSizeUnit.KIBIBYTES)
+  @MaxDataSize(value = 1, unit = DataSizeUnit.GIBIBYTES)
+  @Builder.Default
+  private DataSize slabSize = DataSize.mebibytes(4);
+
+  /**
+   * The local directory in which to journal quizzes in progress, so that they survive restarts and
+   * can still be graded afterwards. When not set, quizzes in progress are only kept in memory.
+   */
+  @JsonProperty("journalDirectory")
+  private String journalDirectory;
+
+  /** How often the journal is compacted into a snapshot of the quizzes still in progress. */
+  @JsonProperty("snapshotInterval")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration snapshotInterval = Duration.minutes(5);
+
+  /**
+   * Whether the off-heap store has room for at least one slab.
+   *
+   * @return True when offHeapSize is at least slabSize, or either is missing.
+   */
+  @JsonIgnore
+  @AssertTrue(message = "offHeapSize must be at least slabSize")
+  public boolean isOffHeapSizeValid() {
+    return offHeapSize == null || slabSize == null || offHeapSize.toBytes() >= slabSize.toBytes();
+  }
+}
@@ -0,0 +1,45 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing the running statistics kept for each quiz as it is graded, which are
+ * checkpointed to a local file so that they survive a restart.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class QuizStatisticsConfiguration {
+  /** The local file the statistics are checkpointed to, and restored from on start. */
+  @JsonProperty("checkpointFile")
+  @NotBlank
+  @Builder.Default
+  private String checkpointFile = "quiz-statistics.json";
+
+  /**
+   * How often the statistics are checkpointed, besides on stop. Quizzes graded since the last
+   * checkpoint are not counted after a crash.
+   */
+  @JsonProperty("checkpointInterval")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration checkpointInterval = Duration.minutes(1);
+
+  /** How many of the prompts missed most often are listed for each quiz. */
+  @JsonProperty("mostMissedPrompts")
+  @Min(1)
+  @Max(1000)
+  @Builder.Default
+  private int mostMissedPrompts = 10;
+}
@@ -0,0 +1,59 @@
+package com.codingchica.flashcards.core.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import lombok.*;
+
+/**
+ * The POJO representing the optional signed quiz IDs. When enabled, each quiz ID carries what is
+ * needed to regenerate the quiz, signed with a shared secret, so that quizzes can be graded by any
+ * node, without the server remembering each quiz handed out.
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Builder(builderClassName = "Builder")
+public class QuizTokenConfiguration {
+  /** The fewest bytes the secret may contain, matching the HMAC-SHA256 output size. */
+  public static final int MINIMUM_SECRET_BYTES = 32;
+
+  /** Whether quiz IDs should be signed tokens, rather than keys into an in-memory cache. */
+  @JsonProperty("enabled")
+  @Builder.Default
+  private boolean enabled = false;
+
+  /**
+   * The key quiz IDs are signed with. Every node grading the same quizzes must share it, so it is
+   * best supplied from the environment rather than committed alongside the configuration.
+   */
+  @JsonProperty("secret")
+  @ToString.Exclude
+  private String secret;
+
+  /** How long after creation a quiz may still be graded. */
+  @JsonProperty("maxAge")
+  @NotNull @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+  @Builder.Default
+  private Duration maxAge = Duration.hours(3);
+
+  /**
+   * Whether the secret is long enough to sign with, when signing is enabled.
+   *
+   * @return True when disabled, or when the secret is at least MINIMUM_SECRET_BYTES long.
+   */
+  @JsonIgnore
+  @AssertTrue(message = "secret must be at least 32 bytes when enabled")
+  public boolean isSecretValid() {
+    return !enabled
+        || (secret != null
+            && secret.getBytes(StandardCharsets.UTF_8).length >= MINIMUM_SECRET_BYTES);
+  }
+}
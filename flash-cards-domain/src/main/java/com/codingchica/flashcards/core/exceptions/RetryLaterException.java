@@ -0,0 +1,36 @@
+package com.codingchica.flashcards.core.exceptions;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * A RenderableException for when the server is temporarily out of capacity. It is rendered as a 503
+ * with a Retry-After header, so that clients back off rather than retrying immediately.
+ */
+public class RetryLaterException extends RenderableException {
+  /** How long the client should wait before retrying. */
+  @Getter private final Duration retryAfter;
+
+  /**
+   * Constructor.
+   *
+   * @param message The message to use in the response.
+   * @param retryAfter How long the client should wait before retrying.
+   */
+  public RetryLaterException(String message, @NonNull Duration retryAfter) {
+    super(HttpStatus.SERVICE_UNAVAILABLE_503, message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * The Retry-After header value: the wait in whole seconds, rounded up.
+   *
+   * @return The number of seconds the client should wait before retrying.
+   */
+  public long getRetryAfterSeconds() {
+    long seconds = retryAfter.getSeconds();
+    return retryAfter.getNano() > 0 ? seconds + 1 : seconds;
+  }
+}
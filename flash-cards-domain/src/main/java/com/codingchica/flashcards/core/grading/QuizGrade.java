@@ -0,0 +1,61 @@
+package com.codingchica.flashcards.core.grading;
+
+import com.codingchica.flashcards.core.model.internal.CompletedPrompt;
+import java.util.BitSet;
+import java.util.List;
+import lombok.Getter;
+
+/** The outcome of grading a quiz's answers, before it is mapped to any result representation. */
+@Getter
+public class QuizGrade {
+  /** Tolerance for rounding error in summed partial credits, well below a whole percent. */
+  private static final double PERCENTAGE_EPSILON = 1e-9;
+
+  /** The number of (non-null) prompts in the quiz. */
+  private final int promptCount;
+
+  /** The number of prompts answered correctly. */
+  private final int correctAnswers;
+
+  /**
+   * The total credit earned across the prompts: one per correct answer, plus any partial credit for
+   * near misses.
+   */
+  private final double credit;
+
+  /** The whole percentage of the credit available which was earned, rounded down. */
+  private final int percentage;
+
+  /** The per-prompt detail, or an empty list when detail was not requested. */
+  private final List<CompletedPrompt> completedPrompts;
+
+  /**
+   * The positions in the quiz of the prompts which did not earn full credit, including any left
+   * unanswered. Not to be modified.
+   */
+  private final BitSet missedPositions;
+
+  /**
+   * Constructor.
+   *
+   * @param promptCount The number of (non-null) prompts in the quiz.
+   * @param correctAnswers The number of prompts answered correctly.
+   * @param credit The total credit earned across the prompts.
+   * @param completedPrompts The per-prompt detail, or an empty list when detail was not requested.
+   * @param missedPositions The positions of the prompts which did not earn full credit.
+   */
+  QuizGrade(
+      int promptCount,
+      int correctAnswers,
+      double credit,
+      List<CompletedPrompt> completedPrompts,
+      BitSet missedPositions) {
+    this.promptCount = promptCount;
+    this.correctAnswers = correctAnswers;
+    this.credit = credit;
+    // Partial credits are inexact fractions, so allow for rounding error in their sum.
+    this.percentage = promptCount > 0 ? (int) (credit * 100 / promptCount + PERCENTAGE_EPSILON) : 0;
+    this.completedPrompts = completedPrompts;
+    this.missedPositions = missedPositions;
+  }
+}
@@ -0,0 +1,110 @@
+package com.codingchica.flashcards.core.grading;
+
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.model.internal.CompletedPrompt;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Grades the answers returned for a quiz in a single pass over its prompts, counting the prompts
+ * and correct answers and, only when asked, recording the detail of each prompt. Prompts drawn from
+ * a compiled deck are matched with the deck's answer matching strategy, which may award partial
+ * credit for near misses.
+ */
+public class QuizGrader {
+
+  /**
+   * Grade the answers returned for a quiz.
+   *
+   * @param prompts The prompts presented in the quiz. Null entries are skipped, and are not
+   *     counted.
+   * @param answers The answers returned, in the same order as the prompts.
+   * @param detailed Whether to record the detail of each prompt.
+   * @return The grade for the quiz.
+   */
+  public QuizGrade grade(
+      List<Map.Entry<String, String>> prompts, List<String> answers, boolean detailed) {
+    Preconditions.checkNotNull(prompts, "prompts must not be null");
+    Preconditions.checkNotNull(answers, "answers must not be null");
+    int size = prompts.size();
+    Preconditions.checkArgument(
+        size == answers.size(),
+        "prompts (%s) and answers (%s) size must be equivalent",
+        size,
+        answers.size());
+    // Read straight from the compiled deck, rather than materializing each entry.
+    DeckPromptList deckPrompts = prompts instanceof DeckPromptList list ? list : null;
+    List<CompletedPrompt> completedPrompts = detailed ? new ArrayList<>(size) : List.of();
+    BitSet missedPositions = new BitSet(size);
+    int promptCount = 0;
+    int correctAnswers = 0;
+    double credit = 0;
+    for (int i = 0; i < size; i++) {
+      Map.Entry<String, String> prompt = null;
+      String expectedAnswer;
+      String answer = answers.get(i);
+      double promptCredit;
+      if (deckPrompts != null) {
+        expectedAnswer = deckPrompts.getAnswer(i);
+        promptCredit = deckPrompts.getCredit(i, answer);
+      } else {
+        prompt = prompts.get(i);
+        if (prompt == null) {
+          continue;
+        }
+        expectedAnswer = prompt.getValue();
+        promptCredit = isCorrect(expectedAnswer, answer) ? 1 : 0;
+      }
+      promptCount++;
+      boolean correct = promptCredit == 1;
+      if (correct) {
+        correctAnswers++;
+      } else {
+        missedPositions.set(i);
+      }
+      credit += promptCredit;
+      if (detailed) {
+        String promptText = prompt == null ? deckPrompts.getPrompt(i) : prompt.getKey();
+        completedPrompts.add(
+            new CompletedPrompt(promptText, expectedAnswer, answer, correct, promptCredit));
+      }
+    }
+    return new QuizGrade(promptCount, correctAnswers, credit, completedPrompts, missedPositions);
+  }
+
+  /**
+   * Grade a single answer, e.g. as soon as it is given rather than once the quiz is complete.
+   *
+   * @param prompts The prompts presented in the quiz.
+   * @param index The index of the prompt answered.
+   * @param answer The answer provided.
+   * @return The credit earned, from 0 to 1.
+   */
+  public double gradeAnswer(List<Map.Entry<String, String>> prompts, int index, String answer) {
+    Preconditions.checkNotNull(prompts, "prompts must not be null");
+    Preconditions.checkElementIndex(index, prompts.size(), "index");
+    if (prompts instanceof DeckPromptList deckPrompts) {
+      return deckPrompts.getCredit(index, answer);
+    }
+    Map.Entry<String, String> prompt = prompts.get(index);
+    Preconditions.checkArgument(prompt != null, "prompt %s must not be null", index);
+    return isCorrect(prompt.getValue(), answer) ? 1 : 0;
+  }
+
+  /**
+   * Whether an answer provided matches the answer expected, for prompts that were not drawn from a
+   * compiled deck, which instead applies its own answer matching strategy. Answers are matched
+   * ignoring case.
+   *
+   * @param expectedAnswer The answer expected.
+   * @param answer The answer provided.
+   * @return True if the answer is correct, false otherwise.
+   */
+  public boolean isCorrect(String expectedAnswer, String answer) {
+    return StringUtils.equalsIgnoreCase(expectedAnswer, answer);
+  }
+}
@@ -0,0 +1,127 @@
+package com.codingchica.flashcards.core.grading;
+
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.google.common.base.Preconditions;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The grade of a quiz which is being answered one prompt at a time, in order. Only the running
+ * totals, and a bit per prompt missed, are kept rather than the answers, so grading each answer
+ * takes constant time. Null prompts are skipped, and are not counted, as when grading a completed
+ * quiz. Not thread-safe: callers answering the same quiz from several threads must synchronize on
+ * it.
+ */
+public class RunningGrade {
+  private final QuizGrader quizGrader;
+
+  /** The prompts presented in the quiz. */
+  private final List<Map.Entry<String, String>> prompts;
+
+  /** The number of (non-null) prompts in the quiz. */
+  @Getter private final int promptCount;
+
+  /** The index of the next prompt to answer, or the number of prompts once all are answered. */
+  @Getter private int position;
+
+  /** The number of prompts answered correctly so far. */
+  @Getter private int correctAnswers;
+
+  /** The total credit earned so far, including any partial credit for near misses. */
+  @Getter private double credit;
+
+  /** The positions of the prompts answered so far which did not earn full credit. */
+  private final BitSet missedPositions = new BitSet();
+
+  /**
+   * Constructor.
+   *
+   * @param quizGrader Grades each answer.
+   * @param prompts The prompts presented in the quiz.
+   */
+  public RunningGrade(
+      @NonNull QuizGrader quizGrader, @NonNull List<Map.Entry<String, String>> prompts) {
+    this.quizGrader = quizGrader;
+    this.prompts = prompts;
+    int count = prompts.size();
+    if (!(prompts instanceof DeckPromptList)) {
+      for (Map.Entry<String, String> prompt : prompts) {
+        if (prompt == null) {
+          count--;
+        }
+      }
+    }
+    this.promptCount = count;
+    skipNullPrompts();
+  }
+
+  /**
+   * Whether every prompt has been answered.
+   *
+   * @return True once there are no more prompts to answer.
+   */
+  public boolean isComplete() {
+    return position == prompts.size();
+  }
+
+  /**
+   * Retrieve the answer expected for the next prompt.
+   *
+   * @return The expected answer.
+   * @throws IllegalStateException if every prompt has been answered.
+   */
+  public String getExpectedAnswer() {
+    Preconditions.checkState(!isComplete(), "every prompt has been answered");
+    return prompts instanceof DeckPromptList deckPrompts
+        ? deckPrompts.getAnswer(position)
+        : prompts.get(position).getValue();
+  }
+
+  /**
+   * Grade the answer to the next prompt, and move on to the prompt after it.
+   *
+   * @param answer The answer provided.
+   * @return The credit earned for the answer, from 0 to 1.
+   * @throws IllegalStateException if every prompt has been answered.
+   */
+  public double grade(String answer) {
+    Preconditions.checkState(!isComplete(), "every prompt has been answered");
+    double promptCredit = quizGrader.gradeAnswer(prompts, position, answer);
+    if (promptCredit == 1) {
+      correctAnswers++;
+    } else {
+      missedPositions.set(position);
+    }
+    credit += promptCredit;
+    position++;
+    skipNullPrompts();
+    return promptCredit;
+  }
+
+  /**
+   * Retrieve the grade for the quiz as it stands. Prompts not answered yet count as incorrect.
+   *
+   * @return The grade, without per-prompt detail.
+   */
+  public QuizGrade toQuizGrade() {
+    BitSet missed = (BitSet) missedPositions.clone();
+    for (int i = position; i < prompts.size(); i++) {
+      if (prompts instanceof DeckPromptList || prompts.get(i) != null) {
+        missed.set(i);
+      }
+    }
+    return new QuizGrade(promptCount, correctAnswers, credit, List.of(), missed);
+  }
+
+  /** Move the position past any null prompts, which are not presented. */
+  private void skipNullPrompts() {
+    if (!(prompts instanceof DeckPromptList)) {
+      while (position < prompts.size() && prompts.get(position) == null) {
+        position++;
+      }
+    }
+  }
+}
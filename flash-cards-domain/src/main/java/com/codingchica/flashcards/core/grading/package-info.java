@@ -0,0 +1,2 @@
+/** Grading of the answers returned for a quiz against the answers expected. */
+package com.codingchica.flashcards.core.grading;
@@ -0,0 +1,13 @@
+package com.codingchica.flashcards.core.ids;
+
+import java.util.UUID;
+
+/** Generates the ID a quiz is tracked by between being handed out and being graded. */
+public interface QuizIdGenerator {
+  /**
+   * Generate a new, unique quiz ID.
+   *
+   * @return A new quiz ID.
+   */
+  UUID nextId();
+}
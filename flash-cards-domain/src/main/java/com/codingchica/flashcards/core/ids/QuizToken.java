@@ -0,0 +1,44 @@
+package com.codingchica.flashcards.core.ids;
+
+import java.time.Instant;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Everything needed to regenerate a quiz that was handed out: which deck, from which version of the
+ * catalog, the seed its prompts were drawn with, and when it was created. Tokens are equal when all
+ * of their fields are.
+ */
+@Getter
+@ToString
+@Builder(builderClassName = "Builder")
+public final class QuizToken {
+  /** The ID of the deck within its catalog. */
+  private final int deckId;
+
+  /** The version of the catalog the deck belongs to. */
+  private final long catalogVersion;
+
+  /** The seed the prompts were drawn with. */
+  private final long seed;
+
+  /** The time at which the quiz was created, to the millisecond. */
+  @NonNull private final Instant createdDateTime;
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof QuizToken quizToken
+        && deckId == quizToken.deckId
+        && catalogVersion == quizToken.catalogVersion
+        && seed == quizToken.seed
+        && createdDateTime.equals(quizToken.createdDateTime);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(deckId, catalogVersion, seed, createdDateTime);
+  }
+}
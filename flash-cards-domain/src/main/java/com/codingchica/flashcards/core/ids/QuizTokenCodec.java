@@ -0,0 +1,144 @@
+package com.codingchica.flashcards.core.ids;
+
+import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Encodes quiz tokens into signed, URL-safe quiz IDs and back. The ID carries the token fields
+ * followed by a truncated HMAC-SHA256 over them, so any node sharing the secret can trust the
+ * fields without having seen the quiz before, and a tampered ID is simply not found.
+ */
+public class QuizTokenCodec {
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final byte FORMAT = 1;
+  private static final int PAYLOAD_LENGTH = 1 + Integer.BYTES + 3 * Long.BYTES;
+  private static final int SIGNATURE_LENGTH = 16;
+  private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + SIGNATURE_LENGTH;
+  private static final int MINIMUM_SECRET_LENGTH = 32;
+
+  /** How far ahead of this node's clock a token may have been created on another node. */
+  private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+  /** How long after creation a quiz may still be graded. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration maxAge;
+
+  /** The clock to check token ages against. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Clock clock;
+
+  /** Mac instances are not thread safe, so each thread signs with its own. */
+  private final ThreadLocal<Mac> macs;
+
+  /**
+   * Constructor.
+   *
+   * @param secret The key to sign with, at least 32 bytes, shared by every node grading quizzes.
+   * @param maxAge How long after creation a quiz may still be graded.
+   * @param clock The clock to check token ages against. Defaults to the UTC system clock.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  private QuizTokenCodec(byte @NonNull [] secret, @NonNull Duration maxAge, Clock clock) {
+    Preconditions.checkArgument(
+        secret.length >= MINIMUM_SECRET_LENGTH,
+        "secret must be at least %s bytes",
+        MINIMUM_SECRET_LENGTH);
+    Preconditions.checkArgument(
+        !maxAge.isNegative() && !maxAge.isZero(), "maxAge must be positive");
+    SecretKeySpec key = new SecretKeySpec(secret.clone(), ALGORITHM);
+    this.maxAge = maxAge;
+    this.clock = clock == null ? Clock.systemUTC() : clock;
+    this.macs = ThreadLocal.withInitial(() -> newMac(key));
+  }
+
+  private static Mac newMac(SecretKeySpec key) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to initialize " + ALGORITHM, e);
+    }
+  }
+
+  /**
+   * Encode and sign a token as a quiz ID.
+   *
+   * @param quizToken The token to encode.
+   * @return The quiz ID.
+   */
+  public String encode(@NonNull QuizToken quizToken) {
+    ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH);
+    buffer
+        .put(FORMAT)
+        .putInt(quizToken.getDeckId())
+        .putLong(quizToken.getCatalogVersion())
+        .putLong(quizToken.getSeed())
+        .putLong(quizToken.getCreatedDateTime().toEpochMilli());
+    buffer.put(sign(buffer.array()), 0, SIGNATURE_LENGTH);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  /**
+   * Decode a quiz ID back into its token, if it was signed with this secret and has not expired.
+   *
+   * @param quizId The quiz ID.
+   * @return The token, or empty when the ID is malformed, tampered with, or expired.
+   */
+  public Optional<QuizToken> decode(@NonNull String quizId) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(quizId);
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    if (bytes.length != TOKEN_LENGTH || bytes[0] != FORMAT) {
+      return Optional.empty();
+    }
+    byte[] signature = Arrays.copyOf(sign(bytes), SIGNATURE_LENGTH);
+    if (!MessageDigest.isEqual(
+        signature, Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, TOKEN_LENGTH))) {
+      return Optional.empty();
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+    QuizToken quizToken =
+        QuizToken.builder()
+            .deckId(buffer.getInt())
+            .catalogVersion(buffer.getLong())
+            .seed(buffer.getLong())
+            .createdDateTime(Instant.ofEpochMilli(buffer.getLong()))
+            .build();
+    Instant now = clock.instant();
+    Instant created = quizToken.getCreatedDateTime();
+    if (created.isAfter(now.plus(CLOCK_SKEW)) || created.plus(maxAge).isBefore(now)) {
+      return Optional.empty();
+    }
+    return Optional.of(quizToken);
+  }
+
+  /**
+   * Sign the payload at the start of a token.
+   *
+   * @param token The token bytes, of which only the payload is signed.
+   * @return The full length signature.
+   */
+  private byte[] sign(byte[] token) {
+    Mac mac = macs.get();
+    mac.update(token, 0, PAYLOAD_LENGTH);
+    return mac.doFinal();
+  }
+}
@@ -0,0 +1,117 @@
+package com.codingchica.flashcards.core.ids;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Generates version 7 (time-ordered) UUIDs, as laid out in RFC 9562: a 48 bit Unix timestamp in
+ * milliseconds, then 12 bits of sub-millisecond precision, then 62 random bits. The random bits
+ * come from a DRBG SecureRandom seeded once for the calling thread, so IDs cannot be predicted from
+ * the ones handed out before them. Unlike the default NativePRNG, whose instances all read through
+ * one shared, synchronized source, a DRBG keeps its own state, so threads do not contend on a lock.
+ * The bits are drawn in bulk and handed out from a per-thread buffer. IDs sort by the time they
+ * were generated, to within the clock's precision.
+ */
+@Builder(builderClassName = "Builder")
+public class TimeOrderedQuizIdGenerator implements QuizIdGenerator {
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+  private static final int NANOS_PER_MILLI = 1_000_000;
+
+  /** The SecureRandom algorithm whose instances share no state with each other. */
+  static final String RANDOM_ALGORITHM = "DRBG";
+
+  /** How many random bytes are drawn from the generator at once. */
+  static final int RANDOM_BUFFER_BYTES = 4096;
+
+  /** The source of the random bits, one per thread. */
+  private static final ThreadLocal<RandomBits> RANDOM_BITS =
+      ThreadLocal.withInitial(() -> new RandomBits(newSecureRandom(RANDOM_ALGORITHM)));
+
+  /** The clock to take timestamps from. */
+  @Getter(AccessLevel.PACKAGE)
+  @lombok.Builder.Default
+  @NonNull private Clock clock = Clock.systemUTC();
+
+  @Override
+  public UUID nextId() {
+    Instant now = clock.instant();
+    long subMilli = (long) (now.getNano() % NANOS_PER_MILLI) * 4096 / NANOS_PER_MILLI;
+    long mostSignificantBits = (now.toEpochMilli() << 16) | VERSION_7 | subMilli;
+    long leastSignificantBits = (randomBits().nextLong() >>> 2) | VARIANT_RFC_4122;
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  /**
+   * Retrieve the random bits of the calling thread.
+   *
+   * @return The random bits, created on first use by the thread.
+   */
+  static RandomBits randomBits() {
+    return RANDOM_BITS.get();
+  }
+
+  /**
+   * Construct a SecureRandom, seeded from the system's entropy source.
+   *
+   * @param algorithm The SecureRandom algorithm.
+   * @return A new SecureRandom.
+   * @throws IllegalStateException if the algorithm is not available.
+   */
+  static SecureRandom newSecureRandom(String algorithm) {
+    try {
+      return SecureRandom.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Unable to initialize " + algorithm, e);
+    }
+  }
+
+  /** Random longs, drawn from a SecureRandom a buffer at a time. Used by one thread only. */
+  static final class RandomBits {
+    @Getter(AccessLevel.PACKAGE)
+    private final SecureRandom secureRandom;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(RANDOM_BUFFER_BYTES);
+
+    RandomBits(@NonNull SecureRandom secureRandom) {
+      this.secureRandom = secureRandom;
+      // Empty until the first long is asked for.
+      buffer.position(buffer.limit());
+    }
+
+    /**
+     * Retrieve the next random long, refilling the buffer once it is used up.
+     *
+     * @return A random long.
+     */
+    long nextLong() {
+      if (buffer.remaining() < Long.BYTES) {
+        secureRandom.nextBytes(buffer.array());
+        buffer.clear();
+      }
+      return buffer.getLong();
+    }
+  }
+
+  /**
+   * Extract the creation time from a time-ordered quiz ID.
+   *
+   * @param quizId An ID generated by this class.
+   * @return The millisecond at which the ID was generated.
+   * @throws IllegalArgumentException If the ID is not a version 7 UUID.
+   */
+  public static Instant getTimestamp(@NonNull UUID quizId) {
+    if (quizId.version() != 7) {
+      throw new IllegalArgumentException("quizId must be a version 7 UUID");
+    }
+    return Instant.ofEpochMilli(quizId.getMostSignificantBits() >>> 16);
+  }
+}
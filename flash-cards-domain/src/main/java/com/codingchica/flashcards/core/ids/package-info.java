@@ -0,0 +1,2 @@
+/** Generation of identifiers for quizzes handed out by the server. */
+package com.codingchica.flashcards.core.ids;
@@ -1,5 +1,6 @@
 package com.codingchica.flashcards.core.mappers.external;
 
+import com.codingchica.flashcards.core.grading.QuizGrade;
 import com.codingchica.flashcards.core.model.external.CompletedQuiz;
 import com.codingchica.flashcards.core.model.external.Quiz;
 import com.codingchica.flashcards.core.model.external.QuizResult;
@@ -21,6 +22,16 @@ public interface CompletedQuizMapper {
   QuizResult mapCompletedQuizToExternalResults(
       @NonNull Quiz quiz, @NonNull CompletedQuiz completedQuiz);
 
+  /**
+   * Map a quiz which has already been graded, e.g. inline as it was answered, to an external quiz
+   * result.
+   *
+   * @param quiz The quiz which was presented to the user.
+   * @param grade The grade for the quiz.
+   * @return A QuizResult to represent a graded quiz externally.
+   */
+  QuizResult mapGradeToExternalResults(@NonNull Quiz quiz, @NonNull QuizGrade grade);
+
   /**
    * Map the quiz information to an internal quiz result.
    *
@@ -1,5 +1,7 @@
 package com.codingchica.flashcards.core.mappers.external;
 
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
 import com.codingchica.flashcards.core.config.FlashCardGroup;
 import com.codingchica.flashcards.core.model.external.Quiz;
 
@@ -15,4 +17,39 @@ public interface QuizMapper {
    * @return The external representation of the quiz.
    */
   Quiz internalToExternalQuizMapping(FlashCardGroup flashCardGroup);
+
+  /**
+   * Generate a quiz from a compiled deck.
+   *
+   * @param deck The deck from the compiled catalog.
+   * @return The external representation of the quiz.
+   */
+  Quiz deckToExternalQuizMapping(Deck deck);
+
+  /**
+   * Generate a quiz from a compiled deck, drawing its prompts with a specific seed. The same deck
+   * and seed always produce the same prompts, in the same order.
+   *
+   * @param deck The deck from the compiled catalog.
+   * @param seed The seed to draw the prompts with.
+   * @return The external representation of the quiz.
+   */
+  Quiz deckToExternalQuizMapping(Deck deck, long seed);
+
+  /**
+   * Draw the prompts of a quiz from a compiled deck, without building the quiz itself, so that they
+   * can be drawn ahead of time.
+   *
+   * @param deck The deck from the compiled catalog.
+   * @return The prompts drawn, with the seed they were drawn with.
+   */
+  DeckPromptList drawPrompts(Deck deck);
+
+  /**
+   * Generate a quiz from prompts drawn earlier, giving it its ID and creation time now.
+   *
+   * @param prompts The prompts drawn from a compiled deck.
+   * @return The external representation of the quiz.
+   */
+  Quiz promptsToExternalQuizMapping(DeckPromptList prompts);
 }
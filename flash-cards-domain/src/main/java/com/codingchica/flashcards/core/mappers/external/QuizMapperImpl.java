@@ -1,13 +1,18 @@
 package com.codingchica.flashcards.core.mappers.external;
 
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
 import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.ids.QuizIdGenerator;
+import com.codingchica.flashcards.core.ids.TimeOrderedQuizIdGenerator;
 import com.codingchica.flashcards.core.model.external.Quiz;
-import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.codingchica.flashcards.core.random.RandomnessStrategy;
+import com.codingchica.flashcards.core.random.ThreadLocalRandomnessStrategy;
 import com.google.common.base.Preconditions;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,61 +22,128 @@ import lombok.NonNull;
 @Builder(builderClassName = "Builder")
 public class QuizMapperImpl implements QuizMapper {
 
+  /** Generates the ID each quiz is tracked by. */
   @Getter(AccessLevel.PACKAGE)
   @lombok.Builder.Default
-  @NotNull private ObjectIdGenerators.UUIDGenerator uuidGenerator = new ObjectIdGenerators.UUIDGenerator();
+  @NotNull private QuizIdGenerator quizIdGenerator = TimeOrderedQuizIdGenerator.builder().build();
 
+  /** Chooses the seed each quiz is drawn with. */
   @Getter(AccessLevel.PACKAGE)
   @lombok.Builder.Default
-  @NotNull private Random random = new Random();
+  @NotNull private RandomnessStrategy randomnessStrategy = new ThreadLocalRandomnessStrategy();
 
   /**
-   * Map a FlashCardGroup to a Quiz for external rendering/representation.
+   * Map a FlashCardGroup to a Quiz for external rendering/representation. The group is compiled
+   * into a standalone deck first.
    *
    * @param flashCardGroup The flashCardGroup from the configuration.
    * @return The external representation of the quiz.
    */
   @Override
   public Quiz internalToExternalQuizMapping(@NonNull FlashCardGroup flashCardGroup) {
+    return deckToExternalQuizMapping(Deck.compile(0, null, flashCardGroup));
+  }
+
+  /**
+   * Generate a Quiz from a compiled deck for external rendering/representation.
+   *
+   * @param deck The deck from the compiled catalog.
+   * @return The external representation of the quiz.
+   */
+  @Override
+  public Quiz deckToExternalQuizMapping(@NonNull Deck deck) {
+    return deckToExternalQuizMapping(deck, randomnessStrategy.nextSeed());
+  }
+
+  /**
+   * Generate a Quiz from a compiled deck, drawing its prompts with a specific seed.
+   *
+   * @param deck The deck from the compiled catalog.
+   * @param seed The seed to draw the prompts with.
+   * @return The external representation of the quiz.
+   */
+  @Override
+  public Quiz deckToExternalQuizMapping(@NonNull Deck deck, long seed) {
+    return promptsToExternalQuizMapping(drawPrompts(deck, seed));
+  }
+
+  /**
+   * Draw the prompts of a quiz from a compiled deck, without building the quiz itself.
+   *
+   * @param deck The deck from the compiled catalog.
+   * @return The prompts drawn, with the seed they were drawn with.
+   */
+  @Override
+  public DeckPromptList drawPrompts(@NonNull Deck deck) {
+    return drawPrompts(deck, randomnessStrategy.nextSeed());
+  }
+
+  /**
+   * Generate a quiz from prompts drawn earlier, giving it its ID and creation time now.
+   *
+   * @param prompts The prompts drawn from a compiled deck.
+   * @return The external representation of the quiz.
+   */
+  @Override
+  public Quiz promptsToExternalQuizMapping(@NonNull DeckPromptList prompts) {
     Quiz.Builder quizBuilder =
         Quiz.builder()
-            .id(uuidGenerator.generateId(flashCardGroup))
-            .name(flashCardGroup.getName())
+            .id(quizIdGenerator.nextId().toString())
+            .name(prompts.getDeck().getName())
             .createdDateTime(Instant.now())
-            .prompts(
-                getPrompts(
-                    flashCardGroup.getMinimumPrompts(),
-                    flashCardGroup.getMaximumPrompts(),
-                    flashCardGroup.getPrompts()));
+            .prompts(prompts);
 
     return quizBuilder.build();
   }
 
-  private List<Map.Entry<String, String>> getPrompts(
-      int minPrompts, int maxPrompts, @NonNull Map<String, String> promptsMap) {
-    int max = Math.max(promptsMap.size(), minPrompts);
+  private DeckPromptList drawPrompts(Deck deck, long seed) {
+    return new DeckPromptList(
+        deck,
+        seed,
+        getPromptIds(
+            deck.getMinimumPrompts(),
+            deck.getMaximumPrompts(),
+            deck.getPromptCount(),
+            randomnessStrategy.generator(seed)));
+  }
+
+  private int[] getPromptIds(
+      int minPrompts, int maxPrompts, int promptCount, RandomGenerator random) {
+    int max = Math.max(promptCount, minPrompts);
     if (maxPrompts > 0) {
       max = Math.min(max, maxPrompts);
     }
-    int promptCopies = getCopiesCount(minPrompts, promptsMap.size());
-    List<Map.Entry<String, String>> prompts =
-        promptsMap.entrySet().parallelStream()
-            .flatMap(
-                entry -> {
-                  // Duplicate the current entry enough to make sure we can meet any minimum
-                  // expectations
-                  List<Map.Entry<String, String>> copies = new ArrayList<>();
-                  for (int i = 0; i < promptCopies; i++) {
-                    copies.add(entry);
-                  }
-                  return copies.stream();
-                })
-            .collect(Collectors.toList());
-    Collections.shuffle(prompts);
-    return prompts.stream()
-        // Limit to the maximum we expect, if any.
-        .limit(max)
-        .toList();
+    int promptCopies = getCopiesCount(minPrompts, promptCount);
+    return samplePromptIds(max, promptCount, promptCopies, random);
+  }
+
+  /**
+   * Draw a random, ordered sample of prompt IDs from a pool holding promptCopies copies of each
+   * prompt ID. Only the first sampleSize steps of a Fisher-Yates shuffle are run, which gives the
+   * same distribution as shuffling the whole pool and keeping the front of it. The pool itself is
+   * never built: slot i holds i % promptCount until a swap moves another ID into it, and only the
+   * slots a swap has touched are recorded, so the draw costs O(sampleSize) rather than O(pool).
+   *
+   * @param sampleSize How many prompt IDs to draw.
+   * @param promptCount The count of the configured prompts.
+   * @param promptCopies How many copies of each prompt ID the pool holds.
+   * @param random The source of randomness for the draw.
+   * @return The sampled prompt IDs, in presentation order.
+   */
+  protected static int[] samplePromptIds(
+      int sampleSize, int promptCount, int promptCopies, @NonNull RandomGenerator random) {
+    int poolSize = promptCount * promptCopies;
+    Preconditions.checkArgument(
+        sampleSize >= 0 && sampleSize <= poolSize, "sampleSize must be between 0 and %s", poolSize);
+    int[] sample = new int[sampleSize];
+    Map<Integer, Integer> swapped = new HashMap<>();
+    for (int i = 0; i < sampleSize; i++) {
+      int j = i + random.nextInt(poolSize - i);
+      sample[i] = swapped.getOrDefault(j, j % promptCount);
+      // Slot i is never read again, so only slot j needs to remember what it now holds.
+      swapped.put(j, swapped.getOrDefault(i, i % promptCount));
+    }
+    return sample;
   }
 
   /**
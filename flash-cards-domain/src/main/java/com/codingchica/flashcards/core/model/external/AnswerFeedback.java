@@ -0,0 +1,56 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A class to represent, externally, the grade of one answer to a quiz being graded inline, along
+ * with the running totals for the quiz so far.
+ */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class AnswerFeedback {
+  /** The index of the prompt answered. */
+  @Min(0)
+  private int position;
+
+  /** Whether the answer was correct. */
+  private boolean correctAnswer;
+
+  /** The credit earned for the answer, including any partial credit for a near miss. */
+  @DecimalMin("0.0")
+  @DecimalMax("1.0")
+  private double credit;
+
+  /** The answer which was expected. */
+  private String expectedAnswer;
+
+  /** The number of questions that were present on the quiz. */
+  @Min(0)
+  private int promptCount;
+
+  /** The number of questions answered correctly on the quiz so far. */
+  @Min(0)
+  private int correctAnswers;
+
+  /**
+   * The duration so far in whole minutes.
+   *
+   * @see #getTimeSeconds() for partial minute details.
+   */
+  @Min(0)
+  private int timeMinutes;
+
+  /**
+   * The duration so far of partial minutes in whole seconds.
+   *
+   * @see #getTimeMinutes() for whole minute details.
+   */
+  @Min(0)
+  private int timeSeconds;
+}
@@ -1,8 +1,9 @@
 package com.codingchica.flashcards.core.model.external;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotEmpty;
 import java.util.List;
 import lombok.*;
 
@@ -19,10 +20,25 @@ public class CompletedQuiz {
   @NotBlank
   private String name;
 
+  /** The answers given, in the same order as the prompts. Optional when graded inline. */
   @JsonProperty("answers")
-  @NotEmpty
   private List<@NotBlank String> answers;
 
+  /**
+   * Whether the answers were already graded one at a time, as they were given, so that submitting
+   * the quiz only needs to close it.
+   */
   @JsonProperty("inlineGrading")
   private boolean inlineGrading = false;
+
+  /**
+   * Whether the answers are provided, unless they were already graded inline.
+   *
+   * @return True when graded inline, or when there is at least one answer.
+   */
+  @JsonIgnore
+  @AssertTrue(message = "answers must not be empty unless graded inline")
+  public boolean isAnswersValid() {
+    return inlineGrading || (answers != null && !answers.isEmpty());
+  }
 }
@@ -0,0 +1,42 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A class to represent, externally, the completion times and scores of the quizzes graded over a
+ * period. The completion time percentiles are the highest time recorded in the same histogram
+ * bucket, so they may be a little high, but never low.
+ */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class DistributionSnapshot {
+  /** The number of graded quizzes. */
+  @Min(0)
+  private long count;
+
+  /** The completion time, in seconds, which half of the quizzes were completed within. */
+  @Min(0)
+  private long p50TimeSeconds;
+
+  /** The completion time, in seconds, which 90% of the quizzes were completed within. */
+  @Min(0)
+  private long p90TimeSeconds;
+
+  /** The completion time, in seconds, which 99% of the quizzes were completed within. */
+  @Min(0)
+  private long p99TimeSeconds;
+
+  /** The longest completion time, in seconds. */
+  @Min(0)
+  private long maxTimeSeconds;
+
+  /** How many quizzes scored within each range of 10 percentage points, lowest first. */
+  @NotNull private List<@NotNull @Valid ScoreRange> scores;
+}
@@ -0,0 +1,23 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/** A class to represent, externally, how often one prompt was missed across every student. */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class PromptMisses {
+  /** The prompt. */
+  @NotNull private String prompt;
+
+  /**
+   * The estimated number of times it did not earn full credit, including when left unanswered. The
+   * estimate may be a little high, but never low.
+   */
+  @Min(0)
+  private long misses;
+}
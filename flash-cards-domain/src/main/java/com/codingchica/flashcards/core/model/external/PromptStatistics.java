@@ -0,0 +1,24 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/** A class to represent, externally, how often one prompt of a quiz was answered and missed. */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class PromptStatistics {
+  /** The prompt. */
+  @NotNull private String prompt;
+
+  /** The number of graded quizzes the prompt was presented in. */
+  @Min(0)
+  private long attempts;
+
+  /** The number of those in which it did not earn full credit, including when left unanswered. */
+  @Min(0)
+  private long misses;
+}
@@ -8,7 +8,6 @@ import jakarta.validation.constraints.PastOrPresent;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import lombok.*;
 
 /** An external representation of a quiz. */
@@ -20,7 +19,7 @@ import lombok.*;
 @JsonIgnoreProperties(value = {"createdDateTime"})
 public class Quiz {
   /** A unique identifier for the quiz. * */
-  @NotNull private UUID id;
+  @NotBlank private String id;
 
   /** The name of the quiz. */
   @NotBlank private String name;
@@ -0,0 +1,31 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A class to represent, externally, the distributions of completion times and scores of a quiz,
+ * since startup and over the last complete interval.
+ */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class QuizDistribution {
+  /** The name of the quiz. */
+  @NotBlank private String name;
+
+  /** The length of each interval, in seconds. */
+  @Min(1)
+  private long intervalSeconds;
+
+  /** The quizzes graded since startup. */
+  @NotNull @Valid private DistributionSnapshot total;
+
+  /** The quizzes graded in the last complete interval. */
+  @NotNull @Valid private DistributionSnapshot lastInterval;
+}
@@ -0,0 +1,63 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A class to represent, externally, the totals of the graded quizzes of one quiz saved within an
+ * hour or a day.
+ */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class QuizResultRollup {
+  /** How long the time each rollup covers is. */
+  public enum Granularity {
+    /** An hour, starting on the hour. */
+    HOUR,
+    /** A day, starting at midnight UTC. */
+    DAY
+  }
+
+  /** The name of the quiz. */
+  @NotBlank private String name;
+
+  /** How long the time covered is. */
+  @NotNull private Granularity granularity;
+
+  /** The start of the time covered, when the quizzes counted were saved. */
+  @NotNull private Instant start;
+
+  /** The number of quizzes graded. */
+  @Min(0)
+  private long count;
+
+  /** The number of prompts asked, across every quiz graded. */
+  @Min(0)
+  private long promptCount;
+
+  /** The number of prompts answered correctly, across every quiz graded. */
+  @Min(0)
+  private long correctAnswers;
+
+  /** The mean of the percentages earned. */
+  @DecimalMin("0.0")
+  @DecimalMax("100.0")
+  private double averagePercentage;
+
+  /** The mean time taken to complete a quiz, in seconds. */
+  @DecimalMin("0.0")
+  private double averageTimeSeconds;
+
+  /** How many quizzes scored within each range of percentages, lowest first. */
+  @NotNull @Valid private List<ScoreRange> scores;
+}
@@ -0,0 +1,35 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/** A class to represent, externally, the running statistics for every attempt at one quiz. */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class QuizStatistics {
+  /** The name of the quiz. */
+  @NotBlank private String name;
+
+  /** The number of times the quiz was graded. */
+  @Min(0)
+  private long attempts;
+
+  /** The mean of the percentages earned. */
+  @DecimalMin("0.0")
+  @DecimalMax("100.0")
+  private double averagePercentage;
+
+  /** The mean time taken to complete the quiz, in seconds. */
+  @DecimalMin("0.0")
+  private double averageTimeSeconds;
+
+  /** The prompts missed most often, most missed first. */
+  private List<PromptStatistics> mostMissedPrompts;
+}
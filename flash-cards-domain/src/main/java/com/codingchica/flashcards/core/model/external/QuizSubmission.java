@@ -0,0 +1,26 @@
+package com.codingchica.flashcards.core.model.external;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/** An external representation of one completed quiz within a batch submitted for grading. */
+@Builder(builderClassName = "Builder")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class QuizSubmission {
+  /** The unique ID of the quiz, as handed out. */
+  @JsonProperty("id")
+  @NotBlank
+  private String id;
+
+  /** The answers given to the quiz. */
+  @JsonProperty("completedQuiz")
+  @NotNull @Valid
+  private CompletedQuiz completedQuiz;
+}
@@ -0,0 +1,29 @@
+package com.codingchica.flashcards.core.model.external;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A class to represent the outcome of grading one quiz within a batch externally: either the result
+ * of the graded quiz, or the error which prevented grading it. The HTTP status code and message are
+ * the ones the single quiz grading endpoint would have responded with.
+ */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class QuizSubmissionResult {
+  /** The ID of the quiz submitted, or null for an error affecting the whole batch. */
+  private String id;
+
+  /** The HTTP status code grading the quiz on its own would have responded with. */
+  private int code;
+
+  /** The result of the graded quiz, if it was graded. */
+  private QuizResult result;
+
+  /** A human-readable message indicating the error encountered, if it was not graded. */
+  private String message;
+}
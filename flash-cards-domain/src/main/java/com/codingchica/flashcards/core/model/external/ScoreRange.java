@@ -0,0 +1,27 @@
+package com.codingchica.flashcards.core.model.external;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/** A class to represent, externally, how many graded quizzes scored within a range. */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class ScoreRange {
+  /** The lowest percentage in the range. */
+  @Min(0)
+  @Max(100)
+  private int minimumPercentage;
+
+  /** The highest percentage in the range. */
+  @Min(0)
+  @Max(100)
+  private int maximumPercentage;
+
+  /** The number of graded quizzes which scored within the range. */
+  @Min(0)
+  private long count;
+}
@@ -0,0 +1,28 @@
+package com.codingchica.flashcards.core.model.external;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/** An external representation of the answer to one prompt of a quiz being graded inline. */
+@Builder(builderClassName = "Builder")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class SubmittedAnswer {
+  /**
+   * The index of the prompt answered. Prompts are answered in order, so this guards against the
+   * same answer being graded twice, e.g. when a request is retried.
+   */
+  @JsonProperty("position")
+  @Min(0)
+  private int position;
+
+  /** The answer given. */
+  @JsonProperty("answer")
+  @NotBlank
+  private String answer;
+}
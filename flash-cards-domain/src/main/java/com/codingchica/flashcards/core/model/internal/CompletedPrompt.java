@@ -1,5 +1,7 @@
 package com.codingchica.flashcards.core.model.internal;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -23,4 +25,12 @@ public class CompletedPrompt {
 
   /** Whether the expected answer matched the provided answer. */
   private boolean correctAnswer = false;
+
+  /**
+   * The share of the prompt's credit earned, from 0 to 1. A correct answer earns all of it, while a
+   * near miss on a deck with fuzzy answer matching may earn part of it.
+   */
+  @DecimalMin("0.0")
+  @DecimalMax("1.0")
+  private double credit;
 }
@@ -4,7 +4,6 @@ import com.codingchica.flashcards.core.validations.CorrectPromptCountsValid;
 import jakarta.validation.constraints.*;
 import java.time.Instant;
 import java.util.List;
-import java.util.UUID;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,7 +16,7 @@ import lombok.ToString;
 public class QuizResult {
 
   /** A unique identifier for the quiz. * */
-  @NotNull private UUID id;
+  @NotBlank private String id;
 
   /** The name of the quiz. */
   @NotBlank private String name;
@@ -0,0 +1,25 @@
+package com.codingchica.flashcards.core.random;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/** Decides the seed each generated quiz is drawn with. */
+public interface RandomnessStrategy {
+  /**
+   * Choose the seed for the next quiz.
+   *
+   * @return A seed to pass to {@link #generator(long)}.
+   */
+  long nextSeed();
+
+  /**
+   * Create the generator a single quiz is drawn with. The same seed always produces the same
+   * sequence, so a quiz can be regenerated from its deck and seed.
+   *
+   * @param seed The seed for the quiz.
+   * @return A generator confined to the quiz being generated.
+   */
+  default RandomGenerator generator(long seed) {
+    return new SplittableRandom(seed);
+  }
+}
@@ -0,0 +1,46 @@
+package com.codingchica.flashcards.core.random;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * A strategy producing a repeatable sequence of quiz seeds from an initial seed, for tests and for
+ * reproducing a run. Each seed is a mixed step of a Weyl sequence, the same construction
+ * SplittableRandom uses, so consecutive seeds are well spread.
+ */
+public class SeededRandomnessStrategy implements RandomnessStrategy {
+  /** Odd constant derived from the golden ratio, used as the Weyl sequence increment. */
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  /** The seed the sequence was started from. */
+  @Getter private final long initialSeed;
+
+  private final AtomicLong state;
+
+  /**
+   * Constructor.
+   *
+   * @param initialSeed The seed to start the sequence from.
+   */
+  public SeededRandomnessStrategy(long initialSeed) {
+    this.initialSeed = initialSeed;
+    this.state = new AtomicLong(initialSeed);
+  }
+
+  @Override
+  public long nextSeed() {
+    return mix64(state.addAndGet(GOLDEN_GAMMA));
+  }
+
+  /**
+   * Scramble the bits of a value (Stafford variant 13 of the MurmurHash3 finalizer).
+   *
+   * @param value The value to scramble.
+   * @return The scrambled value.
+   */
+  static long mix64(long value) {
+    long z = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
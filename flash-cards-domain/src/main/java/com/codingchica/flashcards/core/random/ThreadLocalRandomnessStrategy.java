@@ -0,0 +1,14 @@
+package com.codingchica.flashcards.core.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The default strategy: seeds are taken from the calling thread's ThreadLocalRandom, so concurrent
+ * requests never contend on a shared seed.
+ */
+public class ThreadLocalRandomnessStrategy implements RandomnessStrategy {
+  @Override
+  public long nextSeed() {
+    return ThreadLocalRandom.current().nextLong();
+  }
+}
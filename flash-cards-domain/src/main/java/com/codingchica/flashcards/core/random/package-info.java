@@ -0,0 +1,6 @@
+/**
+ * Sources of randomness for quiz generation. Each quiz is drawn from its own generator, created
+ * from a seed, so request threads never share mutable random state and a quiz can be regenerated
+ * from its deck and seed.
+ */
+package com.codingchica.flashcards.core.random;
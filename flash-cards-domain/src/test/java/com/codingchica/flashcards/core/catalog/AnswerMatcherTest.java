@@ -0,0 +1,202 @@
+package com.codingchica.flashcards.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.config.FlashCardGroup.AnswerMatching;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AnswerMatcherTest {
+
+  @Nested
+  class NormalizeTest {
+    @Test
+    void whenNull_thenNull() {
+      // Execution
+      String result = AnswerMatcher.normalize(null);
+
+      // Validation
+      assertNull(result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "paris", "new york", "12"})
+    void whenAlreadyNormalized_thenSameInstanceReturned(String value) {
+      // Execution
+      String result = AnswerMatcher.normalize(value);
+
+      // Validation
+      assertSame(value, result);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "'  Paris ',paris",
+          "'New \t\n York',new york",
+          "New York,new york",
+          "'   ',''",
+          "ＡＢ,ab",
+          "É,é",
+          "𐐀,𐐨",
+        })
+    void whenNotNormalized_thenNormalized(String value, String expected) {
+      // Execution
+      String result = AnswerMatcher.normalize(value);
+
+      // Validation
+      assertEquals(expected, result);
+    }
+  }
+
+  @Nested
+  class ParseNumberTest {
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "12,12",
+          "' 12 ',12",
+          "+12,12",
+          "-12,-12",
+          "12.,12",
+          "12.50,12.5",
+          ".5,0.5",
+          "-0,0",
+          "007,7",
+          "0.1,0.1",
+          "123456789012345678901234,123456789012345678901234",
+          "1.23456789012345678901234,1.23456789012345678901234",
+        })
+    void whenNumber_thenParsed(String value, double expected) {
+      // Execution
+      double result = AnswerMatcher.parseNumber(value);
+
+      // Validation
+      assertEquals(expected, result, 0.0);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(
+        strings = {
+          " ",
+          "+",
+          "-",
+          ".",
+          "1.2.3",
+          "1e3",
+          "0x10",
+          "12d",
+          "12f",
+          "NaN",
+          "Infinity",
+          "1 2",
+          "twelve",
+          "--1"
+        })
+    void whenNotNumber_thenNaN(String value) {
+      // Execution
+      double result = AnswerMatcher.parseNumber(value);
+
+      // Validation
+      assertTrue(Double.isNaN(result), () -> value + " parsed as " + result);
+    }
+  }
+
+  @Nested
+  class FuzzyTest {
+    /** Allow any distance, so that the credit reveals the exact edit distance. */
+    private static final int MAXIMUM_EDITS = 100;
+
+    @Test
+    void whenRandomAnswers_thenSameDistanceAsDynamicProgramming() {
+      // Setup
+      Random random = new Random(42);
+      for (int run = 0; run < 2_000; run++) {
+        String expected = randomWord(random, random.nextInt(Long.SIZE + 1));
+        String provided = randomWord(random, random.nextInt(Long.SIZE + 8));
+        AnswerMatcher matcher =
+            AnswerMatcher.compile(AnswerMatching.FUZZY, new String[] {expected}, MAXIMUM_EDITS);
+
+        // Execution
+        double credit = matcher.credit(0, provided);
+
+        // Validation
+        int distance = levenshtein(expected, provided);
+        assertEquals(
+            1 - (double) distance / (MAXIMUM_EDITS + 1),
+            credit,
+            1e-12,
+            () -> expected + " / " + provided);
+      }
+    }
+
+    @Test
+    void whenDistanceExceedsMaximumEdits_thenNoCredit() {
+      // Setup
+      Random random = new Random(7);
+      for (int run = 0; run < 2_000; run++) {
+        String expected = randomWord(random, random.nextInt(20));
+        String provided = randomWord(random, random.nextInt(20));
+        AnswerMatcher matcher =
+            AnswerMatcher.compile(AnswerMatching.FUZZY, new String[] {expected}, 2);
+
+        // Execution
+        double credit = matcher.credit(0, provided);
+
+        // Validation
+        int distance = levenshtein(expected, provided);
+        double expectedCredit = distance <= 2 ? 1 - distance / 3.0 : 0;
+        assertEquals(expectedCredit, credit, 1e-12, () -> expected + " / " + provided);
+      }
+    }
+
+    @Test
+    void whenExpectedLongerThanMask_thenOnlyExactMatchEarnsCredit() {
+      // Setup
+      String expected = "a".repeat(Long.SIZE + 1);
+      AnswerMatcher matcher =
+          AnswerMatcher.compile(AnswerMatching.FUZZY, new String[] {expected}, 2);
+
+      // Execution
+      double credit = matcher.credit(0, "a".repeat(Long.SIZE));
+
+      // Validation
+      assertEquals(0, credit);
+      assertEquals(1, matcher.credit(0, expected.toUpperCase()));
+    }
+
+    private String randomWord(Random random, int length) {
+      StringBuilder builder = new StringBuilder(length);
+      for (int i = 0; i < length; i++) {
+        // A small alphabet, so that the words share plenty of characters.
+        builder.append((char) ('a' + random.nextInt(4)));
+      }
+      return builder.toString();
+    }
+
+    private int levenshtein(String a, String b) {
+      int[] previous = new int[b.length() + 1];
+      int[] current = new int[b.length() + 1];
+      for (int j = 0; j <= b.length(); j++) {
+        previous[j] = j;
+      }
+      for (int i = 1; i <= a.length(); i++) {
+        current[0] = i;
+        for (int j = 1; j <= b.length(); j++) {
+          int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+          current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+        }
+        int[] swap = previous;
+        previous = current;
+        current = swap;
+      }
+      return previous[b.length()];
+    }
+  }
+}
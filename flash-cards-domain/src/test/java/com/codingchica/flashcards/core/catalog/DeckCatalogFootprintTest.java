@@ -0,0 +1,90 @@
+package com.codingchica.flashcards.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Compares the retained heap of the compiled catalog with that of the configuration it was built
+ * from, using JOL to walk each object graph. The catalog is shaped like prod.yml, scaled up: many
+ * decks of 25 prompts, with the prompts held in the LinkedHashMaps Jackson produces.
+ */
+class DeckCatalogFootprintTest {
+  private static final int CATEGORY_COUNT = 20;
+  private static final int DECKS_PER_CATEGORY = 20;
+  private static final int PROMPTS_PER_DECK = 25;
+
+  private Map<String, List<FlashCardGroup>> flashCardGroupMap() {
+    Map<String, List<FlashCardGroup>> flashCardGroupMap = new LinkedHashMap<>();
+    for (int category = 0; category < CATEGORY_COUNT; category++) {
+      List<FlashCardGroup> flashCardGroups = new ArrayList<>();
+      for (int deck = 0; deck < DECKS_PER_CATEGORY; deck++) {
+        Map<String, String> prompts = new LinkedHashMap<>();
+        for (int prompt = 0; prompt < PROMPTS_PER_DECK; prompt++) {
+          prompts.put(deck + "+" + prompt, String.valueOf(deck + prompt));
+        }
+        flashCardGroups.add(
+            FlashCardGroup.builder()
+                .name("Category " + category + " Deck " + deck)
+                .minimumPrompts(20)
+                .maximumPrompts(20)
+                .prompts(prompts)
+                .build());
+      }
+      flashCardGroupMap.put("Category " + category, flashCardGroups);
+    }
+    return flashCardGroupMap;
+  }
+
+  @Test
+  void whenCompiled_thenRetainedHeapSmallerThanConfiguration() {
+    // Setup
+    Map<String, List<FlashCardGroup>> flashCardGroupMap = flashCardGroupMap();
+
+    // Execution
+    DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+    // Validation
+    // Both graphs share the same prompt and answer String instances, so the difference is the
+    // per-prompt map entries replaced by the parallel arrays.
+    long configurationBytes = GraphLayout.parseInstance(flashCardGroupMap).totalSize();
+    long catalogBytes = GraphLayout.parseInstance(catalog).totalSize();
+    System.out.printf(
+        "Configuration: %,d bytes, compiled catalog: %,d bytes%n",
+        configurationBytes, catalogBytes);
+    assertTrue(
+        catalogBytes < configurationBytes,
+        String.format(
+            "catalog (%s) must be smaller than configuration (%s)",
+            catalogBytes, configurationBytes));
+  }
+
+  @Test
+  void whenQuizPromptsHeld_thenOnlyPromptIdsRetained() {
+    // Setup
+    DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap());
+    Deck deck = catalog.getDeck(0);
+    int[] promptIds = new int[20];
+    DeckPromptList prompts = new DeckPromptList(deck, 0L, promptIds);
+    List<Map.Entry<String, String>> entries = new ArrayList<>(prompts);
+
+    // Execution
+    long deckBytes = GraphLayout.parseInstance(deck).totalSize();
+    long promptListBytes = GraphLayout.parseInstance(prompts).totalSize() - deckBytes;
+    long entryListBytes = GraphLayout.parseInstance(entries).totalSize();
+
+    // Validation
+    System.out.printf(
+        "Quiz prompts as IDs: %,d bytes, as entries: %,d bytes%n", promptListBytes, entryListBytes);
+    assertTrue(
+        promptListBytes < entryListBytes,
+        String.format(
+            "prompt IDs (%s) must be smaller than entries (%s)", promptListBytes, entryListBytes));
+  }
+}
@@ -0,0 +1,303 @@
+package com.codingchica.flashcards.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.config.ConfigFactory;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import java.util.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DeckCatalogTest {
+  private Map<String, List<FlashCardGroup>> flashCardGroupMap = new LinkedHashMap<>();
+  private FlashCardGroup adding0 = ConfigFactory.flashCardGroupBuilder().name("Adding 0").build();
+  private FlashCardGroup adding1 = ConfigFactory.flashCardGroupBuilder().name("Adding 1").build();
+  private FlashCardGroup subtracting0 =
+      ConfigFactory.flashCardGroupBuilder().name("Subtracting 0").build();
+
+  {
+    flashCardGroupMap.put("Addition", Arrays.asList(adding0, adding1));
+    flashCardGroupMap.put("Subtraction", Arrays.asList(subtracting0));
+  }
+
+  @Nested
+  class CompileTest {
+    @Test
+    void whenFlashCardGroupMapNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> DeckCatalog.compile(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("flashCardGroupMap is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenInvoked_thenDenseIdsAssignedInConfigurationOrder() {
+      // Execution
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      assertEquals(3, catalog.getDeckCount());
+      assertEquals("Adding 0", catalog.getDeck(0).getName());
+      assertEquals("Adding 1", catalog.getDeck(1).getName());
+      assertEquals("Subtracting 0", catalog.getDeck(2).getName());
+      for (int deckId = 0; deckId < catalog.getDeckCount(); deckId++) {
+        assertEquals(deckId, catalog.getDeck(deckId).getId());
+      }
+      assertEquals("Subtraction", catalog.getDeck(2).getCategory());
+    }
+
+    @Test
+    void whenNullEntriesPresent_thenIgnored() {
+      // Setup
+      flashCardGroupMap.put(null, List.of(ConfigFactory.flashCardGroup()));
+      flashCardGroupMap.put("Nothing", null);
+      flashCardGroupMap.put("Empty", List.of());
+      flashCardGroupMap.put("Sparse", Arrays.asList(null, ConfigFactory.flashCardGroup()));
+
+      // Execution
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      assertEquals(
+          Set.of("Addition", "Subtraction", "Sparse"), catalog.getQuizNamesByCategory().keySet());
+      assertEquals(List.of("name"), catalog.getQuizNamesByCategory().get("Sparse"));
+      assertEquals(5, catalog.getDeckCount());
+    }
+
+    @Test
+    void whenNoGroups_thenEmptyCatalog() {
+      // Setup
+      flashCardGroupMap.clear();
+      flashCardGroupMap.put("Empty", List.of());
+
+      // Execution
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      assertEquals(0, catalog.getDeckCount());
+      assertTrue(catalog.getQuizNamesByCategory().isEmpty());
+      assertTrue(catalog.findDeck("Adding 0").isEmpty());
+    }
+
+    @Test
+    void whenGroupNameNull_thenListedButNotFound() {
+      // Setup
+      flashCardGroupMap.put(
+          "Unnamed", List.of(ConfigFactory.flashCardGroupBuilder().name(null).build()));
+
+      // Execution
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      assertEquals(4, catalog.getDeckCount());
+      assertNull(catalog.getDeck(3).getName());
+      assertEquals(
+          Collections.singletonList(null), catalog.getQuizNamesByCategory().get("Unnamed"));
+      assertTrue(catalog.findDeck("null").isEmpty());
+    }
+
+    @Test
+    void whenInvoked_thenQuizNamesListedByCategory() {
+      // Execution
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      Map<String, List<String>> expected = new HashMap<>();
+      expected.put("Addition", List.of("Adding 0", "Adding 1"));
+      expected.put("Subtraction", List.of("Subtracting 0"));
+      assertEquals(expected, catalog.getQuizNamesByCategory());
+      assertThrows(
+          UnsupportedOperationException.class, () -> catalog.getQuizNamesByCategory().clear());
+    }
+  }
+
+  @Nested
+  class FindDeckTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"Adding 1", "adding 1", "ADDING 1"})
+    void whenNameMatchesIgnoringCase_thenDeckReturned(String quizName) {
+      // Setup
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Execution
+      Optional<Deck> deck = catalog.findDeck(quizName);
+
+      // Validation
+      assertTrue(deck.isPresent());
+      assertEquals(1, deck.get().getId());
+    }
+
+    @Test
+    void whenNameNotFound_thenEmptyReturned() {
+      // Setup
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Execution
+      Optional<Deck> deck = catalog.findDeck("Adding 2");
+
+      // Validation
+      assertTrue(deck.isEmpty());
+    }
+
+    @Test
+    void whenNameDuplicated_thenFirstDeckReturned() {
+      // Setup
+      flashCardGroupMap.put(
+          "Other", List.of(ConfigFactory.flashCardGroupBuilder().name("ADDING 0").build()));
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Execution
+      Optional<Deck> deck = catalog.findDeck("adding 0");
+
+      // Validation
+      assertTrue(deck.isPresent());
+      assertEquals("Addition", deck.get().getCategory());
+    }
+
+    @Test
+    void whenNamesCollideAfterCaseFoldingInOneCategory_thenFirstDeckReturnedAndBothListed() {
+      // Setup
+      flashCardGroupMap.put(
+          "Addition",
+          Arrays.asList(adding0, ConfigFactory.flashCardGroupBuilder().name("adding 0").build()));
+
+      // Execution
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      assertEquals(0, catalog.findDeck("ADDING 0").get().getId());
+      assertEquals(
+          List.of("Adding 0", "adding 0"), catalog.getQuizNamesByCategory().get("Addition"));
+      assertEquals(3, catalog.getDeckCount());
+    }
+
+    @Test
+    void whenQuizNameNull_thenExceptionThrown() {
+      // Setup
+      DeckCatalog catalog = DeckCatalog.compile(flashCardGroupMap);
+
+      // Execution
+      Executable executable = () -> catalog.findDeck(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizName is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class NormalizeNameTest {
+    @Test
+    void whenQuizNameNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> DeckCatalog.normalizeName(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizName is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMixedCase_thenLowerCaseReturned() {
+      // Execution
+      String normalized = DeckCatalog.normalizeName("Adding ÄÖ 1");
+
+      // Validation
+      assertEquals("adding äö 1", normalized);
+    }
+  }
+
+  @Nested
+  class GetVersionTest {
+    @Test
+    void whenSameConfiguration_thenSameVersion() {
+      // Execution
+      DeckCatalog first = DeckCatalog.compile(flashCardGroupMap);
+      DeckCatalog second = DeckCatalog.compile(new LinkedHashMap<>(flashCardGroupMap));
+
+      // Validation
+      assertEquals(first.getVersion(), second.getVersion());
+    }
+
+    @Test
+    void whenAnswerChanged_thenVersionChanged() {
+      // Setup
+      DeckCatalog original = DeckCatalog.compile(flashCardGroupMap);
+      Map<String, String> prompts = new LinkedHashMap<>(adding0.getPrompts());
+      prompts.put(prompts.keySet().iterator().next(), "changed");
+      flashCardGroupMap.put(
+          "Addition",
+          Arrays.asList(
+              ConfigFactory.flashCardGroupBuilder().name("Adding 0").prompts(prompts).build(),
+              adding1));
+
+      // Execution
+      DeckCatalog changed = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      assertNotEquals(original.getVersion(), changed.getVersion());
+    }
+
+    @Test
+    void whenDecksReordered_thenVersionChanged() {
+      // Setup
+      DeckCatalog original = DeckCatalog.compile(flashCardGroupMap);
+      flashCardGroupMap.put("Addition", Arrays.asList(adding1, adding0));
+
+      // Execution
+      DeckCatalog reordered = DeckCatalog.compile(flashCardGroupMap);
+
+      // Validation
+      assertNotEquals(original.getVersion(), reordered.getVersion());
+    }
+
+    @Test
+    void whenEmpty_thenSameVersion() {
+      // Execution
+      DeckCatalog first = DeckCatalog.compile(Map.of());
+      DeckCatalog second = DeckCatalog.compile(Map.of("Empty", List.of()));
+
+      // Validation
+      assertEquals(first.getVersion(), second.getVersion());
+      assertNotEquals(first.getVersion(), DeckCatalog.compile(flashCardGroupMap).getVersion());
+    }
+
+    @Test
+    void whenNameMovedBetweenFields_thenVersionChanged() {
+      // Setup
+      DeckCatalog original =
+          DeckCatalog.compile(
+              Map.of("Add", List.of(ConfigFactory.flashCardGroupBuilder().name("ing").build())));
+
+      // Execution
+      DeckCatalog moved =
+          DeckCatalog.compile(
+              Map.of("A", List.of(ConfigFactory.flashCardGroupBuilder().name("dding").build())));
+
+      // Validation
+      assertNotEquals(original.getVersion(), moved.getVersion());
+    }
+
+    @Test
+    void whenNameNull_thenVersionDiffersFromEmptyName() {
+      // Setup
+      DeckCatalog unnamed =
+          DeckCatalog.compile(
+              Map.of(
+                  "Addition", List.of(ConfigFactory.flashCardGroupBuilder().name(null).build())));
+
+      // Execution
+      DeckCatalog empty =
+          DeckCatalog.compile(
+              Map.of("Addition", List.of(ConfigFactory.flashCardGroupBuilder().name("").build())));
+
+      // Validation
+      assertNotEquals(unnamed.getVersion(), empty.getVersion());
+    }
+  }
+}
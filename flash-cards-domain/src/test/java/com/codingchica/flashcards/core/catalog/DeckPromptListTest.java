@@ -0,0 +1,74 @@
+package com.codingchica.flashcards.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.config.ConfigFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class DeckPromptListTest {
+  private Map<String, String> prompts = new LinkedHashMap<>();
+  private Deck deck;
+
+  {
+    prompts.put("1+1", "2");
+    prompts.put("2+2", "4");
+    deck =
+        Deck.compile(0, "Addition", ConfigFactory.flashCardGroupBuilder().prompts(prompts).build());
+  }
+
+  @Nested
+  class ConstructorTest {
+    @Test
+    void whenDeckNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new DeckPromptList(null, 0L, new int[0]);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("deck is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenPromptIdsNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new DeckPromptList(deck, 0L, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("promptIds is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenPromptIdNotInDeck_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new DeckPromptList(deck, 0L, new int[] {0, 2});
+
+      // Validation
+      assertThrows(IndexOutOfBoundsException.class, executable);
+    }
+  }
+
+  @Test
+  void whenRead_thenEntriesMaterializedFromDeck() {
+    // Setup
+    DeckPromptList promptList = new DeckPromptList(deck, 42L, new int[] {1, 0, 1});
+
+    // Execution
+    List<Map.Entry<String, String>> copy = List.copyOf(promptList);
+
+    // Validation
+    assertEquals(
+        List.of(Map.entry("2+2", "4"), Map.entry("1+1", "2"), Map.entry("2+2", "4")), copy);
+    assertEquals(3, promptList.size());
+    assertSame(deck, promptList.getDeck());
+    assertEquals(42L, promptList.getSeed());
+    assertEquals(1, promptList.getPromptId(0));
+    assertEquals("2", promptList.getAnswer(1));
+    assertEquals("1+1", promptList.getPrompt(1));
+  }
+}
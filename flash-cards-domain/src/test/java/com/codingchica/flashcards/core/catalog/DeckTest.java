@@ -0,0 +1,314 @@
+package com.codingchica.flashcards.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.config.ConfigFactory;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DeckTest {
+  private Map<String, String> prompts = new LinkedHashMap<>();
+  private FlashCardGroup.Builder flashCardGroupBuilder =
+      ConfigFactory.flashCardGroupBuilder()
+          .name("Adding 1")
+          .minimumPrompts(3)
+          .maximumPrompts(5)
+          .prompts(prompts);
+
+  @Nested
+  class CompileTest {
+    @Test
+    void whenFlashCardGroupNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> Deck.compile(0, "category", null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("flashCardGroup is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenInvoked_thenFieldsCopied() {
+      // Setup
+      prompts.put("1+1", "2");
+
+      // Execution
+      Deck deck = Deck.compile(4, "Addition", flashCardGroupBuilder.build());
+
+      // Validation
+      assertAll(
+          () -> assertEquals(4, deck.getId(), "id"),
+          () -> assertEquals("Addition", deck.getCategory(), "category"),
+          () -> assertEquals("Adding 1", deck.getName(), "name"),
+          () -> assertEquals(3, deck.getMinimumPrompts(), "minimumPrompts"),
+          () -> assertEquals(5, deck.getMaximumPrompts(), "maximumPrompts"),
+          () -> assertEquals(1, deck.getPromptCount(), "promptCount"),
+          () ->
+              assertEquals(
+                  FlashCardGroup.AnswerMatching.IGNORE_CASE,
+                  deck.getAnswerMatching(),
+                  "answerMatching"),
+          () -> assertEquals(2, deck.getMaximumEdits(), "maximumEdits"));
+    }
+
+    @Test
+    void whenAnswerMatchingNull_thenAnswersMatchedIgnoringCase() {
+      // Setup
+      prompts.put("Capital of France", "Paris");
+
+      // Execution
+      Deck deck = Deck.compile(0, "Capitals", flashCardGroupBuilder.answerMatching(null).build());
+
+      // Validation
+      assertEquals(FlashCardGroup.AnswerMatching.IGNORE_CASE, deck.getAnswerMatching());
+      assertTrue(deck.isCorrect(0, "PARIS"));
+    }
+
+    @Test
+    void whenInvoked_thenPromptIdsFollowConfigurationOrder() {
+      // Setup
+      prompts.put("1+1", "2");
+      prompts.put("0+1", "1");
+      prompts.put("3+1", "4");
+
+      // Execution
+      Deck deck = Deck.compile(0, "Addition", flashCardGroupBuilder.build());
+
+      // Validation
+      int promptId = 0;
+      for (Map.Entry<String, String> entry : prompts.entrySet()) {
+        assertEquals(entry.getKey(), deck.getPrompt(promptId), "prompt " + promptId);
+        assertEquals(entry.getValue(), deck.getAnswer(promptId), "answer " + promptId);
+        promptId++;
+      }
+    }
+
+    @Test
+    void whenPromptsNull_thenEmptyDeckReturned() {
+      // Execution
+      Deck deck = Deck.compile(0, "Addition", flashCardGroupBuilder.prompts(null).build());
+
+      // Validation
+      assertEquals(0, deck.getPromptCount());
+    }
+
+    @Test
+    void whenSourceChangedAfterCompile_thenDeckUnchanged() {
+      // Setup
+      prompts.put("1+1", "2");
+      Deck deck = Deck.compile(0, "Addition", flashCardGroupBuilder.build());
+
+      // Execution
+      prompts.put("1+1", "3");
+
+      // Validation
+      assertEquals("2", deck.getAnswer(0));
+    }
+  }
+
+  @Nested
+  class GetPromptTest {
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 1, Integer.MAX_VALUE})
+    void whenPromptIdOutOfRange_thenExceptionThrown(int promptId) {
+      // Setup
+      prompts.put("1+1", "2");
+      Deck deck = Deck.compile(0, "Addition", flashCardGroupBuilder.build());
+
+      // Execution
+      Executable executable = () -> deck.getPrompt(promptId);
+
+      // Validation
+      assertThrows(IndexOutOfBoundsException.class, executable);
+    }
+  }
+
+  @Nested
+  class GetAnswerTest {
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 1, Integer.MAX_VALUE})
+    void whenPromptIdOutOfRange_thenExceptionThrown(int promptId) {
+      // Setup
+      prompts.put("1+1", "2");
+      Deck deck = Deck.compile(0, "Addition", flashCardGroupBuilder.build());
+
+      // Execution
+      Executable executable = () -> deck.getAnswer(promptId);
+
+      // Validation
+      assertThrows(IndexOutOfBoundsException.class, executable);
+    }
+  }
+
+  @Nested
+  class IsCorrectTest {
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 1, Integer.MAX_VALUE})
+    void whenPromptIdOutOfRange_thenExceptionThrown(int promptId) {
+      // Setup
+      prompts.put("1+1", "2");
+      Deck deck = Deck.compile(0, "Addition", flashCardGroupBuilder.build());
+
+      // Execution
+      Executable executable = () -> deck.isCorrect(promptId, "2");
+
+      // Validation
+      assertThrows(IndexOutOfBoundsException.class, executable);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "EXACT,Paris,Paris,true",
+          "EXACT,Paris,paris,false",
+          "EXACT,Paris,' Paris',false",
+          "IGNORE_CASE,Paris,PARIS,true",
+          "IGNORE_CASE,Paris,' Paris',false",
+          "IGNORE_CASE,Paris,null,false",
+          "NORMALIZED,New York,'  new   YORK ',true",
+          "NORMALIZED,caf\u00e9,CAFE\u0301,true",
+          "NORMALIZED,New York,NewYork,false",
+          "NORMALIZED,New York,null,false",
+          "NUMERIC,12,' 12',true",
+          "NUMERIC,12,12.0,true",
+          "NUMERIC,12,+12,true",
+          "NUMERIC,-0.5,-.50,true",
+          "NUMERIC,12,12.5,false",
+          "NUMERIC,12,twelve,false",
+          "NUMERIC,12,1e1,false",
+          "NUMERIC,12,null,false",
+          "NUMERIC,Twelve,' twelve ',true",
+          "NUMERIC,Twelve,12,false",
+          "FUZZY,Necessary,' NECESSARY',true",
+          "FUZZY,Necessary,Neccessary,false",
+        },
+        nullValues = "null")
+    void whenAnswerMatchingVaried_thenAnswerMatchedAccordingly(
+        FlashCardGroup.AnswerMatching answerMatching,
+        String expectedAnswer,
+        String answer,
+        boolean expected) {
+      // Setup
+      prompts.put("prompt", expectedAnswer);
+      Deck deck =
+          Deck.compile(0, "category", flashCardGroupBuilder.answerMatching(answerMatching).build());
+
+      // Execution
+      boolean result = deck.isCorrect(0, answer);
+
+      // Validation
+      assertEquals(expected, result);
+    }
+  }
+
+  @Nested
+  class GetCreditTest {
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 1, Integer.MAX_VALUE})
+    void whenPromptIdOutOfRange_thenExceptionThrown(int promptId) {
+      // Setup
+      prompts.put("1+1", "2");
+      Deck deck = Deck.compile(0, "Addition", flashCardGroupBuilder.build());
+
+      // Execution
+      Executable executable = () -> deck.getCredit(promptId, "2");
+
+      // Validation
+      assertThrows(IndexOutOfBoundsException.class, executable);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "kitten,kitten,1",
+          "kitten,' Kitten',1",
+          "kitten,sitten,0.6666666666666667",
+          "kitten,sittin,0.33333333333333337",
+          "kitten,sitting,0",
+          "kitten,kitt,0.33333333333333337",
+          "kitten,kittens,0.6666666666666667",
+          "kitten,kitte n,0.6666666666666667",
+          "kitten,'',0",
+          "kitten,null,0",
+          "ab,ba,0.33333333333333337",
+          "ab,'',0.33333333333333337",
+        },
+        nullValues = "null")
+    void whenFuzzy_thenPartialCreditForTypos(String expectedAnswer, String answer, double credit) {
+      // Setup
+      prompts.put("prompt", expectedAnswer);
+      Deck deck =
+          Deck.compile(
+              0,
+              "Spelling",
+              flashCardGroupBuilder
+                  .answerMatching(FlashCardGroup.AnswerMatching.FUZZY)
+                  .maximumEdits(2)
+                  .build());
+
+      // Execution
+      double result = deck.getCredit(0, answer);
+
+      // Validation
+      assertEquals(credit, result, 1e-12);
+    }
+
+    @Test
+    void whenFuzzyWithNoEditsAllowed_thenAllOrNothing() {
+      // Setup
+      prompts.put("prompt", "kitten");
+      Deck deck =
+          Deck.compile(
+              0,
+              "Spelling",
+              flashCardGroupBuilder
+                  .answerMatching(FlashCardGroup.AnswerMatching.FUZZY)
+                  .maximumEdits(0)
+                  .build());
+
+      // Execution
+      double result = deck.getCredit(0, "sitten");
+
+      // Validation
+      assertEquals(0, result);
+      assertEquals(1, deck.getCredit(0, "KITTEN"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"kitten,kitten,1", "kitten,sitten,0", "12,12.0,0"})
+    void whenNotFuzzy_thenAllOrNothing(String expectedAnswer, String answer, double credit) {
+      // Setup
+      prompts.put("prompt", expectedAnswer);
+      Deck deck = Deck.compile(0, "Spelling", flashCardGroupBuilder.build());
+
+      // Execution
+      double result = deck.getCredit(0, answer);
+
+      // Validation
+      assertEquals(credit, result);
+    }
+  }
+
+  @Nested
+  class ToStringTest {
+    @Test
+    void whenInvoked_thenPromptsNotIncluded() {
+      // Setup
+      prompts.put("1+1", "2");
+      Deck deck = Deck.compile(2, "Addition", flashCardGroupBuilder.build());
+
+      // Execution
+      String result = deck.toString();
+
+      // Validation
+      assertEquals("Deck(id=2, category=Addition, name=Adding 1)", result);
+    }
+  }
+}
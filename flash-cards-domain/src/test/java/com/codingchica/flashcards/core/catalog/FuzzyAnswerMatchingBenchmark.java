@@ -0,0 +1,106 @@
+package com.codingchica.flashcards.core.catalog;
+
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of grading one answer with a typo: the plain string comparison used by the other answer
+ * matching strategies, fuzzy matching with the bit-parallel edit distance, and, for reference, a
+ * textbook dynamic programming Levenshtein distance. Not part of the regular build, as the results
+ * depend on the machine; run it explicitly with:
+ *
+ * <pre>mvn test -pl flash-cards-domain -Dtest=FuzzyAnswerMatchingBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyAnswerMatchingBenchmark {
+  /** The answer expected, from a single word up to the longest answer the configuration allows. */
+  @Param({"necessary", "the quick brown fox jumps over the lazy dog again"})
+  public String expected;
+
+  private String provided;
+  private Deck deck;
+
+  /** Compile a fuzzy deck for the answer expected, and misspell it with two typos. */
+  @Setup
+  public void setUp() {
+    deck =
+        Deck.compile(
+            0,
+            "Spelling",
+            FlashCardGroup.builder()
+                .name("Spelling")
+                .prompts(Map.of("prompt", expected))
+                .answerMatching(FlashCardGroup.AnswerMatching.FUZZY)
+                .maximumEdits(2)
+                .build());
+    int middle = expected.length() / 2;
+    provided =
+        expected.substring(0, 1) + expected.substring(2, middle) + "x" + expected.substring(middle);
+  }
+
+  /** The all-or-nothing comparison used by IGNORE_CASE matching. */
+  @Benchmark
+  public boolean stringUtils() {
+    return StringUtils.equalsIgnoreCase(expected, provided);
+  }
+
+  /** Fuzzy matching, including normalizing the answer provided. */
+  @Benchmark
+  public double bitParallel() {
+    return deck.getCredit(0, provided);
+  }
+
+  /** A textbook Levenshtein distance, allocating and filling two rows per character. */
+  @Benchmark
+  public int dynamicProgramming() {
+    int[] previous = new int[provided.length() + 1];
+    int[] current = new int[provided.length() + 1];
+    for (int j = 0; j <= provided.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= expected.length(); i++) {
+      current[0] = i;
+      for (int j = 1; j <= provided.length(); j++) {
+        int substitution =
+            previous[j - 1] + (expected.charAt(i - 1) == provided.charAt(j - 1) ? 0 : 1);
+        current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return previous[provided.length()];
+  }
+
+  @Test
+  void benchmark() throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(FuzzyAnswerMatchingBenchmark.class.getName())
+                .shouldFailOnError(true)
+                .build())
+        .run();
+  }
+}
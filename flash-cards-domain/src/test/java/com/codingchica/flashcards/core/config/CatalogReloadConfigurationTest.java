@@ -0,0 +1,132 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the CatalogReloadConfiguration class. */
+class CatalogReloadConfigurationTest {
+  private CatalogReloadConfiguration catalogReloadConfiguration = new CatalogReloadConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Setup
+
+      // Execution
+      CatalogReloadConfiguration result = CatalogReloadConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertFalse(result.isWatchConfigFile(), "watchConfigFile"),
+          () -> assertEquals(Duration.seconds(2), result.getQuietPeriod(), "quietPeriod"));
+    }
+
+    @Test
+    void noArgsConstructor_whenInvoked_returnsDefaults() {
+      // Setup
+
+      // Execution
+      CatalogReloadConfiguration result = new CatalogReloadConfiguration();
+
+      // Validation
+      assertAll(
+          () -> assertFalse(result.isWatchConfigFile(), "watchConfigFile"),
+          () -> assertEquals(Duration.seconds(2), result.getQuietPeriod(), "quietPeriod"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Setup
+
+      // Execute
+      String result = catalogReloadConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "CatalogReloadConfiguration(watchConfigFile=false, quietPeriod=2 seconds)", result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testWatchConfigFileGetterViaBuilder(boolean value) {
+      // Setup
+      catalogReloadConfiguration =
+          CatalogReloadConfiguration.builder().watchConfigFile(value).build();
+
+      // Execution
+      boolean result = catalogReloadConfiguration.isWatchConfigFile();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testQuietPeriodGetterViaBuilder() {
+      // Setup
+      Duration quietPeriod = Duration.milliseconds(250);
+      catalogReloadConfiguration =
+          CatalogReloadConfiguration.builder().quietPeriod(quietPeriod).build();
+
+      // Execution
+      Duration result = catalogReloadConfiguration.getQuietPeriod();
+
+      // Validation
+      assertSame(quietPeriod, result);
+    }
+
+    @Test
+    void testQuietPeriodGetterViaSetter() {
+      // Setup
+      Duration quietPeriod = Duration.milliseconds(250);
+      catalogReloadConfiguration.setQuietPeriod(quietPeriod);
+
+      // Execution
+      Duration result = catalogReloadConfiguration.getQuietPeriod();
+
+      // Validation
+      assertSame(quietPeriod, result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Setup
+
+      // Execution
+      final Set<ConstraintViolation<CatalogReloadConfiguration>> violations =
+          validator.validate(catalogReloadConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenQuietPeriodNull_thenNotValid() {
+      // Setup
+      catalogReloadConfiguration.setQuietPeriod(null);
+
+      // Execution
+      final Set<ConstraintViolation<CatalogReloadConfiguration>> violations =
+          validator.validate(catalogReloadConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("quietPeriod must not be null", violations);
+    }
+  }
+}
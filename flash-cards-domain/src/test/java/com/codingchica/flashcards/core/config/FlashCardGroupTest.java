@@ -60,6 +60,12 @@ class FlashCardGroupTest {
           () -> assertEqualsAndLog(0, flashCardGroup.getMaximumPrompts(), "minimumPrompts"),
           () -> assertNullAndLog(flashCardGroup.getPrompts(), "prompts"),
           () -> assertNullAndLog(flashCardGroup.getName(), "name"),
+          () ->
+              assertEqualsAndLog(
+                  FlashCardGroup.AnswerMatching.IGNORE_CASE,
+                  flashCardGroup.getAnswerMatching(),
+                  "answerMatching"),
+          () -> assertEqualsAndLog(2, flashCardGroup.getMaximumEdits(), "maximumEdits"),
 
           // Ensure that we remember to update the UT as we add new fields, logged with the
           // ...AndLog methods above.
@@ -77,7 +83,8 @@ class FlashCardGroupTest {
 
       // Validation
       assertEquals(
-          "FlashCardGroup(maximumPrompts=0, minimumPrompts=0, prompts=null," + " name=null)",
+          "FlashCardGroup(maximumPrompts=0, minimumPrompts=0, prompts=null,"
+              + " name=null, answerMatching=IGNORE_CASE, maximumEdits=2)",
           result);
     }
 
@@ -253,6 +260,68 @@ class FlashCardGroupTest {
       }
     }
 
+    /** Ensure that Lombok annotations are set up as expected. */
+    @Nested
+    class AnswerMatchingTest {
+
+      @ParameterizedTest
+      @EnumSource(FlashCardGroup.AnswerMatching.class)
+      void testGetterViaBuilder(FlashCardGroup.AnswerMatching answerMatching) {
+        // Setup
+        flashCardGroup = flashCardGroupBuilder.answerMatching(answerMatching).build();
+
+        // Execution
+        FlashCardGroup.AnswerMatching result = flashCardGroup.getAnswerMatching();
+
+        // Validation
+        assertEquals(answerMatching, result);
+      }
+
+      @ParameterizedTest
+      @EnumSource(FlashCardGroup.AnswerMatching.class)
+      void testGetterViaSetter(FlashCardGroup.AnswerMatching answerMatching) {
+        // Setup
+        flashCardGroup.setAnswerMatching(answerMatching);
+
+        // Execution
+        FlashCardGroup.AnswerMatching result = flashCardGroup.getAnswerMatching();
+
+        // Validation
+        assertEquals(answerMatching, result);
+      }
+    }
+
+    /** Ensure that Lombok annotations are set up as expected. */
+    @Nested
+    class MaximumEditsTest {
+
+      @ParameterizedTest
+      @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 1, 10, Integer.MAX_VALUE})
+      void testGetterViaBuilder(int value) {
+        // Setup
+        flashCardGroup = flashCardGroupBuilder.maximumEdits(value).build();
+
+        // Execution
+        int result = flashCardGroup.getMaximumEdits();
+
+        // Validation
+        assertEquals(value, result);
+      }
+
+      @ParameterizedTest
+      @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 1, 10, Integer.MAX_VALUE})
+      void testGetterViaSetter(int value) {
+        // Setup
+        flashCardGroup.setMaximumEdits(value);
+
+        // Execution
+        int result = flashCardGroup.getMaximumEdits();
+
+        // Validation
+        assertEquals(value, result);
+      }
+    }
+
     @Nested
     class BuilderTest {
 
@@ -268,7 +337,8 @@ class FlashCardGroupTest {
         // Validation
         assertEquals(
             "FlashCardGroup.Builder(maximumPrompts=0, minimumPrompts=0,"
-                + " prompts=null, name=null)",
+                + " prompts=null, name=null, answerMatching$value=null,"
+                + " maximumEdits$value=0)",
             result);
       }
     }
@@ -493,6 +563,69 @@ class FlashCardGroupTest {
       }
     }
 
+    @Nested
+    class AnswerMatchingValidationTest {
+
+      @Test
+      void whenNull_thenValidationError() {
+        // Setup
+        flashCardGroup = flashCardGroupBuilder.answerMatching(null).build();
+
+        // Execution
+        final Set<ConstraintViolation<FlashCardGroup>> violations =
+            validator.validate(flashCardGroup);
+
+        // Validation
+        assertOneViolation("answerMatching must not be null", violations);
+      }
+    }
+
+    @Nested
+    class MaximumEditsValidationTest {
+
+      @ParameterizedTest
+      @ValueSource(ints = {Integer.MIN_VALUE, -1})
+      void whenNegative_thenNotValid(int value) {
+        // Setup
+        flashCardGroup = flashCardGroupBuilder.maximumEdits(value).build();
+
+        // Execution
+        final Set<ConstraintViolation<FlashCardGroup>> violations =
+            validator.validate(flashCardGroup);
+
+        // Validation
+        assertOneViolation("maximumEdits must be greater than or equal to 0", violations);
+      }
+
+      @ParameterizedTest
+      @ValueSource(ints = {11, Integer.MAX_VALUE})
+      void whenTooLarge_thenNotValid(int value) {
+        // Setup
+        flashCardGroup = flashCardGroupBuilder.maximumEdits(value).build();
+
+        // Execution
+        final Set<ConstraintViolation<FlashCardGroup>> violations =
+            validator.validate(flashCardGroup);
+
+        // Validation
+        assertOneViolation("maximumEdits must be less than or equal to 10", violations);
+      }
+
+      @ParameterizedTest
+      @ValueSource(ints = {0, 1, 10})
+      void whenValidValue_thenValid(int value) {
+        // Setup
+        flashCardGroup = flashCardGroupBuilder.maximumEdits(value).build();
+
+        // Execution
+        final Set<ConstraintViolation<FlashCardGroup>> violations =
+            validator.validate(flashCardGroup);
+
+        // Validation
+        assertEmpty(violations);
+      }
+    }
+
     @Nested
     class NameValidationTest {
 
@@ -545,6 +678,11 @@ class FlashCardGroupTest {
     testedFields.add(fieldName);
   }
 
+  private void assertEqualsAndLog(Object expectedValue, Object actualValue, String fieldName) {
+    assertEquals(expectedValue, actualValue, fieldName);
+    testedFields.add(fieldName);
+  }
+
   private void assertNullAndLog(Object actualValue, String fieldName) {
     assertNull(actualValue, fieldName);
     testedFields.add(fieldName);
@@ -44,7 +44,17 @@ class FlashCardsConfigurationTest {
       // Validation
       assertNotNull(flashCardsConfiguration);
       assertAll(
-          () -> assertNull(flashCardsConfiguration.getFlashCardGroupMap(), "flashCardGroupMap"));
+          () -> assertNull(flashCardsConfiguration.getFlashCardGroupMap(), "flashCardGroupMap"),
+          () -> assertNotNull(flashCardsConfiguration.getCatalogReload(), "catalogReload"),
+          () -> assertNotNull(flashCardsConfiguration.getQuizPool(), "quizPool"),
+          () -> assertNotNull(flashCardsConfiguration.getQuizTokens(), "quizTokens"),
+          () -> assertNotNull(flashCardsConfiguration.getQuizSessions(), "quizSessions"),
+          () -> assertNotNull(flashCardsConfiguration.getGrading(), "grading"),
+          () -> assertNotNull(flashCardsConfiguration.getQuizResults(), "quizResults"),
+          () -> assertNotNull(flashCardsConfiguration.getQuizStatistics(), "quizStatistics"),
+          () -> assertNotNull(flashCardsConfiguration.getHardestPrompts(), "hardestPrompts"),
+          () -> assertNotNull(flashCardsConfiguration.getQuizDistributions(), "quizDistributions"),
+          () -> assertNotNull(flashCardsConfiguration.getQuizResultRollups(), "quizResultRollups"));
     }
 
     /** Ensure toString output would be helpful for debugging. */
@@ -57,7 +67,32 @@ class FlashCardsConfigurationTest {
       String result = flashCardsConfiguration.toString();
 
       // Validation
-      assertEquals("FlashCardsConfiguration(flashCardGroupMap=null)", result);
+      assertEquals(
+          "FlashCardsConfiguration(flashCardGroupMap=null,"
+              + " catalogReload=CatalogReloadConfiguration(watchConfigFile=false,"
+              + " quietPeriod=2 seconds),"
+              + " quizPool=QuizPoolConfiguration(enabled=false, depthPerQuiz=8),"
+              + " quizTokens=QuizTokenConfiguration(enabled=false, maxAge=3 hours),"
+              + " quizSessions=QuizSessionsConfiguration(storage=HEAP, maximumPrompts=100000,"
+              + " expireAfter=3 hours, rejectWhenFull=false, retryAfter=30 seconds,"
+              + " offHeapSize=256 mebibytes, slabSize=4 mebibytes, journalDirectory=null,"
+              + " snapshotInterval=5 minutes),"
+              + " grading=GradingConfiguration(threads=4, queueCapacity=256,"
+              + " retryAfter=1 second),"
+              + " quizResults=QuizResultsConfiguration(storage=JOURNAL, directory=quiz-results,"
+              + " segmentSize=64 mebibytes, commitInterval=10 milliseconds, commitRecords=256,"
+              + " queueCapacity=16384, maximumBatchSize=1024, whenQueueFull=BLOCK,"
+              + " retryAfter=1 second),"
+              + " quizStatistics=QuizStatisticsConfiguration(checkpointFile=quiz-statistics.json,"
+              + " checkpointInterval=1 minute, mostMissedPrompts=10),"
+              + " hardestPrompts=HardestPromptsConfiguration(limit=20, sketchWidth=2048,"
+              + " sketchDepth=4),"
+              + " quizDistributions=QuizDistributionsConfiguration(interval=1 minute,"
+              + " maximumTime=1 hour, significantDigits=2),"
+              + " quizResultRollups=QuizResultRollupsConfiguration("
+              + "file=quiz-result-rollups.json, rawRetention=7 days, hourlyRetention=30 days,"
+              + " compactionInterval=1 hour, archiveDirectory=null))",
+          result);
     }
 
     /** Ensure that Lombok annotations are set up as expected. */
@@ -113,7 +148,13 @@ class FlashCardsConfigurationTest {
         String result = flashCardsConfigurationBuilder.toString();
 
         // Validation
-        assertEquals("FlashCardsConfiguration.Builder(flashCardGroupMap=null)", result);
+        assertEquals(
+            "FlashCardsConfiguration.Builder(flashCardGroupMap=null, catalogReload$value=null,"
+                + " quizPool$value=null, quizTokens$value=null, quizSessions$value=null,"
+                + " grading$value=null, quizResults$value=null, quizStatistics$value=null,"
+                + " hardestPrompts$value=null, quizDistributions$value=null,"
+                + " quizResultRollups$value=null)",
+            result);
       }
     }
   }
@@ -136,6 +177,138 @@ class FlashCardsConfigurationTest {
       AnnotationValidationUtils.assertEmpty(violations);
     }
 
+    @Test
+    void whenCatalogReloadNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.catalogReload(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("catalogReload must not be null", violations);
+    }
+
+    @Test
+    void whenQuizPoolNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.quizPool(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("quizPool must not be null", violations);
+    }
+
+    @Test
+    void whenQuizTokensNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.quizTokens(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("quizTokens must not be null", violations);
+    }
+
+    @Test
+    void whenQuizSessionsNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.quizSessions(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("quizSessions must not be null", violations);
+    }
+
+    @Test
+    void whenGradingNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.grading(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("grading must not be null", violations);
+    }
+
+    @Test
+    void whenQuizResultsNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.quizResults(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("quizResults must not be null", violations);
+    }
+
+    @Test
+    void whenQuizStatisticsNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.quizStatistics(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("quizStatistics must not be null", violations);
+    }
+
+    @Test
+    void whenHardestPromptsNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.hardestPrompts(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("hardestPrompts must not be null", violations);
+    }
+
+    @Test
+    void whenQuizDistributionsNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.quizDistributions(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "quizDistributions must not be null", violations);
+    }
+
+    @Test
+    void whenQuizResultRollupsNull_thenNotValid() {
+      // Setup
+      flashCardsConfiguration = flashCardsConfigurationBuilder.quizResultRollups(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<FlashCardsConfiguration>> violations =
+          validator.validate(flashCardsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "quizResultRollups must not be null", violations);
+    }
+
     @Nested
     class FlashCardGroupMapTest {
       @ParameterizedTest
@@ -0,0 +1,179 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the GradingConfiguration class. */
+class GradingConfigurationTest {
+  private GradingConfiguration gradingConfiguration = new GradingConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      GradingConfiguration result = GradingConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(4, result.getThreads(), "threads"),
+          () -> assertEquals(256, result.getQueueCapacity(), "queueCapacity"),
+          () -> assertEquals(Duration.seconds(1), result.getRetryAfter(), "retryAfter"));
+    }
+
+    @Test
+    void builderInitialized_whenInvoked_returnsValuesSet() {
+      // Execution
+      GradingConfiguration result =
+          GradingConfiguration.builder()
+              .threads(8)
+              .queueCapacity(1024)
+              .retryAfter(Duration.seconds(5))
+              .build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(8, result.getThreads(), "threads"),
+          () -> assertEquals(1024, result.getQueueCapacity(), "queueCapacity"),
+          () -> assertEquals(Duration.seconds(5), result.getRetryAfter(), "retryAfter"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = gradingConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "GradingConfiguration(threads=4, queueCapacity=256, retryAfter=1 second)", result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 64})
+    void testThreadsGetterViaSetter(int value) {
+      // Setup
+      gradingConfiguration.setThreads(value);
+
+      // Execution
+      int result = gradingConfiguration.getThreads();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1024, 65536})
+    void testQueueCapacityGetterViaBuilder(int value) {
+      // Setup
+      gradingConfiguration = GradingConfiguration.builder().queueCapacity(value).build();
+
+      // Execution
+      int result = gradingConfiguration.getQueueCapacity();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testRetryAfterGetterViaSetter() {
+      // Setup
+      gradingConfiguration.setRetryAfter(Duration.seconds(5));
+
+      // Execution
+      Duration result = gradingConfiguration.getRetryAfter();
+
+      // Validation
+      assertEquals(Duration.seconds(5), result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<GradingConfiguration>> violations =
+          validator.validate(gradingConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,threads must be greater than or equal to 1",
+          "65,threads must be less than or equal to 64"
+        })
+    void whenThreadsOutOfRange_thenNotValid(int threads, String expectedMessage) {
+      // Setup
+      gradingConfiguration.setThreads(threads);
+
+      // Execution
+      final Set<ConstraintViolation<GradingConfiguration>> violations =
+          validator.validate(gradingConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,queueCapacity must be greater than or equal to 1",
+          "65537,queueCapacity must be less than or equal to 65536"
+        })
+    void whenQueueCapacityOutOfRange_thenNotValid(int queueCapacity, String expectedMessage) {
+      // Setup
+      gradingConfiguration.setQueueCapacity(queueCapacity);
+
+      // Execution
+      final Set<ConstraintViolation<GradingConfiguration>> violations =
+          validator.validate(gradingConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @Test
+    void whenRetryAfterNull_thenNotValid() {
+      // Setup
+      gradingConfiguration.setRetryAfter(null);
+
+      // Execution
+      final Set<ConstraintViolation<GradingConfiguration>> violations =
+          validator.validate(gradingConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("retryAfter must not be null", violations);
+    }
+
+    @Test
+    void whenRetryAfterTooShort_thenNotValid() {
+      // Setup
+      gradingConfiguration.setRetryAfter(Duration.milliseconds(500));
+
+      // Execution
+      final Set<ConstraintViolation<GradingConfiguration>> violations =
+          validator.validate(gradingConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "retryAfter must be greater than or equal to 1 SECONDS", violations);
+    }
+  }
+}
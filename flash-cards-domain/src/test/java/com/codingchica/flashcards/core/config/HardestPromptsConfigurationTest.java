@@ -0,0 +1,165 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the HardestPromptsConfiguration class. */
+class HardestPromptsConfigurationTest {
+  private HardestPromptsConfiguration hardestPromptsConfiguration =
+      new HardestPromptsConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      HardestPromptsConfiguration result = HardestPromptsConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(20, result.getLimit(), "limit"),
+          () -> assertEquals(2048, result.getSketchWidth(), "sketchWidth"),
+          () -> assertEquals(4, result.getSketchDepth(), "sketchDepth"));
+    }
+
+    @Test
+    void builderInitialized_whenInvoked_returnsValuesSet() {
+      // Execution
+      HardestPromptsConfiguration result =
+          HardestPromptsConfiguration.builder().limit(5).sketchWidth(512).sketchDepth(3).build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(5, result.getLimit(), "limit"),
+          () -> assertEquals(512, result.getSketchWidth(), "sketchWidth"),
+          () -> assertEquals(3, result.getSketchDepth(), "sketchDepth"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = hardestPromptsConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "HardestPromptsConfiguration(limit=20, sketchWidth=2048, sketchDepth=4)", result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50, 1000})
+    void testLimitGetterViaSetter(int value) {
+      // Setup
+      hardestPromptsConfiguration.setLimit(value);
+
+      // Execution
+      int result = hardestPromptsConfiguration.getLimit();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testSketchWidthGetterViaBuilder() {
+      // Setup
+      hardestPromptsConfiguration = HardestPromptsConfiguration.builder().sketchWidth(512).build();
+
+      // Execution
+      int result = hardestPromptsConfiguration.getSketchWidth();
+
+      // Validation
+      assertEquals(512, result);
+    }
+
+    @Test
+    void testSketchDepthGetterViaSetter() {
+      // Setup
+      hardestPromptsConfiguration.setSketchDepth(8);
+
+      // Execution
+      int result = hardestPromptsConfiguration.getSketchDepth();
+
+      // Validation
+      assertEquals(8, result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<HardestPromptsConfiguration>> violations =
+          validator.validate(hardestPromptsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,limit must be greater than or equal to 1",
+          "1001,limit must be less than or equal to 1000"
+        })
+    void whenLimitOutOfRange_thenNotValid(int limit, String expectedMessage) {
+      // Setup
+      hardestPromptsConfiguration.setLimit(limit);
+
+      // Execution
+      final Set<ConstraintViolation<HardestPromptsConfiguration>> violations =
+          validator.validate(hardestPromptsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "15,sketchWidth must be greater than or equal to 16",
+          "1048577,sketchWidth must be less than or equal to 1048576"
+        })
+    void whenSketchWidthOutOfRange_thenNotValid(int sketchWidth, String expectedMessage) {
+      // Setup
+      hardestPromptsConfiguration.setSketchWidth(sketchWidth);
+
+      // Execution
+      final Set<ConstraintViolation<HardestPromptsConfiguration>> violations =
+          validator.validate(hardestPromptsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,sketchDepth must be greater than or equal to 1",
+          "17,sketchDepth must be less than or equal to 16"
+        })
+    void whenSketchDepthOutOfRange_thenNotValid(int sketchDepth, String expectedMessage) {
+      // Setup
+      hardestPromptsConfiguration.setSketchDepth(sketchDepth);
+
+      // Execution
+      final Set<ConstraintViolation<HardestPromptsConfiguration>> violations =
+          validator.validate(hardestPromptsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizDistributionsConfiguration class. */
+class QuizDistributionsConfigurationTest {
+  private QuizDistributionsConfiguration quizDistributionsConfiguration =
+      new QuizDistributionsConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      QuizDistributionsConfiguration result = QuizDistributionsConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(Duration.minutes(1), result.getInterval(), "interval"),
+          () -> assertEquals(Duration.hours(1), result.getMaximumTime(), "maximumTime"),
+          () -> assertEquals(2, result.getSignificantDigits(), "significantDigits"));
+    }
+
+    @Test
+    void builderInitialized_whenInvoked_returnsValuesSet() {
+      // Execution
+      QuizDistributionsConfiguration result =
+          QuizDistributionsConfiguration.builder()
+              .interval(Duration.seconds(30))
+              .maximumTime(Duration.minutes(20))
+              .significantDigits(3)
+              .build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(Duration.seconds(30), result.getInterval(), "interval"),
+          () -> assertEquals(Duration.minutes(20), result.getMaximumTime(), "maximumTime"),
+          () -> assertEquals(3, result.getSignificantDigits(), "significantDigits"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizDistributionsConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "QuizDistributionsConfiguration(interval=1 minute, maximumTime=1 hour,"
+              + " significantDigits=2)",
+          result);
+    }
+
+    @Test
+    void testIntervalGetterViaBuilder() {
+      // Setup
+      quizDistributionsConfiguration =
+          QuizDistributionsConfiguration.builder().interval(Duration.seconds(10)).build();
+
+      // Execution
+      Duration result = quizDistributionsConfiguration.getInterval();
+
+      // Validation
+      assertEquals(Duration.seconds(10), result);
+    }
+
+    @Test
+    void testMaximumTimeGetterViaSetter() {
+      // Setup
+      quizDistributionsConfiguration.setMaximumTime(Duration.minutes(20));
+
+      // Execution
+      Duration result = quizDistributionsConfiguration.getMaximumTime();
+
+      // Validation
+      assertEquals(Duration.minutes(20), result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void testSignificantDigitsGetterViaSetter(int value) {
+      // Setup
+      quizDistributionsConfiguration.setSignificantDigits(value);
+
+      // Execution
+      int result = quizDistributionsConfiguration.getSignificantDigits();
+
+      // Validation
+      assertEquals(value, result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizDistributionsConfiguration>> violations =
+          validator.validate(quizDistributionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenIntervalNull_thenNotValid() {
+      // Setup
+      quizDistributionsConfiguration.setInterval(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizDistributionsConfiguration>> violations =
+          validator.validate(quizDistributionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("interval must not be null", violations);
+    }
+
+    @Test
+    void whenIntervalTooShort_thenNotValid() {
+      // Setup
+      quizDistributionsConfiguration.setInterval(Duration.milliseconds(500));
+
+      // Execution
+      final Set<ConstraintViolation<QuizDistributionsConfiguration>> violations =
+          validator.validate(quizDistributionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "interval must be greater than or equal to 1 SECONDS", violations);
+    }
+
+    @Test
+    void whenMaximumTimeNull_thenNotValid() {
+      // Setup
+      quizDistributionsConfiguration.setMaximumTime(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizDistributionsConfiguration>> violations =
+          validator.validate(quizDistributionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("maximumTime must not be null", violations);
+    }
+
+    @Test
+    void whenMaximumTimeTooShort_thenNotValid() {
+      // Setup
+      quizDistributionsConfiguration.setMaximumTime(Duration.milliseconds(999));
+
+      // Execution
+      final Set<ConstraintViolation<QuizDistributionsConfiguration>> violations =
+          validator.validate(quizDistributionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "maximumTime must be greater than or equal to 1 SECONDS", violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,significantDigits must be greater than or equal to 1",
+          "4,significantDigits must be less than or equal to 3"
+        })
+    void whenSignificantDigitsOutOfRange_thenNotValid(
+        int significantDigits, String expectedMessage) {
+      // Setup
+      quizDistributionsConfiguration.setSignificantDigits(significantDigits);
+
+      // Execution
+      final Set<ConstraintViolation<QuizDistributionsConfiguration>> violations =
+          validator.validate(quizDistributionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+  }
+}
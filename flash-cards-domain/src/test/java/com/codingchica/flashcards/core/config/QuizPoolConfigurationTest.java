@@ -0,0 +1,115 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizPoolConfiguration class. */
+class QuizPoolConfigurationTest {
+  private QuizPoolConfiguration quizPoolConfiguration = new QuizPoolConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      QuizPoolConfiguration result = QuizPoolConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertFalse(result.isEnabled(), "enabled"),
+          () -> assertEquals(8, result.getDepthPerQuiz(), "depthPerQuiz"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizPoolConfiguration.toString();
+
+      // Validation
+      assertEquals("QuizPoolConfiguration(enabled=false, depthPerQuiz=8)", result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testEnabledGetterViaSetter(boolean value) {
+      // Setup
+      quizPoolConfiguration.setEnabled(value);
+
+      // Execution
+      boolean result = quizPoolConfiguration.isEnabled();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testEnabledGetterViaBuilder(boolean value) {
+      // Setup
+      quizPoolConfiguration = QuizPoolConfiguration.builder().enabled(value).build();
+
+      // Execution
+      boolean result = quizPoolConfiguration.isEnabled();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16, 1024})
+    void testDepthPerQuizGetterViaBuilder(int value) {
+      // Setup
+      quizPoolConfiguration = QuizPoolConfiguration.builder().depthPerQuiz(value).build();
+
+      // Execution
+      int result = quizPoolConfiguration.getDepthPerQuiz();
+
+      // Validation
+      assertEquals(value, result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizPoolConfiguration>> violations =
+          validator.validate(quizPoolConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,depthPerQuiz must be greater than or equal to 1",
+          "1025,depthPerQuiz must be less than or equal to 1024"
+        })
+    void whenDepthPerQuizOutOfRange_thenNotValid(int depthPerQuiz, String expectedMessage) {
+      // Setup
+      quizPoolConfiguration.setDepthPerQuiz(depthPerQuiz);
+
+      // Execution
+      final Set<ConstraintViolation<QuizPoolConfiguration>> violations =
+          validator.validate(quizPoolConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizResultRollupsConfiguration class. */
+class QuizResultRollupsConfigurationTest {
+  private QuizResultRollupsConfiguration quizResultRollupsConfiguration =
+      new QuizResultRollupsConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      QuizResultRollupsConfiguration result = QuizResultRollupsConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals("quiz-result-rollups.json", result.getFile(), "file"),
+          () -> assertEquals(Duration.days(7), result.getRawRetention(), "rawRetention"),
+          () -> assertEquals(Duration.days(30), result.getHourlyRetention(), "hourlyRetention"),
+          () ->
+              assertEquals(Duration.hours(1), result.getCompactionInterval(), "compactionInterval"),
+          () -> assertNull(result.getArchiveDirectory(), "archiveDirectory"));
+    }
+
+    @Test
+    void builderInitialized_whenInvoked_returnsValuesSet() {
+      // Execution
+      QuizResultRollupsConfiguration result =
+          QuizResultRollupsConfiguration.builder()
+              .file("rollups/quiz-result-rollups.json")
+              .rawRetention(Duration.days(2))
+              .hourlyRetention(Duration.days(14))
+              .compactionInterval(Duration.minutes(10))
+              .archiveDirectory("archive")
+              .build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals("rollups/quiz-result-rollups.json", result.getFile(), "file"),
+          () -> assertEquals(Duration.days(2), result.getRawRetention(), "rawRetention"),
+          () -> assertEquals(Duration.days(14), result.getHourlyRetention(), "hourlyRetention"),
+          () ->
+              assertEquals(
+                  Duration.minutes(10), result.getCompactionInterval(), "compactionInterval"),
+          () -> assertEquals("archive", result.getArchiveDirectory(), "archiveDirectory"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizResultRollupsConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "QuizResultRollupsConfiguration(file=quiz-result-rollups.json, rawRetention=7 days,"
+              + " hourlyRetention=30 days, compactionInterval=1 hour, archiveDirectory=null)",
+          result);
+    }
+
+    @Test
+    void testFileGetterViaSetter() {
+      // Setup
+      quizResultRollupsConfiguration.setFile("/var/lib/flash-cards/rollups.json");
+
+      // Execution
+      String result = quizResultRollupsConfiguration.getFile();
+
+      // Validation
+      assertEquals("/var/lib/flash-cards/rollups.json", result);
+    }
+
+    @Test
+    void testRawRetentionGetterViaBuilder() {
+      // Setup
+      quizResultRollupsConfiguration =
+          QuizResultRollupsConfiguration.builder().rawRetention(Duration.days(1)).build();
+
+      // Execution
+      Duration result = quizResultRollupsConfiguration.getRawRetention();
+
+      // Validation
+      assertEquals(Duration.days(1), result);
+    }
+
+    @Test
+    void testHourlyRetentionGetterViaSetter() {
+      // Setup
+      quizResultRollupsConfiguration.setHourlyRetention(Duration.days(90));
+
+      // Execution
+      Duration result = quizResultRollupsConfiguration.getHourlyRetention();
+
+      // Validation
+      assertEquals(Duration.days(90), result);
+    }
+
+    @Test
+    void testCompactionIntervalGetterViaBuilder() {
+      // Setup
+      quizResultRollupsConfiguration =
+          QuizResultRollupsConfiguration.builder().compactionInterval(Duration.minutes(10)).build();
+
+      // Execution
+      Duration result = quizResultRollupsConfiguration.getCompactionInterval();
+
+      // Validation
+      assertEquals(Duration.minutes(10), result);
+    }
+
+    @Test
+    void testArchiveDirectoryGetterViaSetter() {
+      // Setup
+      quizResultRollupsConfiguration.setArchiveDirectory("/var/archive/quiz-results");
+
+      // Execution
+      String result = quizResultRollupsConfiguration.getArchiveDirectory();
+
+      // Validation
+      assertEquals("/var/archive/quiz-results", result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollupsConfiguration>> violations =
+          validator.validate(quizResultRollupsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void whenFileBlank_thenNotValid(String file) {
+      // Setup
+      quizResultRollupsConfiguration.setFile(file);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollupsConfiguration>> violations =
+          validator.validate(quizResultRollupsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("file must not be blank", violations);
+    }
+
+    @Test
+    void whenRawRetentionNull_thenNotValid() {
+      // Setup
+      quizResultRollupsConfiguration.setRawRetention(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollupsConfiguration>> violations =
+          validator.validate(quizResultRollupsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("rawRetention must not be null", violations);
+    }
+
+    @Test
+    void whenRawRetentionTooShort_thenNotValid() {
+      // Setup
+      quizResultRollupsConfiguration.setRawRetention(Duration.minutes(30));
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollupsConfiguration>> violations =
+          validator.validate(quizResultRollupsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "rawRetention must be greater than or equal to 1 HOURS", violations);
+    }
+
+    @Test
+    void whenHourlyRetentionTooShort_thenNotValid() {
+      // Setup
+      quizResultRollupsConfiguration.setHourlyRetention(Duration.hours(12));
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollupsConfiguration>> violations =
+          validator.validate(quizResultRollupsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "hourlyRetention must be greater than or equal to 1 DAYS", violations);
+    }
+
+    @Test
+    void whenCompactionIntervalTooShort_thenNotValid() {
+      // Setup
+      quizResultRollupsConfiguration.setCompactionInterval(Duration.milliseconds(500));
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollupsConfiguration>> violations =
+          validator.validate(quizResultRollupsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "compactionInterval must be greater than or equal to 1 SECONDS", violations);
+    }
+  }
+}
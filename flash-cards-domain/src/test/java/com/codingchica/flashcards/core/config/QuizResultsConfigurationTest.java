@@ -0,0 +1,400 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizResultsConfiguration class. */
+class QuizResultsConfigurationTest {
+  private QuizResultsConfiguration quizResultsConfiguration = new QuizResultsConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      QuizResultsConfiguration result = QuizResultsConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () ->
+              assertEquals(
+                  QuizResultsConfiguration.Storage.JOURNAL, result.getStorage(), "storage"),
+          () -> assertEquals("quiz-results", result.getDirectory(), "directory"),
+          () -> assertEquals(DataSize.mebibytes(64), result.getSegmentSize(), "segmentSize"),
+          () ->
+              assertEquals(Duration.milliseconds(10), result.getCommitInterval(), "commitInterval"),
+          () -> assertEquals(256, result.getCommitRecords(), "commitRecords"),
+          () -> assertEquals(16_384, result.getQueueCapacity(), "queueCapacity"),
+          () -> assertEquals(1024, result.getMaximumBatchSize(), "maximumBatchSize"),
+          () ->
+              assertEquals(
+                  QuizResultsConfiguration.WhenQueueFull.BLOCK,
+                  result.getWhenQueueFull(),
+                  "whenQueueFull"),
+          () -> assertEquals(Duration.seconds(1), result.getRetryAfter(), "retryAfter"));
+    }
+
+    @Test
+    void builderInitialized_whenInvoked_returnsValuesSet() {
+      // Execution
+      QuizResultsConfiguration result =
+          QuizResultsConfiguration.builder()
+              .storage(QuizResultsConfiguration.Storage.MAPPED)
+              .directory("results")
+              .segmentSize(DataSize.mebibytes(8))
+              .commitInterval(Duration.milliseconds(50))
+              .commitRecords(64)
+              .queueCapacity(4096)
+              .maximumBatchSize(128)
+              .whenQueueFull(QuizResultsConfiguration.WhenQueueFull.REJECT)
+              .retryAfter(Duration.seconds(5))
+              .build();
+
+      // Validation
+      assertAll(
+          () ->
+              assertEquals(QuizResultsConfiguration.Storage.MAPPED, result.getStorage(), "storage"),
+          () -> assertEquals("results", result.getDirectory(), "directory"),
+          () -> assertEquals(DataSize.mebibytes(8), result.getSegmentSize(), "segmentSize"),
+          () ->
+              assertEquals(Duration.milliseconds(50), result.getCommitInterval(), "commitInterval"),
+          () -> assertEquals(64, result.getCommitRecords(), "commitRecords"),
+          () -> assertEquals(4096, result.getQueueCapacity(), "queueCapacity"),
+          () -> assertEquals(128, result.getMaximumBatchSize(), "maximumBatchSize"),
+          () ->
+              assertEquals(
+                  QuizResultsConfiguration.WhenQueueFull.REJECT,
+                  result.getWhenQueueFull(),
+                  "whenQueueFull"),
+          () -> assertEquals(Duration.seconds(5), result.getRetryAfter(), "retryAfter"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizResultsConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "QuizResultsConfiguration(storage=JOURNAL, directory=quiz-results,"
+              + " segmentSize=64 mebibytes,"
+              + " commitInterval=10 milliseconds, commitRecords=256, queueCapacity=16384,"
+              + " maximumBatchSize=1024, whenQueueFull=BLOCK, retryAfter=1 second)",
+          result);
+    }
+
+    @ParameterizedTest
+    @EnumSource(QuizResultsConfiguration.Storage.class)
+    void testStorageGetterViaBuilder(QuizResultsConfiguration.Storage value) {
+      // Setup
+      quizResultsConfiguration = QuizResultsConfiguration.builder().storage(value).build();
+
+      // Execution
+      QuizResultsConfiguration.Storage result = quizResultsConfiguration.getStorage();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testDirectoryGetterViaSetter() {
+      // Setup
+      quizResultsConfiguration.setDirectory("/var/lib/flash-cards/results");
+
+      // Execution
+      String result = quizResultsConfiguration.getDirectory();
+
+      // Validation
+      assertEquals("/var/lib/flash-cards/results", result);
+    }
+
+    @Test
+    void testSegmentSizeGetterViaBuilder() {
+      // Setup
+      quizResultsConfiguration =
+          QuizResultsConfiguration.builder().segmentSize(DataSize.mebibytes(8)).build();
+
+      // Execution
+      DataSize result = quizResultsConfiguration.getSegmentSize();
+
+      // Validation
+      assertEquals(DataSize.mebibytes(8), result);
+    }
+
+    @Test
+    void testCommitIntervalGetterViaSetter() {
+      // Setup
+      quizResultsConfiguration.setCommitInterval(Duration.milliseconds(2));
+
+      // Execution
+      Duration result = quizResultsConfiguration.getCommitInterval();
+
+      // Validation
+      assertEquals(Duration.milliseconds(2), result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1024, 65536})
+    void testCommitRecordsGetterViaBuilder(int value) {
+      // Setup
+      quizResultsConfiguration = QuizResultsConfiguration.builder().commitRecords(value).build();
+
+      // Execution
+      int result = quizResultsConfiguration.getCommitRecords();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testQueueCapacityGetterViaSetter() {
+      // Setup
+      quizResultsConfiguration.setQueueCapacity(100);
+
+      // Execution
+      int result = quizResultsConfiguration.getQueueCapacity();
+
+      // Validation
+      assertEquals(100, result);
+    }
+
+    @Test
+    void testMaximumBatchSizeGetterViaBuilder() {
+      // Setup
+      quizResultsConfiguration = QuizResultsConfiguration.builder().maximumBatchSize(64).build();
+
+      // Execution
+      int result = quizResultsConfiguration.getMaximumBatchSize();
+
+      // Validation
+      assertEquals(64, result);
+    }
+
+    @ParameterizedTest
+    @EnumSource(QuizResultsConfiguration.WhenQueueFull.class)
+    void testWhenQueueFullGetterViaSetter(QuizResultsConfiguration.WhenQueueFull value) {
+      // Setup
+      quizResultsConfiguration.setWhenQueueFull(value);
+
+      // Execution
+      QuizResultsConfiguration.WhenQueueFull result = quizResultsConfiguration.getWhenQueueFull();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testRetryAfterGetterViaBuilder() {
+      // Setup
+      quizResultsConfiguration =
+          QuizResultsConfiguration.builder().retryAfter(Duration.seconds(5)).build();
+
+      // Execution
+      Duration result = quizResultsConfiguration.getRetryAfter();
+
+      // Validation
+      assertEquals(Duration.seconds(5), result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenStorageNull_thenNotValid() {
+      // Setup
+      quizResultsConfiguration.setStorage(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("storage must not be null", violations);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void whenDirectoryBlank_thenNotValid(String directory) {
+      // Setup
+      quizResultsConfiguration.setDirectory(directory);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("directory must not be blank", violations);
+    }
+
+    @Test
+    void whenSegmentSizeNull_thenNotValid() {
+      // Setup
+      quizResultsConfiguration.setSegmentSize(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("segmentSize must not be null", violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "512,segmentSize must be greater than or equal to 1 KIBIBYTES",
+          "2147483648,segmentSize must be less than or equal to 1 GIBIBYTES"
+        })
+    void whenSegmentSizeOutOfRange_thenNotValid(long bytes, String expectedMessage) {
+      // Setup
+      quizResultsConfiguration.setSegmentSize(DataSize.bytes(bytes));
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @Test
+    void whenCommitIntervalNull_thenNotValid() {
+      // Setup
+      quizResultsConfiguration.setCommitInterval(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("commitInterval must not be null", violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,commitInterval must be greater than or equal to 1 MILLISECONDS",
+          "2000,commitInterval must be less than or equal to 1 SECONDS"
+        })
+    void whenCommitIntervalOutOfRange_thenNotValid(long millis, String expectedMessage) {
+      // Setup
+      quizResultsConfiguration.setCommitInterval(Duration.milliseconds(millis));
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,commitRecords must be greater than or equal to 1",
+          "65537,commitRecords must be less than or equal to 65536"
+        })
+    void whenCommitRecordsOutOfRange_thenNotValid(int commitRecords, String expectedMessage) {
+      // Setup
+      quizResultsConfiguration.setCommitRecords(commitRecords);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,queueCapacity must be greater than or equal to 1",
+          "1048577,queueCapacity must be less than or equal to 1048576"
+        })
+    void whenQueueCapacityOutOfRange_thenNotValid(int queueCapacity, String expectedMessage) {
+      // Setup
+      quizResultsConfiguration.setQueueCapacity(queueCapacity);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,maximumBatchSize must be greater than or equal to 1",
+          "65537,maximumBatchSize must be less than or equal to 65536"
+        })
+    void whenMaximumBatchSizeOutOfRange_thenNotValid(int maximumBatchSize, String expectedMessage) {
+      // Setup
+      quizResultsConfiguration.setMaximumBatchSize(maximumBatchSize);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+
+    @Test
+    void whenWhenQueueFullNull_thenNotValid() {
+      // Setup
+      quizResultsConfiguration.setWhenQueueFull(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("whenQueueFull must not be null", violations);
+    }
+
+    @Test
+    void whenRetryAfterTooShort_thenNotValid() {
+      // Setup
+      quizResultsConfiguration.setRetryAfter(Duration.milliseconds(500));
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultsConfiguration>> violations =
+          validator.validate(quizResultsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "retryAfter must be greater than or equal to 1 SECONDS", violations);
+    }
+  }
+}
@@ -0,0 +1,356 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizSessionsConfiguration class. */
+class QuizSessionsConfigurationTest {
+  private QuizSessionsConfiguration quizSessionsConfiguration = new QuizSessionsConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      QuizSessionsConfiguration result = QuizSessionsConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () ->
+              assertEquals(QuizSessionsConfiguration.Storage.HEAP, result.getStorage(), "storage"),
+          () -> assertEquals(100_000, result.getMaximumPrompts(), "maximumPrompts"),
+          () -> assertEquals(Duration.hours(3), result.getExpireAfter(), "expireAfter"),
+          () -> assertFalse(result.isRejectWhenFull(), "rejectWhenFull"),
+          () -> assertEquals(Duration.seconds(30), result.getRetryAfter(), "retryAfter"),
+          () -> assertEquals(DataSize.mebibytes(256), result.getOffHeapSize(), "offHeapSize"),
+          () -> assertEquals(DataSize.mebibytes(4), result.getSlabSize(), "slabSize"),
+          () -> assertNull(result.getJournalDirectory(), "journalDirectory"),
+          () ->
+              assertEquals(Duration.minutes(5), result.getSnapshotInterval(), "snapshotInterval"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void builderInitialized_whenInvoked_returnsValuesSet() {
+      // Execution
+      QuizSessionsConfiguration result =
+          QuizSessionsConfiguration.builder()
+              .storage(QuizSessionsConfiguration.Storage.OFF_HEAP)
+              .maximumPrompts(10)
+              .expireAfter(Duration.minutes(30))
+              .rejectWhenFull(true)
+              .retryAfter(Duration.seconds(5))
+              .offHeapSize(DataSize.mebibytes(64))
+              .slabSize(DataSize.mebibytes(1))
+              .journalDirectory("sessions")
+              .snapshotInterval(Duration.minutes(1))
+              .build();
+
+      // Validation
+      assertAll(
+          () ->
+              assertEquals(
+                  QuizSessionsConfiguration.Storage.OFF_HEAP, result.getStorage(), "storage"),
+          () -> assertEquals(10, result.getMaximumPrompts(), "maximumPrompts"),
+          () -> assertEquals(Duration.minutes(30), result.getExpireAfter(), "expireAfter"),
+          () -> assertTrue(result.isRejectWhenFull(), "rejectWhenFull"),
+          () -> assertEquals(Duration.seconds(5), result.getRetryAfter(), "retryAfter"),
+          () -> assertEquals(DataSize.mebibytes(64), result.getOffHeapSize(), "offHeapSize"),
+          () -> assertEquals(DataSize.mebibytes(1), result.getSlabSize(), "slabSize"),
+          () -> assertEquals("sessions", result.getJournalDirectory(), "journalDirectory"),
+          () ->
+              assertEquals(Duration.minutes(1), result.getSnapshotInterval(), "snapshotInterval"));
+    }
+
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizSessionsConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "QuizSessionsConfiguration(storage=HEAP, maximumPrompts=100000, expireAfter=3 hours,"
+              + " rejectWhenFull=false, retryAfter=30 seconds, offHeapSize=256 mebibytes,"
+              + " slabSize=4 mebibytes, journalDirectory=null, snapshotInterval=5 minutes)",
+          result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 300, Long.MAX_VALUE})
+    void testMaximumPromptsGetterViaBuilder(long value) {
+      // Setup
+      quizSessionsConfiguration = QuizSessionsConfiguration.builder().maximumPrompts(value).build();
+
+      // Execution
+      long result = quizSessionsConfiguration.getMaximumPrompts();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testExpireAfterGetterViaSetter() {
+      // Setup
+      quizSessionsConfiguration.setExpireAfter(Duration.minutes(45));
+
+      // Execution
+      Duration result = quizSessionsConfiguration.getExpireAfter();
+
+      // Validation
+      assertEquals(Duration.minutes(45), result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testRejectWhenFullGetterViaSetter(boolean value) {
+      // Setup
+      quizSessionsConfiguration.setRejectWhenFull(value);
+
+      // Execution
+      boolean result = quizSessionsConfiguration.isRejectWhenFull();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testRetryAfterGetterViaSetter() {
+      // Setup
+      quizSessionsConfiguration.setRetryAfter(Duration.seconds(5));
+
+      // Execution
+      Duration result = quizSessionsConfiguration.getRetryAfter();
+
+      // Validation
+      assertEquals(Duration.seconds(5), result);
+    }
+
+    @ParameterizedTest
+    @EnumSource(QuizSessionsConfiguration.Storage.class)
+    void testStorageGetterViaSetter(QuizSessionsConfiguration.Storage value) {
+      // Setup
+      quizSessionsConfiguration.setStorage(value);
+
+      // Execution
+      QuizSessionsConfiguration.Storage result = quizSessionsConfiguration.getStorage();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testOffHeapSizeGetterViaBuilder() {
+      // Setup
+      quizSessionsConfiguration =
+          QuizSessionsConfiguration.builder().offHeapSize(DataSize.gibibytes(2)).build();
+
+      // Execution
+      DataSize result = quizSessionsConfiguration.getOffHeapSize();
+
+      // Validation
+      assertEquals(DataSize.gibibytes(2), result);
+    }
+
+    @Test
+    void testSlabSizeGetterViaSetter() {
+      // Setup
+      quizSessionsConfiguration.setSlabSize(DataSize.kibibytes(512));
+
+      // Execution
+      DataSize result = quizSessionsConfiguration.getSlabSize();
+
+      // Validation
+      assertEquals(DataSize.kibibytes(512), result);
+    }
+
+    @Test
+    void testJournalDirectoryGetterViaBuilder() {
+      // Setup
+      quizSessionsConfiguration =
+          QuizSessionsConfiguration.builder().journalDirectory("/var/lib/flash-cards").build();
+
+      // Execution
+      String result = quizSessionsConfiguration.getJournalDirectory();
+
+      // Validation
+      assertEquals("/var/lib/flash-cards", result);
+    }
+
+    @Test
+    void testSnapshotIntervalGetterViaSetter() {
+      // Setup
+      quizSessionsConfiguration.setSnapshotInterval(Duration.seconds(30));
+
+      // Execution
+      Duration result = quizSessionsConfiguration.getSnapshotInterval();
+
+      // Validation
+      assertEquals(Duration.seconds(30), result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MIN_VALUE, -1, 0})
+    void whenMaximumPromptsNotPositive_thenNotValid(long value) {
+      // Setup
+      quizSessionsConfiguration.setMaximumPrompts(value);
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "maximumPrompts must be greater than or equal to 1", violations);
+    }
+
+    @Test
+    void whenExpireAfterNull_thenNotValid() {
+      // Setup
+      quizSessionsConfiguration.setExpireAfter(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("expireAfter must not be null", violations);
+    }
+
+    @Test
+    void whenRetryAfterTooShort_thenNotValid() {
+      // Setup
+      quizSessionsConfiguration.setRetryAfter(Duration.milliseconds(500));
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "retryAfter must be greater than or equal to 1 SECONDS", violations);
+    }
+
+    @Test
+    void whenStorageNull_thenNotValid() {
+      // Setup
+      quizSessionsConfiguration.setStorage(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("storage must not be null", violations);
+    }
+
+    @Test
+    void whenSlabSizeTooSmall_thenNotValid() {
+      // Setup
+      quizSessionsConfiguration.setSlabSize(DataSize.kibibytes(63));
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "slabSize must be greater than or equal to 64 KIBIBYTES", violations);
+    }
+
+    @Test
+    void whenSlabSizeTooLarge_thenNotValid() {
+      // Setup
+      quizSessionsConfiguration.setSlabSize(DataSize.gibibytes(2));
+      quizSessionsConfiguration.setOffHeapSize(DataSize.gibibytes(4));
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "slabSize must be less than or equal to 1 GIBIBYTES", violations);
+    }
+
+    @Test
+    void whenOffHeapSizeSmallerThanSlabSize_thenNotValid() {
+      // Setup
+      quizSessionsConfiguration.setOffHeapSize(DataSize.mebibytes(2));
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "offHeapSizeValid offHeapSize must be at least slabSize", violations);
+    }
+
+    @Test
+    void whenOffHeapSizeNull_thenOnlyNotNullViolation() {
+      // Setup
+      quizSessionsConfiguration.setOffHeapSize(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("offHeapSize must not be null", violations);
+    }
+
+    @Test
+    void whenSlabSizeNull_thenOnlyNotNullViolation() {
+      // Setup
+      quizSessionsConfiguration.setSlabSize(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("slabSize must not be null", violations);
+    }
+
+    @Test
+    void whenSnapshotIntervalTooShort_thenNotValid() {
+      // Setup
+      quizSessionsConfiguration.setSnapshotInterval(Duration.milliseconds(500));
+
+      // Execution
+      final Set<ConstraintViolation<QuizSessionsConfiguration>> violations =
+          validator.validate(quizSessionsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "snapshotInterval must be greater than or equal to 1 SECONDS", violations);
+    }
+  }
+}
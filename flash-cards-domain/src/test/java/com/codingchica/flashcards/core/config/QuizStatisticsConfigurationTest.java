@@ -0,0 +1,188 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizStatisticsConfiguration class. */
+class QuizStatisticsConfigurationTest {
+  private QuizStatisticsConfiguration quizStatisticsConfiguration =
+      new QuizStatisticsConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      QuizStatisticsConfiguration result = QuizStatisticsConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals("quiz-statistics.json", result.getCheckpointFile(), "checkpointFile"),
+          () ->
+              assertEquals(
+                  Duration.minutes(1), result.getCheckpointInterval(), "checkpointInterval"),
+          () -> assertEquals(10, result.getMostMissedPrompts(), "mostMissedPrompts"));
+    }
+
+    @Test
+    void builderInitialized_whenInvoked_returnsValuesSet() {
+      // Execution
+      QuizStatisticsConfiguration result =
+          QuizStatisticsConfiguration.builder()
+              .checkpointFile("statistics/checkpoint.json")
+              .checkpointInterval(Duration.seconds(30))
+              .mostMissedPrompts(5)
+              .build();
+
+      // Validation
+      assertAll(
+          () ->
+              assertEquals(
+                  "statistics/checkpoint.json", result.getCheckpointFile(), "checkpointFile"),
+          () ->
+              assertEquals(
+                  Duration.seconds(30), result.getCheckpointInterval(), "checkpointInterval"),
+          () -> assertEquals(5, result.getMostMissedPrompts(), "mostMissedPrompts"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizStatisticsConfiguration.toString();
+
+      // Validation
+      assertEquals(
+          "QuizStatisticsConfiguration(checkpointFile=quiz-statistics.json,"
+              + " checkpointInterval=1 minute, mostMissedPrompts=10)",
+          result);
+    }
+
+    @Test
+    void testCheckpointFileGetterViaSetter() {
+      // Setup
+      quizStatisticsConfiguration.setCheckpointFile("/var/lib/flash-cards/statistics.json");
+
+      // Execution
+      String result = quizStatisticsConfiguration.getCheckpointFile();
+
+      // Validation
+      assertEquals("/var/lib/flash-cards/statistics.json", result);
+    }
+
+    @Test
+    void testCheckpointIntervalGetterViaBuilder() {
+      // Setup
+      quizStatisticsConfiguration =
+          QuizStatisticsConfiguration.builder().checkpointInterval(Duration.seconds(30)).build();
+
+      // Execution
+      Duration result = quizStatisticsConfiguration.getCheckpointInterval();
+
+      // Validation
+      assertEquals(Duration.seconds(30), result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25, 1000})
+    void testMostMissedPromptsGetterViaSetter(int value) {
+      // Setup
+      quizStatisticsConfiguration.setMostMissedPrompts(value);
+
+      // Execution
+      int result = quizStatisticsConfiguration.getMostMissedPrompts();
+
+      // Validation
+      assertEquals(value, result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizStatisticsConfiguration>> violations =
+          validator.validate(quizStatisticsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void whenCheckpointFileBlank_thenNotValid(String checkpointFile) {
+      // Setup
+      quizStatisticsConfiguration.setCheckpointFile(checkpointFile);
+
+      // Execution
+      final Set<ConstraintViolation<QuizStatisticsConfiguration>> violations =
+          validator.validate(quizStatisticsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("checkpointFile must not be blank", violations);
+    }
+
+    @Test
+    void whenCheckpointIntervalNull_thenNotValid() {
+      // Setup
+      quizStatisticsConfiguration.setCheckpointInterval(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizStatisticsConfiguration>> violations =
+          validator.validate(quizStatisticsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "checkpointInterval must not be null", violations);
+    }
+
+    @Test
+    void whenCheckpointIntervalTooShort_thenNotValid() {
+      // Setup
+      quizStatisticsConfiguration.setCheckpointInterval(Duration.milliseconds(500));
+
+      // Execution
+      final Set<ConstraintViolation<QuizStatisticsConfiguration>> violations =
+          validator.validate(quizStatisticsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "checkpointInterval must be greater than or equal to 1 SECONDS", violations);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,mostMissedPrompts must be greater than or equal to 1",
+          "1001,mostMissedPrompts must be less than or equal to 1000"
+        })
+    void whenMostMissedPromptsOutOfRange_thenNotValid(
+        int mostMissedPrompts, String expectedMessage) {
+      // Setup
+      quizStatisticsConfiguration.setMostMissedPrompts(mostMissedPrompts);
+
+      // Execution
+      final Set<ConstraintViolation<QuizStatisticsConfiguration>> violations =
+          validator.validate(quizStatisticsConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(expectedMessage, violations);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package com.codingchica.flashcards.core.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizTokenConfiguration class. */
+class QuizTokenConfigurationTest {
+  private static final String SECRET = "0123456789abcdef0123456789abcdef";
+  private QuizTokenConfiguration quizTokenConfiguration = new QuizTokenConfiguration();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void builderUninitialized_whenInvoked_returnsDefaults() {
+      // Execution
+      QuizTokenConfiguration result = QuizTokenConfiguration.builder().build();
+
+      // Validation
+      assertAll(
+          () -> assertFalse(result.isEnabled(), "enabled"),
+          () -> assertNull(result.getSecret(), "secret"),
+          () -> assertEquals(Duration.hours(3), result.getMaxAge(), "maxAge"));
+    }
+
+    /** Ensure toString output would be helpful for debugging, without leaking the secret. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Setup
+      quizTokenConfiguration.setSecret(SECRET);
+
+      // Execute
+      String result = quizTokenConfiguration.toString();
+
+      // Validation
+      assertEquals("QuizTokenConfiguration(enabled=false, maxAge=3 hours)", result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testEnabledGetterViaSetter(boolean value) {
+      // Setup
+      quizTokenConfiguration.setEnabled(value);
+
+      // Execution
+      boolean result = quizTokenConfiguration.isEnabled();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testEnabledGetterViaBuilder(boolean value) {
+      // Setup
+      quizTokenConfiguration = QuizTokenConfiguration.builder().enabled(value).build();
+
+      // Execution
+      boolean result = quizTokenConfiguration.isEnabled();
+
+      // Validation
+      assertEquals(value, result);
+    }
+
+    @Test
+    void testSecretGetterViaBuilder() {
+      // Setup
+      quizTokenConfiguration = QuizTokenConfiguration.builder().secret(SECRET).build();
+
+      // Execution
+      String result = quizTokenConfiguration.getSecret();
+
+      // Validation
+      assertEquals(SECRET, result);
+    }
+
+    @Test
+    void testMaxAgeGetterViaBuilder() {
+      // Setup
+      quizTokenConfiguration =
+          QuizTokenConfiguration.builder().maxAge(Duration.minutes(30)).build();
+
+      // Execution
+      Duration result = quizTokenConfiguration.getMaxAge();
+
+      // Validation
+      assertEquals(Duration.minutes(30), result);
+    }
+
+    @Test
+    void testMaxAgeGetterViaSetter() {
+      // Setup
+      quizTokenConfiguration.setMaxAge(Duration.minutes(30));
+
+      // Execution
+      Duration result = quizTokenConfiguration.getMaxAge();
+
+      // Validation
+      assertEquals(Duration.minutes(30), result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizTokenConfiguration>> violations =
+          validator.validate(quizTokenConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenEnabledWithSecret_thenValid() {
+      // Setup
+      quizTokenConfiguration.setEnabled(true);
+      quizTokenConfiguration.setSecret(SECRET);
+
+      // Execution
+      final Set<ConstraintViolation<QuizTokenConfiguration>> violations =
+          validator.validate(quizTokenConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "0123456789abcdef0123456789abcde"})
+    void whenDisabledWithShortSecret_thenValid(String secret) {
+      // Setup
+      quizTokenConfiguration.setEnabled(false);
+      quizTokenConfiguration.setSecret(secret);
+
+      // Execution
+      final Set<ConstraintViolation<QuizTokenConfiguration>> violations =
+          validator.validate(quizTokenConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+      assertTrue(quizTokenConfiguration.isSecretValid());
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "0123456789abcdef0123456789abcde"})
+    void whenEnabledWithShortSecret_thenNotValid(String secret) {
+      // Setup
+      quizTokenConfiguration.setEnabled(true);
+      quizTokenConfiguration.setSecret(secret);
+
+      // Execution
+      final Set<ConstraintViolation<QuizTokenConfiguration>> violations =
+          validator.validate(quizTokenConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "secretValid secret must be at least 32 bytes when enabled", violations);
+    }
+
+    @Test
+    void whenMaxAgeNull_thenNotValid() {
+      // Setup
+      quizTokenConfiguration.setMaxAge(null);
+
+      // Execution
+      final Set<ConstraintViolation<QuizTokenConfiguration>> violations =
+          validator.validate(quizTokenConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("maxAge must not be null", violations);
+    }
+
+    @Test
+    void whenMaxAgeTooShort_thenNotValid() {
+      // Setup
+      quizTokenConfiguration.setMaxAge(Duration.milliseconds(999));
+
+      // Execution
+      final Set<ConstraintViolation<QuizTokenConfiguration>> violations =
+          validator.validate(quizTokenConfiguration);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "maxAge must be greater than or equal to 1 SECONDS", violations);
+    }
+  }
+}
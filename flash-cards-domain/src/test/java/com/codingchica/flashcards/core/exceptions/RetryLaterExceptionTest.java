@@ -0,0 +1,59 @@
+package com.codingchica.flashcards.core.exceptions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RetryLaterExceptionTest {
+  private String message = "Too many quizzes in progress";
+
+  @Nested
+  class ConstructorTest {
+    @Test
+    void whenInvoked_thenExpectedObjectReturned() {
+      // Execution
+      RetryLaterException exception = new RetryLaterException(message, Duration.ofSeconds(30));
+
+      // Validation
+      assertAll(
+          () ->
+              assertEquals(
+                  HttpStatus.SERVICE_UNAVAILABLE_503, exception.getHttpStatus(), "httpStatus"),
+          () -> assertEquals(message, exception.getMessage(), "message"),
+          () -> assertEquals(Duration.ofSeconds(30), exception.getRetryAfter(), "retryAfter"),
+          () -> assertNull(exception.getCause()));
+    }
+
+    @Test
+    void whenRetryAfterNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new RetryLaterException(message, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("retryAfter is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class GetRetryAfterSecondsTest {
+    @ParameterizedTest
+    @CsvSource(value = {"0,0", "1,1", "999,1", "1000,1", "1001,2", "30000,30"})
+    void whenInvoked_thenRoundedUpToWholeSeconds(long millis, long expectedSeconds) {
+      // Setup
+      RetryLaterException exception = new RetryLaterException(message, Duration.ofMillis(millis));
+
+      // Execution
+      long result = exception.getRetryAfterSeconds();
+
+      // Validation
+      assertEquals(expectedSeconds, result);
+    }
+  }
+}
@@ -0,0 +1,354 @@
+package com.codingchica.flashcards.core.grading;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.model.internal.CompletedPrompt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class QuizGraderTest {
+  private final QuizGrader quizGrader = new QuizGrader();
+
+  @Nested
+  class GradeTest {
+    @Test
+    void whenPromptsNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizGrader.grade(null, List.of(), false);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("prompts must not be null", exception.getMessage());
+    }
+
+    @Test
+    void whenAnswersNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizGrader.grade(List.of(), null, false);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("answers must not be null", exception.getMessage());
+    }
+
+    @Test
+    void whenSizesDiffer_thenExceptionThrown() {
+      // Setup
+      List<Map.Entry<String, String>> prompts = List.of(Map.entry("1+1", "2"));
+
+      // Execution
+      Executable executable = () -> quizGrader.grade(prompts, List.of(), false);
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("prompts (1) and answers (0) size must be equivalent", exception.getMessage());
+    }
+
+    @Test
+    void whenEmpty_thenZeroPercentage() {
+      // Execution
+      QuizGrade grade = quizGrader.grade(List.of(), List.of(), true);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(0, grade.getPromptCount(), "promptCount"),
+          () -> assertEquals(0, grade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(0, grade.getPercentage(), "percentage"),
+          () -> assertEquals(List.of(), grade.getCompletedPrompts(), "completedPrompts"));
+    }
+
+    @Test
+    void whenNullPrompts_thenSkipped() {
+      // Setup
+      List<Map.Entry<String, String>> prompts = new ArrayList<>();
+      prompts.add(null);
+      prompts.add(Map.entry("1+1", "2"));
+
+      // Execution
+      QuizGrade grade = quizGrader.grade(prompts, Arrays.asList(null, "2"), true);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(1, grade.getPromptCount(), "promptCount"),
+          () -> assertEquals(1, grade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(100, grade.getPercentage(), "percentage"),
+          () -> assertEquals(1, grade.getCompletedPrompts().size(), "completedPrompts"));
+    }
+
+    @Test
+    void whenNotDetailed_thenNoCompletedPrompts() {
+      // Setup
+      List<Map.Entry<String, String>> prompts =
+          List.of(Map.entry("1+1", "2"), Map.entry("2+2", "4"), Map.entry("3+3", "6"));
+
+      // Execution
+      QuizGrade grade = quizGrader.grade(prompts, List.of("2", "5", "6"), false);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(3, grade.getPromptCount(), "promptCount"),
+          () -> assertEquals(2, grade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(66, grade.getPercentage(), "percentage"),
+          () -> assertTrue(grade.getCompletedPrompts().isEmpty(), "completedPrompts"),
+          () -> assertEquals(BitSet.valueOf(new long[] {0b010}), grade.getMissedPositions()));
+    }
+
+    @Test
+    void whenDetailed_thenCompletedPromptsRecorded() {
+      // Setup
+      List<Map.Entry<String, String>> prompts =
+          List.of(Map.entry("1+1", "2"), Map.entry("2+2", "4"));
+
+      // Execution
+      QuizGrade grade = quizGrader.grade(prompts, List.of("2", "5"), true);
+
+      // Validation
+      List<CompletedPrompt> completedPrompts = grade.getCompletedPrompts();
+      assertEquals(2, completedPrompts.size());
+      assertAll(
+          () -> assertEquals("1+1", completedPrompts.get(0).getPrompt(), "prompt"),
+          () -> assertEquals("2", completedPrompts.get(0).getExpectedAnswer(), "expectedAnswer"),
+          () -> assertEquals("2", completedPrompts.get(0).getAnswerProvided(), "answerProvided"),
+          () -> assertTrue(completedPrompts.get(0).isCorrectAnswer(), "correctAnswer"),
+          () -> assertEquals("2+2", completedPrompts.get(1).getPrompt(), "prompt"),
+          () -> assertEquals("5", completedPrompts.get(1).getAnswerProvided(), "answerProvided"),
+          () -> assertFalse(completedPrompts.get(1).isCorrectAnswer(), "correctAnswer"));
+    }
+
+    @Test
+    void whenPromptsFromCompiledDeck_thenGradedAgainstDeck() {
+      // Setup
+      Map<String, String> deckPrompts = new TreeMap<>();
+      deckPrompts.put("1+1", "2");
+      deckPrompts.put("2+2", "4");
+      Deck deck =
+          Deck.compile(
+              0, "Addition", FlashCardGroup.builder().name("Sums").prompts(deckPrompts).build());
+      DeckPromptList prompts = new DeckPromptList(deck, 42L, new int[] {1, 0, 1});
+
+      // Execution
+      QuizGrade grade = quizGrader.grade(prompts, List.of("4", "2", "5"), true);
+
+      // Validation
+      List<CompletedPrompt> completedPrompts = grade.getCompletedPrompts();
+      assertAll(
+          () -> assertEquals(3, grade.getPromptCount(), "promptCount"),
+          () -> assertEquals(2, grade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(66, grade.getPercentage(), "percentage"),
+          () -> assertEquals("2+2", completedPrompts.get(0).getPrompt(), "prompt"),
+          () -> assertEquals("1+1", completedPrompts.get(1).getPrompt(), "prompt"),
+          () -> assertEquals("4", completedPrompts.get(2).getExpectedAnswer(), "expectedAnswer"),
+          () -> assertFalse(completedPrompts.get(2).isCorrectAnswer(), "correctAnswer"));
+    }
+  }
+
+  @Nested
+  class DeckAnswerMatchingTest {
+    @Test
+    void whenDeckMatchesNumerically_thenGradedNumerically() {
+      // Setup
+      Deck deck =
+          Deck.compile(
+              0,
+              "Addition",
+              FlashCardGroup.builder()
+                  .name("Sums")
+                  .prompts(Map.of("6+6", "12"))
+                  .answerMatching(FlashCardGroup.AnswerMatching.NUMERIC)
+                  .build());
+      DeckPromptList prompts = new DeckPromptList(deck, 42L, new int[] {0, 0, 0});
+
+      // Execution
+      QuizGrade grade = quizGrader.grade(prompts, List.of(" 12", "12.0", "13"), false);
+
+      // Validation
+      assertEquals(2, grade.getCorrectAnswers());
+    }
+
+    @Test
+    void whenDeckMatchesExactly_thenCaseMatters() {
+      // Setup
+      Deck deck =
+          Deck.compile(
+              0,
+              "Capitals",
+              FlashCardGroup.builder()
+                  .name("Europe")
+                  .prompts(Map.of("France", "Paris"))
+                  .answerMatching(FlashCardGroup.AnswerMatching.EXACT)
+                  .build());
+      DeckPromptList prompts = new DeckPromptList(deck, 42L, new int[] {0, 0});
+
+      // Execution
+      QuizGrade grade = quizGrader.grade(prompts, List.of("Paris", "paris"), true);
+
+      // Validation
+      assertEquals(1, grade.getCorrectAnswers());
+      assertFalse(grade.getCompletedPrompts().get(1).isCorrectAnswer());
+    }
+  }
+
+  @Nested
+  class PartialCreditTest {
+    @Test
+    void whenDeckMatchesFuzzily_thenNearMissesEarnPartialCredit() {
+      // Setup
+      Deck deck =
+          Deck.compile(
+              0,
+              "Spelling",
+              FlashCardGroup.builder()
+                  .name("Tricky words")
+                  .prompts(Map.of("Needed", "necessary"))
+                  .answerMatching(FlashCardGroup.AnswerMatching.FUZZY)
+                  .maximumEdits(2)
+                  .build());
+      DeckPromptList prompts = new DeckPromptList(deck, 42L, new int[] {0, 0, 0});
+
+      // Execution
+      QuizGrade grade =
+          quizGrader.grade(prompts, List.of("Necessary", "neccessary", "nesesary"), true);
+
+      // Validation
+      List<CompletedPrompt> completedPrompts = grade.getCompletedPrompts();
+      assertAll(
+          () -> assertEquals(3, grade.getPromptCount(), "promptCount"),
+          () -> assertEquals(1, grade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(2, grade.getCredit(), 1e-12, "credit"),
+          () -> assertEquals(66, grade.getPercentage(), "percentage"),
+          () -> assertEquals(1, completedPrompts.get(0).getCredit(), "credit 0"),
+          () -> assertEquals(2 / 3.0, completedPrompts.get(1).getCredit(), 1e-12, "credit 1"),
+          () -> assertFalse(completedPrompts.get(1).isCorrectAnswer(), "correctAnswer 1"),
+          () -> assertEquals(1 / 3.0, completedPrompts.get(2).getCredit(), 1e-12, "credit 2"));
+    }
+
+    @Test
+    void whenCreditsSumToWholePercentage_thenNotRoundedDown() {
+      // Setup
+      Deck deck =
+          Deck.compile(
+              0,
+              "Spelling",
+              FlashCardGroup.builder()
+                  .name("Tricky words")
+                  .prompts(Map.of("Needed", "necessary"))
+                  .answerMatching(FlashCardGroup.AnswerMatching.FUZZY)
+                  .maximumEdits(4)
+                  .build());
+      DeckPromptList prompts = new DeckPromptList(deck, 42L, new int[] {0, 0, 0, 0, 0});
+      // Four typos each, for 1 - 4/5 credit, which sums to just under 1 in floating point.
+      List<String> answers =
+          List.of("nwxyzsary", "nwxyzsary", "nwxyzsary", "nwxyzsary", "nwxyzsary");
+
+      // Execution
+      QuizGrade grade = quizGrader.grade(prompts, answers, false);
+
+      // Validation
+      assertTrue(grade.getCredit() < 1, "credit");
+      assertEquals(20, grade.getPercentage(), "percentage");
+    }
+  }
+
+  @Nested
+  class GradeAnswerTest {
+    @Test
+    void whenPromptsNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizGrader.gradeAnswer(null, 0, "2");
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("prompts must not be null", exception.getMessage());
+    }
+
+    @Test
+    void whenIndexOutOfRange_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizGrader.gradeAnswer(List.of(Map.entry("1+1", "2")), 1, "2");
+
+      // Validation
+      Exception exception = assertThrows(IndexOutOfBoundsException.class, executable);
+      assertEquals("index (1) must be less than size (1)", exception.getMessage());
+    }
+
+    @Test
+    void whenPromptNull_thenExceptionThrown() {
+      // Setup
+      List<Map.Entry<String, String>> prompts = new ArrayList<>();
+      prompts.add(null);
+
+      // Execution
+      Executable executable = () -> quizGrader.gradeAnswer(prompts, 0, "2");
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("prompt 0 must not be null", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"2,1", "3,0"})
+    void whenAnswered_thenCreditReturned(String answer, double expected) {
+      // Execution
+      double result = quizGrader.gradeAnswer(List.of(Map.entry("1+1", "2")), 0, answer);
+
+      // Validation
+      assertEquals(expected, result);
+    }
+
+    @Test
+    void whenPromptsFromCompiledDeck_thenGradedAgainstDeck() {
+      // Setup
+      Deck deck =
+          Deck.compile(
+              0,
+              "Addition",
+              FlashCardGroup.builder()
+                  .name("Sums")
+                  .prompts(Map.of("6+6", "12"))
+                  .answerMatching(FlashCardGroup.AnswerMatching.NUMERIC)
+                  .build());
+      DeckPromptList prompts = new DeckPromptList(deck, 42L, new int[] {0});
+
+      // Execution
+      double result = quizGrader.gradeAnswer(prompts, 0, "12.0");
+
+      // Validation
+      assertEquals(1, result);
+    }
+  }
+
+  @Nested
+  class IsCorrectTest {
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "Paris,Paris,true",
+          "Paris,paris,true",
+          "Paris,PARIS,true",
+          "Paris,Pari,false",
+          "Paris,null,false",
+          "null,null,true"
+        },
+        nullValues = "null")
+    void whenAnswerVaried_thenMatchedIgnoringCase(
+        String expectedAnswer, String answer, boolean expected) {
+      // Execution
+      boolean result = quizGrader.isCorrect(expectedAnswer, answer);
+
+      // Validation
+      assertEquals(expected, result);
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package com.codingchica.flashcards.core.grading;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class RunningGradeTest {
+  private final QuizGrader quizGrader = new QuizGrader();
+  private final List<Map.Entry<String, String>> prompts =
+      List.of(Map.entry("1+1", "2"), Map.entry("2+2", "4"), Map.entry("3+3", "6"));
+
+  /**
+   * Compile a deck of exact-match prompts.
+   *
+   * @return The deck, with prompt IDs 0 for "1+1" and 1 for "2+2".
+   */
+  private static Deck deck() {
+    Map<String, String> deckPrompts = new LinkedHashMap<>();
+    deckPrompts.put("1+1", "2");
+    deckPrompts.put("2+2", "4");
+    return Deck.compile(
+        0, "Addition", FlashCardGroup.builder().name("Adding").prompts(deckPrompts).build());
+  }
+
+  @Nested
+  class ConstructorTest {
+    @Test
+    void whenQuizGraderNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new RunningGrade(null, prompts);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizGrader is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenPromptsNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new RunningGrade(quizGrader, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("prompts is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenNotAnswered_thenNothingEarned() {
+      // Execution
+      RunningGrade runningGrade = new RunningGrade(quizGrader, prompts);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(3, runningGrade.getPromptCount(), "promptCount"),
+          () -> assertEquals(0, runningGrade.getPosition(), "position"),
+          () -> assertEquals(0, runningGrade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(0, runningGrade.getCredit(), "credit"),
+          () -> assertFalse(runningGrade.isComplete(), "complete"),
+          () -> assertEquals("2", runningGrade.getExpectedAnswer(), "expectedAnswer"));
+    }
+  }
+
+  @Nested
+  class GradeTest {
+    @Test
+    void whenAnsweredInTurn_thenTotalsKept() {
+      // Setup
+      RunningGrade runningGrade = new RunningGrade(quizGrader, prompts);
+
+      // Execution
+      double first = runningGrade.grade("2");
+      double second = runningGrade.grade("5");
+
+      // Validation
+      assertAll(
+          () -> assertEquals(1, first, "first"),
+          () -> assertEquals(0, second, "second"),
+          () -> assertEquals(2, runningGrade.getPosition(), "position"),
+          () -> assertEquals(1, runningGrade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals("6", runningGrade.getExpectedAnswer(), "expectedAnswer"),
+          () -> assertEquals(33, runningGrade.toQuizGrade().getPercentage(), "percentage"),
+          () ->
+              assertEquals(
+                  BitSet.valueOf(new long[] {0b110}),
+                  runningGrade.toQuizGrade().getMissedPositions(),
+                  "missed, including unanswered"));
+    }
+
+    @Test
+    void whenAllAnswered_thenSameGradeAsCompletedQuiz() {
+      // Setup
+      RunningGrade runningGrade = new RunningGrade(quizGrader, prompts);
+      List<String> answers = List.of("2", "4", "7");
+
+      // Execution
+      answers.forEach(runningGrade::grade);
+
+      // Validation
+      QuizGrade expected = quizGrader.grade(prompts, answers, false);
+      QuizGrade result = runningGrade.toQuizGrade();
+      assertTrue(runningGrade.isComplete());
+      assertAll(
+          () -> assertEquals(expected.getPromptCount(), result.getPromptCount(), "promptCount"),
+          () ->
+              assertEquals(
+                  expected.getCorrectAnswers(), result.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(expected.getPercentage(), result.getPercentage(), "percentage"),
+          () ->
+              assertEquals(
+                  expected.getMissedPositions(), result.getMissedPositions(), "missedPositions"));
+    }
+
+    @Test
+    void whenComplete_thenExceptionThrown() {
+      // Setup
+      RunningGrade runningGrade = new RunningGrade(quizGrader, List.of(Map.entry("1+1", "2")));
+      runningGrade.grade("2");
+
+      // Execution
+      Executable executable = () -> runningGrade.grade("2");
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("every prompt has been answered", exception.getMessage());
+      assertThrows(IllegalStateException.class, runningGrade::getExpectedAnswer);
+    }
+
+    @Test
+    void whenNullPrompts_thenSkippedAndNotCounted() {
+      // Setup
+      List<Map.Entry<String, String>> withNulls = new ArrayList<>();
+      withNulls.add(null);
+      withNulls.add(Map.entry("1+1", "2"));
+      withNulls.add(null);
+
+      // Execution
+      RunningGrade runningGrade = new RunningGrade(quizGrader, withNulls);
+
+      // Validation
+      assertEquals(1, runningGrade.getPromptCount());
+      assertEquals(1, runningGrade.getPosition());
+      runningGrade.grade("2");
+      assertTrue(runningGrade.isComplete());
+      assertEquals(100, runningGrade.toQuizGrade().getPercentage());
+      assertTrue(runningGrade.toQuizGrade().getMissedPositions().isEmpty());
+    }
+
+    @Test
+    void whenSamePromptDrawnTwice_thenEachAnswerGradedInTurn() {
+      // Setup
+      Deck deck = deck();
+      RunningGrade runningGrade =
+          new RunningGrade(quizGrader, new DeckPromptList(deck, 42L, new int[] {1, 1, 0}));
+
+      // Execution
+      String firstExpected = runningGrade.getExpectedAnswer();
+      double first = runningGrade.grade("4");
+      String secondExpected = runningGrade.getExpectedAnswer();
+      double second = runningGrade.grade("5");
+
+      // Validation
+      assertAll(
+          () -> assertEquals("4", firstExpected, "firstExpected"),
+          () -> assertEquals(1, first, "first"),
+          () -> assertEquals("4", secondExpected, "secondExpected"),
+          () -> assertEquals(0, second, "second"),
+          () -> assertEquals(3, runningGrade.getPromptCount(), "promptCount"),
+          () -> assertEquals(1, runningGrade.getCorrectAnswers(), "correctAnswers"),
+          () ->
+              assertEquals(
+                  BitSet.valueOf(new long[] {0b110}),
+                  runningGrade.toQuizGrade().getMissedPositions(),
+                  "missed, including unanswered"));
+    }
+
+    @Test
+    void whenAnsweredPastLastDeckPrompt_thenExceptionThrownAndGradeKept() {
+      // Setup
+      RunningGrade runningGrade =
+          new RunningGrade(quizGrader, new DeckPromptList(deck(), 42L, new int[] {0}));
+      runningGrade.grade("2");
+
+      // Execution
+      Executable executable = () -> runningGrade.grade("4");
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("every prompt has been answered", exception.getMessage());
+      assertAll(
+          () -> assertEquals(1, runningGrade.getPosition(), "position"),
+          () -> assertEquals(1, runningGrade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(100, runningGrade.toQuizGrade().getPercentage(), "percentage"));
+    }
+
+    @Test
+    void whenNullPromptsNotYetReached_thenNotCountedAsMissed() {
+      // Setup
+      List<Map.Entry<String, String>> withNulls = new ArrayList<>();
+      withNulls.add(Map.entry("1+1", "2"));
+      withNulls.add(null);
+      withNulls.add(Map.entry("2+2", "4"));
+
+      // Execution
+      RunningGrade runningGrade = new RunningGrade(quizGrader, withNulls);
+
+      // Validation
+      assertEquals(
+          BitSet.valueOf(new long[] {0b101}), runningGrade.toQuizGrade().getMissedPositions());
+    }
+
+    @Test
+    void whenPromptsFromFuzzyDeck_thenPartialCreditKept() {
+      // Setup
+      Deck deck =
+          Deck.compile(
+              0,
+              "Spelling",
+              FlashCardGroup.builder()
+                  .name("Tricky words")
+                  .prompts(Map.of("Needed", "necessary"))
+                  .answerMatching(FlashCardGroup.AnswerMatching.FUZZY)
+                  .maximumEdits(2)
+                  .build());
+      RunningGrade runningGrade =
+          new RunningGrade(quizGrader, new DeckPromptList(deck, 42L, new int[] {0, 0}));
+
+      // Execution
+      double first = runningGrade.grade("neccessary");
+      double second = runningGrade.grade("necessary");
+
+      // Validation
+      assertAll(
+          () -> assertEquals(2 / 3.0, first, 1e-12, "first"),
+          () -> assertEquals(1, second, "second"),
+          () -> assertEquals(1, runningGrade.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(5 / 3.0, runningGrade.getCredit(), 1e-12, "credit"),
+          () -> assertEquals(83, runningGrade.toQuizGrade().getPercentage(), "percentage"));
+    }
+  }
+}
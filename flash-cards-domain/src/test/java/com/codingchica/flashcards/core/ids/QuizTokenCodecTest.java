@@ -0,0 +1,428 @@
+package com.codingchica.flashcards.core.ids;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for the QuizTokenCodec class. */
+class QuizTokenCodecTest {
+  private final byte[] secret = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+  private final Instant now = Instant.parse("2024-03-01T12:34:56.789Z");
+  private final QuizTokenCodec quizTokenCodec =
+      QuizTokenCodec.builder()
+          .secret(secret)
+          .maxAge(Duration.ofHours(3))
+          .clock(Clock.fixed(now, ZoneOffset.UTC))
+          .build();
+  private final QuizToken quizToken =
+      QuizToken.builder()
+          .deckId(3)
+          .catalogVersion(0x0123456789abcdefL)
+          .seed(-42L)
+          .createdDateTime(now.minusSeconds(60))
+          .build();
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void build_whenClockNotInvoked_thenSystemClockUsed() {
+      // Execution
+      QuizTokenCodec result =
+          QuizTokenCodec.builder().secret(secret).maxAge(Duration.ofHours(3)).build();
+
+      // Validation
+      assertEquals(Clock.systemUTC(), result.getClock());
+      assertEquals(Duration.ofHours(3), result.getMaxAge());
+    }
+
+    @Test
+    void build_whenSecretNull_thenExceptionThrown() {
+      // Setup
+      QuizTokenCodec.Builder builder = QuizTokenCodec.builder().maxAge(Duration.ofHours(3));
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("secret is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenSecretNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> QuizTokenCodec.builder().secret(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("secret is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenMaxAgeNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> QuizTokenCodec.builder().maxAge(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("maxAge is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenMaxAgeNotInvoked_thenExceptionThrown() {
+      // Setup
+      QuizTokenCodec.Builder builder = QuizTokenCodec.builder().secret(secret);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("maxAge is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenClockInvoked_thenClockUsed() {
+      // Setup
+      Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+
+      // Execution
+      QuizTokenCodec result =
+          QuizTokenCodec.builder().secret(secret).maxAge(Duration.ofHours(3)).clock(clock).build();
+
+      // Validation
+      assertSame(clock, result.getClock());
+    }
+
+    @Test
+    void build_whenSecretChangedAfterBuild_thenSigningUnchanged() {
+      // Setup
+      byte[] mutableSecret = secret.clone();
+      QuizTokenCodec result =
+          QuizTokenCodec.builder()
+              .secret(mutableSecret)
+              .maxAge(Duration.ofHours(3))
+              .clock(Clock.fixed(now, ZoneOffset.UTC))
+              .build();
+
+      // Execution
+      mutableSecret[0]++;
+
+      // Validation
+      assertEquals(quizTokenCodec.encode(quizToken), result.encode(quizToken));
+    }
+
+    @Test
+    void build_whenSecretShort_thenExceptionThrown() {
+      // Setup
+      QuizTokenCodec.Builder builder =
+          QuizTokenCodec.builder().secret(new byte[31]).maxAge(Duration.ofHours(3));
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("secret must be at least 32 bytes", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void build_whenMaxAgeNotPositive_thenExceptionThrown(long maxAgeMillis) {
+      // Setup
+      QuizTokenCodec.Builder builder =
+          QuizTokenCodec.builder().secret(secret).maxAge(Duration.ofMillis(maxAgeMillis));
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("maxAge must be positive", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class EncodeTest {
+    @Test
+    void whenQuizTokenNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizTokenCodec.encode(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizToken is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenInvoked_thenUrlSafe() {
+      // Execution
+      String result = quizTokenCodec.encode(quizToken);
+
+      // Validation
+      assertEquals(60, result.length());
+      assertTrue(result.matches("[A-Za-z0-9_-]+"), result);
+    }
+
+    @Test
+    void whenSameToken_thenSameId() {
+      // Execution
+      String first = quizTokenCodec.encode(quizToken);
+      String second = quizTokenCodec.encode(quizToken);
+
+      // Validation
+      assertEquals(first, second);
+    }
+  }
+
+  @Nested
+  class DecodeTest {
+    @Test
+    void whenQuizIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizTokenCodec.decode(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizId is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMacTampered_thenEmpty() {
+      // Setup
+      byte[] bytes = Base64.getUrlDecoder().decode(quizTokenCodec.encode(quizToken));
+      bytes[bytes.length - 1] ^= (byte) 0x80;
+      String quizId = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16, 44})
+    void whenTruncated_thenEmpty(int removedBytes) {
+      // Setup
+      byte[] bytes = Base64.getUrlDecoder().decode(quizTokenCodec.encode(quizToken));
+      String quizId =
+          Base64.getUrlEncoder()
+              .withoutPadding()
+              .encodeToString(Arrays.copyOf(bytes, bytes.length - removedBytes));
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenExtended_thenEmpty() {
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizTokenCodec.encode(quizToken) + "AA");
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenFormatUnknown_thenEmpty() {
+      // Setup
+      byte[] bytes = Base64.getUrlDecoder().decode(quizTokenCodec.encode(quizToken));
+      bytes[0] = 2;
+      String quizId = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenEncoded_thenSameTokenReturned() {
+      // Setup
+      String quizId = quizTokenCodec.encode(quizToken);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertEquals(Optional.of(quizToken), result);
+    }
+
+    @Test
+    void whenEncodedByAnotherInstanceWithSameSecret_thenSameTokenReturned() {
+      // Setup
+      String quizId =
+          QuizTokenCodec.builder()
+              .secret(secret.clone())
+              .maxAge(Duration.ofMinutes(5))
+              .build()
+              .encode(quizToken);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertEquals(Optional.of(quizToken), result);
+    }
+
+    @Test
+    void whenSignedWithAnotherSecret_thenEmpty() {
+      // Setup
+      byte[] otherSecret = secret.clone();
+      otherSecret[0]++;
+      String quizId =
+          QuizTokenCodec.builder()
+              .secret(otherSecret)
+              .maxAge(Duration.ofHours(3))
+              .build()
+              .encode(quizToken);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20, 44})
+    void whenAnyByteChanged_thenEmpty(int index) {
+      // Setup
+      byte[] bytes = Base64.getUrlDecoder().decode(quizTokenCodec.encode(quizToken));
+      bytes[index] ^= 1;
+      String quizId = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a token", "e5d9fe4a-721c-40e3-925a-29ff4b348375", "AAAA"})
+    void whenMalformed_thenEmpty(String quizId) {
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenExpired_thenEmpty() {
+      // Setup
+      String quizId =
+          quizTokenCodec.encode(
+              QuizToken.builder()
+                  .createdDateTime(now.minus(Duration.ofHours(3)).minusMillis(1))
+                  .build());
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenExactlyMaxAgeOld_thenTokenReturned() {
+      // Setup
+      QuizToken oldest =
+          QuizToken.builder().createdDateTime(now.minus(Duration.ofHours(3))).build();
+      String quizId = quizTokenCodec.encode(oldest);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertEquals(Optional.of(oldest), result);
+    }
+
+    @Test
+    void whenExpiredByMoreThanAMinute_thenEmpty() {
+      // Setup
+      String quizId =
+          quizTokenCodec.encode(
+              QuizToken.builder()
+                  .createdDateTime(now.minus(Duration.ofHours(3)).minusSeconds(61))
+                  .build());
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenCreatedAtTheClockSkew_thenTokenReturned() {
+      // Setup
+      QuizToken fromAheadClock = QuizToken.builder().createdDateTime(now.plusSeconds(60)).build();
+      String quizId = quizTokenCodec.encode(fromAheadClock);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertEquals(Optional.of(fromAheadClock), result);
+    }
+
+    @Test
+    void whenCreatedJustBeyondTheClockSkew_thenEmpty() {
+      // Setup
+      String quizId =
+          quizTokenCodec.encode(
+              QuizToken.builder().createdDateTime(now.plusSeconds(60).plusMillis(1)).build());
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenCreatedWellInTheFuture_thenEmpty() {
+      // Setup
+      String quizId =
+          quizTokenCodec.encode(QuizToken.builder().createdDateTime(now.plusSeconds(61)).build());
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void whenCreatedSlightlyInTheFuture_thenTokenReturned() {
+      // Setup
+      QuizToken fromAheadClock = QuizToken.builder().createdDateTime(now.plusSeconds(30)).build();
+      String quizId = quizTokenCodec.encode(fromAheadClock);
+
+      // Execution
+      Optional<QuizToken> result = quizTokenCodec.decode(quizId);
+
+      // Validation
+      assertEquals(Optional.of(fromAheadClock), result);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.codingchica.flashcards.core.ids;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/** Unit tests for the QuizToken class. */
+class QuizTokenTest {
+  private final Instant createdDateTime = Instant.parse("2024-03-01T12:34:56.789Z");
+  private final QuizToken.Builder quizTokenBuilder =
+      QuizToken.builder()
+          .deckId(3)
+          .catalogVersion(0x0123456789abcdefL)
+          .seed(-42L)
+          .createdDateTime(createdDateTime);
+  private final QuizToken quizToken = quizTokenBuilder.build();
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void builderSetter_whenCreatedDateTimeNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> QuizToken.builder().createdDateTime(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("createdDateTime is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenCreatedDateTimeNotInvoked_thenExceptionThrown() {
+      // Setup
+      QuizToken.Builder builder = QuizToken.builder().deckId(3);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("createdDateTime is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenInvoked_thenFieldsSet() {
+      // Validation
+      assertAll(
+          () -> assertEquals(3, quizToken.getDeckId(), "deckId"),
+          () -> assertEquals(0x0123456789abcdefL, quizToken.getCatalogVersion(), "catalogVersion"),
+          () -> assertEquals(-42L, quizToken.getSeed(), "seed"),
+          () -> assertEquals(createdDateTime, quizToken.getCreatedDateTime(), "createdDateTime"));
+    }
+
+    @Test
+    void toString_whenInvoked_thenReturnsExpectedValue() {
+      // Execution
+      String result = quizTokenBuilder.toString();
+
+      // Validation
+      assertEquals(
+          "QuizToken.Builder(deckId=3, catalogVersion=81985529216486895, seed=-42,"
+              + " createdDateTime=2024-03-01T12:34:56.789Z)",
+          result);
+    }
+  }
+
+  @Nested
+  class EqualsTest {
+    @Test
+    void whenSameFields_thenEqual() {
+      // Execution
+      QuizToken other = quizTokenBuilder.build();
+
+      // Validation
+      assertEquals(quizToken, other);
+      assertEquals(quizToken.hashCode(), other.hashCode());
+      assertEquals(quizToken, quizToken);
+    }
+
+    @Test
+    void whenDeckIdDiffers_thenNotEqual() {
+      // Validation
+      assertNotEquals(quizToken, quizTokenBuilder.deckId(4).build());
+    }
+
+    @Test
+    void whenCatalogVersionDiffers_thenNotEqual() {
+      // Validation
+      assertNotEquals(quizToken, quizTokenBuilder.catalogVersion(1L).build());
+    }
+
+    @Test
+    void whenSeedDiffers_thenNotEqual() {
+      // Validation
+      assertNotEquals(quizToken, quizTokenBuilder.seed(42L).build());
+    }
+
+    @Test
+    void whenCreatedDateTimeDiffers_thenNotEqual() {
+      // Validation
+      assertNotEquals(
+          quizToken, quizTokenBuilder.createdDateTime(createdDateTime.plusMillis(1)).build());
+    }
+
+    @Test
+    void whenOtherType_thenNotEqual() {
+      // Validation
+      assertNotEquals(quizToken, null);
+      assertNotEquals(quizToken, "QuizToken");
+    }
+  }
+
+  @Test
+  void toString_whenInvoked_thenReturnsExpectedValue() {
+    // Execution
+    String result = quizToken.toString();
+
+    // Validation
+    assertEquals(
+        "QuizToken(deckId=3, catalogVersion=81985529216486895, seed=-42,"
+            + " createdDateTime=2024-03-01T12:34:56.789Z)",
+        result);
+  }
+}
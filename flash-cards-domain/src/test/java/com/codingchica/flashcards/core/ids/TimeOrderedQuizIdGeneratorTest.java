@@ -0,0 +1,338 @@
+package com.codingchica.flashcards.core.ids;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/** Unit tests for the TimeOrderedQuizIdGenerator class. */
+class TimeOrderedQuizIdGeneratorTest {
+  private final Instant instant = Instant.parse("2024-03-01T12:34:56.789123456Z");
+  private final TimeOrderedQuizIdGenerator quizIdGenerator =
+      TimeOrderedQuizIdGenerator.builder().clock(Clock.fixed(instant, ZoneOffset.UTC)).build();
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void build_whenClockNotInvoked_thenSystemClockUsed() {
+      // Execution
+      TimeOrderedQuizIdGenerator result = TimeOrderedQuizIdGenerator.builder().build();
+
+      // Validation
+      assertEquals(Clock.systemUTC(), result.getClock());
+    }
+
+    @Test
+    void builderSetter_whenClockNull_thenExceptionThrown() {
+      // Setup
+      TimeOrderedQuizIdGenerator.Builder builder = TimeOrderedQuizIdGenerator.builder();
+
+      // Execution
+      Executable executable = () -> builder.clock(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("clock is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void constructor_whenClockNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new TimeOrderedQuizIdGenerator(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("clock is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class NextIdTest {
+    @Test
+    void nextId_whenInvoked_thenVersion7WithRfcVariant() {
+      // Execution
+      UUID result = quizIdGenerator.nextId();
+
+      // Validation
+      assertEquals(7, result.version());
+      assertEquals(2, result.variant());
+    }
+
+    @Test
+    void nextId_whenInvoked_thenTimestampEncoded() {
+      // Execution
+      UUID result = quizIdGenerator.nextId();
+
+      // Validation
+      assertEquals(instant.toEpochMilli(), result.getMostSignificantBits() >>> 16);
+      // 0.123456 ms into the millisecond, in 1/4096ths.
+      assertEquals(505, result.getMostSignificantBits() & 0xfff);
+      assertEquals(
+          Instant.ofEpochMilli(instant.toEpochMilli()),
+          TimeOrderedQuizIdGenerator.getTimestamp(result));
+    }
+
+    @Test
+    void nextId_whenSameInstant_thenStillUnique() {
+      // Setup
+      Set<UUID> ids = new HashSet<>();
+
+      // Execution
+      for (int i = 0; i < 10_000; i++) {
+        ids.add(quizIdGenerator.nextId());
+      }
+
+      // Validation
+      assertEquals(10_000, ids.size());
+    }
+
+    @Test
+    void nextId_whenGeneratedOnSeveralThreads_thenStillUnique() throws InterruptedException {
+      // Setup
+      Set<UUID> ids = ConcurrentHashMap.newKeySet();
+      List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        threads.add(
+            new Thread(
+                () -> {
+                  for (int j = 0; j < 1_000; j++) {
+                    ids.add(quizIdGenerator.nextId());
+                  }
+                }));
+      }
+
+      // Execution
+      for (Thread thread : threads) {
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      // Validation
+      assertEquals(4_000, ids.size());
+    }
+
+    @Test
+    void nextId_whenGeneratedOnSeveralThreads_thenNoSlowerThanOneThread()
+        throws InterruptedException {
+      // Setup
+      int threadCount = 4;
+      int idsPerThread = 100_000;
+      // Warm up the JIT and the generators of the threads.
+      generateAcrossThreads(threadCount, idsPerThread);
+      long oneThreadNanos = Long.MAX_VALUE;
+      long severalThreadsNanos = Long.MAX_VALUE;
+
+      // Execution
+      for (int i = 0; i < 3; i++) {
+        oneThreadNanos =
+            Math.min(oneThreadNanos, generateAcrossThreads(1, threadCount * idsPerThread));
+        severalThreadsNanos =
+            Math.min(severalThreadsNanos, generateAcrossThreads(threadCount, idsPerThread));
+      }
+
+      // Validation
+      // Threads contending on one lock take far longer than doing the same work on one thread.
+      assertTrue(
+          severalThreadsNanos < 2 * oneThreadNanos,
+          String.format(
+              "%d threads took %d ns, one thread took %d ns",
+              threadCount, severalThreadsNanos, oneThreadNanos));
+    }
+
+    @Test
+    void nextId_whenClockAdvances_thenIdsSortByCreationTime() {
+      // Setup
+      List<UUID> ids = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        Instant later = instant.plusNanos(250L * i).plusMillis(i);
+        ids.add(
+            TimeOrderedQuizIdGenerator.builder()
+                .clock(Clock.fixed(later, ZoneOffset.UTC))
+                .build()
+                .nextId());
+      }
+
+      // Execution
+      List<UUID> sorted = new ArrayList<>(ids);
+      sorted.sort(TimeOrderedQuizIdGeneratorTest::compareUnsigned);
+
+      // Validation
+      assertEquals(ids, sorted);
+    }
+  }
+
+  @Nested
+  class RandomBitsTest {
+    @Test
+    void randomBits_whenSameThread_thenSameInstance() {
+      // Execution
+      TimeOrderedQuizIdGenerator.RandomBits result = TimeOrderedQuizIdGenerator.randomBits();
+
+      // Validation
+      assertSame(TimeOrderedQuizIdGenerator.randomBits(), result);
+    }
+
+    @Test
+    void randomBits_whenSeveralThreads_thenOwnGeneratorWithoutSharedState()
+        throws InterruptedException {
+      // Setup
+      Set<SecureRandom> secureRandoms = ConcurrentHashMap.newKeySet();
+      List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        threads.add(
+            new Thread(
+                () ->
+                    secureRandoms.add(TimeOrderedQuizIdGenerator.randomBits().getSecureRandom())));
+      }
+
+      // Execution
+      for (Thread thread : threads) {
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      // Validation
+      assertEquals(4, secureRandoms.size());
+      // NativePRNG instances all read through one synchronized source, DRBG instances do not.
+      secureRandoms.forEach(
+          secureRandom ->
+              assertEquals(
+                  TimeOrderedQuizIdGenerator.RANDOM_ALGORITHM, secureRandom.getAlgorithm()));
+    }
+
+    @Test
+    void nextLong_whenBufferUsedUp_thenRefilledInBulk() {
+      // Setup
+      int[] refills = {0};
+      SecureRandom secureRandom =
+          new SecureRandom() {
+            @Override
+            public void nextBytes(byte[] bytes) {
+              refills[0]++;
+              Arrays.fill(bytes, (byte) refills[0]);
+            }
+          };
+      TimeOrderedQuizIdGenerator.RandomBits randomBits =
+          new TimeOrderedQuizIdGenerator.RandomBits(secureRandom);
+      int longsPerBuffer = TimeOrderedQuizIdGenerator.RANDOM_BUFFER_BYTES / Long.BYTES;
+
+      // Execution
+      List<Long> results = new ArrayList<>();
+      for (int i = 0; i <= longsPerBuffer; i++) {
+        results.add(randomBits.nextLong());
+      }
+
+      // Validation
+      assertEquals(2, refills[0]);
+      assertEquals(0x0101010101010101L, results.get(0));
+      assertEquals(0x0101010101010101L, results.get(longsPerBuffer - 1));
+      assertEquals(0x0202020202020202L, results.get(longsPerBuffer));
+    }
+
+    @Test
+    void constructor_whenSecureRandomNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> new TimeOrderedQuizIdGenerator.RandomBits(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("secureRandom is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void newSecureRandom_whenAlgorithmUnknown_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> TimeOrderedQuizIdGenerator.newSecureRandom("NoSuchRandom");
+
+      // Validation
+      IllegalStateException exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("Unable to initialize NoSuchRandom", exception.getMessage());
+      assertInstanceOf(NoSuchAlgorithmException.class, exception.getCause());
+    }
+  }
+
+  @Nested
+  class GetTimestampTest {
+    @Test
+    void getTimestamp_whenQuizIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> TimeOrderedQuizIdGenerator.getTimestamp(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizId is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void getTimestamp_whenRandomUuid_thenExceptionThrown() {
+      // Setup
+      UUID randomUuid = UUID.randomUUID();
+
+      // Execution
+      Executable executable = () -> TimeOrderedQuizIdGenerator.getTimestamp(randomUuid);
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("quizId must be a version 7 UUID", exception.getMessage());
+    }
+  }
+
+  /**
+   * Generate IDs on several threads at once.
+   *
+   * @return How long it took for every thread to finish, in nanoseconds.
+   */
+  private long generateAcrossThreads(int threadCount, int idsPerThread)
+      throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(
+          new Thread(
+              () -> {
+                for (int j = 0; j < idsPerThread; j++) {
+                  quizIdGenerator.nextId();
+                }
+              }));
+    }
+    long start = System.nanoTime();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Compare UUIDs by their unsigned bytes, the order they sort in as strings or in a database.
+   * UUID.compareTo compares signed longs, which only agrees until the top bit of the timestamp is
+   * set.
+   */
+  private static int compareUnsigned(UUID first, UUID second) {
+    int result =
+        Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+    if (result == 0) {
+      result =
+          Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+    return result;
+  }
+}
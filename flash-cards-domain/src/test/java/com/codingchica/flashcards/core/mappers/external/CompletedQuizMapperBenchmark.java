@@ -0,0 +1,179 @@
+package com.codingchica.flashcards.core.mappers.external;
+
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.model.external.CompletedQuiz;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.codingchica.flashcards.core.model.internal.CompletedPrompt;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of grading a completed quiz, comparing the single-pass grading engine with the
+ * multi-pass grading it replaced, which is kept here as the baseline. Not part of the regular
+ * build, as the results depend on the machine; run it explicitly with:
+ *
+ * <pre>mvn test -pl flash-cards-domain -Dtest=CompletedQuizMapperBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompletedQuizMapperBenchmark {
+  /** The number of prompts in the quiz graded. */
+  @Param({"20", "100"})
+  public int promptCount;
+
+  private final CompletedQuizMapperImpl completedQuizMapper = new CompletedQuizMapperImpl();
+  private Quiz quiz;
+  private CompletedQuiz completedQuiz;
+
+  /** Generate a quiz from a compiled deck, and answer half of its prompts correctly. */
+  @Setup
+  public void setUp() {
+    Map<String, String> prompts = new TreeMap<>();
+    for (int i = 0; i < 169; i++) {
+      prompts.put(i / 13 + "x" + i % 13, String.valueOf((i / 13) * (i % 13)));
+    }
+    DeckCatalog catalog =
+        DeckCatalog.compile(
+            Map.of(
+                "Multiplication",
+                List.of(
+                    FlashCardGroup.builder()
+                        .name("Times Tables")
+                        .prompts(prompts)
+                        .minimumPrompts(promptCount)
+                        .maximumPrompts(promptCount)
+                        .build())));
+    quiz = QuizMapperImpl.builder().build().deckToExternalQuizMapping(catalog.getDeck(0));
+    List<String> answers = new ArrayList<>(promptCount);
+    for (int i = 0; i < promptCount; i++) {
+      answers.add(i % 2 == 0 ? quiz.getPrompts().get(i).getValue() : "wrong");
+    }
+    completedQuiz = CompletedQuiz.builder().answers(answers).build();
+  }
+
+  /** Grade with the engine, for the external result. */
+  @Benchmark
+  public Object externalResult() {
+    return completedQuizMapper.mapCompletedQuizToExternalResults(quiz, completedQuiz);
+  }
+
+  /** Grade with the engine, for the internal result with per-prompt detail. */
+  @Benchmark
+  public Object internalResult() {
+    return completedQuizMapper.mapCompletedQuizToInternalResults(quiz, completedQuiz);
+  }
+
+  /**
+   * Grade as before, for the external result: counting the prompts, then the correct answers.
+   *
+   * @param blackhole Consumes the results.
+   */
+  @Benchmark
+  public void externalResultBaseline(Blackhole blackhole) {
+    blackhole.consume(quiz.getPrompts().stream().filter(Objects::nonNull).count());
+    blackhole.consume(baselineCorrectAnswerCount());
+  }
+
+  /**
+   * Grade as before, for the internal result: counting the prompts, then the correct answers, then
+   * recording the per-prompt detail.
+   *
+   * @param blackhole Consumes the results.
+   */
+  @Benchmark
+  public void internalResultBaseline(Blackhole blackhole) {
+    blackhole.consume(quiz.getPrompts().stream().filter(Objects::nonNull).count());
+    blackhole.consume(baselineCorrectAnswerCount());
+    blackhole.consume(baselineCompletedPrompts());
+  }
+
+  private int baselineCorrectAnswerCount() {
+    List<Map.Entry<String, String>> prompts = quiz.getPrompts();
+    List<String> answers = completedQuiz.getAnswers();
+    Preconditions.checkArgument(
+        prompts.size() == answers.size(),
+        String.format(
+            "prompts (%s) and answers (%s) size must be equivalent",
+            prompts.size(), answers.size()));
+    int correctCount = 0;
+    for (int i = 0; i < prompts.size(); i++) {
+      String expectedResult;
+      if (prompts instanceof DeckPromptList deckPrompts) {
+        expectedResult = deckPrompts.getAnswer(i);
+      } else {
+        Map.Entry<String, String> prompt = prompts.get(i);
+        if (prompt == null) {
+          continue;
+        }
+        expectedResult = prompt.getValue();
+      }
+      if (StringUtils.equals(expectedResult, answers.get(i))) {
+        correctCount++;
+      }
+    }
+    return correctCount;
+  }
+
+  private List<CompletedPrompt> baselineCompletedPrompts() {
+    List<Map.Entry<String, String>> prompts = quiz.getPrompts();
+    List<String> answers = completedQuiz.getAnswers();
+    Preconditions.checkArgument(
+        prompts.size() == answers.size(),
+        String.format(
+            "prompts (%s) and answers (%s) size must be equivalent",
+            prompts.size(), answers.size()));
+    List<CompletedPrompt> completedPrompts = new ArrayList<>();
+    for (int i = 0; i < prompts.size(); i++) {
+      Map.Entry<String, String> prompt = prompts.get(i);
+      if (prompt == null) {
+        continue;
+      }
+      completedPrompts.add(
+          CompletedPrompt.builder()
+              .prompt(prompt.getKey())
+              .expectedAnswer(prompt.getValue())
+              .answerProvided(answers.get(i))
+              .correctAnswer(StringUtils.equalsIgnoreCase(answers.get(i), prompt.getValue()))
+              .build());
+    }
+    return completedPrompts;
+  }
+
+  @Test
+  void benchmark() throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(CompletedQuizMapperBenchmark.class.getName())
+                .shouldFailOnError(true)
+                .build())
+        .run();
+  }
+}
@@ -4,6 +4,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.grading.QuizGrade;
+import com.codingchica.flashcards.core.grading.QuizGrader;
 import com.codingchica.flashcards.core.model.external.CompletedQuiz;
 import com.codingchica.flashcards.core.model.external.Quiz;
 import com.codingchica.flashcards.core.model.external.QuizResult;
@@ -12,6 +17,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Nested;
@@ -22,7 +28,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 class CompletedQuizMapperImplTest {
-  private UUID uuid = UUID.randomUUID();
+  private String uuid = UUID.randomUUID().toString();
   private String name = "Quiz Name";
   private List<Map.Entry<String, String>> prompts = new ArrayList<>();
   private List<String> answers = new ArrayList<>();
@@ -34,6 +40,48 @@ class CompletedQuizMapperImplTest {
       Quiz.builder().name(name).prompts(prompts).createdDateTime(createdDateTime).id(uuid);
   private Quiz quiz = spy(quizBuilder.build());
 
+  @Nested
+  class MapGradeToExternalResultsTest {
+    private final QuizGrade grade =
+        new QuizGrader()
+            .grade(List.of(Map.entry("1+1", "2"), Map.entry("2+2", "4")), List.of("2", "5"), false);
+
+    @Test
+    void whenQuizNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> completedQuizMapper.mapGradeToExternalResults(null, grade);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenGradeNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> completedQuizMapper.mapGradeToExternalResults(quiz, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("grade is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenGraded_thenGradeAndDurationMapped() {
+      // Execution
+      QuizResult result = completedQuizMapper.mapGradeToExternalResults(quiz, grade);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(name, result.getName(), "name"),
+          () -> assertEquals(50, result.getPercentage(), "percentage"),
+          () -> assertEquals(1, result.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(2, result.getPromptCount(), "promptCount"),
+          () -> assertEquals(1, result.getTimeMinutes(), "timeMinutes"),
+          () -> assertEquals(0, result.getTimeSeconds(), "timeSeconds"));
+    }
+  }
+
   @Nested
   class MapCompletedQuizToExternalResultsTest {
     @Test
@@ -209,6 +257,43 @@ class CompletedQuizMapperImplTest {
           () -> assertEquals(promptCount, result.getPromptCount(), "promptCount"));
     }
 
+    @Test
+    void whenPromptsFromCompiledDeck_thenGradedAgainstDeckAnswers() {
+      // Setup
+      Map<String, String> deckPrompts = new TreeMap<>();
+      deckPrompts.put("1+1", "2");
+      deckPrompts.put("2+2", "4");
+      Deck deck =
+          Deck.compile(
+              0, "category", FlashCardGroup.builder().name(name).prompts(deckPrompts).build());
+      quiz.setPrompts(new DeckPromptList(deck, 42L, new int[] {1, 0, 1}));
+      answers.addAll(List.of("4", "2", "5"));
+
+      // Execution
+      QuizResult result =
+          completedQuizMapper.mapCompletedQuizToExternalResults(quiz, completedQuiz);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(3, result.getPromptCount(), "promptCount"),
+          () -> assertEquals(2, result.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(66, result.getPercentage(), "percentage"));
+    }
+
+    @Test
+    void whenAnswerDiffersOnlyInCase_thenCorrect() {
+      // Setup
+      prompts.add(Map.entry("Capital of France", "Paris"));
+      answers.add("PARIS");
+
+      // Execution
+      QuizResult result =
+          completedQuizMapper.mapCompletedQuizToExternalResults(quiz, completedQuiz);
+
+      // Validation
+      assertEquals(1, result.getCorrectAnswers(), "correctAnswers");
+    }
+
     @Test
     void whenQuizGetPromptsAndAnswersSizeDiffers_thenProcessedSuccessfully() {
       // Setup
@@ -415,5 +500,51 @@ class CompletedQuizMapperImplTest {
           () -> assertEquals(correctPromptCount, result.getCorrectAnswers(), "correctAnswers"),
           () -> assertEquals(promptCount, result.getPromptCount(), "promptCount"));
     }
+
+    @Test
+    void whenAnswerDiffersOnlyInCase_thenCorrect() {
+      // Setup
+      prompts.add(Map.entry("Capital of France", "Paris"));
+      answers.add("PARIS");
+
+      // Execution
+      com.codingchica.flashcards.core.model.internal.QuizResult result =
+          completedQuizMapper.mapCompletedQuizToInternalResults(quiz, completedQuiz);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(1, result.getCorrectAnswers(), "correctAnswers"),
+          () ->
+              assertTrue(
+                  result.getCompletedPrompts().get(0).isCorrectAnswer(), "completedPrompts"));
+    }
+
+    @Test
+    void whenPromptsFromCompiledDeck_thenCompletedPromptsReadFromDeck() {
+      // Setup
+      Map<String, String> deckPrompts = new TreeMap<>();
+      deckPrompts.put("1+1", "2");
+      deckPrompts.put("2+2", "4");
+      Deck deck =
+          Deck.compile(
+              0, "category", FlashCardGroup.builder().name(name).prompts(deckPrompts).build());
+      quiz.setPrompts(new DeckPromptList(deck, 42L, new int[] {1, 0}));
+      answers.addAll(List.of("4", "3"));
+
+      // Execution
+      com.codingchica.flashcards.core.model.internal.QuizResult result =
+          completedQuizMapper.mapCompletedQuizToInternalResults(quiz, completedQuiz);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(2, result.getPromptCount(), "promptCount"),
+          () -> assertEquals(1, result.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals("2+2", result.getCompletedPrompts().get(0).getPrompt(), "prompt"),
+          () ->
+              assertEquals(
+                  "2", result.getCompletedPrompts().get(1).getExpectedAnswer(), "expectedAnswer"),
+          () ->
+              assertFalse(result.getCompletedPrompts().get(1).isCorrectAnswer(), "correctAnswer"));
+    }
   }
 }
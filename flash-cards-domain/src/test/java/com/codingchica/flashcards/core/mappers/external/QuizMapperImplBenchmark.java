@@ -0,0 +1,94 @@
+package com.codingchica.flashcards.core.mappers.external;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Throughput of quiz generation as threads are added. Not part of the regular build, as the results
+ * depend on the machine; run it explicitly with:
+ *
+ * <pre>mvn test -pl flash-cards-domain -Dtest=QuizMapperImplBenchmark</pre>
+ */
+class QuizMapperImplBenchmark {
+  private static final long WARMUP_MILLIS = 2_000;
+  private static final long MEASUREMENT_MILLIS = 3_000;
+
+  private final QuizMapperImpl quizMapper = QuizMapperImpl.builder().build();
+  private final Deck deck;
+
+  QuizMapperImplBenchmark() {
+    Map<String, String> prompts = new TreeMap<>();
+    for (int i = 0; i < 169; i++) {
+      prompts.put(i / 13 + "x" + i % 13, String.valueOf((i / 13) * (i % 13)));
+    }
+    deck =
+        Deck.compile(
+            0,
+            "Multiplication",
+            FlashCardGroup.builder()
+                .name("Times Tables")
+                .prompts(prompts)
+                .minimumPrompts(20)
+                .maximumPrompts(20)
+                .build());
+  }
+
+  @Test
+  void quizGenerationThroughput() throws InterruptedException {
+    int processors = Runtime.getRuntime().availableProcessors();
+    run(processors, WARMUP_MILLIS);
+    System.out.printf("%-8s %16s %16s%n", "threads", "quizzes/s", "per thread/s");
+    for (int threads = 1; threads <= processors; threads *= 2) {
+      double throughput = run(threads, MEASUREMENT_MILLIS);
+      System.out.printf("%-8d %,16.0f %,16.0f%n", threads, throughput, throughput / threads);
+      assertTrue(throughput > 0);
+    }
+  }
+
+  /**
+   * Generate quizzes from several threads for a fixed time.
+   *
+   * @param threads How many threads to generate quizzes from.
+   * @param millis How long to generate quizzes for.
+   * @return The quizzes generated per second, across all threads.
+   */
+  private double run(int threads, long millis) throws InterruptedException {
+    LongAdder generated = new LongAdder();
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(threads);
+    long[] deadline = new long[1];
+    for (int i = 0; i < threads; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                  long count = 0;
+                  while (System.nanoTime() < deadline[0]) {
+                    if (quizMapper.deckToExternalQuizMapping(deck).getPrompts().size() > 0) {
+                      count++;
+                    }
+                  }
+                  generated.add(count);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                } finally {
+                  done.countDown();
+                }
+              });
+      thread.start();
+    }
+    deadline[0] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    start.countDown();
+    done.await();
+    return generated.sum() * 1000.0 / millis;
+  }
+}
@@ -2,13 +2,21 @@ package com.codingchica.flashcards.core.mappers.external;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
 import com.codingchica.flashcards.core.config.ConfigFactory;
 import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.ids.QuizIdGenerator;
+import com.codingchica.flashcards.core.ids.TimeOrderedQuizIdGenerator;
 import com.codingchica.flashcards.core.model.external.Quiz;
-import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.codingchica.flashcards.core.random.RandomnessStrategy;
+import com.codingchica.flashcards.core.random.SeededRandomnessStrategy;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Random;
 import java.util.TreeMap;
+import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -20,11 +28,15 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 class QuizMapperImplTest {
   private Random random = new Random(123l);
+  private RandomnessStrategy randomnessStrategy = new SeededRandomnessStrategy(123L);
 
-  private ObjectIdGenerators.UUIDGenerator uuidGenerator = new ObjectIdGenerators.UUIDGenerator();
+  private QuizIdGenerator quizIdGenerator = TimeOrderedQuizIdGenerator.builder().build();
   private QuizMapperImpl.Builder quizMapperBuilder = QuizMapperImpl.builder();
   private QuizMapperImpl quizMapper =
-      quizMapperBuilder.random(random).uuidGenerator(uuidGenerator).build();
+      quizMapperBuilder
+          .randomnessStrategy(randomnessStrategy)
+          .quizIdGenerator(quizIdGenerator)
+          .build();
   private FlashCardGroup.Builder flashCardGroupBuilder = ConfigFactory.flashCardGroupBuilder();
   private Map<String, String> originalPrompts = new TreeMap<>();
   private FlashCardGroup flashCardGroup = flashCardGroupBuilder.prompts(originalPrompts).build();
@@ -75,9 +87,113 @@ class QuizMapperImplTest {
     }
   }
 
+  @Nested
+  class SamplePromptIdsTest {
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 7})
+    void whenSampleSizeOutOfRange_thenExceptionThrown(int sampleSize) {
+      // Execution
+      Executable executable = () -> QuizMapperImpl.samplePromptIds(sampleSize, 3, 2, random);
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("sampleSize must be between 0 and 6", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"1,1", "3,1", "3,2", "5,4"})
+    void whenWholePoolSampled_thenEachPromptUsedOncePerCopy(int promptCount, int promptCopies) {
+      // Setup
+      int poolSize = promptCount * promptCopies;
+
+      // Execution
+      int[] result = QuizMapperImpl.samplePromptIds(poolSize, promptCount, promptCopies, random);
+
+      // Validation
+      int[] usage = new int[promptCount];
+      for (int promptId : result) {
+        usage[promptId]++;
+      }
+      for (int promptId = 0; promptId < promptCount; promptId++) {
+        assertEquals(promptCopies, usage[promptId], "usage[" + promptId + "]");
+      }
+    }
+
+    @Test
+    void whenPoolFarLargerThanSample_thenSampleDrawnWithoutBuildingPool() {
+      // Setup
+      int promptCount = 100_000;
+      int promptCopies = 10_000;
+      int sampleSize = 1_000;
+
+      // Execution
+      int[] result = QuizMapperImpl.samplePromptIds(sampleSize, promptCount, promptCopies, random);
+
+      // Validation
+      assertEquals(sampleSize, result.length);
+      for (int promptId : result) {
+        assertTrue(promptId >= 0 && promptId < promptCount, "promptId " + promptId);
+      }
+    }
+
+    @Test
+    void whenSingleCopySampled_thenNoPromptRepeated() {
+      // Setup
+      int promptCount = 1_000_000;
+      int sampleSize = 5_000;
+
+      // Execution
+      int[] result = QuizMapperImpl.samplePromptIds(sampleSize, promptCount, 1, random);
+
+      // Validation
+      assertEquals(sampleSize, Arrays.stream(result).distinct().count());
+    }
+
+    @Test
+    void whenPartiallySampled_thenEveryPositionUniform() {
+      // Setup
+      int promptCount = 4;
+      int promptCopies = 2;
+      int sampleSize = 3;
+      int trials = 40_000;
+      int[][] usage = new int[sampleSize][promptCount];
+
+      // Execution
+      for (int trial = 0; trial < trials; trial++) {
+        int[] result =
+            QuizMapperImpl.samplePromptIds(sampleSize, promptCount, promptCopies, random);
+        for (int position = 0; position < sampleSize; position++) {
+          usage[position][result[position]]++;
+        }
+      }
+
+      // Validation
+      double expected = (double) trials / promptCount;
+      for (int position = 0; position < sampleSize; position++) {
+        for (int promptId = 0; promptId < promptCount; promptId++) {
+          assertEquals(
+              expected,
+              usage[position][promptId],
+              expected * 0.05,
+              String.format("usage[%s][%s]", position, promptId));
+        }
+      }
+    }
+  }
+
   @Nested
   class InternalToExternalQuizMappingTest {
 
+    @Test
+    void whenDeckNull_thenExceptionReturned() {
+      // Execution
+      Executable executable = () -> quizMapper.deckToExternalQuizMapping(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("deck is marked non-null but is null", exception.getMessage());
+    }
+
     @Test
     void whenFlashCardGroupNull_thenExceptionReturned() {
       // Setup
@@ -103,13 +219,14 @@ class QuizMapperImplTest {
         // Validation
         assertNotNull(quiz);
         assertNotNull(quiz.getId());
+        assertEquals(7, UUID.fromString(quiz.getId()).version());
       }
     }
 
     @Nested
     class PromptsTest {
       @Test
-      void whenPromptsNull_thenTODO() {
+      void whenPromptsNull_thenExceptionThrown() {
         // Setup
         flashCardGroup = flashCardGroupBuilder.prompts(null).build();
         assertNull(flashCardGroup.getPrompts());
@@ -118,8 +235,64 @@ class QuizMapperImplTest {
         Executable executable = () -> quizMapper.internalToExternalQuizMapping(flashCardGroup);
 
         // Validation
-        Exception exception = assertThrows(NullPointerException.class, executable);
-        assertEquals("promptsMap is marked non-null but is null", exception.getMessage());
+        Exception exception = assertThrows(IllegalArgumentException.class, executable);
+        assertEquals("promptsMapSize must be greater than 0", exception.getMessage());
+      }
+
+      @Test
+      void whenInvoked_thenPromptsReadFromCompiledDeck() {
+        // Setup
+        Deck deck = Deck.compile(7, "category", flashCardGroup);
+
+        // Execution
+        Quiz quiz = quizMapper.deckToExternalQuizMapping(deck);
+
+        // Validation
+        assertEquals(flashCardGroup.getName(), quiz.getName());
+        DeckPromptList prompts = assertInstanceOf(DeckPromptList.class, quiz.getPrompts());
+        assertSame(deck, prompts.getDeck());
+        assertEquals(originalPrompts.size(), prompts.size());
+        for (Map.Entry<String, String> prompt : prompts) {
+          assertEquals(originalPrompts.get(prompt.getKey()), prompt.getValue());
+        }
+      }
+
+      @Test
+      void whenSameDeckAndSeed_thenSamePromptsRegenerated() {
+        // Setup
+        originalPrompts.clear();
+        for (int i = 0; i < 30; i++) {
+          originalPrompts.put("Key" + i, "Value" + i);
+        }
+        Deck deck = Deck.compile(0, "category", flashCardGroupBuilder.minimumPrompts(45).build());
+        Quiz original = quizMapper.deckToExternalQuizMapping(deck);
+        long seed = ((DeckPromptList) original.getPrompts()).getSeed();
+        QuizMapperImpl otherQuizMapper = QuizMapperImpl.builder().build();
+
+        // Execution
+        Quiz regenerated = otherQuizMapper.deckToExternalQuizMapping(deck, seed);
+
+        // Validation
+        assertEquals(45, regenerated.getPrompts().size());
+        assertEquals(original.getPrompts(), regenerated.getPrompts());
+      }
+
+      @Test
+      void whenSeededStrategy_thenSameSequenceOfQuizzes() {
+        // Setup
+        Deck deck = Deck.compile(0, "category", flashCardGroup);
+        QuizMapperImpl otherQuizMapper =
+            QuizMapperImpl.builder().randomnessStrategy(new SeededRandomnessStrategy(123L)).build();
+
+        // Execution
+        Quiz first = quizMapper.deckToExternalQuizMapping(deck);
+        Quiz second = quizMapper.deckToExternalQuizMapping(deck);
+        Quiz otherFirst = otherQuizMapper.deckToExternalQuizMapping(deck);
+        Quiz otherSecond = otherQuizMapper.deckToExternalQuizMapping(deck);
+
+        // Validation
+        assertEquals(first.getPrompts(), otherFirst.getPrompts());
+        assertEquals(second.getPrompts(), otherSecond.getPrompts());
       }
 
       @ParameterizedTest
@@ -183,23 +356,81 @@ class QuizMapperImplTest {
     }
   }
 
+  @Nested
+  class DrawPromptsTest {
+    @Test
+    void whenDeckNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizMapper.drawPrompts(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("deck is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenInvoked_thenSamePromptsAsQuizDrawnWithSeed() {
+      // Setup
+      Deck deck = Deck.compile(0, "category", flashCardGroup);
+
+      // Execution
+      DeckPromptList result = quizMapper.drawPrompts(deck);
+
+      // Validation
+      assertSame(deck, result.getDeck());
+      assertEquals(
+          result, quizMapper.deckToExternalQuizMapping(deck, result.getSeed()).getPrompts());
+    }
+  }
+
+  @Nested
+  class PromptsToExternalQuizMappingTest {
+    @Test
+    void whenPromptsNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizMapper.promptsToExternalQuizMapping(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("prompts is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenInvoked_thenQuizBuiltAroundPromptsWithNewId() {
+      // Setup
+      Deck deck = Deck.compile(0, "category", flashCardGroup);
+      DeckPromptList prompts = quizMapper.drawPrompts(deck);
+      Instant before = Instant.now();
+
+      // Execution
+      Quiz first = quizMapper.promptsToExternalQuizMapping(prompts);
+      Quiz second = quizMapper.promptsToExternalQuizMapping(prompts);
+
+      // Validation
+      assertSame(prompts, first.getPrompts());
+      assertEquals(flashCardGroup.getName(), first.getName());
+      assertFalse(first.getCreatedDateTime().isBefore(before), "createdDateTime");
+      assertNotEquals(first.getId(), second.getId());
+    }
+  }
+
   @Nested
   class BuilderTest {
 
     @Nested
-    class UuidGeneratorTest {
+    class QuizIdGeneratorTest {
 
       @Test
       void whenSetInBuilder_thenReturnedInGetter() {
         // Setup
-        quizMapperBuilder = quizMapperBuilder.uuidGenerator(uuidGenerator);
+        quizMapperBuilder = quizMapperBuilder.quizIdGenerator(quizIdGenerator);
 
         // Execution
         quizMapper = quizMapperBuilder.build();
 
         // Validation
         assertNotNull(quizMapper);
-        assertSame(uuidGenerator, quizMapper.getUuidGenerator());
+        assertSame(quizIdGenerator, quizMapper.getQuizIdGenerator());
       }
 
       @Test
@@ -207,7 +438,7 @@ class QuizMapperImplTest {
         // Setup
 
         // Execution
-        QuizMapperImpl.Builder result = quizMapperBuilder.uuidGenerator(null);
+        QuizMapperImpl.Builder result = quizMapperBuilder.quizIdGenerator(null);
 
         // Validation
         assertNotNull(result);
@@ -223,24 +454,24 @@ class QuizMapperImplTest {
 
         // Validation
         assertNotNull(quizMapper);
-        assertNotNull(quizMapper.getUuidGenerator());
+        assertNotNull(quizMapper.getQuizIdGenerator());
       }
     }
 
     @Nested
-    class RandomTest {
+    class RandomnessStrategyTest {
 
       @Test
       void whenSetInBuilder_thenReturnedInGetter() {
         // Setup
-        quizMapperBuilder = quizMapperBuilder.random(random);
+        quizMapperBuilder = quizMapperBuilder.randomnessStrategy(randomnessStrategy);
 
         // Execution
         quizMapper = quizMapperBuilder.build();
 
         // Validation
         assertNotNull(quizMapper);
-        assertSame(random, quizMapper.getRandom());
+        assertSame(randomnessStrategy, quizMapper.getRandomnessStrategy());
       }
 
       @Test
@@ -248,7 +479,7 @@ class QuizMapperImplTest {
         // Setup
 
         // Execution
-        QuizMapperImpl.Builder result = quizMapperBuilder.random(null);
+        QuizMapperImpl.Builder result = quizMapperBuilder.randomnessStrategy(null);
 
         // Validation
         assertNotNull(result);
@@ -264,7 +495,7 @@ class QuizMapperImplTest {
 
         // Validation
         assertNotNull(quizMapper);
-        assertNotNull(quizMapper.getRandom());
+        assertNotNull(quizMapper.getRandomnessStrategy());
       }
     }
 
@@ -274,7 +505,9 @@ class QuizMapperImplTest {
       String result = QuizMapperImpl.builder().toString();
 
       // Validation
-      assertEquals("QuizMapperImpl.Builder(uuidGenerator$value=null, random$value=null)", result);
+      assertEquals(
+          "QuizMapperImpl.Builder(quizIdGenerator$value=null, randomnessStrategy$value=null)",
+          result);
     }
   }
 }
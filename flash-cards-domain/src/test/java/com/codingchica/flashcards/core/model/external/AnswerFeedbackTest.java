@@ -0,0 +1,84 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class AnswerFeedbackTest {
+  private AnswerFeedback.Builder answerFeedbackBuilder =
+      AnswerFeedback.builder()
+          .position(1)
+          .correctAnswer(true)
+          .credit(1)
+          .expectedAnswer("4")
+          .promptCount(10)
+          .correctAnswers(2)
+          .timeMinutes(1)
+          .timeSeconds(5);
+
+  @Nested
+  class POJOTests {
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = answerFeedbackBuilder.build().toString();
+
+      // Validation
+      assertEquals(
+          "AnswerFeedback(position=1, correctAnswer=true, credit=1.0, expectedAnswer=4,"
+              + " promptCount=10, correctAnswers=2, timeMinutes=1, timeSeconds=5)",
+          result);
+    }
+
+    @Test
+    void testGettersViaBuilder() {
+      // Execution
+      AnswerFeedback result = answerFeedbackBuilder.build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(1, result.getPosition(), "position"),
+          () -> assertTrue(result.isCorrectAnswer(), "correctAnswer"),
+          () -> assertEquals(1, result.getCredit(), "credit"),
+          () -> assertEquals("4", result.getExpectedAnswer(), "expectedAnswer"),
+          () -> assertEquals(10, result.getPromptCount(), "promptCount"),
+          () -> assertEquals(2, result.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(1, result.getTimeMinutes(), "timeMinutes"),
+          () -> assertEquals(5, result.getTimeSeconds(), "timeSeconds"));
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    /** Generic happy-path scenario */
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<AnswerFeedback>> violations =
+          validator.validate(answerFeedbackBuilder.build());
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenCreditAboveOne_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<AnswerFeedback>> violations =
+          validator.validate(answerFeedbackBuilder.credit(1.5).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "credit must be less than or equal to 1.0", violations);
+    }
+  }
+}
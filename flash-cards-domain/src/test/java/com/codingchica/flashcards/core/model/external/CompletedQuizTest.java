@@ -252,7 +252,22 @@ class CompletedQuizTest {
             validator.validate(completedQuiz);
 
         // Validation
-        AnnotationValidationUtils.assertOneViolation("answers must not be empty", violations);
+        AnnotationValidationUtils.assertOneViolation(
+            "answersValid answers must not be empty unless graded inline", violations);
+      }
+
+      @ParameterizedTest
+      @NullAndEmptySource
+      void whenListEmptyAndGradedInline_thenValid(List<String> value) {
+        // Setup
+        completedQuiz = completedQuizBuilder.answers(value).inlineGrading(true).build();
+
+        // Execution
+        final Set<ConstraintViolation<CompletedQuiz>> violations =
+            validator.validate(completedQuiz);
+
+        // Validation
+        AnnotationValidationUtils.assertEmpty(violations);
       }
 
       @ParameterizedTest
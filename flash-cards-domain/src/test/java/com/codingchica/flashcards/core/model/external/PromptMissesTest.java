@@ -0,0 +1,77 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PromptMissesTest {
+  private PromptMisses.Builder promptMissesBuilder =
+      PromptMisses.builder().prompt("7 x 8").misses(42);
+
+  @Nested
+  class POJOTests {
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = promptMissesBuilder.build().toString();
+
+      // Validation
+      assertEquals("PromptMisses(prompt=7 x 8, misses=42)", result);
+    }
+
+    @Test
+    void testGettersViaBuilder() {
+      // Execution
+      PromptMisses result = promptMissesBuilder.build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals("7 x 8", result.getPrompt(), "prompt"),
+          () -> assertEquals(42, result.getMisses(), "misses"));
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    /** Generic happy-path scenario */
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<PromptMisses>> violations =
+          validator.validate(promptMissesBuilder.build());
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenPromptNull_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<PromptMisses>> violations =
+          validator.validate(promptMissesBuilder.prompt(null).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("prompt must not be null", violations);
+    }
+
+    @Test
+    void whenMissesNegative_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<PromptMisses>> violations =
+          validator.validate(promptMissesBuilder.misses(-1).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "misses must be greater than or equal to 0", violations);
+    }
+  }
+}
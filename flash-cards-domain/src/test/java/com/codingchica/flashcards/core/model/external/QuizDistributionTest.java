@@ -0,0 +1,147 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class QuizDistributionTest {
+  private final ScoreRange.Builder scoreRangeBuilder =
+      ScoreRange.builder().minimumPercentage(90).maximumPercentage(99).count(3);
+  private final DistributionSnapshot.Builder snapshotBuilder =
+      DistributionSnapshot.builder()
+          .count(3)
+          .p50TimeSeconds(40)
+          .p90TimeSeconds(75)
+          .p99TimeSeconds(75)
+          .maxTimeSeconds(75)
+          .scores(List.of(scoreRangeBuilder.build()));
+  private final QuizDistribution.Builder quizDistributionBuilder =
+      QuizDistribution.builder()
+          .name("Multiplying 7")
+          .intervalSeconds(60)
+          .total(snapshotBuilder.build())
+          .lastInterval(snapshotBuilder.build());
+
+  @Nested
+  class POJOTests {
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = snapshotBuilder.build().toString();
+
+      // Validation
+      assertEquals(
+          "DistributionSnapshot(count=3, p50TimeSeconds=40, p90TimeSeconds=75,"
+              + " p99TimeSeconds=75, maxTimeSeconds=75, scores=[ScoreRange(minimumPercentage=90,"
+              + " maximumPercentage=99, count=3)])",
+          result);
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenDistributionInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizDistributionBuilder.lastInterval(null).build().toString();
+
+      // Validation
+      assertEquals(
+          "QuizDistribution(name=Multiplying 7, intervalSeconds=60,"
+              + " total=DistributionSnapshot(count=3, p50TimeSeconds=40, p90TimeSeconds=75,"
+              + " p99TimeSeconds=75, maxTimeSeconds=75, scores=[ScoreRange(minimumPercentage=90,"
+              + " maximumPercentage=99, count=3)]), lastInterval=null)",
+          result);
+    }
+
+    @Test
+    void testGettersViaBuilder() {
+      // Execution
+      QuizDistribution result = quizDistributionBuilder.build();
+
+      // Validation
+      DistributionSnapshot total = result.getTotal();
+      ScoreRange scoreRange = total.getScores().get(0);
+      assertAll(
+          () -> assertEquals("Multiplying 7", result.getName(), "name"),
+          () -> assertEquals(60, result.getIntervalSeconds(), "intervalSeconds"),
+          () -> assertEquals(3, result.getLastInterval().getCount(), "lastInterval"),
+          () -> assertEquals(3, total.getCount(), "count"),
+          () -> assertEquals(40, total.getP50TimeSeconds(), "p50TimeSeconds"),
+          () -> assertEquals(75, total.getP90TimeSeconds(), "p90TimeSeconds"),
+          () -> assertEquals(75, total.getP99TimeSeconds(), "p99TimeSeconds"),
+          () -> assertEquals(75, total.getMaxTimeSeconds(), "maxTimeSeconds"),
+          () -> assertEquals(90, scoreRange.getMinimumPercentage(), "minimumPercentage"),
+          () -> assertEquals(99, scoreRange.getMaximumPercentage(), "maximumPercentage"),
+          () -> assertEquals(3, scoreRange.getCount(), "score count"));
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    /** Generic happy-path scenario */
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizDistribution>> violations =
+          validator.validate(quizDistributionBuilder.build());
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenLastIntervalNull_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<QuizDistribution>> violations =
+          validator.validate(quizDistributionBuilder.lastInterval(null).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("lastInterval must not be null", violations);
+    }
+
+    @Test
+    void whenNameBlank_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<QuizDistribution>> violations =
+          validator.validate(quizDistributionBuilder.name(" ").build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("name must not be blank", violations);
+    }
+
+    @Test
+    void whenIntervalSecondsZero_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<QuizDistribution>> violations =
+          validator.validate(quizDistributionBuilder.intervalSeconds(0).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "intervalSeconds must be greater than or equal to 1", violations);
+    }
+
+    @Test
+    void whenScoreRangeAboveHundred_thenNotValid() {
+      // Setup
+      DistributionSnapshot snapshot =
+          snapshotBuilder.scores(List.of(scoreRangeBuilder.maximumPercentage(101).build())).build();
+
+      // Execution
+      final Set<ConstraintViolation<QuizDistribution>> violations =
+          validator.validate(quizDistributionBuilder.total(snapshot).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "total.scores[0].maximumPercentage must be less than or equal to 100", violations);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class QuizResultRollupTest {
+  private final ScoreRange scoreRange =
+      ScoreRange.builder().minimumPercentage(90).maximumPercentage(99).count(3).build();
+  private QuizResultRollup.Builder quizResultRollupBuilder =
+      QuizResultRollup.builder()
+          .name("Adding 1")
+          .granularity(QuizResultRollup.Granularity.HOUR)
+          .start(Instant.parse("2024-01-31T10:00:00Z"))
+          .count(3)
+          .promptCount(30)
+          .correctAnswers(28)
+          .averagePercentage(93.5)
+          .averageTimeSeconds(42.25)
+          .scores(List.of(scoreRange));
+
+  @Nested
+  class POJOTests {
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizResultRollupBuilder.build().toString();
+
+      // Validation
+      assertEquals(
+          "QuizResultRollup(name=Adding 1, granularity=HOUR, start=2024-01-31T10:00:00Z,"
+              + " count=3, promptCount=30, correctAnswers=28, averagePercentage=93.5,"
+              + " averageTimeSeconds=42.25, scores=[ScoreRange(minimumPercentage=90,"
+              + " maximumPercentage=99, count=3)])",
+          result);
+    }
+
+    @Test
+    void testGettersViaBuilder() {
+      // Execution
+      QuizResultRollup result = quizResultRollupBuilder.build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals("Adding 1", result.getName(), "name"),
+          () ->
+              assertEquals(
+                  QuizResultRollup.Granularity.HOUR, result.getGranularity(), "granularity"),
+          () -> assertEquals(Instant.parse("2024-01-31T10:00:00Z"), result.getStart(), "start"),
+          () -> assertEquals(3, result.getCount(), "count"),
+          () -> assertEquals(30, result.getPromptCount(), "promptCount"),
+          () -> assertEquals(28, result.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(93.5, result.getAveragePercentage(), "averagePercentage"),
+          () -> assertEquals(42.25, result.getAverageTimeSeconds(), "averageTimeSeconds"),
+          () -> assertEquals(List.of(scoreRange), result.getScores(), "scores"));
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    /** Generic happy-path scenario */
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollup>> violations =
+          validator.validate(quizResultRollupBuilder.build());
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenNameBlank_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollup>> violations =
+          validator.validate(quizResultRollupBuilder.name(" ").build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("name must not be blank", violations);
+    }
+
+    @Test
+    void whenStartNull_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollup>> violations =
+          validator.validate(quizResultRollupBuilder.start(null).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("start must not be null", violations);
+    }
+
+    @Test
+    void whenScoreRangeNotValid_thenNotValid() {
+      // Setup
+      ScoreRange outOfRange =
+          ScoreRange.builder().minimumPercentage(90).maximumPercentage(101).count(3).build();
+
+      // Execution
+      final Set<ConstraintViolation<QuizResultRollup>> violations =
+          validator.validate(quizResultRollupBuilder.scores(List.of(outOfRange)).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "scores[0].maximumPercentage must be less than or equal to 100", violations);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class QuizStatisticsTest {
+  private final PromptStatistics promptStatistics =
+      PromptStatistics.builder().prompt("7 x 8").attempts(12).misses(5).build();
+  private QuizStatistics.Builder quizStatisticsBuilder =
+      QuizStatistics.builder()
+          .name("Multiplying 7")
+          .attempts(12)
+          .averagePercentage(81.5)
+          .averageTimeSeconds(64.25)
+          .mostMissedPrompts(List.of(promptStatistics));
+
+  @Nested
+  class POJOTests {
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = quizStatisticsBuilder.build().toString();
+
+      // Validation
+      assertEquals(
+          "QuizStatistics(name=Multiplying 7, attempts=12, averagePercentage=81.5,"
+              + " averageTimeSeconds=64.25, mostMissedPrompts=[PromptStatistics(prompt=7 x 8,"
+              + " attempts=12, misses=5)])",
+          result);
+    }
+
+    @Test
+    void testGettersViaBuilder() {
+      // Execution
+      QuizStatistics result = quizStatisticsBuilder.build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals("Multiplying 7", result.getName(), "name"),
+          () -> assertEquals(12, result.getAttempts(), "attempts"),
+          () -> assertEquals(81.5, result.getAveragePercentage(), "averagePercentage"),
+          () -> assertEquals(64.25, result.getAverageTimeSeconds(), "averageTimeSeconds"),
+          () ->
+              assertEquals(
+                  List.of(promptStatistics), result.getMostMissedPrompts(), "mostMissedPrompts"),
+          () -> assertEquals("7 x 8", promptStatistics.getPrompt(), "prompt"),
+          () -> assertEquals(12, promptStatistics.getAttempts(), "prompt attempts"),
+          () -> assertEquals(5, promptStatistics.getMisses(), "prompt misses"));
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    /** Generic happy-path scenario */
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizStatistics>> violations =
+          validator.validate(quizStatisticsBuilder.build());
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenNameBlank_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<QuizStatistics>> violations =
+          validator.validate(quizStatisticsBuilder.name(" ").build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("name must not be blank", violations);
+    }
+
+    @Test
+    void whenAveragePercentageAboveHundred_thenNotValid() {
+      // Execution
+      final Set<ConstraintViolation<QuizStatistics>> violations =
+          validator.validate(quizStatisticsBuilder.averagePercentage(100.5).build());
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "averagePercentage must be less than or equal to 100.0", violations);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class QuizSubmissionResultTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Nested
+  class POJOTests {
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Setup
+      QuizSubmissionResult quizSubmissionResult =
+          QuizSubmissionResult.builder().id("id1").code(404).message("Quiz name mismatch").build();
+
+      // Execute
+      String result = quizSubmissionResult.toString();
+
+      // Validation
+      assertEquals(
+          "QuizSubmissionResult(id=id1, code=404, result=null, message=Quiz name mismatch)",
+          result);
+    }
+
+    @Test
+    void testGettersViaBuilder() {
+      // Setup
+      QuizResult quizResult = QuizResult.builder().name("Addition").build();
+
+      // Execution
+      QuizSubmissionResult result =
+          QuizSubmissionResult.builder().id("id2").code(200).result(quizResult).build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals("id2", result.getId(), "id"),
+          () -> assertEquals(200, result.getCode(), "code"),
+          () -> assertSame(quizResult, result.getResult(), "result"),
+          () -> assertNull(result.getMessage(), "message"));
+    }
+  }
+
+  @Nested
+  class SerializationTest {
+    @Test
+    void whenGraded_thenNoMessageWritten() throws JsonProcessingException {
+      // Setup
+      QuizSubmissionResult quizSubmissionResult =
+          QuizSubmissionResult.builder()
+              .id("id1")
+              .code(200)
+              .result(QuizResult.builder().name("Addition").build())
+              .build();
+
+      // Execution
+      String result = objectMapper.writeValueAsString(quizSubmissionResult);
+
+      // Validation
+      assertEquals(
+          "{\"id\":\"id1\",\"code\":200,\"result\":{\"name\":\"Addition\",\"promptCount\":0,"
+              + "\"correctAnswers\":0,\"percentage\":0,\"timeMinutes\":0,\"timeSeconds\":0}}",
+          result);
+    }
+
+    @Test
+    void whenBatchError_thenOnlyCodeAndMessageWritten() throws JsonProcessingException {
+      // Setup
+      QuizSubmissionResult quizSubmissionResult =
+          QuizSubmissionResult.builder().code(500).message("Error").build();
+
+      // Execution
+      String result = objectMapper.writeValueAsString(quizSubmissionResult);
+
+      // Validation
+      assertEquals("{\"code\":500,\"message\":\"Error\"}", result);
+    }
+  }
+}
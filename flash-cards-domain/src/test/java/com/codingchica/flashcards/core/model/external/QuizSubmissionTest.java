@@ -0,0 +1,147 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class QuizSubmissionTest {
+  /**
+   * A collection to allow tests that should include validation every field to enforce that new
+   * fields are also added.
+   */
+  private Set<String> testedFields = new TreeSet<>();
+
+  private CompletedQuiz completedQuiz =
+      CompletedQuiz.builder().name("Name goes HERE").answers(List.of("1")).build();
+  private QuizSubmission.Builder quizSubmissionBuilder =
+      QuizSubmission.builder().id("Id goes HERE").completedQuiz(completedQuiz);
+  private QuizSubmission quizSubmission = quizSubmissionBuilder.build();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void noArgConstructor_whenInvoked_returnsObjectWithExpectedValues() {
+      // Setup
+      Set<String> fieldNames =
+          Arrays.stream(QuizSubmission.class.getDeclaredFields())
+              .map(Field::getName)
+              .sorted(String::compareTo)
+              .collect(Collectors.toCollection(LinkedHashSet::new));
+
+      // Execution
+      quizSubmission = new QuizSubmission();
+
+      // Validation
+      assertAll(
+          () -> assertNullAndLog(quizSubmission.getCompletedQuiz(), "completedQuiz"),
+          () -> assertNullAndLog(quizSubmission.getId(), "id"),
+
+          // Ensure that we remember to update the UT as we add new fields, logged with the
+          // ...AndLog methods above.
+          () -> assertEquals(testedFields, fieldNames));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Setup
+      quizSubmission = QuizSubmission.builder().id("id1").build();
+
+      // Execute
+      String result = quizSubmission.toString();
+
+      // Validation
+      assertEquals("QuizSubmission(id=id1, completedQuiz=null)", result);
+    }
+
+    @Test
+    void testGettersViaSetters() {
+      // Setup
+      quizSubmission = new QuizSubmission();
+      quizSubmission.setId("id2");
+      quizSubmission.setCompletedQuiz(completedQuiz);
+
+      // Execution
+      String id = quizSubmission.getId();
+      CompletedQuiz result = quizSubmission.getCompletedQuiz();
+
+      // Validation
+      assertEquals("id2", id);
+      assertSame(completedQuiz, result);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    /** Generic happy-path scenario */
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<QuizSubmission>> violations =
+          validator.validate(quizSubmission);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void whenIdBlank_thenNotValid(String value) {
+      // Setup
+      quizSubmission = quizSubmissionBuilder.id(value).build();
+
+      // Execution
+      final Set<ConstraintViolation<QuizSubmission>> violations =
+          validator.validate(quizSubmission);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("id must not be blank", violations);
+    }
+
+    @Test
+    void whenCompletedQuizNull_thenNotValid() {
+      // Setup
+      quizSubmission = quizSubmissionBuilder.completedQuiz(null).build();
+
+      // Execution
+      final Set<ConstraintViolation<QuizSubmission>> violations =
+          validator.validate(quizSubmission);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("completedQuiz must not be null", violations);
+    }
+
+    @Test
+    void whenCompletedQuizNotValid_thenNotValid() {
+      // Setup
+      completedQuiz.setName(" ");
+
+      // Execution
+      final Set<ConstraintViolation<QuizSubmission>> violations =
+          validator.validate(quizSubmission);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "completedQuiz.name must not be blank", violations);
+    }
+  }
+
+  private void assertNullAndLog(Object actualValue, String fieldName) {
+    assertNull(actualValue, fieldName);
+    testedFields.add(fieldName);
+  }
+}
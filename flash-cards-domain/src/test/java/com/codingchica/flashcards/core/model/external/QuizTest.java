@@ -23,7 +23,7 @@ class QuizTest {
   private Quiz quiz =
       quizBuilder
           .name("Name Goes Here")
-          .id(UUID.randomUUID())
+          .id(UUID.randomUUID().toString())
           .createdDateTime(Instant.now())
           .prompts(prompts)
           .build();
@@ -44,15 +44,14 @@ class QuizTest {
         strings = {"e5d9fe4a-721c-40e3-925a-29ff4b348375", "df5012e8-58c9-43c2-909c-9814ff411c41"})
     void whenSetInBuilder_thenSameReturnedInGetter(String id) {
       // Setup
-      UUID uuid = UUID.fromString(id);
-      quizBuilder.id(uuid);
+      quizBuilder.id(id);
 
       // Execution
       Quiz quiz = quizBuilder.build();
 
       // Validation
       assertNotNull(quiz);
-      assertEquals(uuid, quiz.getId());
+      assertEquals(id, quiz.getId());
     }
 
     @ParameterizedTest
@@ -60,14 +59,13 @@ class QuizTest {
         strings = {"e5d9fe4a-721c-40e3-925a-29ff4b348375", "df5012e8-58c9-43c2-909c-9814ff411c41"})
     void whenSetInSetter_thenSameReturnedInGetter(String id) {
       // Setup
-      UUID uuid = UUID.fromString(id);
-      quiz.setId(uuid);
+      quiz.setId(id);
 
       // Execution
-      UUID result = quiz.getId();
+      String result = quiz.getId();
 
       // Validation
-      assertEquals(uuid, result);
+      assertEquals(id, result);
     }
   }
 
@@ -231,10 +229,11 @@ class QuizTest {
     }
 
     @Nested
-    class UUIDTest {
+    class IdTest {
       @ParameterizedTest
-      @NullSource
-      void whenNull_thenNotValid(UUID value) {
+      @NullAndEmptySource
+      @ValueSource(strings = {" "})
+      void whenBlank_thenNotValid(String value) {
         // Setup
         quiz = quizBuilder.id(value).build();
 
@@ -242,7 +241,7 @@ class QuizTest {
         final Set<ConstraintViolation<Quiz>> violations = validator.validate(quiz);
 
         // Validation
-        AnnotationValidationUtils.assertOneViolation("id must not be null", violations);
+        AnnotationValidationUtils.assertOneViolation("id must not be blank", violations);
       }
     }
 
@@ -0,0 +1,104 @@
+package com.codingchica.flashcards.core.model.external;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.util.AnnotationValidationUtils;
+import io.dropwizard.validation.BaseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SubmittedAnswerTest {
+  private SubmittedAnswer.Builder submittedAnswerBuilder =
+      SubmittedAnswer.builder().position(3).answer("12");
+  private SubmittedAnswer submittedAnswer = submittedAnswerBuilder.build();
+
+  @Nested
+  class POJOTests {
+    @Test
+    void noArgConstructor_whenInvoked_returnsObjectWithExpectedValues() {
+      // Execution
+      submittedAnswer = new SubmittedAnswer();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(0, submittedAnswer.getPosition(), "position"),
+          () -> assertNull(submittedAnswer.getAnswer(), "answer"));
+    }
+
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = submittedAnswer.toString();
+
+      // Validation
+      assertEquals("SubmittedAnswer(position=3, answer=12)", result);
+    }
+
+    @Test
+    void testGettersViaSetters() {
+      // Setup
+      submittedAnswer.setPosition(7);
+      submittedAnswer.setAnswer("Paris");
+
+      // Execution
+      int position = submittedAnswer.getPosition();
+      String answer = submittedAnswer.getAnswer();
+
+      // Validation
+      assertEquals(7, position);
+      assertEquals("Paris", answer);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+    private final Validator validator = BaseValidator.newValidator();
+
+    /** Generic happy-path scenario */
+    @Test
+    void happyPath() {
+      // Execution
+      final Set<ConstraintViolation<SubmittedAnswer>> violations =
+          validator.validate(submittedAnswer);
+
+      // Validation
+      AnnotationValidationUtils.assertEmpty(violations);
+    }
+
+    @Test
+    void whenPositionNegative_thenNotValid() {
+      // Setup
+      submittedAnswer = submittedAnswerBuilder.position(-1).build();
+
+      // Execution
+      final Set<ConstraintViolation<SubmittedAnswer>> violations =
+          validator.validate(submittedAnswer);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation(
+          "position must be greater than or equal to 0", violations);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void whenAnswerBlank_thenNotValid(String value) {
+      // Setup
+      submittedAnswer = submittedAnswerBuilder.answer(value).build();
+
+      // Execution
+      final Set<ConstraintViolation<SubmittedAnswer>> violations =
+          validator.validate(submittedAnswer);
+
+      // Validation
+      AnnotationValidationUtils.assertOneViolation("answer must not be blank", violations);
+    }
+  }
+}
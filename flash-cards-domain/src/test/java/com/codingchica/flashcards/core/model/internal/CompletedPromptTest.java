@@ -169,6 +169,37 @@ class CompletedPromptTest {
       }
     }
 
+    /** Ensure that Lombok annotations are set up as expected. */
+    @Nested
+    class CreditTest {
+
+      @ParameterizedTest
+      @ValueSource(doubles = {0, 0.5, 1})
+      void testGetterViaBuilder(double value) {
+        // Setup
+        completedPrompt = completedPromptBuilder.credit(value).build();
+
+        // Execution
+        double result = completedPrompt.getCredit();
+
+        // Validation
+        assertEquals(value, result);
+      }
+
+      @ParameterizedTest
+      @ValueSource(doubles = {0, 0.5, 1})
+      void testGetterViaSetter(double value) {
+        // Setup
+        completedPrompt.setCredit(value);
+
+        // Execution
+        double result = completedPrompt.getCredit();
+
+        // Validation
+        assertEquals(value, result);
+      }
+    }
+
     @Nested
     class NoArgConstructorTest {
       @Test
@@ -185,6 +216,7 @@ class CompletedPromptTest {
             () -> assertFalseAndLog(completedPrompt.isCorrectAnswer(), prefix + ".correctAnswer"),
             () -> assertNullAndLog(completedPrompt.getExpectedAnswer(), prefix + ".expectedAnswer"),
             () -> assertNullAndLog(completedPrompt.getAnswerProvided(), prefix + ".answerProvided"),
+            () -> assertEqualsAndLog(0.0, completedPrompt.getCredit(), prefix + ".credit"),
             CompletedPromptTest.this::assertAllFieldsUsedAndClear);
       }
     }
@@ -252,6 +284,27 @@ class CompletedPromptTest {
       }
     }
 
+    @Nested
+    class CreditTest {
+      @ParameterizedTest
+      @ValueSource(doubles = {-0.1, 1.1})
+      void whenOutOfRange_thenNotValid(double value) {
+        // Setup
+        completedPrompt = completedPromptBuilder.credit(value).build();
+
+        // Execution
+        final Set<ConstraintViolation<CompletedPrompt>> violations =
+            validator.validate(completedPrompt);
+
+        // Validation
+        AnnotationValidationUtils.assertOneViolation(
+            value < 0
+                ? "credit must be greater than or equal to 0.0"
+                : "credit must be less than or equal to 1.0",
+            violations);
+      }
+    }
+
     @Nested
     class AnswerProvidedTest {
       @ParameterizedTest
@@ -288,6 +341,11 @@ class CompletedPromptTest {
     }
   }
 
+  private void assertEqualsAndLog(double expectedValue, double actualValue, String fieldName) {
+    assertEquals(expectedValue, actualValue, fieldName);
+    testedFields.add(fieldName);
+  }
+
   private void assertNullAndLog(Object actualValue, String fieldName) {
     assertNull(actualValue, fieldName);
     testedFields.add(fieldName);
@@ -25,7 +25,7 @@ class QuizResultTest {
   private Set<String> testedFields = new TreeSet<>();
 
   private QuizResult.Builder quizResultBuilder =
-      QuizResult.builder().createdDateTime(Instant.now()).id(UUID.randomUUID());
+      QuizResult.builder().createdDateTime(Instant.now()).id(UUID.randomUUID().toString());
   QuizResult quizResult = quizResultBuilder.name("name").build();
 
   @Nested
@@ -0,0 +1,84 @@
+package com.codingchica.flashcards.core.random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the SeededRandomnessStrategy class. */
+class SeededRandomnessStrategyTest {
+  private final SeededRandomnessStrategy randomnessStrategy = new SeededRandomnessStrategy(123L);
+
+  @Test
+  void getInitialSeed_whenInvoked_thenConstructorValueReturned() {
+    // Execution
+    long result = randomnessStrategy.getInitialSeed();
+
+    // Validation
+    assertEquals(123L, result);
+  }
+
+  @Test
+  void nextSeed_whenSameInitialSeed_thenSameSequence() {
+    // Setup
+    SeededRandomnessStrategy other = new SeededRandomnessStrategy(123L);
+
+    // Execution
+    long[] result = LongStream.range(0, 10).map(i -> randomnessStrategy.nextSeed()).toArray();
+    long[] otherResult = LongStream.range(0, 10).map(i -> other.nextSeed()).toArray();
+
+    // Validation
+    assertArrayEquals(result, otherResult);
+  }
+
+  @Test
+  void nextSeed_whenDifferentInitialSeed_thenDifferentSequence() {
+    // Setup
+    SeededRandomnessStrategy other = new SeededRandomnessStrategy(124L);
+
+    // Execution
+    long result = randomnessStrategy.nextSeed();
+    long otherResult = other.nextSeed();
+
+    // Validation
+    assertNotEquals(result, otherResult);
+  }
+
+  @Test
+  void nextSeed_whenInvokedRepeatedly_thenSeedsDistinct() {
+    // Setup
+    Set<Long> seeds = new HashSet<>();
+
+    // Execution
+    for (int i = 0; i < 10_000; i++) {
+      seeds.add(randomnessStrategy.nextSeed());
+    }
+
+    // Validation
+    assertEquals(10_000, seeds.size());
+  }
+
+  @Test
+  void generator_whenSameSeed_thenSameValues() {
+    // Execution
+    RandomGenerator first = randomnessStrategy.generator(42L);
+    RandomGenerator second = randomnessStrategy.generator(42L);
+
+    // Validation
+    for (int i = 0; i < 10; i++) {
+      assertEquals(first.nextInt(100), second.nextInt(100));
+    }
+  }
+
+  @Test
+  void mix64_whenZero_thenZero() {
+    // Execution
+    long result = SeededRandomnessStrategy.mix64(0L);
+
+    // Validation
+    assertEquals(0L, result);
+  }
+}
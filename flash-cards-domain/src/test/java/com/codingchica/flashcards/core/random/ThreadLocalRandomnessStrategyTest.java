@@ -0,0 +1,33 @@
+package com.codingchica.flashcards.core.random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the ThreadLocalRandomnessStrategy class. */
+class ThreadLocalRandomnessStrategyTest {
+  private final ThreadLocalRandomnessStrategy randomnessStrategy =
+      new ThreadLocalRandomnessStrategy();
+
+  @Test
+  void nextSeed_whenInvokedRepeatedly_thenSeedsVary() {
+    // Setup
+    Set<Long> seeds = new HashSet<>();
+
+    // Execution
+    for (int i = 0; i < 100; i++) {
+      seeds.add(randomnessStrategy.nextSeed());
+    }
+
+    // Validation
+    assertTrue(seeds.size() > 90, "distinct seeds: " + seeds.size());
+  }
+
+  @Test
+  void generator_whenInvoked_thenNewInstanceEachTime() {
+    // Execution & Validation
+    assertNotSame(randomnessStrategy.generator(1L), randomnessStrategy.generator(1L));
+  }
+}
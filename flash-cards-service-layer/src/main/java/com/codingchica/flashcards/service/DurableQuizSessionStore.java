@@ -0,0 +1,662 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.dropwizard.lifecycle.Managed;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journals the quizzes held by another QuizSessionStore to local disk, so that quizzes in progress
+ * survive a restart and can still be graded afterwards.
+ *
+ * <p>Each quiz handed out is appended to a log as a small binary record, holding its ID, times,
+ * catalog version, deck ID, seed and prompt IDs, and flushed to the operating system before the
+ * quiz is handed out. Every snapshotInterval, the log is rotated and compacted, together with the
+ * previous snapshot, into a new snapshot of only the quizzes still held and not yet expired. On
+ * start, the snapshot and logs are replayed into compact records, which is all a restart waits for.
+ * Each replayed quiz is rebuilt from its deck, and put back into the delegate, the first time it is
+ * asked for after the catalog it was drawn from is published again; quizzes drawn from a catalog
+ * whose contents have since changed are not restored.
+ *
+ * <p>A record torn by a crash ends the replay of its file, keeping everything before it, and is
+ * truncated from the log before appending to it again.
+ */
+public class DurableQuizSessionStore implements QuizSessionStore, Managed {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DurableQuizSessionStore.class);
+
+  /** The snapshot of quizzes in progress when the log was last compacted. */
+  static final String SNAPSHOT = "quiz-sessions.snapshot";
+
+  /** The log of quizzes handed out since the last rotation. */
+  static final String LOG = "quiz-sessions.log";
+
+  /** The previous log, while it is being compacted into the snapshot. */
+  static final String COMPACTING = "quiz-sessions.log.compacting";
+
+  /** Marks a quiz session file, spelling FCQS. */
+  private static final int MAGIC = 0x46435153;
+
+  private static final int FORMAT = 1;
+
+  private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+  /** The length and checksum preceding the body of each record. */
+  private static final int RECORD_FRAME_BYTES = 2 * Integer.BYTES;
+
+  private static final int MAXIMUM_VARINT_BYTES = 5;
+  private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+  /** The store the quizzes are held in while the server runs. */
+  @Getter(AccessLevel.PACKAGE)
+  private final QuizSessionStore delegate;
+
+  /** The directory holding the snapshot and logs. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Path directory;
+
+  /** How long after being handed out a quiz may still be graded. */
+  private final long expireAfterMillis;
+
+  /** How often the log is compacted into a snapshot. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration snapshotInterval;
+
+  @Getter(AccessLevel.PACKAGE)
+  private final Clock clock;
+
+  /** Recently published catalogs, to find the version of the deck each quiz is drawn from. */
+  private final Cache<Long, DeckCatalog> catalogsByVersion =
+      CacheBuilder.newBuilder().maximumSize(8).build();
+
+  /** The catalog most recently published, checked first. */
+  private volatile DeckCatalog latestCatalog;
+
+  /** Quizzes replayed from disk which have not been asked for since, by ID. */
+  private final Map<String, Session> replayed = new ConcurrentHashMap<>();
+
+  /** Guards the log output, and its rotation. */
+  private final Lock logLock = new ReentrantLock();
+
+  /** The log being appended to, while started. */
+  private FileChannel log;
+
+  private final Counter restored;
+  private final Timer snapshots;
+  private final ScheduledExecutorService snapshotter =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "quiz-session-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Constructor.
+   *
+   * @param delegate The store the quizzes are held in while the server runs.
+   * @param directory The directory holding the snapshot and logs, created if needed.
+   * @param expireAfter How long after being handed out a quiz may still be graded.
+   * @param snapshotInterval How often the log is compacted into a snapshot.
+   * @param metricRegistry Where to report quizzes replayed and restored, and snapshot times.
+   * @param clock The clock against which quizzes expire, defaulting to the system clock.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public DurableQuizSessionStore(
+      @NonNull QuizSessionStore delegate,
+      @NonNull Path directory,
+      @NonNull Duration expireAfter,
+      @NonNull Duration snapshotInterval,
+      @NonNull MetricRegistry metricRegistry,
+      Clock clock) {
+    Preconditions.checkArgument(
+        !snapshotInterval.isNegative() && !snapshotInterval.isZero(),
+        "snapshotInterval must be positive");
+    this.delegate = delegate;
+    this.directory = directory;
+    this.expireAfterMillis = expireAfter.toMillis();
+    this.snapshotInterval = snapshotInterval;
+    this.clock = clock == null ? Clock.systemUTC() : clock;
+
+    restored = metricRegistry.counter(name("restored"));
+    snapshots = metricRegistry.timer(name("snapshots"));
+    metricRegistry.register(name("replayed"), (Gauge<Long>) this::getReplayed);
+  }
+
+  private static String name(String metric) {
+    return MetricRegistry.name(QuizSessionStore.class, metric);
+  }
+
+  @Override
+  public void put(@NonNull Quiz quiz) throws RenderableException {
+    delegate.put(quiz);
+    Optional<Session> session = Session.of(quiz, clock.millis(), this::findCatalogVersion);
+    if (session.isEmpty()) {
+      // Drawn from a catalog this store was not told of, so it could not be restored anyway.
+      return;
+    }
+    ByteBuffer record = ByteBuffer.allocate(session.get().getRecordSize());
+    session.get().writeRecord(record);
+    record.flip();
+    logLock.lock();
+    try {
+      Preconditions.checkState(log != null, "the store must be started before use");
+      // Straight into the operating system, so the quiz survives the process, if not the machine.
+      writeFully(log, record);
+    } catch (IOException e) {
+      LOGGER.error("Unable to journal quiz {}", quiz.getId(), e);
+      throw new RenderableException(
+          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz session.");
+    } finally {
+      logLock.unlock();
+    }
+  }
+
+  /**
+   * Find the version of the catalog a deck belongs to.
+   *
+   * @param deck The deck a quiz was drawn from.
+   * @return The catalog version, if the catalog is still known.
+   */
+  private Optional<Long> findCatalogVersion(Deck deck) {
+    DeckCatalog latest = latestCatalog;
+    if (isFrom(deck, latest)) {
+      return Optional.of(latest.getVersion());
+    }
+    return catalogsByVersion.asMap().values().stream()
+        .filter(catalog -> isFrom(deck, catalog))
+        .map(DeckCatalog::getVersion)
+        .findFirst();
+  }
+
+  private static boolean isFrom(Deck deck, DeckCatalog catalog) {
+    return catalog != null
+        && deck.getId() < catalog.getDeckCount()
+        && catalog.getDeck(deck.getId()) == deck;
+  }
+
+  @Override
+  public Optional<Quiz> get(@NonNull String id) {
+    Optional<Quiz> quiz = delegate.get(id);
+    if (quiz.isPresent() || replayed.isEmpty()) {
+      return quiz;
+    }
+    return restore(id);
+  }
+
+  /**
+   * Rebuild a quiz replayed from disk, and put it back into the delegate.
+   *
+   * @param id The ID of the quiz.
+   * @return The quiz, if it was replayed, has not expired, and its catalog is published.
+   */
+  private Optional<Quiz> restore(String id) {
+    Session session = replayed.get(id);
+    if (session == null) {
+      return Optional.empty();
+    }
+    if (session.isExpired(clock.millis(), expireAfterMillis)) {
+      replayed.remove(id, session);
+      return Optional.empty();
+    }
+    DeckCatalog catalog = catalogsByVersion.getIfPresent(session.catalogVersion);
+    if (catalog == null || session.deckId >= catalog.getDeckCount()) {
+      return Optional.empty();
+    }
+    Quiz quiz = session.toQuiz(catalog.getDeck(session.deckId));
+    if (replayed.remove(id, session)) {
+      try {
+        delegate.put(quiz);
+        restored.inc();
+      } catch (RenderableException e) {
+        // The quiz can still be graded this once, even if the delegate has no room to keep it.
+        LOGGER.warn("Unable to restore quiz {}: {}", id, e.getMessage());
+      }
+    }
+    return Optional.of(quiz);
+  }
+
+  @Override
+  public boolean contains(@NonNull String id) {
+    if (delegate.contains(id)) {
+      return true;
+    }
+    Session session = replayed.get(id);
+    return session != null && !session.isExpired(clock.millis(), expireAfterMillis);
+  }
+
+  @Override
+  public long size() {
+    return delegate.size() + replayed.size();
+  }
+
+  @Override
+  public void publish(@NonNull DeckCatalog catalog) {
+    delegate.publish(catalog);
+    catalogsByVersion.put(catalog.getVersion(), catalog);
+    latestCatalog = catalog;
+  }
+
+  /**
+   * The quizzes replayed from disk which have not been asked for since.
+   *
+   * @return The count of quizzes not yet restored.
+   */
+  public long getReplayed() {
+    return replayed.size();
+  }
+
+  /**
+   * Replay the snapshot and logs, and go on appending to the log.
+   *
+   * @throws Exception If the directory cannot be read or written, or the delegate cannot start.
+   */
+  @Override
+  public void start() throws Exception {
+    long started = System.nanoTime();
+    Files.createDirectories(directory);
+    read(directory.resolve(SNAPSHOT), replayed);
+    read(directory.resolve(COMPACTING), replayed);
+    long logEnd = read(directory.resolve(LOG), replayed);
+    long now = clock.millis();
+    replayed.values().removeIf(session -> session.isExpired(now, expireAfterMillis));
+
+    logLock.lock();
+    try {
+      openLog(logEnd);
+    } finally {
+      logLock.unlock();
+    }
+
+    if (delegate instanceof Managed managed) {
+      managed.start();
+    }
+    long interval = snapshotInterval.toMillis();
+    snapshotter.scheduleWithFixedDelay(
+        this::snapshotQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    LOGGER.info(
+        "Replayed {} quiz sessions from {} in {} ms",
+        replayed.size(),
+        directory,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+  }
+
+  /** Stop compacting, and make sure everything logged so far is on disk. */
+  @Override
+  public void stop() throws Exception {
+    snapshotter.shutdownNow();
+    snapshotter.awaitTermination(10, TimeUnit.SECONDS);
+    logLock.lock();
+    try {
+      closeLog();
+    } finally {
+      logLock.unlock();
+    }
+    if (delegate instanceof Managed managed) {
+      managed.stop();
+    }
+  }
+
+  private void snapshotQuietly() {
+    try {
+      snapshot();
+    } catch (IOException e) {
+      LOGGER.error("Unable to snapshot quiz sessions, will retry", e);
+    }
+  }
+
+  /**
+   * Rotate the log, and compact it into a new snapshot of the quizzes still held and not expired.
+   *
+   * @throws IOException If the snapshot cannot be written.
+   */
+  void snapshot() throws IOException {
+    try (Timer.Context ignored = snapshots.time()) {
+      Path compacting = directory.resolve(COMPACTING);
+      logLock.lock();
+      try {
+        // A log left by a failed compaction is compacted again before the next rotation.
+        if (Files.notExists(compacting)) {
+          closeLog();
+          Files.move(directory.resolve(LOG), compacting, StandardCopyOption.ATOMIC_MOVE);
+          openLog(0);
+        }
+      } finally {
+        logLock.unlock();
+      }
+
+      Map<String, Session> sessions = new HashMap<>();
+      read(directory.resolve(SNAPSHOT), sessions);
+      read(compacting, sessions);
+      long now = clock.millis();
+      replayed.values().removeIf(session -> session.isExpired(now, expireAfterMillis));
+      sessions
+          .values()
+          .removeIf(
+              session ->
+                  session.isExpired(now, expireAfterMillis)
+                      || !(delegate.contains(session.id) || replayed.containsKey(session.id)));
+      writeSnapshot(sessions.values());
+      Files.delete(compacting);
+    }
+  }
+
+  /**
+   * Open the log for appending, creating it if needed. Called with the logLock held.
+   *
+   * @param validEnd Where the last intact record in the existing log ends, beyond which it is
+   *     truncated, or 0 when there is no usable log.
+   */
+  private void openLog(long validEnd) throws IOException {
+    log =
+        FileChannel.open(
+            directory.resolve(LOG),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+    if (validEnd < HEADER_BYTES) {
+      log.truncate(0);
+      writeFully(log, header());
+    } else if (log.size() > validEnd) {
+      log.truncate(validEnd);
+    }
+  }
+
+  /** Flush the log to disk and close it, if open. Called with the logLock held. */
+  private void closeLog() throws IOException {
+    if (log != null) {
+      log.force(true);
+      log.close();
+      log = null;
+    }
+  }
+
+  private static ByteBuffer header() {
+    return ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(FORMAT).flip();
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Replace the snapshot, atomically, so that a crash leaves either the old or the new one.
+   *
+   * @param sessions The quizzes to keep.
+   */
+  private void writeSnapshot(Collection<Session> sessions) throws IOException {
+    Path temporary = directory.resolve(SNAPSHOT + ".tmp");
+    try (FileChannel snapshot =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+      buffer.put(header());
+      for (Session session : sessions) {
+        int recordSize = session.getRecordSize();
+        if (buffer.remaining() < recordSize) {
+          writeFully(snapshot, buffer.flip());
+          buffer = ByteBuffer.allocate(Math.max(WRITE_BUFFER_BYTES, recordSize)).clear();
+        }
+        session.writeRecord(buffer);
+      }
+      writeFully(snapshot, buffer.flip());
+      snapshot.force(true);
+    }
+    Files.move(
+        temporary,
+        directory.resolve(SNAPSHOT),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Read the records of a snapshot or log, later records replacing earlier ones with the same ID.
+   *
+   * @param path The file to read, if it exists.
+   * @param sessions Where to collect the records, by ID.
+   * @return Where the last intact record ends, or 0 if the file is missing or has no header.
+   * @throws IOException If the file cannot be read, or is not a quiz session file.
+   */
+  private static long read(Path path, Map<String, Session> sessions) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (file.size() > Integer.MAX_VALUE) {
+        throw new IOException(path + " is too large to replay");
+      }
+      buffer = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+    if (buffer.remaining() < HEADER_BYTES) {
+      // Created, but the header was never written.
+      return 0;
+    }
+    if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+      throw new IOException(path + " is not a quiz session file");
+    }
+    CRC32 crc = new CRC32();
+    while (buffer.remaining() >= RECORD_FRAME_BYTES) {
+      int start = buffer.position();
+      int length = buffer.getInt();
+      long checksum = buffer.getInt() & 0xFFFFFFFFL;
+      if (length < 0 || length > buffer.remaining()) {
+        LOGGER.warn("Ignoring a torn or corrupt record at the end of {}", path);
+        return start;
+      }
+      ByteBuffer body = buffer.slice(buffer.position(), length);
+      crc.reset();
+      crc.update(body.duplicate());
+      if (crc.getValue() != checksum) {
+        LOGGER.warn("Ignoring the rest of {}, after a corrupt record", path);
+        return start;
+      }
+      Session session = Session.readBody(body);
+      sessions.put(session.id, session);
+      buffer.position(buffer.position() + length);
+    }
+    if (buffer.hasRemaining()) {
+      LOGGER.warn("Ignoring a torn record at the end of {}", path);
+    }
+    return buffer.position();
+  }
+
+  /** A quiz as journaled, which is just enough to rebuild it from its deck. */
+  private static final class Session {
+    private final String id;
+    private final long putMillis;
+    private final long createdMillis;
+    private final long catalogVersion;
+    private final int deckId;
+    private final long seed;
+    private final int[] promptIds;
+
+    private Session(
+        String id,
+        long putMillis,
+        long createdMillis,
+        long catalogVersion,
+        int deckId,
+        long seed,
+        int[] promptIds) {
+      this.id = id;
+      this.putMillis = putMillis;
+      this.createdMillis = createdMillis;
+      this.catalogVersion = catalogVersion;
+      this.deckId = deckId;
+      this.seed = seed;
+      this.promptIds = promptIds;
+    }
+
+    /**
+     * Describe a quiz for the journal.
+     *
+     * @param quiz The quiz being handed out.
+     * @param putMillis The time it was handed out, in epoch milliseconds.
+     * @param catalogVersions Finds the version of the catalog a deck belongs to.
+     * @return The session, unless the quiz was not drawn from a deck in a known catalog.
+     */
+    static Optional<Session> of(
+        Quiz quiz, long putMillis, Function<Deck, Optional<Long>> catalogVersions) {
+      if (!(quiz.getPrompts() instanceof DeckPromptList prompts)) {
+        return Optional.empty();
+      }
+      int[] promptIds = new int[prompts.size()];
+      for (int i = 0; i < promptIds.length; i++) {
+        promptIds[i] = prompts.getPromptId(i);
+      }
+      return catalogVersions
+          .apply(prompts.getDeck())
+          .map(
+              catalogVersion ->
+                  new Session(
+                      quiz.getId(),
+                      putMillis,
+                      quiz.getCreatedDateTime().toEpochMilli(),
+                      catalogVersion,
+                      prompts.getDeck().getId(),
+                      prompts.getSeed(),
+                      promptIds));
+    }
+
+    boolean isExpired(long now, long expireAfterMillis) {
+      return putMillis + expireAfterMillis <= now;
+    }
+
+    /**
+     * Rebuild the quiz.
+     *
+     * @param deck The deck the quiz was drawn from.
+     * @return The quiz as handed out.
+     */
+    Quiz toQuiz(Deck deck) {
+      return Quiz.builder()
+          .id(id)
+          .name(deck.getName())
+          .createdDateTime(Instant.ofEpochMilli(createdMillis))
+          .prompts(new DeckPromptList(deck, seed, promptIds.clone()))
+          .build();
+    }
+
+    /**
+     * The most bytes the record can take up, with the prompt IDs at their widest.
+     *
+     * @return The size to reserve for the record.
+     */
+    int getRecordSize() {
+      return RECORD_FRAME_BYTES
+          + Short.BYTES
+          + id.length() * 3
+          + 3 * Long.BYTES
+          + Integer.BYTES
+          + Long.BYTES
+          + (1 + promptIds.length) * MAXIMUM_VARINT_BYTES;
+    }
+
+    /**
+     * Write the session as a record: its length, a CRC32 of the body, then the body. Prompt IDs are
+     * written as variable-length integers, taking a single byte in decks of up to 128 prompts.
+     *
+     * @param buffer Where to write the record, with at least getRecordSize() bytes remaining.
+     */
+    void writeRecord(ByteBuffer buffer) {
+      int start = buffer.position();
+      buffer.position(start + RECORD_FRAME_BYTES);
+      byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+      buffer.putShort((short) idBytes.length).put(idBytes);
+      buffer.putLong(putMillis).putLong(createdMillis).putLong(catalogVersion);
+      buffer.putInt(deckId).putLong(seed);
+      putVarint(buffer, promptIds.length);
+      for (int promptId : promptIds) {
+        putVarint(buffer, promptId);
+      }
+      int length = buffer.position() - start - RECORD_FRAME_BYTES;
+      CRC32 crc = new CRC32();
+      crc.update(buffer.slice(start + RECORD_FRAME_BYTES, length));
+      buffer.putInt(start, length).putInt(start + Integer.BYTES, (int) crc.getValue());
+    }
+
+    /**
+     * Parse the body of a record.
+     *
+     * @param body The bytes after the length and checksum.
+     * @return The session.
+     */
+    static Session readBody(ByteBuffer body) {
+      byte[] idBytes = new byte[Short.toUnsignedInt(body.getShort())];
+      body.get(idBytes);
+      String id = new String(idBytes, StandardCharsets.UTF_8);
+      long putMillis = body.getLong();
+      long createdMillis = body.getLong();
+      long catalogVersion = body.getLong();
+      int deckId = body.getInt();
+      long seed = body.getLong();
+      int[] promptIds = new int[getVarint(body)];
+      for (int i = 0; i < promptIds.length; i++) {
+        promptIds[i] = getVarint(body);
+      }
+      return new Session(id, putMillis, createdMillis, catalogVersion, deckId, seed, promptIds);
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+      while ((value & ~0x7F) != 0) {
+        buffer.put((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+      int value = 0;
+      for (int shift = 0; ; shift += 7) {
+        byte b = buffer.get();
+        value |= (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.codingchica.flashcards.service;
+
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.grading.QuizGrade;
+import com.codingchica.flashcards.core.model.external.PromptMisses;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.google.common.base.Preconditions;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Keeps a live view of the prompts missed most often across every student: overall, and for each
+ * category of the catalog last published. Each view is a HeavyHitterSketch, so its memory is fixed
+ * by the configured sketch size, however many distinct prompts are missed, and counting the misses
+ * of a graded quiz takes no locks.
+ *
+ * <p>Prompts are counted by their text, so the same fact missed in two quizzes adds up. A category
+ * dropped from the catalog drops its counts; the overall counts are kept. Quizzes not drawn from a
+ * compiled deck are only counted overall. The counts are not saved, so they start again from zero
+ * after a restart.
+ */
+public class HardestPromptsTracker {
+  /** How many of the prompts missed most often are listed, overall and for each category. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int limit;
+
+  /** The counters in each row of a sketch. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int sketchWidth;
+
+  /** The rows of counters in a sketch. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int sketchDepth;
+
+  /** The misses of every quiz. */
+  private final HeavyHitterSketch overall;
+
+  /** The misses of the quizzes in each category of the catalog last published, by category. */
+  private volatile Map<String, HeavyHitterSketch> byCategory = Map.of();
+
+  /**
+   * Constructor.
+   *
+   * @param limit How many of the prompts missed most often are listed, overall and for each
+   *     category. Twice as many are remembered as candidates, so that prompts just outside the list
+   *     are not forgotten.
+   * @param sketchWidth The counters in each row of a sketch, rounded up to a power of two.
+   * @param sketchDepth The rows of counters in a sketch.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public HardestPromptsTracker(int limit, int sketchWidth, int sketchDepth) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive");
+    Preconditions.checkArgument(sketchWidth > 1, "sketchWidth must be greater than 1");
+    Preconditions.checkArgument(sketchDepth > 0, "sketchDepth must be positive");
+    this.limit = limit;
+    this.sketchWidth = sketchWidth;
+    this.sketchDepth = sketchDepth;
+    overall = newSketch();
+  }
+
+  private HeavyHitterSketch newSketch() {
+    return new HeavyHitterSketch(sketchWidth, sketchDepth, 2 * limit);
+  }
+
+  /**
+   * Make a newly compiled catalog the one whose categories are counted, keeping the counts of the
+   * categories it still has.
+   *
+   * @param catalog The catalog being served.
+   */
+  public synchronized void publish(@NonNull DeckCatalog catalog) {
+    Map<String, HeavyHitterSketch> sketches = new HashMap<>();
+    for (String category : catalog.getQuizNamesByCategory().keySet()) {
+      HeavyHitterSketch sketch = byCategory.get(category);
+      sketches.put(category, sketch == null ? newSketch() : sketch);
+    }
+    byCategory = Map.copyOf(sketches);
+  }
+
+  /**
+   * Count the prompts missed in a graded quiz.
+   *
+   * @param quiz The quiz handed out.
+   * @param grade The grade for the answers returned.
+   */
+  public void record(@NonNull Quiz quiz, @NonNull QuizGrade grade) {
+    BitSet missedPositions = grade.getMissedPositions();
+    if (missedPositions.isEmpty()) {
+      return;
+    }
+    DeckPromptList deckPrompts = null;
+    HeavyHitterSketch category = null;
+    if (quiz.getPrompts() instanceof DeckPromptList promptList) {
+      deckPrompts = promptList;
+      category = byCategory.get(promptList.getDeck().getCategory());
+    }
+    for (int position = missedPositions.nextSetBit(0);
+        position >= 0;
+        position = missedPositions.nextSetBit(position + 1)) {
+      String prompt =
+          deckPrompts == null
+              ? quiz.getPrompts().get(position).getKey()
+              : deckPrompts.getPrompt(position);
+      if (prompt == null) {
+        continue;
+      }
+      overall.add(prompt);
+      if (category != null) {
+        category.add(prompt);
+      }
+    }
+  }
+
+  /**
+   * Retrieve the prompts missed most often across every quiz.
+   *
+   * @return The prompts and their estimated misses, most missed first.
+   */
+  public List<PromptMisses> getHardestPrompts() {
+    return overall.top(limit);
+  }
+
+  /**
+   * Retrieve the prompts missed most often in the quizzes of one category.
+   *
+   * @param category The category, as configured.
+   * @return The prompts and their estimated misses, most missed first, if the category is in the
+   *     catalog.
+   */
+  public Optional<List<PromptMisses>> getHardestPrompts(@NonNull String category) {
+    return Optional.ofNullable(byCategory.get(category)).map(sketch -> sketch.top(limit));
+  }
+}
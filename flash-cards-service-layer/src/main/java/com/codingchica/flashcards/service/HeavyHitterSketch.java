@@ -0,0 +1,194 @@
+package com.codingchica.flashcards.service;
+
+import com.codingchica.flashcards.core.model.external.PromptMisses;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Finds the prompts missed most often in a fixed amount of memory, however many distinct prompts
+ * are counted: a Count-Min sketch estimates how often each prompt was missed, and a small set of
+ * candidates remembers which prompts have the highest estimates.
+ *
+ * <p>The sketch is sketchDepth rows of sketchWidth counters. A prompt adds one to a counter in each
+ * row, chosen by a different hash per row, and its estimate is the lowest of those counters. Other
+ * prompts sharing a counter can only push the estimate up, so it is never low, and it is rarely
+ * more than a few multiples of the misses counted divided by sketchWidth too high.
+ *
+ * <p>Counting is lock-free: the counters are incremented atomically, and the candidates are an
+ * immutable snapshot, swapped with a compare-and-set when a prompt outgrows the lowest candidate. A
+ * prompt already among the candidates, or below the lowest of them, costs one volatile read after
+ * its counters are incremented.
+ */
+class HeavyHitterSketch {
+  /** The highest estimates first, then by prompt. */
+  private static final Comparator<PromptMisses> MOST_MISSED_FIRST =
+      Comparator.comparingLong(PromptMisses::getMisses)
+          .reversed()
+          .thenComparing(PromptMisses::getPrompt);
+
+  private final int width;
+  private final int depth;
+
+  /** The counters, one row after another. */
+  private final AtomicLongArray counters;
+
+  /** The most prompts remembered as candidates for the highest estimates. */
+  private final int capacity;
+
+  private final AtomicReference<Candidates> candidates =
+      new AtomicReference<>(new Candidates(new String[0], 0));
+
+  /**
+   * Constructor.
+   *
+   * @param width The counters in each row, rounded up to a power of two.
+   * @param depth The rows of counters.
+   * @param capacity The most prompts remembered as candidates for the highest estimates.
+   */
+  HeavyHitterSketch(int width, int depth, int capacity) {
+    Preconditions.checkArgument(width > 1, "width must be greater than 1");
+    Preconditions.checkArgument(depth > 0, "depth must be positive");
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    this.width = Integer.highestOneBit(width - 1) << 1;
+    this.depth = depth;
+    this.capacity = capacity;
+    counters = new AtomicLongArray(this.width * depth);
+  }
+
+  /**
+   * Count one miss of a prompt.
+   *
+   * @param prompt The prompt missed.
+   */
+  void add(String prompt) {
+    long hash = hash(prompt);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+    }
+    Candidates current = candidates.get();
+    if (!current.prompts.contains(prompt)
+        && (current.order.length < capacity || estimate > current.threshold)) {
+      offer(prompt, estimate);
+    }
+  }
+
+  /**
+   * Make a prompt a candidate, in place of the lowest candidate if there is no room left and its
+   * estimate is higher.
+   *
+   * @param prompt The prompt just counted.
+   * @param estimate Its estimate, once counted.
+   */
+  private void offer(String prompt, long estimate) {
+    while (true) {
+      Candidates current = candidates.get();
+      if (current.prompts.contains(prompt)) {
+        return;
+      }
+      String[] order = current.order;
+      Candidates next;
+      if (order.length < capacity) {
+        String[] grown = Arrays.copyOf(order, order.length + 1);
+        grown[order.length] = prompt;
+        next = new Candidates(grown, 0);
+      } else {
+        // Estimates only grow, so find the lowest now rather than trusting the threshold.
+        int lowest = -1;
+        long lowestEstimate = Long.MAX_VALUE;
+        long secondLowestEstimate = Long.MAX_VALUE;
+        for (int i = 0; i < order.length; i++) {
+          long candidateEstimate = estimate(order[i]);
+          if (candidateEstimate < lowestEstimate) {
+            secondLowestEstimate = lowestEstimate;
+            lowestEstimate = candidateEstimate;
+            lowest = i;
+          } else if (candidateEstimate < secondLowestEstimate) {
+            secondLowestEstimate = candidateEstimate;
+          }
+        }
+        if (estimate <= lowestEstimate) {
+          // Raise the threshold, so prompts this low are not offered again.
+          if (lowestEstimate > current.threshold) {
+            candidates.compareAndSet(current, new Candidates(order, lowestEstimate));
+          }
+          return;
+        }
+        String[] replaced = order.clone();
+        replaced[lowest] = prompt;
+        next = new Candidates(replaced, Math.min(estimate, secondLowestEstimate));
+      }
+      if (candidates.compareAndSet(current, next)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Estimate how often a prompt was missed.
+   *
+   * @param prompt The prompt.
+   * @return The estimate, which is never lower than the misses counted.
+   */
+  long estimate(String prompt) {
+    long hash = hash(prompt);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.get(index(hash, row)));
+    }
+    return estimate;
+  }
+
+  /**
+   * Retrieve the prompts with the highest estimates.
+   *
+   * @param limit The most prompts to list.
+   * @return The prompts and their estimates, highest first.
+   */
+  List<PromptMisses> top(int limit) {
+    return Arrays.stream(candidates.get().order)
+        .map(prompt -> PromptMisses.builder().prompt(prompt).misses(estimate(prompt)).build())
+        .sorted(MOST_MISSED_FIRST)
+        .limit(limit)
+        .toList();
+  }
+
+  private int index(long hash, int row) {
+    // Derive a hash per row from the two halves of one, rather than hashing the prompt again.
+    int rowHash = (int) hash + row * ((int) (hash >>> 32) | 1);
+    return row * width + (rowHash & (width - 1));
+  }
+
+  /**
+   * Spread the bits of the prompt's own, cached, hash code over 64 bits.
+   *
+   * @param prompt The prompt.
+   * @return The mixed hash.
+   */
+  private static long hash(String prompt) {
+    long hash = prompt.hashCode() * 0x9E3779B97F4A7C15L;
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    return hash ^ (hash >>> 33);
+  }
+
+  /**
+   * The prompts remembered as candidates for the highest estimates, never changed once shared.
+   *
+   * @param order The candidates, in the order they were admitted.
+   * @param prompts The same candidates, to look them up.
+   * @param threshold No higher than the lowest estimate among the candidates, once full.
+   */
+  private record Candidates(String[] order, Set<String> prompts, long threshold) {
+    Candidates(String[] order, long threshold) {
+      this(order, Set.of(order), threshold);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Keeps quizzes in progress in memory, bounded by the total number of prompts they hold. When full,
+ * either the quizzes least recently handed out are evicted, or new quizzes are refused with a
+ * RetryLaterException, so that none in progress are lost.
+ */
+public class InMemoryQuizSessionStore implements QuizSessionStore {
+  /** The most prompts, summed across all quizzes held, to hold at once. */
+  @Getter(AccessLevel.PACKAGE)
+  private final long maximumPrompts;
+
+  /** Whether new quizzes are refused, rather than older ones evicted, when full. */
+  @Getter(AccessLevel.PACKAGE)
+  private final boolean rejectWhenFull;
+
+  /** How long clients are asked to wait after a refusal. */
+  private final Duration retryAfter;
+
+  /** The prompts, summed across all quizzes held, kept up to date as quizzes come and go. */
+  private final AtomicLong prompts = new AtomicLong();
+
+  private final Cache<String, Quiz> quizzes;
+  private final Meter rejections;
+
+  /**
+   * Constructor.
+   *
+   * @param maximumPrompts The most prompts, summed across all quizzes held, to hold at once.
+   * @param expireAfter How long after being handed out a quiz may still be graded.
+   * @param rejectWhenFull Whether new quizzes are refused, rather than older ones evicted, when
+   *     full.
+   * @param retryAfter How long clients are asked to wait after a refusal.
+   * @param metricRegistry Where to report hits, misses, evictions, rejections and size.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public InMemoryQuizSessionStore(
+      long maximumPrompts,
+      @NonNull Duration expireAfter,
+      boolean rejectWhenFull,
+      @NonNull Duration retryAfter,
+      @NonNull MetricRegistry metricRegistry) {
+    Preconditions.checkArgument(maximumPrompts > 0, "maximumPrompts must be greater than 0");
+    this.maximumPrompts = maximumPrompts;
+    this.rejectWhenFull = rejectWhenFull;
+    this.retryAfter = retryAfter;
+
+    CacheBuilder<Object, Object> cacheBuilder =
+        CacheBuilder.newBuilder().expireAfterWrite(expireAfter).recordStats();
+    if (!rejectWhenFull) {
+      // Otherwise admission in put keeps the store within its bounds, and nothing is evicted early.
+      cacheBuilder.maximumWeight(maximumPrompts).weigher((String id, Quiz quiz) -> weigh(quiz));
+    }
+    quizzes =
+        cacheBuilder
+            .removalListener(
+                (RemovalNotification<String, Quiz> removal) ->
+                    prompts.addAndGet(-weigh(removal.getValue())))
+            .build();
+
+    rejections = metricRegistry.meter(name("rejections"));
+    metricRegistry.register(name("hits"), (Gauge<Long>) () -> quizzes.stats().hitCount());
+    metricRegistry.register(name("misses"), (Gauge<Long>) () -> quizzes.stats().missCount());
+    metricRegistry.register(name("evictions"), (Gauge<Long>) () -> quizzes.stats().evictionCount());
+    metricRegistry.register(name("size"), (Gauge<Long>) this::size);
+    metricRegistry.register(name("prompts"), (Gauge<Long>) this::getPrompts);
+  }
+
+  private static String name(String metric) {
+    return MetricRegistry.name(QuizSessionStore.class, metric);
+  }
+
+  /**
+   * How much room a quiz takes up in the store.
+   *
+   * @param quiz The quiz.
+   * @return The number of prompts in the quiz, but at least one.
+   */
+  private static int weigh(Quiz quiz) {
+    return quiz == null || quiz.getPrompts() == null ? 1 : Math.max(1, quiz.getPrompts().size());
+  }
+
+  @Override
+  public void put(@NonNull Quiz quiz) throws RetryLaterException {
+    int weight = weigh(quiz);
+    if (!rejectWhenFull) {
+      prompts.addAndGet(weight);
+    } else if (!reserve(weight)) {
+      // Expired quizzes are only cleaned up lazily, so make sure they are gone before refusing.
+      quizzes.cleanUp();
+      if (!reserve(weight)) {
+        rejections.mark();
+        throw new RetryLaterException("Too many quizzes in progress, try again later", retryAfter);
+      }
+    }
+    quizzes.put(quiz.getId(), quiz);
+  }
+
+  /**
+   * Claim room for a quiz, if there is enough left.
+   *
+   * @param weight The room the quiz takes up.
+   * @return Whether the room was claimed.
+   */
+  private boolean reserve(int weight) {
+    long current;
+    do {
+      current = prompts.get();
+      if (current + weight > maximumPrompts) {
+        return false;
+      }
+    } while (!prompts.compareAndSet(current, current + weight));
+    return true;
+  }
+
+  @Override
+  public Optional<Quiz> get(@NonNull String id) {
+    return Optional.ofNullable(quizzes.getIfPresent(id));
+  }
+
+  @Override
+  public boolean contains(@NonNull String id) {
+    return quizzes.asMap().containsKey(id);
+  }
+
+  @Override
+  public long size() {
+    return quizzes.size();
+  }
+
+  /**
+   * The prompts, summed across all quizzes held.
+   *
+   * @return The room currently taken up in the store.
+   */
+  public long getPrompts() {
+    return prompts.get();
+  }
+}
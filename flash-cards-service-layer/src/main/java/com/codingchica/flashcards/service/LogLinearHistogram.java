@@ -0,0 +1,124 @@
+package com.codingchica.flashcards.service;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts values from zero up to a highest trackable value in buckets laid out the way HdrHistogram
+ * lays them out: the values below a power of two set by the significant digits each get their own
+ * bucket, and each doubling above that gets the same number of buckets, each twice as wide as the
+ * last. So a value is always counted to within the requested precision, in an array whose length
+ * grows with the logarithm of the highest value rather than with the value itself.
+ *
+ * <p>Recording a value finds its bucket with a couple of shifts and increments one counter
+ * atomically, so it takes constant time, allocates nothing and takes no locks. Values above the
+ * highest trackable value are counted as the highest.
+ */
+class LogLinearHistogram {
+  private final long highestTrackableValue;
+
+  /** The number of bits to shift the buckets of each doubling by, less one. */
+  private final int subBucketHalfCountMagnitude;
+
+  private final int subBucketHalfCount;
+
+  /** The values below subBucketCount, which each get their own bucket. */
+  private final long subBucketMask;
+
+  private final AtomicLongArray counts;
+
+  /**
+   * Constructor.
+   *
+   * @param highestTrackableValue The highest value told apart from higher ones.
+   * @param significantDigits The decimal digits to which values are told apart.
+   */
+  LogLinearHistogram(long highestTrackableValue, int significantDigits) {
+    Preconditions.checkArgument(
+        highestTrackableValue > 0, "highestTrackableValue must be positive");
+    Preconditions.checkArgument(
+        significantDigits >= 1 && significantDigits <= 5,
+        "significantDigits must be between 1 and 5");
+    this.highestTrackableValue = highestTrackableValue;
+    // Enough buckets below the first doubling to tell apart values one unit in 10^digits apart.
+    long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+    int subBucketCountMagnitude =
+        64 - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+    subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+    subBucketHalfCount = 1 << subBucketHalfCountMagnitude;
+    subBucketMask = (1L << subBucketCountMagnitude) - 1;
+    counts = new AtomicLongArray(indexOf(highestTrackableValue) + 1);
+  }
+
+  /**
+   * Count a value.
+   *
+   * @param value The value, with negative values counted as zero.
+   */
+  void record(long value) {
+    counts.incrementAndGet(indexOf(Math.max(0, Math.min(value, highestTrackableValue))));
+  }
+
+  /**
+   * Find the bucket a value is counted in.
+   *
+   * @param value The value, from zero to the highest trackable value.
+   * @return The index of its bucket.
+   */
+  private int indexOf(long value) {
+    int bucketIndex = 64 - Long.numberOfLeadingZeros(value | subBucketMask) - 1;
+    bucketIndex -= subBucketHalfCountMagnitude;
+    int subBucketIndex = (int) (value >>> bucketIndex);
+    return (bucketIndex << subBucketHalfCountMagnitude) + subBucketIndex;
+  }
+
+  /**
+   * Find the highest value counted in a bucket.
+   *
+   * @param index The index of the bucket.
+   * @return The highest value which would be counted in it.
+   */
+  long highestValueAt(int index) {
+    int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+    int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+    if (bucketIndex < 0) {
+      subBucketIndex -= subBucketHalfCount;
+      bucketIndex = 0;
+    }
+    return Math.min(((long) subBucketIndex + 1 << bucketIndex) - 1, highestTrackableValue);
+  }
+
+  /**
+   * Copy the counts, e.g. to compare them with those of an earlier copy. Values counted while they
+   * are copied may or may not be included.
+   *
+   * @return The count in each bucket.
+   */
+  long[] copyCounts() {
+    long[] copy = new long[counts.length()];
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = counts.get(i);
+    }
+    return copy;
+  }
+
+  /**
+   * Find the value at or below which a percentage of the values counted fall.
+   *
+   * @param counts The count in each bucket, as copied from this histogram.
+   * @param total The sum of those counts.
+   * @param percentile The percentage of values, e.g. 99.
+   * @return The highest value in the bucket holding that value, or zero if nothing was counted.
+   */
+  long valueAtPercentile(long[] counts, long total, double percentile) {
+    long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long countToIndex = 0;
+    for (int i = 0; i < counts.length; i++) {
+      countToIndex += counts[i];
+      if (countToIndex >= countAtPercentile) {
+        return highestValueAt(i);
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,724 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import io.dropwizard.lifecycle.Managed;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps graded quizzes in memory-mapped segment files on local disk, in a compact binary format, so
+ * that the results saved for a quiz within a time range can be found without reading every file
+ * from the start.
+ *
+ * <p>Segments are fixed-size files, numbered in the order they were started, each mapped into
+ * memory whole. Results are stamped with the time they were saved, which never goes backwards, and
+ * appended to the latest segment until the next would not fit, when the next segment is started.
+ * Each result is a record: its length, a CRC32 of the body, then the time saved, the name of the
+ * quiz and its counts as variable-length integers. The rest of a segment is left zeroed, a zero
+ * length marking the end of its records. Each append returns once its records are flushed to disk.
+ *
+ * <p>Each segment has a sparse index: the time saved of the first record starting in each
+ * INDEX_INTERVAL bytes of it. A range query skips the segments outside the range, binary searches
+ * the index of the rest for where to start, then steps from record to record, reading times and
+ * names straight from the mapped segment, and only decoding the results which match. Names are
+ * matched ignoring case, as the decks are looked up. The index is rebuilt on start, while checking
+ * the records against their checksums. A record torn by a crash ends the latest segment, and is
+ * cleared before appending to it again.
+ */
+public class MappedQuizResultStore implements QuizResultStore, QuizResultHistory, Managed {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MappedQuizResultStore.class);
+
+  /** Segment files, in the order they were started: quiz-results-00000001.seg, and so on. */
+  private static final Pattern SEGMENT = Pattern.compile("quiz-results-(\\d{8})\\.seg");
+
+  /** Marks a quiz results segment, spelling FCQR. */
+  private static final int MAGIC = 0x46435152;
+
+  private static final int FORMAT = 1;
+
+  private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+  /** The length and checksum preceding the body of each record. */
+  private static final int RECORD_FRAME_BYTES = 2 * Integer.BYTES;
+
+  private static final int MAXIMUM_VARINT_BYTES = 5;
+
+  /** The smallest segment allowed, so that any reasonably named quiz fits. */
+  private static final long MINIMUM_SEGMENT_SIZE = 1024;
+
+  /** How many bytes of records an index entry covers, at most. */
+  static final int INDEX_INTERVAL = 4096;
+
+  /** The directory holding the segment files. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Path directory;
+
+  /** The size of each new segment. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int segmentSize;
+
+  /** The clock results are stamped from. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Clock clock;
+
+  private final Timer commits;
+  private final Histogram commitSizes;
+
+  /** Guards appending, starting and stopping. */
+  private final Lock lock = new ReentrantLock();
+
+  /** The segments, oldest first, while started. Replaced, rather than changed, under the lock. */
+  private volatile List<Segment> segments = List.of();
+
+  /** The time the latest result was saved, which the next may not be stamped before. */
+  private long lastSavedMillis = Long.MIN_VALUE;
+
+  /**
+   * Constructor.
+   *
+   * @param directory The directory holding the segment files, created if needed.
+   * @param segmentSize The size, in bytes, of each new segment, from 1 KiB up to 2 GiB.
+   * @param clock The clock results are stamped from, defaulting to the system clock.
+   * @param metricRegistry Where to report flush times and the number of results per flush.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public MappedQuizResultStore(
+      @NonNull Path directory,
+      long segmentSize,
+      Clock clock,
+      @NonNull MetricRegistry metricRegistry) {
+    Preconditions.checkArgument(
+        segmentSize >= MINIMUM_SEGMENT_SIZE && segmentSize <= Integer.MAX_VALUE,
+        "segmentSize must be from 1 KiB up to 2 GiB");
+    this.directory = directory;
+    this.segmentSize = (int) segmentSize;
+    this.clock = clock == null ? Clock.systemUTC() : clock;
+
+    commits = metricRegistry.timer(MetricRegistry.name(QuizResultStore.class, "commits"));
+    commitSizes =
+        metricRegistry.histogram(MetricRegistry.name(QuizResultStore.class, "commitSizes"));
+  }
+
+  /**
+   * The file name of a segment.
+   *
+   * @param segmentNumber The number of the segment.
+   * @return The file name, which sorts in the order the segments were started.
+   */
+  static String segmentName(int segmentNumber) {
+    return String.format("quiz-results-%08d.seg", segmentNumber);
+  }
+
+  @Override
+  public void append(@NonNull List<QuizResult> quizResults) throws RenderableException {
+    if (quizResults.isEmpty()) {
+      return;
+    }
+    lock.lock();
+    try (Timer.Context ignored = commits.time()) {
+      Preconditions.checkState(!segments.isEmpty(), "the store must be started before use");
+      long savedAtMillis = Math.max(clock.millis(), lastSavedMillis);
+      List<ByteBuffer> records = new ArrayList<>(quizResults.size());
+      for (QuizResult quizResult : quizResults) {
+        records.add(encode(savedAtMillis, quizResult));
+      }
+      Segment segment = segments.get(segments.size() - 1);
+      int start = segment.position;
+      try {
+        for (ByteBuffer record : records) {
+          if (!segment.fits(record.remaining())) {
+            segment.publish(start);
+            // Nothing is left to discard, should starting the next segment fail.
+            start = segment.position;
+            segment = startSegment(segment.number + 1);
+            start = segment.position;
+          }
+          segment.write(record, savedAtMillis);
+        }
+        segment.publish(start);
+      } catch (IOException e) {
+        segment.discardFrom(start);
+        throw e;
+      }
+      lastSavedMillis = savedAtMillis;
+      commitSizes.update(quizResults.size());
+    } catch (IOException e) {
+      LOGGER.error("Unable to save quiz results", e);
+      throw new RenderableException(
+          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results.");
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Serialize a result as a record: its length, a CRC32 of the body, then the body.
+   *
+   * @param savedAtMillis When the result was saved.
+   * @param quizResult The result.
+   * @return A buffer holding the record.
+   * @throws IOException If the record could not fit in a segment.
+   */
+  private ByteBuffer encode(long savedAtMillis, QuizResult quizResult) throws IOException {
+    byte[] nameBytes = Strings.nullToEmpty(quizResult.getName()).getBytes(StandardCharsets.UTF_8);
+    int maximumLength =
+        RECORD_FRAME_BYTES + Long.BYTES + Short.BYTES + nameBytes.length + 5 * MAXIMUM_VARINT_BYTES;
+    if (nameBytes.length > 0xFFFF || maximumLength > segmentSize - HEADER_BYTES) {
+      throw new IOException(
+          "A quiz name of " + nameBytes.length + " bytes is too long to save in a segment");
+    }
+    ByteBuffer record = ByteBuffer.allocate(maximumLength).position(RECORD_FRAME_BYTES);
+    record.putLong(savedAtMillis).putShort((short) nameBytes.length).put(nameBytes);
+    putVarint(record, quizResult.getPromptCount());
+    putVarint(record, quizResult.getCorrectAnswers());
+    putVarint(record, quizResult.getPercentage());
+    putVarint(record, quizResult.getTimeMinutes());
+    putVarint(record, quizResult.getTimeSeconds());
+    int length = record.position() - RECORD_FRAME_BYTES;
+    CRC32 crc = new CRC32();
+    crc.update(record.slice(RECORD_FRAME_BYTES, length));
+    record.putInt(0, length).putInt(Integer.BYTES, (int) crc.getValue());
+    return record.flip();
+  }
+
+  /**
+   * Start the next segment. Called with the lock held.
+   *
+   * @param number The number of the segment.
+   * @return The new segment, which results are appended to from now on.
+   */
+  private Segment startSegment(int number) throws IOException {
+    Segment segment = Segment.create(directory.resolve(segmentName(number)), number, segmentSize);
+    List<Segment> started = new ArrayList<>(segments);
+    started.add(segment);
+    segments = List.copyOf(started);
+    return segment;
+  }
+
+  @Override
+  public void forEach(
+      String name,
+      @NonNull Instant from,
+      @NonNull Instant to,
+      @NonNull Consumer<SavedQuizResult> action) {
+    List<Segment> current = segments;
+    Preconditions.checkState(!current.isEmpty(), "the store must be started before use");
+    byte[] nameBytes =
+        name == null ? null : DeckCatalog.normalizeName(name).getBytes(StandardCharsets.UTF_8);
+    long fromMillis = ceilingMillis(from);
+    long toMillis = ceilingMillis(to);
+    for (Segment segment : current) {
+      if (!segment.forEach(nameBytes, fromMillis, toMillis, action)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Find the segments holding only results saved before a time, e.g. to roll them up and remove
+   * them. The latest segment, which results are appended to, is never one of them.
+   *
+   * @param before The time before which every result in a segment must have been saved.
+   * @return The numbers of the segments, oldest first.
+   */
+  public List<Integer> getSegmentsSavedBefore(@NonNull Instant before) {
+    List<Segment> current = segments;
+    Preconditions.checkState(!current.isEmpty(), "the store must be started before use");
+    long beforeMillis = ceilingMillis(before);
+    List<Integer> numbers = new ArrayList<>();
+    for (Segment segment : current.subList(0, current.size() - 1)) {
+      if (segment.lastMillis >= beforeMillis) {
+        break;
+      }
+      numbers.add(segment.number);
+    }
+    return numbers;
+  }
+
+  /**
+   * Pass every result in a segment to an action, in the order they were saved.
+   *
+   * @param segmentNumber The number of the segment.
+   * @param action What to do with each result.
+   */
+  public void forEachInSegment(int segmentNumber, @NonNull Consumer<SavedQuizResult> action) {
+    Segment segment =
+        segments.stream()
+            .filter(candidate -> candidate.number == segmentNumber)
+            .findFirst()
+            .orElseThrow(
+                () -> new IllegalArgumentException("no segment numbered " + segmentNumber));
+    segment.forEach(null, Long.MIN_VALUE, Long.MAX_VALUE, action);
+  }
+
+  /**
+   * Stop reading the segments up to a number, then delete their files, or move them to an archive
+   * directory. The latest segment is never removed. Readers already going through a segment carry
+   * on reading it from memory.
+   *
+   * @param throughSegment The number of the last segment to remove.
+   * @param archiveDirectory Where to move the files, created if needed, or null to delete them.
+   * @return The number of segments removed.
+   * @throws IOException If a file cannot be deleted or moved. The segments are no longer read
+   *     either way.
+   */
+  public int removeSegmentsThrough(int throughSegment, Path archiveDirectory) throws IOException {
+    List<Segment> removed = new ArrayList<>();
+    lock.lock();
+    try {
+      List<Segment> current = segments;
+      Preconditions.checkState(!current.isEmpty(), "the store must be started before use");
+      List<Segment> kept = new ArrayList<>(current.size());
+      for (Segment segment : current) {
+        if (segment.number <= throughSegment && segment != current.get(current.size() - 1)) {
+          removed.add(segment);
+        } else {
+          kept.add(segment);
+        }
+      }
+      segments = List.copyOf(kept);
+    } finally {
+      lock.unlock();
+    }
+    if (archiveDirectory != null && !removed.isEmpty()) {
+      Files.createDirectories(archiveDirectory);
+    }
+    for (Segment segment : removed) {
+      Path path = directory.resolve(segmentName(segment.number));
+      if (archiveDirectory == null) {
+        Files.deleteIfExists(path);
+      } else {
+        Files.move(
+            path,
+            archiveDirectory.resolve(path.getFileName()),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    return removed.size();
+  }
+
+  /**
+   * The first whole millisecond at or after an instant, which results are stamped to.
+   *
+   * @param instant The instant.
+   * @return The millisecond since the epoch, saturating at the ends of a long.
+   */
+  static long ceilingMillis(Instant instant) {
+    try {
+      return Math.addExact(instant.toEpochMilli(), instant.getNano() % 1_000_000 == 0 ? 0 : 1);
+    } catch (ArithmeticException e) {
+      return instant.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * Open the segments, rebuilding their indexes and clearing any record torn by a crash from the
+   * latest.
+   *
+   * @throws Exception If the directory cannot be read or written, or holds a file which is not a
+   *     quiz results segment.
+   */
+  @Override
+  public void start() throws Exception {
+    Files.createDirectories(directory);
+    TreeMap<Integer, Path> paths = new TreeMap<>();
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Matcher matcher = SEGMENT.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+          paths.put(Integer.parseInt(matcher.group(1)), file);
+        }
+      }
+    }
+    lock.lock();
+    try {
+      List<Segment> opened = new ArrayList<>(paths.size());
+      for (var path : paths.entrySet()) {
+        Segment segment =
+            Segment.open(path.getValue(), path.getKey(), path.getKey().equals(paths.lastKey()));
+        opened.add(segment);
+        lastSavedMillis = Math.max(lastSavedMillis, segment.lastMillis);
+      }
+      segments = List.copyOf(opened);
+      if (opened.isEmpty()) {
+        startSegment(1);
+      }
+    } finally {
+      lock.unlock();
+    }
+    LOGGER.info("Keeping quiz results in {} segments in {}", segments.size(), directory);
+  }
+
+  /** Stop appending. Results appended have already been flushed to disk. */
+  @Override
+  public void stop() {
+    lock.lock();
+    try {
+      segments = List.of();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void putVarint(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static int getVarint(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+
+  /**
+   * A segment file, mapped into memory whole. Appended to by one thread at a time, under the
+   * store's lock, while any number of threads read the records published so far.
+   */
+  private static final class Segment {
+    private final int number;
+    private final MappedByteBuffer buffer;
+
+    /** Where the next record goes. Guarded by the store's lock. */
+    private int position = HEADER_BYTES;
+
+    /** The end of the records flushed to disk, which is as far as readers read. */
+    private volatile int limit = HEADER_BYTES;
+
+    /** The time the last record published was saved. */
+    private volatile long lastMillis = Long.MIN_VALUE;
+
+    /** The time saved of the first record starting in each INDEX_INTERVAL bytes. */
+    private long[] indexMillis = new long[16];
+
+    /** Where each record indexed starts. */
+    private int[] indexOffsets = new int[16];
+
+    /** The number of index entries, read before the arrays, which are only ever grown. */
+    private volatile int indexEntries;
+
+    /** The time the last record written was saved. Guarded by the store's lock. */
+    private long writtenMillis = Long.MIN_VALUE;
+
+    private Segment(int number, MappedByteBuffer buffer) {
+      this.number = number;
+      this.buffer = buffer;
+    }
+
+    /**
+     * Create a segment file, and map it into memory whole.
+     *
+     * @param path The file, which must not exist yet.
+     * @param number The number of the segment.
+     * @param size The size of the segment.
+     * @return The new, empty segment.
+     */
+    static Segment create(Path path, int number, int size) throws IOException {
+      MappedByteBuffer buffer;
+      try (FileChannel channel =
+          FileChannel.open(
+              path,
+              StandardOpenOption.CREATE_NEW,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE)) {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      }
+      buffer.putInt(0, MAGIC).putInt(Integer.BYTES, FORMAT);
+      buffer.force(0, HEADER_BYTES);
+      return new Segment(number, buffer);
+    }
+
+    /**
+     * Map an existing segment file into memory, and rebuild its index from its records.
+     *
+     * @param path The file.
+     * @param number The number of the segment.
+     * @param latest Whether it is the latest segment, to be appended to, from which anything after
+     *     the last intact record is cleared.
+     * @return The segment.
+     * @throws IOException If the file cannot be read, or is not a quiz results segment.
+     */
+    static Segment open(Path path, int number, boolean latest) throws IOException {
+      MappedByteBuffer buffer;
+      try (FileChannel channel =
+          FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+          throw new IOException(path + " is not a quiz results segment");
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      }
+      if (buffer.getInt(0) == 0 && buffer.getInt(Integer.BYTES) == 0) {
+        // Created, but the header was never flushed.
+        buffer.putInt(0, MAGIC).putInt(Integer.BYTES, FORMAT);
+        buffer.force(0, HEADER_BYTES);
+      } else if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT) {
+        throw new IOException(path + " is not a quiz results segment");
+      }
+      Segment segment = new Segment(number, buffer);
+      segment.recover(path, latest);
+      return segment;
+    }
+
+    /**
+     * Step through the records, checking them against their checksums and indexing them, up to the
+     * first which is missing, torn or corrupt.
+     *
+     * @param path The file, for logging.
+     * @param latest Whether anything after the last intact record is to be cleared.
+     */
+    private void recover(Path path, boolean latest) {
+      CRC32 crc = new CRC32();
+      int capacity = buffer.capacity();
+      while (capacity - position >= RECORD_FRAME_BYTES) {
+        int length = buffer.getInt(position);
+        if (length == 0) {
+          break;
+        }
+        int body = position + RECORD_FRAME_BYTES;
+        if (length < Long.BYTES || length > capacity - body) {
+          LOGGER.warn("Ignoring a torn or corrupt record at {} in {}", position, path);
+          break;
+        }
+        crc.reset();
+        crc.update(buffer.slice(body, length));
+        if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+          LOGGER.warn("Ignoring the rest of {}, after a corrupt record at {}", path, position);
+          break;
+        }
+        index(buffer.getLong(body));
+        position = body + length;
+      }
+      if (latest) {
+        clearFrom(path, position);
+      }
+      lastMillis = writtenMillis;
+      limit = position;
+    }
+
+    /**
+     * Zero anything left after the last intact record, so that it cannot be mistaken for records
+     * once appended to.
+     */
+    private void clearFrom(Path path, int from) {
+      int end = buffer.capacity();
+      while (end > from && buffer.get(end - 1) == 0) {
+        end--;
+      }
+      if (end > from) {
+        LOGGER.warn("Clearing {} bytes after the last intact record in {}", end - from, path);
+        byte[] zeros = new byte[Math.min(end - from, 1 << 16)];
+        for (int offset = from; offset < end; offset += zeros.length) {
+          buffer.put(offset, zeros, 0, Math.min(zeros.length, end - offset));
+        }
+        buffer.force(from, end - from);
+      }
+    }
+
+    boolean fits(int recordLength) {
+      return buffer.capacity() - position >= recordLength;
+    }
+
+    /**
+     * Copy a record into the segment, without publishing it to readers yet.
+     *
+     * @param record The record.
+     * @param savedAtMillis When the result was saved.
+     */
+    void write(ByteBuffer record, long savedAtMillis) {
+      int length = record.remaining();
+      index(savedAtMillis);
+      buffer.put(position, record, record.position(), length);
+      position += length;
+    }
+
+    /**
+     * Add an index entry for the record starting at position, if it is the first in its interval.
+     */
+    private void index(long savedAtMillis) {
+      int entries = indexEntries;
+      if (entries == 0 || position / INDEX_INTERVAL > indexOffsets[entries - 1] / INDEX_INTERVAL) {
+        if (entries == indexMillis.length) {
+          indexMillis = Arrays.copyOf(indexMillis, entries * 2);
+          indexOffsets = Arrays.copyOf(indexOffsets, entries * 2);
+        }
+        indexMillis[entries] = savedAtMillis;
+        indexOffsets[entries] = position;
+        indexEntries = entries + 1;
+      }
+      writtenMillis = savedAtMillis;
+    }
+
+    /**
+     * Flush the records written since start to disk, then let readers see them.
+     *
+     * @param start Where the first record not yet published starts.
+     */
+    void publish(int start) {
+      if (position > start) {
+        buffer.force(start, position - start);
+        lastMillis = writtenMillis;
+        limit = position;
+      }
+    }
+
+    /**
+     * Clear the records written, but not published, after a failure, to be written again.
+     *
+     * @param start Where the first record not yet published starts.
+     */
+    void discardFrom(int start) {
+      buffer.put(start, new byte[position - start]);
+      position = start;
+    }
+
+    /**
+     * Pass each record published within a time range, and for the quiz asked for, to an action.
+     *
+     * @param nameBytes The name of the quiz, normalized and encoded, or null for every quiz.
+     * @param fromMillis The earliest time saved to include.
+     * @param toMillis The time saved from which to stop.
+     * @param action What to do with each result.
+     * @return Whether later segments may hold results within the range.
+     */
+    boolean forEach(
+        byte[] nameBytes, long fromMillis, long toMillis, Consumer<SavedQuizResult> action) {
+      int end = limit;
+      int entries = indexEntries;
+      if (end == HEADER_BYTES || lastMillis < fromMillis) {
+        return true;
+      }
+      long[] millis = indexMillis;
+      if (millis[0] >= toMillis) {
+        return false;
+      }
+      int position = seek(millis, indexOffsets, entries, fromMillis);
+      while (position < end) {
+        int body = position + RECORD_FRAME_BYTES;
+        long savedAtMillis = buffer.getLong(body);
+        if (savedAtMillis >= toMillis) {
+          return false;
+        }
+        int length = buffer.getInt(position);
+        if (savedAtMillis >= fromMillis
+            && (nameBytes == null || nameMatches(body + Long.BYTES, nameBytes))) {
+          action.accept(decode(body, length));
+        }
+        position = body + length;
+      }
+      return true;
+    }
+
+    /**
+     * Find where to start reading for records saved from a time: the last record indexed before
+     * then, as every record before it was saved no later.
+     */
+    private static int seek(long[] millis, int[] offsets, int entries, long fromMillis) {
+      int low = 0;
+      int high = entries - 1;
+      int found = -1;
+      while (low <= high) {
+        int middle = (low + high) >>> 1;
+        if (millis[middle] < fromMillis) {
+          found = middle;
+          low = middle + 1;
+        } else {
+          high = middle - 1;
+        }
+      }
+      return found < 0 ? HEADER_BYTES : offsets[found];
+    }
+
+    /**
+     * Compare the name of a record with the one asked for, ignoring case as {@link
+     * DeckCatalog#normalizeName} does. ASCII names, the usual case, are compared in place, lower
+     * casing each byte. A name holding anything else is decoded and normalized.
+     *
+     * @param offset Where the name of the record starts.
+     * @param nameBytes The name asked for, normalized and encoded.
+     * @return Whether the names match.
+     */
+    private boolean nameMatches(int offset, byte[] nameBytes) {
+      int length = Short.toUnsignedInt(buffer.getShort(offset));
+      for (int i = 0; i < length; i++) {
+        byte b = buffer.get(offset + Short.BYTES + i);
+        if (b < 0) {
+          byte[] recordName = new byte[length];
+          buffer.get(offset + Short.BYTES, recordName);
+          return Arrays.equals(
+              DeckCatalog.normalizeName(new String(recordName, StandardCharsets.UTF_8))
+                  .getBytes(StandardCharsets.UTF_8),
+              nameBytes);
+        }
+        // An ASCII byte lower cases to itself or its lower case letter alone.
+        if (i >= nameBytes.length || toLowerCase(b) != nameBytes[i]) {
+          return false;
+        }
+      }
+      return length == nameBytes.length;
+    }
+
+    private static byte toLowerCase(byte b) {
+      return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private SavedQuizResult decode(int body, int length) {
+      ByteBuffer record = buffer.slice(body, length);
+      long savedAtMillis = record.getLong();
+      byte[] nameBytes = new byte[Short.toUnsignedInt(record.getShort())];
+      record.get(nameBytes);
+      return SavedQuizResult.builder()
+          .savedAt(Instant.ofEpochMilli(savedAtMillis))
+          .quizResult(
+              QuizResult.builder()
+                  .name(new String(nameBytes, StandardCharsets.UTF_8))
+                  .promptCount(getVarint(record))
+                  .correctAnswers(getVarint(record))
+                  .percentage(getVarint(record))
+                  .timeMinutes(getVarint(record))
+                  .timeSeconds(getVarint(record))
+                  .build())
+          .build();
+    }
+  }
+}
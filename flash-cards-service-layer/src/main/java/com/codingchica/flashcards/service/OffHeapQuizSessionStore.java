@@ -0,0 +1,551 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Keeps quizzes in progress outside the Java heap, so that millions of them add nothing for the
+ * garbage collector to trace. Each quiz is written as a compact record, holding its ID, times, deck
+ * handle, seed and prompt IDs, and is rebuilt into a Quiz over the shared, on-heap deck when read.
+ *
+ * <p>Records are appended to fixed-size direct buffer slabs, used in turn as a ring, so the slabs
+ * stay in the order quizzes were handed out. Expired and replaced records are only marked dead; a
+ * slab is reused once the ring comes back around to it. When that slab still holds live quizzes,
+ * they are either evicted together, being the oldest in the store, or the new quiz is refused with
+ * a RetryLaterException. Expired quizzes are swept in the background while the store is started.
+ *
+ * <p>Only quizzes with UUID IDs whose prompts are a DeckPromptList can be stored, which is what the
+ * QuizService hands out.
+ */
+public class OffHeapQuizSessionStore implements QuizSessionStore, Managed {
+  private static final int MOST_SIGNIFICANT_BITS = 0;
+  private static final int LEAST_SIGNIFICANT_BITS = 8;
+  private static final int PUT_MILLIS = 16;
+  private static final int CREATED_MILLIS = 24;
+  private static final int SEED = 32;
+  private static final int DECK_HANDLE = 40;
+  private static final int PROMPT_COUNT = 44;
+  private static final int ALIVE = 48;
+  private static final int PROMPT_ID_WIDTH = 49;
+  private static final int PROMPT_IDS = 50;
+
+  /** The largest deck whose prompt IDs fit in two bytes each. */
+  private static final int MAXIMUM_NARROW_PROMPT_COUNT = 1 << Character.SIZE;
+
+  private static final Duration MINIMUM_SWEEP_INTERVAL = Duration.ofSeconds(1);
+  private static final Duration MAXIMUM_SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+  /** The size of each slab, in bytes, which bounds the size of a single quiz. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int slabSize;
+
+  /** How long after being handed out a quiz may still be graded. */
+  private final long expireAfterMillis;
+
+  /** Whether new quizzes are refused, rather than older ones evicted, when full. */
+  @Getter(AccessLevel.PACKAGE)
+  private final boolean rejectWhenFull;
+
+  /** How long clients are asked to wait after a refusal. */
+  private final Duration retryAfter;
+
+  /** How often expired quizzes are swept while the store is started. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration sweepInterval;
+
+  @Getter(AccessLevel.PACKAGE)
+  private final Clock clock;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final QuizSessionIndex index = new QuizSessionIndex();
+
+  /** The slabs, allocated the first time the ring reaches them. */
+  private final ByteBuffer[] slabs;
+
+  /** The bytes written to each slab since it was last reset. */
+  private final int[] slabUsed;
+
+  /** The live records in each slab. */
+  private final int[] slabLive;
+
+  /** The slab being appended to. */
+  private int currentSlab;
+
+  /** The decks referenced by live records, by handle, with how many records reference each. */
+  private Deck[] decks = new Deck[16];
+
+  private int[] deckReferences = new int[16];
+  private final Map<Deck, Integer> deckHandles = new IdentityHashMap<>();
+  private final Deque<Integer> freeDeckHandles = new ArrayDeque<>();
+  private int nextDeckHandle;
+
+  /** The prompts, summed across all quizzes held. */
+  private long prompts;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final Meter rejections;
+  private final ScheduledExecutorService sweeper =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "quiz-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Constructor.
+   *
+   * @param slabSize The size of each slab, in bytes.
+   * @param capacity The most off-heap memory to use, in bytes, rounded down to whole slabs.
+   * @param expireAfter How long after being handed out a quiz may still be graded.
+   * @param rejectWhenFull Whether new quizzes are refused, rather than older ones evicted, when
+   *     full.
+   * @param retryAfter How long clients are asked to wait after a refusal.
+   * @param metricRegistry Where to report hits, misses, evictions, rejections and size.
+   * @param clock The clock against which quizzes expire, defaulting to the system clock.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public OffHeapQuizSessionStore(
+      int slabSize,
+      long capacity,
+      @NonNull Duration expireAfter,
+      boolean rejectWhenFull,
+      @NonNull Duration retryAfter,
+      @NonNull MetricRegistry metricRegistry,
+      Clock clock) {
+    Preconditions.checkArgument(
+        slabSize >= PROMPT_IDS, "slabSize must be at least %s bytes", PROMPT_IDS);
+    Preconditions.checkArgument(capacity >= slabSize, "capacity must be at least slabSize");
+    Preconditions.checkArgument(
+        capacity / slabSize <= Integer.MAX_VALUE,
+        "capacity must be at most %s slabs",
+        Integer.MAX_VALUE);
+    Preconditions.checkArgument(
+        !expireAfter.isNegative() && !expireAfter.isZero(), "expireAfter must be positive");
+    this.slabSize = slabSize;
+    this.expireAfterMillis = expireAfter.toMillis();
+    this.rejectWhenFull = rejectWhenFull;
+    this.retryAfter = retryAfter;
+    this.clock = clock == null ? Clock.systemUTC() : clock;
+
+    Duration interval = expireAfter.dividedBy(16);
+    if (interval.compareTo(MINIMUM_SWEEP_INTERVAL) < 0) {
+      interval = MINIMUM_SWEEP_INTERVAL;
+    } else if (interval.compareTo(MAXIMUM_SWEEP_INTERVAL) > 0) {
+      interval = MAXIMUM_SWEEP_INTERVAL;
+    }
+    this.sweepInterval = interval;
+
+    int slabCount = (int) (capacity / slabSize);
+    slabs = new ByteBuffer[slabCount];
+    slabUsed = new int[slabCount];
+    slabLive = new int[slabCount];
+
+    rejections = metricRegistry.meter(name("rejections"));
+    metricRegistry.register(name("hits"), (Gauge<Long>) hits::sum);
+    metricRegistry.register(name("misses"), (Gauge<Long>) misses::sum);
+    metricRegistry.register(name("evictions"), (Gauge<Long>) evictions::sum);
+    metricRegistry.register(name("size"), (Gauge<Long>) this::size);
+    metricRegistry.register(name("prompts"), (Gauge<Long>) this::getPrompts);
+    metricRegistry.register(name("offHeapBytes"), (Gauge<Long>) this::getOffHeapBytes);
+  }
+
+  private static String name(String metric) {
+    return MetricRegistry.name(QuizSessionStore.class, metric);
+  }
+
+  /**
+   * Encode a slab and an offset within it as a single address.
+   *
+   * @param slab The slab number.
+   * @param offset The offset of the record within the slab.
+   * @return The address of the record.
+   */
+  private static long address(int slab, int offset) {
+    return ((long) slab << Integer.SIZE) | offset;
+  }
+
+  private static int slabOf(long address) {
+    return (int) (address >>> Integer.SIZE);
+  }
+
+  private static int offsetOf(long address) {
+    return (int) address;
+  }
+
+  @Override
+  public void put(@NonNull Quiz quiz) throws RetryLaterException {
+    UUID id = UUID.fromString(quiz.getId());
+    Preconditions.checkArgument(
+        quiz.getPrompts() instanceof DeckPromptList,
+        "prompts must be drawn from a deck to be stored off-heap");
+    DeckPromptList promptList = (DeckPromptList) quiz.getPrompts();
+    Deck deck = promptList.getDeck();
+    int promptCount = promptList.size();
+    int width =
+        deck.getPromptCount() <= MAXIMUM_NARROW_PROMPT_COUNT ? Character.BYTES : Integer.BYTES;
+    long recordSize = PROMPT_IDS + (long) promptCount * width;
+    Preconditions.checkArgument(
+        recordSize <= slabSize, "quiz of %s bytes does not fit in a slab", recordSize);
+
+    lock.writeLock().lock();
+    try {
+      long now = clock.millis();
+      if (slabUsed[currentSlab] + recordSize > slabSize) {
+        advance(now);
+      }
+      long previous = index.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+      if (previous != QuizSessionIndex.NONE) {
+        kill(previous);
+      }
+
+      int offset = slabUsed[currentSlab];
+      ByteBuffer slab = slab(currentSlab);
+      slab.putLong(offset + MOST_SIGNIFICANT_BITS, id.getMostSignificantBits());
+      slab.putLong(offset + LEAST_SIGNIFICANT_BITS, id.getLeastSignificantBits());
+      slab.putLong(offset + PUT_MILLIS, now);
+      slab.putLong(offset + CREATED_MILLIS, quiz.getCreatedDateTime().toEpochMilli());
+      slab.putLong(offset + SEED, promptList.getSeed());
+      slab.putInt(offset + DECK_HANDLE, acquireDeckHandle(deck));
+      slab.putInt(offset + PROMPT_COUNT, promptCount);
+      slab.put(offset + ALIVE, (byte) 1);
+      slab.put(offset + PROMPT_ID_WIDTH, (byte) width);
+      int position = offset + PROMPT_IDS;
+      for (int i = 0; i < promptCount; i++, position += width) {
+        if (width == Character.BYTES) {
+          slab.putChar(position, (char) promptList.getPromptId(i));
+        } else {
+          slab.putInt(position, promptList.getPromptId(i));
+        }
+      }
+
+      slabUsed[currentSlab] = position;
+      slabLive[currentSlab]++;
+      prompts += promptCount;
+      index.put(
+          id.getMostSignificantBits(), id.getLeastSignificantBits(), address(currentSlab, offset));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Move on to the next slab in the ring, making room in it first if needed.
+   *
+   * @param now The current time, in epoch milliseconds.
+   * @throws RetryLaterException If the next slab still holds quizzes in progress, and they are not
+   *     to be evicted.
+   */
+  private void advance(long now) throws RetryLaterException {
+    int next = (currentSlab + 1) % slabs.length;
+    if (slabLive[next] > 0) {
+      sweep(now);
+    }
+    if (slabLive[next] > 0) {
+      if (rejectWhenFull) {
+        rejections.mark();
+        throw new RetryLaterException("Too many quizzes in progress, try again later", retryAfter);
+      }
+      forEachLiveRecord(
+          next,
+          address -> {
+            kill(address);
+            evictions.increment();
+            return true;
+          });
+    }
+    slabUsed[next] = 0;
+    currentSlab = next;
+  }
+
+  /**
+   * Retrieve a slab, allocating it if this is the first time it is used.
+   *
+   * @param slab The slab number.
+   * @return The slab's buffer.
+   */
+  private ByteBuffer slab(int slab) {
+    if (slabs[slab] == null) {
+      slabs[slab] = ByteBuffer.allocateDirect(slabSize);
+    }
+    return slabs[slab];
+  }
+
+  /**
+   * Visit the live records in a slab, oldest first.
+   *
+   * @param slab The slab number.
+   * @param visitor Called with the address of each live record, returning whether to carry on.
+   * @return Whether every live record was visited.
+   */
+  private boolean forEachLiveRecord(int slab, RecordVisitor visitor) {
+    ByteBuffer buffer = slabs[slab];
+    int offset = 0;
+    while (slabLive[slab] > 0 && offset < slabUsed[slab]) {
+      int recordSize =
+          PROMPT_IDS + buffer.getInt(offset + PROMPT_COUNT) * buffer.get(offset + PROMPT_ID_WIDTH);
+      if (buffer.get(offset + ALIVE) != 0 && !visitor.visit(address(slab, offset))) {
+        return false;
+      }
+      offset += recordSize;
+    }
+    return true;
+  }
+
+  /** Called with the address of each live record in a slab. */
+  @FunctionalInterface
+  private interface RecordVisitor {
+    /**
+     * Visit a record.
+     *
+     * @param address The address of the record.
+     * @return Whether to carry on to the next record.
+     */
+    boolean visit(long address);
+  }
+
+  /**
+   * Mark a record dead, and forget it.
+   *
+   * @param address The address of a live record.
+   */
+  private void kill(long address) {
+    int slab = slabOf(address);
+    int offset = offsetOf(address);
+    ByteBuffer buffer = slabs[slab];
+    buffer.put(offset + ALIVE, (byte) 0);
+    slabLive[slab]--;
+    prompts -= buffer.getInt(offset + PROMPT_COUNT);
+    releaseDeckHandle(buffer.getInt(offset + DECK_HANDLE));
+    index.remove(
+        buffer.getLong(offset + MOST_SIGNIFICANT_BITS),
+        buffer.getLong(offset + LEAST_SIGNIFICANT_BITS),
+        address);
+    if (slabLive[slab] == 0 && slab == currentSlab) {
+      // Nothing live is left behind the append position, so the slab can be refilled from the
+      // start.
+      slabUsed[slab] = 0;
+    }
+  }
+
+  private int acquireDeckHandle(Deck deck) {
+    Integer handle = deckHandles.get(deck);
+    if (handle == null) {
+      handle = freeDeckHandles.isEmpty() ? nextDeckHandle++ : freeDeckHandles.pop();
+      if (handle == decks.length) {
+        decks = Arrays.copyOf(decks, handle * 2);
+        deckReferences = Arrays.copyOf(deckReferences, handle * 2);
+      }
+      decks[handle] = deck;
+      deckHandles.put(deck, handle);
+    }
+    deckReferences[handle]++;
+    return handle;
+  }
+
+  private void releaseDeckHandle(int handle) {
+    if (--deckReferences[handle] == 0) {
+      // Let decks from replaced catalogs be collected once their last quiz is gone.
+      deckHandles.remove(decks[handle]);
+      decks[handle] = null;
+      freeDeckHandles.push(handle);
+    }
+  }
+
+  @Override
+  public Optional<Quiz> get(@NonNull String id) {
+    UUID uuid;
+    try {
+      uuid = UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      misses.increment();
+      return Optional.empty();
+    }
+
+    lock.readLock().lock();
+    try {
+      long address = index.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+      if (address == QuizSessionIndex.NONE || isExpired(address, clock.millis())) {
+        // Expired records are left for the sweeper, which holds the write lock.
+        misses.increment();
+        return Optional.empty();
+      }
+      hits.increment();
+      return Optional.of(read(id, address));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean contains(@NonNull String id) {
+    UUID uuid;
+    try {
+      uuid = UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+
+    lock.readLock().lock();
+    try {
+      long address = index.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+      return address != QuizSessionIndex.NONE && !isExpired(address, clock.millis());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private boolean isExpired(long address, long now) {
+    return slabs[slabOf(address)].getLong(offsetOf(address) + PUT_MILLIS) + expireAfterMillis
+        <= now;
+  }
+
+  /**
+   * Rebuild a quiz from its record.
+   *
+   * @param id The ID of the quiz.
+   * @param address The address of the record.
+   * @return The quiz.
+   */
+  private Quiz read(String id, long address) {
+    ByteBuffer buffer = slabs[slabOf(address)];
+    int offset = offsetOf(address);
+    Deck deck = decks[buffer.getInt(offset + DECK_HANDLE)];
+    int width = buffer.get(offset + PROMPT_ID_WIDTH);
+    int[] promptIds = new int[buffer.getInt(offset + PROMPT_COUNT)];
+    int position = offset + PROMPT_IDS;
+    for (int i = 0; i < promptIds.length; i++, position += width) {
+      promptIds[i] = width == Character.BYTES ? buffer.getChar(position) : buffer.getInt(position);
+    }
+    return Quiz.builder()
+        .id(id)
+        .name(deck.getName())
+        .createdDateTime(Instant.ofEpochMilli(buffer.getLong(offset + CREATED_MILLIS)))
+        .prompts(new DeckPromptList(deck, buffer.getLong(offset + SEED), promptIds))
+        .build();
+  }
+
+  /** Forget every expired quiz. */
+  void sweep() {
+    lock.writeLock().lock();
+    try {
+      sweep(clock.millis());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Forget every expired quiz. Records are in the order they were written, starting from the slab
+   * after the current one, so the sweep stops at the first that has not expired.
+   *
+   * @param now The current time, in epoch milliseconds.
+   */
+  private void sweep(long now) {
+    for (int i = 1; i <= slabs.length; i++) {
+      int slab = (currentSlab + i) % slabs.length;
+      boolean swept =
+          forEachLiveRecord(
+              slab,
+              address -> {
+                if (!isExpired(address, now)) {
+                  return false;
+                }
+                kill(address);
+                evictions.increment();
+                return true;
+              });
+      if (!swept) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public long size() {
+    lock.readLock().lock();
+    try {
+      return index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * The prompts, summed across all quizzes held.
+   *
+   * @return The prompts currently held.
+   */
+  public long getPrompts() {
+    lock.readLock().lock();
+    try {
+      return prompts;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * The off-heap memory allocated so far, which grows a slab at a time up to the capacity.
+   *
+   * @return The bytes allocated.
+   */
+  public long getOffHeapBytes() {
+    lock.readLock().lock();
+    try {
+      long allocated = 0;
+      for (ByteBuffer slab : slabs) {
+        if (slab != null) {
+          allocated += slab.capacity();
+        }
+      }
+      return allocated;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Start sweeping expired quizzes in the background. */
+  @Override
+  public void start() {
+    long interval = sweepInterval.toMillis();
+    sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stop sweeping. Expired quizzes are still never returned, but stay until their slab is reused.
+   */
+  @Override
+  public void stop() {
+    sweeper.shutdownNow();
+  }
+}
@@ -0,0 +1,279 @@
+package com.codingchica.flashcards.service;
+
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.model.external.DistributionSnapshot;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.codingchica.flashcards.core.model.external.QuizDistribution;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.ScoreRange;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Records the completion time and score of each quiz as it is graded, so that the percentiles of
+ * the completion times and the spread of the scores can be read for each quiz, since startup and
+ * over the last complete interval.
+ *
+ * <p>Completion times are counted in a LogLinearHistogram and scores in a counter per percentage,
+ * so recording a graded quiz increments two counters, without locks or allocation. For quizzes
+ * drawn from a deck of the catalog last published, the counters are found by deck ID with an array
+ * lookup.
+ *
+ * <p>The counters only ever grow. Every interval they are copied, and the counts of the last
+ * interval are the difference from the previous copy, so recording never waits for, or loses a
+ * count to, the rollover. A quiz recorded while the counters are copied is counted in the next
+ * interval instead. The distributions are not saved, so they start again from zero after a restart.
+ */
+public class QuizDistributionRecorder implements Managed {
+  /** The width of each range of scores listed, in percentage points. */
+  static final int SCORE_RANGE_WIDTH = 10;
+
+  /** How often the counts of the last interval are rolled over. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration interval;
+
+  /** The longest completion time told apart, in seconds. */
+  @Getter(AccessLevel.PACKAGE)
+  private final long maximumTimeSeconds;
+
+  /** The decimal digits to which completion times are told apart. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int significantDigits;
+
+  /** The distributions of each quiz, by normalized name. */
+  private final Map<String, Distributions> byName = new ConcurrentHashMap<>();
+
+  /** The decks of the catalog last published, and their distributions, by deck ID. */
+  private volatile Published published = new Published(new Deck[0], new Distributions[0]);
+
+  private final ScheduledExecutorService roller =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "quiz-distributions-roller");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Constructor.
+   *
+   * @param interval How often the counts of the last interval are rolled over.
+   * @param maximumTime The longest completion time told apart. Longer times are recorded as this
+   *     long.
+   * @param significantDigits The decimal digits to which completion times are told apart.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public QuizDistributionRecorder(
+      @NonNull Duration interval, @NonNull Duration maximumTime, int significantDigits) {
+    Preconditions.checkArgument(
+        !interval.isNegative() && !interval.isZero(), "interval must be positive");
+    Preconditions.checkArgument(maximumTime.toSeconds() > 0, "maximumTime must be at least 1s");
+    Preconditions.checkArgument(
+        significantDigits >= 1 && significantDigits <= 3,
+        "significantDigits must be between 1 and 3");
+    this.interval = interval;
+    this.maximumTimeSeconds = maximumTime.toSeconds();
+    this.significantDigits = significantDigits;
+  }
+
+  /**
+   * Make a newly compiled catalog the one whose decks are looked up by ID.
+   *
+   * @param catalog The catalog being served.
+   */
+  public synchronized void publish(@NonNull DeckCatalog catalog) {
+    Deck[] decks = new Deck[catalog.getDeckCount()];
+    Distributions[] distributions = new Distributions[decks.length];
+    for (int deckId = 0; deckId < decks.length; deckId++) {
+      decks[deckId] = catalog.getDeck(deckId);
+      distributions[deckId] = distributions(decks[deckId].getName());
+    }
+    published = new Published(decks, distributions);
+  }
+
+  /**
+   * Record the completion time and score of a graded quiz.
+   *
+   * @param quiz The quiz handed out.
+   * @param quizResult The result of the graded quiz.
+   */
+  public void record(@NonNull Quiz quiz, @NonNull QuizResult quizResult) {
+    Distributions distributions = null;
+    if (quiz.getPrompts() instanceof DeckPromptList deckPrompts) {
+      Published current = published;
+      int deckId = deckPrompts.getDeck().getId();
+      if (deckId < current.decks.length && current.decks[deckId] == deckPrompts.getDeck()) {
+        distributions = current.distributions[deckId];
+      }
+    }
+    if (distributions == null) {
+      // Drawn from a catalog since replaced, not published here, or not drawn from a deck.
+      distributions = distributions(quizResult.getName());
+    }
+    distributions.times.record(quizResult.getTimeMinutes() * 60L + quizResult.getTimeSeconds());
+    distributions.scores.incrementAndGet(Math.max(0, Math.min(quizResult.getPercentage(), 100)));
+  }
+
+  private Distributions distributions(String quizName) {
+    return byName.computeIfAbsent(
+        DeckCatalog.normalizeName(quizName), key -> new Distributions(quizName));
+  }
+
+  /**
+   * Retrieve the distributions of a quiz.
+   *
+   * @param quizName The name of the quiz, ignoring case.
+   * @return The distributions, if the quiz has been graded.
+   */
+  public Optional<QuizDistribution> getDistribution(@NonNull String quizName) {
+    return Optional.ofNullable(byName.get(DeckCatalog.normalizeName(quizName)))
+        .map(this::toDistribution)
+        .filter(distribution -> distribution.getTotal().getCount() > 0);
+  }
+
+  /**
+   * Retrieve the distributions of every quiz graded.
+   *
+   * @return The distributions, by quiz name.
+   */
+  public List<QuizDistribution> getDistributions() {
+    return byName.values().stream()
+        .map(this::toDistribution)
+        .filter(distribution -> distribution.getTotal().getCount() > 0)
+        .sorted(Comparator.comparing(QuizDistribution::getName))
+        .toList();
+  }
+
+  private QuizDistribution toDistribution(Distributions distributions) {
+    Counts lastInterval = distributions.lastInterval;
+    return QuizDistribution.builder()
+        .name(distributions.name)
+        .intervalSeconds(interval.toSeconds())
+        .total(
+            toSnapshot(
+                distributions.times, distributions.times.copyCounts(), copy(distributions.scores)))
+        .lastInterval(toSnapshot(distributions.times, lastInterval.times, lastInterval.scores))
+        .build();
+  }
+
+  private static DistributionSnapshot toSnapshot(
+      LogLinearHistogram layout, long[] timeCounts, long[] scoreCounts) {
+    long count = 0;
+    for (long timeCount : timeCounts) {
+      count += timeCount;
+    }
+    List<ScoreRange> scores = new ArrayList<>();
+    for (int minimum = 0; minimum <= 100; minimum += SCORE_RANGE_WIDTH) {
+      int maximum = Math.min(minimum + SCORE_RANGE_WIDTH - 1, 100);
+      long scoreCount = 0;
+      for (int percentage = minimum; percentage <= maximum; percentage++) {
+        scoreCount += scoreCounts[percentage];
+      }
+      scores.add(
+          ScoreRange.builder()
+              .minimumPercentage(minimum)
+              .maximumPercentage(maximum)
+              .count(scoreCount)
+              .build());
+    }
+    return DistributionSnapshot.builder()
+        .count(count)
+        .p50TimeSeconds(layout.valueAtPercentile(timeCounts, count, 50))
+        .p90TimeSeconds(layout.valueAtPercentile(timeCounts, count, 90))
+        .p99TimeSeconds(layout.valueAtPercentile(timeCounts, count, 99))
+        .maxTimeSeconds(layout.valueAtPercentile(timeCounts, count, 100))
+        .scores(scores)
+        .build();
+  }
+
+  private static long[] copy(AtomicLongArray counts) {
+    long[] copy = new long[counts.length()];
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = counts.get(i);
+    }
+    return copy;
+  }
+
+  private static long[] subtract(long[] counts, long[] previous) {
+    long[] difference = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      difference[i] = counts[i] - previous[i];
+    }
+    return difference;
+  }
+
+  /** Make the counts since the previous rollover those of the last interval. */
+  synchronized void rollInterval() {
+    for (Distributions distributions : byName.values()) {
+      long[] times = distributions.times.copyCounts();
+      long[] scores = copy(distributions.scores);
+      distributions.lastInterval =
+          new Counts(
+              subtract(times, distributions.rolledOver.times),
+              subtract(scores, distributions.rolledOver.scores));
+      distributions.rolledOver = new Counts(times, scores);
+    }
+  }
+
+  /** Start rolling over the counts of each interval. */
+  @Override
+  public void start() {
+    roller.scheduleAtFixedRate(
+        this::rollInterval, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stop rolling over the counts of each interval.
+   *
+   * @throws InterruptedException If interrupted while waiting for a rollover to finish.
+   */
+  @Override
+  public void stop() throws InterruptedException {
+    roller.shutdown();
+    roller.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  /** The decks of a catalog, and their distributions, by deck ID. */
+  private record Published(Deck[] decks, Distributions[] distributions) {}
+
+  /** Copied counts, never changed once shared. */
+  private record Counts(long[] times, long[] scores) {}
+
+  /** The counters of one quiz. */
+  private final class Distributions {
+    private final String name;
+    private final LogLinearHistogram times =
+        new LogLinearHistogram(maximumTimeSeconds, significantDigits);
+    private final AtomicLongArray scores = new AtomicLongArray(101);
+
+    /** The counts at the last rollover, only read and written while rolling over. */
+    private Counts rolledOver = emptyCounts();
+
+    /** The counts of the last complete interval. */
+    private volatile Counts lastInterval = emptyCounts();
+
+    private Distributions(String name) {
+      this.name = name;
+    }
+
+    private Counts emptyCounts() {
+      return new Counts(new long[times.copyCounts().length], new long[scores.length()]);
+    }
+  }
+}
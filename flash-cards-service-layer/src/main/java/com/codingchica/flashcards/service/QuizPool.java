@@ -0,0 +1,203 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.mappers.external.QuizMapper;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Quiz prompts drawn ahead of time by a background producer, so serving a quiz is usually just
+ * taking its prompts off a bounded queue. There is one queue per deck in the current catalog. When
+ * a queue is empty the quiz is generated on the calling thread instead, and the producer is woken
+ * to top the queues back up.
+ *
+ * <p>Only the seed and the prompts drawn with it are pooled. The quiz is built around them when it
+ * is handed out, minting its one ID and taking its creation time then, so time-ordered IDs still
+ * sort by when each quiz was started.
+ */
+public class QuizPool implements Managed {
+  private final QuizMapper quizMapper;
+
+  /** How many quizzes' prompts to keep ready for each deck. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int depthPerDeck;
+
+  private final AtomicReference<Queues> queues = new AtomicReference<>(Queues.EMPTY);
+  private final AtomicBoolean refillScheduled = new AtomicBoolean();
+  private final ExecutorService producer =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "quiz-pool-producer");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final Meter hits;
+  private final Meter misses;
+  private final Meter refills;
+
+  /**
+   * Constructor.
+   *
+   * @param quizMapper Draws the prompts and generates the quizzes.
+   * @param metricRegistry Where to report the pool depth, refill rate and hit ratio.
+   * @param depthPerDeck How many quizzes' prompts to keep ready for each deck.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public QuizPool(
+      @NonNull QuizMapper quizMapper, @NonNull MetricRegistry metricRegistry, int depthPerDeck) {
+    Preconditions.checkArgument(depthPerDeck > 0, "depthPerDeck must be greater than 0");
+    this.quizMapper = quizMapper;
+    this.depthPerDeck = depthPerDeck;
+    hits = metricRegistry.meter(MetricRegistry.name(QuizPool.class, "hits"));
+    misses = metricRegistry.meter(MetricRegistry.name(QuizPool.class, "misses"));
+    refills = metricRegistry.meter(MetricRegistry.name(QuizPool.class, "refills"));
+    metricRegistry.register(
+        MetricRegistry.name(QuizPool.class, "depth"), (Gauge<Integer>) this::getDepth);
+    metricRegistry.register(
+        MetricRegistry.name(QuizPool.class, "hitRatio"),
+        new RatioGauge() {
+          @Override
+          protected Ratio getRatio() {
+            return Ratio.of(
+                hits.getOneMinuteRate(), hits.getOneMinuteRate() + misses.getOneMinuteRate());
+          }
+        });
+  }
+
+  /**
+   * Start pooling quizzes for the decks in a newly published catalog. Quizzes pooled for the
+   * previous catalog are dropped.
+   *
+   * @param catalog The catalog now being served.
+   */
+  public void publish(@NonNull DeckCatalog catalog) {
+    queues.set(new Queues(catalog, depthPerDeck));
+    scheduleRefill();
+  }
+
+  /**
+   * Build a quiz for the deck from prompts drawn ahead of time, or generate one if none are ready.
+   *
+   * @param deck The deck from the current catalog.
+   * @return A quiz which has not been handed out before.
+   */
+  public Quiz take(@NonNull Deck deck) {
+    BlockingQueue<DeckPromptList> queue = queues.get().queueFor(deck);
+    DeckPromptList prompts = queue == null ? null : queue.poll();
+    Quiz quiz;
+    if (prompts == null) {
+      misses.mark();
+      quiz = quizMapper.deckToExternalQuizMapping(deck);
+    } else {
+      hits.mark();
+      // The quiz starts when it is handed out, not when its prompts were drawn.
+      quiz = quizMapper.promptsToExternalQuizMapping(prompts);
+    }
+    scheduleRefill();
+    return quiz;
+  }
+
+  /**
+   * Retrieve how many quizzes' prompts are pooled, across all decks.
+   *
+   * @return The current pool depth.
+   */
+  public int getDepth() {
+    return queues.get().getDepth();
+  }
+
+  /** Top up the queues, if there are any yet. */
+  @Override
+  public void start() {
+    scheduleRefill();
+  }
+
+  /** Stop the producer. Quizzes are generated on the calling thread from then on. */
+  @Override
+  public void stop() {
+    producer.shutdownNow();
+  }
+
+  /** Wake the producer, unless it is already due to run. */
+  private void scheduleRefill() {
+    if (refillScheduled.compareAndSet(false, true)) {
+      try {
+        producer.execute(this::refill);
+      } catch (RejectedExecutionException e) {
+        // Stopped.
+        refillScheduled.set(false);
+      }
+    }
+  }
+
+  /** Fill every queue to capacity, giving up early if a new catalog is published. */
+  private void refill() {
+    refillScheduled.set(false);
+    Queues current = queues.get();
+    for (int deckId = 0; deckId < current.queues.size(); deckId++) {
+      Deck deck = current.catalog.getDeck(deckId);
+      BlockingQueue<DeckPromptList> queue = current.queues.get(deckId);
+      while (queue.remainingCapacity() > 0
+          && queues.get() == current
+          && !Thread.currentThread().isInterrupted()) {
+        queue.offer(quizMapper.drawPrompts(deck));
+        refills.mark();
+      }
+    }
+  }
+
+  /** The queues for one published catalog, indexed by deck ID. */
+  private static final class Queues {
+    private static final Queues EMPTY = new Queues(null, 1);
+
+    private final DeckCatalog catalog;
+    private final List<BlockingQueue<DeckPromptList>> queues;
+
+    private Queues(DeckCatalog catalog, int depthPerDeck) {
+      this.catalog = catalog;
+      int deckCount = catalog == null ? 0 : catalog.getDeckCount();
+      queues = new ArrayList<>(deckCount);
+      for (int deckId = 0; deckId < deckCount; deckId++) {
+        queues.add(new ArrayBlockingQueue<>(depthPerDeck));
+      }
+    }
+
+    /**
+     * Find the queue for a deck, as long as the deck belongs to this catalog.
+     *
+     * @param deck The deck to look up.
+     * @return The deck's queue, or null if the deck is from another catalog.
+     */
+    private BlockingQueue<DeckPromptList> queueFor(Deck deck) {
+      int deckId = deck.getId();
+      if (deckId >= 0 && deckId < queues.size() && catalog.getDeck(deckId) == deck) {
+        return queues.get(deckId);
+      }
+      return null;
+    }
+
+    private int getDepth() {
+      return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.codingchica.flashcards.service;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/** Graded quizzes kept, looked up by quiz and by when they were saved. */
+public interface QuizResultHistory {
+  /**
+   * Pass each result saved within a time range to an action, in the order they were saved.
+   *
+   * @param name The name of the quiz to pass results for, ignoring case, or null for every quiz.
+   * @param from The earliest time saved to include.
+   * @param to The time saved from which to stop, which is not included.
+   * @param action What to do with each result.
+   */
+  void forEach(String name, Instant from, Instant to, Consumer<SavedQuizResult> action);
+}
@@ -0,0 +1,468 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps graded quizzes in an append-only journal on local disk, one line of JSON per result.
+ *
+ * <p>The journal is a series of segment files, numbered in the order they were started. Results are
+ * appended to the latest segment until it would grow beyond segmentSize, when the next one is
+ * started. Results are written straight into the operating system, but flushed to disk by a single
+ * committer thread, which flushes everything appended so far every commitInterval, or sooner once
+ * commitRecords results are waiting. Each append returns once its results are on disk, so that
+ * results saved at about the same time share a flush rather than each paying for its own.
+ *
+ * <p>A line torn by a crash is truncated from the latest segment before appending to it again.
+ */
+public class QuizResultJournal implements QuizResultStore, Managed {
+  private static final Logger LOGGER = LoggerFactory.getLogger(QuizResultJournal.class);
+
+  /** Segment files, in the order they were started: quiz-results-00000001.jsonl, and so on. */
+  private static final Pattern SEGMENT = Pattern.compile("quiz-results-(\\d{8})\\.jsonl");
+
+  private static final int TAIL_BUFFER_BYTES = 8192;
+
+  /** The directory holding the segment files. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Path directory;
+
+  /** How large a segment may grow before the next one is started. */
+  @Getter(AccessLevel.PACKAGE)
+  private final long segmentSize;
+
+  /** How long results may wait to be flushed to disk. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration commitInterval;
+
+  /** How many results waiting to be flushed trigger a flush, before commitInterval. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int commitRecords;
+
+  /** Writes a result as a single line, with its properties in a stable order. */
+  private final ObjectWriter writer;
+
+  private final Timer commits;
+  private final Histogram commitSizes;
+
+  /** Guards the segments and the counts of results appended and committed. */
+  private final Lock lock = new ReentrantLock();
+
+  /** Wakes the committer, once commitRecords results are waiting, or to stop. */
+  private final Condition commitRequested = lock.newCondition();
+
+  /** Wakes appenders, once a flush has finished. */
+  private final Condition commitFinished = lock.newCondition();
+
+  /** The segment being appended to, while started. */
+  private FileChannel segment;
+
+  /** The number of the segment being appended to. */
+  private int segmentNumber;
+
+  /** The bytes appended to the current segment. */
+  private long segmentBytes;
+
+  /** Segments since rolled over, still to be flushed and closed by the committer. */
+  private final List<FileChannel> retired = new ArrayList<>();
+
+  /** The number of results appended, since started. */
+  private long appended;
+
+  /** The number of results appended, since started, which are known to be on disk. */
+  private long committed;
+
+  /** The number of results appended, since started, up to which the last failed flush covered. */
+  private long failedThrough;
+
+  private Thread committer;
+
+  /**
+   * Constructor.
+   *
+   * @param directory The directory holding the segment files, created if needed.
+   * @param objectMapper The object mapper from which to build the writer for the results.
+   * @param segmentSize How large, in bytes, a segment may grow before the next one is started.
+   * @param commitInterval How long results may wait to be flushed to disk.
+   * @param commitRecords How many results waiting to be flushed trigger a flush.
+   * @param metricRegistry Where to report flush times and the number of results per flush.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public QuizResultJournal(
+      @NonNull Path directory,
+      @NonNull ObjectMapper objectMapper,
+      long segmentSize,
+      @NonNull Duration commitInterval,
+      int commitRecords,
+      @NonNull MetricRegistry metricRegistry) {
+    Preconditions.checkArgument(segmentSize > 0, "segmentSize must be positive");
+    Preconditions.checkArgument(
+        !commitInterval.isNegative() && !commitInterval.isZero(),
+        "commitInterval must be positive");
+    Preconditions.checkArgument(commitRecords > 0, "commitRecords must be positive");
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.commitInterval = commitInterval;
+    this.commitRecords = commitRecords;
+    // A copy, so that the mapper shared with the rest of the application is left as it was.
+    this.writer =
+        objectMapper
+            .copy()
+            .addMixIn(QuizResult.class, AlphabeticOrder.class)
+            .writerFor(QuizResult.class)
+            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .without(SerializationFeature.INDENT_OUTPUT);
+
+    commits = metricRegistry.timer(name("commits"));
+    commitSizes = metricRegistry.histogram(name("commitSizes"));
+  }
+
+  /** Orders the properties of the results journaled alphabetically, leaving the API as it was. */
+  @JsonPropertyOrder(alphabetic = true)
+  private abstract static class AlphabeticOrder {}
+
+  private static String name(String metric) {
+    return MetricRegistry.name(QuizResultStore.class, metric);
+  }
+
+  /**
+   * The file name of a segment.
+   *
+   * @param segmentNumber The number of the segment.
+   * @return The file name, which sorts in the order the segments were started.
+   */
+  static String segmentName(int segmentNumber) {
+    return String.format("quiz-results-%08d.jsonl", segmentNumber);
+  }
+
+  @Override
+  public void append(@NonNull List<QuizResult> quizResults) throws RenderableException {
+    if (quizResults.isEmpty()) {
+      return;
+    }
+    ByteBuffer lines;
+    try {
+      lines = toLines(quizResults);
+    } catch (IOException e) {
+      LOGGER.error("Unable to serialize quiz results", e);
+      throw new RenderableException(
+          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results.");
+    }
+    lock.lock();
+    try {
+      Preconditions.checkState(segment != null, "the journal must be started before use");
+      if (segmentBytes > 0 && segmentBytes + lines.remaining() > segmentSize) {
+        rollSegment();
+      }
+      writeLines(lines);
+      appended += quizResults.size();
+      long sequence = appended;
+      if (appended - committed >= commitRecords) {
+        commitRequested.signal();
+      }
+      while (committed < sequence && failedThrough < sequence) {
+        commitFinished.await();
+      }
+      if (committed < sequence) {
+        throw new RenderableException(
+            HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results.");
+      }
+    } catch (IOException e) {
+      LOGGER.error("Unable to journal quiz results", e);
+      throw new RenderableException(
+          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RenderableException(
+          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results.");
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Serialize results as lines of JSON, outside of the lock.
+   *
+   * @param quizResults The results.
+   * @return A buffer holding a line per result.
+   */
+  private ByteBuffer toLines(List<QuizResult> quizResults) throws IOException {
+    ByteArrayOutputStream lines = new ByteArrayOutputStream(quizResults.size() * 128);
+    for (QuizResult quizResult : quizResults) {
+      writer.writeValue(lines, quizResult);
+      lines.write('\n');
+    }
+    return ByteBuffer.wrap(lines.toByteArray());
+  }
+
+  /**
+   * Write whole lines to the current segment, or, if that fails, none of them. Called with the lock
+   * held.
+   *
+   * @param lines The lines to append.
+   */
+  private void writeLines(ByteBuffer lines) throws IOException {
+    reopenIfClosed();
+    int length = lines.remaining();
+    try {
+      while (lines.hasRemaining()) {
+        segment.write(lines);
+      }
+    } catch (IOException e) {
+      try {
+        // Leave no partial line for the next results to be appended to.
+        segment.truncate(segmentBytes);
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      throw e;
+    }
+    segmentBytes += length;
+  }
+
+  /**
+   * Reopen the current segment if a failed write closed it, as happens when the appending thread is
+   * interrupted, dropping anything written after the last whole line. Flushing the file through the
+   * new channel also flushes whatever was written through the old one. Called with the lock held.
+   */
+  private void reopenIfClosed() throws IOException {
+    if (!segment.isOpen()) {
+      segment = openSegment(segmentNumber);
+      segment.truncate(segmentBytes);
+    }
+  }
+
+  /**
+   * Start the next segment, leaving the current one for the committer to flush and close. Called
+   * with the lock held.
+   */
+  private void rollSegment() throws IOException {
+    FileChannel next = openSegment(segmentNumber + 1);
+    retired.add(segment);
+    segment = next;
+    segmentNumber++;
+    segmentBytes = 0;
+  }
+
+  private FileChannel openSegment(int number) throws IOException {
+    return FileChannel.open(
+        directory.resolve(segmentName(number)),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+  }
+
+  /** Flush everything appended so far, every commitInterval or once commitRecords are waiting. */
+  private void commitLoop() {
+    long intervalNanos = commitInterval.toNanos();
+    lock.lock();
+    try {
+      while (segment != null) {
+        if (appended - committed < commitRecords) {
+          commitRequested.awaitNanos(intervalNanos);
+        }
+        if (appended > committed && segment != null) {
+          commit();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Flush the segments to disk, releasing the lock meanwhile, so that results can go on being
+   * appended to the next flush. Called with the lock held.
+   */
+  private void commit() {
+    long target = appended;
+    List<FileChannel> channels = new ArrayList<>(retired);
+    retired.clear();
+    FileChannel current = segment;
+    IOException failure = null;
+    lock.unlock();
+    try (Timer.Context ignored = commits.time()) {
+      for (FileChannel channel : channels) {
+        try (channel) {
+          channel.force(false);
+        } catch (IOException e) {
+          failure = e;
+        }
+      }
+      current.force(false);
+    } catch (IOException e) {
+      failure = e;
+    } finally {
+      lock.lock();
+    }
+    if (failure == null) {
+      commitSizes.update(target - committed);
+      committed = target;
+    } else {
+      LOGGER.error("Unable to flush quiz results to disk", failure);
+      failedThrough = target;
+    }
+    commitFinished.signalAll();
+  }
+
+  /**
+   * Go on appending to the latest segment, truncating any line torn by a crash, and start flushing.
+   *
+   * @throws Exception If the directory cannot be read or written.
+   */
+  @Override
+  public void start() throws Exception {
+    Files.createDirectories(directory);
+    int latest = 0;
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Matcher matcher = SEGMENT.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+          latest = Math.max(latest, Integer.parseInt(matcher.group(1)));
+        }
+      }
+    }
+    lock.lock();
+    try {
+      segmentNumber = Math.max(latest, 1);
+      if (latest > 0) {
+        truncateTornLine(directory.resolve(segmentName(segmentNumber)));
+      }
+      segment = openSegment(segmentNumber);
+      segmentBytes = segment.size();
+    } finally {
+      lock.unlock();
+    }
+    committer = new Thread(this::commitLoop, "quiz-results-committer");
+    committer.setDaemon(true);
+    committer.start();
+    LOGGER.info("Journaling quiz results to {}", directory.resolve(segmentName(segmentNumber)));
+  }
+
+  /**
+   * Truncate anything after the last complete line of a segment, left by a crash mid-write.
+   *
+   * @param path The segment.
+   */
+  private static void truncateTornLine(Path path) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long end = endOfLastLine(channel);
+      if (channel.size() > end) {
+        LOGGER.warn("Truncating a torn line at the end of {}", path);
+        channel.truncate(end);
+        channel.force(false);
+      }
+    }
+  }
+
+  /**
+   * Find where the last complete line of a segment ends.
+   *
+   * @param channel The segment.
+   * @return The offset just past the last line feed, or 0 if there is none.
+   */
+  private static long endOfLastLine(FileChannel channel) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(TAIL_BUFFER_BYTES);
+    long end = channel.size();
+    while (end > 0) {
+      long start = Math.max(0, end - TAIL_BUFFER_BYTES);
+      buffer.clear().limit((int) (end - start));
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, start + buffer.position()) < 0) {
+          throw new IOException("Unexpected end of " + channel);
+        }
+      }
+      for (int i = buffer.limit() - 1; i >= 0; i--) {
+        if (buffer.get(i) == '\n') {
+          return start + i + 1;
+        }
+      }
+      end = start;
+    }
+    return 0;
+  }
+
+  /** Stop flushing, and make sure everything appended so far is on disk. */
+  @Override
+  public void stop() throws Exception {
+    FileChannel current;
+    List<FileChannel> channels;
+    lock.lock();
+    try {
+      if (segment != null) {
+        reopenIfClosed();
+      }
+      current = segment;
+      segment = null;
+      channels = new ArrayList<>(retired);
+      retired.clear();
+      commitRequested.signal();
+    } finally {
+      lock.unlock();
+    }
+    if (committer != null) {
+      committer.join(TimeUnit.SECONDS.toMillis(10));
+      committer = null;
+    }
+    if (current != null) {
+      channels.add(current);
+    }
+    IOException failure = null;
+    for (FileChannel channel : channels) {
+      try (channel) {
+        channel.force(false);
+      } catch (IOException e) {
+        failure = e;
+      }
+    }
+    lock.lock();
+    try {
+      if (failure == null) {
+        committed = appended;
+      } else {
+        failedThrough = appended;
+      }
+      commitFinished.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
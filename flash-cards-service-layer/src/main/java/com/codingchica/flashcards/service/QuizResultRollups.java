@@ -0,0 +1,558 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizResultRollup;
+import com.codingchica.flashcards.core.model.external.QuizResultRollup.Granularity;
+import com.codingchica.flashcards.core.model.external.ScoreRange;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rolls the graded quizzes kept in the memory-mapped store up into hourly and daily totals for each
+ * quiz, once they are old enough, so that the disk used stays bounded and questions about long
+ * ranges of time are answered from a few totals rather than every result.
+ *
+ * <p>Every compactionInterval, each segment whose results were all saved more than rawRetention ago
+ * is added to the hourly totals, then hourly totals from the days ended more than hourlyRetention
+ * ago are added to daily totals. The totals are saved, atomically, to a JSON file along with the
+ * number of the last segment rolled up, and only then are those segments deleted, or moved to the
+ * archive directory. A crash in between leaves segments already counted, which are removed on the
+ * next start, so each result is counted once. Whole segments are rolled up, rather than results, so
+ * a segment is kept until its latest result is old enough.
+ *
+ * <p>Rollups are read by combining the totals saved with totals built, as they are read, from the
+ * results still in the store, so that every result is counted whether or not it has been rolled up
+ * yet. Results saved on the days already rolled up into daily totals are counted in those.
+ */
+public class QuizResultRollups implements Managed {
+  private static final Logger LOGGER = LoggerFactory.getLogger(QuizResultRollups.class);
+
+  /** The version of the rollups file layout. */
+  static final int FORMAT = 1;
+
+  private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+  /** The number of score ranges, ten percentage points wide, with 100% in a range of its own. */
+  private static final int SCORE_RANGES = 100 / QuizDistributionRecorder.SCORE_RANGE_WIDTH + 1;
+
+  /** In order of start, then hours before days, then by name. */
+  private static final Comparator<Key> KEY_ORDER =
+      Comparator.comparingLong(Key::startMillis)
+          .thenComparing(Key::granularity)
+          .thenComparing(Key::name);
+
+  /** The store holding the results not rolled up yet. */
+  @Getter(AccessLevel.PACKAGE)
+  private final MappedQuizResultStore quizResultStore;
+
+  /** The file the rollups are saved to, and restored from. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Path file;
+
+  /** How long results are kept as saved before they are rolled up. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration rawRetention;
+
+  /** How long hourly totals are kept before they are rolled up into daily totals. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration hourlyRetention;
+
+  /** How often segments are checked for results old enough to roll up. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration compactionInterval;
+
+  /** Where segments are moved to once rolled up, or null to delete them. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Path archiveDirectory;
+
+  /** The clock deciding which results are old enough. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Clock clock;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Held to read the rollups together with the results not rolled up yet, and to replace the
+   * rollups together with removing the segments rolled up into them.
+   */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** The rollups saved, replaced rather than changed, under the write lock. */
+  private volatile State state = new State(new TreeMap<>(KEY_ORDER), 0, Long.MIN_VALUE);
+
+  private final Timer compactions;
+  private final ScheduledExecutorService compactor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "quiz-results-compactor");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Constructor.
+   *
+   * @param quizResultStore The store holding the results not rolled up yet, started before this.
+   * @param file The file the rollups are saved to, and restored from on start. Its directory is
+   *     created if needed.
+   * @param rawRetention How long results are kept as saved before they are rolled up.
+   * @param hourlyRetention How long hourly totals are kept before they are rolled up into daily
+   *     totals.
+   * @param compactionInterval How often segments are checked for results old enough to roll up.
+   * @param archiveDirectory Where segments are moved to once rolled up, created if needed, or null
+   *     to delete them.
+   * @param clock The clock deciding which results are old enough, defaulting to the system clock.
+   * @param objectMapper The object mapper with which to read and write the rollups file.
+   * @param metricRegistry Where to report compaction times.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public QuizResultRollups(
+      @NonNull MappedQuizResultStore quizResultStore,
+      @NonNull Path file,
+      @NonNull Duration rawRetention,
+      @NonNull Duration hourlyRetention,
+      @NonNull Duration compactionInterval,
+      Path archiveDirectory,
+      Clock clock,
+      @NonNull ObjectMapper objectMapper,
+      @NonNull MetricRegistry metricRegistry) {
+    Preconditions.checkArgument(
+        !rawRetention.isNegative() && !rawRetention.isZero(), "rawRetention must be positive");
+    Preconditions.checkArgument(
+        !hourlyRetention.isNegative() && !hourlyRetention.isZero(),
+        "hourlyRetention must be positive");
+    Preconditions.checkArgument(
+        !compactionInterval.isNegative() && !compactionInterval.isZero(),
+        "compactionInterval must be positive");
+    this.quizResultStore = quizResultStore;
+    this.file = file;
+    this.rawRetention = rawRetention;
+    this.hourlyRetention = hourlyRetention;
+    this.compactionInterval = compactionInterval;
+    this.archiveDirectory = archiveDirectory;
+    this.clock = clock == null ? Clock.systemUTC() : clock;
+    this.objectMapper = objectMapper;
+
+    compactions = metricRegistry.timer(MetricRegistry.name(QuizResultRollups.class, "compactions"));
+  }
+
+  /**
+   * The hourly and daily totals of the results saved, starting within a time range.
+   *
+   * @param name The name of the quiz to total results for, ignoring case, or null for every quiz.
+   * @param from The earliest start to include.
+   * @param to The start from which to stop, which is not included.
+   * @return The totals, in order of start, hours before days, then by name.
+   */
+  public List<QuizResultRollup> getRollups(
+      String name, @NonNull Instant from, @NonNull Instant to) {
+    long fromMillis = MappedQuizResultStore.ceilingMillis(from);
+    long toMillis = MappedQuizResultStore.ceilingMillis(to);
+    String nameKey = name == null ? null : DeckCatalog.normalizeName(name);
+    NavigableMap<Key, Totals> rollups = new TreeMap<>(KEY_ORDER);
+    lock.readLock().lock();
+    try {
+      State current = state;
+      for (var rollup :
+          current
+              .rollups()
+              .subMap(
+                  new Key(fromMillis, Granularity.HOUR, ""),
+                  true,
+                  new Key(toMillis, Granularity.HOUR, ""),
+                  false)
+              .entrySet()) {
+        if (nameKey == null || nameKey.equals(DeckCatalog.normalizeName(rollup.getKey().name()))) {
+          rollups.put(rollup.getKey(), rollup.getValue().copy());
+        }
+      }
+      // Every result counted in a rollup starting in the range was saved within its day.
+      quizResultStore.forEach(
+          name,
+          startOfDay(from),
+          endOfDay(to),
+          savedQuizResult -> {
+            Key key = current.keyFor(savedQuizResult);
+            if (key.startMillis() >= fromMillis && key.startMillis() < toMillis) {
+              rollups.computeIfAbsent(key, ignored -> new Totals()).add(savedQuizResult);
+            }
+          });
+    } finally {
+      lock.readLock().unlock();
+    }
+    List<QuizResultRollup> result = new ArrayList<>(rollups.size());
+    rollups.forEach((key, totals) -> result.add(totals.toRollup(key)));
+    return result;
+  }
+
+  private static Instant startOfDay(Instant instant) {
+    return instant.truncatedTo(ChronoUnit.DAYS);
+  }
+
+  private static Instant endOfDay(Instant instant) {
+    Instant start = instant.truncatedTo(ChronoUnit.DAYS);
+    if (start.equals(instant)) {
+      return instant;
+    }
+    return instant.isAfter(Instant.MAX.minus(1, ChronoUnit.DAYS))
+        ? Instant.MAX
+        : start.plus(1, ChronoUnit.DAYS);
+  }
+
+  /**
+   * Restore the rollups saved, if any, remove the segments already rolled up into them, and start
+   * compacting.
+   *
+   * @throws IOException If the rollups cannot be read, or a segment already rolled up cannot be
+   *     removed.
+   */
+  @Override
+  public void start() throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    restore();
+    // A crash may have come between saving the rollups and removing the segments in them.
+    quizResultStore.removeSegmentsThrough(state.rolledUpThroughSegment(), archiveDirectory);
+    compactor.scheduleWithFixedDelay(
+        this::compactQuietly, 0, compactionInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stop compacting. The rollups have already been saved.
+   *
+   * @throws InterruptedException If interrupted while waiting for a compaction to finish.
+   */
+  @Override
+  public void stop() throws InterruptedException {
+    compactor.shutdownNow();
+    compactor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  private void compactQuietly() {
+    try {
+      compact();
+    } catch (IOException | RuntimeException e) {
+      LOGGER.error("Unable to compact quiz results, will retry", e);
+    }
+  }
+
+  /**
+   * Roll the segments whose results are all old enough up into hourly totals, and the hourly totals
+   * old enough up into daily totals, save them, then remove the segments rolled up.
+   *
+   * @throws IOException If the rollups cannot be saved, in which case nothing is removed, or a
+   *     segment rolled up cannot be removed.
+   */
+  void compact() throws IOException {
+    try (Timer.Context ignored = compactions.time()) {
+      Instant now = clock.instant();
+      State current = state;
+      long dailyBeforeMillis =
+          Math.max(
+              current.dailyBeforeMillis(), startOfDay(now.minus(hourlyRetention)).toEpochMilli());
+      int rolledUpThroughSegment = current.rolledUpThroughSegment();
+      List<Integer> segments = quizResultStore.getSegmentsSavedBefore(now.minus(rawRetention));
+      if (segments.stream().allMatch(number -> number <= rolledUpThroughSegment)
+          && dailyBeforeMillis == current.dailyBeforeMillis()) {
+        return;
+      }
+
+      // Only this thread replaces the rollups, so they are copied without holding the lock.
+      State next = new State(new TreeMap<>(KEY_ORDER), rolledUpThroughSegment, dailyBeforeMillis);
+      current.rollups().forEach((key, totals) -> next.add(key, totals));
+      int lastSegment = rolledUpThroughSegment;
+      for (int number : segments) {
+        if (number > lastSegment) {
+          quizResultStore.forEachInSegment(
+              number, savedQuizResult -> next.add(next.keyFor(savedQuizResult), savedQuizResult));
+          lastSegment = number;
+        }
+      }
+      State compacted = new State(next.rollups(), lastSegment, dailyBeforeMillis);
+      save(compacted);
+
+      int removed;
+      lock.writeLock().lock();
+      try {
+        state = compacted;
+        removed = quizResultStore.removeSegmentsThrough(lastSegment, archiveDirectory);
+      } finally {
+        lock.writeLock().unlock();
+      }
+      LOGGER.info(
+          "Rolled {} quiz result segments up into {} rollups", removed, compacted.rollups().size());
+    }
+  }
+
+  /**
+   * Replace the rollups file, atomically, so that a crash leaves either the old or the new one.
+   *
+   * @param saving The rollups to save.
+   * @throws IOException If the file cannot be written.
+   */
+  private void save(State saving) throws IOException {
+    List<RollupCheckpoint> rollups = new ArrayList<>(saving.rollups().size());
+    saving
+        .rollups()
+        .forEach(
+            (key, totals) ->
+                rollups.add(
+                    new RollupCheckpoint(
+                        key.name(),
+                        key.granularity(),
+                        key.startMillis(),
+                        totals.count,
+                        totals.promptCount,
+                        totals.correctAnswers,
+                        totals.percentageSum,
+                        totals.timeSecondsSum,
+                        totals.scores)));
+    ByteBuffer contents =
+        ByteBuffer.wrap(
+            objectMapper.writeValueAsBytes(
+                new Checkpoint(
+                    FORMAT, saving.rolledUpThroughSegment(), saving.dailyBeforeMillis(), rollups)));
+    Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (contents.hasRemaining()) {
+        channel.write(contents);
+      }
+      channel.force(true);
+    }
+    Files.move(
+        temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Replace the rollups with those saved, if there are any.
+   *
+   * @throws IOException If the file cannot be read, or is not a quiz result rollups file.
+   */
+  private void restore() throws IOException {
+    Checkpoint checkpoint;
+    try {
+      checkpoint = objectMapper.readValue(Files.readAllBytes(file), Checkpoint.class);
+    } catch (NoSuchFileException e) {
+      return;
+    }
+    if (checkpoint.format() != FORMAT || checkpoint.rollups() == null) {
+      throw new IOException(file + " is not a quiz result rollups file");
+    }
+    State restored =
+        new State(
+            new TreeMap<>(KEY_ORDER),
+            checkpoint.rolledUpThroughSegment(),
+            checkpoint.dailyBeforeMillis());
+    for (RollupCheckpoint rollup : checkpoint.rollups()) {
+      if (rollup.scores() == null || rollup.scores().length != SCORE_RANGES) {
+        throw new IOException(file + " is not a quiz result rollups file");
+      }
+      Totals totals = new Totals();
+      totals.count = rollup.count();
+      totals.promptCount = rollup.promptCount();
+      totals.correctAnswers = rollup.correctAnswers();
+      totals.percentageSum = rollup.percentageSum();
+      totals.timeSecondsSum = rollup.timeSecondsSum();
+      System.arraycopy(rollup.scores(), 0, totals.scores, 0, SCORE_RANGES);
+      restored.add(new Key(rollup.startMillis(), rollup.granularity(), rollup.name()), totals);
+    }
+    lock.writeLock().lock();
+    try {
+      state = restored;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    LOGGER.info(
+        "Restored {} quiz result rollups, through segment {}, from {}",
+        checkpoint.rollups().size(),
+        checkpoint.rolledUpThroughSegment(),
+        file);
+  }
+
+  /**
+   * The rollups saved.
+   *
+   * @param rollups The totals, by start, granularity and quiz.
+   * @param rolledUpThroughSegment The number of the last segment rolled up, or 0 for none.
+   * @param dailyBeforeMillis The time before which results are totalled by day rather than by hour.
+   */
+  private record State(
+      NavigableMap<Key, Totals> rollups, int rolledUpThroughSegment, long dailyBeforeMillis) {
+    /** The rollup a result is counted in. */
+    Key keyFor(SavedQuizResult savedQuizResult) {
+      long savedMillis = savedQuizResult.getSavedAt().toEpochMilli();
+      String name = savedQuizResult.getQuizResult().getName();
+      return savedMillis < dailyBeforeMillis
+          ? new Key(Math.floorDiv(savedMillis, DAY_MILLIS) * DAY_MILLIS, Granularity.DAY, name)
+          : new Key(Math.floorDiv(savedMillis, HOUR_MILLIS) * HOUR_MILLIS, Granularity.HOUR, name);
+    }
+
+    /** Count a result, in a rollup of this state only. */
+    void add(Key key, SavedQuizResult savedQuizResult) {
+      rollups.computeIfAbsent(key, ignored -> new Totals()).add(savedQuizResult);
+    }
+
+    /** Add totals, rolling hours before dailyBeforeMillis up into their day. */
+    void add(Key key, Totals totals) {
+      if (key.granularity() == Granularity.HOUR && key.startMillis() < dailyBeforeMillis) {
+        key =
+            new Key(
+                Math.floorDiv(key.startMillis(), DAY_MILLIS) * DAY_MILLIS,
+                Granularity.DAY,
+                key.name());
+      }
+      rollups.computeIfAbsent(key, ignored -> new Totals()).add(totals);
+    }
+  }
+
+  /**
+   * Which rollup totals are for.
+   *
+   * @param startMillis The start of the time covered, in milliseconds since the epoch.
+   * @param granularity How long the time covered is.
+   * @param name The name of the quiz.
+   */
+  private record Key(long startMillis, Granularity granularity, String name) {}
+
+  /** The totals of the results in one rollup. */
+  private static final class Totals {
+    private long count;
+    private long promptCount;
+    private long correctAnswers;
+    private long percentageSum;
+    private long timeSecondsSum;
+
+    /** The number of results in each score range. */
+    private final long[] scores = new long[SCORE_RANGES];
+
+    void add(SavedQuizResult savedQuizResult) {
+      QuizResult quizResult = savedQuizResult.getQuizResult();
+      int percentage = Math.max(0, Math.min(quizResult.getPercentage(), 100));
+      count++;
+      promptCount += quizResult.getPromptCount();
+      correctAnswers += quizResult.getCorrectAnswers();
+      percentageSum += percentage;
+      timeSecondsSum += quizResult.getTimeMinutes() * 60L + quizResult.getTimeSeconds();
+      scores[percentage / QuizDistributionRecorder.SCORE_RANGE_WIDTH]++;
+    }
+
+    void add(Totals totals) {
+      count += totals.count;
+      promptCount += totals.promptCount;
+      correctAnswers += totals.correctAnswers;
+      percentageSum += totals.percentageSum;
+      timeSecondsSum += totals.timeSecondsSum;
+      for (int i = 0; i < SCORE_RANGES; i++) {
+        scores[i] += totals.scores[i];
+      }
+    }
+
+    Totals copy() {
+      Totals copy = new Totals();
+      copy.add(this);
+      return copy;
+    }
+
+    QuizResultRollup toRollup(Key key) {
+      List<ScoreRange> scoreRanges = new ArrayList<>(SCORE_RANGES);
+      for (int i = 0; i < SCORE_RANGES; i++) {
+        int minimum = i * QuizDistributionRecorder.SCORE_RANGE_WIDTH;
+        scoreRanges.add(
+            ScoreRange.builder()
+                .minimumPercentage(minimum)
+                .maximumPercentage(
+                    Math.min(minimum + QuizDistributionRecorder.SCORE_RANGE_WIDTH - 1, 100))
+                .count(scores[i])
+                .build());
+      }
+      return QuizResultRollup.builder()
+          .name(key.name())
+          .granularity(key.granularity())
+          .start(Instant.ofEpochMilli(key.startMillis()))
+          .count(count)
+          .promptCount(promptCount)
+          .correctAnswers(correctAnswers)
+          .averagePercentage(count == 0 ? 0 : (double) percentageSum / count)
+          .averageTimeSeconds(count == 0 ? 0 : (double) timeSecondsSum / count)
+          .scores(scoreRanges)
+          .build();
+    }
+  }
+
+  /**
+   * The rollups as saved.
+   *
+   * @param format The version of the file layout.
+   * @param rolledUpThroughSegment The number of the last segment rolled up, or 0 for none.
+   * @param dailyBeforeMillis The time before which results are totalled by day rather than by hour.
+   * @param rollups The totals.
+   */
+  record Checkpoint(
+      int format,
+      int rolledUpThroughSegment,
+      long dailyBeforeMillis,
+      List<RollupCheckpoint> rollups) {}
+
+  /**
+   * The totals of one rollup, as saved.
+   *
+   * @param name The name of the quiz.
+   * @param granularity How long the time covered is.
+   * @param startMillis The start of the time covered, in milliseconds since the epoch.
+   * @param count The number of results.
+   * @param promptCount The number of prompts asked.
+   * @param correctAnswers The number of prompts answered correctly.
+   * @param percentageSum The sum of the percentages earned.
+   * @param timeSecondsSum The sum of the times taken, in seconds.
+   * @param scores The number of results in each score range, lowest first.
+   */
+  record RollupCheckpoint(
+      String name,
+      Granularity granularity,
+      long startMillis,
+      long count,
+      long promptCount,
+      long correctAnswers,
+      long percentageSum,
+      long timeSecondsSum,
+      long[] scores) {}
+}
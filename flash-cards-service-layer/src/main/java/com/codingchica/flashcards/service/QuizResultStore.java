@@ -0,0 +1,17 @@
+package com.codingchica.flashcards.service;
+
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import java.util.List;
+
+/** Where graded quizzes are kept, once their results have been returned. */
+public interface QuizResultStore {
+  /**
+   * Keep graded quizzes, returning once they are stored, or, for stores which save them behind the
+   * request, once they are queued to be.
+   *
+   * @param quizResults The results to keep, in the order they were graded.
+   * @throws RenderableException When the results cannot be stored, or queued to be.
+   */
+  void append(List<QuizResult> quizResults) throws RenderableException;
+}
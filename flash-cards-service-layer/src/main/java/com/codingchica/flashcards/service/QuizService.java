@@ -1,30 +1,61 @@
 package com.codingchica.flashcards.service;
 
-import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
 import com.codingchica.flashcards.core.config.FlashCardsConfiguration;
+import com.codingchica.flashcards.core.config.QuizSessionsConfiguration;
 import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.grading.QuizGrade;
+import com.codingchica.flashcards.core.grading.QuizGrader;
+import com.codingchica.flashcards.core.grading.RunningGrade;
+import com.codingchica.flashcards.core.ids.QuizToken;
+import com.codingchica.flashcards.core.ids.QuizTokenCodec;
 import com.codingchica.flashcards.core.mappers.external.CompletedQuizMapper;
 import com.codingchica.flashcards.core.mappers.external.QuizMapper;
+import com.codingchica.flashcards.core.model.external.AnswerFeedback;
 import com.codingchica.flashcards.core.model.external.CompletedQuiz;
 import com.codingchica.flashcards.core.model.external.Quiz;
 import com.codingchica.flashcards.core.model.external.QuizResult;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.codingchica.flashcards.core.model.external.QuizSubmission;
+import com.codingchica.flashcards.core.model.external.QuizSubmissionResult;
+import com.codingchica.flashcards.core.model.external.SubmittedAnswer;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.*;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.*;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** The internal service which is responsible for quiz related logic. */
 @Builder(builderClassName = "Builder")
 public class QuizService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(QuizService.class);
+
+  /** How long a quiz being graded inline may go without an answer before it is forgotten. */
+  private static final Duration INLINE_GRADING_IDLE_TIMEOUT = Duration.ofHours(3);
+
+  /** The most quizzes which may be graded inline at the same time. */
+  private static final long MAXIMUM_INLINE_GRADINGS = 100_000;
+
   /** The application configuration for this instance. */
   @NonNull private FlashCardsConfiguration flashCardsConfiguration;
 
@@ -32,30 +63,164 @@ public class QuizService {
 
   @NonNull private CompletedQuizMapper completedQuizMapper;
 
+  /**
+   * Quizzes handed out, by ID, for grading. Unused when quiz IDs are signed tokens. Defaults to an
+   * in-memory store with the default QuizSessionsConfiguration, reporting to a private registry.
+   */
   @Getter(AccessLevel.PACKAGE)
-  private final Cache<UUID, Quiz> quizCache =
-      CacheBuilder.newBuilder().maximumSize(100).expireAfterWrite(Duration.ofHours(3)).build();
+  @Builder.Default
+  @NonNull private QuizSessionStore quizSessionStore = defaultQuizSessionStore();
 
-  private final Map<String, List<FlashCardGroup>> flashCardGroupEntries = new HashMap<>();
+  /**
+   * Recently published catalogs, by version, so that a signed quiz handed out before a reload can
+   * still be regenerated from the deck it was drawn from.
+   */
+  private final Cache<Long, DeckCatalog> catalogsByVersion =
+      CacheBuilder.newBuilder().maximumSize(8).build();
 
-  @NonNull private ObjectMapper objectMapper = null;
+  /**
+   * The compiled catalog of quizzes available. Built on first use and replaced wholesale on reload,
+   * so request threads never contend on a lock once it has been published. Quizzes already handed
+   * out keep a reference to the deck they were drawn from, so they still grade against that version
+   * after a swap.
+   */
+  private final AtomicReference<DeckCatalog> deckCatalog = new AtomicReference<>();
+
+  /**
+   * Quizzes being graded inline, one answer at a time, by ID. Only the running totals are kept, so
+   * each entry is a fixed size beyond the quiz itself. Entries are dropped when the quiz is
+   * submitted, or once idle for too long, after which the quiz can still be graded from its
+   * answers.
+   */
+  private final Cache<String, InlineGrading> inlineGradings =
+      CacheBuilder.newBuilder()
+          .expireAfterAccess(INLINE_GRADING_IDLE_TIMEOUT)
+          .maximumSize(MAXIMUM_INLINE_GRADINGS)
+          .build();
+
+  /** Grades completed quizzes, and the answers to quizzes being graded inline. */
+  private final QuizGrader quizGrader = new QuizGrader();
+
+  /** Where graded quizzes are kept. */
+  @NonNull private QuizResultStore quizResultStore;
+
+  /** Quizzes generated ahead of time, if enabled. Otherwise quizzes are generated per request. */
+  private QuizPool quizPool;
+
+  /**
+   * Signs quiz IDs as tokens the quiz can be regenerated from, if enabled. Otherwise quizzes are
+   * kept in the quizSessionStore until graded.
+   */
+  private QuizTokenCodec quizTokenCodec;
+
+  /**
+   * Where completed quizzes are graded and saved, off the request threads. It should be bounded,
+   * rejecting quizzes once saturated. Defaults to grading them on the calling thread.
+   */
+  @Builder.Default @NonNull private Executor gradingExecutor = MoreExecutors.directExecutor();
+
+  /** How long clients are asked to wait before submitting a quiz again, once it was refused. */
+  @Builder.Default @NonNull private Duration gradingRetryAfter = Duration.ofSeconds(1);
+
+  /** Keeps running statistics for each quiz as it is graded, if set. */
+  private QuizStatisticsAggregator quizStatistics;
+
+  /** Counts the prompts missed most often across every student, if set. */
+  private HardestPromptsTracker hardestPrompts;
+
+  /** Records the completion time and score distributions of each quiz, if set. */
+  private QuizDistributionRecorder quizDistributions;
+
+  private static QuizSessionStore defaultQuizSessionStore() {
+    QuizSessionsConfiguration quizSessions = new QuizSessionsConfiguration();
+    return InMemoryQuizSessionStore.builder()
+        .maximumPrompts(quizSessions.getMaximumPrompts())
+        .expireAfter(quizSessions.getExpireAfter().toJavaDuration())
+        .rejectWhenFull(quizSessions.isRejectWhenFull())
+        .retryAfter(quizSessions.getRetryAfter().toJavaDuration())
+        .metricRegistry(new MetricRegistry())
+        .build();
+  }
 
   /**
    * Lazy getter for the configured quizzes.
    *
    * @return Quizzes available.
    */
+  private DeckCatalog getDeckCatalog() {
+    DeckCatalog catalog = deckCatalog.get();
+    if (catalog == null) {
+      catalog = initializeDeckCatalog();
+    }
+    return catalog;
+  }
+
+  /**
+   * Compile the catalog from the configuration, if another thread has not already done so.
+   *
+   * @return The published catalog.
+   */
   @Synchronized
-  private Map<String, List<FlashCardGroup>> getFlashCardConfigurations() {
-    if (flashCardGroupEntries.isEmpty()) {
+  private DeckCatalog initializeDeckCatalog() {
+    if (deckCatalog.get() == null) {
       Preconditions.checkNotNull(
           flashCardsConfiguration, "flashCardsConfiguration must not be null");
       Preconditions.checkNotNull(
           flashCardsConfiguration.getFlashCardGroupMap(), "flashCardGroupMap must not be null");
 
-      flashCardGroupEntries.putAll(flashCardsConfiguration.getFlashCardGroupMap());
+      publish(DeckCatalog.compile(flashCardsConfiguration.getFlashCardGroupMap()));
     }
-    return Collections.unmodifiableMap(flashCardGroupEntries);
+    return deckCatalog.get();
+  }
+
+  /**
+   * Compile a catalog from the provided configuration and publish it in place of the current one.
+   * Requests already in progress finish against the catalog they started with.
+   *
+   * @param configuration The freshly loaded (and validated) configuration.
+   * @return The newly published catalog.
+   */
+  @Synchronized
+  public DeckCatalog reloadCatalog(@NonNull FlashCardsConfiguration configuration) {
+    Preconditions.checkNotNull(
+        configuration.getFlashCardGroupMap(), "flashCardGroupMap must not be null");
+
+    DeckCatalog catalog = DeckCatalog.compile(configuration.getFlashCardGroupMap());
+    publish(catalog);
+    return catalog;
+  }
+
+  /**
+   * Make a newly compiled catalog the one quizzes are served from.
+   *
+   * @param catalog The catalog to serve.
+   */
+  private void publish(DeckCatalog catalog) {
+    catalogsByVersion.put(catalog.getVersion(), catalog);
+    quizSessionStore.publish(catalog);
+    deckCatalog.set(catalog);
+    if (quizPool != null) {
+      quizPool.publish(catalog);
+    }
+    if (quizStatistics != null) {
+      quizStatistics.publish(catalog);
+    }
+    if (hardestPrompts != null) {
+      hardestPrompts.publish(catalog);
+    }
+    if (quizDistributions != null) {
+      quizDistributions.publish(catalog);
+    }
+  }
+
+  /**
+   * Generate a quiz from a deck, taking a pre-generated one from the pool when available.
+   *
+   * @param deck The deck from the current catalog.
+   * @return A new quiz.
+   */
+  private Quiz generateQuiz(Deck deck) {
+    return quizPool == null ? quizMapper.deckToExternalQuizMapping(deck) : quizPool.take(deck);
   }
 
   /**
@@ -63,45 +228,167 @@ public class QuizService {
    *
    * @param quizName The name of the quiz to retrieve.
    * @return The corresponding Quiz, if found.
+   * @throws RenderableException when there is no room to keep another quiz in progress.
    */
-  public Optional<Quiz> getQuiz(@NonNull String quizName) {
-    Map<String, List<FlashCardGroup>> flashCardGroups = getFlashCardConfigurations();
-    Preconditions.checkNotNull(flashCardGroups, "flashCardGroups must not be null");
-
-    Optional<Quiz> optionalQuiz =
-        flashCardGroups.entrySet().stream()
-            .filter(Objects::nonNull)
-            .filter(quizEntry -> quizEntry.getValue() != null)
-            .flatMap(quizEntry -> quizEntry.getValue().stream())
-            .filter(Objects::nonNull)
-            .filter(quiz -> quiz.getName() != null)
-            .filter(quiz -> StringUtils.equalsIgnoreCase(quizName, quiz.getName()))
-            .map(quiz -> quizMapper.internalToExternalQuizMapping(quiz))
-            .filter(Objects::nonNull)
-            .findFirst();
-    optionalQuiz.ifPresent(quiz -> quizCache.put(quiz.getId(), quiz));
+  public Optional<Quiz> getQuiz(@NonNull String quizName) throws RenderableException {
+    DeckCatalog catalog = getDeckCatalog();
+    Optional<Quiz> optionalQuiz = catalog.findDeck(quizName).map(this::generateQuiz);
+    if (optionalQuiz.isPresent()) {
+      if (quizTokenCodec == null) {
+        quizSessionStore.put(optionalQuiz.get());
+      } else {
+        signQuizId(catalog, optionalQuiz.get());
+      }
+    }
     return optionalQuiz;
   }
 
+  /**
+   * Replace a quiz's ID with a signed token describing how to regenerate it. The creation time is
+   * truncated to what the token can carry, so that a regenerated quiz times the same.
+   *
+   * @param catalog The catalog the quiz's deck was found in.
+   * @param quiz The newly generated quiz.
+   */
+  private void signQuizId(DeckCatalog catalog, Quiz quiz) {
+    if (!(quiz.getPrompts() instanceof DeckPromptList deckPromptList)) {
+      throw new IllegalStateException("quiz prompts must be drawn from a deck");
+    }
+    Instant createdDateTime = quiz.getCreatedDateTime().truncatedTo(ChronoUnit.MILLIS);
+    quiz.setCreatedDateTime(createdDateTime);
+    quiz.setId(
+        quizTokenCodec.encode(
+            QuizToken.builder()
+                .deckId(deckPromptList.getDeck().getId())
+                .catalogVersion(catalog.getVersion())
+                .seed(deckPromptList.getSeed())
+                .createdDateTime(createdDateTime)
+                .build()));
+  }
+
+  /**
+   * Find a quiz that was handed out, either in the quizSessionStore or by regenerating it from its
+   * signed ID.
+   *
+   * @param id The ID of the quiz.
+   * @return The quiz, if it is still known.
+   */
+  private Optional<Quiz> findQuiz(String id) {
+    // Make sure the configured catalog has been published, e.g. on a node that just started.
+    getDeckCatalog();
+    if (quizTokenCodec == null) {
+      return quizSessionStore.get(id);
+    }
+    return quizTokenCodec.decode(id).flatMap(quizToken -> regenerateQuiz(id, quizToken));
+  }
+
+  /**
+   * Regenerate a quiz from its token, as long as the catalog it was drawn from is still known.
+   *
+   * @param id The signed ID of the quiz.
+   * @param quizToken The token decoded from the ID.
+   * @return The quiz as originally handed out, if its catalog is still known.
+   */
+  private Optional<Quiz> regenerateQuiz(String id, QuizToken quizToken) {
+    DeckCatalog catalog = catalogsByVersion.getIfPresent(quizToken.getCatalogVersion());
+    if (catalog == null
+        || quizToken.getDeckId() < 0
+        || quizToken.getDeckId() >= catalog.getDeckCount()) {
+      return Optional.empty();
+    }
+    Quiz quiz =
+        quizMapper.deckToExternalQuizMapping(
+            catalog.getDeck(quizToken.getDeckId()), quizToken.getSeed());
+    quiz.setId(id);
+    quiz.setCreatedDateTime(quizToken.getCreatedDateTime());
+    return Optional.of(quiz);
+  }
+
   /**
    * Retrieve all available quiz names.
    *
    * @return A collection of available quiz names.
    */
   public Map<String, List<String>> listQuizNamesByCategory() {
+    return getDeckCatalog().getQuizNamesByCategory();
+  }
 
-    Map<String, List<FlashCardGroup>> flashCardGroups = getFlashCardConfigurations();
-    Preconditions.checkNotNull(flashCardGroups, "flashCardGroups must not be null");
+  /**
+   * Find a quiz that was handed out, making sure it is the one expected.
+   *
+   * @param id The ID of the quiz.
+   * @param quizName The name of the quiz expected.
+   * @return The quiz.
+   * @throws RenderableException when the quiz is not found, or has a different name.
+   */
+  private Quiz findQuiz(String id, String quizName) throws RenderableException {
+    Quiz quiz =
+        findQuiz(id)
+            .orElseThrow(
+                () ->
+                    new RenderableException(
+                        HttpStatus.NOT_FOUND_404, String.format("Quiz='%s' not found", id)));
+    if (!StringUtils.equals(quiz.getName(), quizName)) {
+      throw new RenderableException(HttpStatus.NOT_FOUND_404, "Quiz name mismatch");
+    }
+    return quiz;
+  }
+
+  /**
+   * Grade the answer to one prompt of a quiz as soon as it is given, so that the user gets
+   * immediate feedback and grading is spread across the quiz. Prompts are answered in order; the
+   * first answer starts grading the quiz inline, and submitting it with inlineGrading set closes
+   * it.
+   *
+   * @param quizName The name of the quiz.
+   * @param id The ID of the quiz.
+   * @param submittedAnswer The answer, and the position of the prompt it is for.
+   * @return The grade of the answer, and the running totals for the quiz.
+   * @throws RenderableException when the quiz is not found, or the answer is not for the next
+   *     prompt.
+   */
+  public AnswerFeedback gradeAnswer(
+      @NonNull String quizName, @NonNull String id, @NonNull SubmittedAnswer submittedAnswer)
+      throws RenderableException {
+    InlineGrading inlineGrading = inlineGradings.getIfPresent(id);
+    if (inlineGrading == null) {
+      Quiz quiz = findQuiz(id, quizName);
+      inlineGrading =
+          inlineGradings
+              .asMap()
+              .computeIfAbsent(
+                  id,
+                  key -> new InlineGrading(quiz, new RunningGrade(quizGrader, quiz.getPrompts())));
+    } else if (!StringUtils.equals(inlineGrading.quiz.getName(), quizName)) {
+      throw new RenderableException(HttpStatus.NOT_FOUND_404, "Quiz name mismatch");
+    }
 
-    return flashCardGroups.entrySet().stream()
-        .filter(Objects::nonNull)
-        .filter(entry -> entry.getKey() != null)
-        .filter(entry -> entry.getValue() != null)
-        .filter(entry -> entry.getValue().size() > 0)
-        .collect(
-            Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> entry.getValue().stream().map(FlashCardGroup::getName).toList()));
+    synchronized (inlineGrading) {
+      RunningGrade runningGrade = inlineGrading.runningGrade;
+      if (runningGrade.isComplete()) {
+        throw new RenderableException(
+            HttpStatus.CONFLICT_409, String.format("Quiz='%s' has no prompts left to answer", id));
+      }
+      int position = runningGrade.getPosition();
+      if (submittedAnswer.getPosition() != position) {
+        throw new RenderableException(
+            HttpStatus.CONFLICT_409,
+            String.format("Expected the answer for position=%d", position));
+      }
+      String expectedAnswer = runningGrade.getExpectedAnswer();
+      double credit = runningGrade.grade(submittedAnswer.getAnswer());
+      Duration duration = Duration.between(inlineGrading.quiz.getCreatedDateTime(), Instant.now());
+      return AnswerFeedback.builder()
+          .position(position)
+          .correctAnswer(credit == 1)
+          .credit(credit)
+          .expectedAnswer(expectedAnswer)
+          .promptCount(runningGrade.getPromptCount())
+          .correctAnswers(runningGrade.getCorrectAnswers())
+          .timeMinutes(duration.toMinutesPart())
+          .timeSeconds(duration.toSecondsPart())
+          .build();
+    }
   }
 
   /**
@@ -112,37 +399,253 @@ public class QuizService {
    * @return A graded quiz result.
    * @throws RenderableException when the requested quiz is not found in the server.
    */
-  public QuizResult gradeQuiz(@NonNull UUID id, @NonNull CompletedQuiz completedQuiz)
+  public QuizResult gradeQuiz(@NonNull String id, @NonNull CompletedQuiz completedQuiz)
+      throws RenderableException {
+    QuizResult externalQuizResult = grade(id, completedQuiz);
+    saveQuizResult(externalQuizResult);
+    return externalQuizResult;
+  }
+
+  /**
+   * Submit a completed quiz for grading on the gradingExecutor, so that the calling thread is not
+   * held up by grading or saving the result.
+   *
+   * @param id The ID of the quiz.
+   * @param completedQuiz The quiz to grade.
+   * @return The graded quiz result, once saved. Completes with a RenderableException when the
+   *     requested quiz is not found in the server, a RetryLaterException when the gradingExecutor
+   *     is saturated, or whatever else grading failed with.
+   */
+  public CompletableFuture<QuizResult> gradeQuizAsync(
+      @NonNull String id, @NonNull CompletedQuiz completedQuiz) {
+    CompletableFuture<QuizResult> future = new CompletableFuture<>();
+    try {
+      gradingExecutor.execute(
+          () -> {
+            try {
+              future.complete(gradeQuiz(id, completedQuiz));
+            } catch (Throwable e) {
+              // Even an Error must complete the future, or the request waiting on it never returns.
+              future.completeExceptionally(e);
+              if (e instanceof Error error) {
+                throw error;
+              }
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(
+          new RetryLaterException(
+              "Too many quizzes being graded, try again later", gradingRetryAfter));
+    }
+    return future;
+  }
+
+  /**
+   * Submit a batch of completed quizzes for grading. The quizzes are graded in parallel on the
+   * gradingExecutor, and each outcome is passed to the listener, on the calling thread, as soon as
+   * it is known. Once the gradingExecutor is saturated, the rest are graded on the calling thread
+   * instead. Once all of them are graded, the results are saved in a single write.
+   *
+   * @param quizName The name of the quiz every submission should be for.
+   * @param submissions The completed quizzes, with the IDs they were handed out with.
+   * @param listener Receives the result, or error, for each submission in the order they finish.
+   * @throws RenderableException when grading is interrupted or the results cannot be saved.
+   */
+  public void gradeQuizzes(
+      @NonNull String quizName,
+      @NonNull List<QuizSubmission> submissions,
+      @NonNull Consumer<QuizSubmissionResult> listener)
       throws RenderableException {
-    Quiz quiz = quizCache.getIfPresent(id);
-    if (quiz == null) {
+    CompletionService<QuizSubmissionResult> completionService =
+        new ExecutorCompletionService<>(
+            command -> {
+              try {
+                gradingExecutor.execute(command);
+              } catch (RejectedExecutionException e) {
+                command.run();
+              }
+            });
+    for (QuizSubmission submission : submissions) {
+      completionService.submit(() -> gradeSubmission(quizName, submission));
+    }
+
+    List<QuizResult> quizResults = new ArrayList<>(submissions.size());
+    RuntimeException listenerFailure = null;
+    try {
+      for (int i = 0; i < submissions.size(); i++) {
+        QuizSubmissionResult submissionResult = completionService.take().get();
+        if (submissionResult.getResult() != null) {
+          quizResults.add(submissionResult.getResult());
+        }
+        // Keep collecting after the listener fails (e.g. the client went away), so that the
+        // quizzes graded are still saved.
+        if (listenerFailure == null) {
+          try {
+            listener.accept(submissionResult);
+          } catch (RuntimeException e) {
+            listenerFailure = e;
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
       throw new RenderableException(
-          HttpStatus.NOT_FOUND_404, String.format("Quiz='%s' not found", id));
+          HttpStatus.SERVICE_UNAVAILABLE_503, "Interrupted while grading quizzes.", e);
+    } catch (ExecutionException e) {
+      // gradeSubmission reports its own failures, so this is not expected.
+      throw new RenderableException(
+          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while grading quizzes.", e.getCause());
+    }
+
+    if (!quizResults.isEmpty()) {
+      saveQuizResults(quizResults);
+    }
+    if (listenerFailure != null) {
+      throw listenerFailure;
+    }
+  }
+
+  /**
+   * Grade one completed quiz within a batch, capturing any failure in the outcome rather than
+   * throwing it, so that one bad submission does not fail the rest.
+   *
+   * @param quizName The name of the quiz the submission should be for.
+   * @param submission The completed quiz and its ID.
+   * @return The result of the graded quiz, or the error which prevented grading it.
+   */
+  private QuizSubmissionResult gradeSubmission(String quizName, QuizSubmission submission) {
+    QuizSubmissionResult.Builder builder = QuizSubmissionResult.builder().id(submission.getId());
+    try {
+      if (!StringUtils.equals(quizName, submission.getCompletedQuiz().getName())) {
+        throw new RenderableException(HttpStatus.NOT_FOUND_404, "Quiz name mismatch");
+      }
+      return builder
+          .code(HttpStatus.OK_200)
+          .result(grade(submission.getId(), submission.getCompletedQuiz()))
+          .build();
+    } catch (RenderableException e) {
+      return builder.code(e.getHttpStatus()).message(e.getMessage()).build();
+    } catch (RuntimeException e) {
+      LOGGER.error("Error while grading quiz={}", submission.getId(), e);
+      RenderableException renderableException = new RenderableException();
+      return builder
+          .code(renderableException.getHttpStatus())
+          .message(renderableException.getMessage())
+          .build();
+    }
+  }
+
+  /**
+   * Grade a completed quiz against the quiz handed out with the same ID. A quiz graded inline is
+   * closed with its running grade instead, unless that was forgotten, in which case the answers
+   * provided are graded as usual.
+   *
+   * @param id The ID of the quiz.
+   * @param completedQuiz The quiz to grade.
+   * @return A graded quiz result, which has not been saved yet.
+   * @throws RenderableException when the requested quiz is not found in the server.
+   */
+  private QuizResult grade(String id, CompletedQuiz completedQuiz) throws RenderableException {
+    if (completedQuiz.isInlineGrading()) {
+      Optional<QuizResult> closed = closeInlineGrading(id, completedQuiz.getName());
+      if (closed.isPresent()) {
+        return closed.get();
+      }
+      if (completedQuiz.getAnswers() == null || completedQuiz.getAnswers().isEmpty()) {
+        throw new RenderableException(
+            HttpStatus.NOT_FOUND_404, String.format("Quiz='%s' not graded inline", id));
+      }
     }
-    if (!StringUtils.equals(quiz.getName(), completedQuiz.getName())) {
+    Quiz quiz = findQuiz(id, completedQuiz.getName());
+    QuizGrade grade = quizGrader.grade(quiz.getPrompts(), completedQuiz.getAnswers(), false);
+    return toQuizResult(quiz, grade);
+  }
+
+  /**
+   * Stop grading a quiz inline, and grade it with the answers given so far. Prompts not answered
+   * count as incorrect.
+   *
+   * @param id The ID of the quiz.
+   * @param quizName The name of the quiz expected.
+   * @return The graded quiz result, if the quiz was being graded inline.
+   * @throws RenderableException when the quiz being graded inline has a different name.
+   */
+  private Optional<QuizResult> closeInlineGrading(String id, String quizName)
+      throws RenderableException {
+    InlineGrading inlineGrading = inlineGradings.getIfPresent(id);
+    if (inlineGrading == null) {
+      return Optional.empty();
+    }
+    if (!StringUtils.equals(inlineGrading.quiz.getName(), quizName)) {
       throw new RenderableException(HttpStatus.NOT_FOUND_404, "Quiz name mismatch");
     }
-    QuizResult externalQuizResult =
-        completedQuizMapper.mapCompletedQuizToExternalResults(quiz, completedQuiz);
-    saveQuizResult(externalQuizResult);
-    return externalQuizResult;
+    if (!inlineGradings.asMap().remove(id, inlineGrading)) {
+      // Closed by a concurrent submission.
+      return Optional.empty();
+    }
+    QuizGrade grade;
+    synchronized (inlineGrading) {
+      grade = inlineGrading.runningGrade.toQuizGrade();
+    }
+    return Optional.of(toQuizResult(inlineGrading.quiz, grade));
+  }
+
+  /**
+   * Map a graded quiz to its result, counting it in the quiz statistics, the hardest prompts and
+   * the distributions.
+   *
+   * @param quiz The quiz handed out.
+   * @param grade The grade for the answers returned.
+   * @return The graded quiz result, which has not been saved yet.
+   */
+  private QuizResult toQuizResult(Quiz quiz, QuizGrade grade) {
+    QuizResult quizResult = completedQuizMapper.mapGradeToExternalResults(quiz, grade);
+    if (quizStatistics != null) {
+      quizStatistics.record(quiz, grade, quizResult);
+    }
+    if (hardestPrompts != null) {
+      hardestPrompts.record(quiz, grade);
+    }
+    if (quizDistributions != null) {
+      quizDistributions.record(quiz, quizResult);
+    }
+    return quizResult;
   }
 
   /**
-   * Store the graded quiz to the file system.
+   * Store the graded quiz in the quizResultStore.
    *
-   * @param quizResult The quiz results which should be stored to the file system.
+   * @param quizResult The quiz results which should be stored.
    * @throws RenderableException Thrown if there is an issue while saving the quiz results.
    */
   protected void saveQuizResult(@NonNull QuizResult quizResult) throws RenderableException {
+    quizResultStore.append(List.of(quizResult));
+  }
 
-    try {
-      objectMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
-      objectMapper.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
-      objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File("temp.json"), quizResult);
-    } catch (IOException e) {
-      throw new RenderableException(
-          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results.");
+  /**
+   * Store a batch of graded quizzes in the quizResultStore, in a single append.
+   *
+   * @param quizResults The quiz results which should be stored.
+   * @throws RenderableException Thrown if there is an issue while saving the quiz results.
+   */
+  protected void saveQuizResults(@NonNull List<QuizResult> quizResults) throws RenderableException {
+    quizResultStore.append(quizResults);
+  }
+
+  /** A quiz being graded inline, with its running grade. Synchronize on it to grade an answer. */
+  private static final class InlineGrading {
+    private final Quiz quiz;
+    private final RunningGrade runningGrade;
+
+    /**
+     * Constructor.
+     *
+     * @param quiz The quiz handed out.
+     * @param runningGrade The grade of the answers given so far.
+     */
+    private InlineGrading(Quiz quiz, RunningGrade runningGrade) {
+      this.quiz = quiz;
+      this.runningGrade = runningGrade;
     }
   }
 }
@@ -0,0 +1,158 @@
+package com.codingchica.flashcards.service;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash index from quiz UUIDs to record addresses, held in a few primitive arrays
+ * rather than one object per entry, so the garbage collector has almost nothing to trace. Linear
+ * probing is used, with backward-shift deletion so that no tombstones build up. Not thread safe.
+ */
+class QuizSessionIndex {
+  /** The address stored for an empty slot, and returned when a key is not found. */
+  static final long NONE = -1L;
+
+  private static final int MINIMUM_CAPACITY = 16;
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+  private long[] mostSignificantBits;
+  private long[] leastSignificantBits;
+  private long[] addresses;
+  private int mask;
+  private int shift;
+  private int size;
+
+  /** Constructor, for an empty index. */
+  QuizSessionIndex() {
+    allocate(MINIMUM_CAPACITY);
+  }
+
+  private void allocate(int capacity) {
+    mostSignificantBits = new long[capacity];
+    leastSignificantBits = new long[capacity];
+    addresses = new long[capacity];
+    Arrays.fill(addresses, NONE);
+    mask = capacity - 1;
+    shift = Long.numberOfLeadingZeros(capacity - 1L);
+  }
+
+  /**
+   * Fibonacci hashing of both halves of the UUID, which spreads sequential and random bits alike.
+   */
+  private int slot(long msb, long lsb) {
+    return (int) (((msb ^ Long.rotateLeft(lsb, 32)) * GOLDEN_RATIO) >>> shift) & mask;
+  }
+
+  /**
+   * Find the slot holding a key, or the empty slot where it would go.
+   *
+   * @return The slot index.
+   */
+  private int find(long msb, long lsb) {
+    int slot = slot(msb, lsb);
+    while (addresses[slot] != NONE
+        && (mostSignificantBits[slot] != msb || leastSignificantBits[slot] != lsb)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Look up the address of a record.
+   *
+   * @param msb The most significant bits of the quiz ID.
+   * @param lsb The least significant bits of the quiz ID.
+   * @return The address, or NONE.
+   */
+  long get(long msb, long lsb) {
+    return addresses[find(msb, lsb)];
+  }
+
+  /**
+   * Add or replace the address of a record.
+   *
+   * @param msb The most significant bits of the quiz ID.
+   * @param lsb The least significant bits of the quiz ID.
+   * @param address The address of the record, which must not be NONE.
+   * @return The address previously held for the key, or NONE.
+   */
+  long put(long msb, long lsb, long address) {
+    int slot = find(msb, lsb);
+    long previous = addresses[slot];
+    if (previous == NONE) {
+      if ((size + 1) * 2 > addresses.length) {
+        grow();
+        slot = find(msb, lsb);
+      }
+      size++;
+      mostSignificantBits[slot] = msb;
+      leastSignificantBits[slot] = lsb;
+    }
+    addresses[slot] = address;
+    return previous;
+  }
+
+  /**
+   * Remove a key, but only while it still points at the given record, so that removing a stale
+   * record does not remove its replacement.
+   *
+   * @param msb The most significant bits of the quiz ID.
+   * @param lsb The least significant bits of the quiz ID.
+   * @param address The address expected for the key.
+   * @return Whether the key was removed.
+   */
+  boolean remove(long msb, long lsb, long address) {
+    int slot = find(msb, lsb);
+    if (addresses[slot] == NONE || addresses[slot] != address) {
+      return false;
+    }
+    size--;
+    // Backward-shift deletion: pull later entries of the probe run into the gap.
+    int gap = slot;
+    int next = (gap + 1) & mask;
+    while (addresses[next] != NONE) {
+      int home = slot(mostSignificantBits[next], leastSignificantBits[next]);
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        mostSignificantBits[gap] = mostSignificantBits[next];
+        leastSignificantBits[gap] = leastSignificantBits[next];
+        addresses[gap] = addresses[next];
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+    addresses[gap] = NONE;
+    return true;
+  }
+
+  /**
+   * The number of keys in the index.
+   *
+   * @return The count of keys.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * The number of slots in the index.
+   *
+   * @return The current capacity, always a power of two.
+   */
+  int capacity() {
+    return addresses.length;
+  }
+
+  private void grow() {
+    long[] oldMsb = mostSignificantBits;
+    long[] oldLsb = leastSignificantBits;
+    long[] oldAddresses = addresses;
+    allocate(oldAddresses.length * 2);
+    for (int i = 0; i < oldAddresses.length; i++) {
+      if (oldAddresses[i] != NONE) {
+        int slot = find(oldMsb[i], oldLsb[i]);
+        mostSignificantBits[slot] = oldMsb[i];
+        leastSignificantBits[slot] = oldLsb[i];
+        addresses[slot] = oldAddresses[i];
+      }
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.codingchica.flashcards.service;
+
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import java.util.Optional;
+
+/** Where quizzes that have been handed out are kept, by ID, until they are graded. */
+public interface QuizSessionStore {
+  /**
+   * Keep a quiz which is being handed out.
+   *
+   * @param quiz The quiz, keyed by its ID.
+   * @throws RenderableException When the store has no room for the quiz.
+   */
+  void put(Quiz quiz) throws RenderableException;
+
+  /**
+   * Find a quiz which was handed out.
+   *
+   * @param id The ID of the quiz.
+   * @return The quiz, if it is still held.
+   */
+  Optional<Quiz> get(String id);
+
+  /**
+   * Check whether a quiz is still held, without counting it as a hit or a miss.
+   *
+   * @param id The ID of the quiz.
+   * @return Whether the quiz is still held.
+   */
+  boolean contains(String id);
+
+  /**
+   * The number of quizzes currently held.
+   *
+   * @return The count of quizzes in the store.
+   */
+  long size();
+
+  /**
+   * Learn of a catalog which quizzes are about to be drawn from. Stores which persist quizzes by
+   * their deck use it to resolve the decks of quizzes restored from disk. Does nothing by default.
+   *
+   * @param catalog The newly published catalog.
+   */
+  default void publish(DeckCatalog catalog) {}
+}
@@ -0,0 +1,601 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.grading.QuizGrade;
+import com.codingchica.flashcards.core.model.external.PromptStatistics;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps running statistics for each quiz as it is graded, so that the attempt count, the averages
+ * and the prompts missed most often can be read at any time without going back over the saved
+ * results.
+ *
+ * <p>The totals for each quiz are LongAdders, so that quizzes graded at the same time on different
+ * threads do not contend on a single counter. The counts for each prompt are kept in arrays indexed
+ * by prompt ID, held for each deck of the catalog last published in an array indexed by deck ID, so
+ * that counting a graded quiz takes an array lookup and an increment per prompt, without hashing or
+ * allocating anything.
+ *
+ * <p>When a catalog is published, the counts of a deck whose prompts are unchanged carry on in the
+ * same arrays. Otherwise they are copied to the new deck by prompt text, dropping the counts of
+ * prompts no longer in the deck; quizzes counted while they are copied may be missed from the
+ * prompt counts. A quiz drawn from a deck before it changed is counted against the prompts of the
+ * new deck with the same text.
+ *
+ * <p>The statistics are checkpointed to a JSON file every checkpointInterval, and on stop, and are
+ * restored from it on start. Quizzes graded since the last checkpoint are not counted after a
+ * crash.
+ */
+public class QuizStatisticsAggregator implements Managed {
+  private static final Logger LOGGER = LoggerFactory.getLogger(QuizStatisticsAggregator.class);
+
+  /** The version of the checkpoint file layout. */
+  static final int FORMAT = 1;
+
+  /** The most missed first, then the most attempted, then by prompt. */
+  private static final Comparator<PromptStatistics> MOST_MISSED_FIRST =
+      Comparator.comparingLong(PromptStatistics::getMisses)
+          .thenComparingLong(PromptStatistics::getAttempts)
+          .reversed()
+          .thenComparing(PromptStatistics::getPrompt);
+
+  /** The file the statistics are checkpointed to, and restored from. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Path checkpointFile;
+
+  /** How often the statistics are checkpointed, besides on stop. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration checkpointInterval;
+
+  /** How many of the prompts missed most often are listed for each quiz. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int mostMissedPrompts;
+
+  private final ObjectMapper objectMapper;
+
+  /** The totals for each quiz, by normalized name. */
+  private final Map<String, QuizTotals> totalsByName = new ConcurrentHashMap<>();
+
+  /** The prompt counts for each deck of the catalog last published, by deck ID. */
+  private volatile PromptCounts[] promptCountsByDeckId = new PromptCounts[0];
+
+  private final Timer checkpoints;
+  private final ScheduledExecutorService checkpointer =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "quiz-statistics-checkpointer");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Constructor.
+   *
+   * @param checkpointFile The file the statistics are checkpointed to, and restored from on start.
+   *     Its directory is created if needed.
+   * @param checkpointInterval How often the statistics are checkpointed, besides on stop.
+   * @param mostMissedPrompts How many of the prompts missed most often are listed for each quiz.
+   * @param objectMapper The object mapper with which to read and write the checkpoint.
+   * @param metricRegistry Where to report checkpoint times.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public QuizStatisticsAggregator(
+      @NonNull Path checkpointFile,
+      @NonNull Duration checkpointInterval,
+      int mostMissedPrompts,
+      @NonNull ObjectMapper objectMapper,
+      @NonNull MetricRegistry metricRegistry) {
+    Preconditions.checkArgument(
+        !checkpointInterval.isNegative() && !checkpointInterval.isZero(),
+        "checkpointInterval must be positive");
+    Preconditions.checkArgument(mostMissedPrompts > 0, "mostMissedPrompts must be positive");
+    this.checkpointFile = checkpointFile;
+    this.checkpointInterval = checkpointInterval;
+    this.mostMissedPrompts = mostMissedPrompts;
+    this.objectMapper = objectMapper;
+
+    checkpoints =
+        metricRegistry.timer(MetricRegistry.name(QuizStatisticsAggregator.class, "checkpoints"));
+  }
+
+  /**
+   * Make a newly compiled catalog the one whose decks prompts are counted against.
+   *
+   * @param catalog The catalog being served.
+   */
+  public synchronized void publish(@NonNull DeckCatalog catalog) {
+    PromptCounts[] byDeckId = new PromptCounts[catalog.getDeckCount()];
+    for (int deckId = 0; deckId < byDeckId.length; deckId++) {
+      Deck deck = catalog.getDeck(deckId);
+      byDeckId[deckId] = totals(deck.getName()).moveTo(deck);
+    }
+    promptCountsByDeckId = byDeckId;
+  }
+
+  /**
+   * Count a graded quiz. The prompts are only counted for quizzes drawn from a compiled deck.
+   *
+   * @param quiz The quiz handed out.
+   * @param grade The grade for the answers returned.
+   * @param quizResult The result of the graded quiz, with the time it took.
+   */
+  public void record(@NonNull Quiz quiz, @NonNull QuizGrade grade, @NonNull QuizResult quizResult) {
+    if (quiz.getPrompts() instanceof DeckPromptList deckPrompts) {
+      PromptCounts promptCounts = promptCountsFor(deckPrompts.getDeck());
+      promptCounts.totals.add(quizResult);
+      promptCounts.add(deckPrompts, grade.getMissedPositions());
+    } else {
+      totals(quizResult.getName()).add(quizResult);
+    }
+  }
+
+  /**
+   * Find the prompt counts for a deck, straight from the catalog last published when the deck is
+   * part of it.
+   *
+   * @param deck The deck a quiz was drawn from.
+   * @return The prompt counts of the latest deck with the same name.
+   */
+  private PromptCounts promptCountsFor(Deck deck) {
+    PromptCounts[] byDeckId = promptCountsByDeckId;
+    int deckId = deck.getId();
+    if (deckId < byDeckId.length && byDeckId[deckId].deck == deck) {
+      return byDeckId[deckId];
+    }
+    // Drawn from a catalog since replaced, or not published here.
+    return totals(deck.getName()).promptCountsFor(deck);
+  }
+
+  private QuizTotals totals(String quizName) {
+    return totalsByName.computeIfAbsent(
+        DeckCatalog.normalizeName(quizName), key -> new QuizTotals(quizName));
+  }
+
+  /**
+   * Retrieve the statistics for a quiz.
+   *
+   * @param quizName The name of the quiz, ignoring case.
+   * @return The statistics, if the quiz has been graded.
+   */
+  public Optional<QuizStatistics> getStatistics(@NonNull String quizName) {
+    return Optional.ofNullable(totalsByName.get(DeckCatalog.normalizeName(quizName)))
+        .filter(totals -> totals.attempts.sum() > 0)
+        .map(this::toStatistics);
+  }
+
+  /**
+   * Retrieve the statistics for every quiz graded.
+   *
+   * @return The statistics, by quiz name.
+   */
+  public List<QuizStatistics> getStatistics() {
+    return totalsByName.values().stream()
+        .filter(totals -> totals.attempts.sum() > 0)
+        .map(this::toStatistics)
+        .sorted(Comparator.comparing(QuizStatistics::getName))
+        .toList();
+  }
+
+  private QuizStatistics toStatistics(QuizTotals totals) {
+    long attempts = totals.attempts.sum();
+    return QuizStatistics.builder()
+        .name(totals.name)
+        .attempts(attempts)
+        .averagePercentage(attempts == 0 ? 0 : (double) totals.percentageSum.sum() / attempts)
+        .averageTimeSeconds(attempts == 0 ? 0 : (double) totals.timeSecondsSum.sum() / attempts)
+        .mostMissedPrompts(
+            totals.promptStatistics().stream()
+                .filter(prompt -> prompt.getMisses() > 0)
+                .sorted(MOST_MISSED_FIRST)
+                .limit(mostMissedPrompts)
+                .toList())
+        .build();
+  }
+
+  /**
+   * Restore the last checkpoint, if any, and start checkpointing.
+   *
+   * @throws IOException If the checkpoint cannot be read.
+   */
+  @Override
+  public void start() throws IOException {
+    Path directory = checkpointFile.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    restore();
+    long interval = checkpointInterval.toMillis();
+    checkpointer.scheduleWithFixedDelay(
+        this::checkpointQuietly, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stop checkpointing, and checkpoint the statistics one last time.
+   *
+   * @throws Exception If the final checkpoint cannot be written.
+   */
+  @Override
+  public void stop() throws Exception {
+    checkpointer.shutdownNow();
+    checkpointer.awaitTermination(10, TimeUnit.SECONDS);
+    checkpoint();
+  }
+
+  private void checkpointQuietly() {
+    try {
+      checkpoint();
+    } catch (IOException e) {
+      LOGGER.error("Unable to checkpoint quiz statistics, will retry", e);
+    }
+  }
+
+  /**
+   * Replace the checkpoint, atomically, so that a crash leaves either the old or the new one.
+   *
+   * @throws IOException If the checkpoint cannot be written.
+   */
+  void checkpoint() throws IOException {
+    try (Timer.Context ignored = checkpoints.time()) {
+      List<QuizCheckpoint> quizzes = new ArrayList<>(totalsByName.size());
+      for (QuizTotals totals : totalsByName.values()) {
+        quizzes.add(
+            new QuizCheckpoint(
+                totals.name,
+                totals.attempts.sum(),
+                totals.percentageSum.sum(),
+                totals.timeSecondsSum.sum(),
+                totals.promptStatistics().stream()
+                    .map(
+                        prompt ->
+                            new PromptCheckpoint(
+                                prompt.getPrompt(), prompt.getAttempts(), prompt.getMisses()))
+                    .toList()));
+      }
+      ByteBuffer contents =
+          ByteBuffer.wrap(objectMapper.writeValueAsBytes(new Checkpoint(FORMAT, quizzes)));
+      Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+      try (FileChannel file =
+          FileChannel.open(
+              temporary,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (contents.hasRemaining()) {
+          file.write(contents);
+        }
+        file.force(true);
+      }
+      Files.move(
+          temporary,
+          checkpointFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Add the counts from the checkpoint, if there is one, to those kept so far.
+   *
+   * @throws IOException If the checkpoint cannot be read, or is not a quiz statistics checkpoint.
+   */
+  private void restore() throws IOException {
+    Checkpoint checkpoint;
+    try {
+      checkpoint = objectMapper.readValue(Files.readAllBytes(checkpointFile), Checkpoint.class);
+    } catch (NoSuchFileException e) {
+      return;
+    }
+    if (checkpoint.format() != FORMAT || checkpoint.quizzes() == null) {
+      throw new IOException(checkpointFile + " is not a quiz statistics checkpoint");
+    }
+    for (QuizCheckpoint quiz : checkpoint.quizzes()) {
+      QuizTotals totals = totals(quiz.name());
+      totals.attempts.add(quiz.attempts());
+      totals.percentageSum.add(quiz.percentageSum());
+      totals.timeSecondsSum.add(quiz.timeSecondsSum());
+      Map<String, long[]> prompts = new HashMap<>();
+      if (quiz.prompts() != null) {
+        for (PromptCheckpoint prompt : quiz.prompts()) {
+          prompts.put(prompt.prompt(), new long[] {prompt.attempts(), prompt.misses()});
+        }
+      }
+      totals.restore(prompts);
+    }
+    LOGGER.info(
+        "Restored the statistics of {} quizzes from {}",
+        checkpoint.quizzes().size(),
+        checkpointFile);
+  }
+
+  /** The running totals for one quiz, across every deck it has been drawn from. */
+  private static final class QuizTotals {
+    /** The name of the quiz, as first counted. */
+    private final String name;
+
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder percentageSum = new LongAdder();
+    private final LongAdder timeSecondsSum = new LongAdder();
+
+    /** The prompt counts for the latest deck with this name, or null before one is seen. */
+    private volatile PromptCounts promptCounts;
+
+    /**
+     * Prompt counts restored from a checkpoint, by prompt, before a deck with this name is seen.
+     * Each value holds the attempts, then the misses.
+     */
+    private Map<String, long[]> restoredPrompts = Map.of();
+
+    private QuizTotals(String name) {
+      this.name = name;
+    }
+
+    private void add(QuizResult quizResult) {
+      attempts.increment();
+      percentageSum.add(quizResult.getPercentage());
+      timeSecondsSum.add(quizResult.getTimeMinutes() * 60L + quizResult.getTimeSeconds());
+    }
+
+    /**
+     * Count the prompts of this quiz against a newly published deck from now on.
+     *
+     * @param deck The deck with this name in the catalog being published.
+     * @return The prompt counts for the deck.
+     */
+    private synchronized PromptCounts moveTo(Deck deck) {
+      PromptCounts previous = promptCounts;
+      if (previous != null && previous.hasSamePrompts(deck)) {
+        promptCounts = new PromptCounts(this, deck, previous.attempts, previous.misses);
+      } else {
+        promptCounts = new PromptCounts(this, deck, carriedOver(previous));
+      }
+      return promptCounts;
+    }
+
+    /**
+     * Find the prompt counts for a deck which is not part of the catalog last published.
+     *
+     * @param deck The deck a quiz was drawn from.
+     * @return The prompt counts for the latest deck with this name, which is this deck if there
+     *     were none yet.
+     */
+    private PromptCounts promptCountsFor(Deck deck) {
+      PromptCounts latest = promptCounts;
+      if (latest != null) {
+        return latest;
+      }
+      synchronized (this) {
+        if (promptCounts == null) {
+          promptCounts = new PromptCounts(this, deck, carriedOver(null));
+        }
+        return promptCounts;
+      }
+    }
+
+    /**
+     * The counts to start new prompt counts from. Called while synchronized.
+     *
+     * @param previous The prompt counts being replaced, if any.
+     * @return The counts, by prompt.
+     */
+    private Map<String, long[]> carriedOver(PromptCounts previous) {
+      Map<String, long[]> counts = previous == null ? restoredPrompts : previous.byPrompt();
+      restoredPrompts = Map.of();
+      return counts;
+    }
+
+    /**
+     * Add counts restored from a checkpoint.
+     *
+     * @param prompts The counts, by prompt, holding the attempts, then the misses.
+     */
+    private synchronized void restore(Map<String, long[]> prompts) {
+      if (promptCounts == null) {
+        restoredPrompts = prompts;
+      } else {
+        promptCounts.addAll(prompts);
+      }
+    }
+
+    /**
+     * The counts of every prompt attempted.
+     *
+     * @return The counts, in no particular order.
+     */
+    private synchronized List<PromptStatistics> promptStatistics() {
+      Map<String, long[]> counts = promptCounts == null ? restoredPrompts : promptCounts.byPrompt();
+      List<PromptStatistics> prompts = new ArrayList<>(counts.size());
+      counts.forEach(
+          (prompt, count) ->
+              prompts.add(
+                  PromptStatistics.builder()
+                      .prompt(prompt)
+                      .attempts(count[0])
+                      .misses(count[1])
+                      .build()));
+      return prompts;
+    }
+  }
+
+  /** The counts for each prompt of one deck, indexed by prompt ID. */
+  private static final class PromptCounts {
+    private final QuizTotals totals;
+    private final Deck deck;
+    private final AtomicLongArray attempts;
+    private final AtomicLongArray misses;
+
+    /** The prompt IDs by prompt, built the first time a quiz from another deck is counted. */
+    private volatile Map<String, Integer> promptIds;
+
+    private PromptCounts(
+        QuizTotals totals, Deck deck, AtomicLongArray attempts, AtomicLongArray misses) {
+      this.totals = totals;
+      this.deck = deck;
+      this.attempts = attempts;
+      this.misses = misses;
+    }
+
+    private PromptCounts(QuizTotals totals, Deck deck, Map<String, long[]> counts) {
+      this(
+          totals,
+          deck,
+          new AtomicLongArray(deck.getPromptCount()),
+          new AtomicLongArray(deck.getPromptCount()));
+      addAll(counts);
+    }
+
+    /**
+     * Count the prompts presented in a graded quiz.
+     *
+     * @param deckPrompts The prompts of the quiz.
+     * @param missedPositions The positions of the prompts which did not earn full credit.
+     */
+    private void add(DeckPromptList deckPrompts, BitSet missedPositions) {
+      Deck from = deckPrompts.getDeck();
+      Map<String, Integer> ids = from == deck ? null : promptIds();
+      for (int i = 0; i < deckPrompts.size(); i++) {
+        int promptId = deckPrompts.getPromptId(i);
+        if (ids != null) {
+          Integer id = ids.get(from.getPrompt(promptId));
+          if (id == null) {
+            // No longer in the deck.
+            continue;
+          }
+          promptId = id;
+        }
+        attempts.incrementAndGet(promptId);
+        if (missedPositions.get(i)) {
+          misses.incrementAndGet(promptId);
+        }
+      }
+    }
+
+    /**
+     * Add counts for the prompts still in the deck.
+     *
+     * @param counts The counts, by prompt, holding the attempts, then the misses.
+     */
+    private void addAll(Map<String, long[]> counts) {
+      if (counts.isEmpty()) {
+        return;
+      }
+      Map<String, Integer> ids = promptIds();
+      counts.forEach(
+          (prompt, count) -> {
+            Integer promptId = ids.get(prompt);
+            if (promptId != null) {
+              attempts.addAndGet(promptId, count[0]);
+              misses.addAndGet(promptId, count[1]);
+            }
+          });
+    }
+
+    private Map<String, Integer> promptIds() {
+      Map<String, Integer> ids = promptIds;
+      if (ids == null) {
+        ids = new HashMap<>();
+        for (int promptId = 0; promptId < deck.getPromptCount(); promptId++) {
+          ids.put(deck.getPrompt(promptId), promptId);
+        }
+        promptIds = ids;
+      }
+      return ids;
+    }
+
+    private boolean hasSamePrompts(Deck other) {
+      if (other.getPromptCount() != deck.getPromptCount()) {
+        return false;
+      }
+      for (int promptId = 0; promptId < deck.getPromptCount(); promptId++) {
+        if (!deck.getPrompt(promptId).equals(other.getPrompt(promptId))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * The counts of every prompt attempted.
+     *
+     * @return The counts, by prompt, holding the attempts, then the misses.
+     */
+    private Map<String, long[]> byPrompt() {
+      Map<String, long[]> counts = new HashMap<>();
+      for (int promptId = 0; promptId < attempts.length(); promptId++) {
+        long promptAttempts = attempts.get(promptId);
+        if (promptAttempts > 0) {
+          counts.put(deck.getPrompt(promptId), new long[] {promptAttempts, misses.get(promptId)});
+        }
+      }
+      return counts;
+    }
+  }
+
+  /**
+   * The statistics as checkpointed.
+   *
+   * @param format The version of the file layout.
+   * @param quizzes The totals for each quiz.
+   */
+  record Checkpoint(int format, List<QuizCheckpoint> quizzes) {}
+
+  /**
+   * The totals for one quiz, as checkpointed.
+   *
+   * @param name The name of the quiz.
+   * @param attempts The number of times it was graded.
+   * @param percentageSum The sum of the percentages earned.
+   * @param timeSecondsSum The sum of the times taken, in seconds.
+   * @param prompts The counts of every prompt attempted.
+   */
+  record QuizCheckpoint(
+      String name,
+      long attempts,
+      long percentageSum,
+      long timeSecondsSum,
+      List<PromptCheckpoint> prompts) {}
+
+  /**
+   * The counts for one prompt, as checkpointed.
+   *
+   * @param prompt The prompt.
+   * @param attempts The number of graded quizzes it was presented in.
+   * @param misses The number of those in which it did not earn full credit.
+   */
+  record PromptCheckpoint(String prompt, long attempts, long misses) {}
+}
@@ -0,0 +1,20 @@
+package com.codingchica.flashcards.service;
+
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/** A graded quiz, as kept, along with when it was saved. */
+@Getter
+@Builder(builderClassName = "Builder")
+@ToString
+public class SavedQuizResult {
+  /** When the result was saved, to the millisecond. */
+  @NonNull private Instant savedAt;
+
+  /** The result itself. */
+  @NonNull private QuizResult quizResult;
+}
@@ -0,0 +1,310 @@
+package com.codingchica.flashcards.service;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.config.QuizResultsConfiguration.WhenQueueFull;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.google.common.base.Preconditions;
+import io.dropwizard.lifecycle.Managed;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Saves graded quizzes behind the request, handing them to another store from a bounded queue.
+ *
+ * <p>Any number of threads append to the queue, and a single writer thread drains it, handing the
+ * results to the delegate in batches of up to maximumBatchSize, so that a slow flush to disk holds
+ * up neither grading nor the results queued behind it for long. Once the queue is full, results are
+ * waited for, dropped or refused, according to whenQueueFull. On stop, results are refused from
+ * then on, and everything already queued is handed to the delegate before it is stopped too.
+ * Appends still waiting for room give up once stop is called, so a delegate which hangs cannot keep
+ * stop waiting for them.
+ *
+ * <p>Results are only logged, and counted in the "failed" meter, should the delegate fail to save
+ * them, since the quizzes have already been graded by then.
+ */
+public class WriteBehindQuizResultStore implements QuizResultStore, Managed {
+  private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindQuizResultStore.class);
+
+  /** How long the writer waits for results before checking whether it has been stopped. */
+  private static final long POLL_MILLIS = 100;
+
+  /** How long stop waits for an interrupted writer, before handing on what is left itself. */
+  private static final long INTERRUPTED_JOIN_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+  /** The store the results are handed to. */
+  @Getter(AccessLevel.PACKAGE)
+  private final QuizResultStore delegate;
+
+  /** The most results the writer hands to the delegate at once. */
+  @Getter(AccessLevel.PACKAGE)
+  private final int maximumBatchSize;
+
+  /** What to do with results appended while the queue is full. */
+  @Getter(AccessLevel.PACKAGE)
+  private final WhenQueueFull whenQueueFull;
+
+  /** How long clients are asked to wait before grading again, after a refusal. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration retryAfter;
+
+  /** How long stop waits for the writer to hand on everything queued, before interrupting it. */
+  @Getter(AccessLevel.PACKAGE)
+  private final Duration drainTimeout;
+
+  private final BlockingQueue<QuizResult> queue;
+
+  /**
+   * Held while refused results are checked for room, so that an append which fits is queued whole,
+   * rather than partly queued and partly refused.
+   */
+  private final Object rejectLock = new Object();
+
+  /**
+   * Read-locked while results are appended, and write-locked while stopping, so that every append
+   * either queues its results before the queue is drained, or fails.
+   */
+  private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+  private final Histogram batchSizes;
+  private final Timer flushes;
+  private final Meter dropped;
+  private final Meter rejected;
+  private final Meter failed;
+
+  /** Whether results are being accepted. Only set while the runningLock is write-locked. */
+  private volatile boolean running;
+
+  /**
+   * Set by stop before it waits for the runningLock, so that appends waiting for room give up and
+   * release it.
+   */
+  private volatile boolean stopping;
+
+  private Thread writer;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate The store the results are handed to, started and stopped along with this one.
+   * @param queueCapacity How many results may wait to be handed to the delegate.
+   * @param maximumBatchSize The most results the writer hands to the delegate at once.
+   * @param whenQueueFull What to do with results appended while the queue is full.
+   * @param retryAfter How long clients are asked to wait before grading again, after a refusal.
+   * @param metricRegistry Where to report the queue depth, batch sizes and flush times.
+   * @param drainTimeout How long stop waits for the writer to hand on everything queued, before
+   *     interrupting it, defaulting to 30 seconds.
+   */
+  @lombok.Builder(builderClassName = "Builder")
+  public WriteBehindQuizResultStore(
+      @NonNull QuizResultStore delegate,
+      int queueCapacity,
+      int maximumBatchSize,
+      @NonNull WhenQueueFull whenQueueFull,
+      @NonNull Duration retryAfter,
+      @NonNull MetricRegistry metricRegistry,
+      Duration drainTimeout) {
+    Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be positive");
+    Preconditions.checkArgument(maximumBatchSize > 0, "maximumBatchSize must be positive");
+    this.delegate = delegate;
+    this.maximumBatchSize = maximumBatchSize;
+    this.whenQueueFull = whenQueueFull;
+    this.retryAfter = retryAfter;
+    this.drainTimeout = drainTimeout == null ? Duration.ofSeconds(30) : drainTimeout;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    metricRegistry.register(name("queueDepth"), (Gauge<Integer>) queue::size);
+    batchSizes = metricRegistry.histogram(name("batchSizes"));
+    flushes = metricRegistry.timer(name("flushes"));
+    dropped = metricRegistry.meter(name("dropped"));
+    rejected = metricRegistry.meter(name("rejected"));
+    failed = metricRegistry.meter(name("failed"));
+  }
+
+  private static String name(String metric) {
+    return MetricRegistry.name(QuizResultStore.class, metric);
+  }
+
+  /**
+   * Retrieve the history of the store behind the queue, if it keeps one. Results still queued are
+   * not in it yet.
+   *
+   * @return The delegate, if it can look results up by quiz and time saved.
+   */
+  public Optional<QuizResultHistory> getHistory() {
+    return delegate instanceof QuizResultHistory history ? Optional.of(history) : Optional.empty();
+  }
+
+  /**
+   * Queue results to be handed to the delegate, returning without waiting for them to be saved.
+   *
+   * @param quizResults The results to keep, in the order they were graded.
+   * @throws RenderableException When the queue is full and whenQueueFull is REJECT, or the store is
+   *     stopped or the thread is interrupted while waiting for room. Results queued before then are
+   *     still handed on.
+   * @throws IllegalStateException When the store is not started, or has been stopped.
+   */
+  @Override
+  public void append(@NonNull List<QuizResult> quizResults) throws RenderableException {
+    Lock lock = runningLock.readLock();
+    lock.lock();
+    try {
+      Preconditions.checkState(running, "the store must be started before use");
+      switch (whenQueueFull) {
+        case BLOCK -> put(quizResults);
+        case DROP -> offer(quizResults);
+        case REJECT -> offerAll(quizResults);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void put(List<QuizResult> quizResults) throws RenderableException {
+    try {
+      for (int i = 0; i < quizResults.size(); i++) {
+        while (!queue.offer(quizResults.get(i), POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+          if (stopping) {
+            rejected.mark(quizResults.size() - i);
+            throw new RetryLaterException(
+                "Quiz results are no longer being saved, try again later", retryAfter);
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RenderableException(
+          HttpStatus.INTERNAL_SERVER_ERROR_500, "Error while saving quiz results.");
+    }
+  }
+
+  private void offer(List<QuizResult> quizResults) {
+    int discarded = 0;
+    for (QuizResult quizResult : quizResults) {
+      if (!queue.offer(quizResult)) {
+        discarded++;
+      }
+    }
+    if (discarded > 0) {
+      dropped.mark(discarded);
+      LOGGER.warn("Dropped {} quiz results, as the queue to the journal is full", discarded);
+    }
+  }
+
+  private void offerAll(List<QuizResult> quizResults) throws RetryLaterException {
+    synchronized (rejectLock) {
+      // Only the writer takes from the queue meanwhile, so the room found can only grow.
+      if (queue.remainingCapacity() < quizResults.size()) {
+        rejected.mark(quizResults.size());
+        throw new RetryLaterException(
+            "Too many quiz results being saved, try again later", retryAfter);
+      }
+      queue.addAll(quizResults);
+    }
+  }
+
+  /** Hand queued results to the delegate, a batch at a time, until stopped and drained. */
+  private void writeLoop() {
+    List<QuizResult> batch = new ArrayList<>(maximumBatchSize);
+    try {
+      while (running || !queue.isEmpty()) {
+        QuizResult first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch, maximumBatchSize - 1);
+          flush(batch);
+          batch.clear();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Hand a batch of results to the delegate.
+   *
+   * @param batch The results, in the order they were queued.
+   */
+  private void flush(List<QuizResult> batch) {
+    batchSizes.update(batch.size());
+    try (Timer.Context ignored = flushes.time()) {
+      delegate.append(List.copyOf(batch));
+    } catch (RenderableException | RuntimeException e) {
+      failed.mark(batch.size());
+      LOGGER.error("Unable to save {} quiz results", batch.size(), e);
+    }
+  }
+
+  /**
+   * Start the delegate, then start accepting results.
+   *
+   * @throws Exception If the delegate cannot start.
+   */
+  @Override
+  public void start() throws Exception {
+    if (delegate instanceof Managed managed) {
+      managed.start();
+    }
+    stopping = false;
+    running = true;
+    writer = new Thread(this::writeLoop, "quiz-results-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Stop accepting results, once those being appended are queued, hand everything queued to the
+   * delegate, then stop the delegate.
+   *
+   * @throws Exception If the delegate cannot stop.
+   */
+  @Override
+  public void stop() throws Exception {
+    stopping = true;
+    Lock lock = runningLock.writeLock();
+    lock.lock();
+    try {
+      running = false;
+    } finally {
+      lock.unlock();
+    }
+    if (writer != null) {
+      writer.join(drainTimeout.toMillis());
+      if (writer.isAlive()) {
+        LOGGER.warn("The quiz results writer is stuck, interrupting it");
+        writer.interrupt();
+        writer.join(INTERRUPTED_JOIN_MILLIS);
+      }
+      writer = null;
+    }
+    // Anything the writer left, should it have been stuck.
+    List<QuizResult> batch = new ArrayList<>(maximumBatchSize);
+    while (queue.drainTo(batch, maximumBatchSize) > 0) {
+      flush(batch);
+      batch.clear();
+    }
+    if (delegate instanceof Managed managed) {
+      managed.stop();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.mappers.external.QuizMapperImpl;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * How long it takes to journal quizzes in progress, and to restore them after a restart. Not part
+ * of the regular build, as the results depend on the machine and disk; run it explicitly with:
+ *
+ * <pre>mvn test -pl flash-cards-service-layer -Dtest=DurableQuizSessionStoreBenchmark</pre>
+ */
+class DurableQuizSessionStoreBenchmark {
+  private static final int QUIZZES = 300_000;
+
+  @TempDir private Path directory;
+
+  private final QuizMapperImpl quizMapper = QuizMapperImpl.builder().build();
+  private final DeckCatalog catalog;
+
+  DurableQuizSessionStoreBenchmark() {
+    Map<String, String> prompts = new TreeMap<>();
+    for (int i = 0; i < 169; i++) {
+      prompts.put(i / 13 + "x" + i % 13, String.valueOf((i / 13) * (i % 13)));
+    }
+    catalog =
+        DeckCatalog.compile(
+            Map.of(
+                "Multiplication",
+                List.of(
+                    FlashCardGroup.builder()
+                        .name("Times Tables")
+                        .prompts(prompts)
+                        .minimumPrompts(20)
+                        .maximumPrompts(20)
+                        .build())));
+  }
+
+  @Test
+  void journalAndRestore() throws Exception, RenderableException {
+    DurableQuizSessionStore before = store();
+    before.start();
+    before.publish(catalog);
+    String[] ids = new String[QUIZZES];
+    long started = System.nanoTime();
+    for (int i = 0; i < QUIZZES; i++) {
+      Quiz quiz = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+      before.put(quiz);
+      ids[i] = quiz.getId();
+    }
+    long journalNanos = System.nanoTime() - started;
+    before.stop();
+    long logBytes = Files.size(directory.resolve(DurableQuizSessionStore.LOG));
+
+    DurableQuizSessionStore after = store();
+    started = System.nanoTime();
+    after.start();
+    long replayNanos = System.nanoTime() - started;
+    after.publish(catalog);
+    started = System.nanoTime();
+    for (String id : ids) {
+      assertTrue(after.get(id).isPresent());
+    }
+    long restoreNanos = System.nanoTime() - started;
+    after.stop();
+
+    System.out.printf(
+        "%-10s %14s %14s %14s %14s%n",
+        "quizzes", "journal us/op", "log MiB", "replay ms", "restore us/op");
+    System.out.printf(
+        "%,-10d %,14.2f %,14.1f %,14d %,14.2f%n",
+        QUIZZES,
+        journalNanos / 1_000.0 / QUIZZES,
+        logBytes / (double) (1 << 20),
+        TimeUnit.NANOSECONDS.toMillis(replayNanos),
+        restoreNanos / 1_000.0 / QUIZZES);
+    assertEquals(QUIZZES, after.size());
+  }
+
+  private DurableQuizSessionStore store() {
+    MetricRegistry metricRegistry = new MetricRegistry();
+    return DurableQuizSessionStore.builder()
+        .delegate(
+            InMemoryQuizSessionStore.builder()
+                .maximumPrompts(Long.MAX_VALUE)
+                .expireAfter(Duration.ofHours(3))
+                .retryAfter(Duration.ofSeconds(30))
+                .metricRegistry(metricRegistry)
+                .build())
+        .directory(directory)
+        .expireAfter(Duration.ofHours(3))
+        .snapshotInterval(Duration.ofMinutes(5))
+        .metricRegistry(metricRegistry)
+        .build();
+  }
+}
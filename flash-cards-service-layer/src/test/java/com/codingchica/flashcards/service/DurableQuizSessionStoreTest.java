@@ -0,0 +1,1058 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.mappers.external.QuizMapper;
+import com.codingchica.flashcards.core.mappers.external.QuizMapperImpl;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import io.dropwizard.lifecycle.Managed;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for the DurableQuizSessionStore class. */
+@ExtendWith(MockitoExtension.class)
+class DurableQuizSessionStoreTest {
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  @TempDir private Path directory;
+  @Mock private Clock clock;
+  private final QuizMapper quizMapper = QuizMapperImpl.builder().build();
+  private final List<DurableQuizSessionStore> stores = new ArrayList<>();
+  private MetricRegistry metricRegistry;
+
+  @BeforeEach
+  void setup() {
+    timeIs(NOW);
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    for (DurableQuizSessionStore store : stores) {
+      store.stop();
+    }
+  }
+
+  private void timeIs(Instant instant) {
+    lenient().doReturn(instant.toEpochMilli()).when(clock).millis();
+  }
+
+  /**
+   * Compile a catalog with a single deck of four-prompt quizzes.
+   *
+   * @param answer The answer to "1+1", so that catalogs can differ in content.
+   * @return The catalog.
+   */
+  private static DeckCatalog catalog(String answer) {
+    Map<String, String> prompts = new LinkedHashMap<>();
+    prompts.put("1+1", answer);
+    prompts.put("1+2", "3");
+    prompts.put("1+3", "4");
+    prompts.put("1+4", "5");
+    return DeckCatalog.compile(
+        Map.of(
+            "Addition",
+            List.of(
+                FlashCardGroup.builder()
+                    .name("Adding 1")
+                    .prompts(prompts)
+                    .minimumPrompts(4)
+                    .maximumPrompts(4)
+                    .build())));
+  }
+
+  /**
+   * Compile a flash card group of quizzes drawing every prompt of the group.
+   *
+   * @param name The name of the group.
+   * @param size How many prompts the group has.
+   * @return The group.
+   */
+  private static FlashCardGroup group(String name, int size) {
+    Map<String, String> prompts = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      prompts.put(name + " " + i, String.valueOf(i));
+    }
+    return FlashCardGroup.builder()
+        .name(name)
+        .prompts(prompts)
+        .minimumPrompts(size)
+        .maximumPrompts(size)
+        .build();
+  }
+
+  /**
+   * Create a store over a new in-memory store, journaling to the temporary directory.
+   *
+   * @param maximumPrompts The capacity of the in-memory store.
+   * @return The store, which is stopped after the test.
+   */
+  private DurableQuizSessionStore newStore(long maximumPrompts) {
+    metricRegistry = new MetricRegistry();
+    DurableQuizSessionStore store =
+        DurableQuizSessionStore.builder()
+            .delegate(
+                InMemoryQuizSessionStore.builder()
+                    .maximumPrompts(maximumPrompts)
+                    .expireAfter(Duration.ofHours(3))
+                    .retryAfter(Duration.ofSeconds(30))
+                    .metricRegistry(metricRegistry)
+                    .build())
+            .directory(directory)
+            .expireAfter(Duration.ofHours(3))
+            .snapshotInterval(Duration.ofMinutes(5))
+            .metricRegistry(metricRegistry)
+            .clock(clock)
+            .build();
+    stores.add(store);
+    return store;
+  }
+
+  /**
+   * Start a store, and hand out quizzes from a catalog through it.
+   *
+   * @param store The store.
+   * @param catalog The catalog to draw the quizzes from.
+   * @param count How many quizzes to hand out.
+   * @return The quizzes.
+   */
+  private List<Quiz> handOut(DurableQuizSessionStore store, DeckCatalog catalog, int count)
+      throws Exception, RenderableException {
+    store.start();
+    store.publish(catalog);
+    List<Quiz> quizzes = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Quiz quiz = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+      quiz.setCreatedDateTime(NOW.minusSeconds(i));
+      store.put(quiz);
+      quizzes.add(quiz);
+    }
+    store.stop();
+    return quizzes;
+  }
+
+  private long restored() {
+    return metricRegistry
+        .counter(MetricRegistry.name(QuizSessionStore.class, "restored"))
+        .getCount();
+  }
+
+  @Nested
+  class BuilderTest {
+    private DurableQuizSessionStore.Builder storeBuilder;
+
+    @BeforeEach
+    void setup() {
+      storeBuilder =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(new MetricRegistry());
+    }
+
+    @Test
+    void builderSetter_whenDelegateNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.delegate(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("delegate is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenDirectoryNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.directory(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("directory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenExpireAfterNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.expireAfter(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("expireAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenSnapshotIntervalNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.snapshotInterval(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("snapshotInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenMetricRegistryNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.metricRegistry(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenDelegateNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          DurableQuizSessionStore.builder()
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(new MetricRegistry());
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("delegate is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenDirectoryNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(new MetricRegistry());
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("directory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenExpireAfterNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .directory(directory)
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(new MetricRegistry());
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("expireAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenSnapshotIntervalNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .metricRegistry(new MetricRegistry());
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("snapshotInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenMetricRegistryNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5));
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenSnapshotIntervalNegative_thenExceptionThrown() {
+      // Setup
+      storeBuilder.snapshotInterval(Duration.ofMinutes(-5));
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("snapshotInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void build_whenClockNull_thenSystemClockUsed() {
+      // Execution
+      DurableQuizSessionStore store = storeBuilder.build();
+
+      // Validation
+      assertEquals(Clock.systemUTC(), store.getClock());
+      assertEquals(directory, store.getDirectory());
+      assertEquals(Duration.ofMinutes(5), store.getSnapshotInterval());
+      assertNotNull(store.getDelegate());
+    }
+
+    @Test
+    void build_whenSnapshotIntervalNotPositive_thenExceptionThrown() {
+      // Setup
+      DurableQuizSessionStore.Builder builder =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ZERO)
+              .metricRegistry(new MetricRegistry());
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("snapshotInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void build_whenInvoked_thenMetricsRegistered() {
+      // Execution
+      newStore(100);
+
+      // Validation
+      assertTrue(
+          metricRegistry
+              .getNames()
+              .containsAll(
+                  Set.of(
+                      "com.codingchica.flashcards.service.QuizSessionStore.replayed",
+                      "com.codingchica.flashcards.service.QuizSessionStore.restored",
+                      "com.codingchica.flashcards.service.QuizSessionStore.snapshots")));
+    }
+  }
+
+  @Nested
+  class RestartTest {
+    @Test
+    void whenRestarted_thenQuizzesRestoredWhenAskedForOnceCatalogPublished()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 3);
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      store.start();
+
+      // Validation
+      assertEquals(3, store.getReplayed());
+      assertEquals(3, store.size());
+      assertTrue(store.contains(quizzes.get(0).getId()));
+      assertTrue(store.get(quizzes.get(0).getId()).isEmpty(), "catalog not yet published");
+      store.publish(catalog("2"));
+      for (Quiz quiz : quizzes) {
+        Quiz result = store.get(quiz.getId()).orElseThrow();
+        assertEquals(quiz.getName(), result.getName());
+        assertEquals(quiz.getCreatedDateTime(), result.getCreatedDateTime());
+        assertEquals(quiz.getPrompts(), result.getPrompts());
+        assertSame(result, store.get(quiz.getId()).orElseThrow(), "held by the delegate");
+      }
+      assertEquals(0, store.getReplayed());
+      assertEquals(3, store.size());
+      assertEquals(3, restored());
+    }
+
+    @Test
+    void whenCatalogChanged_thenQuizzesNotRestored() throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 1);
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+
+      // Execution
+      store.publish(catalog("two"));
+
+      // Validation
+      assertTrue(store.get(quizzes.get(0).getId()).isEmpty());
+      assertEquals(1, store.getReplayed());
+      assertEquals(0, restored());
+    }
+
+    @Test
+    void whenExpired_thenQuizzesNotRestored() throws Exception, RenderableException {
+      // Setup
+      handOut(newStore(100), catalog("2"), 2);
+      timeIs(NOW.plus(Duration.ofHours(3)));
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      store.start();
+
+      // Validation
+      assertEquals(0, store.getReplayed());
+    }
+
+    @Test
+    void whenLogTornAtEnd_thenEarlierQuizzesRestoredAndTailTruncated()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 2);
+      Path log = directory.resolve(DurableQuizSessionStore.LOG);
+      long validEnd = Files.size(log);
+      Files.write(log, new byte[] {0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      store.start();
+
+      // Validation
+      store.publish(catalog("2"));
+      assertTrue(store.get(quizzes.get(0).getId()).isPresent());
+      assertTrue(store.get(quizzes.get(1).getId()).isPresent());
+      assertEquals(validEnd, Files.size(log), "torn record cut off");
+    }
+
+    @Test
+    void whenRecordCorrupt_thenEarlierQuizzesRestoredAndRestTruncated()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> kept = handOut(newStore(100), catalog("2"), 1);
+      Path log = directory.resolve(DurableQuizSessionStore.LOG);
+      long validEnd = Files.size(log);
+      List<Quiz> corrupted = handOut(newStore(100), catalog("2"), 1);
+      byte[] bytes = Files.readAllBytes(log);
+      bytes[bytes.length - 1] ^= 1;
+      Files.write(log, bytes);
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      store.start();
+
+      // Validation
+      assertEquals(1, store.getReplayed());
+      store.publish(catalog("2"));
+      assertTrue(store.get(kept.get(0).getId()).isPresent());
+      assertTrue(store.get(corrupted.get(0).getId()).isEmpty());
+      assertEquals(validEnd, Files.size(log), "corrupt record cut off");
+    }
+
+    @Test
+    void whenLogTornWithinRecordFrame_thenEarlierQuizzesRestoredAndTailTruncated()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 1);
+      Path log = directory.resolve(DurableQuizSessionStore.LOG);
+      long validEnd = Files.size(log);
+      Files.write(log, new byte[] {0, 0, 1}, StandardOpenOption.APPEND);
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      store.start();
+
+      // Validation
+      store.publish(catalog("2"));
+      assertTrue(store.get(quizzes.get(0).getId()).isPresent());
+      assertEquals(validEnd, Files.size(log), "torn record cut off");
+    }
+
+    @Test
+    void whenRecordLengthNegative_thenEarlierQuizzesRestoredAndTailTruncated()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 1);
+      Path log = directory.resolve(DurableQuizSessionStore.LOG);
+      long validEnd = Files.size(log);
+      Files.write(log, new byte[] {-1, -1, -1, -1, 0, 0, 0, 0}, StandardOpenOption.APPEND);
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      store.start();
+
+      // Validation
+      store.publish(catalog("2"));
+      assertTrue(store.get(quizzes.get(0).getId()).isPresent());
+      assertEquals(validEnd, Files.size(log), "corrupt record cut off");
+    }
+
+    @Test
+    void whenLogHeaderTorn_thenHeaderRewritten() throws Exception {
+      // Setup
+      Path log = directory.resolve(DurableQuizSessionStore.LOG);
+      Files.write(log, new byte[] {0x46, 0x43, 0x51});
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      store.start();
+
+      // Validation
+      assertEquals(0, store.getReplayed());
+      assertEquals(2 * Integer.BYTES, Files.size(log));
+    }
+
+    @Test
+    void whenReplayedQuizExpiresAfterStart_thenNotRestored() throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 1);
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+      store.publish(catalog("2"));
+
+      // Execution
+      timeIs(NOW.plus(Duration.ofHours(3)));
+
+      // Validation
+      assertFalse(store.contains(quizzes.get(0).getId()));
+      assertTrue(store.get(quizzes.get(0).getId()).isEmpty());
+      assertEquals(0, store.getReplayed());
+      assertEquals(0, restored());
+    }
+
+    @Test
+    void whenQuizNeitherHeldNorReplayed_thenNotFound() throws Exception, RenderableException {
+      // Setup
+      handOut(newStore(100), catalog("2"), 1);
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+      store.publish(catalog("2"));
+
+      // Execution
+      boolean contained = store.contains("unknown");
+
+      // Validation
+      assertFalse(contained);
+      assertTrue(store.get("unknown").isEmpty());
+      assertEquals(1, store.getReplayed());
+    }
+
+    @Test
+    void whenNothingReplayed_thenOnlyDelegateAskedFor() throws Exception {
+      // Setup
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+
+      // Execution
+      Optional<Quiz> quiz = store.get("unknown");
+
+      // Validation
+      assertTrue(quiz.isEmpty());
+    }
+
+    @Test
+    void whenDelegateCannotKeepRestoredQuiz_thenQuizStillReturned()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 1);
+      QuizSessionStore delegate = mock(QuizSessionStore.class);
+      doThrow(new RenderableException(503, "Too many quizzes in progress."))
+          .when(delegate)
+          .put(any());
+      metricRegistry = new MetricRegistry();
+      DurableQuizSessionStore store =
+          DurableQuizSessionStore.builder()
+              .delegate(delegate)
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(metricRegistry)
+              .clock(clock)
+              .build();
+      stores.add(store);
+      store.start();
+      store.publish(catalog("2"));
+
+      // Execution
+      Optional<Quiz> quiz = store.get(quizzes.get(0).getId());
+
+      // Validation
+      assertTrue(quiz.isPresent());
+      assertEquals(0, store.getReplayed());
+      assertEquals(0, restored());
+    }
+
+    @Test
+    void whenDeckFromOlderCatalog_thenJournaledAgainstIt() throws Exception, RenderableException {
+      // Setup
+      DeckCatalog older =
+          DeckCatalog.compile(
+              Map.of("Addition", List.of(group("Adding 1", 4), group("Adding 2", 4))));
+      DeckCatalog newer = DeckCatalog.compile(Map.of("Addition", List.of(group("Adding 3", 4))));
+      DurableQuizSessionStore first = newStore(100);
+      first.start();
+      first.publish(older);
+      first.publish(newer);
+      Quiz fromFirstDeck = quizMapper.deckToExternalQuizMapping(older.getDeck(0));
+      Quiz fromSecondDeck = quizMapper.deckToExternalQuizMapping(older.getDeck(1));
+
+      // Execution
+      first.put(fromFirstDeck);
+      first.put(fromSecondDeck);
+
+      // Validation
+      first.stop();
+      DurableQuizSessionStore second = newStore(100);
+      second.start();
+      assertEquals(2, second.getReplayed());
+      second.publish(older);
+      assertEquals(
+          fromFirstDeck.getPrompts(), second.get(fromFirstDeck.getId()).orElseThrow().getPrompts());
+      assertEquals(
+          fromSecondDeck.getPrompts(),
+          second.get(fromSecondDeck.getId()).orElseThrow().getPrompts());
+    }
+
+    @Test
+    void whenQuizNotDrawnFromDeck_thenNotJournaled() throws Exception, RenderableException {
+      // Setup
+      DurableQuizSessionStore first = newStore(100);
+      first.start();
+      first.publish(catalog("2"));
+      Quiz quiz =
+          Quiz.builder()
+              .id("quiz")
+              .name("Adding 1")
+              .createdDateTime(NOW)
+              .prompts(List.of(Map.entry("1+1", "2")))
+              .build();
+
+      // Execution
+      first.put(quiz);
+
+      // Validation
+      assertTrue(first.contains(quiz.getId()));
+      first.stop();
+      DurableQuizSessionStore second = newStore(100);
+      second.start();
+      assertEquals(0, second.getReplayed());
+    }
+
+    @Test
+    void whenDeckHasManyPrompts_thenPromptIdsRestored() throws Exception, RenderableException {
+      // Setup
+      DeckCatalog catalog = DeckCatalog.compile(Map.of("Counting", List.of(group("Count", 300))));
+      DurableQuizSessionStore first = newStore(300);
+      first.start();
+      first.publish(catalog);
+      Quiz quiz = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+      first.put(quiz);
+      first.stop();
+      DurableQuizSessionStore second = newStore(300);
+
+      // Execution
+      second.start();
+
+      // Validation
+      second.publish(catalog);
+      assertEquals(quiz.getPrompts(), second.get(quiz.getId()).orElseThrow().getPrompts());
+    }
+
+    @Test
+    void start_whenDirectoryIsFile_thenExceptionThrown() throws IOException {
+      // Setup
+      Path file = Files.writeString(directory.resolve("journal"), "not a directory");
+      DurableQuizSessionStore store =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .directory(file)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(new MetricRegistry())
+              .clock(clock)
+              .build();
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      assertThrows(IOException.class, executable);
+    }
+
+    @Test
+    void start_whenFormatUnknown_thenExceptionThrown() throws IOException {
+      // Setup
+      Files.write(
+          directory.resolve(DurableQuizSessionStore.SNAPSHOT),
+          new byte[] {0x46, 0x43, 0x51, 0x53, 0, 0, 0, 2});
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      IOException exception = assertThrows(IOException.class, executable);
+      assertTrue(
+          exception.getMessage().endsWith(" is not a quiz session file"), exception.getMessage());
+    }
+
+    @Test
+    void whenDeckFromUnknownCatalog_thenNotJournaled() throws Exception, RenderableException {
+      // Setup
+      DurableQuizSessionStore first = newStore(100);
+      first.start();
+      Quiz quiz = quizMapper.deckToExternalQuizMapping(catalog("2").getDeck(0));
+
+      // Execution
+      first.put(quiz);
+
+      // Validation
+      assertTrue(first.contains(quiz.getId()));
+      first.stop();
+      DurableQuizSessionStore second = newStore(100);
+      second.start();
+      assertEquals(0, second.getReplayed());
+    }
+
+    @Test
+    void start_whenNotQuizSessionFile_thenExceptionThrown() throws IOException {
+      // Setup
+      Files.writeString(directory.resolve(DurableQuizSessionStore.SNAPSHOT), "not a snapshot");
+      DurableQuizSessionStore store = newStore(100);
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      IOException exception = assertThrows(IOException.class, executable);
+      assertTrue(
+          exception.getMessage().endsWith(" is not a quiz session file"), exception.getMessage());
+    }
+
+    @Test
+    void put_whenNotStarted_thenExceptionThrown() {
+      // Setup
+      DurableQuizSessionStore store = newStore(100);
+      DeckCatalog catalog = catalog("2");
+      store.publish(catalog);
+      Quiz quiz = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+
+      // Execution
+      Executable executable = () -> store.put(quiz);
+
+      // Validation
+      IllegalStateException exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("the store must be started before use", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class SnapshotTest {
+    @Test
+    void snapshot_whenQuizEvicted_thenDroppedFromSnapshot() throws Exception, RenderableException {
+      // Setup
+      DurableQuizSessionStore store = newStore(4);
+      store.start();
+      DeckCatalog catalog = catalog("2");
+      store.publish(catalog);
+      Quiz evicted = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+      Quiz kept = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+      store.put(evicted);
+      store.put(kept);
+
+      // Execution
+      store.snapshot();
+
+      // Validation
+      assertTrue(Files.exists(directory.resolve(DurableQuizSessionStore.SNAPSHOT)));
+      assertFalse(Files.exists(directory.resolve(DurableQuizSessionStore.COMPACTING)));
+      assertEquals(2 * Integer.BYTES, Files.size(directory.resolve(DurableQuizSessionStore.LOG)));
+      assertEquals(
+          1,
+          metricRegistry
+              .timer(MetricRegistry.name(QuizSessionStore.class, "snapshots"))
+              .getCount());
+      store.stop();
+      DurableQuizSessionStore restarted = newStore(100);
+      restarted.start();
+      restarted.publish(catalog("2"));
+      assertTrue(restarted.get(evicted.getId()).isEmpty());
+      assertTrue(restarted.get(kept.getId()).isPresent());
+    }
+
+    @Test
+    void snapshot_whenReplayedQuizzesNotYetAskedFor_thenKept()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 2);
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+
+      // Execution
+      store.snapshot();
+
+      // Validation
+      store.stop();
+      DurableQuizSessionStore restarted = newStore(100);
+      restarted.start();
+      restarted.publish(catalog("2"));
+      assertTrue(restarted.get(quizzes.get(0).getId()).isPresent());
+      assertTrue(restarted.get(quizzes.get(1).getId()).isPresent());
+    }
+  }
+
+  @Nested
+  class SnapshotReplayTest {
+    @Test
+    void whenQuizzesHandedOutAfterSnapshot_thenSnapshotAndLogReplayed()
+        throws Exception, RenderableException {
+      // Setup
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+      DeckCatalog catalog = catalog("2");
+      store.publish(catalog);
+      Quiz snapshotted = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+      Quiz logged = quizMapper.deckToExternalQuizMapping(catalog.getDeck(0));
+      store.put(snapshotted);
+      store.snapshot();
+      store.put(logged);
+      store.stop();
+      DurableQuizSessionStore restarted = newStore(100);
+
+      // Execution
+      restarted.start();
+
+      // Validation
+      assertEquals(2, restarted.getReplayed());
+      restarted.publish(catalog("2"));
+      assertTrue(restarted.get(snapshotted.getId()).isPresent());
+      assertTrue(restarted.get(logged.getId()).isPresent());
+    }
+
+    @Test
+    void whenCompactionLeftUnfinished_thenCompactedBeforeNextRotation()
+        throws Exception, RenderableException {
+      // Setup
+      List<Quiz> quizzes = handOut(newStore(100), catalog("2"), 1);
+      Path compacting = directory.resolve(DurableQuizSessionStore.COMPACTING);
+      Files.move(directory.resolve(DurableQuizSessionStore.LOG), compacting);
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+      assertEquals(1, store.getReplayed());
+
+      // Execution
+      store.snapshot();
+
+      // Validation
+      assertFalse(Files.exists(compacting));
+      store.stop();
+      DurableQuizSessionStore restarted = newStore(100);
+      restarted.start();
+      restarted.publish(catalog("2"));
+      assertTrue(restarted.get(quizzes.get(0).getId()).isPresent());
+    }
+
+    @Test
+    void snapshot_whenQuizExpired_thenDroppedFromSnapshot() throws Exception, RenderableException {
+      // Setup
+      DurableQuizSessionStore store = newStore(100);
+      store.start();
+      DeckCatalog catalog = catalog("2");
+      store.publish(catalog);
+      store.put(quizMapper.deckToExternalQuizMapping(catalog.getDeck(0)));
+      store.snapshot();
+      timeIs(NOW.plus(Duration.ofHours(3)));
+
+      // Execution
+      store.snapshot();
+
+      // Validation
+      assertEquals(
+          2 * Integer.BYTES, Files.size(directory.resolve(DurableQuizSessionStore.SNAPSHOT)));
+    }
+
+    @Test
+    void snapshot_whenLargerThanWriteBuffer_thenAllQuizzesKept()
+        throws Exception, RenderableException {
+      // Setup
+      int quizCount = 4000;
+      DeckCatalog catalog = DeckCatalog.compile(Map.of("Counting", List.of(group("Count", 200))));
+      DurableQuizSessionStore store = newStore(400L * quizCount);
+      store.start();
+      store.publish(catalog);
+      for (int i = 0; i < quizCount; i++) {
+        store.put(quizMapper.deckToExternalQuizMapping(catalog.getDeck(0)));
+      }
+
+      // Execution
+      store.snapshot();
+
+      // Validation
+      assertTrue(Files.size(directory.resolve(DurableQuizSessionStore.SNAPSHOT)) > 1 << 20);
+      store.stop();
+      DurableQuizSessionStore restarted = newStore(100);
+      restarted.start();
+      assertEquals(quizCount, restarted.getReplayed());
+    }
+
+    @Test
+    void start_whenSnapshotIntervalElapses_thenSnapshotTaken()
+        throws Exception, RenderableException {
+      // Setup
+      metricRegistry = new MetricRegistry();
+      DurableQuizSessionStore store =
+          DurableQuizSessionStore.builder()
+              .delegate(mock(QuizSessionStore.class))
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMillis(10))
+              .metricRegistry(metricRegistry)
+              .clock(clock)
+              .build();
+      stores.add(store);
+
+      // Execution
+      store.start();
+
+      // Validation
+      Path snapshot = directory.resolve(DurableQuizSessionStore.SNAPSHOT);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (Files.notExists(snapshot) && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertTrue(Files.exists(snapshot));
+    }
+  }
+
+  @Nested
+  class NullArgumentTest {
+    private DurableQuizSessionStore store;
+
+    @BeforeEach
+    void setup() {
+      store = newStore(100);
+    }
+
+    @Test
+    void put_whenQuizNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.put(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void get_whenIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.get(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void contains_whenIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.contains(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void publish_whenCatalogNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.publish(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("catalog is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class LifecycleTest {
+    @Test
+    void whenDelegateManaged_thenStartedAndStoppedWithStore()
+        throws Exception, RenderableException {
+      // Setup
+      QuizSessionStore delegate =
+          mock(QuizSessionStore.class, withSettings().extraInterfaces(Managed.class));
+      DurableQuizSessionStore store =
+          DurableQuizSessionStore.builder()
+              .delegate(delegate)
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(new MetricRegistry())
+              .clock(clock)
+              .build();
+
+      // Execution
+      store.start();
+      store.stop();
+
+      // Validation
+      verify((Managed) delegate).start();
+      verify((Managed) delegate).stop();
+    }
+
+    @Test
+    void publish_whenInvoked_thenDelegateTold() {
+      // Setup
+      QuizSessionStore delegate = mock(QuizSessionStore.class);
+      DurableQuizSessionStore store =
+          DurableQuizSessionStore.builder()
+              .delegate(delegate)
+              .directory(directory)
+              .expireAfter(Duration.ofHours(3))
+              .snapshotInterval(Duration.ofMinutes(5))
+              .metricRegistry(new MetricRegistry())
+              .build();
+      DeckCatalog catalog = catalog("2");
+
+      // Execution
+      store.publish(catalog);
+
+      // Validation
+      verify(delegate).publish(catalog);
+    }
+  }
+}
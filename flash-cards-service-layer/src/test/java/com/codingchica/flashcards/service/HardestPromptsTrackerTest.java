@@ -0,0 +1,304 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.grading.QuizGrader;
+import com.codingchica.flashcards.core.model.external.PromptMisses;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit tests for the HardestPromptsTracker class. */
+class HardestPromptsTrackerTest {
+  private final QuizGrader quizGrader = new QuizGrader();
+  private HardestPromptsTracker.Builder trackerBuilder =
+      HardestPromptsTracker.builder().limit(2).sketchWidth(1024).sketchDepth(4);
+  private final HardestPromptsTracker tracker = trackerBuilder.build();
+
+  /**
+   * Compile a catalog with a deck per category.
+   *
+   * @param categories The categories, each with a single deck of the same prompts.
+   * @return The catalog.
+   */
+  private static DeckCatalog catalog(String... categories) {
+    Map<String, String> promptMap = new LinkedHashMap<>();
+    promptMap.put("1+1", "2");
+    promptMap.put("1+2", "3");
+    promptMap.put("1+3", "4");
+    Map<String, List<FlashCardGroup>> flashCardGroupMap = new LinkedHashMap<>();
+    for (String category : categories) {
+      flashCardGroupMap.put(
+          category,
+          List.of(
+              FlashCardGroup.builder()
+                  .name(category + " 1")
+                  .prompts(promptMap)
+                  .minimumPrompts(1)
+                  .maximumPrompts(promptMap.size())
+                  .build()));
+    }
+    return DeckCatalog.compile(flashCardGroupMap);
+  }
+
+  /**
+   * Grade a quiz drawn from a deck, and count its misses.
+   *
+   * @param deck The deck the quiz is drawn from.
+   * @param promptIds The prompts presented, negated (less one) when answered incorrectly.
+   */
+  private void record(Deck deck, int... promptIds) {
+    int[] presented = new int[promptIds.length];
+    List<String> answers = new ArrayList<>();
+    for (int i = 0; i < promptIds.length; i++) {
+      boolean correct = promptIds[i] >= 0;
+      presented[i] = correct ? promptIds[i] : -promptIds[i] - 1;
+      answers.add(correct ? deck.getAnswer(presented[i]) : "wrong");
+    }
+    DeckPromptList prompts = new DeckPromptList(deck, 0, presented);
+    tracker.record(quiz(deck.getName(), prompts), quizGrader.grade(prompts, answers, false));
+  }
+
+  private static Quiz quiz(String name, List<Map.Entry<String, String>> prompts) {
+    return Quiz.builder()
+        .id("id")
+        .name(name)
+        .createdDateTime(Instant.now())
+        .prompts(prompts)
+        .build();
+  }
+
+  private static List<String> describe(List<PromptMisses> prompts) {
+    return prompts.stream().map(prompt -> prompt.getPrompt() + ":" + prompt.getMisses()).toList();
+  }
+
+  @Nested
+  class BuilderTest {
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,1024,4,limit must be positive",
+          "2,1,4,sketchWidth must be greater than 1",
+          "2,1024,0,sketchDepth must be positive"
+        })
+    void whenArgumentOutOfRange_thenThrowsException(
+        int limit, int sketchWidth, int sketchDepth, String expectedMessage) {
+      // Setup
+      trackerBuilder.limit(limit).sketchWidth(sketchWidth).sketchDepth(sketchDepth);
+
+      // Execution
+      Executable executable = () -> trackerBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    @Test
+    void whenBuilt_thenSettingsReturnedInGetters() {
+      // Validation
+      assertAll(
+          () -> assertEquals(2, tracker.getLimit(), "limit"),
+          () -> assertEquals(1024, tracker.getSketchWidth(), "sketchWidth"),
+          () -> assertEquals(4, tracker.getSketchDepth(), "sketchDepth"));
+    }
+  }
+
+  @Nested
+  class RecordTest {
+    @Test
+    void whenQuizNull_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () -> tracker.record(null, quizGrader.grade(List.of(), List.of(), false));
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenGradeNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> tracker.record(quiz("Adding 1", List.of()), null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("grade is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMorePromptsMissedThanListed_thenOnlyMostMissedListed() {
+      // Setup
+      List<Map.Entry<String, String>> prompts = new ArrayList<>();
+      for (int i = 1; i <= 6; i++) {
+        prompts.add(Map.entry("2+" + i, String.valueOf(2 + i)));
+      }
+
+      // Execution
+      for (int quiz = 1; quiz <= 6; quiz++) {
+        // The first prompt is missed in one quiz, the last in all six.
+        List<String> answers = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+          answers.add(i > 6 - quiz ? "wrong" : String.valueOf(2 + i));
+        }
+        tracker.record(quiz("Adding 2", prompts), quizGrader.grade(prompts, answers, false));
+      }
+
+      // Validation
+      assertEquals(List.of("2+6:6", "2+5:5"), describe(tracker.getHardestPrompts()));
+    }
+
+    @Test
+    void whenMissesTied_thenListedByPrompt() {
+      // Setup
+      DeckCatalog catalog = catalog("Addition");
+      tracker.publish(catalog);
+
+      // Execution
+      record(catalog.getDeck(0), -3, -2, 0);
+      record(catalog.getDeck(0), -2, -3, -1);
+
+      // Validation
+      assertEquals(List.of("1+2:2", "1+3:2"), describe(tracker.getHardestPrompts()));
+      assertEquals(
+          List.of("1+2:2", "1+3:2"), describe(tracker.getHardestPrompts("Addition").orElseThrow()));
+    }
+
+    @Test
+    void whenCategoryUnknown_thenNoPromptsListed() {
+      // Setup
+      DeckCatalog catalog = catalog("Addition");
+      tracker.publish(catalog);
+      record(catalog.getDeck(0), -1);
+
+      // Execution
+      Optional<List<PromptMisses>> result = tracker.getHardestPrompts("Division");
+
+      // Validation
+      assertEquals(Optional.empty(), result);
+      assertEquals(List.of("1+1:1"), describe(tracker.getHardestPrompts()));
+    }
+
+    @Test
+    void whenCategoryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> tracker.getHardestPrompts(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("category is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenPromptsMissed_thenCountedOverallAndInCategory() {
+      // Setup
+      DeckCatalog catalog = catalog("Addition", "Subtraction");
+      tracker.publish(catalog);
+
+      // Execution
+      record(catalog.getDeck(0), -1, -2, 2);
+      record(catalog.getDeck(0), 0, -2, -3);
+      record(catalog.getDeck(1), -3, 1);
+      record(catalog.getDeck(1), -3);
+
+      // Validation
+      assertEquals(List.of("1+3:3", "1+2:2"), describe(tracker.getHardestPrompts()));
+      assertEquals(
+          List.of("1+2:2", "1+1:1"), describe(tracker.getHardestPrompts("Addition").orElseThrow()));
+      assertEquals(
+          List.of("1+3:2"), describe(tracker.getHardestPrompts("Subtraction").orElseThrow()));
+    }
+
+    @Test
+    void whenNothingMissed_thenNothingCounted() {
+      // Setup
+      DeckCatalog catalog = catalog("Addition");
+      tracker.publish(catalog);
+
+      // Execution
+      record(catalog.getDeck(0), 0, 1, 2);
+
+      // Validation
+      assertEquals(List.of(), tracker.getHardestPrompts());
+      assertEquals(Optional.of(List.of()), tracker.getHardestPrompts("Addition"));
+    }
+
+    @Test
+    void whenNotPublished_thenOnlyCountedOverall() {
+      // Setup
+      DeckCatalog catalog = catalog("Addition");
+
+      // Execution
+      record(catalog.getDeck(0), -1);
+
+      // Validation
+      assertEquals(List.of("1+1:1"), describe(tracker.getHardestPrompts()));
+      assertEquals(Optional.empty(), tracker.getHardestPrompts("Addition"));
+    }
+
+    @Test
+    void whenNotDrawnFromDeck_thenPromptsCountedOverallByText() {
+      // Setup
+      tracker.publish(catalog("Addition"));
+      List<Map.Entry<String, String>> prompts = new ArrayList<>();
+      prompts.add(Map.entry("2+2", "4"));
+      prompts.add(new java.util.AbstractMap.SimpleEntry<>(null, "5"));
+      prompts.add(Map.entry("2+4", "6"));
+
+      // Execution
+      tracker.record(
+          quiz("Adding 2", prompts), quizGrader.grade(prompts, List.of("4", "wrong", "7"), false));
+
+      // Validation
+      assertEquals(List.of("2+4:1"), describe(tracker.getHardestPrompts()));
+      assertEquals(Optional.of(List.of()), tracker.getHardestPrompts("Addition"));
+    }
+  }
+
+  @Nested
+  class PublishTest {
+    @Test
+    void whenCatalogNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> tracker.publish(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("catalog is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCategoryKept_thenCountsKept() {
+      // Setup
+      DeckCatalog catalog = catalog("Addition", "Subtraction");
+      tracker.publish(catalog);
+      record(catalog.getDeck(0), -1);
+      record(catalog.getDeck(1), -2);
+
+      // Execution
+      DeckCatalog reloaded = catalog("Addition", "Multiplication");
+      tracker.publish(reloaded);
+      record(reloaded.getDeck(0), -1);
+
+      // Validation
+      assertEquals(List.of("1+1:2"), describe(tracker.getHardestPrompts("Addition").orElseThrow()));
+      assertEquals(Optional.empty(), tracker.getHardestPrompts("Subtraction"));
+      assertEquals(Optional.of(List.of()), tracker.getHardestPrompts("Multiplication"));
+      assertEquals(List.of("1+1:2", "1+2:1"), describe(tracker.getHardestPrompts()));
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.model.external.PromptMisses;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit tests for the HeavyHitterSketch class. */
+class HeavyHitterSketchTest {
+  private static List<String> describe(List<PromptMisses> prompts) {
+    return prompts.stream().map(prompt -> prompt.getPrompt() + ":" + prompt.getMisses()).toList();
+  }
+
+  /**
+   * Count the misses of a prompt.
+   *
+   * @param sketch Where to count them.
+   * @param prompt The prompt missed.
+   * @param misses How many times it was missed.
+   */
+  private static void add(HeavyHitterSketch sketch, String prompt, int misses) {
+    for (int i = 0; i < misses; i++) {
+      sketch.add(prompt);
+    }
+  }
+
+  @Nested
+  class ConstructorTest {
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "1,1,1,width must be greater than 1",
+          "2,0,1,depth must be positive",
+          "2,1,0,capacity must be positive"
+        })
+    void whenArgumentOutOfRange_thenThrowsException(
+        int width, int depth, int capacity, String expectedMessage) {
+      // Execution
+      Executable executable = () -> new HeavyHitterSketch(width, depth, capacity);
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals(expectedMessage, exception.getMessage());
+    }
+  }
+
+  @Nested
+  class AddTest {
+    @Test
+    void whenNothingAdded_thenNothingListed() {
+      // Setup
+      HeavyHitterSketch sketch = new HeavyHitterSketch(64, 2, 4);
+
+      // Execution
+      List<PromptMisses> result = sketch.top(4);
+
+      // Validation
+      assertEquals(List.of(), result);
+      assertEquals(0, sketch.estimate("7 x 8"));
+    }
+
+    @Test
+    void whenFewerPromptsThanCapacity_thenMostMissedFirst() {
+      // Setup
+      HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 4, 4);
+
+      // Execution
+      add(sketch, "6 x 7", 2);
+      add(sketch, "7 x 8", 5);
+      add(sketch, "6 x 8", 2);
+
+      // Validation
+      assertEquals(List.of("7 x 8:5", "6 x 7:2", "6 x 8:2"), describe(sketch.top(4)));
+      assertEquals(List.of("7 x 8:5"), describe(sketch.top(1)));
+    }
+
+    @Test
+    void whenPromptOutgrowsLowestCandidate_thenItReplacesIt() {
+      // Setup
+      HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 4, 2);
+      add(sketch, "6 x 7", 3);
+      add(sketch, "7 x 8", 2);
+
+      // Execution
+      add(sketch, "6 x 8", 1);
+      List<String> beforeOutgrown = describe(sketch.top(2));
+      add(sketch, "6 x 8", 2);
+
+      // Validation
+      assertEquals(List.of("6 x 7:3", "7 x 8:2"), beforeOutgrown);
+      assertEquals(List.of("6 x 7:3", "6 x 8:3"), describe(sketch.top(2)));
+    }
+
+    @Test
+    void whenManyDistinctPrompts_thenMostMissedFoundWithinBoundedMemory() {
+      // Setup
+      HeavyHitterSketch sketch = new HeavyHitterSketch(2048, 4, 10);
+
+      // Execution
+      for (int round = 0; round < 100; round++) {
+        for (int hard = 1; hard <= 5; hard++) {
+          // The n-th hardest prompt is missed in (6 - n) of every 5 rounds.
+          if (round % 5 < 6 - hard) {
+            sketch.add("hard " + hard);
+          }
+        }
+        for (int easy = 0; easy < 100; easy++) {
+          sketch.add("easy " + round + "/" + easy);
+        }
+      }
+
+      // Validation
+      List<PromptMisses> result = sketch.top(5);
+      assertEquals(
+          List.of("hard 1", "hard 2", "hard 3", "hard 4", "hard 5"),
+          result.stream().map(PromptMisses::getPrompt).toList());
+      int[] expectedMisses = {100, 80, 60, 40, 20};
+      for (int i = 0; i < expectedMisses.length; i++) {
+        long misses = result.get(i).getMisses();
+        // Never low, and within e / width of the 10,400 misses counted, give or take.
+        assertTrue(
+            misses >= expectedMisses[i] && misses <= expectedMisses[i] + 14,
+            result.get(i).toString());
+      }
+    }
+
+    @Test
+    void whenAddedConcurrently_thenNoMissLost() throws Exception {
+      // Setup
+      HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 4, 4);
+      ExecutorService executorService = Executors.newFixedThreadPool(4);
+      List<Future<?>> futures = new ArrayList<>();
+
+      // Execution
+      try {
+        for (int thread = 0; thread < 4; thread++) {
+          int offset = thread;
+          futures.add(
+              executorService.submit(
+                  () -> {
+                    for (int i = 0; i < 10_000; i++) {
+                      sketch.add("hard " + ((i + offset) % 3));
+                      sketch.add("easy " + offset + "/" + i);
+                    }
+                  }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executorService.shutdown();
+      }
+
+      // Validation
+      List<PromptMisses> result = sketch.top(3);
+      assertEquals(
+          List.of("hard 0", "hard 1", "hard 2"),
+          result.stream().map(PromptMisses::getPrompt).sorted().toList());
+      long misses = result.stream().mapToLong(PromptMisses::getMisses).sum();
+      assertTrue(misses >= 40_000, "misses=" + misses);
+    }
+  }
+}
@@ -0,0 +1,413 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/** Unit tests for the InMemoryQuizSessionStore class. */
+class InMemoryQuizSessionStoreTest {
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final InMemoryQuizSessionStore.Builder storeBuilder =
+      InMemoryQuizSessionStore.builder()
+          .maximumPrompts(40)
+          .expireAfter(Duration.ofHours(3))
+          .retryAfter(Duration.ofSeconds(30))
+          .metricRegistry(metricRegistry);
+
+  /**
+   * Build a quiz with a given number of prompts.
+   *
+   * @param id The ID of the quiz.
+   * @param promptCount How many prompts the quiz holds.
+   * @return The quiz.
+   */
+  private static Quiz quiz(String id, int promptCount) {
+    return Quiz.builder()
+        .id(id)
+        .name("name")
+        .createdDateTime(Instant.now())
+        .prompts(Collections.nCopies(promptCount, new AbstractMap.SimpleEntry<>("1+1", "2")))
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private long gauge(String name) {
+    return ((Gauge<Long>)
+            metricRegistry.getGauges().get(MetricRegistry.name(QuizSessionStore.class, name)))
+        .getValue();
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void build_whenMaximumPromptsNotPositive_thenExceptionThrown() {
+      // Setup
+      storeBuilder.maximumPrompts(0);
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("maximumPrompts must be greater than 0", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenMetricRegistryNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.metricRegistry(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenExpireAfterNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.expireAfter(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("expireAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenRetryAfterNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.retryAfter(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("retryAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenExpireAfterNotInvoked_thenExceptionThrown() {
+      // Setup
+      InMemoryQuizSessionStore.Builder builder =
+          InMemoryQuizSessionStore.builder()
+              .maximumPrompts(40)
+              .retryAfter(Duration.ofSeconds(30))
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("expireAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenRetryAfterNotInvoked_thenExceptionThrown() {
+      // Setup
+      InMemoryQuizSessionStore.Builder builder =
+          InMemoryQuizSessionStore.builder()
+              .maximumPrompts(40)
+              .expireAfter(Duration.ofHours(3))
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("retryAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenMetricRegistryNotInvoked_thenExceptionThrown() {
+      // Setup
+      InMemoryQuizSessionStore.Builder builder =
+          InMemoryQuizSessionStore.builder()
+              .maximumPrompts(40)
+              .expireAfter(Duration.ofHours(3))
+              .retryAfter(Duration.ofSeconds(30));
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenInvoked_thenSettingsKept() {
+      // Execution
+      InMemoryQuizSessionStore result = storeBuilder.rejectWhenFull(true).build();
+
+      // Validation
+      assertEquals(40, result.getMaximumPrompts());
+      assertTrue(result.isRejectWhenFull());
+    }
+
+    @Test
+    void build_whenInvoked_thenMetricsRegistered() {
+      // Execution
+      storeBuilder.build();
+
+      // Validation
+      assertEquals(
+          Set.of(
+              "com.codingchica.flashcards.service.QuizSessionStore.evictions",
+              "com.codingchica.flashcards.service.QuizSessionStore.hits",
+              "com.codingchica.flashcards.service.QuizSessionStore.misses",
+              "com.codingchica.flashcards.service.QuizSessionStore.prompts",
+              "com.codingchica.flashcards.service.QuizSessionStore.rejections",
+              "com.codingchica.flashcards.service.QuizSessionStore.size"),
+          metricRegistry.getNames());
+    }
+  }
+
+  @Nested
+  class PutAndGetTest {
+    private final InMemoryQuizSessionStore store = storeBuilder.build();
+
+    @Test
+    void whenPut_thenFoundById() throws RenderableException {
+      // Setup
+      Quiz quiz = quiz("id1", 4);
+
+      // Execution
+      store.put(quiz);
+
+      // Validation
+      assertSame(quiz, store.get("id1").orElseThrow());
+      assertEquals(1, store.size());
+      assertEquals(4, store.getPrompts());
+      assertEquals(1, gauge("hits"));
+    }
+
+    @Test
+    void whenNotPut_thenEmptyAndMissCounted() {
+      // Execution
+      Optional<Quiz> result = store.get("unknown");
+
+      // Validation
+      assertTrue(result.isEmpty());
+      assertEquals(1, gauge("misses"));
+    }
+
+    @Test
+    void contains_whenPut_thenTrueWithoutCountingHit() throws RenderableException {
+      // Setup
+      store.put(quiz("id1", 4));
+
+      // Execution
+      boolean result = store.contains("id1");
+
+      // Validation
+      assertTrue(result);
+      assertFalse(store.contains("id2"));
+      assertEquals(0, gauge("hits"));
+      assertEquals(0, gauge("misses"));
+    }
+
+    @Test
+    void whenPutTwice_thenPromptsCountedOnce() throws RenderableException {
+      // Execution
+      store.put(quiz("id1", 4));
+      store.put(quiz("id1", 4));
+
+      // Validation
+      assertEquals(1, store.size());
+      assertEquals(4, store.getPrompts());
+    }
+  }
+
+  @Nested
+  class NullArgumentTest {
+    private final InMemoryQuizSessionStore store = storeBuilder.build();
+
+    @Test
+    void put_whenQuizNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.put(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void get_whenIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.get(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void contains_whenIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.contains(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class EvictWhenFullTest {
+    private final InMemoryQuizSessionStore store = storeBuilder.build();
+
+    @Test
+    void whenLargeQuizPut_thenOldestQuizzesEvictedByWeight() throws RenderableException {
+      // Setup
+      // Small enough that the cache is not split into segments, each with its own share.
+      MetricRegistry smallRegistry = new MetricRegistry();
+      InMemoryQuizSessionStore smallStore =
+          storeBuilder.maximumPrompts(19).metricRegistry(smallRegistry).build();
+      for (int i = 0; i < 4; i++) {
+        smallStore.put(quiz("id" + i, 4));
+      }
+
+      // Execution
+      smallStore.put(quiz("large", 10));
+
+      // Validation
+      assertFalse(smallStore.contains("id0"));
+      assertFalse(smallStore.contains("id1"));
+      assertTrue(smallStore.contains("id2"));
+      assertTrue(smallStore.contains("id3"));
+      assertTrue(smallStore.contains("large"));
+      assertEquals(18, smallStore.getPrompts());
+      assertEquals(
+          2L,
+          smallRegistry
+              .getGauges()
+              .get(MetricRegistry.name(QuizSessionStore.class, "evictions"))
+              .getValue());
+    }
+
+    @Test
+    void whenQuizLargerThanStore_thenNotKept() throws RenderableException {
+      // Setup
+      store.put(quiz("id0", 4));
+
+      // Execution
+      store.put(quiz("huge", 41));
+
+      // Validation
+      assertFalse(store.contains("huge"));
+      assertTrue(store.contains("id0"));
+      assertEquals(4, store.getPrompts());
+    }
+
+    @Test
+    void whenQuizHasNoPrompts_thenWeighedAsOne() throws RenderableException {
+      // Setup
+      Quiz noPrompts = quiz("none", 0);
+      Quiz nullPrompts = Quiz.builder().id("null").name("name").build();
+
+      // Execution
+      store.put(noPrompts);
+      store.put(nullPrompts);
+
+      // Validation
+      assertEquals(2, store.getPrompts());
+      assertTrue(store.contains("none"));
+      assertTrue(store.contains("null"));
+    }
+
+    @Test
+    void whenFull_thenOlderQuizzesEvicted() throws RenderableException {
+      // Execution
+      for (int i = 0; i < 20; i++) {
+        store.put(quiz("id" + i, 4));
+      }
+
+      // Validation
+      assertTrue(store.getPrompts() <= 40, "prompts=" + store.getPrompts());
+      assertTrue(store.size() < 20, "size=" + store.size());
+      assertTrue(store.get("id19").isPresent());
+      assertTrue(gauge("evictions") > 0);
+      assertEquals(store.size(), gauge("size"));
+    }
+  }
+
+  @Nested
+  class RejectWhenFullTest {
+    private final InMemoryQuizSessionStore store = storeBuilder.rejectWhenFull(true).build();
+
+    @Test
+    void whenFull_thenNewQuizRejectedAndOthersKept() throws RenderableException {
+      // Setup
+      for (int i = 0; i < 10; i++) {
+        store.put(quiz("id" + i, 4));
+      }
+
+      // Execution
+      Executable executable = () -> store.put(quiz("id10", 1));
+
+      // Validation
+      RetryLaterException exception = assertThrows(RetryLaterException.class, executable);
+      assertEquals(HttpStatus.SERVICE_UNAVAILABLE_503, exception.getHttpStatus());
+      assertEquals("Too many quizzes in progress, try again later", exception.getMessage());
+      assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+      assertEquals(10, store.size());
+      assertEquals(40, store.getPrompts());
+      assertTrue(store.get("id10").isEmpty());
+      assertEquals(
+          1,
+          metricRegistry
+              .meter(MetricRegistry.name(QuizSessionStore.class, "rejections"))
+              .getCount());
+    }
+
+    @Test
+    void whenQuizFits_thenAccepted() throws RenderableException {
+      // Setup
+      store.put(quiz("id1", 39));
+
+      // Execution
+      store.put(quiz("id2", 1));
+
+      // Validation
+      assertEquals(40, store.getPrompts());
+      assertTrue(store.get("id1").isPresent());
+      assertTrue(store.get("id2").isPresent());
+    }
+
+    @Test
+    void whenQuizzesExpired_thenRoomReclaimed() throws RenderableException, InterruptedException {
+      // Setup
+      InMemoryQuizSessionStore expiringStore =
+          InMemoryQuizSessionStore.builder()
+              .maximumPrompts(4)
+              .expireAfter(Duration.ofMillis(1))
+              .rejectWhenFull(true)
+              .retryAfter(Duration.ofSeconds(30))
+              .metricRegistry(new MetricRegistry())
+              .build();
+      expiringStore.put(quiz("id1", 4));
+      Thread.sleep(5);
+
+      // Execution
+      expiringStore.put(quiz("id2", 4));
+
+      // Validation
+      assertTrue(expiringStore.get("id2").isPresent());
+      assertEquals(4, expiringStore.getPrompts());
+    }
+  }
+}
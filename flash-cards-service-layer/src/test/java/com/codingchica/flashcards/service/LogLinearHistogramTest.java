@@ -0,0 +1,117 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit tests for the LogLinearHistogram class. */
+class LogLinearHistogramTest {
+  private final LogLinearHistogram histogram = new LogLinearHistogram(3600, 2);
+
+  private long valueAtPercentile(double percentile) {
+    long[] counts = histogram.copyCounts();
+    return histogram.valueAtPercentile(counts, LongStream.of(counts).sum(), percentile);
+  }
+
+  @Nested
+  class ConstructorTest {
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,2,highestTrackableValue must be positive",
+          "3600,0,significantDigits must be between 1 and 5",
+          "3600,6,significantDigits must be between 1 and 5"
+        })
+    void whenArgumentOutOfRange_thenThrowsException(
+        long highestTrackableValue, int significantDigits, String expectedMessage) {
+      // Execution
+      Executable executable =
+          () -> new LogLinearHistogram(highestTrackableValue, significantDigits);
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    @Test
+    void whenHighestTrackableValueLarge_thenCountsGrowWithItsLogarithm() {
+      // Execution
+      LogLinearHistogram result = new LogLinearHistogram(3600, 2);
+      LogLinearHistogram larger = new LogLinearHistogram(3600L * 24 * 365, 2);
+
+      // Validation
+      // 256 buckets below 256, then 128 for each doubling, the last only in part.
+      assertEquals(738, result.copyCounts().length);
+      assertTrue(larger.copyCounts().length < 2600, "length=" + larger.copyCounts().length);
+    }
+  }
+
+  @Nested
+  class RecordTest {
+    @Test
+    void whenNothingRecorded_thenZero() {
+      // Validation
+      assertEquals(0, valueAtPercentile(50));
+    }
+
+    @Test
+    void whenValuesBelowSubBucketCount_thenExact() {
+      // Execution
+      for (int value = 1; value <= 100; value++) {
+        histogram.record(value);
+      }
+
+      // Validation
+      assertAll(
+          () -> assertEquals(50, valueAtPercentile(50), "p50"),
+          () -> assertEquals(90, valueAtPercentile(90), "p90"),
+          () -> assertEquals(99, valueAtPercentile(99), "p99"),
+          () -> assertEquals(100, valueAtPercentile(100), "max"),
+          () -> assertEquals(1, valueAtPercentile(0), "min"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"255,255", "256,257", "257,257", "1000,1003", "3000,3007"})
+    void whenValueAboveSubBucketCount_thenWithinPrecision(long value, long expected) {
+      // Execution
+      histogram.record(value);
+
+      // Validation
+      long result = valueAtPercentile(100);
+      assertEquals(expected, result);
+      assertTrue(result - value < value / 100 + 1, "result=" + result);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"-5,0", "3600,3600", "86400,3600"})
+    void whenValueOutOfRange_thenClamped(long value, long expected) {
+      // Execution
+      histogram.record(value);
+
+      // Validation
+      assertEquals(expected, valueAtPercentile(100));
+    }
+
+    @Test
+    void whenSignificantDigitsVaried_thenExactRangeVaries() {
+      // Setup
+      LogLinearHistogram oneDigit = new LogLinearHistogram(3600, 1);
+      LogLinearHistogram threeDigits = new LogLinearHistogram(3600, 3);
+
+      // Execution
+      oneDigit.record(100);
+      threeDigits.record(2047);
+
+      // Validation
+      long[] oneDigitCounts = oneDigit.copyCounts();
+      assertEquals(103, oneDigit.valueAtPercentile(oneDigitCounts, 1, 100));
+      long[] threeDigitCounts = threeDigits.copyCounts();
+      assertEquals(2047, threeDigits.valueAtPercentile(threeDigitCounts, 1, 100));
+    }
+  }
+}
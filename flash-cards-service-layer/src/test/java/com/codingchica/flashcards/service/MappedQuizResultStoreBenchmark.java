@@ -0,0 +1,175 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Append throughput, start time and range query times of the memory-mapped quiz result store, with
+ * ten million results saved. Each range query is compared with reading every segment from the start
+ * for the same results. Not part of the regular build, as the results depend on the machine and its
+ * disk, and it writes around 350 MiB; run it explicitly with:
+ *
+ * <pre>mvn test -pl flash-cards-service-layer -Dtest=MappedQuizResultStoreBenchmark</pre>
+ */
+class MappedQuizResultStoreBenchmark {
+  private static final int RESULTS = 10_000_000;
+  private static final int QUIZZES = 100;
+  private static final int BATCH_SIZE = 1000;
+  private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+  /** Each batch is saved a second after the one before, so that the results span 10,000 seconds. */
+  private static final Duration BATCH_INTERVAL = Duration.ofSeconds(1);
+
+  @TempDir private Path directory;
+
+  /** A clock moved on by hand, a batch at a time. */
+  private static final class SteppingClock extends Clock {
+    private final AtomicLong millis = new AtomicLong(START.toEpochMilli());
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis.get());
+    }
+
+    void step(Duration duration) {
+      millis.addAndGet(duration.toMillis());
+    }
+  }
+
+  @Test
+  void appendStartAndRangeQueries() throws Exception, RenderableException {
+    SteppingClock clock = new SteppingClock();
+    MappedQuizResultStore.Builder builder =
+        MappedQuizResultStore.builder()
+            .directory(directory)
+            .segmentSize(64 << 20)
+            .clock(clock)
+            .metricRegistry(new MetricRegistry());
+
+    MappedQuizResultStore store = builder.build();
+    store.start();
+    List<QuizResult> batch = new ArrayList<>(BATCH_SIZE);
+    long appendStarted = System.nanoTime();
+    for (int i = 0; i < RESULTS; i++) {
+      batch.add(
+          QuizResult.builder()
+              .name("Quiz " + i % QUIZZES)
+              .promptCount(20)
+              .correctAnswers(i % 21)
+              .percentage(i % 21 * 5)
+              .timeMinutes(i % 7)
+              .timeSeconds(i % 60)
+              .build());
+      if (batch.size() == BATCH_SIZE) {
+        store.append(batch);
+        batch.clear();
+        clock.step(BATCH_INTERVAL);
+      }
+    }
+    double appendSeconds = (System.nanoTime() - appendStarted) / 1e9;
+    store.stop();
+    System.out.printf(
+        "appended %,d results in %,.1f s (%,.0f results/s) into %d segments, %,.1f MiB%n",
+        RESULTS, appendSeconds, RESULTS / appendSeconds, segmentCount(), directoryMiB());
+
+    long startStarted = System.nanoTime();
+    MappedQuizResultStore restarted = builder.build();
+    restarted.start();
+    System.out.printf(
+        "started, rebuilding the indexes, in %,.1f ms%n", (System.nanoTime() - startStarted) / 1e6);
+
+    System.out.printf("%-12s %10s %14s %16s%n", "range", "results", "indexed ms", "from start ms");
+    Instant middle = START.plusSeconds(RESULTS / BATCH_SIZE / 2);
+    for (Duration range :
+        List.of(Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofHours(1))) {
+      Instant from = middle;
+      Instant to = middle.plus(range);
+      long[] indexed = new long[1];
+      long indexedNanos =
+          time(
+              () -> {
+                indexed[0] = 0;
+                restarted.forEach("Quiz 42", from, to, saved -> indexed[0]++);
+              });
+      long[] scanned = new long[1];
+      long scannedNanos =
+          time(
+              () -> {
+                scanned[0] = 0;
+                restarted.forEach(
+                    "Quiz 42",
+                    Instant.MIN,
+                    Instant.MAX,
+                    saved -> {
+                      if (!saved.getSavedAt().isBefore(from) && saved.getSavedAt().isBefore(to)) {
+                        scanned[0]++;
+                      }
+                    });
+              });
+      assertEquals(scanned[0], indexed[0], range.toString());
+      System.out.printf(
+          "%-12s %,10d %,14.2f %,16.2f%n",
+          range, indexed[0], indexedNanos / 1e6, scannedNanos / 1e6);
+    }
+    restarted.stop();
+  }
+
+  /**
+   * The best of several runs of a query, so that the segments are already paged in.
+   *
+   * @param query The query.
+   * @return The shortest time it took, in nanoseconds.
+   */
+  private static long time(Runnable query) {
+    long best = Long.MAX_VALUE;
+    for (int run = 0; run < 5; run++) {
+      long started = System.nanoTime();
+      query.run();
+      best = Math.min(best, System.nanoTime() - started);
+    }
+    return best;
+  }
+
+  private long segmentCount() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  private double directoryMiB() throws IOException {
+    long bytes = 0;
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        bytes += Files.size(file);
+      }
+    }
+    return bytes / (double) (1 << 20);
+  }
+}
@@ -0,0 +1,1067 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for the MappedQuizResultStore class. */
+@ExtendWith(MockitoExtension.class)
+class MappedQuizResultStoreTest {
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  @TempDir private Path directory;
+  @Mock private Clock clock;
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final List<MappedQuizResultStore> stores = new ArrayList<>();
+  private MappedQuizResultStore.Builder storeBuilder;
+
+  @BeforeEach
+  void setup() {
+    timeIs(NOW);
+    storeBuilder =
+        MappedQuizResultStore.builder()
+            .directory(directory)
+            .segmentSize(1 << 20)
+            .clock(clock)
+            .metricRegistry(metricRegistry);
+  }
+
+  @AfterEach
+  void cleanup() {
+    for (MappedQuizResultStore store : stores) {
+      store.stop();
+    }
+  }
+
+  private void timeIs(Instant instant) {
+    lenient().doReturn(instant.toEpochMilli()).when(clock).millis();
+  }
+
+  private MappedQuizResultStore start(MappedQuizResultStore.Builder builder) throws Exception {
+    MappedQuizResultStore store = builder.build();
+    stores.add(store);
+    store.start();
+    return store;
+  }
+
+  private static QuizResult quizResult(String name, int correctAnswers) {
+    return QuizResult.builder()
+        .name(name)
+        .promptCount(300)
+        .correctAnswers(correctAnswers)
+        .percentage(correctAnswers / 3)
+        .timeMinutes(2)
+        .timeSeconds(59)
+        .build();
+  }
+
+  /**
+   * Append a result for each of two quizzes every millisecond, from NOW.
+   *
+   * @param store The started store.
+   * @param millis How many milliseconds to append results for.
+   */
+  private void appendEveryMillisecond(MappedQuizResultStore store, int millis)
+      throws RenderableException {
+    for (int i = 0; i < millis; i++) {
+      timeIs(NOW.plusMillis(i));
+      store.append(List.of(quizResult("Adding 1", i % 301), quizResult("Adding 2", i % 301)));
+    }
+  }
+
+  /** Summarize the results found, as name:correctAnswers@millisecond after NOW. */
+  private static List<String> find(
+      MappedQuizResultStore store, String name, Instant from, Instant to) {
+    List<String> found = new ArrayList<>();
+    store.forEach(
+        name,
+        from,
+        to,
+        saved ->
+            found.add(
+                saved.getQuizResult().getName()
+                    + ":"
+                    + saved.getQuizResult().getCorrectAnswers()
+                    + "@"
+                    + (saved.getSavedAt().toEpochMilli() - NOW.toEpochMilli())));
+    return found;
+  }
+
+  private List<String> segments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString()).sorted().toList();
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenSegmentSizeTooSmall_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.segmentSize(1023).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("segmentSize must be from 1 KiB up to 2 GiB", exception.getMessage());
+    }
+
+    @Test
+    void whenSegmentSizeTooLarge_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.segmentSize(1L << 31).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("segmentSize must be from 1 KiB up to 2 GiB", exception.getMessage());
+    }
+
+    @Test
+    void whenDirectoryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.directory(null).build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("directory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenClockNull_thenSystemClockUsed() {
+      // Execution
+      MappedQuizResultStore result = storeBuilder.clock(null).build();
+
+      // Validation
+      assertEquals(Clock.systemUTC(), result.getClock());
+      assertEquals(directory, result.getDirectory());
+      assertEquals(1 << 20, result.getSegmentSize());
+    }
+
+    @Test
+    void whenDirectoryNotSet_thenThrowsException() {
+      // Setup
+      MappedQuizResultStore.Builder builder =
+          MappedQuizResultStore.builder().segmentSize(1024).metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("directory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.metricRegistry(null).build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNotSet_thenThrowsException() {
+      // Setup
+      MappedQuizResultStore.Builder builder =
+          MappedQuizResultStore.builder().directory(directory).segmentSize(1024);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenClockSet_thenClockUsed() {
+      // Execution
+      MappedQuizResultStore result = storeBuilder.build();
+
+      // Validation
+      assertSame(clock, result.getClock());
+    }
+  }
+
+  @Nested
+  class AppendTest {
+    @Test
+    void whenNull_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.append(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResults is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenNotStarted_thenThrowsException() {
+      // Setup
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = () -> store.append(List.of(quizResult("Adding 1", 1)));
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("the store must be started before use", exception.getMessage());
+    }
+
+    @Test
+    void whenEmpty_thenNothingSaved() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      store.append(List.of());
+
+      // Validation
+      assertEquals(List.of(), find(store, null, Instant.MIN, Instant.MAX));
+      assertEquals(
+          0,
+          metricRegistry.timer(MetricRegistry.name(QuizResultStore.class, "commits")).getCount());
+    }
+
+    @Test
+    void whenAppended_thenEveryFieldKept() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      store.append(List.of(quizResult("Adding ½", 299)));
+
+      // Validation
+      List<SavedQuizResult> found = new ArrayList<>();
+      store.forEach(null, Instant.MIN, Instant.MAX, found::add);
+      assertEquals(1, found.size());
+      SavedQuizResult saved = found.get(0);
+      assertEquals(NOW, saved.getSavedAt());
+      assertEquals(
+          "QuizResult(name=Adding ½, promptCount=300, correctAnswers=299, percentage=99,"
+              + " timeMinutes=2, timeSeconds=59)",
+          saved.getQuizResult().toString());
+      assertEquals(
+          1,
+          metricRegistry.timer(MetricRegistry.name(QuizResultStore.class, "commits")).getCount());
+    }
+
+    @Test
+    void whenClockGoesBackwards_thenStampedNoEarlierThanBefore()
+        throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+      store.append(List.of(quizResult("Adding 1", 1)));
+      timeIs(NOW.minusSeconds(5));
+
+      // Execution
+      store.append(List.of(quizResult("Adding 1", 2)));
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1:1@0", "Adding 1:2@0"), find(store, null, Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    void whenSegmentFull_thenNextSegmentStarted() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+
+      // Execution
+      appendEveryMillisecond(store, 100);
+
+      // Validation
+      List<String> segments = segments();
+      assertTrue(segments.size() > 1, segments.toString());
+      assertEquals(MappedQuizResultStore.segmentName(1), segments.get(0));
+      for (String segment : segments) {
+        assertEquals(1024, Files.size(directory.resolve(segment)), segment);
+      }
+      assertEquals(200, find(store, null, Instant.MIN, Instant.MAX).size());
+    }
+
+    @Test
+    void whenNameTooLong_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+
+      // Execution
+      Executable executable = () -> store.append(List.of(quizResult("x".repeat(1024), 1)));
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, exception.getHttpStatus());
+      assertEquals("Error while saving quiz results.", exception.getMessage());
+    }
+
+    @Test
+    void whenNameLongerThanLengthField_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.append(List.of(quizResult("x".repeat(0x10000), 1)));
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, exception.getHttpStatus());
+      assertEquals(List.of(), find(store, null, Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    void whenNextSegmentCannotStart_thenOnlyWhatFitKept() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+      // A directory where the next segment would go.
+      Path blocked = directory.resolve(MappedQuizResultStore.segmentName(2));
+      Files.createDirectory(blocked);
+      List<QuizResult> batch = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        batch.add(quizResult("Adding 2", i));
+      }
+
+      // Execution
+      Executable executable = () -> store.append(batch);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, exception.getHttpStatus());
+      List<String> kept = find(store, null, Instant.MIN, Instant.MAX);
+      assertTrue(kept.size() > 0 && kept.size() < 100, kept.toString());
+      assertEquals("Adding 2:" + (kept.size() - 1) + "@0", kept.get(kept.size() - 1));
+      Files.delete(blocked);
+      store.append(List.of(quizResult("Adding 1", 1)));
+      assertEquals(
+          List.of(MappedQuizResultStore.segmentName(1), MappedQuizResultStore.segmentName(2)),
+          segments());
+      assertEquals(kept.size() + 1, find(store, null, Instant.MIN, Instant.MAX).size());
+    }
+  }
+
+  @Nested
+  class ForEachTest {
+    @Test
+    void whenFromNull_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.forEach(null, null, Instant.MAX, saved -> {});
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("from is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenToNull_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.forEach(null, Instant.MIN, null, saved -> {});
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("to is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenActionNull_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.forEach(null, Instant.MIN, Instant.MAX, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("action is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenNamesDifferInLength_thenOnlyThatQuizFound() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+      store.append(
+          List.of(quizResult("Adding 10", 1), quizResult("Adding 1", 2), quizResult("Adding", 3)));
+
+      // Execution
+      List<String> result = find(store, "Adding 1", Instant.MIN, Instant.MAX);
+
+      // Validation
+      assertEquals(List.of("Adding 1:2@0"), result);
+    }
+
+    @Test
+    void whenNamesDifferInCase_thenQuizFound() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+      store.append(
+          List.of(
+              quizResult("ADDING 1", 1),
+              quizResult("adding 1", 2),
+              quizResult("Adding 2", 3),
+              quizResult("Adding 1", 4)));
+
+      // Execution
+      List<String> result = find(store, "Adding 1", Instant.MIN, Instant.MAX);
+
+      // Validation
+      assertEquals(List.of("ADDING 1:1@0", "adding 1:2@0", "Adding 1:4@0"), result);
+    }
+
+    @Test
+    void whenNamesNotAscii_thenMatchedIgnoringCase() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+      store.append(
+          List.of(
+              quizResult("Übungen", 1),
+              quizResult("übungen", 2),
+              quizResult("Übung", 3),
+              quizResult("Ubungen", 4)));
+
+      // Execution
+      List<String> result = find(store, "ÜBUNGEN", Instant.MIN, Instant.MAX);
+
+      // Validation
+      assertEquals(List.of("Übungen:1@0", "übungen:2@0"), result);
+    }
+
+    @Test
+    void whenLookingUpBetweenIndexEntries_thenEveryResultInRangeFound()
+        throws Exception, RenderableException {
+      // Setup
+      // Over 64 KiB of records in one segment, so more index entries than it starts room for.
+      MappedQuizResultStore store = start(storeBuilder);
+      appendEveryMillisecond(store, 3000);
+
+      // Execution and Validation
+      assertEquals(List.of(MappedQuizResultStore.segmentName(1)), segments());
+      for (int from : new int[] {0, 1, 1023, 2048, 2221, 2999}) {
+        List<String> expected = new ArrayList<>();
+        for (int i = from; i < Math.min(from + 3, 3000); i++) {
+          expected.add("Adding 2:" + i % 301 + "@" + i);
+        }
+        assertEquals(
+            expected,
+            find(store, "Adding 2", NOW.plusMillis(from), NOW.plusMillis(from + 3)),
+            "from " + from);
+      }
+    }
+
+    @Test
+    void whenNotStarted_thenThrowsException() {
+      // Setup
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = () -> find(store, null, Instant.MIN, Instant.MAX);
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("the store must be started before use", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizAndRange_thenOnlyThoseResultsInOrder() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(16 * 1024));
+      appendEveryMillisecond(store, 2000);
+      List<String> expected = new ArrayList<>();
+      for (int i = 1500; i < 1510; i++) {
+        expected.add("Adding 2:" + i % 301 + "@" + i);
+      }
+
+      // Execution
+      List<String> result = find(store, "Adding 2", NOW.plusMillis(1500), NOW.plusMillis(1510));
+
+      // Validation
+      assertTrue(segments().size() > 2, segments().toString());
+      assertEquals(expected, result);
+    }
+
+    @Test
+    void whenEveryQuiz_thenResultsForAllQuizzes() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(16 * 1024));
+      appendEveryMillisecond(store, 2000);
+
+      // Execution
+      List<String> result = find(store, null, NOW.plusMillis(999), NOW.plusMillis(1001));
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1:96@999", "Adding 2:96@999", "Adding 1:97@1000", "Adding 2:97@1000"),
+          result);
+    }
+
+    @Test
+    void whenBoundsWithinMillisecond_thenRoundedUp() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+      appendEveryMillisecond(store, 4);
+
+      // Execution
+      List<String> result =
+          find(store, "Adding 1", NOW.plusNanos(500_000), NOW.plusMillis(2).plusNanos(1));
+
+      // Validation
+      assertEquals(List.of("Adding 1:1@1", "Adding 1:2@2"), result);
+    }
+
+    @Test
+    void whenNoneInRange_thenNothingFound() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(16 * 1024));
+      appendEveryMillisecond(store, 500);
+
+      // Execution
+      List<String> before = find(store, null, Instant.MIN, NOW);
+      List<String> after = find(store, null, NOW.plusSeconds(1), Instant.MAX);
+      List<String> otherQuiz = find(store, "Adding 3", Instant.MIN, Instant.MAX);
+
+      // Validation
+      assertEquals(List.of(), before);
+      assertEquals(List.of(), after);
+      assertEquals(List.of(), otherQuiz);
+    }
+  }
+
+  @Nested
+  class SegmentsTest {
+    @Test
+    void whenNotStarted_thenSavedBeforeThrowsException() {
+      // Setup
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = () -> store.getSegmentsSavedBefore(Instant.MAX);
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("the store must be started before use", exception.getMessage());
+    }
+
+    @Test
+    void whenSavedBeforeNull_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.getSegmentsSavedBefore(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("before is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenSegmentActionNull_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.forEachInSegment(1, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("action is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenNotStarted_thenRemoveThrowsException() {
+      // Setup
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = () -> store.removeSegmentsThrough(1, null);
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("the store must be started before use", exception.getMessage());
+    }
+
+    @Test
+    void whenSavedBeforeLatestResult_thenEverySegmentButLatest()
+        throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+      appendEveryMillisecond(store, 100);
+      int segmentCount = segments().size();
+
+      // Execution
+      List<Integer> result = store.getSegmentsSavedBefore(Instant.MAX);
+
+      // Validation
+      assertTrue(segmentCount > 2, segments().toString());
+      assertEquals(segmentCount - 1, result.size());
+      for (int i = 0; i < result.size(); i++) {
+        assertEquals(i + 1, result.get(i));
+      }
+    }
+
+    @Test
+    void whenSavedBeforeFirstResult_thenNone() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+      appendEveryMillisecond(store, 100);
+
+      // Execution
+      List<Integer> result = store.getSegmentsSavedBefore(NOW);
+
+      // Validation
+      assertEquals(List.of(), result);
+    }
+
+    @Test
+    void whenEachSegmentRead_thenEveryResultReadOnce() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+      appendEveryMillisecond(store, 100);
+      List<String> result = new ArrayList<>();
+
+      // Execution
+      for (int number = 1; number <= segments().size(); number++) {
+        store.forEachInSegment(
+            number,
+            saved ->
+                result.add(
+                    saved.getQuizResult().getName()
+                        + ":"
+                        + saved.getQuizResult().getCorrectAnswers()
+                        + "@"
+                        + (saved.getSavedAt().toEpochMilli() - NOW.toEpochMilli())));
+      }
+
+      // Validation
+      assertEquals(find(store, null, Instant.MIN, Instant.MAX), result);
+    }
+
+    @Test
+    void whenSegmentUnknown_thenThrowsException() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.forEachInSegment(2, saved -> {});
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("no segment numbered 2", exception.getMessage());
+    }
+
+    @Test
+    void whenRemovedWithoutArchive_thenDeletedAndNoLongerRead()
+        throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+      appendEveryMillisecond(store, 100);
+      List<String> segments = segments();
+      List<String> expected = new ArrayList<>();
+      store.forEachInSegment(
+          3, saved -> expected.add(saved.getQuizResult().getName() + ":" + saved.getSavedAt()));
+      for (int number = 4; number <= segments.size(); number++) {
+        store.forEachInSegment(
+            number,
+            saved -> expected.add(saved.getQuizResult().getName() + ":" + saved.getSavedAt()));
+      }
+      List<String> result = new ArrayList<>();
+
+      // Execution
+      int removed = store.removeSegmentsThrough(2, null);
+
+      // Validation
+      store.forEach(
+          null,
+          Instant.MIN,
+          Instant.MAX,
+          saved -> result.add(saved.getQuizResult().getName() + ":" + saved.getSavedAt()));
+      assertEquals(2, removed);
+      assertEquals(segments.subList(2, segments.size()), segments());
+      assertEquals(expected, result);
+    }
+
+    @Test
+    void whenRemovedWithArchive_thenMoved(@TempDir Path archive)
+        throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+      appendEveryMillisecond(store, 100);
+      List<String> segments = segments();
+      Path archiveDirectory = archive.resolve("segments");
+
+      // Execution
+      int removed = store.removeSegmentsThrough(1, archiveDirectory);
+
+      // Validation
+      assertEquals(1, removed);
+      assertEquals(segments.subList(1, segments.size()), segments());
+      assertTrue(Files.exists(archiveDirectory.resolve(MappedQuizResultStore.segmentName(1))));
+    }
+
+    @Test
+    void whenRemovingThroughLatest_thenLatestKept() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder.segmentSize(1024));
+      appendEveryMillisecond(store, 100);
+      List<String> segments = segments();
+
+      // Execution
+      int removed = store.removeSegmentsThrough(Integer.MAX_VALUE, null);
+      appendEveryMillisecond(store, 1);
+
+      // Validation
+      assertEquals(segments.size() - 1, removed);
+      assertEquals(List.of(segments.get(segments.size() - 1)), segments());
+      assertEquals(List.of(), store.getSegmentsSavedBefore(Instant.MAX));
+    }
+
+    @Test
+    void whenNothingToRemove_thenNoneRemoved() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      int removed = store.removeSegmentsThrough(0, null);
+
+      // Validation
+      assertEquals(0, removed);
+      assertEquals(List.of(MappedQuizResultStore.segmentName(1)), segments());
+    }
+
+    @Test
+    void whenNothingToRemoveWithArchive_thenArchiveNotCreated(@TempDir Path parent)
+        throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+      Path archive = parent.resolve("archive");
+
+      // Execution
+      int removed = store.removeSegmentsThrough(1, archive);
+
+      // Validation
+      assertEquals(0, removed);
+      assertFalse(Files.exists(archive));
+      assertEquals(List.of(MappedQuizResultStore.segmentName(1)), segments());
+    }
+  }
+
+  @Nested
+  class LifecycleTest {
+    @Test
+    void whenRestartedAfterRollover_thenEverySegmentRemapped()
+        throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore first = start(storeBuilder.segmentSize(64 * 1024));
+      appendEveryMillisecond(first, 6000);
+      List<String> expected = find(first, "Adding 1", NOW.plusMillis(2500), NOW.plusMillis(2600));
+      first.stop();
+      List<String> segments = segments();
+
+      // Execution
+      MappedQuizResultStore second = start(storeBuilder);
+
+      // Validation
+      assertTrue(segments.size() > 2, segments.toString());
+      assertEquals(100, expected.size());
+      assertEquals(expected, find(second, "Adding 1", NOW.plusMillis(2500), NOW.plusMillis(2600)));
+      assertEquals(12000, find(second, null, Instant.MIN, Instant.MAX).size());
+      List<String> inFirst = new ArrayList<>();
+      second.forEachInSegment(1, saved -> inFirst.add(saved.getQuizResult().getName()));
+      assertFalse(inFirst.isEmpty());
+      assertEquals(
+          segments.subList(0, segments.size() - 1).size(),
+          second.getSegmentsSavedBefore(NOW.plusMillis(6000)).size());
+    }
+
+    @Test
+    void whenOtherFilesInDirectory_thenIgnored() throws Exception, RenderableException {
+      // Setup
+      Files.writeString(directory.resolve("notes.txt"), "not a segment");
+
+      // Execution
+      MappedQuizResultStore store = start(storeBuilder);
+      store.append(List.of(quizResult("Adding 1", 7)));
+
+      // Validation
+      assertEquals(List.of("notes.txt", MappedQuizResultStore.segmentName(1)), segments());
+      assertEquals(List.of("Adding 1:7@0"), find(store, null, Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    void whenTailLengthTooShort_thenCorruptTailCleared() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore first = start(storeBuilder);
+      appendEveryMillisecond(first, 2);
+      first.stop();
+      Path segment = directory.resolve(MappedQuizResultStore.segmentName(1));
+      long end = endOfRecords(segment);
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+        // Too short to hold even the time the result was saved.
+        channel.write(ByteBuffer.allocate(16).putInt(4).putInt(7).putLong(1).flip(), end);
+      }
+
+      // Execution
+      MappedQuizResultStore second = start(storeBuilder);
+      second.append(List.of(quizResult("Adding 1", 7)));
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1:0@0", "Adding 1:1@1", "Adding 1:7@1"),
+          find(second, "Adding 1", Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    void whenTailLengthPastEnd_thenCorruptTailCleared() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore first = start(storeBuilder);
+      appendEveryMillisecond(first, 2);
+      first.stop();
+      Path segment = directory.resolve(MappedQuizResultStore.segmentName(1));
+      long end = endOfRecords(segment);
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+        channel.write(ByteBuffer.allocate(4).putInt(-1).flip(), end);
+      }
+
+      // Execution
+      MappedQuizResultStore second = start(storeBuilder);
+      second.append(List.of(quizResult("Adding 2", 7)));
+      second.stop();
+      MappedQuizResultStore third = start(storeBuilder);
+
+      // Validation
+      assertEquals(
+          List.of("Adding 2:0@0", "Adding 2:1@1", "Adding 2:7@1"),
+          find(third, "Adding 2", Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    void whenFormatUnknown_thenThrowsException() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore first = start(storeBuilder);
+      first.stop();
+      Path segment = directory.resolve(MappedQuizResultStore.segmentName(1));
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+        channel.write(ByteBuffer.allocate(4).putInt(2).flip(), 4);
+      }
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertTrue(exception.getMessage().endsWith("is not a quiz results segment"));
+    }
+
+    @Test
+    void whenOnlyFormatWritten_thenThrowsException() throws Exception {
+      // Setup
+      Files.write(
+          directory.resolve(MappedQuizResultStore.segmentName(1)),
+          ByteBuffer.allocate(1024).putInt(0).putInt(1).array());
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertTrue(exception.getMessage().endsWith("is not a quiz results segment"));
+    }
+
+    @Test
+    void whenTooLargeToMap_thenThrowsException() throws Exception {
+      // Setup
+      Path segment = directory.resolve(MappedQuizResultStore.segmentName(1));
+      try (FileChannel channel =
+          FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        // Sparse, so it takes up next to no space.
+        channel.write(ByteBuffer.wrap(new byte[] {1}), 1L << 31);
+      }
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertTrue(exception.getMessage().endsWith("is not a quiz results segment"));
+    }
+
+    @Test
+    void whenRestarted_thenFindsEarlierResultsAndAppendsToLatestSegment()
+        throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore first = start(storeBuilder.segmentSize(16 * 1024));
+      appendEveryMillisecond(first, 500);
+      first.stop();
+      List<String> segments = segments();
+
+      // Execution
+      MappedQuizResultStore second = start(storeBuilder);
+      timeIs(NOW.minusSeconds(1));
+      second.append(List.of(quizResult("Adding 1", 7)));
+
+      // Validation
+      assertEquals(segments, segments());
+      List<String> found = find(second, "Adding 1", NOW.plusMillis(499), Instant.MAX);
+      assertEquals(List.of("Adding 1:198@499", "Adding 1:7@499"), found);
+      assertEquals(1001, find(second, null, Instant.MIN, Instant.MAX).size());
+    }
+
+    @Test
+    void whenRecordTorn_thenClearedBeforeAppending() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore first = start(storeBuilder);
+      appendEveryMillisecond(first, 2);
+      first.stop();
+      Path segment = directory.resolve(MappedQuizResultStore.segmentName(1));
+      long end = endOfRecords(segment);
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+        // A length and part of a body, without the rest, nor a valid checksum.
+        channel.write(ByteBuffer.allocate(24).putInt(40).putInt(7).putLong(1).flip(), end);
+        channel.write(ByteBuffer.wrap(new byte[] {9}), end + 200);
+      }
+
+      // Execution
+      MappedQuizResultStore second = start(storeBuilder);
+      second.append(List.of(quizResult("Adding 1", 7)));
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1:0@0", "Adding 1:1@1", "Adding 1:7@1"),
+          find(second, "Adding 1", Instant.MIN, Instant.MAX));
+      second.stop();
+      MappedQuizResultStore third = start(storeBuilder);
+      assertEquals(5, find(third, null, Instant.MIN, Instant.MAX).size());
+    }
+
+    @Test
+    void whenChecksumWrong_thenRestIgnored() throws Exception, RenderableException {
+      // Setup
+      MappedQuizResultStore first = start(storeBuilder);
+      appendEveryMillisecond(first, 2);
+      first.stop();
+      Path segment = directory.resolve(MappedQuizResultStore.segmentName(1));
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+        // The checksum of the third record, for Adding 1 at 1 millisecond.
+        long third = 8 + 2 * recordLength(segment, 8);
+        channel.write(ByteBuffer.allocate(4).putInt(0).flip(), third + 4);
+      }
+
+      // Execution
+      MappedQuizResultStore second = start(storeBuilder);
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1:0@0", "Adding 2:0@0"), find(second, null, Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    void whenHeaderNeverWritten_thenTreatedAsEmpty() throws Exception, RenderableException {
+      // Setup
+      Files.write(directory.resolve(MappedQuizResultStore.segmentName(3)), new byte[2048]);
+
+      // Execution
+      MappedQuizResultStore store = start(storeBuilder);
+      store.append(List.of(quizResult("Adding 1", 7)));
+
+      // Validation
+      assertEquals(List.of(MappedQuizResultStore.segmentName(3)), segments());
+      assertEquals(List.of("Adding 1:7@0"), find(store, null, Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    void whenNotASegment_thenThrowsException() throws Exception {
+      // Setup
+      Files.writeString(
+          directory.resolve(MappedQuizResultStore.segmentName(1)), "{\"not\":\"a segment\"}");
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertTrue(exception.getMessage().endsWith("is not a quiz results segment"));
+    }
+
+    @Test
+    void whenTooShortForHeader_thenThrowsException() throws Exception {
+      // Setup
+      Files.write(directory.resolve(MappedQuizResultStore.segmentName(1)), new byte[4]);
+      MappedQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = store::start;
+
+      // Validation
+      assertThrows(IOException.class, executable);
+    }
+
+    @Test
+    void whenStopped_thenNoLongerAppends() throws Exception {
+      // Setup
+      MappedQuizResultStore store = start(storeBuilder);
+      store.stop();
+
+      // Execution
+      Executable executable = () -> store.append(List.of(quizResult("Adding 1", 1)));
+
+      // Validation
+      assertThrows(IllegalStateException.class, executable);
+    }
+
+    /** The length of the body of the record at an offset in a segment. */
+    private static int recordLength(Path segment, long offset) throws IOException {
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        channel.read(length, offset);
+        return 8 + length.flip().getInt();
+      }
+    }
+
+    /** Where the records of a segment end, and its zeroed remainder starts. */
+    private static long endOfRecords(Path segment) throws IOException {
+      long offset = 8;
+      while (true) {
+        int length = recordLength(segment, offset);
+        if (length == 8) {
+          return offset;
+        }
+        offset += length;
+      }
+    }
+  }
+}
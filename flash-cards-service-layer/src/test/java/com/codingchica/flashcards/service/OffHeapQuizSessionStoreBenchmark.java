@@ -0,0 +1,129 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.mappers.external.QuizMapperImpl;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Heap footprint and garbage collection time of the quiz session stores as they fill up with
+ * quizzes in progress. Not part of the regular build, as the results depend on the machine and heap
+ * settings; run it explicitly, with a heap large enough for the on-heap store, with:
+ *
+ * <pre>mvn test -pl flash-cards-service-layer -Dtest=OffHeapQuizSessionStoreBenchmark
+ * -DargLine=-Xmx4g</pre>
+ */
+class OffHeapQuizSessionStoreBenchmark {
+  private static final int QUIZZES = 1_000_000;
+  private static final int FULL_COLLECTIONS = 5;
+
+  private final QuizMapperImpl quizMapper = QuizMapperImpl.builder().build();
+  private final Deck deck;
+
+  OffHeapQuizSessionStoreBenchmark() {
+    Map<String, String> prompts = new TreeMap<>();
+    for (int i = 0; i < 169; i++) {
+      prompts.put(i / 13 + "x" + i % 13, String.valueOf((i / 13) * (i % 13)));
+    }
+    deck =
+        Deck.compile(
+            0,
+            "Multiplication",
+            FlashCardGroup.builder()
+                .name("Times Tables")
+                .prompts(prompts)
+                .minimumPrompts(20)
+                .maximumPrompts(20)
+                .build());
+  }
+
+  @Test
+  void footprintAndCollectionTime() throws RenderableException {
+    System.out.printf(
+        "%-10s %12s %14s %14s %16s%n",
+        "store", "quizzes", "heap MiB", "off-heap MiB", "full GC ms/run");
+    run(
+        "heap",
+        () ->
+            InMemoryQuizSessionStore.builder()
+                .maximumPrompts(Long.MAX_VALUE)
+                .expireAfter(Duration.ofHours(3))
+                .retryAfter(Duration.ofSeconds(30))
+                .metricRegistry(new MetricRegistry())
+                .build());
+    run(
+        "off-heap",
+        () ->
+            OffHeapQuizSessionStore.builder()
+                .slabSize(4 << 20)
+                .capacity(1L << 30)
+                .expireAfter(Duration.ofHours(3))
+                .retryAfter(Duration.ofSeconds(30))
+                .metricRegistry(new MetricRegistry())
+                .build());
+  }
+
+  /**
+   * Fill a store, then measure the heap it retains and how long full collections take with it live.
+   *
+   * @param name The name to report the store under.
+   * @param storeSupplier Creates an empty store.
+   */
+  private void run(String name, Supplier<QuizSessionStore> storeSupplier)
+      throws RenderableException {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    System.gc();
+    long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+    QuizSessionStore store = storeSupplier.get();
+    for (int i = 0; i < QUIZZES; i++) {
+      Quiz quiz = quizMapper.deckToExternalQuizMapping(deck);
+      store.put(quiz);
+    }
+
+    System.gc();
+    long heapRetained = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+    long collectionMillisBefore = collectionMillis();
+    for (int i = 0; i < FULL_COLLECTIONS; i++) {
+      System.gc();
+    }
+    double collectionMillis =
+        (collectionMillis() - collectionMillisBefore) / (double) FULL_COLLECTIONS;
+    long offHeapBytes =
+        store instanceof OffHeapQuizSessionStore offHeap ? offHeap.getOffHeapBytes() : 0;
+
+    System.out.printf(
+        "%-10s %,12d %,14.1f %,14.1f %,16.1f%n",
+        name,
+        store.size(),
+        heapRetained / (double) (1 << 20),
+        offHeapBytes / (double) (1 << 20),
+        collectionMillis);
+    assertEquals(QUIZZES, store.size());
+  }
+
+  /**
+   * The time spent in garbage collection so far, across all collectors.
+   *
+   * @return The accumulated collection time, in milliseconds.
+   */
+  private static long collectionMillis() {
+    long total = 0;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      total += Math.max(0, collector.getCollectionTime());
+    }
+    return total;
+  }
+}
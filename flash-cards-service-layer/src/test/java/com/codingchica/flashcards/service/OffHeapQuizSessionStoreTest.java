@@ -0,0 +1,761 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for the OffHeapQuizSessionStore class. */
+@ExtendWith(MockitoExtension.class)
+class OffHeapQuizSessionStoreTest {
+  /** The size of a record holding 4 prompt IDs of 2 bytes each. */
+  private static final int RECORD_SIZE = 58;
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  @Mock private Clock clock;
+  private OffHeapQuizSessionStore.Builder storeBuilder;
+
+  private final Deck addition = deck(0, "Adding", 10);
+  private final Deck subtraction = deck(1, "Subtracting", 10);
+
+  @BeforeEach
+  void setup() {
+    storeBuilder =
+        OffHeapQuizSessionStore.builder()
+            .slabSize(RECORD_SIZE)
+            .capacity(3 * RECORD_SIZE)
+            .expireAfter(Duration.ofHours(3))
+            .retryAfter(Duration.ofSeconds(30))
+            .metricRegistry(metricRegistry)
+            .clock(clock);
+  }
+
+  /**
+   * Build a deck with a given number of prompts.
+   *
+   * @param id The ID of the deck.
+   * @param name The name of the deck.
+   * @param promptCount How many prompts the deck holds.
+   * @return The deck.
+   */
+  private static Deck deck(int id, String name, int promptCount) {
+    Map<String, String> prompts = new LinkedHashMap<>();
+    for (int i = 0; i < promptCount; i++) {
+      prompts.put("prompt" + i, "answer" + i);
+    }
+    return Deck.compile(
+        id, "Category", FlashCardGroup.builder().name(name).prompts(prompts).build());
+  }
+
+  /**
+   * Build a quiz drawn from a deck.
+   *
+   * @param id The ID of the quiz.
+   * @param deck The deck the prompts were drawn from.
+   * @param promptIds The prompt IDs of the quiz.
+   * @return The quiz.
+   */
+  private static Quiz quiz(UUID id, Deck deck, int... promptIds) {
+    return Quiz.builder()
+        .id(id.toString())
+        .name(deck.getName())
+        .createdDateTime(NOW.minusSeconds(5))
+        .prompts(new DeckPromptList(deck, 1234L, promptIds))
+        .build();
+  }
+
+  private void timeIs(Instant instant) {
+    lenient().doReturn(instant.toEpochMilli()).when(clock).millis();
+  }
+
+  @SuppressWarnings("unchecked")
+  private long gauge(String name) {
+    return ((Gauge<Long>)
+            metricRegistry.getGauges().get(MetricRegistry.name(QuizSessionStore.class, name)))
+        .getValue();
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void build_whenSlabSizeSmallerThanRecordHeader_thenExceptionThrown() {
+      // Setup
+      storeBuilder.slabSize(49);
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("slabSize must be at least 50 bytes", exception.getMessage());
+    }
+
+    @Test
+    void build_whenCapacitySmallerThanSlab_thenExceptionThrown() {
+      // Setup
+      storeBuilder.capacity(RECORD_SIZE - 1);
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("capacity must be at least slabSize", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenMetricRegistryNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.metricRegistry(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenExpireAfterNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.expireAfter(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("expireAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenRetryAfterNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> storeBuilder.retryAfter(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("retryAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenExpireAfterNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          OffHeapQuizSessionStore.builder()
+              .slabSize(RECORD_SIZE)
+              .capacity(RECORD_SIZE)
+              .retryAfter(Duration.ofSeconds(30))
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("expireAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenRetryAfterNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          OffHeapQuizSessionStore.builder()
+              .slabSize(RECORD_SIZE)
+              .capacity(RECORD_SIZE)
+              .expireAfter(Duration.ofHours(3))
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("retryAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenMetricRegistryNotInvoked_thenExceptionThrown() {
+      // Setup
+      storeBuilder =
+          OffHeapQuizSessionStore.builder()
+              .slabSize(RECORD_SIZE)
+              .capacity(RECORD_SIZE)
+              .expireAfter(Duration.ofHours(3))
+              .retryAfter(Duration.ofSeconds(30));
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenTooManySlabs_thenExceptionThrown() {
+      // Setup
+      storeBuilder.slabSize(50).capacity(50L * Integer.MAX_VALUE + 50);
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("capacity must be at most 2147483647 slabs", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void build_whenExpireAfterNotPositive_thenExceptionThrown(long expireAfterMillis) {
+      // Setup
+      storeBuilder.expireAfter(Duration.ofMillis(expireAfterMillis));
+
+      // Execution
+      Executable executable = storeBuilder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("expireAfter must be positive", exception.getMessage());
+    }
+
+    @Test
+    void build_whenClockNull_thenSystemClockUsed() {
+      // Setup
+      storeBuilder.clock(null);
+
+      // Execution
+      OffHeapQuizSessionStore result = storeBuilder.build();
+
+      // Validation
+      assertEquals(Clock.systemUTC(), result.getClock());
+    }
+
+    @Test
+    void build_whenInvoked_thenSweepIntervalBounded() {
+      // Execution
+      OffHeapQuizSessionStore hours = storeBuilder.build();
+      OffHeapQuizSessionStore seconds =
+          storeBuilder
+              .expireAfter(Duration.ofSeconds(2))
+              .metricRegistry(new MetricRegistry())
+              .build();
+
+      // Validation
+      assertEquals(Duration.ofMinutes(1), hours.getSweepInterval());
+      assertEquals(Duration.ofSeconds(1), seconds.getSweepInterval());
+    }
+
+    @Test
+    void build_whenExpiryWithinBounds_thenSweepIntervalIsSixteenth() {
+      // Execution
+      OffHeapQuizSessionStore result = storeBuilder.expireAfter(Duration.ofSeconds(160)).build();
+
+      // Validation
+      assertEquals(Duration.ofSeconds(10), result.getSweepInterval());
+      assertEquals(RECORD_SIZE, result.getSlabSize());
+      assertFalse(result.isRejectWhenFull());
+    }
+
+    @Test
+    void build_whenInvoked_thenMetricsRegistered() {
+      // Execution
+      OffHeapQuizSessionStore result = storeBuilder.build();
+
+      // Validation
+      assertEquals(
+          Set.of(
+              "com.codingchica.flashcards.service.QuizSessionStore.evictions",
+              "com.codingchica.flashcards.service.QuizSessionStore.hits",
+              "com.codingchica.flashcards.service.QuizSessionStore.misses",
+              "com.codingchica.flashcards.service.QuizSessionStore.offHeapBytes",
+              "com.codingchica.flashcards.service.QuizSessionStore.prompts",
+              "com.codingchica.flashcards.service.QuizSessionStore.rejections",
+              "com.codingchica.flashcards.service.QuizSessionStore.size"),
+          metricRegistry.getNames());
+      assertEquals(0, result.getOffHeapBytes(), "slabs are allocated on first use");
+    }
+  }
+
+  @Nested
+  class PutAndGetTest {
+    private OffHeapQuizSessionStore store;
+
+    @BeforeEach
+    void setup() {
+      timeIs(NOW);
+      store = storeBuilder.build();
+    }
+
+    @Test
+    void whenPut_thenRebuiltFromRecord() throws RenderableException {
+      // Setup
+      UUID id = UUID.randomUUID();
+      Quiz quiz = quiz(id, addition, 3, 1, 4, 1);
+
+      // Execution
+      store.put(quiz);
+
+      // Validation
+      Quiz result = store.get(id.toString()).orElseThrow();
+      assertEquals(id.toString(), result.getId());
+      assertEquals("Adding", result.getName());
+      assertEquals(NOW.minusSeconds(5), result.getCreatedDateTime());
+      assertEquals(quiz.getPrompts(), result.getPrompts());
+      DeckPromptList prompts = assertInstanceOf(DeckPromptList.class, result.getPrompts());
+      assertSame(addition, prompts.getDeck());
+      assertEquals(1234L, prompts.getSeed());
+      assertEquals(1, store.size());
+      assertEquals(4, store.getPrompts());
+      assertEquals(RECORD_SIZE, store.getOffHeapBytes());
+      assertEquals(1, gauge("hits"));
+      assertEquals(1, gauge("size"));
+    }
+
+    @Test
+    void whenDecksDiffer_thenEachQuizKeepsItsDeck() throws RenderableException {
+      // Setup
+      UUID first = UUID.randomUUID();
+      UUID second = UUID.randomUUID();
+      store =
+          storeBuilder
+              .slabSize(4 * RECORD_SIZE)
+              .capacity(4 * RECORD_SIZE)
+              .metricRegistry(new MetricRegistry())
+              .build();
+
+      // Execution
+      store.put(quiz(first, addition, 0, 1, 2, 3));
+      store.put(quiz(second, subtraction, 0, 1, 2, 3));
+
+      // Validation
+      assertEquals("Adding", store.get(first.toString()).orElseThrow().getName());
+      assertEquals(
+          new AbstractMap.SimpleImmutableEntry<>("prompt0", "answer0"),
+          store.get(second.toString()).orElseThrow().getPrompts().get(0));
+      assertEquals("Subtracting", store.get(second.toString()).orElseThrow().getName());
+    }
+
+    @Test
+    void whenDeckLarge_thenWidePromptIdsKept() throws RenderableException {
+      // Setup
+      Deck large = deck(2, "Large", 70_000);
+      UUID id = UUID.randomUUID();
+      store =
+          storeBuilder
+              .slabSize(4 * RECORD_SIZE)
+              .capacity(4 * RECORD_SIZE)
+              .metricRegistry(new MetricRegistry())
+              .build();
+
+      // Execution
+      store.put(quiz(id, large, 69_999, 65_536, 0, 1));
+
+      // Validation
+      DeckPromptList prompts = (DeckPromptList) store.get(id.toString()).orElseThrow().getPrompts();
+      assertEquals(69_999, prompts.getPromptId(0));
+      assertEquals(65_536, prompts.getPromptId(1));
+      assertEquals("answer69999", prompts.getAnswer(0));
+    }
+
+    @Test
+    void whenNotPut_thenEmptyAndMissCounted() {
+      // Execution
+      Optional<Quiz> result = store.get(UUID.randomUUID().toString());
+
+      // Validation
+      assertTrue(result.isEmpty());
+      assertEquals(1, gauge("misses"));
+    }
+
+    @Test
+    void whenIdNotUuid_thenEmptyAndMissCounted() {
+      // Execution
+      Optional<Quiz> result = store.get("MalformedUUID");
+
+      // Validation
+      assertTrue(result.isEmpty());
+      assertEquals(1, gauge("misses"));
+    }
+
+    @Test
+    void contains_whenPut_thenTrueWithoutCountingHit() throws RenderableException {
+      // Setup
+      UUID id = UUID.randomUUID();
+      store.put(quiz(id, addition, 0, 1, 2, 3));
+
+      // Execution
+      boolean result = store.contains(id.toString());
+
+      // Validation
+      assertTrue(result);
+      assertFalse(store.contains(UUID.randomUUID().toString()));
+      assertFalse(store.contains("MalformedUUID"));
+      assertEquals(0, gauge("hits"));
+      assertEquals(0, gauge("misses"));
+    }
+
+    @Test
+    void whenPutTwice_thenPromptsCountedOnce() throws RenderableException {
+      // Setup
+      UUID id = UUID.randomUUID();
+
+      // Execution
+      store.put(quiz(id, addition, 0, 1, 2, 3));
+      store.put(quiz(id, addition, 4, 5, 6, 7));
+
+      // Validation
+      assertEquals(1, store.size());
+      assertEquals(4, store.getPrompts());
+      DeckPromptList prompts = (DeckPromptList) store.get(id.toString()).orElseThrow().getPrompts();
+      assertEquals(4, prompts.getPromptId(0));
+    }
+
+    @Test
+    void whenPromptsNotFromDeck_thenExceptionThrown() {
+      // Setup
+      Quiz quiz = quiz(UUID.randomUUID(), addition, 0);
+      quiz.setPrompts(List.of(new AbstractMap.SimpleEntry<>("1+1", "2")));
+
+      // Execution
+      Executable executable = () -> store.put(quiz);
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals(
+          "prompts must be drawn from a deck to be stored off-heap", exception.getMessage());
+    }
+
+    @Test
+    void put_whenQuizNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.put(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void get_whenIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.get(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void contains_whenIdNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> store.contains(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizExactlyFillsSlab_thenStored() throws RenderableException {
+      // Setup
+      UUID id = UUID.randomUUID();
+
+      // Execution
+      store.put(quiz(id, addition, 0, 1, 2, 3));
+
+      // Validation
+      assertTrue(store.contains(id.toString()));
+      assertEquals(RECORD_SIZE, store.getOffHeapBytes());
+    }
+
+    @Test
+    void whenWidePromptIdsDoNotFitSlab_thenExceptionThrown() {
+      // Setup
+      Deck large = deck(2, "Large", (1 << Character.SIZE) + 1);
+      Quiz quiz = quiz(UUID.randomUUID(), large, 0, 1, 2);
+
+      // Execution
+      Executable executable = () -> store.put(quiz);
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("quiz of 62 bytes does not fit in a slab", exception.getMessage());
+      assertEquals(0, store.getOffHeapBytes());
+    }
+
+    @Test
+    void whenQuizLargerThanSlab_thenExceptionThrown() {
+      // Setup
+      Quiz quiz = quiz(UUID.randomUUID(), addition, 0, 1, 2, 3, 4);
+
+      // Execution
+      Executable executable = () -> store.put(quiz);
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("quiz of 60 bytes does not fit in a slab", exception.getMessage());
+      assertEquals(0, store.size());
+    }
+  }
+
+  @Nested
+  class ExpiryTest {
+    private OffHeapQuizSessionStore store;
+
+    @BeforeEach
+    void setup() {
+      timeIs(NOW);
+      store = storeBuilder.build();
+    }
+
+    @Test
+    void whenExpired_thenEmpty() throws RenderableException {
+      // Setup
+      UUID id = UUID.randomUUID();
+      store.put(quiz(id, addition, 0, 1, 2, 3));
+      timeIs(NOW.plus(Duration.ofHours(3)));
+
+      // Execution
+      Optional<Quiz> result = store.get(id.toString());
+
+      // Validation
+      assertTrue(result.isEmpty());
+      assertFalse(store.contains(id.toString()));
+      assertEquals(1, gauge("misses"));
+    }
+
+    @Test
+    void sweep_whenExpired_thenForgotten() throws RenderableException {
+      // Setup
+      UUID expired = UUID.randomUUID();
+      UUID current = UUID.randomUUID();
+      store.put(quiz(expired, addition, 0, 1, 2, 3));
+      timeIs(NOW.plus(Duration.ofHours(1)));
+      store.put(quiz(current, addition, 0, 1, 2, 3));
+      timeIs(NOW.plus(Duration.ofHours(3)));
+
+      // Execution
+      store.sweep();
+
+      // Validation
+      assertEquals(1, store.size());
+      assertEquals(4, store.getPrompts());
+      assertEquals(1, gauge("evictions"));
+      assertTrue(store.get(current.toString()).isPresent());
+    }
+
+    @Test
+    void startAndStop_whenInvoked_thenNoExceptionThrown() {
+      // Execution
+      Executable executable =
+          () -> {
+            store.start();
+            store.stop();
+          };
+
+      // Validation
+      assertDoesNotThrow(executable);
+    }
+  }
+
+  @Nested
+  class EvictWhenFullTest {
+    private OffHeapQuizSessionStore store;
+
+    @BeforeEach
+    void setup() {
+      timeIs(NOW);
+      store = storeBuilder.build();
+    }
+
+    @Test
+    void whenFull_thenOldestSlabEvicted() throws RenderableException {
+      // Setup
+      UUID[] ids = new UUID[4];
+      for (int i = 0; i < ids.length; i++) {
+        ids[i] = UUID.randomUUID();
+      }
+
+      // Execution
+      for (UUID id : ids) {
+        store.put(quiz(id, addition, 0, 1, 2, 3));
+      }
+
+      // Validation
+      assertTrue(store.get(ids[0].toString()).isEmpty());
+      for (int i = 1; i < ids.length; i++) {
+        assertTrue(store.get(ids[i].toString()).isPresent(), "ids[" + i + "]");
+      }
+      assertEquals(3, store.size());
+      assertEquals(12, store.getPrompts());
+      assertEquals(1, gauge("evictions"));
+      assertEquals(3 * RECORD_SIZE, store.getOffHeapBytes());
+    }
+  }
+
+  @Nested
+  class SlabReuseTest {
+    private OffHeapQuizSessionStore store;
+
+    @BeforeEach
+    void setup() {
+      timeIs(NOW);
+      store = storeBuilder.slabSize(2 * RECORD_SIZE).capacity(4 * RECORD_SIZE).build();
+    }
+
+    @Test
+    void whenSlabFull_thenNextSlabStarted() throws RenderableException {
+      // Execution
+      for (int i = 0; i < 3; i++) {
+        store.put(quiz(UUID.randomUUID(), addition, 0, 1, 2, 3));
+      }
+
+      // Validation
+      assertEquals(3, store.size());
+      assertEquals(4 * RECORD_SIZE, store.getOffHeapBytes());
+      assertEquals(0, gauge("evictions"));
+    }
+
+    @Test
+    void whenOnlyRecordInCurrentSlabReplaced_thenSlotReused() throws RenderableException {
+      // Setup
+      UUID id = UUID.randomUUID();
+      UUID other = UUID.randomUUID();
+      store.put(quiz(id, addition, 0, 1, 2, 3));
+
+      // Execution
+      store.put(quiz(id, addition, 4, 5, 6, 7));
+      store.put(quiz(other, addition, 0, 1, 2, 3));
+
+      // Validation
+      assertEquals(2 * RECORD_SIZE, store.getOffHeapBytes(), "still in the first slab");
+      DeckPromptList prompts = (DeckPromptList) store.get(id.toString()).orElseThrow().getPrompts();
+      assertEquals(4, prompts.getPromptId(0));
+      assertTrue(store.contains(other.toString()));
+      assertEquals(8, store.getPrompts());
+    }
+
+    @Test
+    void whenSlabWithDeadRecordEvicted_thenOnlyLiveRecordsCounted() throws RenderableException {
+      // Setup
+      UUID replaced = UUID.randomUUID();
+      UUID kept = UUID.randomUUID();
+      store.put(quiz(replaced, addition, 0, 1, 2, 3));
+      store.put(quiz(kept, addition, 0, 1, 2, 3));
+      store.put(quiz(replaced, subtraction, 0, 1, 2, 3));
+      UUID filler = UUID.randomUUID();
+      store.put(quiz(filler, addition, 0, 1, 2, 3));
+
+      // Execution
+      store.put(quiz(UUID.randomUUID(), addition, 0, 1, 2, 3));
+
+      // Validation
+      assertFalse(store.contains(kept.toString()));
+      assertEquals("Subtracting", store.get(replaced.toString()).orElseThrow().getName());
+      assertTrue(store.contains(filler.toString()));
+      assertEquals(1, gauge("evictions"));
+      assertEquals(3, store.size());
+    }
+
+    @Test
+    void whenManyDecksReferenced_thenEachQuizKeepsItsDeck() throws RenderableException {
+      // Setup
+      OffHeapQuizSessionStore largeStore =
+          storeBuilder
+              .slabSize(64 * RECORD_SIZE)
+              .capacity(64 * RECORD_SIZE)
+              .metricRegistry(new MetricRegistry())
+              .build();
+      UUID[] ids = new UUID[40];
+      for (int i = 0; i < ids.length; i++) {
+        ids[i] = UUID.randomUUID();
+      }
+
+      // Execution
+      for (int i = 0; i < ids.length; i++) {
+        largeStore.put(quiz(ids[i], deck(i, "Deck " + i, 4), 0, 1, 2, 3));
+      }
+
+      // Validation
+      for (int i = 0; i < ids.length; i++) {
+        assertEquals("Deck " + i, largeStore.get(ids[i].toString()).orElseThrow().getName());
+      }
+    }
+  }
+
+  @Nested
+  class RejectWhenFullTest {
+    private OffHeapQuizSessionStore store;
+
+    @BeforeEach
+    void setup() throws RenderableException {
+      timeIs(NOW);
+      store = storeBuilder.rejectWhenFull(true).build();
+      for (int i = 0; i < 3; i++) {
+        store.put(quiz(UUID.randomUUID(), addition, 0, 1, 2, 3));
+      }
+    }
+
+    @Test
+    void whenFull_thenNewQuizRejectedAndOthersKept() {
+      // Setup
+      UUID id = UUID.randomUUID();
+
+      // Execution
+      Executable executable = () -> store.put(quiz(id, addition, 0, 1, 2, 3));
+
+      // Validation
+      RetryLaterException exception = assertThrows(RetryLaterException.class, executable);
+      assertEquals(HttpStatus.SERVICE_UNAVAILABLE_503, exception.getHttpStatus());
+      assertEquals("Too many quizzes in progress, try again later", exception.getMessage());
+      assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+      assertEquals(3, store.size());
+      assertTrue(store.get(id.toString()).isEmpty());
+      assertEquals(
+          1,
+          metricRegistry
+              .meter(MetricRegistry.name(QuizSessionStore.class, "rejections"))
+              .getCount());
+    }
+
+    @Test
+    void whenQuizzesExpired_thenRoomReclaimed() throws RenderableException {
+      // Setup
+      UUID id = UUID.randomUUID();
+      timeIs(NOW.plus(Duration.ofHours(3)));
+
+      // Execution
+      store.put(quiz(id, addition, 0, 1, 2, 3));
+
+      // Validation
+      assertTrue(store.get(id.toString()).isPresent());
+      assertEquals(1, store.size());
+      assertEquals(4, store.getPrompts());
+    }
+  }
+}
@@ -0,0 +1,415 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.model.external.DistributionSnapshot;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.codingchica.flashcards.core.model.external.QuizDistribution;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.ScoreRange;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit tests for the QuizDistributionRecorder class. */
+class QuizDistributionRecorderTest {
+  private final DeckCatalog catalog =
+      DeckCatalog.compile(
+          Map.of(
+              "Addition",
+              List.of(
+                  FlashCardGroup.builder()
+                      .name("Adding 1")
+                      .prompts(Map.of("1+1", "2"))
+                      .minimumPrompts(1)
+                      .maximumPrompts(1)
+                      .build())));
+  private QuizDistributionRecorder.Builder recorderBuilder =
+      QuizDistributionRecorder.builder()
+          .interval(Duration.ofMinutes(1))
+          .maximumTime(Duration.ofHours(1))
+          .significantDigits(2);
+  private final QuizDistributionRecorder recorder = recorderBuilder.build();
+
+  private static Quiz quiz(Deck deck) {
+    return Quiz.builder()
+        .id("id")
+        .name(deck.getName())
+        .createdDateTime(Instant.now())
+        .prompts(new DeckPromptList(deck, 0, new int[] {0}))
+        .build();
+  }
+
+  private static QuizResult quizResult(String name, int percentage, int timeSeconds) {
+    return QuizResult.builder()
+        .name(name)
+        .percentage(percentage)
+        .timeMinutes(timeSeconds / 60)
+        .timeSeconds(timeSeconds % 60)
+        .build();
+  }
+
+  private static List<Long> describe(List<ScoreRange> scores) {
+    return scores.stream().map(ScoreRange::getCount).toList();
+  }
+
+  @Nested
+  class BuilderTest {
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+          "0,3600,2,interval must be positive",
+          "60,0,2,maximumTime must be at least 1s",
+          "60,3600,0,significantDigits must be between 1 and 3",
+          "60,3600,4,significantDigits must be between 1 and 3"
+        })
+    void whenArgumentOutOfRange_thenThrowsException(
+        long intervalSeconds, long maximumSeconds, int significantDigits, String expectedMessage) {
+      // Setup
+      recorderBuilder
+          .interval(Duration.ofSeconds(intervalSeconds))
+          .maximumTime(Duration.ofSeconds(maximumSeconds))
+          .significantDigits(significantDigits);
+
+      // Execution
+      Executable executable = () -> recorderBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    @Test
+    void whenBuilt_thenSettingsReturnedInGetters() {
+      // Validation
+      assertAll(
+          () -> assertEquals(Duration.ofMinutes(1), recorder.getInterval(), "interval"),
+          () -> assertEquals(3600, recorder.getMaximumTimeSeconds(), "maximumTimeSeconds"),
+          () -> assertEquals(2, recorder.getSignificantDigits(), "significantDigits"));
+    }
+
+    @Test
+    void whenIntervalNegative_thenThrowsException() {
+      // Execution
+      Executable executable = () -> recorderBuilder.interval(Duration.ofSeconds(-1)).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("interval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenIntervalNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> recorderBuilder.interval(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("interval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenIntervalNotSet_thenThrowsException() {
+      // Setup
+      QuizDistributionRecorder.Builder builder =
+          QuizDistributionRecorder.builder().maximumTime(Duration.ofHours(1)).significantDigits(2);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("interval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMaximumTimeNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> recorderBuilder.maximumTime(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("maximumTime is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMaximumTimeNotSet_thenThrowsException() {
+      // Setup
+      QuizDistributionRecorder.Builder builder =
+          QuizDistributionRecorder.builder().interval(Duration.ofMinutes(1)).significantDigits(2);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("maximumTime is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class RecordTest {
+    @Test
+    void whenCatalogNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> recorder.publish(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("catalog is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> recorder.record(null, quizResult("Adding 1", 100, 5));
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> recorder.record(quiz(catalog.getDeck(0)), null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResult is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizNameNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> recorder.getDistribution(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizName is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenPercentageOutOfRange_thenCountedInNearestScoreRange() {
+      // Setup
+      recorder.publish(catalog);
+      Deck deck = catalog.getDeck(0);
+
+      // Execution
+      recorder.record(quiz(deck), quizResult("Adding 1", -5, 10));
+      recorder.record(quiz(deck), quizResult("Adding 1", 150, 10));
+
+      // Validation
+      assertEquals(
+          List.of(1L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 1L),
+          describe(recorder.getDistribution("Adding 1").orElseThrow().getTotal().getScores()));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"0,0", "9,0", "10,1", "89,8", "90,9", "99,9", "100,10"})
+    void whenPercentageOnRangeBoundary_thenCountedInRangeHoldingIt(int percentage, int range) {
+      // Setup
+      recorder.publish(catalog);
+
+      // Execution
+      recorder.record(quiz(catalog.getDeck(0)), quizResult("Adding 1", percentage, 10));
+
+      // Validation
+      List<ScoreRange> scores =
+          recorder.getDistribution("Adding 1").orElseThrow().getTotal().getScores();
+      assertEquals(1, scores.get(range).getCount());
+      assertTrue(scores.get(range).getMinimumPercentage() <= percentage);
+      assertTrue(scores.get(range).getMaximumPercentage() >= percentage);
+      assertEquals(1, describe(scores).stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void whenTimeZeroOrPastMaximum_thenCountedAtTheEnds() {
+      // Setup
+      QuizDistributionRecorder shortRecorder =
+          recorderBuilder.maximumTime(Duration.ofSeconds(90)).build();
+      shortRecorder.publish(catalog);
+      Deck deck = catalog.getDeck(0);
+
+      // Execution
+      shortRecorder.record(quiz(deck), quizResult("Adding 1", 100, 0));
+      shortRecorder.record(quiz(deck), quizResult("Adding 1", 100, 0));
+      shortRecorder.record(quiz(deck), quizResult("Adding 1", 100, 3600));
+
+      // Validation
+      DistributionSnapshot total =
+          shortRecorder.getDistribution("Adding 1").orElseThrow().getTotal();
+      assertAll(
+          () -> assertEquals(3, total.getCount(), "count"),
+          () -> assertEquals(0, total.getP50TimeSeconds(), "p50"),
+          () -> assertEquals(90, total.getMaxTimeSeconds(), "max"));
+    }
+
+    @Test
+    void whenRecorded_thenPercentilesAndScoreRangesReturned() {
+      // Setup
+      recorder.publish(catalog);
+      Deck deck = catalog.getDeck(0);
+
+      // Execution
+      for (int i = 1; i <= 100; i++) {
+        recorder.record(quiz(deck), quizResult("Adding 1", i == 100 ? 100 : 95 - i % 3 * 40, i));
+      }
+
+      // Validation
+      QuizDistribution result = recorder.getDistribution("ADDING 1").orElseThrow();
+      DistributionSnapshot total = result.getTotal();
+      assertAll(
+          () -> assertEquals("Adding 1", result.getName(), "name"),
+          () -> assertEquals(60, result.getIntervalSeconds(), "intervalSeconds"),
+          () -> assertEquals(100, total.getCount(), "count"),
+          () -> assertEquals(50, total.getP50TimeSeconds(), "p50"),
+          () -> assertEquals(90, total.getP90TimeSeconds(), "p90"),
+          () -> assertEquals(99, total.getP99TimeSeconds(), "p99"),
+          () -> assertEquals(100, total.getMaxTimeSeconds(), "max"),
+          () ->
+              assertEquals(
+                  List.of(0L, 33L, 0L, 0L, 0L, 33L, 0L, 0L, 0L, 33L, 1L),
+                  describe(total.getScores()),
+                  "scores"),
+          () -> assertEquals(0, result.getLastInterval().getCount(), "lastInterval"));
+      ScoreRange highest = total.getScores().get(10);
+      assertEquals(100, highest.getMinimumPercentage());
+      assertEquals(100, highest.getMaximumPercentage());
+      assertEquals(90, total.getScores().get(9).getMinimumPercentage());
+      assertEquals(99, total.getScores().get(9).getMaximumPercentage());
+    }
+
+    @Test
+    void whenNotPublished_thenRecordedByName() {
+      // Execution
+      recorder.record(quiz(catalog.getDeck(0)), quizResult("Adding 1", 100, 61));
+      recorder.record(
+          Quiz.builder().name("Adding 2").prompts(List.of(Map.entry("2+2", "4"))).build(),
+          quizResult("Adding 2", 0, 30));
+
+      // Validation
+      List<QuizDistribution> result = recorder.getDistributions();
+      assertEquals(
+          List.of("Adding 1", "Adding 2"), result.stream().map(QuizDistribution::getName).toList());
+      assertEquals(61, result.get(0).getTotal().getMaxTimeSeconds());
+      assertEquals(1, result.get(1).getTotal().getScores().get(0).getCount());
+    }
+
+    @Test
+    void whenDrawnFromReplacedCatalog_thenRecordedByName() {
+      // Setup
+      Deck deck = catalog.getDeck(0);
+      recorder.publish(catalog);
+      recorder.publish(DeckCatalog.compile(Map.of()));
+
+      // Execution
+      recorder.record(quiz(deck), quizResult("Adding 1", 100, 5));
+      recorder.record(quiz(deck), quizResult("Adding 1", 100, 5));
+
+      // Validation
+      assertEquals(2, recorder.getDistribution("adding 1").orElseThrow().getTotal().getCount());
+    }
+
+    @Test
+    void whenDrawnFromDeckSinceRecompiled_thenRecordedByName() {
+      // Setup
+      Deck deck = catalog.getDeck(0);
+      recorder.publish(catalog);
+      DeckCatalog recompiled =
+          DeckCatalog.compile(
+              Map.of(
+                  "Addition",
+                  List.of(
+                      FlashCardGroup.builder()
+                          .name("Adding 1")
+                          .prompts(Map.of("1+1", "2"))
+                          .minimumPrompts(1)
+                          .maximumPrompts(1)
+                          .build())));
+      recorder.publish(recompiled);
+
+      // Execution
+      recorder.record(quiz(deck), quizResult("Adding 1", 100, 5));
+      recorder.record(quiz(recompiled.getDeck(0)), quizResult("Adding 1", 100, 5));
+
+      // Validation
+      assertEquals(2, recorder.getDistribution("Adding 1").orElseThrow().getTotal().getCount());
+    }
+
+    @Test
+    void whenPublishedButNotGraded_thenNotReturned() {
+      // Setup
+      recorder.publish(catalog);
+
+      // Execution
+      Optional<QuizDistribution> result = recorder.getDistribution("Adding 1");
+
+      // Validation
+      assertEquals(Optional.empty(), result);
+      assertEquals(List.of(), recorder.getDistributions());
+      assertEquals(Optional.empty(), recorder.getDistribution("Adding 2"));
+    }
+  }
+
+  @Nested
+  class RollIntervalTest {
+    @Test
+    void whenRolledOver_thenLastIntervalHasOnlyItsCounts() {
+      // Setup
+      recorder.publish(catalog);
+      Deck deck = catalog.getDeck(0);
+      recorder.record(quiz(deck), quizResult("Adding 1", 100, 300));
+      recorder.rollInterval();
+      recorder.record(quiz(deck), quizResult("Adding 1", 50, 10));
+      recorder.record(quiz(deck), quizResult("Adding 1", 50, 20));
+
+      // Execution
+      recorder.rollInterval();
+
+      // Validation
+      QuizDistribution result = recorder.getDistribution("Adding 1").orElseThrow();
+      DistributionSnapshot lastInterval = result.getLastInterval();
+      assertEquals(2, lastInterval.getCount());
+      assertEquals(20, lastInterval.getMaxTimeSeconds());
+      assertEquals(2, lastInterval.getScores().get(5).getCount());
+      assertEquals(0, lastInterval.getScores().get(10).getCount());
+      assertEquals(3, result.getTotal().getCount());
+      assertEquals(301, result.getTotal().getMaxTimeSeconds());
+    }
+
+    @Test
+    void whenStarted_thenRolledOverEveryInterval() throws Exception {
+      // Setup
+      QuizDistributionRecorder started = recorderBuilder.interval(Duration.ofMillis(500)).build();
+      started.record(quiz(catalog.getDeck(0)), quizResult("Adding 1", 100, 5));
+
+      // Execution
+      started.start();
+      try {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (started.getDistribution("Adding 1").orElseThrow().getLastInterval().getCount() == 0
+            && System.nanoTime() < deadline) {
+          Thread.sleep(5);
+        }
+      } finally {
+        started.stop();
+      }
+
+      // Validation
+      assertEquals(
+          1, started.getDistribution("Adding 1").orElseThrow().getLastInterval().getCount());
+    }
+  }
+}
@@ -0,0 +1,476 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.ids.QuizIdGenerator;
+import com.codingchica.flashcards.core.ids.TimeOrderedQuizIdGenerator;
+import com.codingchica.flashcards.core.mappers.external.QuizMapper;
+import com.codingchica.flashcards.core.mappers.external.QuizMapperImpl;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/** Unit tests for the QuizPool class. */
+class QuizPoolTest {
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final QuizMapper quizMapper = spy(QuizMapperImpl.builder().build());
+  private final DeckCatalog deckCatalog =
+      DeckCatalog.compile(
+          Map.of(
+              "Addition",
+              List.of(
+                  FlashCardGroup.builder().name("Adding 1").prompts(Map.of("1+1", "2")).build(),
+                  FlashCardGroup.builder().name("Adding 2").prompts(Map.of("2+2", "4")).build())));
+  private final QuizPool quizPool =
+      QuizPool.builder()
+          .quizMapper(quizMapper)
+          .metricRegistry(metricRegistry)
+          .depthPerDeck(3)
+          .build();
+
+  @AfterEach
+  void tearDown() {
+    quizPool.stop();
+  }
+
+  /**
+   * Wait for the background producer to reach a state.
+   *
+   * @param condition The state to wait for.
+   */
+  private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+    Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+    while (!condition.getAsBoolean()) {
+      assertTrue(Instant.now().isBefore(deadline), "timed out waiting for the producer");
+      Thread.sleep(10);
+    }
+  }
+
+  private long meterCount(String name) {
+    return metricRegistry.meter(MetricRegistry.name(QuizPool.class, name)).getCount();
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void build_whenDepthNotPositive_thenExceptionThrown() {
+      // Setup
+      QuizPool.Builder builder =
+          QuizPool.builder().quizMapper(quizMapper).metricRegistry(new MetricRegistry());
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("depthPerDeck must be greater than 0", exception.getMessage());
+    }
+
+    @Test
+    void build_whenQuizMapperNotInvoked_thenExceptionThrown() {
+      // Setup
+      QuizPool.Builder builder =
+          QuizPool.builder().metricRegistry(new MetricRegistry()).depthPerDeck(1);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenQuizMapperNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> QuizPool.builder().quizMapper(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenMetricRegistryNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> QuizPool.builder().metricRegistry(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenMetricRegistryNotInvoked_thenExceptionThrown() {
+      // Setup
+      QuizPool.Builder builder = QuizPool.builder().quizMapper(quizMapper).depthPerDeck(1);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void build_whenDepthInvoked_thenDepthUsed() {
+      // Validation
+      assertEquals(3, quizPool.getDepthPerDeck());
+    }
+
+    @Test
+    void build_whenInvoked_thenMetricsRegistered() {
+      // Validation
+      assertEquals(
+          Set.of(
+              "com.codingchica.flashcards.service.QuizPool.depth",
+              "com.codingchica.flashcards.service.QuizPool.hitRatio",
+              "com.codingchica.flashcards.service.QuizPool.hits",
+              "com.codingchica.flashcards.service.QuizPool.misses",
+              "com.codingchica.flashcards.service.QuizPool.refills"),
+          metricRegistry.getNames());
+    }
+  }
+
+  @Nested
+  class TakeTest {
+    @Test
+    void take_whenNothingPublished_thenGeneratedSynchronously() {
+      // Setup
+      Deck deck = deckCatalog.getDeck(0);
+
+      // Execution
+      Quiz result = quizPool.take(deck);
+
+      // Validation
+      assertNotNull(result);
+      assertEquals(1, meterCount("misses"));
+      assertEquals(0, meterCount("hits"));
+    }
+
+    @Test
+    void take_whenPublished_thenQueuesFilledAndServed() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      Deck deck = deckCatalog.getDeck(1);
+      Instant before = Instant.now();
+
+      // Execution
+      Quiz result = quizPool.take(deck);
+
+      // Validation
+      assertEquals("Adding 2", result.getName());
+      assertFalse(result.getCreatedDateTime().isBefore(before), "createdDateTime reset");
+      assertEquals(1, meterCount("hits"));
+      assertEquals(0, meterCount("misses"));
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      assertEquals(7, meterCount("refills"));
+      Gauge<?> depth = metricRegistry.getGauges().get(MetricRegistry.name(QuizPool.class, "depth"));
+      assertEquals(6, depth.getValue());
+    }
+
+    @Test
+    void take_whenPooledQuizHandedOut_thenIdMintedAtHandOut() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+      // Execution
+      Quiz result = quizPool.take(deckCatalog.getDeck(0));
+
+      // Validation
+      assertEquals(1, meterCount("hits"));
+      Instant minted = TimeOrderedQuizIdGenerator.getTimestamp(UUID.fromString(result.getId()));
+      assertFalse(minted.isBefore(before), "ID minted before hand-out");
+      assertFalse(
+          minted.isAfter(result.getCreatedDateTime()), "ID minted after the quiz was started");
+    }
+
+    @Test
+    void take_whenPooledQuizHandedOut_thenOneIdMintedPerQuiz() throws InterruptedException {
+      // Setup
+      QuizIdGenerator quizIdGenerator = spy(TimeOrderedQuizIdGenerator.builder().build());
+      QuizPool pool =
+          QuizPool.builder()
+              .quizMapper(QuizMapperImpl.builder().quizIdGenerator(quizIdGenerator).build())
+              .metricRegistry(new MetricRegistry())
+              .depthPerDeck(3)
+              .build();
+      pool.publish(deckCatalog);
+      awaitCondition(() -> pool.getDepth() == 6);
+      verify(quizIdGenerator, never()).nextId();
+
+      // Execution
+      Quiz result = pool.take(deckCatalog.getDeck(0));
+
+      // Validation
+      pool.stop();
+      verify(quizIdGenerator, times(1)).nextId();
+      assertEquals("Adding 1", result.getName());
+    }
+
+    @Test
+    void take_whenHitsAndMisses_thenHitRatioReported() throws InterruptedException {
+      // Setup
+      quizPool.take(deckCatalog.getDeck(0));
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      quizPool.take(deckCatalog.getDeck(0));
+      Gauge<?> hitRatio =
+          metricRegistry.getGauges().get(MetricRegistry.name(QuizPool.class, "hitRatio"));
+
+      // Execution
+      double result = (Double) hitRatio.getValue();
+
+      // Validation
+      assertEquals(1, meterCount("hits"));
+      assertEquals(1, meterCount("misses"));
+      // Meter rates only tick every five seconds, so the ratio may still be undefined.
+      assertTrue(Double.isNaN(result) || (result >= 0 && result <= 1), "hitRatio " + result);
+    }
+
+    @Test
+    void take_whenDeckNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizPool.take(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("deck is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void take_whenDeckIdOutsideCatalog_thenGeneratedSynchronously() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      FlashCardGroup flashCardGroup =
+          FlashCardGroup.builder().name("Adding 1").prompts(Map.of("1+1", "2")).build();
+
+      // Execution
+      Quiz below = quizPool.take(Deck.compile(-1, "Addition", flashCardGroup));
+      Quiz above = quizPool.take(Deck.compile(2, "Addition", flashCardGroup));
+
+      // Validation
+      assertNotNull(below);
+      assertNotNull(above);
+      assertEquals(2, meterCount("misses"));
+      assertEquals(6, quizPool.getDepth());
+    }
+
+    @Test
+    void take_whenInvokedRepeatedly_thenEachQuizHandedOutOnce() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      Deck deck = deckCatalog.getDeck(0);
+      Set<String> ids = new HashSet<>();
+
+      // Execution
+      for (int i = 0; i < 20; i++) {
+        ids.add(quizPool.take(deck).getId());
+      }
+
+      // Validation
+      assertEquals(20, ids.size());
+    }
+
+    @Test
+    void take_whenDeckFromAnotherCatalog_thenGeneratedSynchronously() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      Deck otherDeck =
+          Deck.compile(
+              0,
+              "Addition",
+              FlashCardGroup.builder().name("Adding 1").prompts(Map.of("1+1", "2")).build());
+
+      // Execution
+      Quiz result = quizPool.take(otherDeck);
+
+      // Validation
+      assertNotNull(result);
+      assertEquals(1, meterCount("misses"));
+      assertEquals(6, quizPool.getDepth());
+    }
+
+    @Test
+    void take_whenPoolEmptied_thenGeneratedSynchronously() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      quizPool.stop();
+      Deck deck = deckCatalog.getDeck(0);
+      for (int i = 0; i < 3; i++) {
+        quizPool.take(deck);
+      }
+
+      // Execution
+      Quiz result = quizPool.take(deck);
+
+      // Validation
+      assertEquals("Adding 1", result.getName());
+      assertEquals(3, meterCount("hits"));
+      assertEquals(1, meterCount("misses"));
+      assertEquals(3, quizPool.getDepth());
+    }
+
+    @Test
+    void take_whenProducerStoppedMidRefill_thenRefillAbandoned() throws InterruptedException {
+      // Setup
+      doAnswer(
+              invocation -> {
+                quizPool.stop();
+                return invocation.callRealMethod();
+              })
+          .when(quizMapper)
+          .drawPrompts(any(Deck.class));
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> meterCount("refills") == 1);
+      Thread.sleep(50);
+
+      // Execution
+      Quiz result = quizPool.take(deckCatalog.getDeck(1));
+
+      // Validation
+      assertEquals("Adding 2", result.getName());
+      assertEquals(1, meterCount("refills"));
+      assertEquals(1, meterCount("misses"));
+      assertEquals(1, quizPool.getDepth());
+    }
+
+    @Test
+    void take_whenStopped_thenGeneratedSynchronously() {
+      // Setup
+      quizPool.stop();
+      quizPool.publish(deckCatalog);
+
+      // Execution
+      Quiz result = quizPool.take(deckCatalog.getDeck(0));
+
+      // Validation
+      assertNotNull(result);
+      assertEquals(0, quizPool.getDepth());
+      assertEquals(1, meterCount("misses"));
+    }
+  }
+
+  @Nested
+  class StartTest {
+    @Test
+    void start_whenNothingPublished_thenNothingPooled() throws InterruptedException {
+      // Execution
+      quizPool.start();
+      Thread.sleep(50);
+
+      // Validation
+      assertEquals(0, quizPool.getDepth());
+      assertEquals(0, meterCount("refills"));
+    }
+
+    @Test
+    void start_whenPublished_thenQueuesFilled() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      quizPool.take(deckCatalog.getDeck(0));
+
+      // Execution
+      quizPool.start();
+
+      // Validation
+      awaitCondition(() -> quizPool.getDepth() == 6);
+    }
+  }
+
+  @Nested
+  class PublishTest {
+    @Test
+    void publish_whenCatalogNull_thenExceptionThrown() {
+      // Execution
+      Executable executable = () -> quizPool.publish(null);
+
+      // Validation
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("catalog is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void publish_whenPublishedMidRefill_thenOldCatalogAbandoned() throws InterruptedException {
+      // Setup
+      DeckCatalog reloaded =
+          DeckCatalog.compile(
+              Map.of(
+                  "Addition",
+                  List.of(
+                      FlashCardGroup.builder()
+                          .name("Adding 3")
+                          .prompts(Map.of("3+3", "6"))
+                          .build())));
+      doAnswer(
+              invocation -> {
+                if (quizPool.getDepth() == 0 && meterCount("refills") == 0) {
+                  quizPool.publish(reloaded);
+                }
+                return invocation.callRealMethod();
+              })
+          .when(quizMapper)
+          .drawPrompts(any(Deck.class));
+
+      // Execution
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 3);
+
+      // Validation
+      verify(quizMapper, times(1)).drawPrompts(deckCatalog.getDeck(0));
+      verify(quizMapper, never()).drawPrompts(deckCatalog.getDeck(1));
+      assertEquals("Adding 3", quizPool.take(reloaded.getDeck(0)).getName());
+      assertEquals(1, meterCount("hits"));
+    }
+
+    @Test
+    void publish_whenNewCatalog_thenOldQuizzesDropped() throws InterruptedException {
+      // Setup
+      quizPool.publish(deckCatalog);
+      awaitCondition(() -> quizPool.getDepth() == 6);
+      DeckCatalog reloaded =
+          DeckCatalog.compile(
+              Map.of(
+                  "Addition",
+                  List.of(
+                      FlashCardGroup.builder()
+                          .name("Adding 3")
+                          .prompts(Map.of("3+3", "6"))
+                          .build())));
+
+      // Execution
+      quizPool.publish(reloaded);
+      awaitCondition(() -> quizPool.getDepth() == 3);
+
+      // Validation
+      assertEquals("Adding 3", quizPool.take(reloaded.getDeck(0)).getName());
+      assertEquals(1, meterCount("hits"));
+    }
+  }
+}
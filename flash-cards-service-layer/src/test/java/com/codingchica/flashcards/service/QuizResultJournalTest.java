@@ -0,0 +1,633 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the QuizResultJournal class. */
+class QuizResultJournalTest {
+  @TempDir private Path directory;
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<QuizResultJournal> journals = new ArrayList<>();
+  private final QuizResultJournal.Builder journalBuilder =
+      QuizResultJournal.builder()
+          .objectMapper(objectMapper)
+          .segmentSize(1 << 20)
+          .commitInterval(Duration.ofMillis(5))
+          .commitRecords(256)
+          .metricRegistry(metricRegistry);
+
+  @AfterEach
+  void cleanup() throws Exception {
+    for (QuizResultJournal journal : journals) {
+      journal.stop();
+    }
+  }
+
+  private QuizResultJournal start(QuizResultJournal.Builder builder) throws Exception {
+    QuizResultJournal journal = builder.directory(directory).build();
+    journals.add(journal);
+    journal.start();
+    return journal;
+  }
+
+  private static QuizResult quizResult(int correctAnswers) {
+    return QuizResult.builder()
+        .name("Adding 1")
+        .promptCount(4)
+        .correctAnswers(correctAnswers)
+        .percentage(correctAnswers * 25)
+        .timeMinutes(1)
+        .timeSeconds(2)
+        .build();
+  }
+
+  private List<String> segments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString()).sorted().toList();
+    }
+  }
+
+  private List<String> lines() throws IOException {
+    List<String> lines = new ArrayList<>();
+    for (String segment : segments()) {
+      lines.addAll(Files.readAllLines(directory.resolve(segment), StandardCharsets.UTF_8));
+    }
+    return lines;
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenSegmentSizeNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> journalBuilder.directory(directory).segmentSize(0).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("segmentSize must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenCommitIntervalZero_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () -> journalBuilder.directory(directory).commitInterval(Duration.ZERO).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("commitInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenCommitRecordsNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> journalBuilder.directory(directory).commitRecords(0).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("commitRecords must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenCommitIntervalNegative_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () -> journalBuilder.directory(directory).commitInterval(Duration.ofMillis(-5)).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("commitInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenDirectoryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> journalBuilder.directory(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("directory is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenObjectMapperNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> journalBuilder.objectMapper(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenCommitIntervalNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> journalBuilder.commitInterval(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("commitInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void builderSetter_whenMetricRegistryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> journalBuilder.metricRegistry(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenObjectMapperNotSet_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () ->
+              QuizResultJournal.builder()
+                  .directory(directory)
+                  .segmentSize(1 << 20)
+                  .commitInterval(Duration.ofMillis(5))
+                  .commitRecords(256)
+                  .metricRegistry(metricRegistry)
+                  .build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCommitIntervalNotSet_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () ->
+              QuizResultJournal.builder()
+                  .directory(directory)
+                  .objectMapper(objectMapper)
+                  .segmentSize(1 << 20)
+                  .commitRecords(256)
+                  .metricRegistry(metricRegistry)
+                  .build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("commitInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNotSet_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () ->
+              QuizResultJournal.builder()
+                  .directory(directory)
+                  .objectMapper(objectMapper)
+                  .segmentSize(1 << 20)
+                  .commitInterval(Duration.ofMillis(5))
+                  .commitRecords(256)
+                  .build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenBuilt_thenSettingsKept() {
+      // Execution
+      QuizResultJournal journal = journalBuilder.directory(directory).build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(directory, journal.getDirectory(), "directory"),
+          () -> assertEquals(1 << 20, journal.getSegmentSize(), "segmentSize"),
+          () -> assertEquals(Duration.ofMillis(5), journal.getCommitInterval(), "commitInterval"),
+          () -> assertEquals(256, journal.getCommitRecords(), "commitRecords"));
+    }
+
+    @Test
+    void whenDirectoryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> journalBuilder.build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("directory is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class AppendTest {
+    @Test
+    void whenNotStarted_thenThrowsException() {
+      // Setup
+      QuizResultJournal journal = journalBuilder.directory(directory).build();
+
+      // Execution
+      Executable executable = () -> journal.append(List.of(quizResult(1)));
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("the journal must be started before use", exception.getMessage());
+    }
+
+    @Test
+    void whenNull_thenThrowsException() throws Exception {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder);
+
+      // Execution
+      Executable executable = () -> journal.append(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResults is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenResultCannotBeSerialized_thenThrowsException() throws Exception {
+      // Setup
+      objectMapper.registerModule(
+          new SimpleModule()
+              .addSerializer(
+                  QuizResult.class,
+                  new JsonSerializer<>() {
+                    @Override
+                    public void serialize(
+                        QuizResult value, JsonGenerator generator, SerializerProvider provider)
+                        throws IOException {
+                      throw new JsonGenerationException("unable to serialize", generator);
+                    }
+                  }));
+      QuizResultJournal journal = start(journalBuilder);
+
+      // Execution
+      Executable executable = () -> journal.append(List.of(quizResult(1)));
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, exception.getHttpStatus());
+      assertEquals("Error while saving quiz results.", exception.getMessage());
+      assertEquals(List.of(), lines());
+    }
+
+    @Test
+    void whenFewerThanCommitRecordsWaiting_thenFlushedOnceIntervalElapses()
+        throws Exception, RenderableException {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder.commitInterval(Duration.ofMillis(20)));
+      // Let a few intervals pass with nothing to flush.
+      Thread.sleep(100);
+
+      // Execution
+      journal.append(List.of(quizResult(1)));
+
+      // Validation
+      assertEquals(1, lines().size());
+      assertEquals(
+          1,
+          metricRegistry.timer(MetricRegistry.name(QuizResultStore.class, "commits")).getCount());
+      assertEquals(
+          1,
+          metricRegistry
+              .histogram(MetricRegistry.name(QuizResultStore.class, "commitSizes"))
+              .getSnapshot()
+              .getMax());
+    }
+
+    @Test
+    void whenInterruptedWhileWaitingForFlush_thenThrowsException() throws Exception {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder.commitInterval(Duration.ofHours(1)));
+      AtomicReference<Throwable> thrown = new AtomicReference<>();
+      AtomicBoolean interrupted = new AtomicBoolean();
+      Thread appender =
+          new Thread(
+              () -> {
+                try {
+                  journal.append(List.of(quizResult(1)));
+                } catch (Throwable e) {
+                  thrown.set(e);
+                }
+                interrupted.set(Thread.currentThread().isInterrupted());
+              });
+      appender.start();
+      while (appender.getState() != Thread.State.WAITING) {
+        Thread.sleep(5);
+      }
+
+      // Execution
+      appender.interrupt();
+      appender.join(TimeUnit.SECONDS.toMillis(10));
+
+      // Validation
+      RenderableException exception = assertInstanceOf(RenderableException.class, thrown.get());
+      assertEquals("Error while saving quiz results.", exception.getMessage());
+      assertTrue(interrupted.get(), "interrupt status kept");
+      assertEquals(1, lines().size(), "written, though not yet known to be on disk");
+    }
+
+    @Test
+    void whenWriteFails_thenThrowsExceptionAndLaterResultsAppended()
+        throws Exception, RenderableException {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder.commitRecords(1));
+      journal.append(List.of(quizResult(1)));
+
+      // Execution
+      // An interrupted thread has the segment closed under it as it writes.
+      Thread.currentThread().interrupt();
+      Executable executable = () -> journal.append(List.of(quizResult(2)));
+
+      // Validation
+      RenderableException exception;
+      try {
+        exception = assertThrows(RenderableException.class, executable);
+      } finally {
+        Thread.interrupted();
+      }
+      assertEquals("Error while saving quiz results.", exception.getMessage());
+      journal.append(List.of(quizResult(3)));
+      List<String> lines = lines();
+      assertEquals(2, lines.size());
+      assertTrue(lines.get(1).startsWith("{\"correctAnswers\":3,"), lines.get(1));
+    }
+
+    @Test
+    void whenEmpty_thenNothingWritten() throws Exception, RenderableException {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder);
+
+      // Execution
+      journal.append(List.of());
+
+      // Validation
+      assertEquals(List.of(), lines());
+      assertEquals(
+          0,
+          metricRegistry.timer(MetricRegistry.name(QuizResultStore.class, "commits")).getCount());
+    }
+
+    @Test
+    void whenAppended_thenOneLinePerResultWithPropertiesSorted()
+        throws Exception, RenderableException {
+      // Setup
+      objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+      QuizResultJournal journal = start(journalBuilder);
+
+      // Execution
+      journal.append(List.of(quizResult(1), quizResult(4)));
+
+      // Validation
+      assertEquals(
+          List.of(
+              "{\"correctAnswers\":1,\"name\":\"Adding 1\",\"percentage\":25,\"promptCount\":4,"
+                  + "\"timeMinutes\":1,\"timeSeconds\":2}",
+              "{\"correctAnswers\":4,\"name\":\"Adding 1\",\"percentage\":100,\"promptCount\":4,"
+                  + "\"timeMinutes\":1,\"timeSeconds\":2}"),
+          lines());
+      assertEquals(List.of(QuizResultJournal.segmentName(1)), segments());
+      assertTrue(
+          objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT),
+          "the shared mapper is left as it was");
+    }
+
+    @Test
+    void whenCommitRecordsWaiting_thenFlushedWithoutWaitingForInterval() throws Exception {
+      // Setup
+      QuizResultJournal journal =
+          start(journalBuilder.commitInterval(Duration.ofHours(1)).commitRecords(2));
+
+      // Execution
+      Executable executable =
+          () ->
+              assertTimeoutPreemptively(
+                  Duration.ofSeconds(10),
+                  () -> journal.append(List.of(quizResult(1), quizResult(2))));
+
+      // Validation
+      assertDoesNotThrow(executable);
+      assertEquals(2, lines().size());
+    }
+
+    @Test
+    void whenSegmentFull_thenNextSegmentStarted() throws Exception, RenderableException {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder.segmentSize(250));
+
+      // Execution
+      for (int i = 0; i <= 4; i++) {
+        journal.append(List.of(quizResult(i)));
+      }
+
+      // Validation
+      assertEquals(
+          List.of(
+              QuizResultJournal.segmentName(1),
+              QuizResultJournal.segmentName(2),
+              QuizResultJournal.segmentName(3)),
+          segments());
+      for (String segment : segments()) {
+        assertTrue(Files.size(directory.resolve(segment)) <= 250, segment);
+      }
+      List<String> lines = lines();
+      assertEquals(5, lines.size());
+      for (int i = 0; i <= 4; i++) {
+        assertTrue(lines.get(i).startsWith("{\"correctAnswers\":" + i + ","), lines.get(i));
+      }
+    }
+
+    @Test
+    void whenResultLargerThanSegment_thenWrittenWhole() throws Exception, RenderableException {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder.segmentSize(10));
+
+      // Execution
+      journal.append(List.of(quizResult(1)));
+      journal.append(List.of(quizResult(2)));
+
+      // Validation
+      assertEquals(
+          List.of(QuizResultJournal.segmentName(1), QuizResultJournal.segmentName(2)), segments());
+      assertEquals(2, lines().size());
+    }
+
+    @Test
+    void whenAppendedConcurrently_thenFlushesShared() throws Exception {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder);
+      ExecutorService executorService = Executors.newFixedThreadPool(8);
+      List<Future<?>> futures = new ArrayList<>();
+
+      // Execution
+      try {
+        for (int thread = 0; thread < 8; thread++) {
+          futures.add(
+              executorService.submit(
+                  () -> {
+                    for (int i = 0; i < 25; i++) {
+                      try {
+                        journal.append(List.of(quizResult(i % 5)));
+                      } catch (RenderableException e) {
+                        throw new AssertionError(e);
+                      }
+                    }
+                  }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+
+      // Validation
+      assertEquals(200, lines().size());
+      long commits =
+          metricRegistry.timer(MetricRegistry.name(QuizResultStore.class, "commits")).getCount();
+      Snapshot commitSizes =
+          metricRegistry
+              .histogram(MetricRegistry.name(QuizResultStore.class, "commitSizes"))
+              .getSnapshot();
+      assertTrue(commits < 200, "commits=" + commits);
+      assertTrue(commitSizes.getMax() > 1, "largest commit=" + commitSizes.getMax());
+    }
+  }
+
+  @Nested
+  class LifecycleTest {
+    @Test
+    void whenRestarted_thenAppendsToLatestSegment() throws Exception, RenderableException {
+      // Setup
+      QuizResultJournal first = start(journalBuilder.segmentSize(250));
+      for (int i = 0; i <= 2; i++) {
+        first.append(List.of(quizResult(i)));
+      }
+      first.stop();
+      journals.remove(first);
+
+      // Execution
+      QuizResultJournal second = start(journalBuilder);
+      second.append(List.of(quizResult(3)));
+
+      // Validation
+      assertEquals(
+          List.of(QuizResultJournal.segmentName(1), QuizResultJournal.segmentName(2)), segments());
+      assertEquals(4, lines().size());
+    }
+
+    @Test
+    void whenLineTorn_thenTruncatedBeforeAppending() throws Exception, RenderableException {
+      // Setup
+      Path segment = directory.resolve(QuizResultJournal.segmentName(1));
+      Files.writeString(
+          segment, "{\"correctAnswers\":1}\n{\"correctAns", StandardOpenOption.CREATE);
+
+      // Execution
+      QuizResultJournal journal = start(journalBuilder);
+      journal.append(List.of(quizResult(2)));
+
+      // Validation
+      List<String> lines = lines();
+      assertEquals(2, lines.size());
+      assertEquals("{\"correctAnswers\":1}", lines.get(0));
+      assertTrue(lines.get(1).startsWith("{\"correctAnswers\":2,"), lines.get(1));
+    }
+
+    @Test
+    void whenOnlyTornLine_thenTruncatedToEmpty() throws Exception, RenderableException {
+      // Setup
+      Path segment = directory.resolve(QuizResultJournal.segmentName(1));
+      Files.writeString(segment, "x".repeat(10_000), StandardOpenOption.CREATE);
+
+      // Execution
+      QuizResultJournal journal = start(journalBuilder);
+      journal.append(List.of(quizResult(2)));
+
+      // Validation
+      List<String> lines = lines();
+      assertEquals(1, lines.size());
+      assertTrue(lines.get(0).startsWith("{\"correctAnswers\":2,"), lines.get(0));
+    }
+
+    @Test
+    void whenOtherFilesInDirectory_thenIgnored() throws Exception, RenderableException {
+      // Setup
+      Files.writeString(directory.resolve("notes.txt"), "not a segment");
+
+      // Execution
+      QuizResultJournal journal = start(journalBuilder);
+      journal.append(List.of(quizResult(1)));
+
+      // Validation
+      assertEquals(List.of("notes.txt", QuizResultJournal.segmentName(1)), segments());
+    }
+
+    @Test
+    void whenWriteFailedBeforeStop_thenStoppedCleanly() throws Exception, RenderableException {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder);
+      journal.append(List.of(quizResult(1)));
+      Thread.currentThread().interrupt();
+      try {
+        assertThrows(RenderableException.class, () -> journal.append(List.of(quizResult(2))));
+      } finally {
+        Thread.interrupted();
+      }
+
+      // Execution
+      Executable executable = journal::stop;
+
+      // Validation
+      assertDoesNotThrow(executable);
+      assertEquals(1, lines().size());
+    }
+
+    @Test
+    void whenStopped_thenNoLongerAppends() throws Exception {
+      // Setup
+      QuizResultJournal journal = start(journalBuilder);
+      journal.stop();
+
+      // Execution
+      Executable executable = () -> journal.append(List.of(quizResult(1)));
+
+      // Validation
+      assertThrows(IllegalStateException.class, executable);
+    }
+  }
+}
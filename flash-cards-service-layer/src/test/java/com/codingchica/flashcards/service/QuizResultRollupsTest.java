@@ -0,0 +1,960 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizResultRollup;
+import com.codingchica.flashcards.core.model.external.ScoreRange;
+import io.dropwizard.jackson.Jackson;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for the QuizResultRollups class. */
+@ExtendWith(MockitoExtension.class)
+class QuizResultRollupsTest {
+  /** The hour the first results are saved in. */
+  private static final Instant TEN_AM = Instant.parse("2026-01-01T10:00:00Z");
+
+  @TempDir private Path directory;
+  @Mock private Clock clock;
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final List<MappedQuizResultStore> stores = new ArrayList<>();
+  private final List<QuizResultRollups> started = new ArrayList<>();
+  private MappedQuizResultStore store;
+
+  @BeforeEach
+  void setup() throws Exception {
+    timeIs(TEN_AM);
+    store = startStore();
+  }
+
+  @AfterEach
+  void cleanup() throws InterruptedException {
+    for (QuizResultRollups rollups : started) {
+      rollups.stop();
+    }
+    for (MappedQuizResultStore store : stores) {
+      store.stop();
+    }
+  }
+
+  private void timeIs(Instant instant) {
+    lenient().doReturn(instant.toEpochMilli()).when(clock).millis();
+    lenient().doReturn(instant).when(clock).instant();
+  }
+
+  private MappedQuizResultStore startStore() throws Exception {
+    MappedQuizResultStore store =
+        MappedQuizResultStore.builder()
+            .directory(directory.resolve("quiz-results"))
+            .segmentSize(1024)
+            .clock(clock)
+            .metricRegistry(metricRegistry)
+            .build();
+    stores.add(store);
+    store.start();
+    return store;
+  }
+
+  private QuizResultRollups.Builder rollupsBuilder(MappedQuizResultStore store) {
+    return QuizResultRollups.builder()
+        .quizResultStore(store)
+        .file(directory.resolve("quiz-result-rollups.json"))
+        .rawRetention(Duration.ofDays(7))
+        .hourlyRetention(Duration.ofDays(30))
+        .compactionInterval(Duration.ofHours(1))
+        .clock(clock)
+        .objectMapper(Jackson.newObjectMapper())
+        .metricRegistry(metricRegistry);
+  }
+
+  private QuizResultRollups start(QuizResultRollups.Builder builder) throws IOException {
+    QuizResultRollups rollups = builder.build();
+    started.add(rollups);
+    rollups.start();
+    return rollups;
+  }
+
+  /**
+   * Save results, one a minute from a time, each out of 10 prompts, taking a minute and a second.
+   *
+   * @param from When the first is saved.
+   * @param name The name of the quiz.
+   * @param correctAnswers The number of prompts answered correctly in each.
+   */
+  private void save(Instant from, String name, int... correctAnswers) throws RenderableException {
+    for (int i = 0; i < correctAnswers.length; i++) {
+      timeIs(from.plusSeconds(60L * i));
+      store.append(
+          List.of(
+              QuizResult.builder()
+                  .name(name)
+                  .promptCount(10)
+                  .correctAnswers(correctAnswers[i])
+                  .percentage(correctAnswers[i] * 10)
+                  .timeMinutes(1)
+                  .timeSeconds(1)
+                  .build()));
+    }
+  }
+
+  /** The same number of correct answers, again and again. */
+  private static int[] repeat(int correctAnswers, int times) {
+    int[] repeated = new int[times];
+    Arrays.fill(repeated, correctAnswers);
+    return repeated;
+  }
+
+  /** Summarize rollups, as name/granularity/start:count. */
+  private static List<String> describe(List<QuizResultRollup> rollups) {
+    return rollups.stream()
+        .map(
+            rollup ->
+                rollup.getName()
+                    + "/"
+                    + rollup.getGranularity()
+                    + "/"
+                    + rollup.getStart()
+                    + ":"
+                    + rollup.getCount())
+        .toList();
+  }
+
+  private List<String> segments(Path segmentDirectory) throws IOException {
+    try (Stream<Path> files = Files.list(segmentDirectory)) {
+      return files.map(file -> file.getFileName().toString()).sorted().toList();
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenRawRetentionNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).rawRetention(Duration.ZERO).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("rawRetention must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenHourlyRetentionNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () -> rollupsBuilder(store).hourlyRetention(Duration.ofDays(-1)).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("hourlyRetention must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenCompactionIntervalNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).compactionInterval(Duration.ZERO).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("compactionInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenClockNull_thenSystemClockUsed() {
+      // Execution
+      QuizResultRollups result = rollupsBuilder(store).clock(null).build();
+
+      // Validation
+      assertEquals(Clock.systemUTC(), result.getClock());
+    }
+
+    @Test
+    void whenRawRetentionNegative_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).rawRetention(Duration.ofDays(-1)).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("rawRetention must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenHourlyRetentionZero_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).hourlyRetention(Duration.ZERO).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("hourlyRetention must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenCompactionIntervalNegative_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () -> rollupsBuilder(store).compactionInterval(Duration.ofHours(-1)).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("compactionInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenBuilt_thenSettingsKept() {
+      // Setup
+      Path archiveDirectory = directory.resolve("archive");
+
+      // Execution
+      QuizResultRollups result = rollupsBuilder(store).archiveDirectory(archiveDirectory).build();
+
+      // Validation
+      assertAll(
+          () -> assertSame(store, result.getQuizResultStore(), "quizResultStore"),
+          () ->
+              assertEquals(directory.resolve("quiz-result-rollups.json"), result.getFile(), "file"),
+          () -> assertEquals(Duration.ofDays(7), result.getRawRetention(), "rawRetention"),
+          () -> assertEquals(Duration.ofDays(30), result.getHourlyRetention(), "hourlyRetention"),
+          () ->
+              assertEquals(
+                  Duration.ofHours(1), result.getCompactionInterval(), "compactionInterval"),
+          () -> assertEquals(archiveDirectory, result.getArchiveDirectory(), "archiveDirectory"),
+          () -> assertSame(clock, result.getClock(), "clock"));
+    }
+
+    @Test
+    void whenQuizResultStoreNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).quizResultStore(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResultStore is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultStoreNotSet_thenThrowsException() {
+      // Setup
+      QuizResultRollups.Builder builder =
+          QuizResultRollups.builder()
+              .file(directory.resolve("quiz-result-rollups.json"))
+              .rawRetention(Duration.ofDays(7))
+              .hourlyRetention(Duration.ofDays(30))
+              .compactionInterval(Duration.ofHours(1))
+              .objectMapper(Jackson.newObjectMapper())
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResultStore is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenFileNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).file(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("file is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenFileNotSet_thenThrowsException() {
+      // Setup
+      QuizResultRollups.Builder builder =
+          QuizResultRollups.builder()
+              .quizResultStore(store)
+              .rawRetention(Duration.ofDays(7))
+              .hourlyRetention(Duration.ofDays(30))
+              .compactionInterval(Duration.ofHours(1))
+              .objectMapper(Jackson.newObjectMapper())
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("file is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenRawRetentionNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).rawRetention(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("rawRetention is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenRawRetentionNotSet_thenThrowsException() {
+      // Setup
+      QuizResultRollups.Builder builder =
+          QuizResultRollups.builder()
+              .quizResultStore(store)
+              .file(directory.resolve("quiz-result-rollups.json"))
+              .hourlyRetention(Duration.ofDays(30))
+              .compactionInterval(Duration.ofHours(1))
+              .objectMapper(Jackson.newObjectMapper())
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("rawRetention is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenHourlyRetentionNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).hourlyRetention(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("hourlyRetention is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenHourlyRetentionNotSet_thenThrowsException() {
+      // Setup
+      QuizResultRollups.Builder builder =
+          QuizResultRollups.builder()
+              .quizResultStore(store)
+              .file(directory.resolve("quiz-result-rollups.json"))
+              .rawRetention(Duration.ofDays(7))
+              .compactionInterval(Duration.ofHours(1))
+              .objectMapper(Jackson.newObjectMapper())
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("hourlyRetention is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCompactionIntervalNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).compactionInterval(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("compactionInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCompactionIntervalNotSet_thenThrowsException() {
+      // Setup
+      QuizResultRollups.Builder builder =
+          QuizResultRollups.builder()
+              .quizResultStore(store)
+              .file(directory.resolve("quiz-result-rollups.json"))
+              .rawRetention(Duration.ofDays(7))
+              .hourlyRetention(Duration.ofDays(30))
+              .objectMapper(Jackson.newObjectMapper())
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("compactionInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenObjectMapperNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).objectMapper(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenObjectMapperNotSet_thenThrowsException() {
+      // Setup
+      QuizResultRollups.Builder builder =
+          QuizResultRollups.builder()
+              .quizResultStore(store)
+              .file(directory.resolve("quiz-result-rollups.json"))
+              .rawRetention(Duration.ofDays(7))
+              .hourlyRetention(Duration.ofDays(30))
+              .compactionInterval(Duration.ofHours(1))
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> rollupsBuilder(store).metricRegistry(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNotSet_thenThrowsException() {
+      // Setup
+      QuizResultRollups.Builder builder =
+          QuizResultRollups.builder()
+              .quizResultStore(store)
+              .file(directory.resolve("quiz-result-rollups.json"))
+              .rawRetention(Duration.ofDays(7))
+              .hourlyRetention(Duration.ofDays(30))
+              .compactionInterval(Duration.ofHours(1))
+              .objectMapper(Jackson.newObjectMapper());
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class GetRollupsTest {
+    @Test
+    void whenFromNull_thenThrowsException() {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+
+      // Execution
+      Executable executable = () -> rollups.getRollups(null, null, Instant.MAX);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("from is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenToNull_thenThrowsException() {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+
+      // Execution
+      Executable executable = () -> rollups.getRollups(null, Instant.MIN, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("to is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenWindowEmpty_thenNoRollups() throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+
+      // Execution
+      List<QuizResultRollup> result =
+          rollups.getRollups(null, TEN_AM.plusSeconds(3600), TEN_AM.plusSeconds(3600));
+
+      // Validation
+      assertEquals(List.of(), result);
+      assertEquals(
+          List.of(),
+          rollups.getRollups(
+              null, TEN_AM.plus(Duration.ofDays(1)), TEN_AM.plus(Duration.ofDays(2))));
+    }
+
+    @Test
+    void whenHourCrossesIntoNewDay_thenEachDayTotalledApart()
+        throws IOException, RenderableException {
+      // Setup
+      Instant elevenThirtyPm = Instant.parse("2026-01-01T23:30:00Z");
+      Instant midnight = Instant.parse("2026-01-02T00:00:00Z");
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(elevenThirtyPm, "Adding 1", repeat(5, 60));
+      List<String> hours = describe(rollups.getRollups(null, Instant.MIN, Instant.MAX));
+      timeIs(elevenThirtyPm.plus(Duration.ofDays(8)));
+      rollups.compact();
+      timeIs(elevenThirtyPm.plus(Duration.ofDays(40)));
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1/HOUR/2026-01-01T23:00:00Z:30", "Adding 1/HOUR/2026-01-02T00:00:00Z:30"),
+          hours);
+      assertEquals(
+          List.of("Adding 1/DAY/2026-01-01T00:00:00Z:30", "Adding 1/DAY/2026-01-02T00:00:00Z:30"),
+          describe(rollups.getRollups(null, Instant.MIN, Instant.MAX)));
+      assertEquals(
+          List.of("Adding 1/DAY/2026-01-02T00:00:00Z:30"),
+          describe(rollups.getRollups(null, midnight, midnight.plus(Duration.ofDays(1)))));
+      assertEquals(
+          List.of("Adding 1/DAY/2026-01-01T00:00:00Z:30"),
+          describe(rollups.getRollups(null, midnight.minus(Duration.ofDays(1)), midnight)));
+    }
+
+    @Test
+    void whenQuizRolledUp_thenOnlyThatQuizReturned() throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 60));
+      save(TEN_AM.plusSeconds(3600), "Adding 2", repeat(5, 60));
+      save(TEN_AM.plusSeconds(7200), "Adding 1", repeat(5, 60));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+
+      // Execution
+      List<QuizResultRollup> result = rollups.getRollups("Adding 2", Instant.MIN, Instant.MAX);
+
+      // Validation
+      assertEquals(List.of("Adding 2/HOUR/2026-01-01T11:00:00Z:60"), describe(result));
+    }
+
+    @Test
+    void whenQuizNameDiffersInCase_thenRolledUpAndRecentResultsReturned()
+        throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 60));
+      save(TEN_AM.plusSeconds(3600), "Adding 2", repeat(5, 60));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+      save(TEN_AM.plus(Duration.ofDays(8)), "adding 2", 1);
+
+      // Execution
+      List<QuizResultRollup> result = rollups.getRollups("ADDING 2", Instant.MIN, Instant.MAX);
+
+      // Validation
+      assertEquals(
+          List.of("Adding 2/HOUR/2026-01-01T11:00:00Z:60", "adding 2/HOUR/2026-01-09T10:00:00Z:1"),
+          describe(result));
+    }
+
+    @Test
+    void whenNothingRolledUp_thenHoursTotalledFromResults() throws RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 2", 1);
+      save(TEN_AM.plusSeconds(59 * 60), "Adding 1", 10, 10, 5);
+
+      // Execution
+      List<QuizResultRollup> result = rollups.getRollups(null, Instant.MIN, Instant.MAX);
+
+      // Validation
+      assertEquals(
+          List.of(
+              "Adding 1/HOUR/2026-01-01T10:00:00Z:1",
+              "Adding 2/HOUR/2026-01-01T10:00:00Z:1",
+              "Adding 1/HOUR/2026-01-01T11:00:00Z:2"),
+          describe(result));
+    }
+
+    @Test
+    void whenTotalled_thenSumsAveragesAndScoresKept() throws RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", 10, 9, 5);
+
+      // Execution
+      QuizResultRollup result = rollups.getRollups("Adding 1", Instant.MIN, Instant.MAX).get(0);
+
+      // Validation
+      assertAll(
+          () -> assertEquals(3, result.getCount(), "count"),
+          () -> assertEquals(30, result.getPromptCount(), "promptCount"),
+          () -> assertEquals(24, result.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(80.0, result.getAveragePercentage(), "averagePercentage"),
+          () -> assertEquals(61.0, result.getAverageTimeSeconds(), "averageTimeSeconds"),
+          () -> assertEquals(11, result.getScores().size(), "scores"),
+          () -> assertEquals(0, result.getScores().get(0).getMinimumPercentage(), "first"),
+          () -> assertEquals(1, result.getScores().get(5).getCount(), "50-59"),
+          () -> assertEquals(1, result.getScores().get(9).getCount(), "90-99"),
+          () -> assertEquals(100, result.getScores().get(10).getMinimumPercentage(), "last"),
+          () -> assertEquals(1, result.getScores().get(10).getCount(), "100"),
+          () ->
+              assertEquals(
+                  3, result.getScores().stream().mapToLong(ScoreRange::getCount).sum(), "total"));
+    }
+
+    @Test
+    void whenQuizAndRange_thenOnlyRollupsStartingInRange() throws RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      save(TEN_AM.plusSeconds(3 * 60 * 60), "Adding 2", 5);
+
+      // Execution
+      List<QuizResultRollup> result =
+          rollups.getRollups(
+              "Adding 1", TEN_AM.plusSeconds(30 * 60), TEN_AM.plusSeconds(2 * 60 * 60 + 1));
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1/HOUR/2026-01-01T11:00:00Z:60", "Adding 1/HOUR/2026-01-01T12:00:00Z:60"),
+          describe(result));
+    }
+  }
+
+  @Nested
+  class CompactTest {
+    @Test
+    void whenLateResultInRolledUpHour_thenAddedToThatHour()
+        throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+      // Saved late, with the clock behind, so stamped with the time of the latest result.
+      save(TEN_AM, "Adding 1", 10);
+      List<String> beforeCompacting = describe(rollups.getRollups(null, Instant.MIN, Instant.MAX));
+      save(TEN_AM.plus(Duration.ofDays(8)), "Adding 2", repeat(5, 60));
+      timeIs(TEN_AM.plus(Duration.ofDays(16)));
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      List<String> expected =
+          List.of(
+              "Adding 1/HOUR/2026-01-01T10:00:00Z:60",
+              "Adding 1/HOUR/2026-01-01T11:00:00Z:60",
+              "Adding 1/HOUR/2026-01-01T12:00:00Z:61");
+      assertEquals(expected, beforeCompacting);
+      assertEquals(expected, describe(rollups.getRollups("Adding 1", Instant.MIN, Instant.MAX)));
+      assertEquals(1, segments(store.getDirectory()).size());
+    }
+
+    @Test
+    void whenDaysAlreadyRolledUp_thenKeptAsDays() throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+      timeIs(TEN_AM.plus(Duration.ofDays(31)));
+      rollups.compact();
+      save(TEN_AM.plus(Duration.ofDays(31)), "Adding 1", repeat(5, 60));
+      timeIs(TEN_AM.plus(Duration.ofDays(39)));
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      assertEquals(
+          List.of("Adding 1/DAY/2026-01-01T00:00:00Z:180", "Adding 1/HOUR/2026-02-01T10:00:00Z:60"),
+          describe(rollups.getRollups(null, Instant.MIN, Instant.MAX)));
+    }
+
+    @Test
+    void whenResultsNotOldEnough_thenNothingRemoved() throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      List<String> segments = segments(store.getDirectory());
+      timeIs(TEN_AM.plus(Duration.ofDays(6)));
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      assertTrue(segments.size() > 2, segments.toString());
+      assertEquals(segments, segments(store.getDirectory()));
+      assertEquals(
+          List.of(
+              "Adding 1/HOUR/2026-01-01T10:00:00Z:60",
+              "Adding 1/HOUR/2026-01-01T11:00:00Z:60",
+              "Adding 1/HOUR/2026-01-01T12:00:00Z:60"),
+          describe(rollups.getRollups(null, Instant.MIN, Instant.MAX)));
+    }
+
+    @Test
+    void whenResultsOldEnough_thenRolledUpIntoHoursAndRemoved()
+        throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      List<String> segments = segments(store.getDirectory());
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      assertEquals(List.of(segments.get(segments.size() - 1)), segments(store.getDirectory()));
+      assertTrue(Files.exists(rollups.getFile()));
+      assertEquals(
+          List.of(
+              "Adding 1/HOUR/2026-01-01T10:00:00Z:60",
+              "Adding 1/HOUR/2026-01-01T11:00:00Z:60",
+              "Adding 1/HOUR/2026-01-01T12:00:00Z:60"),
+          describe(rollups.getRollups(null, Instant.MIN, Instant.MAX)));
+    }
+
+    @Test
+    void whenHoursOldEnough_thenRolledUpIntoDays() throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      save(TEN_AM.plus(Duration.ofDays(1)), "Adding 1", 10);
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+      timeIs(TEN_AM.plus(Duration.ofDays(31)));
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      List<QuizResultRollup> result = rollups.getRollups(null, Instant.MIN, Instant.MAX);
+      assertEquals(
+          List.of("Adding 1/DAY/2026-01-01T00:00:00Z:180", "Adding 1/HOUR/2026-01-02T10:00:00Z:1"),
+          describe(result));
+      assertEquals(50.0, result.get(0).getAveragePercentage());
+    }
+
+    @Test
+    void whenArchiveDirectory_thenSegmentsMovedThere() throws IOException, RenderableException {
+      // Setup
+      Path archiveDirectory = directory.resolve("archive");
+      QuizResultRollups rollups = rollupsBuilder(store).archiveDirectory(archiveDirectory).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      List<String> segments = segments(store.getDirectory());
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      assertEquals(segments.subList(0, segments.size() - 1), segments(archiveDirectory));
+    }
+
+    @Test
+    void whenNothingNew_thenNotSavedAgain() throws IOException, RenderableException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+      Files.delete(rollups.getFile());
+
+      // Execution
+      rollups.compact();
+
+      // Validation
+      assertFalse(Files.exists(rollups.getFile()));
+      assertEquals(
+          2,
+          metricRegistry
+              .timer(MetricRegistry.name(QuizResultRollups.class, "compactions"))
+              .getCount());
+    }
+  }
+
+  @Nested
+  class LifecycleTest {
+    @Test
+    void whenStarted_thenCompactedRightAway() throws Exception, RenderableException {
+      // Setup
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+
+      // Execution
+      QuizResultRollups rollups = start(rollupsBuilder(store));
+
+      // Validation
+      long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (!Files.exists(rollups.getFile()) && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertTrue(Files.exists(rollups.getFile()));
+    }
+
+    @Test
+    void whenCompactionFails_thenSegmentsKeptAndRetried() throws Exception, RenderableException {
+      // Setup
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      List<String> segments = segments(store.getDirectory());
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      QuizResultRollups.Builder builder =
+          rollupsBuilder(store).compactionInterval(Duration.ofMillis(10));
+      Path file = builder.build().getFile();
+      // A directory where the rollups are first written, so that saving them fails.
+      Files.createDirectories(file.resolveSibling(file.getFileName() + ".tmp"));
+      Timer compactions =
+          metricRegistry.timer(MetricRegistry.name(QuizResultRollups.class, "compactions"));
+
+      // Execution
+      start(builder);
+      long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (compactions.getCount() < 2 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      // Validation
+      assertTrue(compactions.getCount() >= 2, "compactions " + compactions.getCount());
+      assertFalse(Files.exists(file));
+      assertEquals(segments, segments(store.getDirectory()));
+    }
+
+    @Test
+    void whenRestoredWithEmptyRollup_thenAveragesZero() throws Exception {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      Files.writeString(
+          rollups.getFile(),
+          "{\"format\":1,\"rolledUpThroughSegment\":0,\"dailyBeforeMillis\":0,"
+              + "\"rollups\":[{\"name\":\"Adding 1\",\"granularity\":\"DAY\","
+              + "\"startMillis\":0,\"count\":0,\"scores\":[0,0,0,0,0,0,0,0,0,0,0]}]}",
+          StandardCharsets.UTF_8);
+
+      // Execution
+      rollups.start();
+      rollups.stop();
+
+      // Validation
+      QuizResultRollup result = rollups.getRollups(null, Instant.MIN, Instant.MAX).get(0);
+      assertAll(
+          () ->
+              assertEquals("Adding 1/DAY/1970-01-01T00:00:00Z:0", describe(List.of(result)).get(0)),
+          () -> assertEquals(0, result.getAveragePercentage(), "averagePercentage"),
+          () -> assertEquals(0, result.getAverageTimeSeconds(), "averageTimeSeconds"));
+    }
+
+    @Test
+    void whenFileHasNoRollups_thenStartFails() throws IOException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      Files.writeString(rollups.getFile(), "{\"format\":1}", StandardCharsets.UTF_8);
+
+      // Execution
+      Executable executable = rollups::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertEquals(
+          rollups.getFile() + " is not a quiz result rollups file", exception.getMessage());
+    }
+
+    @Test
+    void whenRollupHasNoScores_thenStartFails() throws IOException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      Files.writeString(
+          rollups.getFile(),
+          "{\"format\":1,\"rollups\":[{\"name\":\"Adding 1\",\"granularity\":\"DAY\"}]}",
+          StandardCharsets.UTF_8);
+
+      // Execution
+      Executable executable = rollups::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertEquals(
+          rollups.getFile() + " is not a quiz result rollups file", exception.getMessage());
+    }
+
+    @Test
+    void whenRollupHasTooFewScores_thenStartFails() throws IOException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      Files.writeString(
+          rollups.getFile(),
+          "{\"format\":1,\"rollups\":[{\"name\":\"Adding 1\",\"granularity\":\"DAY\","
+              + "\"scores\":[1,2]}]}",
+          StandardCharsets.UTF_8);
+
+      // Execution
+      Executable executable = rollups::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertEquals(
+          rollups.getFile() + " is not a quiz result rollups file", exception.getMessage());
+    }
+
+    @Test
+    void whenRestartedBeforeSegmentsRemoved_thenCountedOnce()
+        throws Exception, RenderableException {
+      // Setup
+      Path archiveDirectory = directory.resolve("archive");
+      QuizResultRollups rollups = rollupsBuilder(store).archiveDirectory(archiveDirectory).build();
+      save(TEN_AM, "Adding 1", repeat(5, 180));
+      timeIs(TEN_AM.plus(Duration.ofDays(8)));
+      rollups.compact();
+      List<String> expected = describe(rollups.getRollups(null, Instant.MIN, Instant.MAX));
+      store.stop();
+      // As if the service crashed after saving the rollups, before removing their segments.
+      for (String segment : segments(archiveDirectory)) {
+        Files.move(
+            archiveDirectory.resolve(segment),
+            store.getDirectory().resolve(segment),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+      store = startStore();
+
+      // Execution
+      QuizResultRollups restarted = start(rollupsBuilder(store).archiveDirectory(archiveDirectory));
+
+      // Validation
+      assertEquals(expected, describe(restarted.getRollups(null, Instant.MIN, Instant.MAX)));
+      assertEquals(1, segments(store.getDirectory()).size());
+    }
+
+    @Test
+    void whenFileNotRecognized_thenStartFails() throws IOException {
+      // Setup
+      QuizResultRollups rollups = rollupsBuilder(store).build();
+      Files.createDirectories(rollups.getFile().getParent());
+      Files.writeString(rollups.getFile(), "{\"format\":99}", StandardCharsets.UTF_8);
+
+      // Execution
+      Executable executable = rollups::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertEquals(
+          rollups.getFile() + " is not a quiz result rollups file", exception.getMessage());
+    }
+  }
+}
@@ -3,31 +3,51 @@ package com.codingchica.flashcards.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
 import com.codingchica.flashcards.core.config.FlashCardGroup;
 import com.codingchica.flashcards.core.config.FlashCardsConfiguration;
 import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.ids.QuizToken;
+import com.codingchica.flashcards.core.ids.QuizTokenCodec;
 import com.codingchica.flashcards.core.mappers.external.CompletedQuizMapper;
 import com.codingchica.flashcards.core.mappers.external.CompletedQuizMapperImpl;
 import com.codingchica.flashcards.core.mappers.external.QuizMapper;
 import com.codingchica.flashcards.core.mappers.external.QuizMapperImpl;
+import com.codingchica.flashcards.core.model.external.AnswerFeedback;
 import com.codingchica.flashcards.core.model.external.CompletedQuiz;
+import com.codingchica.flashcards.core.model.external.DistributionSnapshot;
 import com.codingchica.flashcards.core.model.external.Quiz;
 import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizSubmission;
+import com.codingchica.flashcards.core.model.external.QuizSubmissionResult;
+import com.codingchica.flashcards.core.model.external.SubmittedAnswer;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.cache.Cache;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
 
 class QuizServiceTest {
   private String flashCardGroupKey1 = "some key value here";
@@ -41,25 +61,35 @@ class QuizServiceTest {
   private FlashCardGroup flashCardGroupValue2 = mock(FlashCardGroup.class);
   private QuizMapper quizMapper = spy(QuizMapperImpl.builder().build());
   private Quiz quiz = null;
-  private ObjectMapper objectMapper = spy(new ObjectMapper());
+  private QuizResultStore quizResultStore = mock(QuizResultStore.class);
   private CompletedQuizMapper completedQuizMapper = spy(new CompletedQuizMapperImpl());
   private QuizService.Builder quizServiceBuilder =
       QuizService.builder()
           .quizMapper(quizMapper)
           .completedQuizMapper(completedQuizMapper)
           .flashCardsConfiguration(flashCardsConfiguration)
-          .objectMapper(objectMapper);
+          .quizResultStore(quizResultStore);
   private List<String> submittedAnswers = new ArrayList<>();
   private CompletedQuiz.Builder completedQuizBuilder =
       CompletedQuiz.builder().answers(submittedAnswers);
   private CompletedQuiz completedQuiz = completedQuizBuilder.build();
 
   private QuizService quizService = quizServiceBuilder.build();
-  private Cache<UUID, Quiz> quizCache = quizService.getQuizCache();
+  private QuizSessionStore quizSessionStore = quizService.getQuizSessionStore();
   private ObjectIdGenerators.UUIDGenerator uuidGenerator = new ObjectIdGenerators.UUIDGenerator();
-  private UUID uuid = uuidGenerator.generateId(String.class);
+  private String uuid = uuidGenerator.generateId(String.class).toString();
   private Random random = new Random();
 
+  /**
+   * Match a compiled deck by the category under which its group was configured.
+   *
+   * @param category The expected category.
+   * @return A matcher for use in verifications.
+   */
+  private static ArgumentMatcher<Deck> deckFrom(String category) {
+    return deck -> deck != null && category.equals(deck.getCategory());
+  }
+
   @BeforeEach
   public void setup() {
     prompts.put("promptKey1", "promptValue1");
@@ -110,7 +140,7 @@ class QuizServiceTest {
             QuizService.builder()
                 .quizMapper(quizMapper)
                 .flashCardsConfiguration(flashCardsConfiguration)
-                .objectMapper(objectMapper);
+                .quizResultStore(quizResultStore);
 
         // Execution
         Executable executable = () -> quizServiceBuilder.build();
@@ -158,9 +188,9 @@ class QuizServiceTest {
     }
 
     @Nested
-    class ObjectMapperTest {
+    class QuizResultStoreTest {
       @Test
-      void build_whenObjectMapperNotInvoked_thenExceptionThrown() {
+      void build_whenQuizResultStoreNotInvoked_thenExceptionThrown() {
         // Setup
         quizServiceBuilder =
             QuizService.builder()
@@ -173,17 +203,96 @@ class QuizServiceTest {
 
         // Validation
         Exception exception = assertThrows(NullPointerException.class, executable);
-        assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+        assertEquals("quizResultStore is marked non-null but is null", exception.getMessage());
+      }
+
+      @Test
+      void builderSetter_whenQuizResultStoreNull_thenExceptionThrown() {
+        // Execution
+        Executable executable = () -> quizServiceBuilder.quizResultStore(null);
+
+        // Validation
+        Exception exception = assertThrows(NullPointerException.class, executable);
+        assertEquals("quizResultStore is marked non-null but is null", exception.getMessage());
+      }
+    }
+
+    @Nested
+    class QuizSessionStoreTest {
+      @Test
+      void builderSetter_whenQuizSessionStoreNull_thenExceptionThrown() {
+        // Execution
+        Executable executable = () -> quizServiceBuilder.quizSessionStore(null);
+
+        // Validation
+        Exception exception = assertThrows(NullPointerException.class, executable);
+        assertEquals("quizSessionStore is marked non-null but is null", exception.getMessage());
+      }
+
+      @Test
+      void build_whenQuizSessionStoreNotInvoked_thenInMemoryStoreUsed() {
+        // Execution
+        QuizService quizService = quizServiceBuilder.build();
+
+        // Validation
+        assertInstanceOf(InMemoryQuizSessionStore.class, quizService.getQuizSessionStore());
+      }
+
+      @Test
+      void build_whenQuizSessionStoreInvoked_thenStoreUsed() {
+        // Setup
+        QuizSessionStore expected = mock(QuizSessionStore.class);
+
+        // Execution
+        QuizService quizService = quizServiceBuilder.quizSessionStore(expected).build();
+
+        // Validation
+        assertSame(expected, quizService.getQuizSessionStore());
+      }
+    }
+
+    @Nested
+    class GradingExecutorTest {
+      @Test
+      void builderSetter_whenGradingExecutorNull_thenExceptionThrown() {
+        // Execution
+        Executable executable = () -> quizServiceBuilder.gradingExecutor(null);
+
+        // Validation
+        Exception exception = assertThrows(NullPointerException.class, executable);
+        assertEquals("gradingExecutor is marked non-null but is null", exception.getMessage());
+      }
+
+      @Test
+      void build_whenGradingExecutorInvoked_thenExpectedObjectReturned() {
+        // Execution
+        QuizService quizService = quizServiceBuilder.gradingExecutor(Runnable::run).build();
+
+        // Validation
+        assertNotNull(quizService);
       }
+    }
 
+    @Nested
+    class GradingRetryAfterTest {
       @Test
-      void builderSetter_whenObjectMapperNull_thenExceptionThrown() {
+      void builderSetter_whenGradingRetryAfterNull_thenExceptionThrown() {
         // Execution
-        Executable executable = () -> quizServiceBuilder.objectMapper(null);
+        Executable executable = () -> quizServiceBuilder.gradingRetryAfter(null);
 
         // Validation
         Exception exception = assertThrows(NullPointerException.class, executable);
-        assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+        assertEquals("gradingRetryAfter is marked non-null but is null", exception.getMessage());
+      }
+
+      @Test
+      void build_whenGradingRetryAfterInvoked_thenExpectedObjectReturned() {
+        // Execution
+        QuizService quizService =
+            quizServiceBuilder.gradingRetryAfter(Duration.ofSeconds(5)).build();
+
+        // Validation
+        assertNotNull(quizService);
       }
     }
 
@@ -208,7 +317,10 @@ class QuizServiceTest {
       // Validation
       assertEquals(
           "QuizService.Builder(flashCardsConfiguration=null, quizMapper=null,"
-              + " completedQuizMapper=null, objectMapper=null)",
+              + " completedQuizMapper=null, quizSessionStore$value=null, quizResultStore=null,"
+              + " quizPool=null, quizTokenCodec=null, gradingExecutor$value=null,"
+              + " gradingRetryAfter$value=null, quizStatistics=null,"
+              + " hardestPrompts=null, quizDistributions=null)",
           result);
     }
   }
@@ -347,9 +459,9 @@ class QuizServiceTest {
     }
 
     @Test
-    void getQuiz_whenQuizNull_thenIgnored() {
+    void getQuiz_whenQuizNull_thenIgnored() throws RenderableException {
       // Setup
-      doReturn(null).when(quizMapper).internalToExternalQuizMapping(any());
+      doReturn(null).when(quizMapper).deckToExternalQuizMapping(any());
 
       // Execution
       Optional<Quiz> optionalQuiz = quizService.getQuiz(flashCardGroupKey1);
@@ -359,7 +471,7 @@ class QuizServiceTest {
     }
 
     @Test
-    void getQuiz_whenQuizNameMismatch_thenNoResultReturned() {
+    void getQuiz_whenQuizNameMismatch_thenNoResultReturned() throws RenderableException {
       // Setup
 
       // Execution
@@ -370,7 +482,7 @@ class QuizServiceTest {
     }
 
     @Test
-    void getQuiz_whenQuizNameMatch_thenReturned() {
+    void getQuiz_whenQuizNameMatch_thenReturned() throws RenderableException {
       // Setup
       assertFalse(flashCardGroupValue1.getPrompts().isEmpty());
       System.out.println(flashCardGroupKey1);
@@ -385,12 +497,63 @@ class QuizServiceTest {
 
       assertNotNull(quiz);
       assertEquals(flashCardGroupValue1.getName(), quiz.getName());
-      verify(quizMapper).internalToExternalQuizMapping(flashCardGroupValue1);
+      verify(quizMapper).deckToExternalQuizMapping(argThat(deckFrom(flashCardGroupKey1)));
+      verify(quizMapper)
+          .deckToExternalQuizMapping(argThat(deckFrom(flashCardGroupKey1)), anyLong());
+      verify(quizMapper).promptsToExternalQuizMapping(any());
+      verifyNoMoreInteractions(quizMapper);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"NAME1", "Name1", "nAmE1"})
+    void getQuiz_whenQuizNameCaseDiffers_thenReturned(String quizName) throws RenderableException {
+      // Execution
+      Optional<Quiz> optionalQuiz = quizService.getQuiz(quizName);
+
+      // Validation
+      assertTrue(optionalQuiz.isPresent());
+      assertEquals(flashCardGroupValue1.getName(), optionalQuiz.get().getName());
+      verify(quizMapper).deckToExternalQuizMapping(argThat(deckFrom(flashCardGroupKey1)));
+    }
+
+    @Test
+    void getQuiz_whenCalledRepeatedly_thenConfigurationReadOnce() throws RenderableException {
+      // Execution
+      quizService.getQuiz(flashCardGroupValue1.getName());
+      quizService.getQuiz(flashCardGroupValue1.getName());
+      quizService.listQuizNamesByCategory();
+
+      // Validation
+      verify(flashCardsConfiguration, times(2)).getFlashCardGroupMap();
+      verifyNoMoreInteractions(flashCardsConfiguration);
+    }
+
+    @Test
+    void getQuiz_whenQuizNameDuplicatedInAnotherCategory_thenFirstMatchReturned()
+        throws RenderableException {
+      // Setup
+      flashCardGroupMap.clear();
+      Map<String, List<FlashCardGroup>> orderedGroupMap = new LinkedHashMap<>();
+      orderedGroupMap.put(flashCardGroupKey1, flashCardGroupList);
+      FlashCardGroup duplicateGroup =
+          FlashCardGroup.builder().prompts(prompts).name("NAME1").build();
+      orderedGroupMap.put(flashCardGroupKey2, List.of(duplicateGroup));
+      doReturn(orderedGroupMap).when(flashCardsConfiguration).getFlashCardGroupMap();
+
+      // Execution
+      Optional<Quiz> optionalQuiz = quizService.getQuiz("name1");
+
+      // Validation
+      assertTrue(optionalQuiz.isPresent());
+      verify(quizMapper).deckToExternalQuizMapping(argThat(deckFrom(flashCardGroupKey1)));
+      verify(quizMapper)
+          .deckToExternalQuizMapping(argThat(deckFrom(flashCardGroupKey1)), anyLong());
+      verify(quizMapper).promptsToExternalQuizMapping(any());
       verifyNoMoreInteractions(quizMapper);
     }
 
     @Test
-    void getQuiz_whenFlashCardsGroupMapContainsNullKey_thenIgnored() {
+    void getQuiz_whenFlashCardsGroupMapContainsNullKey_thenIgnored() throws RenderableException {
       // Setup
       flashCardGroupMap.clear();
       List<FlashCardGroup> flashCardGroupList2 = new ArrayList<>();
@@ -406,7 +569,7 @@ class QuizServiceTest {
     }
 
     @Test
-    void getQuiz_whenFlashCardsGroupMapContainsNullValue_thenIgnored() {
+    void getQuiz_whenFlashCardsGroupMapContainsNullValue_thenIgnored() throws RenderableException {
       // Setup
       flashCardGroupMap.clear();
       flashCardGroupMap.put("some key value", null);
@@ -421,96 +584,555 @@ class QuizServiceTest {
   }
 
   @Nested
-  class GradeQuizTest {
+  class ReloadCatalogTest {
     @Test
-    void gradeQuiz_whenIdNull_thenThrowsException() {
+    void reloadCatalog_whenConfigurationNull_thenExceptionThrown() {
       // Execution
-      Executable executable = () -> quizService.gradeQuiz(null, completedQuiz);
+      Executable executable = () -> quizService.reloadCatalog(null);
 
       // Validation
-      Exception exception = assertThrows(NullPointerException.class, executable);
-      assertEquals("id is marked non-null but is null", exception.getMessage());
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("configuration is marked non-null but is null", exception.getMessage());
     }
 
     @Test
-    void gradeQuiz_whenCompletedQuizNull_thenThrowsException() {
+    void reloadCatalog_whenFlashCardGroupMapNull_thenExceptionThrownAndCatalogKept() {
+      // Setup
+      FlashCardsConfiguration reloadedConfiguration = FlashCardsConfiguration.builder().build();
+      Map<String, List<String>> before = quizService.listQuizNamesByCategory();
+
       // Execution
-      Executable executable = () -> quizService.gradeQuiz(uuid, null);
+      Executable executable = () -> quizService.reloadCatalog(reloadedConfiguration);
 
       // Validation
-      Exception exception = assertThrows(NullPointerException.class, executable);
-      assertEquals("completedQuiz is marked non-null but is null", exception.getMessage());
+      NullPointerException exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("flashCardGroupMap must not be null", exception.getMessage());
+      assertSame(before, quizService.listQuizNamesByCategory());
     }
 
     @Test
-    void gradeQuiz_whenQuizNotFoundInCache_thenThrowsException() {
+    void reloadCatalog_whenInvoked_thenNewCatalogServed() throws RenderableException {
+      // Setup
+      assertTrue(quizService.getQuiz("name1").isPresent());
+      FlashCardGroup reloadedGroup =
+          FlashCardGroup.builder().prompts(Map.of("1+1", "2")).name("name2").build();
+      FlashCardsConfiguration reloadedConfiguration =
+          FlashCardsConfiguration.builder()
+              .flashCardGroupMap(Map.of(flashCardGroupKey2, List.of(reloadedGroup)))
+              .build();
+
       // Execution
-      Executable executable = () -> quizService.gradeQuiz(uuid, completedQuiz);
+      DeckCatalog result = quizService.reloadCatalog(reloadedConfiguration);
 
       // Validation
-      RenderableException exception = assertThrows(RenderableException.class, executable);
-      assertEquals(String.format("Quiz='%s' not found", uuid), exception.getMessage());
-      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+      assertEquals(1, result.getDeckCount());
+      assertEquals(
+          Map.of(flashCardGroupKey2, List.of("name2")), quizService.listQuizNamesByCategory());
+      assertTrue(quizService.getQuiz("name1").isEmpty());
+      assertTrue(quizService.getQuiz("name2").isPresent());
     }
 
     @Test
-    void gradeQuiz_whenQuizNameMismatch_thenThrowsException() {
+    void reloadCatalog_whenQuizInProgress_thenGradedAgainstOriginalDeck()
+        throws RenderableException {
       // Setup
-      int promptCount = 10;
-      prompts.clear();
-      IntStream.range(0, promptCount)
-          .forEachOrdered(
-              count -> {
-                int value = random.nextInt();
-                prompts.put("key" + count, String.valueOf(value));
-              });
-      quiz = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
-      quizCache.put(uuid, quiz);
-      completedQuiz.setName("mismatching name");
+      Quiz inProgressQuiz = quizService.getQuiz("name1").orElseThrow();
+      FlashCardGroup reloadedGroup =
+          FlashCardGroup.builder().prompts(Map.of("promptKey1", "changed")).name("name1").build();
+      quizService.reloadCatalog(
+          FlashCardsConfiguration.builder()
+              .flashCardGroupMap(Map.of(flashCardGroupKey1, List.of(reloadedGroup)))
+              .build());
+      inProgressQuiz.getPrompts().forEach(prompt -> submittedAnswers.add("promptValue1"));
+      completedQuiz.setName(inProgressQuiz.getName());
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(inProgressQuiz.getId(), completedQuiz);
+
+      // Validation
+      assertEquals(quizResult.getPromptCount(), quizResult.getCorrectAnswers());
+    }
+  }
+
+  @Nested
+  class QuizPoolTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final QuizPool quizPool =
+        spy(
+            QuizPool.builder()
+                .quizMapper(quizMapper)
+                .metricRegistry(metricRegistry)
+                .depthPerDeck(2)
+                .build());
+
+    @BeforeEach
+    void setup() {
+      quizService = quizServiceBuilder.quizPool(quizPool).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+      quizPool.stop();
+    }
+
+    @Test
+    void getQuiz_whenPoolConfigured_thenQuizTakenFromPool() throws RenderableException {
+      // Execution
+      Optional<Quiz> optionalQuiz = quizService.getQuiz("name1");
+
+      // Validation
+      assertTrue(optionalQuiz.isPresent());
+      verify(quizPool).publish(any(DeckCatalog.class));
+      verify(quizPool).take(argThat(deckFrom(flashCardGroupKey1)));
+      assertSame(
+          optionalQuiz.get(),
+          quizService.getQuizSessionStore().get(optionalQuiz.get().getId()).orElseThrow());
+    }
+
+    @Test
+    void reloadCatalog_whenPoolConfigured_thenNewCatalogPublishedToPool() {
+      // Setup
+      FlashCardsConfiguration reloadedConfiguration =
+          FlashCardsConfiguration.builder().flashCardGroupMap(flashCardGroupMap).build();
+
+      // Execution
+      DeckCatalog result = quizService.reloadCatalog(reloadedConfiguration);
+
+      // Validation
+      verify(quizPool).publish(result);
+    }
+  }
+
+  @Nested
+  class QuizStatisticsTest {
+    private final QuizStatisticsAggregator quizStatistics = mock(QuizStatisticsAggregator.class);
+
+    @BeforeEach
+    void setup() {
+      quizService = quizServiceBuilder.quizStatistics(quizStatistics).build();
+    }
+
+    @Test
+    void reloadCatalog_whenStatisticsKept_thenNewCatalogPublishedToStatistics() {
+      // Setup
+      FlashCardsConfiguration reloadedConfiguration =
+          FlashCardsConfiguration.builder().flashCardGroupMap(flashCardGroupMap).build();
+
+      // Execution
+      DeckCatalog result = quizService.reloadCatalog(reloadedConfiguration);
+
+      // Validation
+      verify(quizStatistics).publish(result);
+    }
+
+    @Test
+    void gradeQuiz_whenStatisticsKept_thenGradeRecorded() throws RenderableException {
+      // Setup
+      Quiz handedOut = quizService.getQuiz("name1").orElseThrow();
+      CompletedQuiz answered =
+          CompletedQuiz.builder().name("name1").answers(List.of("wrong")).build();
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(handedOut.getId(), answered);
+
+      // Validation
+      verify(quizStatistics).publish(any(DeckCatalog.class));
+      verify(quizStatistics)
+          .record(
+              same(handedOut),
+              argThat(grade -> grade.getMissedPositions().get(0)),
+              same(quizResult));
+    }
+
+    @Test
+    void gradeQuiz_whenGradedInline_thenRunningGradeRecorded() throws RenderableException {
+      // Setup
+      Quiz handedOut = quizService.getQuiz("name1").orElseThrow();
+      quizService.gradeAnswer(
+          "name1",
+          handedOut.getId(),
+          SubmittedAnswer.builder().position(0).answer("promptValue1").build());
+      CompletedQuiz closingQuiz = CompletedQuiz.builder().name("name1").inlineGrading(true).build();
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(handedOut.getId(), closingQuiz);
+
+      // Validation
+      assertEquals(100, quizResult.getPercentage());
+      verify(quizStatistics)
+          .record(
+              same(handedOut),
+              argThat(grade -> grade.getMissedPositions().isEmpty()),
+              same(quizResult));
+    }
+  }
+
+  @Nested
+  class HardestPromptsTest {
+    private final HardestPromptsTracker hardestPrompts =
+        HardestPromptsTracker.builder().limit(5).sketchWidth(64).sketchDepth(2).build();
+
+    @BeforeEach
+    void setup() {
+      quizService = quizServiceBuilder.hardestPrompts(hardestPrompts).build();
+    }
+
+    @Test
+    void gradeQuiz_whenPromptMissed_thenCountedOverallAndInCategory() throws RenderableException {
+      // Setup
+      Quiz handedOut = quizService.getQuiz("name1").orElseThrow();
+      CompletedQuiz answered =
+          CompletedQuiz.builder().name("name1").answers(List.of("wrong")).build();
+
+      // Execution
+      quizService.gradeQuiz(handedOut.getId(), answered);
+
+      // Validation
+      assertEquals(
+          "[PromptMisses(prompt=promptKey1, misses=1)]",
+          hardestPrompts.getHardestPrompts().toString());
+      assertEquals(
+          "[PromptMisses(prompt=promptKey1, misses=1)]",
+          hardestPrompts.getHardestPrompts(flashCardGroupKey1).orElseThrow().toString());
+    }
+
+    @Test
+    void gradeQuiz_whenGradedInline_thenMissesCounted() throws RenderableException {
+      // Setup
+      Quiz handedOut = quizService.getQuiz("name1").orElseThrow();
+      quizService.gradeAnswer(
+          "name1",
+          handedOut.getId(),
+          SubmittedAnswer.builder().position(0).answer("wrong").build());
+      CompletedQuiz closingQuiz = CompletedQuiz.builder().name("name1").inlineGrading(true).build();
+
+      // Execution
+      quizService.gradeQuiz(handedOut.getId(), closingQuiz);
+
+      // Validation
+      assertEquals(
+          "[PromptMisses(prompt=promptKey1, misses=1)]",
+          hardestPrompts.getHardestPrompts().toString());
+    }
+  }
+
+  @Nested
+  class QuizDistributionsTest {
+    private final QuizDistributionRecorder quizDistributions =
+        QuizDistributionRecorder.builder()
+            .interval(Duration.ofMinutes(1))
+            .maximumTime(Duration.ofHours(1))
+            .significantDigits(2)
+            .build();
+
+    @BeforeEach
+    void setup() {
+      quizService = quizServiceBuilder.quizDistributions(quizDistributions).build();
+    }
+
+    @Test
+    void gradeQuiz_whenDistributionsRecorded_thenScoreCounted() throws RenderableException {
+      // Setup
+      Quiz handedOut = quizService.getQuiz("name1").orElseThrow();
+      CompletedQuiz answered =
+          CompletedQuiz.builder().name("name1").answers(List.of("promptValue1")).build();
+
+      // Execution
+      quizService.gradeQuiz(handedOut.getId(), answered);
+
+      // Validation
+      DistributionSnapshot total =
+          quizDistributions.getDistribution("name1").orElseThrow().getTotal();
+      assertEquals(1, total.getCount());
+      assertEquals(1, total.getScores().get(10).getCount());
+    }
+  }
+
+  @Nested
+  class QuizSessionStoreTest {
+    private final QuizSessionStore quizSessionStore = mock(QuizSessionStore.class);
+
+    @BeforeEach
+    void setup() {
+      quizService = quizServiceBuilder.quizSessionStore(quizSessionStore).build();
+    }
+
+    @Test
+    void getQuiz_whenStoreFull_thenExceptionPropagated() throws RenderableException {
+      // Setup
+      RetryLaterException retryLaterException =
+          new RetryLaterException("full", Duration.ofSeconds(1));
+      doThrow(retryLaterException).when(quizSessionStore).put(any(Quiz.class));
+
+      // Execution
+      Executable executable = () -> quizService.getQuiz("name1");
+
+      // Validation
+      RetryLaterException exception = assertThrows(RetryLaterException.class, executable);
+      assertSame(retryLaterException, exception);
+    }
+
+    @Test
+    void gradeQuiz_whenInvoked_thenQuizLookedUpInStore() {
+      // Setup
+      doReturn(Optional.empty()).when(quizSessionStore).get(uuid);
 
       // Execution
       Executable executable = () -> quizService.gradeQuiz(uuid, completedQuiz);
 
       // Validation
       RenderableException exception = assertThrows(RenderableException.class, executable);
-      assertEquals(String.format("Quiz name mismatch", uuid), exception.getMessage());
       assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+      verify(quizSessionStore).get(uuid);
     }
 
-    @ParameterizedTest
-    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
-    void gradeQuiz_whenQuizInCache_thenExpectedResultReturned(int correctAnswers)
-        throws RenderableException, IOException {
+    @Test
+    void gradeQuiz_whenCatalogNotYetPublished_thenPublishedToStoreFirst() {
       // Setup
-      int promptCount = 10;
-      int expectedPercentage = correctAnswers * 100 / promptCount;
+      doReturn(Optional.empty()).when(quizSessionStore).get(uuid);
+
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(uuid, completedQuiz);
+
+      // Validation
+      assertThrows(RenderableException.class, executable);
+      InOrder inOrder = inOrder(quizSessionStore);
+      inOrder.verify(quizSessionStore).publish(any(DeckCatalog.class));
+      inOrder.verify(quizSessionStore).get(uuid);
+    }
+  }
+
+  @Nested
+  class QuizTokensTest {
+    private final QuizTokenCodec quizTokenCodec =
+        QuizTokenCodec.builder()
+            .secret("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8))
+            .maxAge(Duration.ofHours(3))
+            .build();
+
+    @BeforeEach
+    void setup() {
       prompts.clear();
-      IntStream.range(0, promptCount)
-          .forEachOrdered(
-              count -> {
-                int value = random.nextInt();
-                prompts.put("key" + count, String.valueOf(value));
-              });
-      quiz = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
-      quizCache.put(uuid, quiz);
+      IntStream.range(0, 10).forEachOrdered(count -> prompts.put("key" + count, "value" + count));
+      quizService = quizServiceBuilder.quizTokenCodec(quizTokenCodec).build();
+    }
+
+    /**
+     * Answer every prompt of a quiz correctly.
+     *
+     * @param quiz The quiz to answer.
+     */
+    private void answerCorrectly(Quiz quiz) {
+      quiz.getPrompts().forEach(prompt -> submittedAnswers.add(prompt.getValue()));
       completedQuiz.setName(quiz.getName());
-      int correctCount = 0;
-      List<Map.Entry<String, String>> promptEntries = quiz.getPrompts();
-      for (Map.Entry<String, String> prompt : promptEntries) {
-        String value = prompt.getValue();
-        if (correctCount < correctAnswers) {
-          submittedAnswers.add(String.valueOf(value));
-          correctCount++;
-        } else {
-          submittedAnswers.add(value + 1);
-        }
-      }
+    }
 
+    @Test
+    void getQuiz_whenTokensEnabled_thenSignedIdReturnedAndNotCached() throws RenderableException {
       // Execution
-      QuizResult quizResult = quizService.gradeQuiz(uuid, completedQuiz);
+      Quiz result = quizService.getQuiz("name1").orElseThrow();
 
       // Validation
-      assertNotNull(quizResult);
+      Optional<QuizToken> quizToken = quizTokenCodec.decode(result.getId());
+      assertTrue(quizToken.isPresent());
+      assertEquals(result.getCreatedDateTime(), quizToken.get().getCreatedDateTime());
+      assertEquals(0, quizService.getQuizSessionStore().size());
+    }
+
+    @Test
+    void gradeQuiz_whenTokensEnabled_thenQuizRegeneratedAndGraded() throws RenderableException {
+      // Setup
+      Quiz quiz = quizService.getQuiz("name1").orElseThrow();
+      answerCorrectly(quiz);
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(quiz.getId(), completedQuiz);
+
+      // Validation
+      assertEquals(quiz.getPrompts().size(), quizResult.getPromptCount());
+      assertEquals(quizResult.getPromptCount(), quizResult.getCorrectAnswers());
+    }
+
+    @Test
+    void gradeQuiz_whenGradedByAnotherInstance_thenGraded() throws RenderableException {
+      // Setup
+      Quiz quiz = quizService.getQuiz("name1").orElseThrow();
+      answerCorrectly(quiz);
+      QuizService otherNode = quizServiceBuilder.quizTokenCodec(quizTokenCodec).build();
+
+      // Execution
+      QuizResult quizResult = otherNode.gradeQuiz(quiz.getId(), completedQuiz);
+
+      // Validation
+      assertEquals(quizResult.getPromptCount(), quizResult.getCorrectAnswers());
+    }
+
+    @Test
+    void gradeQuiz_whenCatalogReloaded_thenGradedAgainstOriginalDeck() throws RenderableException {
+      // Setup
+      Quiz quiz = quizService.getQuiz("name1").orElseThrow();
+      answerCorrectly(quiz);
+      FlashCardGroup reloadedGroup =
+          FlashCardGroup.builder().prompts(Map.of("key0", "changed")).name("name1").build();
+      quizService.reloadCatalog(
+          FlashCardsConfiguration.builder()
+              .flashCardGroupMap(Map.of(flashCardGroupKey1, List.of(reloadedGroup)))
+              .build());
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(quiz.getId(), completedQuiz);
+
+      // Validation
+      assertEquals(quiz.getPrompts().size(), quizResult.getPromptCount());
+      assertEquals(quizResult.getPromptCount(), quizResult.getCorrectAnswers());
+    }
+
+    @Test
+    void gradeQuiz_whenCatalogVersionUnknown_thenThrowsException() {
+      // Setup
+      String id =
+          quizTokenCodec.encode(
+              QuizToken.builder().catalogVersion(42L).createdDateTime(Instant.now()).build());
+
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(id, completedQuiz);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(String.format("Quiz='%s' not found", id), exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeQuiz_whenDeckIdUnknown_thenThrowsException() {
+      // Setup
+      long catalogVersion = quizService.reloadCatalog(flashCardsConfiguration).getVersion();
+      String id =
+          quizTokenCodec.encode(
+              QuizToken.builder()
+                  .deckId(1)
+                  .catalogVersion(catalogVersion)
+                  .createdDateTime(Instant.now())
+                  .build());
+
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(id, completedQuiz);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeQuiz_whenIdNotSigned_thenThrowsException() throws RenderableException {
+      // Setup
+      Quiz quiz = quizService.getQuiz("name1").orElseThrow();
+      quiz.setId(uuid);
+      quizService.getQuizSessionStore().put(quiz);
+
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(uuid, completedQuiz);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(String.format("Quiz='%s' not found", uuid), exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+  }
+
+  @Nested
+  class GradeQuizTest {
+    @Test
+    void gradeQuiz_whenIdNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(null, completedQuiz);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void gradeQuiz_whenCompletedQuizNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(uuid, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("completedQuiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void gradeQuiz_whenQuizNotFoundInCache_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(uuid, completedQuiz);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(String.format("Quiz='%s' not found", uuid), exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeQuiz_whenQuizNameMismatch_thenThrowsException() throws RenderableException {
+      // Setup
+      int promptCount = 10;
+      prompts.clear();
+      IntStream.range(0, promptCount)
+          .forEachOrdered(
+              count -> {
+                int value = random.nextInt();
+                prompts.put("key" + count, String.valueOf(value));
+              });
+      quiz = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
+      quiz.setId(uuid);
+      quizSessionStore.put(quiz);
+      completedQuiz.setName("mismatching name");
+
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(uuid, completedQuiz);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(String.format("Quiz name mismatch", uuid), exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
+    void gradeQuiz_whenQuizInCache_thenExpectedResultReturned(int correctAnswers)
+        throws RenderableException, IOException {
+      // Setup
+      int promptCount = 10;
+      int expectedPercentage = correctAnswers * 100 / promptCount;
+      prompts.clear();
+      IntStream.range(0, promptCount)
+          .forEachOrdered(
+              count -> {
+                int value = random.nextInt();
+                prompts.put("key" + count, String.valueOf(value));
+              });
+      quiz = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
+      quiz.setId(uuid);
+      quizSessionStore.put(quiz);
+      completedQuiz.setName(quiz.getName());
+      int correctCount = 0;
+      List<Map.Entry<String, String>> promptEntries = quiz.getPrompts();
+      for (Map.Entry<String, String> prompt : promptEntries) {
+        String value = prompt.getValue();
+        if (correctCount < correctAnswers) {
+          submittedAnswers.add(String.valueOf(value));
+          correctCount++;
+        } else {
+          submittedAnswers.add(value + 1);
+        }
+      }
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(uuid, completedQuiz);
+
+      // Validation
+      assertNotNull(quizResult);
       assertAll(
           () -> assertEquals("name1", quizResult.getName(), "name"),
           () -> assertEquals(promptCount, quizResult.getPromptCount(), "promptCount"),
@@ -518,4 +1140,518 @@ class QuizServiceTest {
           () -> assertEquals(expectedPercentage, quizResult.getPercentage(), "percentage"));
     }
   }
+
+  @Nested
+  class GradeQuizAsyncTest {
+    @Test
+    void whenIdNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuizAsync(null, completedQuiz);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCompletedQuizNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuizAsync(uuid, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("completedQuiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenGraded_thenCompletedWithSavedResult()
+        throws RenderableException, ExecutionException, InterruptedException {
+      // Setup
+      List<Runnable> submitted = new ArrayList<>();
+      quizService = quizServiceBuilder.gradingExecutor(submitted::add).build();
+      quiz = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
+      quiz.setId(uuid);
+      quizService.getQuizSessionStore().put(quiz);
+      completedQuiz.setName(quiz.getName());
+      submittedAnswers.add("promptValue1");
+
+      // Execution
+      CompletableFuture<QuizResult> result = quizService.gradeQuizAsync(uuid, completedQuiz);
+
+      // Validation
+      assertFalse(result.isDone(), "graded before the executor ran it");
+      assertEquals(1, submitted.size());
+      submitted.get(0).run();
+      assertEquals(100, result.get().getPercentage());
+      verify(quizResultStore).append(List.of(result.get()));
+    }
+
+    @Test
+    void whenGradingFailsWithError_thenCompletedExceptionallyAndErrorRethrown()
+        throws RenderableException {
+      // Setup
+      List<Runnable> submitted = new ArrayList<>();
+      quizService = quizServiceBuilder.gradingExecutor(submitted::add).build();
+      quiz = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
+      quiz.setId(uuid);
+      quizService.getQuizSessionStore().put(quiz);
+      completedQuiz.setName(quiz.getName());
+      submittedAnswers.add("promptValue1");
+      OutOfMemoryError error = new OutOfMemoryError("Java heap space");
+      doThrow(error).when(quizResultStore).append(any());
+      CompletableFuture<QuizResult> result = quizService.gradeQuizAsync(uuid, completedQuiz);
+
+      // Execution
+      Executable executable = submitted.get(0)::run;
+
+      // Validation
+      assertSame(error, assertThrows(OutOfMemoryError.class, executable));
+      ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+      assertSame(error, exception.getCause());
+    }
+
+    @Test
+    void whenQuizNotFound_thenCompletedExceptionally() {
+      // Execution
+      CompletableFuture<QuizResult> result = quizService.gradeQuizAsync(uuid, completedQuiz);
+
+      // Validation
+      ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+      RenderableException cause = assertInstanceOf(RenderableException.class, exception.getCause());
+      assertEquals(HttpStatus.NOT_FOUND_404, cause.getHttpStatus());
+      assertEquals(String.format("Quiz='%s' not found", uuid), cause.getMessage());
+    }
+
+    @Test
+    void whenExecutorSaturated_thenRetryLater() {
+      // Setup
+      Duration retryAfter = Duration.ofSeconds(7);
+      quizService =
+          quizServiceBuilder
+              .gradingExecutor(
+                  command -> {
+                    throw new RejectedExecutionException("saturated");
+                  })
+              .gradingRetryAfter(retryAfter)
+              .build();
+
+      // Execution
+      CompletableFuture<QuizResult> result = quizService.gradeQuizAsync(uuid, completedQuiz);
+
+      // Validation
+      ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+      RetryLaterException cause = assertInstanceOf(RetryLaterException.class, exception.getCause());
+      assertEquals(HttpStatus.SERVICE_UNAVAILABLE_503, cause.getHttpStatus());
+      assertEquals("Too many quizzes being graded, try again later", cause.getMessage());
+      assertEquals(retryAfter, cause.getRetryAfter());
+      verifyNoInteractions(quizResultStore);
+    }
+  }
+
+  @Nested
+  class GradeQuizzesTest {
+    private final List<QuizSubmissionResult> submissionResults = new ArrayList<>();
+    private final Consumer<QuizSubmissionResult> listener = submissionResults::add;
+
+    /**
+     * Hand out a quiz of the single configured prompt, as if it had been requested.
+     *
+     * @return The ID of the quiz handed out.
+     * @throws RenderableException if the quiz cannot be kept for grading.
+     */
+    private String handOutQuiz() throws RenderableException {
+      Quiz handedOut = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
+      handedOut.setId(uuidGenerator.generateId(String.class).toString());
+      quizSessionStore.put(handedOut);
+      return handedOut.getId();
+    }
+
+    private QuizSubmission submission(String id, String name, String answer) {
+      return QuizSubmission.builder()
+          .id(id)
+          .completedQuiz(CompletedQuiz.builder().name(name).answers(List.of(answer)).build())
+          .build();
+    }
+
+    @Test
+    void whenQuizNameNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuizzes(null, List.of(), listener);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizName is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenSubmissionsNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuizzes("name1", null, listener);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("submissions is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenListenerNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuizzes("name1", List.of(), null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("listener is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenSomeSubmissionsInvalid_thenEachReportedAndGradedSavedOnce()
+        throws RenderableException {
+      // Setup
+      String correctId = handOutQuiz();
+      String incorrectId = handOutQuiz();
+      String mismatchId = handOutQuiz();
+      List<QuizSubmission> submissions =
+          List.of(
+              submission(correctId, "name1", "promptValue1"),
+              submission(incorrectId, "name1", "wrong"),
+              submission(uuid, "name1", "promptValue1"),
+              submission(mismatchId, "name2", "promptValue1"));
+
+      // Execution
+      quizService.gradeQuizzes("name1", submissions, listener);
+
+      // Validation
+      assertEquals(4, submissionResults.size());
+      assertAll(
+          () -> assertEquals(correctId, submissionResults.get(0).getId(), "id 0"),
+          () -> assertEquals(HttpStatus.OK_200, submissionResults.get(0).getCode(), "code 0"),
+          () -> assertEquals(100, submissionResults.get(0).getResult().getPercentage(), "% 0"),
+          () -> assertEquals(HttpStatus.OK_200, submissionResults.get(1).getCode(), "code 1"),
+          () -> assertEquals(0, submissionResults.get(1).getResult().getPercentage(), "% 1"),
+          () -> assertEquals(uuid, submissionResults.get(2).getId(), "id 2"),
+          () -> assertEquals(HttpStatus.NOT_FOUND_404, submissionResults.get(2).getCode(), "2"),
+          () ->
+              assertEquals(
+                  String.format("Quiz='%s' not found", uuid),
+                  submissionResults.get(2).getMessage(),
+                  "message 2"),
+          () -> assertNull(submissionResults.get(2).getResult(), "result 2"),
+          () -> assertEquals(HttpStatus.NOT_FOUND_404, submissionResults.get(3).getCode(), "3"),
+          () ->
+              assertEquals(
+                  "Quiz name mismatch", submissionResults.get(3).getMessage(), "message 3"));
+      verify(quizResultStore).append(argThat(quizResults -> quizResults.size() == 2));
+    }
+
+    @Test
+    void whenNoneGraded_thenNothingSaved() throws RenderableException {
+      // Execution
+      quizService.gradeQuizzes("name1", List.of(submission(uuid, "name1", "1")), listener);
+
+      // Validation
+      assertEquals(1, submissionResults.size());
+      assertEquals(HttpStatus.NOT_FOUND_404, submissionResults.get(0).getCode());
+      verifyNoInteractions(quizResultStore);
+    }
+
+    @Test
+    void whenGradingFailsUnexpectedly_thenReportedAsServerError() throws RenderableException {
+      // Setup
+      String id = handOutQuiz();
+      doThrow(new IllegalStateException("boom"))
+          .when(completedQuizMapper)
+          .mapGradeToExternalResults(any(), any());
+
+      // Execution
+      quizService.gradeQuizzes("name1", List.of(submission(id, "name1", "1")), listener);
+
+      // Validation
+      assertEquals(1, submissionResults.size());
+      assertAll(
+          () -> assertEquals(id, submissionResults.get(0).getId(), "id"),
+          () ->
+              assertEquals(
+                  HttpStatus.INTERNAL_SERVER_ERROR_500, submissionResults.get(0).getCode(), "code"),
+          () ->
+              assertEquals(
+                  "Error processing the request", submissionResults.get(0).getMessage(), "msg"));
+    }
+
+    @Test
+    void whenListenerFails_thenGradedStillSavedAndFailureRethrown() throws RenderableException {
+      // Setup
+      List<QuizSubmission> submissions =
+          List.of(
+              submission(handOutQuiz(), "name1", "promptValue1"),
+              submission(handOutQuiz(), "name1", "promptValue1"));
+      List<QuizSubmissionResult> received = new ArrayList<>();
+      IllegalStateException failure = new IllegalStateException("client went away");
+
+      // Execution
+      Executable executable =
+          () ->
+              quizService.gradeQuizzes(
+                  "name1",
+                  submissions,
+                  submissionResult -> {
+                    received.add(submissionResult);
+                    throw failure;
+                  });
+
+      // Validation
+      assertSame(failure, assertThrows(IllegalStateException.class, executable));
+      assertEquals(1, received.size());
+      verify(quizResultStore).append(argThat(quizResults -> quizResults.size() == 2));
+    }
+
+    @Test
+    void whenGradedInParallel_thenEveryOutcomeReportedOnCallingThread() throws RenderableException {
+      // Setup
+      ExecutorService gradingExecutor = Executors.newFixedThreadPool(4);
+      quizService = quizServiceBuilder.gradingExecutor(gradingExecutor).build();
+      quizSessionStore = quizService.getQuizSessionStore();
+      List<QuizSubmission> submissions = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        submissions.add(submission(handOutQuiz(), "name1", "promptValue1"));
+      }
+      Thread callingThread = Thread.currentThread();
+      Set<String> ids = new HashSet<>();
+
+      // Execution
+      try {
+        quizService.gradeQuizzes(
+            "name1",
+            submissions,
+            submissionResult -> {
+              assertSame(callingThread, Thread.currentThread());
+              assertEquals(HttpStatus.OK_200, submissionResult.getCode());
+              ids.add(submissionResult.getId());
+            });
+      } finally {
+        gradingExecutor.shutdownNow();
+      }
+
+      // Validation
+      assertEquals(50, ids.size());
+      verify(quizResultStore).append(argThat(quizResults -> quizResults.size() == 50));
+    }
+
+    @Test
+    void whenExecutorSaturated_thenGradedOnCallingThread() throws RenderableException {
+      // Setup
+      quizService =
+          quizServiceBuilder
+              .gradingExecutor(
+                  command -> {
+                    throw new RejectedExecutionException("saturated");
+                  })
+              .build();
+      quizSessionStore = quizService.getQuizSessionStore();
+      String id = handOutQuiz();
+
+      // Execution
+      quizService.gradeQuizzes("name1", List.of(submission(id, "name1", "promptValue1")), listener);
+
+      // Validation
+      assertEquals(1, submissionResults.size());
+      assertEquals(HttpStatus.OK_200, submissionResults.get(0).getCode());
+      verify(quizResultStore).append(argThat(quizResults -> quizResults.size() == 1));
+    }
+  }
+
+  @Nested
+  class InlineGradingTest {
+    private final CompletedQuiz closingQuiz =
+        CompletedQuiz.builder().name("name1").inlineGrading(true).build();
+
+    @BeforeEach
+    void setup() throws RenderableException {
+      prompts.put("promptKey2", "promptValue2");
+      prompts.put("promptKey3", "promptValue3");
+      quiz = quizMapper.internalToExternalQuizMapping(flashCardGroupValue1);
+      quiz.setId(uuid);
+      quizSessionStore.put(quiz);
+    }
+
+    private SubmittedAnswer answer(int position, String answer) {
+      return SubmittedAnswer.builder().position(position).answer(answer).build();
+    }
+
+    private String expectedAnswer(int position) {
+      return quiz.getPrompts().get(position).getValue();
+    }
+
+    @Test
+    void gradeAnswer_whenQuizNameNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeAnswer(null, uuid, answer(0, "1"));
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizName is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void gradeAnswer_whenIdNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeAnswer("name1", null, answer(0, "1"));
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("id is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void gradeAnswer_whenSubmittedAnswerNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeAnswer("name1", uuid, null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("submittedAnswer is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void gradeAnswer_whenQuizNotFound_thenThrowsException() {
+      // Setup
+      String unknownId = UUID.randomUUID().toString();
+
+      // Execution
+      Executable executable = () -> quizService.gradeAnswer("name1", unknownId, answer(0, "1"));
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(String.format("Quiz='%s' not found", unknownId), exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeAnswer_whenQuizNameMismatch_thenThrowsException() throws RenderableException {
+      // Setup
+      quizService.gradeAnswer("name1", uuid, answer(0, expectedAnswer(0)));
+
+      // Execution
+      Executable executable = () -> quizService.gradeAnswer("name2", uuid, answer(1, "1"));
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals("Quiz name mismatch", exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeAnswer_whenAnsweredInTurn_thenRunningTotalsReturned() throws RenderableException {
+      // Execution
+      AnswerFeedback first = quizService.gradeAnswer("name1", uuid, answer(0, expectedAnswer(0)));
+      AnswerFeedback second = quizService.gradeAnswer("name1", uuid, answer(1, "wrong"));
+
+      // Validation
+      assertAll(
+          () -> assertEquals(0, first.getPosition(), "position 0"),
+          () -> assertTrue(first.isCorrectAnswer(), "correctAnswer 0"),
+          () -> assertEquals(1, first.getCredit(), "credit 0"),
+          () -> assertEquals(3, first.getPromptCount(), "promptCount"),
+          () -> assertEquals(1, first.getCorrectAnswers(), "correctAnswers 0"),
+          () -> assertEquals(1, second.getPosition(), "position 1"),
+          () -> assertFalse(second.isCorrectAnswer(), "correctAnswer 1"),
+          () -> assertEquals(expectedAnswer(1), second.getExpectedAnswer(), "expectedAnswer 1"),
+          () -> assertEquals(1, second.getCorrectAnswers(), "correctAnswers 1"));
+      verify(completedQuizMapper, never()).mapCompletedQuizToExternalResults(any(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2})
+    void gradeAnswer_whenNotNextPosition_thenConflict(int position) throws RenderableException {
+      // Setup
+      quizService.gradeAnswer("name1", uuid, answer(0, expectedAnswer(0)));
+
+      // Execution
+      Executable executable = () -> quizService.gradeAnswer("name1", uuid, answer(position, "1"));
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals("Expected the answer for position=1", exception.getMessage());
+      assertEquals(HttpStatus.CONFLICT_409, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeAnswer_whenAllAnswered_thenConflict() throws RenderableException {
+      // Setup
+      for (int position = 0; position < 3; position++) {
+        quizService.gradeAnswer("name1", uuid, answer(position, expectedAnswer(position)));
+      }
+
+      // Execution
+      Executable executable = () -> quizService.gradeAnswer("name1", uuid, answer(3, "1"));
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(
+          String.format("Quiz='%s' has no prompts left to answer", uuid), exception.getMessage());
+      assertEquals(HttpStatus.CONFLICT_409, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeQuiz_whenGradedInline_thenClosedWithRunningGrade() throws RenderableException {
+      // Setup
+      quizService.gradeAnswer("name1", uuid, answer(0, expectedAnswer(0)));
+      quizService.gradeAnswer("name1", uuid, answer(1, expectedAnswer(1)));
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(uuid, closingQuiz);
+
+      // Validation
+      assertAll(
+          () -> assertEquals("name1", quizResult.getName(), "name"),
+          () -> assertEquals(3, quizResult.getPromptCount(), "promptCount"),
+          () -> assertEquals(2, quizResult.getCorrectAnswers(), "correctAnswers"),
+          () -> assertEquals(66, quizResult.getPercentage(), "percentage"));
+      verify(completedQuizMapper, never()).mapCompletedQuizToExternalResults(any(), any());
+      verify(quizResultStore).append(List.of(quizResult));
+
+      // Answering again starts over, as the inline grade was closed.
+      Executable executable = () -> quizService.gradeAnswer("name1", uuid, answer(2, "1"));
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals("Expected the answer for position=0", exception.getMessage());
+    }
+
+    @Test
+    void gradeQuiz_whenGradedInlineWithOtherName_thenThrowsException() throws RenderableException {
+      // Setup
+      quizService.gradeAnswer("name1", uuid, answer(0, expectedAnswer(0)));
+      closingQuiz.setName("name2");
+
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(uuid, closingQuiz);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals("Quiz name mismatch", exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeQuiz_whenNotGradedInlineAndNoAnswers_thenThrowsException() {
+      // Execution
+      Executable executable = () -> quizService.gradeQuiz(uuid, closingQuiz);
+
+      // Validation
+      RenderableException exception = assertThrows(RenderableException.class, executable);
+      assertEquals(String.format("Quiz='%s' not graded inline", uuid), exception.getMessage());
+      assertEquals(HttpStatus.NOT_FOUND_404, exception.getHttpStatus());
+    }
+
+    @Test
+    void gradeQuiz_whenNotGradedInlineButAnswered_thenAnswersGraded() throws RenderableException {
+      // Setup
+      closingQuiz.setAnswers(List.of(expectedAnswer(0), "wrong", "wrong"));
+
+      // Execution
+      QuizResult quizResult = quizService.gradeQuiz(uuid, closingQuiz);
+
+      // Validation
+      assertEquals(1, quizResult.getCorrectAnswers());
+      verify(completedQuizMapper).mapGradeToExternalResults(same(quiz), any());
+    }
+  }
 }
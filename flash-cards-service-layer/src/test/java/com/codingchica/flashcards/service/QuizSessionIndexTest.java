@@ -0,0 +1,139 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the QuizSessionIndex class. */
+class QuizSessionIndexTest {
+  private final QuizSessionIndex index = new QuizSessionIndex();
+
+  @Nested
+  class PutAndGetTest {
+    @Test
+    void whenNotPut_thenNone() {
+      // Execution
+      long result = index.get(1, 2);
+
+      // Validation
+      assertEquals(QuizSessionIndex.NONE, result);
+      assertEquals(0, index.size());
+    }
+
+    @Test
+    void whenPut_thenFound() {
+      // Execution
+      long previous = index.put(1, 2, 42);
+
+      // Validation
+      assertEquals(QuizSessionIndex.NONE, previous);
+      assertEquals(42, index.get(1, 2));
+      assertEquals(QuizSessionIndex.NONE, index.get(2, 1));
+      assertEquals(1, index.size());
+    }
+
+    @Test
+    void whenPutAgain_thenReplacedAndPreviousReturned() {
+      // Setup
+      index.put(1, 2, 42);
+
+      // Execution
+      long previous = index.put(1, 2, 43);
+
+      // Validation
+      assertEquals(42, previous);
+      assertEquals(43, index.get(1, 2));
+      assertEquals(1, index.size());
+    }
+
+    @Test
+    void whenManyPut_thenGrowsAndAllFound() {
+      // Execution
+      for (int i = 0; i < 1_000; i++) {
+        index.put(i, -i, i);
+      }
+
+      // Validation
+      assertEquals(1_000, index.size());
+      assertTrue(index.capacity() >= 2_000, "capacity=" + index.capacity());
+      for (int i = 0; i < 1_000; i++) {
+        assertEquals(i, index.get(i, -i));
+      }
+    }
+  }
+
+  @Nested
+  class RemoveTest {
+    @Test
+    void whenAddressMatches_thenRemoved() {
+      // Setup
+      index.put(1, 2, 42);
+
+      // Execution
+      boolean result = index.remove(1, 2, 42);
+
+      // Validation
+      assertTrue(result);
+      assertEquals(QuizSessionIndex.NONE, index.get(1, 2));
+      assertEquals(0, index.size());
+    }
+
+    @Test
+    void whenAddressDiffers_thenKept() {
+      // Setup
+      index.put(1, 2, 42);
+
+      // Execution
+      boolean result = index.remove(1, 2, 41);
+
+      // Validation
+      assertFalse(result);
+      assertEquals(42, index.get(1, 2));
+      assertEquals(1, index.size());
+    }
+
+    @Test
+    void whenNotPut_thenNothingRemoved() {
+      // Execution
+      boolean result = index.remove(1, 2, 42);
+
+      // Validation
+      assertFalse(result);
+    }
+
+    @Test
+    void whenMixedWithPuts_thenMatchesHashMap() {
+      // Setup
+      Random random = new Random(7);
+      Map<UUID, Long> expected = new HashMap<>();
+
+      // Execution
+      for (long address = 0; address < 20_000; address++) {
+        UUID id = new UUID(random.nextInt(64), random.nextInt(64));
+        Long current = expected.get(id);
+        if (current != null && random.nextBoolean()) {
+          assertTrue(
+              index.remove(id.getMostSignificantBits(), id.getLeastSignificantBits(), current));
+          expected.remove(id);
+        } else {
+          index.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), address);
+          expected.put(id, address);
+        }
+      }
+
+      // Validation
+      assertEquals(expected.size(), index.size());
+      for (int msb = 0; msb < 64; msb++) {
+        for (int lsb = 0; lsb < 64; lsb++) {
+          Long address = expected.get(new UUID(msb, lsb));
+          assertEquals(address == null ? QuizSessionIndex.NONE : address, index.get(msb, lsb));
+        }
+      }
+    }
+  }
+}
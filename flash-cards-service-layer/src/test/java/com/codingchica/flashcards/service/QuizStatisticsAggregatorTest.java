@@ -0,0 +1,722 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codingchica.flashcards.core.catalog.Deck;
+import com.codingchica.flashcards.core.catalog.DeckCatalog;
+import com.codingchica.flashcards.core.catalog.DeckPromptList;
+import com.codingchica.flashcards.core.config.FlashCardGroup;
+import com.codingchica.flashcards.core.grading.QuizGrade;
+import com.codingchica.flashcards.core.grading.QuizGrader;
+import com.codingchica.flashcards.core.model.external.PromptStatistics;
+import com.codingchica.flashcards.core.model.external.Quiz;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import com.codingchica.flashcards.core.model.external.QuizStatistics;
+import io.dropwizard.jackson.Jackson;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for the QuizStatisticsAggregator class. */
+class QuizStatisticsAggregatorTest {
+  private final QuizGrader quizGrader = new QuizGrader();
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  @TempDir private Path directory;
+
+  private QuizStatisticsAggregator.Builder aggregatorBuilder() {
+    return QuizStatisticsAggregator.builder()
+        .checkpointFile(directory.resolve("statistics").resolve("quiz-statistics.json"))
+        .checkpointInterval(Duration.ofMinutes(1))
+        .mostMissedPrompts(2)
+        .objectMapper(Jackson.newObjectMapper())
+        .metricRegistry(metricRegistry);
+  }
+
+  /**
+   * Compile a catalog with a single deck.
+   *
+   * @param prompts The prompts and their answers, in prompt ID order.
+   * @return The catalog.
+   */
+  private static DeckCatalog catalog(String... prompts) {
+    Map<String, String> promptMap = new LinkedHashMap<>();
+    for (int i = 0; i < prompts.length; i += 2) {
+      promptMap.put(prompts[i], prompts[i + 1]);
+    }
+    return DeckCatalog.compile(
+        Map.of(
+            "Addition",
+            List.of(
+                FlashCardGroup.builder()
+                    .name("Adding 1")
+                    .prompts(promptMap)
+                    .minimumPrompts(1)
+                    .maximumPrompts(promptMap.size())
+                    .build())));
+  }
+
+  private static DeckCatalog catalog() {
+    return catalog("1+1", "2", "1+2", "3", "1+3", "4");
+  }
+
+  /**
+   * Grade a quiz drawn from a deck, and count it.
+   *
+   * @param aggregator Where to count it.
+   * @param deck The deck the quiz is drawn from.
+   * @param percentage The percentage to report in the result.
+   * @param timeSeconds The time to report in the result.
+   * @param promptIds The prompts presented, negated (less one) when answered incorrectly.
+   */
+  private void record(
+      QuizStatisticsAggregator aggregator,
+      Deck deck,
+      int percentage,
+      int timeSeconds,
+      int... promptIds) {
+    int[] presented = new int[promptIds.length];
+    List<String> answers = new ArrayList<>();
+    for (int i = 0; i < promptIds.length; i++) {
+      boolean correct = promptIds[i] >= 0;
+      presented[i] = correct ? promptIds[i] : -promptIds[i] - 1;
+      answers.add(correct ? deck.getAnswer(presented[i]) : "wrong");
+    }
+    DeckPromptList prompts = new DeckPromptList(deck, 0, presented);
+    Quiz quiz =
+        Quiz.builder()
+            .id("id")
+            .name(deck.getName())
+            .createdDateTime(Instant.now())
+            .prompts(prompts)
+            .build();
+    QuizGrade grade = quizGrader.grade(prompts, answers, false);
+    aggregator.record(quiz, grade, quizResult(deck.getName(), percentage, timeSeconds));
+  }
+
+  private static QuizResult quizResult(String name, int percentage, int timeSeconds) {
+    return QuizResult.builder()
+        .name(name)
+        .percentage(percentage)
+        .timeMinutes(timeSeconds / 60)
+        .timeSeconds(timeSeconds % 60)
+        .build();
+  }
+
+  private static List<String> describe(List<PromptStatistics> prompts) {
+    return prompts.stream()
+        .map(prompt -> prompt.getPrompt() + ":" + prompt.getAttempts() + "/" + prompt.getMisses())
+        .toList();
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenCheckpointIntervalNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> aggregatorBuilder().checkpointInterval(Duration.ZERO).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("checkpointInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenMostMissedPromptsNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> aggregatorBuilder().mostMissedPrompts(0).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("mostMissedPrompts must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenCheckpointIntervalNegative_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () -> aggregatorBuilder().checkpointInterval(Duration.ofSeconds(-1)).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("checkpointInterval must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenCheckpointFileNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> aggregatorBuilder().checkpointFile(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("checkpointFile is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCheckpointFileNotSet_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator.Builder builder =
+          QuizStatisticsAggregator.builder()
+              .checkpointInterval(Duration.ofMinutes(1))
+              .mostMissedPrompts(2)
+              .objectMapper(Jackson.newObjectMapper())
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("checkpointFile is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCheckpointIntervalNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> aggregatorBuilder().checkpointInterval(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("checkpointInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenCheckpointIntervalNotSet_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator.Builder builder =
+          QuizStatisticsAggregator.builder()
+              .checkpointFile(directory.resolve("quiz-statistics.json"))
+              .mostMissedPrompts(2)
+              .objectMapper(Jackson.newObjectMapper())
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("checkpointInterval is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenObjectMapperNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> aggregatorBuilder().objectMapper(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenObjectMapperNotSet_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator.Builder builder =
+          QuizStatisticsAggregator.builder()
+              .checkpointFile(directory.resolve("quiz-statistics.json"))
+              .checkpointInterval(Duration.ofMinutes(1))
+              .mostMissedPrompts(2)
+              .metricRegistry(metricRegistry);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("objectMapper is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> aggregatorBuilder().metricRegistry(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNotSet_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator.Builder builder =
+          QuizStatisticsAggregator.builder()
+              .checkpointFile(directory.resolve("quiz-statistics.json"))
+              .checkpointInterval(Duration.ofMinutes(1))
+              .mostMissedPrompts(2)
+              .objectMapper(Jackson.newObjectMapper());
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenBuilt_thenSettingsKept() {
+      // Execution
+      QuizStatisticsAggregator result = aggregatorBuilder().build();
+
+      // Validation
+      assertAll(
+          () ->
+              assertEquals(
+                  directory.resolve("statistics").resolve("quiz-statistics.json"),
+                  result.getCheckpointFile(),
+                  "checkpointFile"),
+          () ->
+              assertEquals(
+                  Duration.ofMinutes(1), result.getCheckpointInterval(), "checkpointInterval"),
+          () -> assertEquals(2, result.getMostMissedPrompts(), "mostMissedPrompts"));
+    }
+  }
+
+  @Nested
+  class RecordTest {
+    @Test
+    void whenQuizNull_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+
+      // Execution
+      Executable executable =
+          () ->
+              aggregator.record(
+                  null,
+                  quizGrader.grade(List.of(), List.of(), false),
+                  quizResult("Adding 1", 0, 1));
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quiz is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenGradeNull_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      Quiz quiz = Quiz.builder().id("id").name("Loose").createdDateTime(Instant.now()).build();
+
+      // Execution
+      Executable executable = () -> aggregator.record(quiz, null, quizResult("Loose", 0, 1));
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("grade is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultNull_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      Quiz quiz = Quiz.builder().id("id").name("Loose").createdDateTime(Instant.now()).build();
+
+      // Execution
+      Executable executable =
+          () -> aggregator.record(quiz, quizGrader.grade(List.of(), List.of(), false), null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResult is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizNameNull_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+
+      // Execution
+      Executable executable = () -> aggregator.getStatistics(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizName is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenSeveralQuizzesGraded_thenEveryGradedQuizListedByName() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      DeckCatalog catalog = catalog();
+      aggregator.publish(catalog);
+      Quiz quiz =
+          Quiz.builder()
+              .id("id")
+              .name("Loose")
+              .createdDateTime(Instant.now())
+              .prompts(List.of(Map.entry("1+1", "2")))
+              .build();
+
+      // Execution
+      aggregator.record(
+          quiz,
+          quizGrader.grade(quiz.getPrompts(), List.of("2"), false),
+          quizResult("Loose", 100, 5));
+      record(aggregator, catalog.getDeck(0), 50, 10, 0, -2);
+      aggregator.record(
+          quiz,
+          quizGrader.grade(quiz.getPrompts(), List.of("3"), false),
+          quizResult("Loose", 0, 15));
+
+      // Validation
+      List<QuizStatistics> result = aggregator.getStatistics();
+      assertEquals(
+          List.of("Adding 1", "Loose"), result.stream().map(QuizStatistics::getName).toList());
+      assertEquals(1, result.get(0).getAttempts());
+      assertEquals(2, result.get(1).getAttempts());
+      assertEquals(50, result.get(1).getAveragePercentage());
+      assertEquals(10, result.get(1).getAverageTimeSeconds());
+    }
+
+    @Test
+    void whenGraded_thenAttemptsAndAveragesKept() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      DeckCatalog catalog = catalog();
+      aggregator.publish(catalog);
+      Deck deck = catalog.getDeck(0);
+
+      // Execution
+      record(aggregator, deck, 100, 30, 0, 1);
+      record(aggregator, deck, 50, 95, 0, -2);
+
+      // Validation
+      QuizStatistics statistics = aggregator.getStatistics("ADDING 1").orElseThrow();
+      assertAll(
+          () -> assertEquals("Adding 1", statistics.getName(), "name"),
+          () -> assertEquals(2, statistics.getAttempts(), "attempts"),
+          () -> assertEquals(75, statistics.getAveragePercentage(), "averagePercentage"),
+          () -> assertEquals(62.5, statistics.getAverageTimeSeconds(), "averageTimeSeconds"),
+          () ->
+              assertEquals(
+                  List.of("1+2:2/1"),
+                  describe(statistics.getMostMissedPrompts()),
+                  "mostMissedPrompts"));
+    }
+
+    @Test
+    void whenManyMissed_thenMostMissedListedFirstUpToLimit() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      DeckCatalog catalog = catalog();
+      aggregator.publish(catalog);
+      Deck deck = catalog.getDeck(0);
+
+      // Execution
+      record(aggregator, deck, 0, 10, -1, -2, -3);
+      record(aggregator, deck, 33, 10, -1, 1, -3);
+      record(aggregator, deck, 33, 10, 0, 1, -3);
+
+      // Validation
+      assertEquals(
+          List.of("1+3:3/3", "1+1:3/2"),
+          describe(aggregator.getStatistics("Adding 1").orElseThrow().getMostMissedPrompts()));
+    }
+
+    @Test
+    void whenNotPublished_thenCountedAgainstDeckSeen() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      Deck deck = catalog().getDeck(0);
+
+      // Execution
+      record(aggregator, deck, 50, 10, 0, -2);
+
+      // Validation
+      assertEquals(
+          List.of("1+2:1/1"),
+          describe(aggregator.getStatistics("Adding 1").orElseThrow().getMostMissedPrompts()));
+    }
+
+    @Test
+    void whenNotDrawnFromDeck_thenOnlyTotalsKept() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      Quiz quiz =
+          Quiz.builder()
+              .id("id")
+              .name("Loose")
+              .createdDateTime(Instant.now())
+              .prompts(List.of(Map.entry("1+1", "2")))
+              .build();
+
+      // Execution
+      aggregator.record(
+          quiz,
+          quizGrader.grade(quiz.getPrompts(), List.of("3"), false),
+          quizResult("Loose", 0, 5));
+
+      // Validation
+      QuizStatistics statistics = aggregator.getStatistics("Loose").orElseThrow();
+      assertEquals(1, statistics.getAttempts());
+      assertEquals(List.of(), statistics.getMostMissedPrompts());
+    }
+
+    @Test
+    void whenNotGraded_thenNoStatistics() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      aggregator.publish(catalog());
+
+      // Execution
+      List<QuizStatistics> result = aggregator.getStatistics();
+
+      // Validation
+      assertEquals(List.of(), result);
+      assertTrue(aggregator.getStatistics("Adding 1").isEmpty());
+    }
+  }
+
+  @Nested
+  class PublishTest {
+    @Test
+    void whenCatalogNull_thenThrowsException() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+
+      // Execution
+      Executable executable = () -> aggregator.publish(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("catalog is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenPromptRemoved_thenCountsOfRemainingPromptsCarriedOver() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      DeckCatalog before = catalog();
+      aggregator.publish(before);
+      record(aggregator, before.getDeck(0), 0, 10, -1, -2, -3);
+      DeckCatalog after = catalog("1+1", "2", "1+3", "4");
+
+      // Execution
+      aggregator.publish(after);
+
+      // Validation
+      assertEquals(
+          List.of("1+1:1/1", "1+3:1/1"),
+          describe(aggregator.getStatistics("Adding 1").orElseThrow().getMostMissedPrompts()));
+    }
+
+    @Test
+    void whenPromptsUnchanged_thenCountsCarryOn() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      DeckCatalog before = catalog();
+      aggregator.publish(before);
+      record(aggregator, before.getDeck(0), 0, 10, -1);
+      DeckCatalog after = catalog();
+
+      // Execution
+      aggregator.publish(after);
+      record(aggregator, after.getDeck(0), 0, 10, -1);
+      record(aggregator, before.getDeck(0), 0, 10, -1);
+
+      // Validation
+      QuizStatistics statistics = aggregator.getStatistics("Adding 1").orElseThrow();
+      assertEquals(3, statistics.getAttempts());
+      assertEquals(List.of("1+1:3/3"), describe(statistics.getMostMissedPrompts()));
+    }
+
+    @Test
+    void whenPromptsChanged_thenCountsCarriedOverByPrompt() {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      DeckCatalog before = catalog();
+      aggregator.publish(before);
+      record(aggregator, before.getDeck(0), 0, 10, -1, -2, -3);
+      DeckCatalog after = catalog("1+3", "4", "1+4", "5", "1+1", "2");
+
+      // Execution
+      aggregator.publish(after);
+      record(aggregator, after.getDeck(0), 0, 10, -3);
+      record(aggregator, before.getDeck(0), 0, 10, -1, -2);
+
+      // Validation
+      assertEquals(
+          List.of("1+1:3/3", "1+3:1/1"),
+          describe(aggregator.getStatistics("Adding 1").orElseThrow().getMostMissedPrompts()));
+    }
+  }
+
+  @Nested
+  class CheckpointTest {
+    @Test
+    void whenRestoredAfterPublished_thenAddedToPromptCounts() throws Exception {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      aggregator.start();
+      DeckCatalog catalog = catalog();
+      aggregator.publish(catalog);
+      record(aggregator, catalog.getDeck(0), 0, 20, -3);
+      aggregator.stop();
+      QuizStatisticsAggregator restarted = aggregatorBuilder().build();
+      restarted.publish(catalog);
+      record(restarted, catalog.getDeck(0), 0, 20, -3, -1);
+
+      // Execution
+      restarted.start();
+      restarted.stop();
+
+      // Validation
+      QuizStatistics statistics = restarted.getStatistics("Adding 1").orElseThrow();
+      assertEquals(2, statistics.getAttempts());
+      assertEquals(List.of("1+3:2/2", "1+1:1/1"), describe(statistics.getMostMissedPrompts()));
+    }
+
+    @Test
+    void whenCheckpointHasNoPrompts_thenOnlyTotalsRestored() throws Exception {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      Files.createDirectories(aggregator.getCheckpointFile().getParent());
+      Files.writeString(
+          aggregator.getCheckpointFile(),
+          "{\"format\":1,\"quizzes\":[{\"name\":\"Loose\",\"attempts\":2,"
+              + "\"percentageSum\":150,\"timeSecondsSum\":30}]}",
+          StandardCharsets.UTF_8);
+
+      // Execution
+      aggregator.start();
+      aggregator.stop();
+
+      // Validation
+      QuizStatistics statistics = aggregator.getStatistics("Loose").orElseThrow();
+      assertAll(
+          () -> assertEquals(2, statistics.getAttempts(), "attempts"),
+          () -> assertEquals(75, statistics.getAveragePercentage(), "averagePercentage"),
+          () -> assertEquals(15, statistics.getAverageTimeSeconds(), "averageTimeSeconds"),
+          () -> assertEquals(List.of(), statistics.getMostMissedPrompts(), "mostMissedPrompts"));
+    }
+
+    @Test
+    void whenCheckpointHasNoQuizzes_thenStartFails() throws IOException {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      Files.createDirectories(aggregator.getCheckpointFile().getParent());
+      Files.writeString(aggregator.getCheckpointFile(), "{\"format\":1}", StandardCharsets.UTF_8);
+
+      // Execution
+      Executable executable = aggregator::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertEquals(
+          aggregator.getCheckpointFile() + " is not a quiz statistics checkpoint",
+          exception.getMessage());
+    }
+
+    @Test
+    void whenScheduledCheckpointFails_thenRetried() throws Exception {
+      // Setup
+      QuizStatisticsAggregator aggregator =
+          aggregatorBuilder().checkpointInterval(Duration.ofMillis(10)).build();
+      aggregator.start();
+      Path checkpointFile = aggregator.getCheckpointFile();
+      // A directory where the checkpoint is first written, so that every checkpoint fails.
+      Files.createDirectory(checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp"));
+      Timer checkpoints =
+          metricRegistry.timer(MetricRegistry.name(QuizStatisticsAggregator.class, "checkpoints"));
+
+      // Execution
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (checkpoints.getCount() < 3 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      // Validation
+      assertTrue(checkpoints.getCount() >= 3, "checkpoints " + checkpoints.getCount());
+      assertFalse(Files.exists(checkpointFile));
+      assertThrows(IOException.class, aggregator::stop);
+    }
+
+    @Test
+    void whenRestarted_thenRestoredFromCheckpoint() throws Exception {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      aggregator.start();
+      DeckCatalog catalog = catalog();
+      aggregator.publish(catalog);
+      record(aggregator, catalog.getDeck(0), 50, 20, 0, -2);
+      aggregator.stop();
+
+      // Execution
+      QuizStatisticsAggregator restarted = aggregatorBuilder().build();
+      restarted.start();
+      restarted.publish(catalog());
+      record(restarted, catalog.getDeck(0), 100, 40, 0, 1);
+      restarted.stop();
+
+      // Validation
+      QuizStatistics statistics = restarted.getStatistics("Adding 1").orElseThrow();
+      assertAll(
+          () -> assertEquals(2, statistics.getAttempts(), "attempts"),
+          () -> assertEquals(75, statistics.getAveragePercentage(), "averagePercentage"),
+          () -> assertEquals(30, statistics.getAverageTimeSeconds(), "averageTimeSeconds"),
+          () ->
+              assertEquals(
+                  List.of("1+2:2/1"),
+                  describe(statistics.getMostMissedPrompts()),
+                  "mostMissedPrompts"));
+      assertEquals(
+          2,
+          metricRegistry
+              .timer(MetricRegistry.name(QuizStatisticsAggregator.class, "checkpoints"))
+              .getCount());
+    }
+
+    @Test
+    void whenRestoredBeforePublished_thenPromptCountsKept() throws Exception {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      aggregator.start();
+      DeckCatalog catalog = catalog();
+      aggregator.publish(catalog);
+      record(aggregator, catalog.getDeck(0), 0, 20, -3);
+      aggregator.stop();
+
+      // Execution
+      QuizStatisticsAggregator restarted = aggregatorBuilder().build();
+      restarted.start();
+      restarted.stop();
+
+      // Validation
+      assertEquals(
+          List.of("1+3:1/1"),
+          describe(restarted.getStatistics("Adding 1").orElseThrow().getMostMissedPrompts()));
+    }
+
+    @Test
+    void whenCheckpointNotRecognized_thenStartFails() throws IOException {
+      // Setup
+      QuizStatisticsAggregator aggregator = aggregatorBuilder().build();
+      Files.createDirectories(aggregator.getCheckpointFile().getParent());
+      Files.writeString(aggregator.getCheckpointFile(), "{\"format\":99}", StandardCharsets.UTF_8);
+
+      // Execution
+      Executable executable = aggregator::start;
+
+      // Validation
+      Exception exception = assertThrows(IOException.class, executable);
+      assertEquals(
+          aggregator.getCheckpointFile() + " is not a quiz statistics checkpoint",
+          exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import java.time.Instant;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/** Unit tests for the SavedQuizResult class. */
+class SavedQuizResultTest {
+  private static final Instant SAVED_AT = Instant.parse("2026-01-01T00:00:00Z");
+  private final QuizResult quizResult =
+      QuizResult.builder()
+          .name("Adding 1")
+          .promptCount(10)
+          .correctAnswers(9)
+          .percentage(90)
+          .timeMinutes(1)
+          .timeSeconds(2)
+          .build();
+  private final SavedQuizResult.Builder savedQuizResultBuilder =
+      SavedQuizResult.builder().savedAt(SAVED_AT).quizResult(quizResult);
+
+  @Nested
+  class POJOTests {
+    /** Ensure toString output would be helpful for debugging. */
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = savedQuizResultBuilder.build().toString();
+
+      // Validation
+      assertEquals(
+          "SavedQuizResult(savedAt=2026-01-01T00:00:00Z, quizResult=QuizResult(name=Adding 1,"
+              + " promptCount=10, correctAnswers=9, percentage=90, timeMinutes=1,"
+              + " timeSeconds=2))",
+          result);
+    }
+
+    @Test
+    void testGettersViaBuilder() {
+      // Execution
+      SavedQuizResult result = savedQuizResultBuilder.build();
+
+      // Validation
+      assertAll(
+          () -> assertEquals(SAVED_AT, result.getSavedAt(), "savedAt"),
+          () -> assertSame(quizResult, result.getQuizResult(), "quizResult"));
+    }
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenSavedAtNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> savedQuizResultBuilder.savedAt(null).build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("savedAt is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> savedQuizResultBuilder.quizResult(null).build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResult is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenSavedAtNotSet_thenThrowsException() {
+      // Setup
+      SavedQuizResult.Builder builder = SavedQuizResult.builder().quizResult(quizResult);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("savedAt is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenQuizResultNotSet_thenThrowsException() {
+      // Setup
+      SavedQuizResult.Builder builder = SavedQuizResult.builder().savedAt(SAVED_AT);
+
+      // Execution
+      Executable executable = builder::build;
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResult is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void toString_whenInvoked_includesAllExpectedFields() {
+      // Execute
+      String result = SavedQuizResult.builder().savedAt(SAVED_AT).toString();
+
+      // Validation
+      assertEquals(
+          "SavedQuizResult.Builder(savedAt=2026-01-01T00:00:00Z, quizResult=null)", result);
+    }
+  }
+}
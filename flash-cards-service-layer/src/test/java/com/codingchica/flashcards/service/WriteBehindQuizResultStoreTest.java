@@ -0,0 +1,718 @@
+package com.codingchica.flashcards.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codingchica.flashcards.core.config.QuizResultsConfiguration.WhenQueueFull;
+import com.codingchica.flashcards.core.exceptions.RenderableException;
+import com.codingchica.flashcards.core.exceptions.RetryLaterException;
+import com.codingchica.flashcards.core.model.external.QuizResult;
+import io.dropwizard.lifecycle.Managed;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/** Unit tests for the WriteBehindQuizResultStore class. */
+class WriteBehindQuizResultStoreTest {
+  private final MetricRegistry metricRegistry = new MetricRegistry();
+  private final RecordingQuizResultStore delegate = new RecordingQuizResultStore();
+  private final WriteBehindQuizResultStore.Builder storeBuilder =
+      WriteBehindQuizResultStore.builder()
+          .delegate(delegate)
+          .queueCapacity(16)
+          .maximumBatchSize(4)
+          .whenQueueFull(WhenQueueFull.BLOCK)
+          .retryAfter(Duration.ofSeconds(3))
+          .metricRegistry(metricRegistry);
+  private final List<WriteBehindQuizResultStore> stores = new ArrayList<>();
+
+  /** Keeps the batches handed to it, optionally holding up the writer until released. */
+  private static class RecordingQuizResultStore implements QuizResultStore, Managed {
+    private final List<List<QuizResult>> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private volatile boolean failing;
+    private volatile boolean started;
+    private volatile boolean stopped;
+
+    @Override
+    public void append(List<QuizResult> quizResults) throws RenderableException {
+      entered.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (failing) {
+        throw new RenderableException(HttpStatus.INTERNAL_SERVER_ERROR_500, "disk full");
+      }
+      batches.add(quizResults);
+    }
+
+    @Override
+    public void start() {
+      started = true;
+    }
+
+    @Override
+    public void stop() {
+      stopped = true;
+    }
+
+    /** The correctAnswers of each result handed on, which tell the test's results apart. */
+    private List<Integer> handedOn() {
+      return batches.stream().flatMap(List::stream).map(QuizResult::getCorrectAnswers).toList();
+    }
+  }
+
+  @AfterEach
+  void cleanup() throws Exception {
+    delegate.release.countDown();
+    for (WriteBehindQuizResultStore store : stores) {
+      store.stop();
+    }
+  }
+
+  private WriteBehindQuizResultStore start(WriteBehindQuizResultStore.Builder builder)
+      throws Exception {
+    WriteBehindQuizResultStore store = builder.build();
+    stores.add(store);
+    store.start();
+    return store;
+  }
+
+  /**
+   * Hold the writer up in the delegate with one result, so that further results stay queued.
+   *
+   * @param store The started store.
+   */
+  private void holdWriter(WriteBehindQuizResultStore store)
+      throws InterruptedException, RenderableException {
+    delegate.release = new CountDownLatch(1);
+    store.append(List.of(quizResult(0)));
+    assertTrue(delegate.entered.await(10, TimeUnit.SECONDS), "writer reached the delegate");
+  }
+
+  private static QuizResult quizResult(int correctAnswers) {
+    return QuizResult.builder()
+        .name("Adding 1")
+        .promptCount(4)
+        .correctAnswers(correctAnswers)
+        .build();
+  }
+
+  private static List<QuizResult> quizResults(int from, int to) {
+    List<QuizResult> quizResults = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      quizResults.add(quizResult(i));
+    }
+    return quizResults;
+  }
+
+  private static List<Integer> range(int from, int to) {
+    return IntStream.range(from, to).boxed().toList();
+  }
+
+  private long meterCount(String metric) {
+    return metricRegistry.meter(MetricRegistry.name(QuizResultStore.class, metric)).getCount();
+  }
+
+  @Nested
+  class BuilderTest {
+    @Test
+    void whenQueueCapacityNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.queueCapacity(0).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("queueCapacity must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenMaximumBatchSizeNotPositive_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.maximumBatchSize(0).build();
+
+      // Validation
+      Exception exception = assertThrows(IllegalArgumentException.class, executable);
+      assertEquals("maximumBatchSize must be positive", exception.getMessage());
+    }
+
+    @Test
+    void whenDelegateNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.delegate(null).build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("delegate is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenWhenQueueFullNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.whenQueueFull(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("whenQueueFull is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenRetryAfterNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.retryAfter(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("retryAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNull_thenThrowsException() {
+      // Execution
+      Executable executable = () -> storeBuilder.metricRegistry(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenDelegateNotSet_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () ->
+              WriteBehindQuizResultStore.builder()
+                  .queueCapacity(16)
+                  .maximumBatchSize(4)
+                  .whenQueueFull(WhenQueueFull.BLOCK)
+                  .retryAfter(Duration.ofSeconds(3))
+                  .metricRegistry(metricRegistry)
+                  .build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("delegate is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenWhenQueueFullNotSet_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () ->
+              WriteBehindQuizResultStore.builder()
+                  .delegate(delegate)
+                  .queueCapacity(16)
+                  .maximumBatchSize(4)
+                  .retryAfter(Duration.ofSeconds(3))
+                  .metricRegistry(metricRegistry)
+                  .build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("whenQueueFull is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenRetryAfterNotSet_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () ->
+              WriteBehindQuizResultStore.builder()
+                  .delegate(delegate)
+                  .queueCapacity(16)
+                  .maximumBatchSize(4)
+                  .whenQueueFull(WhenQueueFull.BLOCK)
+                  .metricRegistry(metricRegistry)
+                  .build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("retryAfter is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenMetricRegistryNotSet_thenThrowsException() {
+      // Execution
+      Executable executable =
+          () ->
+              WriteBehindQuizResultStore.builder()
+                  .delegate(delegate)
+                  .queueCapacity(16)
+                  .maximumBatchSize(4)
+                  .whenQueueFull(WhenQueueFull.BLOCK)
+                  .retryAfter(Duration.ofSeconds(3))
+                  .build();
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("metricRegistry is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenDrainTimeoutNotSet_thenDefaulted() {
+      // Execution
+      WriteBehindQuizResultStore store = storeBuilder.build();
+
+      // Validation
+      assertAll(
+          () -> assertSame(delegate, store.getDelegate(), "delegate"),
+          () -> assertEquals(4, store.getMaximumBatchSize(), "maximumBatchSize"),
+          () -> assertEquals(WhenQueueFull.BLOCK, store.getWhenQueueFull(), "whenQueueFull"),
+          () -> assertEquals(Duration.ofSeconds(3), store.getRetryAfter(), "retryAfter"),
+          () -> assertEquals(Duration.ofSeconds(30), store.getDrainTimeout(), "drainTimeout"));
+    }
+
+    @Test
+    void whenDrainTimeoutSet_thenKept() {
+      // Execution
+      WriteBehindQuizResultStore store = storeBuilder.drainTimeout(Duration.ofSeconds(5)).build();
+
+      // Validation
+      assertEquals(Duration.ofSeconds(5), store.getDrainTimeout());
+    }
+  }
+
+  /** Keeps nothing, but can be asked for results by quiz and time saved. */
+  private static class HistoryQuizResultStore implements QuizResultStore, QuizResultHistory {
+    @Override
+    public void append(List<QuizResult> quizResults) {}
+
+    @Override
+    public void forEach(String name, Instant from, Instant to, Consumer<SavedQuizResult> action) {}
+  }
+
+  @Nested
+  class GetHistoryTest {
+    @Test
+    void whenDelegateKeepsNoHistory_thenEmpty() {
+      // Setup
+      WriteBehindQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Optional<QuizResultHistory> result = store.getHistory();
+
+      // Validation
+      assertEquals(Optional.empty(), result);
+    }
+
+    @Test
+    void whenDelegateKeepsHistory_thenDelegateReturned() {
+      // Setup
+      HistoryQuizResultStore history = new HistoryQuizResultStore();
+      WriteBehindQuizResultStore store = storeBuilder.delegate(history).build();
+
+      // Execution
+      Optional<QuizResultHistory> result = store.getHistory();
+
+      // Validation
+      assertSame(history, result.orElseThrow());
+    }
+  }
+
+  @Nested
+  class AppendTest {
+    @Test
+    void whenNotStarted_thenThrowsException() {
+      // Setup
+      WriteBehindQuizResultStore store = storeBuilder.build();
+
+      // Execution
+      Executable executable = () -> store.append(List.of(quizResult(1)));
+
+      // Validation
+      Exception exception = assertThrows(IllegalStateException.class, executable);
+      assertEquals("the store must be started before use", exception.getMessage());
+    }
+
+    @Test
+    void whenNull_thenThrowsException() throws Exception {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder);
+
+      // Execution
+      Executable executable = () -> store.append(null);
+
+      // Validation
+      Exception exception = assertThrows(NullPointerException.class, executable);
+      assertEquals("quizResults is marked non-null but is null", exception.getMessage());
+    }
+
+    @Test
+    void whenDelegateSlow_thenReturnsWithoutWaiting() throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder);
+      holdWriter(store);
+
+      // Execution
+      store.append(quizResults(1, 3));
+
+      // Validation
+      assertEquals(List.of(), delegate.handedOn());
+      assertEquals(
+          2,
+          metricRegistry
+              .getGauges()
+              .get(MetricRegistry.name(QuizResultStore.class, "queueDepth"))
+              .getValue());
+    }
+
+    @Test
+    void whenQueued_thenHandedOnInOrderInBoundedBatches() throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder);
+      holdWriter(store);
+      store.append(quizResults(1, 6));
+      store.append(quizResults(6, 10));
+
+      // Execution
+      delegate.release.countDown();
+      store.stop();
+
+      // Validation
+      assertEquals(range(0, 10), delegate.handedOn());
+      for (List<QuizResult> batch : delegate.batches) {
+        assertTrue(batch.size() <= 4, "batch of " + batch.size());
+      }
+      assertEquals(
+          4,
+          metricRegistry
+              .histogram(MetricRegistry.name(QuizResultStore.class, "batchSizes"))
+              .getCount());
+      assertEquals(
+          delegate.batches.size(),
+          metricRegistry.timer(MetricRegistry.name(QuizResultStore.class, "flushes")).getCount());
+    }
+
+    @Test
+    void whenQueueFullAndBlocking_thenWaitsForRoom() throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder.queueCapacity(2));
+      holdWriter(store);
+      store.append(quizResults(1, 3));
+
+      // Execution
+      CompletableFuture<Void> appended =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  store.append(List.of(quizResult(3)));
+                } catch (RenderableException e) {
+                  throw new AssertionError(e);
+                }
+              });
+
+      // Validation
+      Thread.sleep(200);
+      assertFalse(appended.isDone(), "append waits while the queue is full");
+      delegate.release.countDown();
+      appended.get(10, TimeUnit.SECONDS);
+      store.stop();
+      assertEquals(range(0, 4), delegate.handedOn());
+    }
+
+    @Test
+    void whenInterruptedWhileWaitingForRoom_thenThrowsException()
+        throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder.queueCapacity(1));
+      holdWriter(store);
+      store.append(List.of(quizResult(1)));
+      AtomicReference<Throwable> thrown = new AtomicReference<>();
+      AtomicBoolean interrupted = new AtomicBoolean();
+      Thread appender =
+          new Thread(
+              () -> {
+                try {
+                  store.append(List.of(quizResult(2)));
+                } catch (Throwable e) {
+                  thrown.set(e);
+                }
+                interrupted.set(Thread.currentThread().isInterrupted());
+              });
+      appender.start();
+      while (appender.getState() != Thread.State.TIMED_WAITING) {
+        Thread.sleep(5);
+      }
+
+      // Execution
+      appender.interrupt();
+      appender.join(TimeUnit.SECONDS.toMillis(10));
+
+      // Validation
+      RenderableException exception = assertInstanceOf(RenderableException.class, thrown.get());
+      assertEquals(HttpStatus.INTERNAL_SERVER_ERROR_500, exception.getHttpStatus());
+      assertEquals("Error while saving quiz results.", exception.getMessage());
+      assertTrue(interrupted.get(), "interrupt status kept");
+      delegate.release.countDown();
+      store.stop();
+      assertEquals(range(0, 2), delegate.handedOn());
+    }
+
+    @Test
+    void whenDroppingWithRoom_thenNothingDropped() throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder.whenQueueFull(WhenQueueFull.DROP));
+
+      // Execution
+      store.append(quizResults(0, 3));
+
+      // Validation
+      store.stop();
+      assertEquals(0, meterCount("dropped"));
+      assertEquals(range(0, 3), delegate.handedOn());
+    }
+
+    @Test
+    void whenRejectingWithRoom_thenQueuedWhole() throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder.whenQueueFull(WhenQueueFull.REJECT));
+
+      // Execution
+      store.append(quizResults(0, 3));
+
+      // Validation
+      store.stop();
+      assertEquals(0, meterCount("rejected"));
+      assertEquals(range(0, 3), delegate.handedOn());
+    }
+
+    @Test
+    void whenQueueFullAndDropping_thenDiscardsWhatDoesNotFit()
+        throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store =
+          start(storeBuilder.queueCapacity(2).whenQueueFull(WhenQueueFull.DROP));
+      holdWriter(store);
+
+      // Execution
+      store.append(quizResults(1, 5));
+
+      // Validation
+      assertEquals(2, meterCount("dropped"));
+      delegate.release.countDown();
+      store.stop();
+      assertEquals(range(0, 3), delegate.handedOn());
+    }
+
+    @Test
+    void whenQueueFullAndRejecting_thenRefusesWholeAppend() throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store =
+          start(storeBuilder.queueCapacity(2).whenQueueFull(WhenQueueFull.REJECT));
+      holdWriter(store);
+      store.append(List.of(quizResult(1)));
+
+      // Execution
+      Executable executable = () -> store.append(quizResults(2, 4));
+
+      // Validation
+      RetryLaterException exception = assertThrows(RetryLaterException.class, executable);
+      assertEquals(HttpStatus.SERVICE_UNAVAILABLE_503, exception.getHttpStatus());
+      assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+      assertEquals(2, meterCount("rejected"));
+      delegate.release.countDown();
+      store.stop();
+      assertEquals(range(0, 2), delegate.handedOn());
+    }
+
+    @Test
+    void whenDelegateFails_thenCountedAndWriterCarriesOn() throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder);
+      delegate.failing = true;
+      holdWriter(store);
+      store.append(quizResults(1, 3));
+      delegate.release.countDown();
+
+      // Execution
+      store.stop();
+
+      // Validation
+      assertEquals(3, meterCount("failed"));
+      assertEquals(List.of(), delegate.handedOn());
+    }
+  }
+
+  @Nested
+  class LifecycleTest {
+    @Test
+    void whenStarted_thenDelegateStarted() throws Exception {
+      // Execution
+      start(storeBuilder);
+
+      // Validation
+      assertTrue(delegate.started);
+      assertFalse(delegate.stopped);
+    }
+
+    @Test
+    void whenStopped_thenQueuedResultsHandedOnBeforeDelegateStopped()
+        throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder);
+      store.append(quizResults(0, 10));
+
+      // Execution
+      store.stop();
+
+      // Validation
+      assertEquals(range(0, 10), delegate.handedOn());
+      assertTrue(delegate.stopped);
+    }
+
+    @Test
+    void whenWriterStuck_thenInterruptedAndRestHandedOnByStop()
+        throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder.drainTimeout(Duration.ofMillis(100)));
+      holdWriter(store);
+      store.append(quizResults(1, 6));
+
+      // Execution
+      CompletableFuture<Void> stopped =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  store.stop();
+                } catch (Exception e) {
+                  throw new AssertionError(e);
+                }
+              });
+
+      // Validation
+      // The writer gives up waiting on the delegate once interrupted, and hands on its batch.
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (delegate.batches.isEmpty() && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      assertEquals(List.of(0), delegate.handedOn());
+      // What the writer left is handed on by stop itself.
+      delegate.release.countDown();
+      stopped.get(10, TimeUnit.SECONDS);
+      assertEquals(range(0, 6), delegate.handedOn());
+      assertTrue(delegate.stopped);
+    }
+
+    @Test
+    void whenWriterStuckWhileAppendWaitsForRoom_thenAppendRefusedAndStopFinishes()
+        throws Exception, RenderableException {
+      // Setup
+      WriteBehindQuizResultStore store =
+          start(storeBuilder.queueCapacity(1).drainTimeout(Duration.ofMillis(100)));
+      holdWriter(store);
+      store.append(List.of(quizResult(1)));
+      AtomicReference<Throwable> thrown = new AtomicReference<>();
+      Thread appender =
+          new Thread(
+              () -> {
+                try {
+                  store.append(quizResults(2, 4));
+                } catch (Throwable e) {
+                  thrown.set(e);
+                }
+              });
+      appender.start();
+      while (appender.getState() != Thread.State.TIMED_WAITING) {
+        Thread.sleep(5);
+      }
+
+      // Execution
+      CompletableFuture<Void> stopped =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  store.stop();
+                } catch (Exception e) {
+                  throw new AssertionError(e);
+                }
+              });
+
+      // Validation
+      // The waiting append gives up, so stop gets as far as interrupting the writer.
+      appender.join(TimeUnit.SECONDS.toMillis(10));
+      RetryLaterException exception = assertInstanceOf(RetryLaterException.class, thrown.get());
+      assertEquals(HttpStatus.SERVICE_UNAVAILABLE_503, exception.getHttpStatus());
+      assertEquals(
+          "Quiz results are no longer being saved, try again later", exception.getMessage());
+      assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+      assertEquals(2, meterCount("rejected"));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (delegate.batches.isEmpty() && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      assertEquals(List.of(0), delegate.handedOn());
+      delegate.release.countDown();
+      stopped.get(10, TimeUnit.SECONDS);
+      assertEquals(range(0, 2), delegate.handedOn());
+      assertTrue(delegate.stopped);
+    }
+
+    @Test
+    void whenStoppedWhileAppending_thenEveryAppendAcceptedIsHandedOn() throws Exception {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder.queueCapacity(4));
+      AtomicInteger accepted = new AtomicInteger();
+      List<Thread> appenders = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Thread appender =
+            new Thread(
+                () -> {
+                  try {
+                    while (true) {
+                      store.append(List.of(quizResult(1)));
+                      accepted.incrementAndGet();
+                    }
+                  } catch (IllegalStateException | RenderableException e) {
+                    // Stopped.
+                  }
+                });
+        appenders.add(appender);
+        appender.start();
+      }
+      Thread.sleep(50);
+
+      // Execution
+      store.stop();
+
+      // Validation
+      for (Thread appender : appenders) {
+        appender.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(appender.isAlive());
+      }
+      assertTrue(accepted.get() > 0);
+      assertEquals(accepted.get(), delegate.handedOn().size());
+    }
+
+    @Test
+    void whenStopped_thenNoLongerAppends() throws Exception {
+      // Setup
+      WriteBehindQuizResultStore store = start(storeBuilder);
+      store.stop();
+
+      // Execution
+      Executable executable = () -> store.append(List.of(quizResult(1)));
+
+      // Validation
+      assertThrows(IllegalStateException.class, executable);
+    }
+  }
+}